@@ -9,7 +9,7 @@ public class DefenseTower {
     }
 
     public static void run() throws Exception {
-        if (G.opponentRobotsString.length() > 0) {
+        if (G.opponentRobotCount > 0) {
             lastTurnThatWeSawAnEnemyRobot = G.rc.getRoundNum();
         }
         for (int i = G.nearbyMapInfos.length; --i >= 0;) {
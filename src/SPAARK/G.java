@@ -127,9 +127,24 @@ public class G {
     public static int maxChips = -1;
     public static int lastChips = -1;
     public static int lastNumberTowers = 2;
-    // doesn't include towers
-    public static StringBuilder allyRobotsString;
-    public static StringBuilder opponentRobotsString;
+    // robot snapshot from the last updateInfo, doesn't include towers
+    // robotGrid[x + 3][y + 3] == allyStamp (opponentStamp) if an ally (opponent)
+    // robot is at (x, y), stamps go up every update so the grid is never cleared
+    // padded by 3 so micro can check up to 3 tiles off the map without bounds checks
+    public static int[][] robotGrid;
+    public static int allyStamp;
+    public static int opponentStamp;
+    // robots by type, indexed by UNIT_SOLDIER/UNIT_MOPPER/UNIT_SPLASHER
+    // only the first allyRobotCounts[type] entries are from this update
+    public static final int UNIT_SOLDIER = 0;
+    public static final int UNIT_MOPPER = 1;
+    public static final int UNIT_SPLASHER = 2;
+    public static RobotInfo[][] allyRobotsByType = new RobotInfo[3][69];
+    public static RobotInfo[][] opponentRobotsByType = new RobotInfo[3][69];
+    public static int[] allyRobotCounts = new int[3];
+    public static int[] opponentRobotCounts = new int[3];
+    public static int allyRobotCount;
+    public static int opponentRobotCount;
     public static MapInfo[] nearbyMapInfos;
     public static MapLocation[] nearbyRuins;
     public static int round;
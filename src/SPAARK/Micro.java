@@ -6,16 +6,30 @@ import battlecode.common.MapLocation;
 @FunctionalInterface
 public interface Micro {
     /**
-     * Micro function - returns weights of moving each direction, where highest
-     * weight is movement direction. Can be chained using the weights.
+     * Micro function - adds weights of moving each direction into scores, where
+     * highest weight is movement direction. Micros add onto whatever is already
+     * in scores, so terms can be chained with and() without extra arrays; use
+     * Motion.micro() to run one on a cleared buffer.
      * as a general rule, 5 micro score = 1 paint
      * if none of the weights are above 0, then don't move
-     * 
-     * @param d    Pathfinding direction
-     * @param dest Destination location
-     * @return Length-9 array of weights for moving in each direction, mapped the
-     *         same as G.ALL_DIRECTIONS
+     *
+     * @param d      Pathfinding direction
+     * @param dest   Destination location
+     * @param scores Length-9 array of weights, mapped the same as
+     *               G.ALL_DIRECTIONS
      * @throws Exception
      */
-    public int[] micro(Direction d, MapLocation dest) throws Exception;
-}
\ No newline at end of file
+    public void micro(Direction d, MapLocation dest, int[] scores) throws Exception;
+
+    /**
+     * Micro that runs this then next on the same scores. Build these once
+     * (static fields), not per move.
+     */
+    public default Micro and(Micro next) {
+        Micro first = this;
+        return (Direction d, MapLocation dest, int[] scores) -> {
+            first.micro(d, dest, scores);
+            next.micro(d, dest, scores);
+        };
+    }
+}
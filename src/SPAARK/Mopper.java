@@ -29,6 +29,22 @@ public class Mopper {
     public static int[] transferScores = new int[25]; // transfer paint
     // [south, west, east, north] for each swingScore
 
+    // tiles each (move, swing) pair hits, swingScores order, as bits
+    // (dx + 3) * 7 + dy + 3 of the 7x7 around us
+    public static final long[] SWING_STENCILS = {
+            0x000000060C180L, 0x000000000070EL, 0x00000E1C00000L, 0x0000003060C00L,
+            0x000003060C000L, 0x0000000038700L, 0x00070E0000000L, 0x0000183060000L,
+            0x0001830600000L, 0x0000001C38000L, 0x0387000000000L, 0x000C183000000L,
+            0x0003060C00000L, 0x0000003870000L, 0x070E000000000L, 0x0018306000000L,
+            0x00060C1800000L, 0x00000070E0000L, 0x0E1C000000000L, 0x003060C000000L,
+            0x00000C1830000L, 0x00000000E1C00L, 0x001C380000000L, 0x000060C180000L,
+            0x0000001830600L, 0x0000000001C38L, 0x0000387000000L, 0x000000C183000L,
+            0x0000000C18300L, 0x0000000000E1CL, 0x00001C3800000L, 0x00000060C1800L,
+            0x0000060C18000L, 0x0000000070E00L, 0x000E1C0000000L, 0x00003060C0000L,
+    };
+    // swing value of the opponent on each bit, only valid where the mask is set
+    public static int[] swingValues = new int[49];
+
     public static void init() throws Exception {
     }
 
@@ -61,6 +77,8 @@ public class Mopper {
             Motion.retreatTower = -1;
         }
         int a = Clock.getBytecodeNum();
+        if (Profiler.ENABLED)
+            Profiler.begin(Profiler.MODE_CHECK);
         switch (mode) {
             case EXPLORE:
                 exploreCheckMode();
@@ -79,8 +97,14 @@ public class Mopper {
         }
         int b = Clock.getBytecodeNum();
         G.indicatorString.append((b - a) + " ");
+        if (Profiler.ENABLED) {
+            Profiler.end(Profiler.MODE_CHECK);
+            Profiler.begin(Profiler.MODE_RUN);
+        }
         // grab directions for micro
         swingScores[0] = swingScores[1] = swingScores[2] = swingScores[3] = swingScores[4] = swingScores[5] = swingScores[6] = swingScores[7] = swingScores[8] = swingScores[9] = swingScores[10] = swingScores[11] = swingScores[12] = swingScores[13] = swingScores[14] = swingScores[15] = swingScores[16] = swingScores[17] = swingScores[18] = swingScores[19] = swingScores[20] = swingScores[21] = swingScores[22] = swingScores[23] = swingScores[24] = swingScores[25] = swingScores[26] = swingScores[27] = swingScores[28] = swingScores[29] = swingScores[30] = swingScores[31] = swingScores[32] = swingScores[33] = swingScores[34] = swingScores[35] = attackScores[0] = attackScores[1] = attackScores[2] = attackScores[3] = attackScores[4] = attackScores[5] = attackScores[6] = attackScores[7] = attackScores[8] = attackScores[9] = attackScores[10] = attackScores[11] = attackScores[12] = attackScores[13] = attackScores[14] = attackScores[15] = attackScores[16] = attackScores[17] = attackScores[18] = attackScores[19] = attackScores[20] = attackScores[21] = attackScores[22] = attackScores[23] = attackScores[24] = moveScores[0] = moveScores[1] = moveScores[2] = moveScores[3] = moveScores[4] = moveScores[5] = moveScores[6] = moveScores[7] = moveScores[8] = transferScores[0] = transferScores[1] = transferScores[2] = transferScores[3] = transferScores[4] = transferScores[5] = transferScores[6] = transferScores[7] = transferScores[8] = transferScores[9] = transferScores[10] = transferScores[11] = transferScores[12] = transferScores[13] = transferScores[14] = transferScores[15] = transferScores[16] = transferScores[17] = transferScores[18] = transferScores[19] = transferScores[20] = transferScores[21] = transferScores[22] = transferScores[23] = transferScores[24] = 0;
+        if (Profiler.ENABLED)
+            Profiler.begin(Profiler.MOPPER_SCORES);
         switch (mode) {
             case EXPLORE -> {
                 G.indicatorString.append("EXPLORE ");
@@ -88,7 +112,7 @@ public class Mopper {
                     exploreMoveScores();
                 }
                 if (G.rc.isActionReady()) {
-                    exploreAttackScores();
+                    MopperCodeGen.exploreAttackScores();
                     exploreSwingScores();
                     exploreTransferScores();
                 }
@@ -99,7 +123,7 @@ public class Mopper {
                     buildMoveScores();
                 }
                 if (G.rc.isActionReady()) {
-                    buildAttackScores();
+                    MopperCodeGen.buildAttackScores();
                     buildSwingScores();
                     buildTransferScores();
                 }
@@ -110,12 +134,14 @@ public class Mopper {
                     retreatMoveScores();
                 }
                 if (G.rc.isActionReady()) {
-                    retreatAttackScores();
+                    MopperCodeGen.retreatAttackScores();
                     retreatSwingScores();
                     // retreatTransferScores();
                 }
             }
         }
+        if (Profiler.ENABLED)
+            Profiler.end(Profiler.MOPPER_SCORES);
         int type = ATTACK; // whether our attack will be a swing
         int cmax = attackScores[0];
         int cx = 0; // if it's a swing, then cx stores index of swing direction
@@ -861,6 +887,8 @@ public class Mopper {
             case RETREAT -> G.rc.setIndicatorDot(G.me, 255, 0, 255);
         }
         G.indicatorString.append((Clock.getBytecodeNum() - b) + " ");
+        if (Profiler.ENABLED)
+            Profiler.end(Profiler.MODE_RUN);
     }
 
     public static void exploreCheckMode() throws Exception {
@@ -940,14 +968,14 @@ public class Mopper {
             dir = Motion.bug2Helper(G.me, bestEmpty, Motion.AROUND, 1, 2);
             G.rc.setIndicatorLine(G.me, bestEmpty, 0, 0, 255);
         }
-        moveScores = Motion.defaultMicro.micro(dir, G.invalidLoc);
+        Motion.micro(Motion.defaultMicro, dir, G.invalidLoc, moveScores);
         if (G.rc.onTheMap(microDir))
             G.rc.setIndicatorLine(G.me, microDir, 0, 200, 255);
         // } else {
         // // ignore lowestSoldier
         // Direction dir = Motion.bug2Helper(G.me, Motion.exploreRandomlyLoc(),
         // Motion.TOWARDS, 0, 0);
-        // moveScores = Motion.defaultMicro.micro(dir, G.invalidLoc);
+        // Motion.micro(Motion.defaultMicro, dir, G.invalidLoc, moveScores);
         // }
     }
 
@@ -1226,2470 +1254,52 @@ public class Mopper {
     // exploreTransferScores();
     // }
 
-    public static void exploreAttackScores() throws Exception {
-        MapLocation loc = G.me;
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[0] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[0] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[0] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[0] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(-1, 0);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[1] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[1] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[1] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[1] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(0, -1);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[2] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[2] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[2] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[2] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(0, 1);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[3] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[3] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[3] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[3] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(1, 0);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[4] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[4] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[4] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[4] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(-1, -1);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[5] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[5] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[5] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[5] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(-1, 1);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[6] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[6] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[6] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[6] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(1, -1);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[7] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[7] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[7] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[7] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(1, 1);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[8] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[8] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[8] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[8] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(-2, 0);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[9] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[9] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[9] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[9] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(0, -2);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[10] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[10] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[10] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[10] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(0, 2);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[11] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[11] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[11] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[11] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(2, 0);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[12] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[12] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[12] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[12] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(-2, -1);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[13] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[13] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[13] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[13] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(-2, 1);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[14] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[14] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[14] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[14] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(-1, -2);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[15] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[15] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[15] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[15] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(-1, 2);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[16] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[16] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[16] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[16] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(1, -2);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[17] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[17] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[17] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[17] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(1, 2);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[18] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[18] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[18] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[18] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(2, -1);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[19] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[19] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[19] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[19] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(2, 1);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[20] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[20] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[20] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[20] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(-2, -2);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[21] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[21] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[21] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[21] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(-2, 2);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[22] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[22] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[22] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[22] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(2, -2);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[23] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[23] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[23] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[23] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(2, 2);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[24] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[24] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[24] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[24] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
+    public static void buildMoveScores() throws Exception {
+        // clean enemy paint for ruin patterns
+        // TODO: FIND AND MOP ENEMY PAINT OFF SRP
+        // get 2 best locations to build stuff on
+        // so if the first one is already there just go to the next one
+        Motion.micro(Motion.defaultMicro, G.me.directionTo(target), target, moveScores);
+        moveScores[G.dirOrd(G.me.directionTo(target))] -= 18;
+        if (G.me.directionTo(target) != Direction.CENTER) {
+            moveScores[G.dirOrd(G.me.directionTo(target).rotateLeft())] -= 14;
+            moveScores[G.dirOrd(G.me.directionTo(target).rotateRight())] -= 14;
         }
     }
 
     public static void exploreSwingScores() throws Exception {
-        MapLocation loc;
-        loc = G.me.translate(-1, -2);
-        if (G.opponentRobotsString.indexOf(loc.toString()) != -1) {
-            RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-            int toAdd2 = Math.min(5, bot.paintAmount) * 5;
-            swingScores[32] += toAdd2;
-            swingScores[28] += toAdd2;
-            swingScores[9] += toAdd2;
-            swingScores[5] += toAdd2;
-            swingScores[4] += toAdd2;
-            swingScores[0] += toAdd2;
-            if (bot.paintAmount > 0) {
-                if (bot.paintAmount <= 5) {
-                    int toAdd = (int) (G.paintPerChips() * bot.type.moneyCost);
-                    swingScores[32] += toAdd;
-                    swingScores[28] += toAdd;
-                    swingScores[9] += toAdd;
-                    swingScores[5] += toAdd;
-                    swingScores[4] += toAdd;
-                    swingScores[0] += toAdd;
-                } else {
-                    int toAdd = (int) ((G.cooldown(bot.paintAmount - 5, 10, bot.type.paintCapacity)
-                            - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown());
-                    swingScores[32] += toAdd;
-                    swingScores[28] += toAdd;
-                    swingScores[9] += toAdd;
-                    swingScores[5] += toAdd;
-                    swingScores[4] += toAdd;
-                    swingScores[0] += toAdd;
-                }
-            }
-        }
-        loc = G.me.translate(-1, -3);
-        if (G.opponentRobotsString.indexOf(loc.toString()) != -1) {
-            RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-            int toAdd2 = Math.min(5, bot.paintAmount) * 5;
-            swingScores[4] += toAdd2;
-            swingScores[0] += toAdd2;
+        // opponent robots a move + swing can reach, as a mask over the 7x7
+        // around us, then each (move, swing) pair sums the bits its stencil hits
+        long mask = 0;
+        RobotInfo[] bots = G.opponentRobots;
+        for (int i = bots.length; --i >= 0;) {
+            RobotInfo bot = bots[i];
+            int ix = bot.location.x - G.me.x + 3;
+            int iy = bot.location.y - G.me.y + 3;
+            if ((ix | iy | (6 - ix) | (6 - iy)) < 0 || bot.type.isTowerType())
+                continue;
+            int bit = ix * 7 + iy;
+            mask |= 1L << bit;
+            int value = Math.min(5, bot.paintAmount) * 5;
             if (bot.paintAmount > 0) {
                 if (bot.paintAmount <= 5) {
-                    int toAdd = (int) (G.paintPerChips() * bot.type.moneyCost);
-                    swingScores[4] += toAdd;
-                    swingScores[0] += toAdd;
+                    value += (int) (G.paintPerChips() * bot.type.moneyCost);
                 } else {
-                    int toAdd = (int) ((G.cooldown(bot.paintAmount - 5, 10, bot.type.paintCapacity)
-                            - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown());
-                    swingScores[4] += toAdd;
-                    swingScores[0] += toAdd;
+                    value += (int) ((G.cooldown(bot.paintAmount - 5, 10, bot.type.paintCapacity) - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown());
                 }
             }
+            swingValues[bit] = value;
         }
-        loc = G.me.translate(-2, -2);
-        if (G.opponentRobotsString.indexOf(loc.toString()) != -1) {
-            RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-            int toAdd2 = Math.min(5, bot.paintAmount) * 5;
-            swingScores[28] += toAdd2;
-            swingScores[5] += toAdd2;
-            swingScores[1] += toAdd2;
-            swingScores[0] += toAdd2;
-            if (bot.paintAmount > 0) {
-                if (bot.paintAmount <= 5) {
-                    int toAdd = (int) (G.paintPerChips() * bot.type.moneyCost);
-                    swingScores[28] += toAdd;
-                    swingScores[5] += toAdd;
-                    swingScores[1] += toAdd;
-                    swingScores[0] += toAdd;
-                } else {
-                    int toAdd = (int) ((G.cooldown(bot.paintAmount - 5, 10, bot.type.paintCapacity)
-                            - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown());
-                    swingScores[28] += toAdd;
-                    swingScores[5] += toAdd;
-                    swingScores[1] += toAdd;
-                    swingScores[0] += toAdd;
-                }
-            }
-        }
-        loc = G.me.translate(-2, -3);
-        if (G.opponentRobotsString.indexOf(loc.toString()) != -1) {
-            RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-            int toAdd2 = Math.min(5, bot.paintAmount) * 5;
-            swingScores[0] += toAdd2;
-            if (bot.paintAmount > 0) {
-                if (bot.paintAmount <= 5) {
-                    int toAdd = (int) (G.paintPerChips() * bot.type.moneyCost);
-                    swingScores[0] += toAdd;
-                } else {
-                    int toAdd = (int) ((G.cooldown(bot.paintAmount - 5, 10, bot.type.paintCapacity)
-                            - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown());
-                    swingScores[0] += toAdd;
-                }
-            }
-        }
-        loc = G.me.translate(0, -2);
-        if (G.opponentRobotsString.indexOf(loc.toString()) != -1) {
-            RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-            int toAdd2 = Math.min(5, bot.paintAmount) * 5;
-            swingScores[32] += toAdd2;
-            swingScores[28] += toAdd2;
-            swingScores[12] += toAdd2;
-            swingScores[9] += toAdd2;
-            swingScores[8] += toAdd2;
-            swingScores[4] += toAdd2;
-            swingScores[2] += toAdd2;
-            swingScores[0] += toAdd2;
-            if (bot.paintAmount > 0) {
-                if (bot.paintAmount <= 5) {
-                    int toAdd = (int) (G.paintPerChips() * bot.type.moneyCost);
-                    swingScores[32] += toAdd;
-                    swingScores[28] += toAdd;
-                    swingScores[12] += toAdd;
-                    swingScores[9] += toAdd;
-                    swingScores[8] += toAdd;
-                    swingScores[4] += toAdd;
-                    swingScores[2] += toAdd;
-                    swingScores[0] += toAdd;
-                } else {
-                    int toAdd = (int) ((G.cooldown(bot.paintAmount - 5, 10, bot.type.paintCapacity)
-                            - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown());
-                    swingScores[32] += toAdd;
-                    swingScores[28] += toAdd;
-                    swingScores[12] += toAdd;
-                    swingScores[9] += toAdd;
-                    swingScores[8] += toAdd;
-                    swingScores[4] += toAdd;
-                    swingScores[2] += toAdd;
-                    swingScores[0] += toAdd;
-                }
-            }
-        }
-        loc = G.me.translate(0, -3);
-        if (G.opponentRobotsString.indexOf(loc.toString()) != -1) {
-            RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-            int toAdd2 = Math.min(5, bot.paintAmount) * 5;
-            swingScores[8] += toAdd2;
-            swingScores[4] += toAdd2;
-            swingScores[0] += toAdd2;
-            if (bot.paintAmount > 0) {
-                if (bot.paintAmount <= 5) {
-                    int toAdd = (int) (G.paintPerChips() * bot.type.moneyCost);
-                    swingScores[8] += toAdd;
-                    swingScores[4] += toAdd;
-                    swingScores[0] += toAdd;
-                } else {
-                    int toAdd = (int) ((G.cooldown(bot.paintAmount - 5, 10, bot.type.paintCapacity)
-                            - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown());
-                    swingScores[8] += toAdd;
-                    swingScores[4] += toAdd;
-                    swingScores[0] += toAdd;
-                }
-            }
-        }
-        loc = G.me.translate(-2, -1);
-        if (G.opponentRobotsString.indexOf(loc.toString()) != -1) {
-            RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-            int toAdd2 = Math.min(5, bot.paintAmount) * 5;
-            swingScores[33] += toAdd2;
-            swingScores[29] += toAdd2;
-            swingScores[28] += toAdd2;
-            swingScores[24] += toAdd2;
-            swingScores[5] += toAdd2;
-            swingScores[1] += toAdd2;
-            if (bot.paintAmount > 0) {
-                if (bot.paintAmount <= 5) {
-                    int toAdd = (int) (G.paintPerChips() * bot.type.moneyCost);
-                    swingScores[33] += toAdd;
-                    swingScores[29] += toAdd;
-                    swingScores[28] += toAdd;
-                    swingScores[24] += toAdd;
-                    swingScores[5] += toAdd;
-                    swingScores[1] += toAdd;
-                } else {
-                    int toAdd = (int) ((G.cooldown(bot.paintAmount - 5, 10, bot.type.paintCapacity)
-                            - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown());
-                    swingScores[33] += toAdd;
-                    swingScores[29] += toAdd;
-                    swingScores[28] += toAdd;
-                    swingScores[24] += toAdd;
-                    swingScores[5] += toAdd;
-                    swingScores[1] += toAdd;
-                }
-            }
-        }
-        loc = G.me.translate(-3, -1);
-        if (G.opponentRobotsString.indexOf(loc.toString()) != -1) {
-            RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-            int toAdd2 = Math.min(5, bot.paintAmount) * 5;
-            swingScores[29] += toAdd2;
-            swingScores[1] += toAdd2;
-            if (bot.paintAmount > 0) {
-                if (bot.paintAmount <= 5) {
-                    int toAdd = (int) (G.paintPerChips() * bot.type.moneyCost);
-                    swingScores[29] += toAdd;
-                    swingScores[1] += toAdd;
-                } else {
-                    int toAdd = (int) ((G.cooldown(bot.paintAmount - 5, 10, bot.type.paintCapacity)
-                            - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown());
-                    swingScores[29] += toAdd;
-                    swingScores[1] += toAdd;
-                }
-            }
-        }
-        loc = G.me.translate(-3, -2);
-        if (G.opponentRobotsString.indexOf(loc.toString()) != -1) {
-            RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-            int toAdd2 = Math.min(5, bot.paintAmount) * 5;
-            swingScores[1] += toAdd2;
-            if (bot.paintAmount > 0) {
-                if (bot.paintAmount <= 5) {
-                    int toAdd = (int) (G.paintPerChips() * bot.type.moneyCost);
-                    swingScores[1] += toAdd;
-                } else {
-                    int toAdd = (int) ((G.cooldown(bot.paintAmount - 5, 10, bot.type.paintCapacity)
-                            - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown());
-                    swingScores[1] += toAdd;
-                }
-            }
-        }
-        loc = G.me.translate(-2, 0);
-        if (G.opponentRobotsString.indexOf(loc.toString()) != -1) {
-            RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-            int toAdd2 = Math.min(5, bot.paintAmount) * 5;
-            swingScores[33] += toAdd2;
-            swingScores[29] += toAdd2;
-            swingScores[25] += toAdd2;
-            swingScores[24] += toAdd2;
-            swingScores[21] += toAdd2;
-            swingScores[5] += toAdd2;
-            swingScores[3] += toAdd2;
-            swingScores[1] += toAdd2;
-            if (bot.paintAmount > 0) {
-                if (bot.paintAmount <= 5) {
-                    int toAdd = (int) (G.paintPerChips() * bot.type.moneyCost);
-                    swingScores[33] += toAdd;
-                    swingScores[29] += toAdd;
-                    swingScores[25] += toAdd;
-                    swingScores[24] += toAdd;
-                    swingScores[21] += toAdd;
-                    swingScores[5] += toAdd;
-                    swingScores[3] += toAdd;
-                    swingScores[1] += toAdd;
-                } else {
-                    int toAdd = (int) ((G.cooldown(bot.paintAmount - 5, 10, bot.type.paintCapacity)
-                            - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown());
-                    swingScores[33] += toAdd;
-                    swingScores[29] += toAdd;
-                    swingScores[25] += toAdd;
-                    swingScores[24] += toAdd;
-                    swingScores[21] += toAdd;
-                    swingScores[5] += toAdd;
-                    swingScores[3] += toAdd;
-                    swingScores[1] += toAdd;
-                }
-            }
-        }
-        loc = G.me.translate(-3, 0);
-        if (G.opponentRobotsString.indexOf(loc.toString()) != -1) {
-            RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-            int toAdd2 = Math.min(5, bot.paintAmount) * 5;
-            swingScores[29] += toAdd2;
-            swingScores[25] += toAdd2;
-            swingScores[1] += toAdd2;
-            if (bot.paintAmount > 0) {
-                if (bot.paintAmount <= 5) {
-                    int toAdd = (int) (G.paintPerChips() * bot.type.moneyCost);
-                    swingScores[29] += toAdd;
-                    swingScores[25] += toAdd;
-                    swingScores[1] += toAdd;
-                } else {
-                    int toAdd = (int) ((G.cooldown(bot.paintAmount - 5, 10, bot.type.paintCapacity)
-                            - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown());
-                    swingScores[29] += toAdd;
-                    swingScores[25] += toAdd;
-                    swingScores[1] += toAdd;
-                }
-            }
-        }
-        loc = G.me.translate(0, -1);
-        if (G.opponentRobotsString.indexOf(loc.toString()) != -1) {
-            RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-            int toAdd2 = Math.min(5, bot.paintAmount) * 5;
-            swingScores[32] += toAdd2;
-            swingScores[30] += toAdd2;
-            swingScores[28] += toAdd2;
-            swingScores[24] += toAdd2;
-            swingScores[20] += toAdd2;
-            swingScores[16] += toAdd2;
-            swingScores[13] += toAdd2;
-            swingScores[12] += toAdd2;
-            swingScores[9] += toAdd2;
-            swingScores[2] += toAdd2;
-            if (bot.paintAmount > 0) {
-                if (bot.paintAmount <= 5) {
-                    int toAdd = (int) (G.paintPerChips() * bot.type.moneyCost);
-                    swingScores[32] += toAdd;
-                    swingScores[30] += toAdd;
-                    swingScores[28] += toAdd;
-                    swingScores[24] += toAdd;
-                    swingScores[20] += toAdd;
-                    swingScores[16] += toAdd;
-                    swingScores[13] += toAdd;
-                    swingScores[12] += toAdd;
-                    swingScores[9] += toAdd;
-                    swingScores[2] += toAdd;
-                } else {
-                    int toAdd = (int) ((G.cooldown(bot.paintAmount - 5, 10, bot.type.paintCapacity)
-                            - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown());
-                    swingScores[32] += toAdd;
-                    swingScores[30] += toAdd;
-                    swingScores[28] += toAdd;
-                    swingScores[24] += toAdd;
-                    swingScores[20] += toAdd;
-                    swingScores[16] += toAdd;
-                    swingScores[13] += toAdd;
-                    swingScores[12] += toAdd;
-                    swingScores[9] += toAdd;
-                    swingScores[2] += toAdd;
-                }
-            }
-        }
-        loc = G.me.translate(1, -1);
-        if (G.opponentRobotsString.indexOf(loc.toString()) != -1) {
-            RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-            int toAdd2 = Math.min(5, bot.paintAmount) * 5;
-            swingScores[34] += toAdd2;
-            swingScores[32] += toAdd2;
-            swingScores[30] += toAdd2;
-            swingScores[20] += toAdd2;
-            swingScores[16] += toAdd2;
-            swingScores[12] += toAdd2;
-            swingScores[6] += toAdd2;
-            swingScores[2] += toAdd2;
-            if (bot.paintAmount > 0) {
-                if (bot.paintAmount <= 5) {
-                    int toAdd = (int) (G.paintPerChips() * bot.type.moneyCost);
-                    swingScores[34] += toAdd;
-                    swingScores[32] += toAdd;
-                    swingScores[30] += toAdd;
-                    swingScores[20] += toAdd;
-                    swingScores[16] += toAdd;
-                    swingScores[12] += toAdd;
-                    swingScores[6] += toAdd;
-                    swingScores[2] += toAdd;
-                } else {
-                    int toAdd = (int) ((G.cooldown(bot.paintAmount - 5, 10, bot.type.paintCapacity)
-                            - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown());
-                    swingScores[34] += toAdd;
-                    swingScores[32] += toAdd;
-                    swingScores[30] += toAdd;
-                    swingScores[20] += toAdd;
-                    swingScores[16] += toAdd;
-                    swingScores[12] += toAdd;
-                    swingScores[6] += toAdd;
-                    swingScores[2] += toAdd;
-                }
-            }
-        }
-        loc = G.me.translate(0, 0);
-        if (G.opponentRobotsString.indexOf(loc.toString()) != -1) {
-            RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-            int toAdd2 = Math.min(5, bot.paintAmount) * 5;
-            swingScores[30] += toAdd2;
-            swingScores[26] += toAdd2;
-            swingScores[24] += toAdd2;
-            swingScores[20] += toAdd2;
-            swingScores[17] += toAdd2;
-            swingScores[16] += toAdd2;
-            swingScores[13] += toAdd2;
-            swingScores[11] += toAdd2;
-            swingScores[9] += toAdd2;
-            swingScores[7] += toAdd2;
-            swingScores[3] += toAdd2;
-            swingScores[2] += toAdd2;
-            if (bot.paintAmount > 0) {
-                if (bot.paintAmount <= 5) {
-                    int toAdd = (int) (G.paintPerChips() * bot.type.moneyCost);
-                    swingScores[30] += toAdd;
-                    swingScores[26] += toAdd;
-                    swingScores[24] += toAdd;
-                    swingScores[20] += toAdd;
-                    swingScores[17] += toAdd;
-                    swingScores[16] += toAdd;
-                    swingScores[13] += toAdd;
-                    swingScores[11] += toAdd;
-                    swingScores[9] += toAdd;
-                    swingScores[7] += toAdd;
-                    swingScores[3] += toAdd;
-                    swingScores[2] += toAdd;
-                } else {
-                    int toAdd = (int) ((G.cooldown(bot.paintAmount - 5, 10, bot.type.paintCapacity)
-                            - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown());
-                    swingScores[30] += toAdd;
-                    swingScores[26] += toAdd;
-                    swingScores[24] += toAdd;
-                    swingScores[20] += toAdd;
-                    swingScores[17] += toAdd;
-                    swingScores[16] += toAdd;
-                    swingScores[13] += toAdd;
-                    swingScores[11] += toAdd;
-                    swingScores[9] += toAdd;
-                    swingScores[7] += toAdd;
-                    swingScores[3] += toAdd;
-                    swingScores[2] += toAdd;
-                }
-            }
-        }
-        loc = G.me.translate(1, 0);
-        if (G.opponentRobotsString.indexOf(loc.toString()) != -1) {
-            RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-            int toAdd2 = Math.min(5, bot.paintAmount) * 5;
-            swingScores[34] += toAdd2;
-            swingScores[30] += toAdd2;
-            swingScores[26] += toAdd2;
-            swingScores[22] += toAdd2;
-            swingScores[20] += toAdd2;
-            swingScores[16] += toAdd2;
-            swingScores[11] += toAdd2;
-            swingScores[7] += toAdd2;
-            swingScores[6] += toAdd2;
-            swingScores[2] += toAdd2;
-            if (bot.paintAmount > 0) {
-                if (bot.paintAmount <= 5) {
-                    int toAdd = (int) (G.paintPerChips() * bot.type.moneyCost);
-                    swingScores[34] += toAdd;
-                    swingScores[30] += toAdd;
-                    swingScores[26] += toAdd;
-                    swingScores[22] += toAdd;
-                    swingScores[20] += toAdd;
-                    swingScores[16] += toAdd;
-                    swingScores[11] += toAdd;
-                    swingScores[7] += toAdd;
-                    swingScores[6] += toAdd;
-                    swingScores[2] += toAdd;
-                } else {
-                    int toAdd = (int) ((G.cooldown(bot.paintAmount - 5, 10, bot.type.paintCapacity)
-                            - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown());
-                    swingScores[34] += toAdd;
-                    swingScores[30] += toAdd;
-                    swingScores[26] += toAdd;
-                    swingScores[22] += toAdd;
-                    swingScores[20] += toAdd;
-                    swingScores[16] += toAdd;
-                    swingScores[11] += toAdd;
-                    swingScores[7] += toAdd;
-                    swingScores[6] += toAdd;
-                    swingScores[2] += toAdd;
-                }
-            }
-        }
-        loc = G.me.translate(1, -2);
-        if (G.opponentRobotsString.indexOf(loc.toString()) != -1) {
-            RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-            int toAdd2 = Math.min(5, bot.paintAmount) * 5;
-            swingScores[32] += toAdd2;
-            swingScores[12] += toAdd2;
-            swingScores[8] += toAdd2;
-            swingScores[6] += toAdd2;
-            swingScores[4] += toAdd2;
-            swingScores[2] += toAdd2;
-            if (bot.paintAmount > 0) {
-                if (bot.paintAmount <= 5) {
-                    int toAdd = (int) (G.paintPerChips() * bot.type.moneyCost);
-                    swingScores[32] += toAdd;
-                    swingScores[12] += toAdd;
-                    swingScores[8] += toAdd;
-                    swingScores[6] += toAdd;
-                    swingScores[4] += toAdd;
-                    swingScores[2] += toAdd;
-                } else {
-                    int toAdd = (int) ((G.cooldown(bot.paintAmount - 5, 10, bot.type.paintCapacity)
-                            - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown());
-                    swingScores[32] += toAdd;
-                    swingScores[12] += toAdd;
-                    swingScores[8] += toAdd;
-                    swingScores[6] += toAdd;
-                    swingScores[4] += toAdd;
-                    swingScores[2] += toAdd;
-                }
-            }
-        }
-        loc = G.me.translate(-1, 0);
-        if (G.opponentRobotsString.indexOf(loc.toString()) != -1) {
-            RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-            int toAdd2 = Math.min(5, bot.paintAmount) * 5;
-            swingScores[33] += toAdd2;
-            swingScores[24] += toAdd2;
-            swingScores[21] += toAdd2;
-            swingScores[20] += toAdd2;
-            swingScores[17] += toAdd2;
-            swingScores[13] += toAdd2;
-            swingScores[9] += toAdd2;
-            swingScores[7] += toAdd2;
-            swingScores[5] += toAdd2;
-            swingScores[3] += toAdd2;
-            if (bot.paintAmount > 0) {
-                if (bot.paintAmount <= 5) {
-                    int toAdd = (int) (G.paintPerChips() * bot.type.moneyCost);
-                    swingScores[33] += toAdd;
-                    swingScores[24] += toAdd;
-                    swingScores[21] += toAdd;
-                    swingScores[20] += toAdd;
-                    swingScores[17] += toAdd;
-                    swingScores[13] += toAdd;
-                    swingScores[9] += toAdd;
-                    swingScores[7] += toAdd;
-                    swingScores[5] += toAdd;
-                    swingScores[3] += toAdd;
-                } else {
-                    int toAdd = (int) ((G.cooldown(bot.paintAmount - 5, 10, bot.type.paintCapacity)
-                            - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown());
-                    swingScores[33] += toAdd;
-                    swingScores[24] += toAdd;
-                    swingScores[21] += toAdd;
-                    swingScores[20] += toAdd;
-                    swingScores[17] += toAdd;
-                    swingScores[13] += toAdd;
-                    swingScores[9] += toAdd;
-                    swingScores[7] += toAdd;
-                    swingScores[5] += toAdd;
-                    swingScores[3] += toAdd;
-                }
-            }
-        }
-        loc = G.me.translate(-1, 1);
-        if (G.opponentRobotsString.indexOf(loc.toString()) != -1) {
-            RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-            int toAdd2 = Math.min(5, bot.paintAmount) * 5;
-            swingScores[35] += toAdd2;
-            swingScores[33] += toAdd2;
-            swingScores[31] += toAdd2;
-            swingScores[21] += toAdd2;
-            swingScores[17] += toAdd2;
-            swingScores[13] += toAdd2;
-            swingScores[7] += toAdd2;
-            swingScores[3] += toAdd2;
-            if (bot.paintAmount > 0) {
-                if (bot.paintAmount <= 5) {
-                    int toAdd = (int) (G.paintPerChips() * bot.type.moneyCost);
-                    swingScores[35] += toAdd;
-                    swingScores[33] += toAdd;
-                    swingScores[31] += toAdd;
-                    swingScores[21] += toAdd;
-                    swingScores[17] += toAdd;
-                    swingScores[13] += toAdd;
-                    swingScores[7] += toAdd;
-                    swingScores[3] += toAdd;
-                } else {
-                    int toAdd = (int) ((G.cooldown(bot.paintAmount - 5, 10, bot.type.paintCapacity)
-                            - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown());
-                    swingScores[35] += toAdd;
-                    swingScores[33] += toAdd;
-                    swingScores[31] += toAdd;
-                    swingScores[21] += toAdd;
-                    swingScores[17] += toAdd;
-                    swingScores[13] += toAdd;
-                    swingScores[7] += toAdd;
-                    swingScores[3] += toAdd;
-                }
-            }
-        }
-        loc = G.me.translate(0, 1);
-        if (G.opponentRobotsString.indexOf(loc.toString()) != -1) {
-            RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-            int toAdd2 = Math.min(5, bot.paintAmount) * 5;
-            swingScores[35] += toAdd2;
-            swingScores[31] += toAdd2;
-            swingScores[30] += toAdd2;
-            swingScores[26] += toAdd2;
-            swingScores[17] += toAdd2;
-            swingScores[15] += toAdd2;
-            swingScores[13] += toAdd2;
-            swingScores[11] += toAdd2;
-            swingScores[7] += toAdd2;
-            swingScores[3] += toAdd2;
-            if (bot.paintAmount > 0) {
-                if (bot.paintAmount <= 5) {
-                    int toAdd = (int) (G.paintPerChips() * bot.type.moneyCost);
-                    swingScores[35] += toAdd;
-                    swingScores[31] += toAdd;
-                    swingScores[30] += toAdd;
-                    swingScores[26] += toAdd;
-                    swingScores[17] += toAdd;
-                    swingScores[15] += toAdd;
-                    swingScores[13] += toAdd;
-                    swingScores[11] += toAdd;
-                    swingScores[7] += toAdd;
-                    swingScores[3] += toAdd;
-                } else {
-                    int toAdd = (int) ((G.cooldown(bot.paintAmount - 5, 10, bot.type.paintCapacity)
-                            - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown());
-                    swingScores[35] += toAdd;
-                    swingScores[31] += toAdd;
-                    swingScores[30] += toAdd;
-                    swingScores[26] += toAdd;
-                    swingScores[17] += toAdd;
-                    swingScores[15] += toAdd;
-                    swingScores[13] += toAdd;
-                    swingScores[11] += toAdd;
-                    swingScores[7] += toAdd;
-                    swingScores[3] += toAdd;
-                }
-            }
-        }
-        loc = G.me.translate(-2, 1);
-        if (G.opponentRobotsString.indexOf(loc.toString()) != -1) {
-            RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-            int toAdd2 = Math.min(5, bot.paintAmount) * 5;
-            swingScores[33] += toAdd2;
-            swingScores[31] += toAdd2;
-            swingScores[29] += toAdd2;
-            swingScores[25] += toAdd2;
-            swingScores[21] += toAdd2;
-            swingScores[3] += toAdd2;
-            if (bot.paintAmount > 0) {
-                if (bot.paintAmount <= 5) {
-                    int toAdd = (int) (G.paintPerChips() * bot.type.moneyCost);
-                    swingScores[33] += toAdd;
-                    swingScores[31] += toAdd;
-                    swingScores[29] += toAdd;
-                    swingScores[25] += toAdd;
-                    swingScores[21] += toAdd;
-                    swingScores[3] += toAdd;
-                } else {
-                    int toAdd = (int) ((G.cooldown(bot.paintAmount - 5, 10, bot.type.paintCapacity)
-                            - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown());
-                    swingScores[33] += toAdd;
-                    swingScores[31] += toAdd;
-                    swingScores[29] += toAdd;
-                    swingScores[25] += toAdd;
-                    swingScores[21] += toAdd;
-                    swingScores[3] += toAdd;
-                }
-            }
-        }
-        loc = G.me.translate(1, -3);
-        if (G.opponentRobotsString.indexOf(loc.toString()) != -1) {
-            RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-            int toAdd2 = Math.min(5, bot.paintAmount) * 5;
-            swingScores[8] += toAdd2;
-            swingScores[4] += toAdd2;
-            if (bot.paintAmount > 0) {
-                if (bot.paintAmount <= 5) {
-                    int toAdd = (int) (G.paintPerChips() * bot.type.moneyCost);
-                    swingScores[8] += toAdd;
-                    swingScores[4] += toAdd;
-                } else {
-                    int toAdd = (int) ((G.cooldown(bot.paintAmount - 5, 10, bot.type.paintCapacity)
-                            - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown());
-                    swingScores[8] += toAdd;
-                    swingScores[4] += toAdd;
-                }
-            }
-        }
-        loc = G.me.translate(-1, -1);
-        if (G.opponentRobotsString.indexOf(loc.toString()) != -1) {
-            RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-            int toAdd2 = Math.min(5, bot.paintAmount) * 5;
-            swingScores[33] += toAdd2;
-            swingScores[32] += toAdd2;
-            swingScores[28] += toAdd2;
-            swingScores[24] += toAdd2;
-            swingScores[20] += toAdd2;
-            swingScores[13] += toAdd2;
-            swingScores[9] += toAdd2;
-            swingScores[5] += toAdd2;
-            if (bot.paintAmount > 0) {
-                if (bot.paintAmount <= 5) {
-                    int toAdd = (int) (G.paintPerChips() * bot.type.moneyCost);
-                    swingScores[33] += toAdd;
-                    swingScores[32] += toAdd;
-                    swingScores[28] += toAdd;
-                    swingScores[24] += toAdd;
-                    swingScores[20] += toAdd;
-                    swingScores[13] += toAdd;
-                    swingScores[9] += toAdd;
-                    swingScores[5] += toAdd;
-                } else {
-                    int toAdd = (int) ((G.cooldown(bot.paintAmount - 5, 10, bot.type.paintCapacity)
-                            - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown());
-                    swingScores[33] += toAdd;
-                    swingScores[32] += toAdd;
-                    swingScores[28] += toAdd;
-                    swingScores[24] += toAdd;
-                    swingScores[20] += toAdd;
-                    swingScores[13] += toAdd;
-                    swingScores[9] += toAdd;
-                    swingScores[5] += toAdd;
-                }
-            }
-        }
-        loc = G.me.translate(2, -1);
-        if (G.opponentRobotsString.indexOf(loc.toString()) != -1) {
-            RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-            int toAdd2 = Math.min(5, bot.paintAmount) * 5;
-            swingScores[34] += toAdd2;
-            swingScores[16] += toAdd2;
-            swingScores[14] += toAdd2;
-            swingScores[12] += toAdd2;
-            swingScores[10] += toAdd2;
-            swingScores[6] += toAdd2;
-            if (bot.paintAmount > 0) {
-                if (bot.paintAmount <= 5) {
-                    int toAdd = (int) (G.paintPerChips() * bot.type.moneyCost);
-                    swingScores[34] += toAdd;
-                    swingScores[16] += toAdd;
-                    swingScores[14] += toAdd;
-                    swingScores[12] += toAdd;
-                    swingScores[10] += toAdd;
-                    swingScores[6] += toAdd;
-                } else {
-                    int toAdd = (int) ((G.cooldown(bot.paintAmount - 5, 10, bot.type.paintCapacity)
-                            - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown());
-                    swingScores[34] += toAdd;
-                    swingScores[16] += toAdd;
-                    swingScores[14] += toAdd;
-                    swingScores[12] += toAdd;
-                    swingScores[10] += toAdd;
-                    swingScores[6] += toAdd;
-                }
-            }
-        }
-        loc = G.me.translate(2, 0);
-        if (G.opponentRobotsString.indexOf(loc.toString()) != -1) {
-            RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-            int toAdd2 = Math.min(5, bot.paintAmount) * 5;
-            swingScores[34] += toAdd2;
-            swingScores[22] += toAdd2;
-            swingScores[18] += toAdd2;
-            swingScores[16] += toAdd2;
-            swingScores[14] += toAdd2;
-            swingScores[11] += toAdd2;
-            swingScores[10] += toAdd2;
-            swingScores[6] += toAdd2;
-            if (bot.paintAmount > 0) {
-                if (bot.paintAmount <= 5) {
-                    int toAdd = (int) (G.paintPerChips() * bot.type.moneyCost);
-                    swingScores[34] += toAdd;
-                    swingScores[22] += toAdd;
-                    swingScores[18] += toAdd;
-                    swingScores[16] += toAdd;
-                    swingScores[14] += toAdd;
-                    swingScores[11] += toAdd;
-                    swingScores[10] += toAdd;
-                    swingScores[6] += toAdd;
-                } else {
-                    int toAdd = (int) ((G.cooldown(bot.paintAmount - 5, 10, bot.type.paintCapacity)
-                            - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown());
-                    swingScores[34] += toAdd;
-                    swingScores[22] += toAdd;
-                    swingScores[18] += toAdd;
-                    swingScores[16] += toAdd;
-                    swingScores[14] += toAdd;
-                    swingScores[11] += toAdd;
-                    swingScores[10] += toAdd;
-                    swingScores[6] += toAdd;
-                }
-            }
-        }
-        loc = G.me.translate(2, -2);
-        if (G.opponentRobotsString.indexOf(loc.toString()) != -1) {
-            RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-            int toAdd2 = Math.min(5, bot.paintAmount) * 5;
-            swingScores[12] += toAdd2;
-            swingScores[10] += toAdd2;
-            swingScores[8] += toAdd2;
-            swingScores[6] += toAdd2;
-            if (bot.paintAmount > 0) {
-                if (bot.paintAmount <= 5) {
-                    int toAdd = (int) (G.paintPerChips() * bot.type.moneyCost);
-                    swingScores[12] += toAdd;
-                    swingScores[10] += toAdd;
-                    swingScores[8] += toAdd;
-                    swingScores[6] += toAdd;
-                } else {
-                    int toAdd = (int) ((G.cooldown(bot.paintAmount - 5, 10, bot.type.paintCapacity)
-                            - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown());
-                    swingScores[12] += toAdd;
-                    swingScores[10] += toAdd;
-                    swingScores[8] += toAdd;
-                    swingScores[6] += toAdd;
-                }
-            }
-        }
-        loc = G.me.translate(1, 1);
-        if (G.opponentRobotsString.indexOf(loc.toString()) != -1) {
-            RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-            int toAdd2 = Math.min(5, bot.paintAmount) * 5;
-            swingScores[35] += toAdd2;
-            swingScores[34] += toAdd2;
-            swingScores[30] += toAdd2;
-            swingScores[26] += toAdd2;
-            swingScores[22] += toAdd2;
-            swingScores[15] += toAdd2;
-            swingScores[11] += toAdd2;
-            swingScores[7] += toAdd2;
-            if (bot.paintAmount > 0) {
-                if (bot.paintAmount <= 5) {
-                    int toAdd = (int) (G.paintPerChips() * bot.type.moneyCost);
-                    swingScores[35] += toAdd;
-                    swingScores[34] += toAdd;
-                    swingScores[30] += toAdd;
-                    swingScores[26] += toAdd;
-                    swingScores[22] += toAdd;
-                    swingScores[15] += toAdd;
-                    swingScores[11] += toAdd;
-                    swingScores[7] += toAdd;
-                } else {
-                    int toAdd = (int) ((G.cooldown(bot.paintAmount - 5, 10, bot.type.paintCapacity)
-                            - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown());
-                    swingScores[35] += toAdd;
-                    swingScores[34] += toAdd;
-                    swingScores[30] += toAdd;
-                    swingScores[26] += toAdd;
-                    swingScores[22] += toAdd;
-                    swingScores[15] += toAdd;
-                    swingScores[11] += toAdd;
-                    swingScores[7] += toAdd;
-                }
-            }
-        }
-        loc = G.me.translate(2, -3);
-        if (G.opponentRobotsString.indexOf(loc.toString()) != -1) {
-            RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-            int toAdd2 = Math.min(5, bot.paintAmount) * 5;
-            swingScores[8] += toAdd2;
-            if (bot.paintAmount > 0) {
-                if (bot.paintAmount <= 5) {
-                    int toAdd = (int) (G.paintPerChips() * bot.type.moneyCost);
-                    swingScores[8] += toAdd;
-                } else {
-                    int toAdd = (int) ((G.cooldown(bot.paintAmount - 5, 10, bot.type.paintCapacity)
-                            - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown());
-                    swingScores[8] += toAdd;
-                }
-            }
-        }
-        loc = G.me.translate(3, -1);
-        if (G.opponentRobotsString.indexOf(loc.toString()) != -1) {
-            RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-            int toAdd2 = Math.min(5, bot.paintAmount) * 5;
-            swingScores[14] += toAdd2;
-            swingScores[10] += toAdd2;
-            if (bot.paintAmount > 0) {
-                if (bot.paintAmount <= 5) {
-                    int toAdd = (int) (G.paintPerChips() * bot.type.moneyCost);
-                    swingScores[14] += toAdd;
-                    swingScores[10] += toAdd;
-                } else {
-                    int toAdd = (int) ((G.cooldown(bot.paintAmount - 5, 10, bot.type.paintCapacity)
-                            - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown());
-                    swingScores[14] += toAdd;
-                    swingScores[10] += toAdd;
-                }
-            }
-        }
-        loc = G.me.translate(3, 0);
-        if (G.opponentRobotsString.indexOf(loc.toString()) != -1) {
-            RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-            int toAdd2 = Math.min(5, bot.paintAmount) * 5;
-            swingScores[18] += toAdd2;
-            swingScores[14] += toAdd2;
-            swingScores[10] += toAdd2;
-            if (bot.paintAmount > 0) {
-                if (bot.paintAmount <= 5) {
-                    int toAdd = (int) (G.paintPerChips() * bot.type.moneyCost);
-                    swingScores[18] += toAdd;
-                    swingScores[14] += toAdd;
-                    swingScores[10] += toAdd;
-                } else {
-                    int toAdd = (int) ((G.cooldown(bot.paintAmount - 5, 10, bot.type.paintCapacity)
-                            - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown());
-                    swingScores[18] += toAdd;
-                    swingScores[14] += toAdd;
-                    swingScores[10] += toAdd;
-                }
-            }
-        }
-        loc = G.me.translate(3, -2);
-        if (G.opponentRobotsString.indexOf(loc.toString()) != -1) {
-            RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-            int toAdd2 = Math.min(5, bot.paintAmount) * 5;
-            swingScores[10] += toAdd2;
-            if (bot.paintAmount > 0) {
-                if (bot.paintAmount <= 5) {
-                    int toAdd = (int) (G.paintPerChips() * bot.type.moneyCost);
-                    swingScores[10] += toAdd;
-                } else {
-                    int toAdd = (int) ((G.cooldown(bot.paintAmount - 5, 10, bot.type.paintCapacity)
-                            - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown());
-                    swingScores[10] += toAdd;
-                }
-            }
-        }
-        loc = G.me.translate(2, 1);
-        if (G.opponentRobotsString.indexOf(loc.toString()) != -1) {
-            RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-            int toAdd2 = Math.min(5, bot.paintAmount) * 5;
-            swingScores[34] += toAdd2;
-            swingScores[22] += toAdd2;
-            swingScores[18] += toAdd2;
-            swingScores[15] += toAdd2;
-            swingScores[14] += toAdd2;
-            swingScores[11] += toAdd2;
-            if (bot.paintAmount > 0) {
-                if (bot.paintAmount <= 5) {
-                    int toAdd = (int) (G.paintPerChips() * bot.type.moneyCost);
-                    swingScores[34] += toAdd;
-                    swingScores[22] += toAdd;
-                    swingScores[18] += toAdd;
-                    swingScores[15] += toAdd;
-                    swingScores[14] += toAdd;
-                    swingScores[11] += toAdd;
-                } else {
-                    int toAdd = (int) ((G.cooldown(bot.paintAmount - 5, 10, bot.type.paintCapacity)
-                            - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown());
-                    swingScores[34] += toAdd;
-                    swingScores[22] += toAdd;
-                    swingScores[18] += toAdd;
-                    swingScores[15] += toAdd;
-                    swingScores[14] += toAdd;
-                    swingScores[11] += toAdd;
-                }
-            }
-        }
-        loc = G.me.translate(3, 1);
-        if (G.opponentRobotsString.indexOf(loc.toString()) != -1) {
-            RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-            int toAdd2 = Math.min(5, bot.paintAmount) * 5;
-            swingScores[18] += toAdd2;
-            swingScores[14] += toAdd2;
-            if (bot.paintAmount > 0) {
-                if (bot.paintAmount <= 5) {
-                    int toAdd = (int) (G.paintPerChips() * bot.type.moneyCost);
-                    swingScores[18] += toAdd;
-                    swingScores[14] += toAdd;
-                } else {
-                    int toAdd = (int) ((G.cooldown(bot.paintAmount - 5, 10, bot.type.paintCapacity)
-                            - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown());
-                    swingScores[18] += toAdd;
-                    swingScores[14] += toAdd;
-                }
-            }
-        }
-        loc = G.me.translate(1, 2);
-        if (G.opponentRobotsString.indexOf(loc.toString()) != -1) {
-            RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-            int toAdd2 = Math.min(5, bot.paintAmount) * 5;
-            swingScores[35] += toAdd2;
-            swingScores[26] += toAdd2;
-            swingScores[23] += toAdd2;
-            swingScores[22] += toAdd2;
-            swingScores[19] += toAdd2;
-            swingScores[15] += toAdd2;
-            if (bot.paintAmount > 0) {
-                if (bot.paintAmount <= 5) {
-                    int toAdd = (int) (G.paintPerChips() * bot.type.moneyCost);
-                    swingScores[35] += toAdd;
-                    swingScores[26] += toAdd;
-                    swingScores[23] += toAdd;
-                    swingScores[22] += toAdd;
-                    swingScores[19] += toAdd;
-                    swingScores[15] += toAdd;
-                } else {
-                    int toAdd = (int) ((G.cooldown(bot.paintAmount - 5, 10, bot.type.paintCapacity)
-                            - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown());
-                    swingScores[35] += toAdd;
-                    swingScores[26] += toAdd;
-                    swingScores[23] += toAdd;
-                    swingScores[22] += toAdd;
-                    swingScores[19] += toAdd;
-                    swingScores[15] += toAdd;
-                }
-            }
-        }
-        loc = G.me.translate(2, 2);
-        if (G.opponentRobotsString.indexOf(loc.toString()) != -1) {
-            RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-            int toAdd2 = Math.min(5, bot.paintAmount) * 5;
-            swingScores[22] += toAdd2;
-            swingScores[19] += toAdd2;
-            swingScores[18] += toAdd2;
-            swingScores[15] += toAdd2;
-            if (bot.paintAmount > 0) {
-                if (bot.paintAmount <= 5) {
-                    int toAdd = (int) (G.paintPerChips() * bot.type.moneyCost);
-                    swingScores[22] += toAdd;
-                    swingScores[19] += toAdd;
-                    swingScores[18] += toAdd;
-                    swingScores[15] += toAdd;
-                } else {
-                    int toAdd = (int) ((G.cooldown(bot.paintAmount - 5, 10, bot.type.paintCapacity)
-                            - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown());
-                    swingScores[22] += toAdd;
-                    swingScores[19] += toAdd;
-                    swingScores[18] += toAdd;
-                    swingScores[15] += toAdd;
-                }
-            }
-        }
-        loc = G.me.translate(0, 2);
-        if (G.opponentRobotsString.indexOf(loc.toString()) != -1) {
-            RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-            int toAdd2 = Math.min(5, bot.paintAmount) * 5;
-            swingScores[35] += toAdd2;
-            swingScores[31] += toAdd2;
-            swingScores[27] += toAdd2;
-            swingScores[26] += toAdd2;
-            swingScores[23] += toAdd2;
-            swingScores[19] += toAdd2;
-            swingScores[17] += toAdd2;
-            swingScores[15] += toAdd2;
-            if (bot.paintAmount > 0) {
-                if (bot.paintAmount <= 5) {
-                    int toAdd = (int) (G.paintPerChips() * bot.type.moneyCost);
-                    swingScores[35] += toAdd;
-                    swingScores[31] += toAdd;
-                    swingScores[27] += toAdd;
-                    swingScores[26] += toAdd;
-                    swingScores[23] += toAdd;
-                    swingScores[19] += toAdd;
-                    swingScores[17] += toAdd;
-                    swingScores[15] += toAdd;
-                } else {
-                    int toAdd = (int) ((G.cooldown(bot.paintAmount - 5, 10, bot.type.paintCapacity)
-                            - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown());
-                    swingScores[35] += toAdd;
-                    swingScores[31] += toAdd;
-                    swingScores[27] += toAdd;
-                    swingScores[26] += toAdd;
-                    swingScores[23] += toAdd;
-                    swingScores[19] += toAdd;
-                    swingScores[17] += toAdd;
-                    swingScores[15] += toAdd;
-                }
-            }
-        }
-        loc = G.me.translate(-1, 2);
-        if (G.opponentRobotsString.indexOf(loc.toString()) != -1) {
-            RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-            int toAdd2 = Math.min(5, bot.paintAmount) * 5;
-            swingScores[35] += toAdd2;
-            swingScores[31] += toAdd2;
-            swingScores[27] += toAdd2;
-            swingScores[23] += toAdd2;
-            swingScores[21] += toAdd2;
-            swingScores[17] += toAdd2;
-            if (bot.paintAmount > 0) {
-                if (bot.paintAmount <= 5) {
-                    int toAdd = (int) (G.paintPerChips() * bot.type.moneyCost);
-                    swingScores[35] += toAdd;
-                    swingScores[31] += toAdd;
-                    swingScores[27] += toAdd;
-                    swingScores[23] += toAdd;
-                    swingScores[21] += toAdd;
-                    swingScores[17] += toAdd;
-                } else {
-                    int toAdd = (int) ((G.cooldown(bot.paintAmount - 5, 10, bot.type.paintCapacity)
-                            - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown());
-                    swingScores[35] += toAdd;
-                    swingScores[31] += toAdd;
-                    swingScores[27] += toAdd;
-                    swingScores[23] += toAdd;
-                    swingScores[21] += toAdd;
-                    swingScores[17] += toAdd;
-                }
-            }
-        }
-        loc = G.me.translate(3, 2);
-        if (G.opponentRobotsString.indexOf(loc.toString()) != -1) {
-            RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-            int toAdd2 = Math.min(5, bot.paintAmount) * 5;
-            swingScores[18] += toAdd2;
-            if (bot.paintAmount > 0) {
-                if (bot.paintAmount <= 5) {
-                    int toAdd = (int) (G.paintPerChips() * bot.type.moneyCost);
-                    swingScores[18] += toAdd;
-                } else {
-                    int toAdd = (int) ((G.cooldown(bot.paintAmount - 5, 10, bot.type.paintCapacity)
-                            - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown());
-                    swingScores[18] += toAdd;
-                }
-            }
-        }
-        loc = G.me.translate(1, 3);
-        if (G.opponentRobotsString.indexOf(loc.toString()) != -1) {
-            RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-            int toAdd2 = Math.min(5, bot.paintAmount) * 5;
-            swingScores[23] += toAdd2;
-            swingScores[19] += toAdd2;
-            if (bot.paintAmount > 0) {
-                if (bot.paintAmount <= 5) {
-                    int toAdd = (int) (G.paintPerChips() * bot.type.moneyCost);
-                    swingScores[23] += toAdd;
-                    swingScores[19] += toAdd;
-                } else {
-                    int toAdd = (int) ((G.cooldown(bot.paintAmount - 5, 10, bot.type.paintCapacity)
-                            - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown());
-                    swingScores[23] += toAdd;
-                    swingScores[19] += toAdd;
-                }
-            }
-        }
-        loc = G.me.translate(2, 3);
-        if (G.opponentRobotsString.indexOf(loc.toString()) != -1) {
-            RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-            int toAdd2 = Math.min(5, bot.paintAmount) * 5;
-            swingScores[19] += toAdd2;
-            if (bot.paintAmount > 0) {
-                if (bot.paintAmount <= 5) {
-                    int toAdd = (int) (G.paintPerChips() * bot.type.moneyCost);
-                    swingScores[19] += toAdd;
-                } else {
-                    int toAdd = (int) ((G.cooldown(bot.paintAmount - 5, 10, bot.type.paintCapacity)
-                            - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown());
-                    swingScores[19] += toAdd;
-                }
-            }
-        }
-        loc = G.me.translate(0, 3);
-        if (G.opponentRobotsString.indexOf(loc.toString()) != -1) {
-            RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-            int toAdd2 = Math.min(5, bot.paintAmount) * 5;
-            swingScores[27] += toAdd2;
-            swingScores[23] += toAdd2;
-            swingScores[19] += toAdd2;
-            if (bot.paintAmount > 0) {
-                if (bot.paintAmount <= 5) {
-                    int toAdd = (int) (G.paintPerChips() * bot.type.moneyCost);
-                    swingScores[27] += toAdd;
-                    swingScores[23] += toAdd;
-                    swingScores[19] += toAdd;
-                } else {
-                    int toAdd = (int) ((G.cooldown(bot.paintAmount - 5, 10, bot.type.paintCapacity)
-                            - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown());
-                    swingScores[27] += toAdd;
-                    swingScores[23] += toAdd;
-                    swingScores[19] += toAdd;
-                }
-            }
-        }
-        loc = G.me.translate(-2, 2);
-        if (G.opponentRobotsString.indexOf(loc.toString()) != -1) {
-            RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-            int toAdd2 = Math.min(5, bot.paintAmount) * 5;
-            swingScores[31] += toAdd2;
-            swingScores[27] += toAdd2;
-            swingScores[25] += toAdd2;
-            swingScores[21] += toAdd2;
-            if (bot.paintAmount > 0) {
-                if (bot.paintAmount <= 5) {
-                    int toAdd = (int) (G.paintPerChips() * bot.type.moneyCost);
-                    swingScores[31] += toAdd;
-                    swingScores[27] += toAdd;
-                    swingScores[25] += toAdd;
-                    swingScores[21] += toAdd;
-                } else {
-                    int toAdd = (int) ((G.cooldown(bot.paintAmount - 5, 10, bot.type.paintCapacity)
-                            - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown());
-                    swingScores[31] += toAdd;
-                    swingScores[27] += toAdd;
-                    swingScores[25] += toAdd;
-                    swingScores[21] += toAdd;
-                }
-            }
-        }
-        loc = G.me.translate(-1, 3);
-        if (G.opponentRobotsString.indexOf(loc.toString()) != -1) {
-            RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-            int toAdd2 = Math.min(5, bot.paintAmount) * 5;
-            swingScores[27] += toAdd2;
-            swingScores[23] += toAdd2;
-            if (bot.paintAmount > 0) {
-                if (bot.paintAmount <= 5) {
-                    int toAdd = (int) (G.paintPerChips() * bot.type.moneyCost);
-                    swingScores[27] += toAdd;
-                    swingScores[23] += toAdd;
-                } else {
-                    int toAdd = (int) ((G.cooldown(bot.paintAmount - 5, 10, bot.type.paintCapacity)
-                            - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown());
-                    swingScores[27] += toAdd;
-                    swingScores[23] += toAdd;
-                }
-            }
-        }
-        loc = G.me.translate(-3, 1);
-        if (G.opponentRobotsString.indexOf(loc.toString()) != -1) {
-            RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-            int toAdd2 = Math.min(5, bot.paintAmount) * 5;
-            swingScores[29] += toAdd2;
-            swingScores[25] += toAdd2;
-            if (bot.paintAmount > 0) {
-                if (bot.paintAmount <= 5) {
-                    int toAdd = (int) (G.paintPerChips() * bot.type.moneyCost);
-                    swingScores[29] += toAdd;
-                    swingScores[25] += toAdd;
-                } else {
-                    int toAdd = (int) ((G.cooldown(bot.paintAmount - 5, 10, bot.type.paintCapacity)
-                            - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown());
-                    swingScores[29] += toAdd;
-                    swingScores[25] += toAdd;
-                }
-            }
-        }
-        loc = G.me.translate(-3, 2);
-        if (G.opponentRobotsString.indexOf(loc.toString()) != -1) {
-            RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-            int toAdd2 = Math.min(5, bot.paintAmount) * 5;
-            swingScores[25] += toAdd2;
-            if (bot.paintAmount > 0) {
-                if (bot.paintAmount <= 5) {
-                    int toAdd = (int) (G.paintPerChips() * bot.type.moneyCost);
-                    swingScores[25] += toAdd;
-                } else {
-                    int toAdd = (int) ((G.cooldown(bot.paintAmount - 5, 10, bot.type.paintCapacity)
-                            - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown());
-                    swingScores[25] += toAdd;
-                }
-            }
-        }
-        loc = G.me.translate(-2, 3);
-        if (G.opponentRobotsString.indexOf(loc.toString()) != -1) {
-            RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-            int toAdd2 = Math.min(5, bot.paintAmount) * 5;
-            swingScores[27] += toAdd2;
-            if (bot.paintAmount > 0) {
-                if (bot.paintAmount <= 5) {
-                    int toAdd = (int) (G.paintPerChips() * bot.type.moneyCost);
-                    swingScores[27] += toAdd;
-                } else {
-                    int toAdd = (int) ((G.cooldown(bot.paintAmount - 5, 10, bot.type.paintCapacity)
-                            - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown());
-                    swingScores[27] += toAdd;
-                }
-            }
-        }
-        swingScores[0] *= MOP_SWING_MULT;
-        swingScores[1] *= MOP_SWING_MULT;
-        swingScores[2] *= MOP_SWING_MULT;
-        swingScores[3] *= MOP_SWING_MULT;
-        swingScores[4] *= MOP_SWING_MULT;
-        swingScores[5] *= MOP_SWING_MULT;
-        swingScores[6] *= MOP_SWING_MULT;
-        swingScores[7] *= MOP_SWING_MULT;
-        swingScores[8] *= MOP_SWING_MULT;
-        swingScores[9] *= MOP_SWING_MULT;
-        swingScores[10] *= MOP_SWING_MULT;
-        swingScores[11] *= MOP_SWING_MULT;
-        swingScores[12] *= MOP_SWING_MULT;
-        swingScores[13] *= MOP_SWING_MULT;
-        swingScores[14] *= MOP_SWING_MULT;
-        swingScores[15] *= MOP_SWING_MULT;
-        swingScores[16] *= MOP_SWING_MULT;
-        swingScores[17] *= MOP_SWING_MULT;
-        swingScores[18] *= MOP_SWING_MULT;
-        swingScores[19] *= MOP_SWING_MULT;
-        swingScores[20] *= MOP_SWING_MULT;
-        swingScores[21] *= MOP_SWING_MULT;
-        swingScores[22] *= MOP_SWING_MULT;
-        swingScores[23] *= MOP_SWING_MULT;
-        swingScores[24] *= MOP_SWING_MULT;
-        swingScores[25] *= MOP_SWING_MULT;
-        swingScores[26] *= MOP_SWING_MULT;
-        swingScores[27] *= MOP_SWING_MULT;
-        swingScores[28] *= MOP_SWING_MULT;
-        swingScores[29] *= MOP_SWING_MULT;
-        swingScores[30] *= MOP_SWING_MULT;
-        swingScores[31] *= MOP_SWING_MULT;
-        swingScores[32] *= MOP_SWING_MULT;
-        swingScores[33] *= MOP_SWING_MULT;
-        swingScores[34] *= MOP_SWING_MULT;
-        swingScores[35] *= MOP_SWING_MULT;
-    }
-
-    public static void buildMoveScores() throws Exception {
-        // clean enemy paint for ruin patterns
-        // TODO: FIND AND MOP ENEMY PAINT OFF SRP
-        // get 2 best locations to build stuff on
-        // so if the first one is already there just go to the next one
-        moveScores = Motion.defaultMicro.micro(G.me.directionTo(target), target);
-        moveScores[G.dirOrd(G.me.directionTo(target))] -= 18;
-        if (G.me.directionTo(target) != Direction.CENTER) {
-            moveScores[G.dirOrd(G.me.directionTo(target).rotateLeft())] -= 14;
-            moveScores[G.dirOrd(G.me.directionTo(target).rotateRight())] -= 14;
-        }
-    }
-
-    public static void buildAttackScores() throws Exception {
-        MapLocation loc = G.me;
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                if (target.distanceSquaredTo(loc) <= 8) {
-                    attackScores[0] += MOP_TOWER_WEIGHT;
-                }
-                attackScores[0] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[0] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[0] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[0] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(-1, 0);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                if (target.distanceSquaredTo(loc) <= 8) {
-                    attackScores[1] += MOP_TOWER_WEIGHT;
-                }
-                attackScores[1] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[1] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[1] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[1] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(0, -1);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                if (target.distanceSquaredTo(loc) <= 8) {
-                    attackScores[2] += MOP_TOWER_WEIGHT;
-                }
-                attackScores[2] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[2] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[2] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[2] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(0, 1);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                if (target.distanceSquaredTo(loc) <= 8) {
-                    attackScores[3] += MOP_TOWER_WEIGHT;
-                }
-                attackScores[3] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[3] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[3] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[3] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(1, 0);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                if (target.distanceSquaredTo(loc) <= 8) {
-                    attackScores[4] += MOP_TOWER_WEIGHT;
-                }
-                attackScores[4] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[4] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[4] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[4] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(-1, -1);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                if (target.distanceSquaredTo(loc) <= 8) {
-                    attackScores[5] += MOP_TOWER_WEIGHT;
-                }
-                attackScores[5] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[5] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[5] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[5] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(-1, 1);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                if (target.distanceSquaredTo(loc) <= 8) {
-                    attackScores[6] += MOP_TOWER_WEIGHT;
-                }
-                attackScores[6] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[6] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[6] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[6] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(1, -1);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                if (target.distanceSquaredTo(loc) <= 8) {
-                    attackScores[7] += MOP_TOWER_WEIGHT;
-                }
-                attackScores[7] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[7] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[7] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[7] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(1, 1);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                if (target.distanceSquaredTo(loc) <= 8) {
-                    attackScores[8] += MOP_TOWER_WEIGHT;
-                }
-                attackScores[8] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[8] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[8] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[8] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(-2, 0);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                if (target.distanceSquaredTo(loc) <= 8) {
-                    attackScores[9] += MOP_TOWER_WEIGHT;
-                }
-                attackScores[9] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[9] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[9] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[9] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(0, -2);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                if (target.distanceSquaredTo(loc) <= 8) {
-                    attackScores[10] += MOP_TOWER_WEIGHT;
-                }
-                attackScores[10] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[10] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[10] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[10] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(0, 2);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                if (target.distanceSquaredTo(loc) <= 8) {
-                    attackScores[11] += MOP_TOWER_WEIGHT;
-                }
-                attackScores[11] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[11] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[11] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[11] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(2, 0);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                if (target.distanceSquaredTo(loc) <= 8) {
-                    attackScores[12] += MOP_TOWER_WEIGHT;
-                }
-                attackScores[12] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[12] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[12] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[12] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(-2, -1);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                if (target.distanceSquaredTo(loc) <= 8) {
-                    attackScores[13] += MOP_TOWER_WEIGHT;
-                }
-                attackScores[13] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[13] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[13] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[13] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(-2, 1);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                if (target.distanceSquaredTo(loc) <= 8) {
-                    attackScores[14] += MOP_TOWER_WEIGHT;
-                }
-                attackScores[14] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[14] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[14] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[14] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(-1, -2);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                if (target.distanceSquaredTo(loc) <= 8) {
-                    attackScores[15] += MOP_TOWER_WEIGHT;
-                }
-                attackScores[15] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[15] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[15] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[15] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(-1, 2);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                if (target.distanceSquaredTo(loc) <= 8) {
-                    attackScores[16] += MOP_TOWER_WEIGHT;
-                }
-                attackScores[16] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[16] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[16] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[16] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(1, -2);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                if (target.distanceSquaredTo(loc) <= 8) {
-                    attackScores[17] += MOP_TOWER_WEIGHT;
-                }
-                attackScores[17] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[17] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[17] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[17] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(1, 2);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                if (target.distanceSquaredTo(loc) <= 8) {
-                    attackScores[18] += MOP_TOWER_WEIGHT;
-                }
-                attackScores[18] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[18] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[18] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[18] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(2, -1);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                if (target.distanceSquaredTo(loc) <= 8) {
-                    attackScores[19] += MOP_TOWER_WEIGHT;
-                }
-                attackScores[19] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[19] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[19] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[19] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(2, 1);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                if (target.distanceSquaredTo(loc) <= 8) {
-                    attackScores[20] += MOP_TOWER_WEIGHT;
-                }
-                attackScores[20] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[20] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[20] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[20] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(-2, -2);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                if (target.distanceSquaredTo(loc) <= 8) {
-                    attackScores[21] += MOP_TOWER_WEIGHT;
-                }
-                attackScores[21] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[21] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[21] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[21] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(-2, 2);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                if (target.distanceSquaredTo(loc) <= 8) {
-                    attackScores[22] += MOP_TOWER_WEIGHT;
-                }
-                attackScores[22] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[22] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[22] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[22] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(2, -2);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                if (target.distanceSquaredTo(loc) <= 8) {
-                    attackScores[23] += MOP_TOWER_WEIGHT;
-                }
-                attackScores[23] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[23] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[23] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[23] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(2, 2);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                if (target.distanceSquaredTo(loc) <= 8) {
-                    attackScores[24] += MOP_TOWER_WEIGHT;
-                }
-                attackScores[24] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[24] += (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[24] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[24] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
+        if (mask == 0)
+            return;
+        for (int k = 36; --k >= 0;) {
+            long hit = mask & SWING_STENCILS[k];
+            int score = 0;
+            while (hit != 0) {
+                score += swingValues[Long.numberOfTrailingZeros(hit)];
+                hit &= hit - 1;
             }
+            swingScores[k] = (int) (score * MOP_SWING_MULT);
         }
     }
 
@@ -3699,567 +1309,12 @@ public class Mopper {
 
     public static void retreatMoveScores() throws Exception {
         Direction bestDir = Motion.retreatDir();
-        moveScores = Motion.defaultMicro.micro(bestDir, Motion.retreatLoc);
+        Motion.micro(Motion.defaultMicro, bestDir, Motion.retreatLoc, moveScores);
         moveScores[G.dirOrd(bestDir)] += 50;
         moveScores[G.dirOrd(bestDir.rotateLeft())] += 40;
         moveScores[G.dirOrd(bestDir.rotateRight())] += 40;
     }
 
-    // basically the same as exploreAttackScores but with extra bonus for stealing 5
-    // paint
-    public static void retreatAttackScores() throws Exception {
-        MapLocation loc = G.me;
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[0] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[0] += MOP_RETREAT_STEAL_WEIGHT + (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[0] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[0] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(-1, 0);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[1] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[1] += MOP_RETREAT_STEAL_WEIGHT + (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[1] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[1] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(0, -1);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[2] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[2] += MOP_RETREAT_STEAL_WEIGHT + (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[2] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[2] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(0, 1);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[3] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[3] += MOP_RETREAT_STEAL_WEIGHT + (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[3] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[3] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(1, 0);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[4] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[4] += MOP_RETREAT_STEAL_WEIGHT + (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[4] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[4] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(-1, -1);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[5] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[5] += MOP_RETREAT_STEAL_WEIGHT + (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[5] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[5] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(-1, 1);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[6] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[6] += MOP_RETREAT_STEAL_WEIGHT + (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[6] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[6] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(1, -1);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[7] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[7] += MOP_RETREAT_STEAL_WEIGHT + (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[7] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[7] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(1, 1);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[8] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[8] += MOP_RETREAT_STEAL_WEIGHT + (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[8] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[8] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(-2, 0);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[9] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[9] += MOP_RETREAT_STEAL_WEIGHT + (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[9] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[9] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(0, -2);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[10] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[10] += MOP_RETREAT_STEAL_WEIGHT + (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[10] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[10] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(0, 2);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[11] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[11] += MOP_RETREAT_STEAL_WEIGHT + (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[11] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[11] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(2, 0);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[12] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[12] += MOP_RETREAT_STEAL_WEIGHT + (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[12] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[12] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(-2, -1);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[13] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[13] += MOP_RETREAT_STEAL_WEIGHT + (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[13] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[13] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(-2, 1);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[14] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[14] += MOP_RETREAT_STEAL_WEIGHT + (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[14] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[14] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(-1, -2);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[15] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[15] += MOP_RETREAT_STEAL_WEIGHT + (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[15] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[15] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(-1, 2);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[16] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[16] += MOP_RETREAT_STEAL_WEIGHT + (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[16] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[16] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(1, -2);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[17] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[17] += MOP_RETREAT_STEAL_WEIGHT + (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[17] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[17] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(1, 2);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[18] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[18] += MOP_RETREAT_STEAL_WEIGHT + (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[18] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[18] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(2, -1);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[19] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[19] += MOP_RETREAT_STEAL_WEIGHT + (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[19] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[19] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(2, 1);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[20] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[20] += MOP_RETREAT_STEAL_WEIGHT + (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[20] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[20] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(-2, -2);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[21] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[21] += MOP_RETREAT_STEAL_WEIGHT + (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[21] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[21] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(-2, 2);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[22] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[22] += MOP_RETREAT_STEAL_WEIGHT + (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[22] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[22] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(2, -2);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[23] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[23] += MOP_RETREAT_STEAL_WEIGHT + (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[23] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[23] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-        loc = G.me.translate(2, 2);
-        if (G.rc.onTheMap(loc)) {
-            PaintType paint = G.rc.senseMapInfo(loc).getPaint();
-            if (paint.isEnemy()) {
-                attackScores[24] += 25;
-            }
-            if (G.rc.canSenseRobotAtLocation(loc)) {
-                RobotInfo bot = G.rc.senseRobotAtLocation(loc);
-                if (bot.team == G.opponentTeam) {
-                    attackScores[24] += MOP_RETREAT_STEAL_WEIGHT + (Math.min(10, bot.paintAmount)
-                            + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * 7;
-                    if (bot.paintAmount > 0) {
-                        if (bot.paintAmount <= 10) {
-                            attackScores[24] += (int) G.paintPerChips() * bot.type.moneyCost;
-                        } else {
-                            attackScores[24] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity)
-                                    - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();
-                        }
-                    }
-                }
-            }
-        }
-    }
-
     public static void retreatSwingScores() throws Exception {
         exploreSwingScores();
     }
@@ -110,7 +110,7 @@ public class Motion {
             if (direction == lastRandomDir.opposite() && G.rc.canMove(direction.opposite())) {
                 direction = direction.opposite();
             }
-            if (microMove(m.micro(direction, G.me.add(direction)))) {
+            if (microMove(micro(m, direction, G.me.add(direction)))) {
                 lastRandomDir = direction;
             }
         }
@@ -153,7 +153,7 @@ public class Motion {
                 } else {
                     // Direction direction = bug2Helper(me, lastRandomSpread, TOWARDS, 0, 0);
                     Direction direction = G.me.directionTo(target);
-                    if (microMove(m.micro(direction, target))) {
+                    if (microMove(micro(m, direction, target))) {
                         lastRandomSpread = lastRandomSpread.add(direction);
                         lastRandomDir = direction;
                     } else {
@@ -167,7 +167,7 @@ public class Motion {
                     lastDir = Direction.CENTER;
                 }
                 Direction direction = bug2Helper(G.me, target, TOWARDS, 0, 0);
-                if (microMove(m.micro(direction, target))) {
+                if (microMove(micro(m, direction, target))) {
                     lastRandomSpread = target;
                     lastRandomDir = direction;
                 }
@@ -741,7 +741,7 @@ public class Motion {
     }
 
     public static void retreat(Micro micro) throws Exception {
-        Motion.microMove(micro.micro(Motion.retreatDir(retreatLoc), retreatLoc));
+        Motion.microMove(micro(micro, Motion.retreatDir(retreatLoc), retreatLoc));
     }
 
     public static void tryTransferPaint() throws Exception {
@@ -1267,13 +1267,17 @@ public class Motion {
 
     public static void bugnavTowards(MapLocation dest, Micro m) throws Exception {
         if (G.rc.isMovementReady()) {
+            if (Profiler.ENABLED)
+                Profiler.begin(Profiler.BUGNAV);
             Direction d = bug2Helper(G.rc.getLocation(), dest, TOWARDS, 0, 0);
             // Direction d = bug2Helper(dest, TOWARDS, 0, 0);
             // what is purpose of this v
             if (d == Direction.CENTER) {
                 d = G.rc.getLocation().directionTo(dest);
             }
-            microMove(m.micro(d, dest));
+            microMove(micro(m, d, dest));
+            if (Profiler.ENABLED)
+                Profiler.end(Profiler.BUGNAV);
         }
     }
 
@@ -1287,7 +1291,7 @@ public class Motion {
             if (d == Direction.CENTER) {
                 d = G.rc.getLocation().directionTo(dest);
             }
-            microMove(m.micro(d, dest));
+            microMove(micro(m, d, dest));
         }
     }
 
@@ -1303,10 +1307,12 @@ public class Motion {
             if (d == Direction.CENTER) {
                 d = G.rc.getLocation().directionTo(dest);
             }
-            microMove(m.micro(d, dest));
+            microMove(micro(m, d, dest));
         }
     }
 
+    // bfs goes outwards from bfsDest, bit x of bfsDist[k * (height + 2) + y + 1]
+    // is set if (x, y) is within k moves of bfsDest
     public static MapLocation bfsDest;
     public static long[] bfsMap;
     public static long[] bfsDist;
@@ -1315,13 +1321,53 @@ public class Motion {
     // public static StringBuilder bfsQueue = new StringBuilder();
     public static final int MAX_PATH_LENGTH = 100;
 
+    // BFS_SLOTS destinations (like the explore target and the retreat tower) keep
+    // their layers across turns, the active one is loaded into the fields above
+    // and switching to a destination that isn't in a slot replaces the least
+    // recently used one
+    public static final int BFS_SLOTS = 2;
+    public static MapLocation[] bfsSlotDests = new MapLocation[BFS_SLOTS];
+    public static long[][] bfsSlotDists = new long[BFS_SLOTS][];
+    public static long[][] bfsSlotCurrs = new long[BFS_SLOTS][];
+    public static int[][] bfsSlotDirtyFrom = new int[BFS_SLOTS][];
+    public static int[] bfsSlotSteps = new int[BFS_SLOTS];
+    public static int[] bfsSlotRepairSteps = new int[BFS_SLOTS];
+    public static int[] bfsSlotLastUsed = new int[BFS_SLOTS];
+    public static int bfsSlot = 0;
+
     public static void bfsInit() {
         width = G.mapWidth;
         height = G.mapHeight;
         bfsMap = new long[height + 2];
-        bfsCurr = new long[height + 2];
-        bfsDist = new long[(height + 2) * MAX_PATH_LENGTH];
+        for (int k = BFS_SLOTS; --k >= 0;) {
+            bfsSlotCurrs[k] = new long[height + 2];
+            bfsSlotDists[k] = new long[(height + 2) * MAX_PATH_LENGTH];
+            bfsSlotDirtyFrom[k] = new int[height + 2];
+            for (int i = height + 2; --i >= 0;) {
+                bfsSlotDirtyFrom[k][i] = MAX_PATH_LENGTH;
+            }
+            bfsSlotSteps[k] = 1;
+            bfsSlotRepairSteps[k] = MAX_PATH_LENGTH;
+        }
         bitmask = (long1 << width) - 1;
+        loadBfsSlot(0);
+    }
+
+    public static void saveBfsSlot() {
+        bfsSlotDests[bfsSlot] = bfsDest;
+        bfsSlotSteps[bfsSlot] = step;
+        bfsSlotRepairSteps[bfsSlot] = repairStep;
+    }
+
+    public static void loadBfsSlot(int k) {
+        bfsSlot = k;
+        bfsDest = bfsSlotDests[k];
+        bfsDist = bfsSlotDists[k];
+        bfsCurr = bfsSlotCurrs[k];
+        dirtyFrom = bfsSlotDirtyFrom[k];
+        step = bfsSlotSteps[k];
+        repairStep = bfsSlotRepairSteps[k];
+        bfsSlotLastUsed[k] = G.round;
     }
 
     public static int step = 1;
@@ -1329,10 +1375,17 @@ public class Motion {
     public static int width;
     public static int height;
     public static long long1 = 1;
-    public static int recalculationNeeded = MAX_PATH_LENGTH;
+    // walls seen after a layer was computed make that layer wrong, but only near
+    // the wall: if the wall was first reached in layer r, layer r + d can only be
+    // wrong in rows within d of it, so dirtyFrom[y] is the first layer row y may
+    // be wrong in and repairBfs recomputes just those rows from repairStep up
+    // (MAX_PATH_LENGTH if nothing needs repairing)
+    public static int[] dirtyFrom;
+    public static int repairStep = MAX_PATH_LENGTH;
 
     public static void updateBfsMap() throws Exception {
-        MapInfo[] map = G.rc.senseNearbyMapInfos();
+        MapInfo[] map = G.nearbyMapInfos;
+        saveBfsSlot();
         for (int i = map.length; --i >= 0;) {
             MapInfo m = map[i];
             if (m.isWall()) {
@@ -1341,33 +1394,78 @@ public class Motion {
                 if (((bfsMap[loc] >> subloc) & 1) == 0) {
                     bfsMap[loc] |= (long1 << subloc);
                     G.rc.setIndicatorDot(m.getMapLocation(), 255, 255, 255);
-                    for (int j = step - 1; j >= 0; j--) {
-                        if (((bfsDist[j * (height + 2) + loc] >> subloc) & 1) != 1) {
-                            recalculationNeeded = Math.min(j, recalculationNeeded);
-                            break;
-                        }
+                    for (int k = BFS_SLOTS; --k >= 0;) {
+                        if (bfsSlotDests[k] != null)
+                            invalidateWall(k, loc, subloc);
                     }
                 }
             }
         }
+        loadBfsSlot(bfsSlot);
     }
 
-    public static void bfs() throws Exception {
+    public static void invalidateWall(int k, int loc, int subloc) {
+        long[] dist = bfsSlotDists[k];
+        int h2 = height + 2;
+        int lo = 0;
+        int hi = bfsSlotSteps[k] - 1;
+        if (((dist[hi * h2 + loc] >> subloc) & 1) == 0)
+            return; // not reached yet, nothing went through it
+        // layers only grow, so binary search for the first one that reached it
+        while (lo < hi) {
+            int mid = (lo + hi) >> 1;
+            if (((dist[mid * h2 + loc] >> subloc) & 1) == 1)
+                hi = mid;
+            else
+                lo = mid + 1;
+        }
+        int[] dirty = bfsSlotDirtyFrom[k];
+        for (int d = Math.min(bfsSlotSteps[k] - lo, height); --d >= 0;) {
+            if (loc - d >= 1 && dirty[loc - d] > lo + d)
+                dirty[loc - d] = lo + d;
+            if (loc + d <= height && dirty[loc + d] > lo + d)
+                dirty[loc + d] = lo + d;
+        }
+        // layer 0 is just bfsDest
+        bfsSlotRepairSteps[k] = Math.min(bfsSlotRepairSteps[k], Math.max(lo, 1));
+    }
 
-        if (recalculationNeeded != MAX_PATH_LENGTH && recalculationNeeded < step) {
-            step = recalculationNeeded;
-            for (int i = 1; i <= height; i++) {
-                // bfsDist[i] = 0;
-                // bfsCurr[i] = 0;
-                bfsCurr[i] = bfsDist[step * (height + 2) + i];
+    public static void repairBfs() {
+        int h2 = height + 2;
+        while (repairStep < step && Clock.getBytecodesLeft() > 5000) {
+            int offset = repairStep * h2;
+            int prev = offset - h2;
+            for (int y = height; y >= 1; y--) {
+                if (dirtyFrom[y] <= repairStep) {
+                    long row = bfsDist[prev + y - 1] | bfsDist[prev + y] | bfsDist[prev + y + 1];
+                    bfsDist[offset + y] = (row | (row >> 1) | (row << 1)) & (bitmask ^ bfsMap[y]);
+                }
             }
-            step += 1;
-            // G.indicatorString.append("BFS-RECALC ");
+            repairStep++;
+        }
+        if (repairStep >= step) {
+            int offset = (step - 1) * h2;
+            for (int y = height; y >= 1; y--) {
+                if (dirtyFrom[y] != MAX_PATH_LENGTH) {
+                    bfsCurr[y] = bfsDist[offset + y];
+                    dirtyFrom[y] = MAX_PATH_LENGTH;
+                }
+            }
+            repairStep = MAX_PATH_LENGTH;
+        }
+    }
+
+    public static void bfs() throws Exception {
+        if (Profiler.ENABLED)
+            Profiler.begin(Profiler.BFS);
+        if (repairStep != MAX_PATH_LENGTH) {
+            repairBfs();
+            // G.indicatorString.append("BFS-REPAIR ");
         }
-        recalculationNeeded = MAX_PATH_LENGTH;
 
-        while (step < MAX_PATH_LENGTH && Clock.getBytecodesLeft() > 5000) {
+        while (repairStep == MAX_PATH_LENGTH && step < MAX_PATH_LENGTH && Clock.getBytecodesLeft() > 5000) {
             stepOffset = step * (height + 2);
+            // MotionCodeGen is generated from codegen/motion.groovy
             switch (height) {
                 case 20:
                     MotionCodeGen.bfs20();
@@ -1493,30 +1591,6 @@ public class Motion {
                     MotionCodeGen.bfs60();
                     break;
             }
-            // var cod = "";
-            // for (var i = 30; i <= 60; i++) {
-            // cod += "public static void bfs" + i + "() {\n";
-            // for (var j = 1; j <= i; j++) {
-            // cod += "Motion.bfsCurr[z] = Motion.bfsCurr[z] | (Motion.bfsCurr[z] >> 1) |
-            // (Motion.bfsCurr[z] << 1);\n".replaceAll("z", j);
-            // }
-            // for (var j = 1; j <= i; j++) {
-            // cod += "Motion.bfsDist[Motion.stepOffset + z] = (Motion.bfsCurr[z] |
-            // Motion.bfsCurr[y] | Motion.bfsCurr[x]) & (Motion.bitmask ^
-            // Motion.bfsMap[z]);\n".replaceAll("z", j).replaceAll("y", j -
-            // 1).replaceAll("x", j + 1);
-            // }
-            // for (var j = 1; j <= i; j++) {
-            // //cod += "Motion.bfsDist[Motion.stepOffset + z] &= Motion.bitmask ^
-            // Motion.bfsMap[z];\n".replaceAll("z", j);
-            // }
-            // for (var j = 1; j <= i; j++) {
-            // cod += "Motion.bfsCurr[z] = Motion.bfsDist[Motion.stepOffset +
-            // z];\n".replaceAll("z", j);
-            // }
-            // cod += "}\n";
-            // }
-            // console.log(cod);
             step += 1;
         }
 
@@ -1548,11 +1622,14 @@ public class Motion {
         // }
         // }
         G.indicatorString.append("BFS-STP=" + step + " ");
+        if (Profiler.ENABLED)
+            Profiler.end(Profiler.BFS);
     }
 
     public static Direction getBfsDirection(MapLocation dest) throws Exception {
         boolean[] directions = new boolean[9];
-        for (int i = 1; i < step; i++) {
+        // layers past repairStep may still go through walls
+        for (int i = 1; i < Math.min(step, repairStep); i++) {
             if (((bfsDist[i * (height + 2) + 1 + G.me.y] >> G.me.x) & 1) == 1) {
                 if (((bfsDist[(i - 1) * (height + 2) + 1 + G.me.y - 1] >> G.me.x) & 1) == 1) {
                     directions[7] = true;
@@ -1622,29 +1699,47 @@ public class Motion {
 
     public static void bfsnav(MapLocation dest, Micro m) throws Exception {
         int a = Clock.getBytecodesLeft();
+        if (bfsMap == null)
+            bfsInit();
         updateBfsTarget(dest);
+        updateBfsMap();
         if (!G.rc.getLocation().equals(dest) && G.rc.isMovementReady()) {
             Direction d = getBfsDirection(dest);
             if (d == Direction.CENTER) {
                 d = G.rc.getLocation().directionTo(dest);
             }
-            microMove(m.micro(d, dest));
+            microMove(micro(m, d, dest));
         }
         bfs();
         G.indicatorString.append("BFS-BT: " + (Clock.getBytecodesLeft() - a) + "-");
     }
 
     public static void updateBfsTarget(MapLocation dest) throws Exception {
-        if (!dest.equals(bfsDest)) {
-            bfsDest = dest;
-            for (int i = 1; i <= height; i++) {
-                bfsDist[i] = 0;
-                bfsCurr[i] = 0;
+        if (dest.equals(bfsDest)) {
+            bfsSlotLastUsed[bfsSlot] = G.round;
+            return;
+        }
+        saveBfsSlot();
+        int oldest = 0;
+        for (int k = BFS_SLOTS; --k >= 0;) {
+            if (dest.equals(bfsSlotDests[k])) {
+                loadBfsSlot(k);
+                return;
             }
-            bfsDist[dest.y + 1] = long1 << (dest.x);
-            bfsCurr[dest.y + 1] = long1 << (dest.x);
-            step = 1;
+            if (bfsSlotLastUsed[k] < bfsSlotLastUsed[oldest])
+                oldest = k;
         }
+        loadBfsSlot(oldest);
+        bfsDest = dest;
+        for (int i = 1; i <= height; i++) {
+            bfsDist[i] = 0;
+            bfsCurr[i] = 0;
+            dirtyFrom[i] = MAX_PATH_LENGTH;
+        }
+        bfsDist[dest.y + 1] = long1 << (dest.x);
+        bfsCurr[dest.y + 1] = long1 << (dest.x);
+        step = 1;
+        repairStep = MAX_PATH_LENGTH;
     }
 
     public static final int DEF_MICRO_E_PAINT_PENALTY = 5;
@@ -1653,18 +1748,41 @@ public class Motion {
     public static final int DEF_MICRO_N_PAINT_BOT_PENALTY = 5;
 
     /**
-     * Default movement micro - avoid clusters of bots, especially on non-allied
-     * paint
+     * Shared score buffer for micro(), reused every move
      */
-    public static Micro defaultMicro = (Direction d, MapLocation dest) -> {
-        int[] scores = new int[9];
-        MapLocation nxt;
-        PaintType p;
+    public static final int[] microScores = new int[9];
+
+    /**
+     * Clear scores and run a micro on it, returns scores
+     */
+    public static int[] micro(Micro m, Direction d, MapLocation dest, int[] scores) throws Exception {
+        scores[0] = scores[1] = scores[2] = scores[3] = scores[4] = scores[5] = scores[6] = scores[7] = scores[8] = 0;
+        m.micro(d, dest, scores);
+        return scores;
+    }
+
+    public static int[] micro(Micro m, Direction d, MapLocation dest) throws Exception {
+        return micro(m, d, dest, microScores);
+    }
+
+    /**
+     * Pull towards the pathfinding direction
+     */
+    public static Micro targetMicro = (Direction d, MapLocation dest, int[] scores) -> {
         scores[G.dirOrd(d)] += 20;
         if (d != Direction.CENTER) {
             scores[G.dirOrd(d.rotateLeft())] += 15;
             scores[G.dirOrd(d.rotateRight())] += 15;
         }
+    };
+
+    /**
+     * Avoid blocked tiles, revisiting tiles, and clusters of bots on non-allied
+     * paint
+     */
+    public static Micro paintMicro = (Direction d, MapLocation dest, int[] scores) -> {
+        MapLocation nxt;
+        PaintType p;
         int mopperPenalty = G.rc.getType() == UnitType.MOPPER ? GameConstants.MOPPER_PAINT_PENALTY_MULTIPLIER : 1;
         int turnsToNext = ((G.cooldown(G.rc.getPaint(), GameConstants.MOVEMENT_COOLDOWN) + movementCooldown) / 10);
         int enemyPaintPenalty = DEF_MICRO_E_PAINT_PENALTY * GameConstants.PENALTY_ENEMY_TERRITORY * mopperPenalty
@@ -1673,7 +1791,7 @@ public class Motion {
                 * turnsToNext;
         for (int i = 9; --i >= 0;) {
             if (!G.rc.canMove(G.ALL_DIRECTIONS[i]) && i != 8) {
-                scores[i] = -1000000000;
+                scores[i] -= 1000000000;
             } else {
                 nxt = G.me.add(G.ALL_DIRECTIONS[i]);
                 int index = Motion.lastVisitedLocations.lastIndexOf(nxt.toString());
@@ -1687,26 +1805,31 @@ public class Motion {
                 if (p.isEnemy()) {
                     scores[i] -= enemyPaintPenalty;
                     for (int j = 8; --j >= 0;) {
-                        if (G.allyRobotsString.indexOf(nxt.add(G.DIRECTIONS[j]).toString()) != -1) {
+                        if (G.robotGrid[nxt.x + G.DIRECTIONS[j].dx + 3][nxt.y + G.DIRECTIONS[j].dy + 3] == G.allyStamp) {
                             scores[i] -= DEF_MICRO_E_PAINT_BOT_PENALTY;
                         }
                     }
                 } else if (p == PaintType.EMPTY) {
                     scores[i] -= neutralPaintPenalty;
                     for (int j = 8; --j >= 0;) {
-                        if (G.allyRobotsString.indexOf(nxt.add(G.DIRECTIONS[j]).toString()) != -1) {
+                        if (G.robotGrid[nxt.x + G.DIRECTIONS[j].dx + 3][nxt.y + G.DIRECTIONS[j].dy + 3] == G.allyStamp) {
                             scores[i] -= DEF_MICRO_N_PAINT_BOT_PENALTY;
                         }
                     }
                 }
             }
         }
-        for (int i = G.opponentRobots.length; --i >= 0;) {
-            if (G.opponentRobots[i].type == UnitType.MOPPER) {
-                for (int j = 9; --j >= 0;) {
-                    if (G.me.add(G.ALL_DIRECTIONS[j]).isWithinDistanceSquared(G.opponentRobots[i].location, 8)) {
-                        scores[j] -= 20; // lose 4 paint?
-                    }
+    };
+
+    /**
+     * Avoid enemy moppers and tower range
+     */
+    public static Micro threatMicro = (Direction d, MapLocation dest, int[] scores) -> {
+        int turnsToNext = ((G.cooldown(G.rc.getPaint(), GameConstants.MOVEMENT_COOLDOWN) + movementCooldown) / 10);
+        for (int i = G.opponentRobotCounts[G.UNIT_MOPPER]; --i >= 0;) {
+            for (int j = 9; --j >= 0;) {
+                if (G.me.add(G.ALL_DIRECTIONS[j]).isWithinDistanceSquared(G.opponentRobotsByType[G.UNIT_MOPPER][i].location, 8)) {
+                    scores[j] -= 20; // lose 4 paint?
                 }
             }
         }
@@ -1755,9 +1878,14 @@ public class Motion {
                 }
             }
         }
-        return scores;
     };
 
+    /**
+     * Default movement micro - avoid clusters of bots, especially on non-allied
+     * paint
+     */
+    public static Micro defaultMicro = targetMicro.and(paintMicro).and(threatMicro);
+
     public static boolean microMove(int[] scores) throws Exception {
         int best = 0;
         int numBest = 1;
@@ -1,5006 +0,0 @@
-package SPAARK;
-
-public class MotionCodeGen {
-    public static void bfs20() {
-        Motion.bfsCurr[1] = Motion.bfsCurr[1] | (Motion.bfsCurr[1] >> 1) | (Motion.bfsCurr[1] << 1);
-        Motion.bfsCurr[2] = Motion.bfsCurr[2] | (Motion.bfsCurr[2] >> 1) | (Motion.bfsCurr[2] << 1);
-        Motion.bfsCurr[3] = Motion.bfsCurr[3] | (Motion.bfsCurr[3] >> 1) | (Motion.bfsCurr[3] << 1);
-        Motion.bfsCurr[4] = Motion.bfsCurr[4] | (Motion.bfsCurr[4] >> 1) | (Motion.bfsCurr[4] << 1);
-        Motion.bfsCurr[5] = Motion.bfsCurr[5] | (Motion.bfsCurr[5] >> 1) | (Motion.bfsCurr[5] << 1);
-        Motion.bfsCurr[6] = Motion.bfsCurr[6] | (Motion.bfsCurr[6] >> 1) | (Motion.bfsCurr[6] << 1);
-        Motion.bfsCurr[7] = Motion.bfsCurr[7] | (Motion.bfsCurr[7] >> 1) | (Motion.bfsCurr[7] << 1);
-        Motion.bfsCurr[8] = Motion.bfsCurr[8] | (Motion.bfsCurr[8] >> 1) | (Motion.bfsCurr[8] << 1);
-        Motion.bfsCurr[9] = Motion.bfsCurr[9] | (Motion.bfsCurr[9] >> 1) | (Motion.bfsCurr[9] << 1);
-        Motion.bfsCurr[10] = Motion.bfsCurr[10] | (Motion.bfsCurr[10] >> 1) | (Motion.bfsCurr[10] << 1);
-        Motion.bfsCurr[11] = Motion.bfsCurr[11] | (Motion.bfsCurr[11] >> 1) | (Motion.bfsCurr[11] << 1);
-        Motion.bfsCurr[12] = Motion.bfsCurr[12] | (Motion.bfsCurr[12] >> 1) | (Motion.bfsCurr[12] << 1);
-        Motion.bfsCurr[13] = Motion.bfsCurr[13] | (Motion.bfsCurr[13] >> 1) | (Motion.bfsCurr[13] << 1);
-        Motion.bfsCurr[14] = Motion.bfsCurr[14] | (Motion.bfsCurr[14] >> 1) | (Motion.bfsCurr[14] << 1);
-        Motion.bfsCurr[15] = Motion.bfsCurr[15] | (Motion.bfsCurr[15] >> 1) | (Motion.bfsCurr[15] << 1);
-        Motion.bfsCurr[16] = Motion.bfsCurr[16] | (Motion.bfsCurr[16] >> 1) | (Motion.bfsCurr[16] << 1);
-        Motion.bfsCurr[17] = Motion.bfsCurr[17] | (Motion.bfsCurr[17] >> 1) | (Motion.bfsCurr[17] << 1);
-        Motion.bfsCurr[18] = Motion.bfsCurr[18] | (Motion.bfsCurr[18] >> 1) | (Motion.bfsCurr[18] << 1);
-        Motion.bfsCurr[19] = Motion.bfsCurr[19] | (Motion.bfsCurr[19] >> 1) | (Motion.bfsCurr[19] << 1);
-        Motion.bfsCurr[20] = Motion.bfsCurr[20] | (Motion.bfsCurr[20] >> 1) | (Motion.bfsCurr[20] << 1);
-        Motion.bfsDist[Motion.stepOffset + 1] = (Motion.bfsCurr[1] | Motion.bfsCurr[0] | Motion.bfsCurr[2]) & (Motion.bitmask ^ Motion.bfsMap[1]);
-        Motion.bfsDist[Motion.stepOffset + 2] = (Motion.bfsCurr[2] | Motion.bfsCurr[1] | Motion.bfsCurr[3]) & (Motion.bitmask ^ Motion.bfsMap[2]);
-        Motion.bfsDist[Motion.stepOffset + 3] = (Motion.bfsCurr[3] | Motion.bfsCurr[2] | Motion.bfsCurr[4]) & (Motion.bitmask ^ Motion.bfsMap[3]);
-        Motion.bfsDist[Motion.stepOffset + 4] = (Motion.bfsCurr[4] | Motion.bfsCurr[3] | Motion.bfsCurr[5]) & (Motion.bitmask ^ Motion.bfsMap[4]);
-        Motion.bfsDist[Motion.stepOffset + 5] = (Motion.bfsCurr[5] | Motion.bfsCurr[4] | Motion.bfsCurr[6]) & (Motion.bitmask ^ Motion.bfsMap[5]);
-        Motion.bfsDist[Motion.stepOffset + 6] = (Motion.bfsCurr[6] | Motion.bfsCurr[5] | Motion.bfsCurr[7]) & (Motion.bitmask ^ Motion.bfsMap[6]);
-        Motion.bfsDist[Motion.stepOffset + 7] = (Motion.bfsCurr[7] | Motion.bfsCurr[6] | Motion.bfsCurr[8]) & (Motion.bitmask ^ Motion.bfsMap[7]);
-        Motion.bfsDist[Motion.stepOffset + 8] = (Motion.bfsCurr[8] | Motion.bfsCurr[7] | Motion.bfsCurr[9]) & (Motion.bitmask ^ Motion.bfsMap[8]);
-        Motion.bfsDist[Motion.stepOffset + 9] = (Motion.bfsCurr[9] | Motion.bfsCurr[8] | Motion.bfsCurr[10]) & (Motion.bitmask ^ Motion.bfsMap[9]);
-        Motion.bfsDist[Motion.stepOffset + 10] = (Motion.bfsCurr[10] | Motion.bfsCurr[9] | Motion.bfsCurr[11]) & (Motion.bitmask ^ Motion.bfsMap[10]);
-        Motion.bfsDist[Motion.stepOffset + 11] = (Motion.bfsCurr[11] | Motion.bfsCurr[10] | Motion.bfsCurr[12]) & (Motion.bitmask ^ Motion.bfsMap[11]);
-        Motion.bfsDist[Motion.stepOffset + 12] = (Motion.bfsCurr[12] | Motion.bfsCurr[11] | Motion.bfsCurr[13]) & (Motion.bitmask ^ Motion.bfsMap[12]);
-        Motion.bfsDist[Motion.stepOffset + 13] = (Motion.bfsCurr[13] | Motion.bfsCurr[12] | Motion.bfsCurr[14]) & (Motion.bitmask ^ Motion.bfsMap[13]);
-        Motion.bfsDist[Motion.stepOffset + 14] = (Motion.bfsCurr[14] | Motion.bfsCurr[13] | Motion.bfsCurr[15]) & (Motion.bitmask ^ Motion.bfsMap[14]);
-        Motion.bfsDist[Motion.stepOffset + 15] = (Motion.bfsCurr[15] | Motion.bfsCurr[14] | Motion.bfsCurr[16]) & (Motion.bitmask ^ Motion.bfsMap[15]);
-        Motion.bfsDist[Motion.stepOffset + 16] = (Motion.bfsCurr[16] | Motion.bfsCurr[15] | Motion.bfsCurr[17]) & (Motion.bitmask ^ Motion.bfsMap[16]);
-        Motion.bfsDist[Motion.stepOffset + 17] = (Motion.bfsCurr[17] | Motion.bfsCurr[16] | Motion.bfsCurr[18]) & (Motion.bitmask ^ Motion.bfsMap[17]);
-        Motion.bfsDist[Motion.stepOffset + 18] = (Motion.bfsCurr[18] | Motion.bfsCurr[17] | Motion.bfsCurr[19]) & (Motion.bitmask ^ Motion.bfsMap[18]);
-        Motion.bfsDist[Motion.stepOffset + 19] = (Motion.bfsCurr[19] | Motion.bfsCurr[18] | Motion.bfsCurr[20]) & (Motion.bitmask ^ Motion.bfsMap[19]);
-        Motion.bfsDist[Motion.stepOffset + 20] = (Motion.bfsCurr[20] | Motion.bfsCurr[19] | Motion.bfsCurr[21]) & (Motion.bitmask ^ Motion.bfsMap[20]);
-        Motion.bfsCurr[1] = Motion.bfsDist[Motion.stepOffset + 1];
-        Motion.bfsCurr[2] = Motion.bfsDist[Motion.stepOffset + 2];
-        Motion.bfsCurr[3] = Motion.bfsDist[Motion.stepOffset + 3];
-        Motion.bfsCurr[4] = Motion.bfsDist[Motion.stepOffset + 4];
-        Motion.bfsCurr[5] = Motion.bfsDist[Motion.stepOffset + 5];
-        Motion.bfsCurr[6] = Motion.bfsDist[Motion.stepOffset + 6];
-        Motion.bfsCurr[7] = Motion.bfsDist[Motion.stepOffset + 7];
-        Motion.bfsCurr[8] = Motion.bfsDist[Motion.stepOffset + 8];
-        Motion.bfsCurr[9] = Motion.bfsDist[Motion.stepOffset + 9];
-        Motion.bfsCurr[10] = Motion.bfsDist[Motion.stepOffset + 10];
-        Motion.bfsCurr[11] = Motion.bfsDist[Motion.stepOffset + 11];
-        Motion.bfsCurr[12] = Motion.bfsDist[Motion.stepOffset + 12];
-        Motion.bfsCurr[13] = Motion.bfsDist[Motion.stepOffset + 13];
-        Motion.bfsCurr[14] = Motion.bfsDist[Motion.stepOffset + 14];
-        Motion.bfsCurr[15] = Motion.bfsDist[Motion.stepOffset + 15];
-        Motion.bfsCurr[16] = Motion.bfsDist[Motion.stepOffset + 16];
-        Motion.bfsCurr[17] = Motion.bfsDist[Motion.stepOffset + 17];
-        Motion.bfsCurr[18] = Motion.bfsDist[Motion.stepOffset + 18];
-        Motion.bfsCurr[19] = Motion.bfsDist[Motion.stepOffset + 19];
-        Motion.bfsCurr[20] = Motion.bfsDist[Motion.stepOffset + 20];
-    }
-    public static void bfs21() {
-        Motion.bfsCurr[1] = Motion.bfsCurr[1] | (Motion.bfsCurr[1] >> 1) | (Motion.bfsCurr[1] << 1);
-        Motion.bfsCurr[2] = Motion.bfsCurr[2] | (Motion.bfsCurr[2] >> 1) | (Motion.bfsCurr[2] << 1);
-        Motion.bfsCurr[3] = Motion.bfsCurr[3] | (Motion.bfsCurr[3] >> 1) | (Motion.bfsCurr[3] << 1);
-        Motion.bfsCurr[4] = Motion.bfsCurr[4] | (Motion.bfsCurr[4] >> 1) | (Motion.bfsCurr[4] << 1);
-        Motion.bfsCurr[5] = Motion.bfsCurr[5] | (Motion.bfsCurr[5] >> 1) | (Motion.bfsCurr[5] << 1);
-        Motion.bfsCurr[6] = Motion.bfsCurr[6] | (Motion.bfsCurr[6] >> 1) | (Motion.bfsCurr[6] << 1);
-        Motion.bfsCurr[7] = Motion.bfsCurr[7] | (Motion.bfsCurr[7] >> 1) | (Motion.bfsCurr[7] << 1);
-        Motion.bfsCurr[8] = Motion.bfsCurr[8] | (Motion.bfsCurr[8] >> 1) | (Motion.bfsCurr[8] << 1);
-        Motion.bfsCurr[9] = Motion.bfsCurr[9] | (Motion.bfsCurr[9] >> 1) | (Motion.bfsCurr[9] << 1);
-        Motion.bfsCurr[10] = Motion.bfsCurr[10] | (Motion.bfsCurr[10] >> 1) | (Motion.bfsCurr[10] << 1);
-        Motion.bfsCurr[11] = Motion.bfsCurr[11] | (Motion.bfsCurr[11] >> 1) | (Motion.bfsCurr[11] << 1);
-        Motion.bfsCurr[12] = Motion.bfsCurr[12] | (Motion.bfsCurr[12] >> 1) | (Motion.bfsCurr[12] << 1);
-        Motion.bfsCurr[13] = Motion.bfsCurr[13] | (Motion.bfsCurr[13] >> 1) | (Motion.bfsCurr[13] << 1);
-        Motion.bfsCurr[14] = Motion.bfsCurr[14] | (Motion.bfsCurr[14] >> 1) | (Motion.bfsCurr[14] << 1);
-        Motion.bfsCurr[15] = Motion.bfsCurr[15] | (Motion.bfsCurr[15] >> 1) | (Motion.bfsCurr[15] << 1);
-        Motion.bfsCurr[16] = Motion.bfsCurr[16] | (Motion.bfsCurr[16] >> 1) | (Motion.bfsCurr[16] << 1);
-        Motion.bfsCurr[17] = Motion.bfsCurr[17] | (Motion.bfsCurr[17] >> 1) | (Motion.bfsCurr[17] << 1);
-        Motion.bfsCurr[18] = Motion.bfsCurr[18] | (Motion.bfsCurr[18] >> 1) | (Motion.bfsCurr[18] << 1);
-        Motion.bfsCurr[19] = Motion.bfsCurr[19] | (Motion.bfsCurr[19] >> 1) | (Motion.bfsCurr[19] << 1);
-        Motion.bfsCurr[20] = Motion.bfsCurr[20] | (Motion.bfsCurr[20] >> 1) | (Motion.bfsCurr[20] << 1);
-        Motion.bfsCurr[21] = Motion.bfsCurr[21] | (Motion.bfsCurr[21] >> 1) | (Motion.bfsCurr[21] << 1);
-        Motion.bfsDist[Motion.stepOffset + 1] = (Motion.bfsCurr[1] | Motion.bfsCurr[0] | Motion.bfsCurr[2]) & (Motion.bitmask ^ Motion.bfsMap[1]);
-        Motion.bfsDist[Motion.stepOffset + 2] = (Motion.bfsCurr[2] | Motion.bfsCurr[1] | Motion.bfsCurr[3]) & (Motion.bitmask ^ Motion.bfsMap[2]);
-        Motion.bfsDist[Motion.stepOffset + 3] = (Motion.bfsCurr[3] | Motion.bfsCurr[2] | Motion.bfsCurr[4]) & (Motion.bitmask ^ Motion.bfsMap[3]);
-        Motion.bfsDist[Motion.stepOffset + 4] = (Motion.bfsCurr[4] | Motion.bfsCurr[3] | Motion.bfsCurr[5]) & (Motion.bitmask ^ Motion.bfsMap[4]);
-        Motion.bfsDist[Motion.stepOffset + 5] = (Motion.bfsCurr[5] | Motion.bfsCurr[4] | Motion.bfsCurr[6]) & (Motion.bitmask ^ Motion.bfsMap[5]);
-        Motion.bfsDist[Motion.stepOffset + 6] = (Motion.bfsCurr[6] | Motion.bfsCurr[5] | Motion.bfsCurr[7]) & (Motion.bitmask ^ Motion.bfsMap[6]);
-        Motion.bfsDist[Motion.stepOffset + 7] = (Motion.bfsCurr[7] | Motion.bfsCurr[6] | Motion.bfsCurr[8]) & (Motion.bitmask ^ Motion.bfsMap[7]);
-        Motion.bfsDist[Motion.stepOffset + 8] = (Motion.bfsCurr[8] | Motion.bfsCurr[7] | Motion.bfsCurr[9]) & (Motion.bitmask ^ Motion.bfsMap[8]);
-        Motion.bfsDist[Motion.stepOffset + 9] = (Motion.bfsCurr[9] | Motion.bfsCurr[8] | Motion.bfsCurr[10]) & (Motion.bitmask ^ Motion.bfsMap[9]);
-        Motion.bfsDist[Motion.stepOffset + 10] = (Motion.bfsCurr[10] | Motion.bfsCurr[9] | Motion.bfsCurr[11]) & (Motion.bitmask ^ Motion.bfsMap[10]);
-        Motion.bfsDist[Motion.stepOffset + 11] = (Motion.bfsCurr[11] | Motion.bfsCurr[10] | Motion.bfsCurr[12]) & (Motion.bitmask ^ Motion.bfsMap[11]);
-        Motion.bfsDist[Motion.stepOffset + 12] = (Motion.bfsCurr[12] | Motion.bfsCurr[11] | Motion.bfsCurr[13]) & (Motion.bitmask ^ Motion.bfsMap[12]);
-        Motion.bfsDist[Motion.stepOffset + 13] = (Motion.bfsCurr[13] | Motion.bfsCurr[12] | Motion.bfsCurr[14]) & (Motion.bitmask ^ Motion.bfsMap[13]);
-        Motion.bfsDist[Motion.stepOffset + 14] = (Motion.bfsCurr[14] | Motion.bfsCurr[13] | Motion.bfsCurr[15]) & (Motion.bitmask ^ Motion.bfsMap[14]);
-        Motion.bfsDist[Motion.stepOffset + 15] = (Motion.bfsCurr[15] | Motion.bfsCurr[14] | Motion.bfsCurr[16]) & (Motion.bitmask ^ Motion.bfsMap[15]);
-        Motion.bfsDist[Motion.stepOffset + 16] = (Motion.bfsCurr[16] | Motion.bfsCurr[15] | Motion.bfsCurr[17]) & (Motion.bitmask ^ Motion.bfsMap[16]);
-        Motion.bfsDist[Motion.stepOffset + 17] = (Motion.bfsCurr[17] | Motion.bfsCurr[16] | Motion.bfsCurr[18]) & (Motion.bitmask ^ Motion.bfsMap[17]);
-        Motion.bfsDist[Motion.stepOffset + 18] = (Motion.bfsCurr[18] | Motion.bfsCurr[17] | Motion.bfsCurr[19]) & (Motion.bitmask ^ Motion.bfsMap[18]);
-        Motion.bfsDist[Motion.stepOffset + 19] = (Motion.bfsCurr[19] | Motion.bfsCurr[18] | Motion.bfsCurr[20]) & (Motion.bitmask ^ Motion.bfsMap[19]);
-        Motion.bfsDist[Motion.stepOffset + 20] = (Motion.bfsCurr[20] | Motion.bfsCurr[19] | Motion.bfsCurr[21]) & (Motion.bitmask ^ Motion.bfsMap[20]);
-        Motion.bfsDist[Motion.stepOffset + 21] = (Motion.bfsCurr[21] | Motion.bfsCurr[20] | Motion.bfsCurr[22]) & (Motion.bitmask ^ Motion.bfsMap[21]);
-        Motion.bfsCurr[1] = Motion.bfsDist[Motion.stepOffset + 1];
-        Motion.bfsCurr[2] = Motion.bfsDist[Motion.stepOffset + 2];
-        Motion.bfsCurr[3] = Motion.bfsDist[Motion.stepOffset + 3];
-        Motion.bfsCurr[4] = Motion.bfsDist[Motion.stepOffset + 4];
-        Motion.bfsCurr[5] = Motion.bfsDist[Motion.stepOffset + 5];
-        Motion.bfsCurr[6] = Motion.bfsDist[Motion.stepOffset + 6];
-        Motion.bfsCurr[7] = Motion.bfsDist[Motion.stepOffset + 7];
-        Motion.bfsCurr[8] = Motion.bfsDist[Motion.stepOffset + 8];
-        Motion.bfsCurr[9] = Motion.bfsDist[Motion.stepOffset + 9];
-        Motion.bfsCurr[10] = Motion.bfsDist[Motion.stepOffset + 10];
-        Motion.bfsCurr[11] = Motion.bfsDist[Motion.stepOffset + 11];
-        Motion.bfsCurr[12] = Motion.bfsDist[Motion.stepOffset + 12];
-        Motion.bfsCurr[13] = Motion.bfsDist[Motion.stepOffset + 13];
-        Motion.bfsCurr[14] = Motion.bfsDist[Motion.stepOffset + 14];
-        Motion.bfsCurr[15] = Motion.bfsDist[Motion.stepOffset + 15];
-        Motion.bfsCurr[16] = Motion.bfsDist[Motion.stepOffset + 16];
-        Motion.bfsCurr[17] = Motion.bfsDist[Motion.stepOffset + 17];
-        Motion.bfsCurr[18] = Motion.bfsDist[Motion.stepOffset + 18];
-        Motion.bfsCurr[19] = Motion.bfsDist[Motion.stepOffset + 19];
-        Motion.bfsCurr[20] = Motion.bfsDist[Motion.stepOffset + 20];
-        Motion.bfsCurr[21] = Motion.bfsDist[Motion.stepOffset + 21];
-    }
-    public static void bfs22() {
-        Motion.bfsCurr[1] = Motion.bfsCurr[1] | (Motion.bfsCurr[1] >> 1) | (Motion.bfsCurr[1] << 1);
-        Motion.bfsCurr[2] = Motion.bfsCurr[2] | (Motion.bfsCurr[2] >> 1) | (Motion.bfsCurr[2] << 1);
-        Motion.bfsCurr[3] = Motion.bfsCurr[3] | (Motion.bfsCurr[3] >> 1) | (Motion.bfsCurr[3] << 1);
-        Motion.bfsCurr[4] = Motion.bfsCurr[4] | (Motion.bfsCurr[4] >> 1) | (Motion.bfsCurr[4] << 1);
-        Motion.bfsCurr[5] = Motion.bfsCurr[5] | (Motion.bfsCurr[5] >> 1) | (Motion.bfsCurr[5] << 1);
-        Motion.bfsCurr[6] = Motion.bfsCurr[6] | (Motion.bfsCurr[6] >> 1) | (Motion.bfsCurr[6] << 1);
-        Motion.bfsCurr[7] = Motion.bfsCurr[7] | (Motion.bfsCurr[7] >> 1) | (Motion.bfsCurr[7] << 1);
-        Motion.bfsCurr[8] = Motion.bfsCurr[8] | (Motion.bfsCurr[8] >> 1) | (Motion.bfsCurr[8] << 1);
-        Motion.bfsCurr[9] = Motion.bfsCurr[9] | (Motion.bfsCurr[9] >> 1) | (Motion.bfsCurr[9] << 1);
-        Motion.bfsCurr[10] = Motion.bfsCurr[10] | (Motion.bfsCurr[10] >> 1) | (Motion.bfsCurr[10] << 1);
-        Motion.bfsCurr[11] = Motion.bfsCurr[11] | (Motion.bfsCurr[11] >> 1) | (Motion.bfsCurr[11] << 1);
-        Motion.bfsCurr[12] = Motion.bfsCurr[12] | (Motion.bfsCurr[12] >> 1) | (Motion.bfsCurr[12] << 1);
-        Motion.bfsCurr[13] = Motion.bfsCurr[13] | (Motion.bfsCurr[13] >> 1) | (Motion.bfsCurr[13] << 1);
-        Motion.bfsCurr[14] = Motion.bfsCurr[14] | (Motion.bfsCurr[14] >> 1) | (Motion.bfsCurr[14] << 1);
-        Motion.bfsCurr[15] = Motion.bfsCurr[15] | (Motion.bfsCurr[15] >> 1) | (Motion.bfsCurr[15] << 1);
-        Motion.bfsCurr[16] = Motion.bfsCurr[16] | (Motion.bfsCurr[16] >> 1) | (Motion.bfsCurr[16] << 1);
-        Motion.bfsCurr[17] = Motion.bfsCurr[17] | (Motion.bfsCurr[17] >> 1) | (Motion.bfsCurr[17] << 1);
-        Motion.bfsCurr[18] = Motion.bfsCurr[18] | (Motion.bfsCurr[18] >> 1) | (Motion.bfsCurr[18] << 1);
-        Motion.bfsCurr[19] = Motion.bfsCurr[19] | (Motion.bfsCurr[19] >> 1) | (Motion.bfsCurr[19] << 1);
-        Motion.bfsCurr[20] = Motion.bfsCurr[20] | (Motion.bfsCurr[20] >> 1) | (Motion.bfsCurr[20] << 1);
-        Motion.bfsCurr[21] = Motion.bfsCurr[21] | (Motion.bfsCurr[21] >> 1) | (Motion.bfsCurr[21] << 1);
-        Motion.bfsCurr[22] = Motion.bfsCurr[22] | (Motion.bfsCurr[22] >> 1) | (Motion.bfsCurr[22] << 1);
-        Motion.bfsDist[Motion.stepOffset + 1] = (Motion.bfsCurr[1] | Motion.bfsCurr[0] | Motion.bfsCurr[2]) & (Motion.bitmask ^ Motion.bfsMap[1]);
-        Motion.bfsDist[Motion.stepOffset + 2] = (Motion.bfsCurr[2] | Motion.bfsCurr[1] | Motion.bfsCurr[3]) & (Motion.bitmask ^ Motion.bfsMap[2]);
-        Motion.bfsDist[Motion.stepOffset + 3] = (Motion.bfsCurr[3] | Motion.bfsCurr[2] | Motion.bfsCurr[4]) & (Motion.bitmask ^ Motion.bfsMap[3]);
-        Motion.bfsDist[Motion.stepOffset + 4] = (Motion.bfsCurr[4] | Motion.bfsCurr[3] | Motion.bfsCurr[5]) & (Motion.bitmask ^ Motion.bfsMap[4]);
-        Motion.bfsDist[Motion.stepOffset + 5] = (Motion.bfsCurr[5] | Motion.bfsCurr[4] | Motion.bfsCurr[6]) & (Motion.bitmask ^ Motion.bfsMap[5]);
-        Motion.bfsDist[Motion.stepOffset + 6] = (Motion.bfsCurr[6] | Motion.bfsCurr[5] | Motion.bfsCurr[7]) & (Motion.bitmask ^ Motion.bfsMap[6]);
-        Motion.bfsDist[Motion.stepOffset + 7] = (Motion.bfsCurr[7] | Motion.bfsCurr[6] | Motion.bfsCurr[8]) & (Motion.bitmask ^ Motion.bfsMap[7]);
-        Motion.bfsDist[Motion.stepOffset + 8] = (Motion.bfsCurr[8] | Motion.bfsCurr[7] | Motion.bfsCurr[9]) & (Motion.bitmask ^ Motion.bfsMap[8]);
-        Motion.bfsDist[Motion.stepOffset + 9] = (Motion.bfsCurr[9] | Motion.bfsCurr[8] | Motion.bfsCurr[10]) & (Motion.bitmask ^ Motion.bfsMap[9]);
-        Motion.bfsDist[Motion.stepOffset + 10] = (Motion.bfsCurr[10] | Motion.bfsCurr[9] | Motion.bfsCurr[11]) & (Motion.bitmask ^ Motion.bfsMap[10]);
-        Motion.bfsDist[Motion.stepOffset + 11] = (Motion.bfsCurr[11] | Motion.bfsCurr[10] | Motion.bfsCurr[12]) & (Motion.bitmask ^ Motion.bfsMap[11]);
-        Motion.bfsDist[Motion.stepOffset + 12] = (Motion.bfsCurr[12] | Motion.bfsCurr[11] | Motion.bfsCurr[13]) & (Motion.bitmask ^ Motion.bfsMap[12]);
-        Motion.bfsDist[Motion.stepOffset + 13] = (Motion.bfsCurr[13] | Motion.bfsCurr[12] | Motion.bfsCurr[14]) & (Motion.bitmask ^ Motion.bfsMap[13]);
-        Motion.bfsDist[Motion.stepOffset + 14] = (Motion.bfsCurr[14] | Motion.bfsCurr[13] | Motion.bfsCurr[15]) & (Motion.bitmask ^ Motion.bfsMap[14]);
-        Motion.bfsDist[Motion.stepOffset + 15] = (Motion.bfsCurr[15] | Motion.bfsCurr[14] | Motion.bfsCurr[16]) & (Motion.bitmask ^ Motion.bfsMap[15]);
-        Motion.bfsDist[Motion.stepOffset + 16] = (Motion.bfsCurr[16] | Motion.bfsCurr[15] | Motion.bfsCurr[17]) & (Motion.bitmask ^ Motion.bfsMap[16]);
-        Motion.bfsDist[Motion.stepOffset + 17] = (Motion.bfsCurr[17] | Motion.bfsCurr[16] | Motion.bfsCurr[18]) & (Motion.bitmask ^ Motion.bfsMap[17]);
-        Motion.bfsDist[Motion.stepOffset + 18] = (Motion.bfsCurr[18] | Motion.bfsCurr[17] | Motion.bfsCurr[19]) & (Motion.bitmask ^ Motion.bfsMap[18]);
-        Motion.bfsDist[Motion.stepOffset + 19] = (Motion.bfsCurr[19] | Motion.bfsCurr[18] | Motion.bfsCurr[20]) & (Motion.bitmask ^ Motion.bfsMap[19]);
-        Motion.bfsDist[Motion.stepOffset + 20] = (Motion.bfsCurr[20] | Motion.bfsCurr[19] | Motion.bfsCurr[21]) & (Motion.bitmask ^ Motion.bfsMap[20]);
-        Motion.bfsDist[Motion.stepOffset + 21] = (Motion.bfsCurr[21] | Motion.bfsCurr[20] | Motion.bfsCurr[22]) & (Motion.bitmask ^ Motion.bfsMap[21]);
-        Motion.bfsDist[Motion.stepOffset + 22] = (Motion.bfsCurr[22] | Motion.bfsCurr[21] | Motion.bfsCurr[23]) & (Motion.bitmask ^ Motion.bfsMap[22]);
-        Motion.bfsCurr[1] = Motion.bfsDist[Motion.stepOffset + 1];
-        Motion.bfsCurr[2] = Motion.bfsDist[Motion.stepOffset + 2];
-        Motion.bfsCurr[3] = Motion.bfsDist[Motion.stepOffset + 3];
-        Motion.bfsCurr[4] = Motion.bfsDist[Motion.stepOffset + 4];
-        Motion.bfsCurr[5] = Motion.bfsDist[Motion.stepOffset + 5];
-        Motion.bfsCurr[6] = Motion.bfsDist[Motion.stepOffset + 6];
-        Motion.bfsCurr[7] = Motion.bfsDist[Motion.stepOffset + 7];
-        Motion.bfsCurr[8] = Motion.bfsDist[Motion.stepOffset + 8];
-        Motion.bfsCurr[9] = Motion.bfsDist[Motion.stepOffset + 9];
-        Motion.bfsCurr[10] = Motion.bfsDist[Motion.stepOffset + 10];
-        Motion.bfsCurr[11] = Motion.bfsDist[Motion.stepOffset + 11];
-        Motion.bfsCurr[12] = Motion.bfsDist[Motion.stepOffset + 12];
-        Motion.bfsCurr[13] = Motion.bfsDist[Motion.stepOffset + 13];
-        Motion.bfsCurr[14] = Motion.bfsDist[Motion.stepOffset + 14];
-        Motion.bfsCurr[15] = Motion.bfsDist[Motion.stepOffset + 15];
-        Motion.bfsCurr[16] = Motion.bfsDist[Motion.stepOffset + 16];
-        Motion.bfsCurr[17] = Motion.bfsDist[Motion.stepOffset + 17];
-        Motion.bfsCurr[18] = Motion.bfsDist[Motion.stepOffset + 18];
-        Motion.bfsCurr[19] = Motion.bfsDist[Motion.stepOffset + 19];
-        Motion.bfsCurr[20] = Motion.bfsDist[Motion.stepOffset + 20];
-        Motion.bfsCurr[21] = Motion.bfsDist[Motion.stepOffset + 21];
-        Motion.bfsCurr[22] = Motion.bfsDist[Motion.stepOffset + 22];
-    }
-    public static void bfs23() {
-        Motion.bfsCurr[1] = Motion.bfsCurr[1] | (Motion.bfsCurr[1] >> 1) | (Motion.bfsCurr[1] << 1);
-        Motion.bfsCurr[2] = Motion.bfsCurr[2] | (Motion.bfsCurr[2] >> 1) | (Motion.bfsCurr[2] << 1);
-        Motion.bfsCurr[3] = Motion.bfsCurr[3] | (Motion.bfsCurr[3] >> 1) | (Motion.bfsCurr[3] << 1);
-        Motion.bfsCurr[4] = Motion.bfsCurr[4] | (Motion.bfsCurr[4] >> 1) | (Motion.bfsCurr[4] << 1);
-        Motion.bfsCurr[5] = Motion.bfsCurr[5] | (Motion.bfsCurr[5] >> 1) | (Motion.bfsCurr[5] << 1);
-        Motion.bfsCurr[6] = Motion.bfsCurr[6] | (Motion.bfsCurr[6] >> 1) | (Motion.bfsCurr[6] << 1);
-        Motion.bfsCurr[7] = Motion.bfsCurr[7] | (Motion.bfsCurr[7] >> 1) | (Motion.bfsCurr[7] << 1);
-        Motion.bfsCurr[8] = Motion.bfsCurr[8] | (Motion.bfsCurr[8] >> 1) | (Motion.bfsCurr[8] << 1);
-        Motion.bfsCurr[9] = Motion.bfsCurr[9] | (Motion.bfsCurr[9] >> 1) | (Motion.bfsCurr[9] << 1);
-        Motion.bfsCurr[10] = Motion.bfsCurr[10] | (Motion.bfsCurr[10] >> 1) | (Motion.bfsCurr[10] << 1);
-        Motion.bfsCurr[11] = Motion.bfsCurr[11] | (Motion.bfsCurr[11] >> 1) | (Motion.bfsCurr[11] << 1);
-        Motion.bfsCurr[12] = Motion.bfsCurr[12] | (Motion.bfsCurr[12] >> 1) | (Motion.bfsCurr[12] << 1);
-        Motion.bfsCurr[13] = Motion.bfsCurr[13] | (Motion.bfsCurr[13] >> 1) | (Motion.bfsCurr[13] << 1);
-        Motion.bfsCurr[14] = Motion.bfsCurr[14] | (Motion.bfsCurr[14] >> 1) | (Motion.bfsCurr[14] << 1);
-        Motion.bfsCurr[15] = Motion.bfsCurr[15] | (Motion.bfsCurr[15] >> 1) | (Motion.bfsCurr[15] << 1);
-        Motion.bfsCurr[16] = Motion.bfsCurr[16] | (Motion.bfsCurr[16] >> 1) | (Motion.bfsCurr[16] << 1);
-        Motion.bfsCurr[17] = Motion.bfsCurr[17] | (Motion.bfsCurr[17] >> 1) | (Motion.bfsCurr[17] << 1);
-        Motion.bfsCurr[18] = Motion.bfsCurr[18] | (Motion.bfsCurr[18] >> 1) | (Motion.bfsCurr[18] << 1);
-        Motion.bfsCurr[19] = Motion.bfsCurr[19] | (Motion.bfsCurr[19] >> 1) | (Motion.bfsCurr[19] << 1);
-        Motion.bfsCurr[20] = Motion.bfsCurr[20] | (Motion.bfsCurr[20] >> 1) | (Motion.bfsCurr[20] << 1);
-        Motion.bfsCurr[21] = Motion.bfsCurr[21] | (Motion.bfsCurr[21] >> 1) | (Motion.bfsCurr[21] << 1);
-        Motion.bfsCurr[22] = Motion.bfsCurr[22] | (Motion.bfsCurr[22] >> 1) | (Motion.bfsCurr[22] << 1);
-        Motion.bfsCurr[23] = Motion.bfsCurr[23] | (Motion.bfsCurr[23] >> 1) | (Motion.bfsCurr[23] << 1);
-        Motion.bfsDist[Motion.stepOffset + 1] = (Motion.bfsCurr[1] | Motion.bfsCurr[0] | Motion.bfsCurr[2]) & (Motion.bitmask ^ Motion.bfsMap[1]);
-        Motion.bfsDist[Motion.stepOffset + 2] = (Motion.bfsCurr[2] | Motion.bfsCurr[1] | Motion.bfsCurr[3]) & (Motion.bitmask ^ Motion.bfsMap[2]);
-        Motion.bfsDist[Motion.stepOffset + 3] = (Motion.bfsCurr[3] | Motion.bfsCurr[2] | Motion.bfsCurr[4]) & (Motion.bitmask ^ Motion.bfsMap[3]);
-        Motion.bfsDist[Motion.stepOffset + 4] = (Motion.bfsCurr[4] | Motion.bfsCurr[3] | Motion.bfsCurr[5]) & (Motion.bitmask ^ Motion.bfsMap[4]);
-        Motion.bfsDist[Motion.stepOffset + 5] = (Motion.bfsCurr[5] | Motion.bfsCurr[4] | Motion.bfsCurr[6]) & (Motion.bitmask ^ Motion.bfsMap[5]);
-        Motion.bfsDist[Motion.stepOffset + 6] = (Motion.bfsCurr[6] | Motion.bfsCurr[5] | Motion.bfsCurr[7]) & (Motion.bitmask ^ Motion.bfsMap[6]);
-        Motion.bfsDist[Motion.stepOffset + 7] = (Motion.bfsCurr[7] | Motion.bfsCurr[6] | Motion.bfsCurr[8]) & (Motion.bitmask ^ Motion.bfsMap[7]);
-        Motion.bfsDist[Motion.stepOffset + 8] = (Motion.bfsCurr[8] | Motion.bfsCurr[7] | Motion.bfsCurr[9]) & (Motion.bitmask ^ Motion.bfsMap[8]);
-        Motion.bfsDist[Motion.stepOffset + 9] = (Motion.bfsCurr[9] | Motion.bfsCurr[8] | Motion.bfsCurr[10]) & (Motion.bitmask ^ Motion.bfsMap[9]);
-        Motion.bfsDist[Motion.stepOffset + 10] = (Motion.bfsCurr[10] | Motion.bfsCurr[9] | Motion.bfsCurr[11]) & (Motion.bitmask ^ Motion.bfsMap[10]);
-        Motion.bfsDist[Motion.stepOffset + 11] = (Motion.bfsCurr[11] | Motion.bfsCurr[10] | Motion.bfsCurr[12]) & (Motion.bitmask ^ Motion.bfsMap[11]);
-        Motion.bfsDist[Motion.stepOffset + 12] = (Motion.bfsCurr[12] | Motion.bfsCurr[11] | Motion.bfsCurr[13]) & (Motion.bitmask ^ Motion.bfsMap[12]);
-        Motion.bfsDist[Motion.stepOffset + 13] = (Motion.bfsCurr[13] | Motion.bfsCurr[12] | Motion.bfsCurr[14]) & (Motion.bitmask ^ Motion.bfsMap[13]);
-        Motion.bfsDist[Motion.stepOffset + 14] = (Motion.bfsCurr[14] | Motion.bfsCurr[13] | Motion.bfsCurr[15]) & (Motion.bitmask ^ Motion.bfsMap[14]);
-        Motion.bfsDist[Motion.stepOffset + 15] = (Motion.bfsCurr[15] | Motion.bfsCurr[14] | Motion.bfsCurr[16]) & (Motion.bitmask ^ Motion.bfsMap[15]);
-        Motion.bfsDist[Motion.stepOffset + 16] = (Motion.bfsCurr[16] | Motion.bfsCurr[15] | Motion.bfsCurr[17]) & (Motion.bitmask ^ Motion.bfsMap[16]);
-        Motion.bfsDist[Motion.stepOffset + 17] = (Motion.bfsCurr[17] | Motion.bfsCurr[16] | Motion.bfsCurr[18]) & (Motion.bitmask ^ Motion.bfsMap[17]);
-        Motion.bfsDist[Motion.stepOffset + 18] = (Motion.bfsCurr[18] | Motion.bfsCurr[17] | Motion.bfsCurr[19]) & (Motion.bitmask ^ Motion.bfsMap[18]);
-        Motion.bfsDist[Motion.stepOffset + 19] = (Motion.bfsCurr[19] | Motion.bfsCurr[18] | Motion.bfsCurr[20]) & (Motion.bitmask ^ Motion.bfsMap[19]);
-        Motion.bfsDist[Motion.stepOffset + 20] = (Motion.bfsCurr[20] | Motion.bfsCurr[19] | Motion.bfsCurr[21]) & (Motion.bitmask ^ Motion.bfsMap[20]);
-        Motion.bfsDist[Motion.stepOffset + 21] = (Motion.bfsCurr[21] | Motion.bfsCurr[20] | Motion.bfsCurr[22]) & (Motion.bitmask ^ Motion.bfsMap[21]);
-        Motion.bfsDist[Motion.stepOffset + 22] = (Motion.bfsCurr[22] | Motion.bfsCurr[21] | Motion.bfsCurr[23]) & (Motion.bitmask ^ Motion.bfsMap[22]);
-        Motion.bfsDist[Motion.stepOffset + 23] = (Motion.bfsCurr[23] | Motion.bfsCurr[22] | Motion.bfsCurr[24]) & (Motion.bitmask ^ Motion.bfsMap[23]);
-        Motion.bfsCurr[1] = Motion.bfsDist[Motion.stepOffset + 1];
-        Motion.bfsCurr[2] = Motion.bfsDist[Motion.stepOffset + 2];
-        Motion.bfsCurr[3] = Motion.bfsDist[Motion.stepOffset + 3];
-        Motion.bfsCurr[4] = Motion.bfsDist[Motion.stepOffset + 4];
-        Motion.bfsCurr[5] = Motion.bfsDist[Motion.stepOffset + 5];
-        Motion.bfsCurr[6] = Motion.bfsDist[Motion.stepOffset + 6];
-        Motion.bfsCurr[7] = Motion.bfsDist[Motion.stepOffset + 7];
-        Motion.bfsCurr[8] = Motion.bfsDist[Motion.stepOffset + 8];
-        Motion.bfsCurr[9] = Motion.bfsDist[Motion.stepOffset + 9];
-        Motion.bfsCurr[10] = Motion.bfsDist[Motion.stepOffset + 10];
-        Motion.bfsCurr[11] = Motion.bfsDist[Motion.stepOffset + 11];
-        Motion.bfsCurr[12] = Motion.bfsDist[Motion.stepOffset + 12];
-        Motion.bfsCurr[13] = Motion.bfsDist[Motion.stepOffset + 13];
-        Motion.bfsCurr[14] = Motion.bfsDist[Motion.stepOffset + 14];
-        Motion.bfsCurr[15] = Motion.bfsDist[Motion.stepOffset + 15];
-        Motion.bfsCurr[16] = Motion.bfsDist[Motion.stepOffset + 16];
-        Motion.bfsCurr[17] = Motion.bfsDist[Motion.stepOffset + 17];
-        Motion.bfsCurr[18] = Motion.bfsDist[Motion.stepOffset + 18];
-        Motion.bfsCurr[19] = Motion.bfsDist[Motion.stepOffset + 19];
-        Motion.bfsCurr[20] = Motion.bfsDist[Motion.stepOffset + 20];
-        Motion.bfsCurr[21] = Motion.bfsDist[Motion.stepOffset + 21];
-        Motion.bfsCurr[22] = Motion.bfsDist[Motion.stepOffset + 22];
-        Motion.bfsCurr[23] = Motion.bfsDist[Motion.stepOffset + 23];
-    }
-    public static void bfs24() {
-        Motion.bfsCurr[1] = Motion.bfsCurr[1] | (Motion.bfsCurr[1] >> 1) | (Motion.bfsCurr[1] << 1);
-        Motion.bfsCurr[2] = Motion.bfsCurr[2] | (Motion.bfsCurr[2] >> 1) | (Motion.bfsCurr[2] << 1);
-        Motion.bfsCurr[3] = Motion.bfsCurr[3] | (Motion.bfsCurr[3] >> 1) | (Motion.bfsCurr[3] << 1);
-        Motion.bfsCurr[4] = Motion.bfsCurr[4] | (Motion.bfsCurr[4] >> 1) | (Motion.bfsCurr[4] << 1);
-        Motion.bfsCurr[5] = Motion.bfsCurr[5] | (Motion.bfsCurr[5] >> 1) | (Motion.bfsCurr[5] << 1);
-        Motion.bfsCurr[6] = Motion.bfsCurr[6] | (Motion.bfsCurr[6] >> 1) | (Motion.bfsCurr[6] << 1);
-        Motion.bfsCurr[7] = Motion.bfsCurr[7] | (Motion.bfsCurr[7] >> 1) | (Motion.bfsCurr[7] << 1);
-        Motion.bfsCurr[8] = Motion.bfsCurr[8] | (Motion.bfsCurr[8] >> 1) | (Motion.bfsCurr[8] << 1);
-        Motion.bfsCurr[9] = Motion.bfsCurr[9] | (Motion.bfsCurr[9] >> 1) | (Motion.bfsCurr[9] << 1);
-        Motion.bfsCurr[10] = Motion.bfsCurr[10] | (Motion.bfsCurr[10] >> 1) | (Motion.bfsCurr[10] << 1);
-        Motion.bfsCurr[11] = Motion.bfsCurr[11] | (Motion.bfsCurr[11] >> 1) | (Motion.bfsCurr[11] << 1);
-        Motion.bfsCurr[12] = Motion.bfsCurr[12] | (Motion.bfsCurr[12] >> 1) | (Motion.bfsCurr[12] << 1);
-        Motion.bfsCurr[13] = Motion.bfsCurr[13] | (Motion.bfsCurr[13] >> 1) | (Motion.bfsCurr[13] << 1);
-        Motion.bfsCurr[14] = Motion.bfsCurr[14] | (Motion.bfsCurr[14] >> 1) | (Motion.bfsCurr[14] << 1);
-        Motion.bfsCurr[15] = Motion.bfsCurr[15] | (Motion.bfsCurr[15] >> 1) | (Motion.bfsCurr[15] << 1);
-        Motion.bfsCurr[16] = Motion.bfsCurr[16] | (Motion.bfsCurr[16] >> 1) | (Motion.bfsCurr[16] << 1);
-        Motion.bfsCurr[17] = Motion.bfsCurr[17] | (Motion.bfsCurr[17] >> 1) | (Motion.bfsCurr[17] << 1);
-        Motion.bfsCurr[18] = Motion.bfsCurr[18] | (Motion.bfsCurr[18] >> 1) | (Motion.bfsCurr[18] << 1);
-        Motion.bfsCurr[19] = Motion.bfsCurr[19] | (Motion.bfsCurr[19] >> 1) | (Motion.bfsCurr[19] << 1);
-        Motion.bfsCurr[20] = Motion.bfsCurr[20] | (Motion.bfsCurr[20] >> 1) | (Motion.bfsCurr[20] << 1);
-        Motion.bfsCurr[21] = Motion.bfsCurr[21] | (Motion.bfsCurr[21] >> 1) | (Motion.bfsCurr[21] << 1);
-        Motion.bfsCurr[22] = Motion.bfsCurr[22] | (Motion.bfsCurr[22] >> 1) | (Motion.bfsCurr[22] << 1);
-        Motion.bfsCurr[23] = Motion.bfsCurr[23] | (Motion.bfsCurr[23] >> 1) | (Motion.bfsCurr[23] << 1);
-        Motion.bfsCurr[24] = Motion.bfsCurr[24] | (Motion.bfsCurr[24] >> 1) | (Motion.bfsCurr[24] << 1);
-        Motion.bfsDist[Motion.stepOffset + 1] = (Motion.bfsCurr[1] | Motion.bfsCurr[0] | Motion.bfsCurr[2]) & (Motion.bitmask ^ Motion.bfsMap[1]);
-        Motion.bfsDist[Motion.stepOffset + 2] = (Motion.bfsCurr[2] | Motion.bfsCurr[1] | Motion.bfsCurr[3]) & (Motion.bitmask ^ Motion.bfsMap[2]);
-        Motion.bfsDist[Motion.stepOffset + 3] = (Motion.bfsCurr[3] | Motion.bfsCurr[2] | Motion.bfsCurr[4]) & (Motion.bitmask ^ Motion.bfsMap[3]);
-        Motion.bfsDist[Motion.stepOffset + 4] = (Motion.bfsCurr[4] | Motion.bfsCurr[3] | Motion.bfsCurr[5]) & (Motion.bitmask ^ Motion.bfsMap[4]);
-        Motion.bfsDist[Motion.stepOffset + 5] = (Motion.bfsCurr[5] | Motion.bfsCurr[4] | Motion.bfsCurr[6]) & (Motion.bitmask ^ Motion.bfsMap[5]);
-        Motion.bfsDist[Motion.stepOffset + 6] = (Motion.bfsCurr[6] | Motion.bfsCurr[5] | Motion.bfsCurr[7]) & (Motion.bitmask ^ Motion.bfsMap[6]);
-        Motion.bfsDist[Motion.stepOffset + 7] = (Motion.bfsCurr[7] | Motion.bfsCurr[6] | Motion.bfsCurr[8]) & (Motion.bitmask ^ Motion.bfsMap[7]);
-        Motion.bfsDist[Motion.stepOffset + 8] = (Motion.bfsCurr[8] | Motion.bfsCurr[7] | Motion.bfsCurr[9]) & (Motion.bitmask ^ Motion.bfsMap[8]);
-        Motion.bfsDist[Motion.stepOffset + 9] = (Motion.bfsCurr[9] | Motion.bfsCurr[8] | Motion.bfsCurr[10]) & (Motion.bitmask ^ Motion.bfsMap[9]);
-        Motion.bfsDist[Motion.stepOffset + 10] = (Motion.bfsCurr[10] | Motion.bfsCurr[9] | Motion.bfsCurr[11]) & (Motion.bitmask ^ Motion.bfsMap[10]);
-        Motion.bfsDist[Motion.stepOffset + 11] = (Motion.bfsCurr[11] | Motion.bfsCurr[10] | Motion.bfsCurr[12]) & (Motion.bitmask ^ Motion.bfsMap[11]);
-        Motion.bfsDist[Motion.stepOffset + 12] = (Motion.bfsCurr[12] | Motion.bfsCurr[11] | Motion.bfsCurr[13]) & (Motion.bitmask ^ Motion.bfsMap[12]);
-        Motion.bfsDist[Motion.stepOffset + 13] = (Motion.bfsCurr[13] | Motion.bfsCurr[12] | Motion.bfsCurr[14]) & (Motion.bitmask ^ Motion.bfsMap[13]);
-        Motion.bfsDist[Motion.stepOffset + 14] = (Motion.bfsCurr[14] | Motion.bfsCurr[13] | Motion.bfsCurr[15]) & (Motion.bitmask ^ Motion.bfsMap[14]);
-        Motion.bfsDist[Motion.stepOffset + 15] = (Motion.bfsCurr[15] | Motion.bfsCurr[14] | Motion.bfsCurr[16]) & (Motion.bitmask ^ Motion.bfsMap[15]);
-        Motion.bfsDist[Motion.stepOffset + 16] = (Motion.bfsCurr[16] | Motion.bfsCurr[15] | Motion.bfsCurr[17]) & (Motion.bitmask ^ Motion.bfsMap[16]);
-        Motion.bfsDist[Motion.stepOffset + 17] = (Motion.bfsCurr[17] | Motion.bfsCurr[16] | Motion.bfsCurr[18]) & (Motion.bitmask ^ Motion.bfsMap[17]);
-        Motion.bfsDist[Motion.stepOffset + 18] = (Motion.bfsCurr[18] | Motion.bfsCurr[17] | Motion.bfsCurr[19]) & (Motion.bitmask ^ Motion.bfsMap[18]);
-        Motion.bfsDist[Motion.stepOffset + 19] = (Motion.bfsCurr[19] | Motion.bfsCurr[18] | Motion.bfsCurr[20]) & (Motion.bitmask ^ Motion.bfsMap[19]);
-        Motion.bfsDist[Motion.stepOffset + 20] = (Motion.bfsCurr[20] | Motion.bfsCurr[19] | Motion.bfsCurr[21]) & (Motion.bitmask ^ Motion.bfsMap[20]);
-        Motion.bfsDist[Motion.stepOffset + 21] = (Motion.bfsCurr[21] | Motion.bfsCurr[20] | Motion.bfsCurr[22]) & (Motion.bitmask ^ Motion.bfsMap[21]);
-        Motion.bfsDist[Motion.stepOffset + 22] = (Motion.bfsCurr[22] | Motion.bfsCurr[21] | Motion.bfsCurr[23]) & (Motion.bitmask ^ Motion.bfsMap[22]);
-        Motion.bfsDist[Motion.stepOffset + 23] = (Motion.bfsCurr[23] | Motion.bfsCurr[22] | Motion.bfsCurr[24]) & (Motion.bitmask ^ Motion.bfsMap[23]);
-        Motion.bfsDist[Motion.stepOffset + 24] = (Motion.bfsCurr[24] | Motion.bfsCurr[23] | Motion.bfsCurr[25]) & (Motion.bitmask ^ Motion.bfsMap[24]);
-        Motion.bfsCurr[1] = Motion.bfsDist[Motion.stepOffset + 1];
-        Motion.bfsCurr[2] = Motion.bfsDist[Motion.stepOffset + 2];
-        Motion.bfsCurr[3] = Motion.bfsDist[Motion.stepOffset + 3];
-        Motion.bfsCurr[4] = Motion.bfsDist[Motion.stepOffset + 4];
-        Motion.bfsCurr[5] = Motion.bfsDist[Motion.stepOffset + 5];
-        Motion.bfsCurr[6] = Motion.bfsDist[Motion.stepOffset + 6];
-        Motion.bfsCurr[7] = Motion.bfsDist[Motion.stepOffset + 7];
-        Motion.bfsCurr[8] = Motion.bfsDist[Motion.stepOffset + 8];
-        Motion.bfsCurr[9] = Motion.bfsDist[Motion.stepOffset + 9];
-        Motion.bfsCurr[10] = Motion.bfsDist[Motion.stepOffset + 10];
-        Motion.bfsCurr[11] = Motion.bfsDist[Motion.stepOffset + 11];
-        Motion.bfsCurr[12] = Motion.bfsDist[Motion.stepOffset + 12];
-        Motion.bfsCurr[13] = Motion.bfsDist[Motion.stepOffset + 13];
-        Motion.bfsCurr[14] = Motion.bfsDist[Motion.stepOffset + 14];
-        Motion.bfsCurr[15] = Motion.bfsDist[Motion.stepOffset + 15];
-        Motion.bfsCurr[16] = Motion.bfsDist[Motion.stepOffset + 16];
-        Motion.bfsCurr[17] = Motion.bfsDist[Motion.stepOffset + 17];
-        Motion.bfsCurr[18] = Motion.bfsDist[Motion.stepOffset + 18];
-        Motion.bfsCurr[19] = Motion.bfsDist[Motion.stepOffset + 19];
-        Motion.bfsCurr[20] = Motion.bfsDist[Motion.stepOffset + 20];
-        Motion.bfsCurr[21] = Motion.bfsDist[Motion.stepOffset + 21];
-        Motion.bfsCurr[22] = Motion.bfsDist[Motion.stepOffset + 22];
-        Motion.bfsCurr[23] = Motion.bfsDist[Motion.stepOffset + 23];
-        Motion.bfsCurr[24] = Motion.bfsDist[Motion.stepOffset + 24];
-    }
-    public static void bfs25() {
-        Motion.bfsCurr[1] = Motion.bfsCurr[1] | (Motion.bfsCurr[1] >> 1) | (Motion.bfsCurr[1] << 1);
-        Motion.bfsCurr[2] = Motion.bfsCurr[2] | (Motion.bfsCurr[2] >> 1) | (Motion.bfsCurr[2] << 1);
-        Motion.bfsCurr[3] = Motion.bfsCurr[3] | (Motion.bfsCurr[3] >> 1) | (Motion.bfsCurr[3] << 1);
-        Motion.bfsCurr[4] = Motion.bfsCurr[4] | (Motion.bfsCurr[4] >> 1) | (Motion.bfsCurr[4] << 1);
-        Motion.bfsCurr[5] = Motion.bfsCurr[5] | (Motion.bfsCurr[5] >> 1) | (Motion.bfsCurr[5] << 1);
-        Motion.bfsCurr[6] = Motion.bfsCurr[6] | (Motion.bfsCurr[6] >> 1) | (Motion.bfsCurr[6] << 1);
-        Motion.bfsCurr[7] = Motion.bfsCurr[7] | (Motion.bfsCurr[7] >> 1) | (Motion.bfsCurr[7] << 1);
-        Motion.bfsCurr[8] = Motion.bfsCurr[8] | (Motion.bfsCurr[8] >> 1) | (Motion.bfsCurr[8] << 1);
-        Motion.bfsCurr[9] = Motion.bfsCurr[9] | (Motion.bfsCurr[9] >> 1) | (Motion.bfsCurr[9] << 1);
-        Motion.bfsCurr[10] = Motion.bfsCurr[10] | (Motion.bfsCurr[10] >> 1) | (Motion.bfsCurr[10] << 1);
-        Motion.bfsCurr[11] = Motion.bfsCurr[11] | (Motion.bfsCurr[11] >> 1) | (Motion.bfsCurr[11] << 1);
-        Motion.bfsCurr[12] = Motion.bfsCurr[12] | (Motion.bfsCurr[12] >> 1) | (Motion.bfsCurr[12] << 1);
-        Motion.bfsCurr[13] = Motion.bfsCurr[13] | (Motion.bfsCurr[13] >> 1) | (Motion.bfsCurr[13] << 1);
-        Motion.bfsCurr[14] = Motion.bfsCurr[14] | (Motion.bfsCurr[14] >> 1) | (Motion.bfsCurr[14] << 1);
-        Motion.bfsCurr[15] = Motion.bfsCurr[15] | (Motion.bfsCurr[15] >> 1) | (Motion.bfsCurr[15] << 1);
-        Motion.bfsCurr[16] = Motion.bfsCurr[16] | (Motion.bfsCurr[16] >> 1) | (Motion.bfsCurr[16] << 1);
-        Motion.bfsCurr[17] = Motion.bfsCurr[17] | (Motion.bfsCurr[17] >> 1) | (Motion.bfsCurr[17] << 1);
-        Motion.bfsCurr[18] = Motion.bfsCurr[18] | (Motion.bfsCurr[18] >> 1) | (Motion.bfsCurr[18] << 1);
-        Motion.bfsCurr[19] = Motion.bfsCurr[19] | (Motion.bfsCurr[19] >> 1) | (Motion.bfsCurr[19] << 1);
-        Motion.bfsCurr[20] = Motion.bfsCurr[20] | (Motion.bfsCurr[20] >> 1) | (Motion.bfsCurr[20] << 1);
-        Motion.bfsCurr[21] = Motion.bfsCurr[21] | (Motion.bfsCurr[21] >> 1) | (Motion.bfsCurr[21] << 1);
-        Motion.bfsCurr[22] = Motion.bfsCurr[22] | (Motion.bfsCurr[22] >> 1) | (Motion.bfsCurr[22] << 1);
-        Motion.bfsCurr[23] = Motion.bfsCurr[23] | (Motion.bfsCurr[23] >> 1) | (Motion.bfsCurr[23] << 1);
-        Motion.bfsCurr[24] = Motion.bfsCurr[24] | (Motion.bfsCurr[24] >> 1) | (Motion.bfsCurr[24] << 1);
-        Motion.bfsCurr[25] = Motion.bfsCurr[25] | (Motion.bfsCurr[25] >> 1) | (Motion.bfsCurr[25] << 1);
-        Motion.bfsDist[Motion.stepOffset + 1] = (Motion.bfsCurr[1] | Motion.bfsCurr[0] | Motion.bfsCurr[2]) & (Motion.bitmask ^ Motion.bfsMap[1]);
-        Motion.bfsDist[Motion.stepOffset + 2] = (Motion.bfsCurr[2] | Motion.bfsCurr[1] | Motion.bfsCurr[3]) & (Motion.bitmask ^ Motion.bfsMap[2]);
-        Motion.bfsDist[Motion.stepOffset + 3] = (Motion.bfsCurr[3] | Motion.bfsCurr[2] | Motion.bfsCurr[4]) & (Motion.bitmask ^ Motion.bfsMap[3]);
-        Motion.bfsDist[Motion.stepOffset + 4] = (Motion.bfsCurr[4] | Motion.bfsCurr[3] | Motion.bfsCurr[5]) & (Motion.bitmask ^ Motion.bfsMap[4]);
-        Motion.bfsDist[Motion.stepOffset + 5] = (Motion.bfsCurr[5] | Motion.bfsCurr[4] | Motion.bfsCurr[6]) & (Motion.bitmask ^ Motion.bfsMap[5]);
-        Motion.bfsDist[Motion.stepOffset + 6] = (Motion.bfsCurr[6] | Motion.bfsCurr[5] | Motion.bfsCurr[7]) & (Motion.bitmask ^ Motion.bfsMap[6]);
-        Motion.bfsDist[Motion.stepOffset + 7] = (Motion.bfsCurr[7] | Motion.bfsCurr[6] | Motion.bfsCurr[8]) & (Motion.bitmask ^ Motion.bfsMap[7]);
-        Motion.bfsDist[Motion.stepOffset + 8] = (Motion.bfsCurr[8] | Motion.bfsCurr[7] | Motion.bfsCurr[9]) & (Motion.bitmask ^ Motion.bfsMap[8]);
-        Motion.bfsDist[Motion.stepOffset + 9] = (Motion.bfsCurr[9] | Motion.bfsCurr[8] | Motion.bfsCurr[10]) & (Motion.bitmask ^ Motion.bfsMap[9]);
-        Motion.bfsDist[Motion.stepOffset + 10] = (Motion.bfsCurr[10] | Motion.bfsCurr[9] | Motion.bfsCurr[11]) & (Motion.bitmask ^ Motion.bfsMap[10]);
-        Motion.bfsDist[Motion.stepOffset + 11] = (Motion.bfsCurr[11] | Motion.bfsCurr[10] | Motion.bfsCurr[12]) & (Motion.bitmask ^ Motion.bfsMap[11]);
-        Motion.bfsDist[Motion.stepOffset + 12] = (Motion.bfsCurr[12] | Motion.bfsCurr[11] | Motion.bfsCurr[13]) & (Motion.bitmask ^ Motion.bfsMap[12]);
-        Motion.bfsDist[Motion.stepOffset + 13] = (Motion.bfsCurr[13] | Motion.bfsCurr[12] | Motion.bfsCurr[14]) & (Motion.bitmask ^ Motion.bfsMap[13]);
-        Motion.bfsDist[Motion.stepOffset + 14] = (Motion.bfsCurr[14] | Motion.bfsCurr[13] | Motion.bfsCurr[15]) & (Motion.bitmask ^ Motion.bfsMap[14]);
-        Motion.bfsDist[Motion.stepOffset + 15] = (Motion.bfsCurr[15] | Motion.bfsCurr[14] | Motion.bfsCurr[16]) & (Motion.bitmask ^ Motion.bfsMap[15]);
-        Motion.bfsDist[Motion.stepOffset + 16] = (Motion.bfsCurr[16] | Motion.bfsCurr[15] | Motion.bfsCurr[17]) & (Motion.bitmask ^ Motion.bfsMap[16]);
-        Motion.bfsDist[Motion.stepOffset + 17] = (Motion.bfsCurr[17] | Motion.bfsCurr[16] | Motion.bfsCurr[18]) & (Motion.bitmask ^ Motion.bfsMap[17]);
-        Motion.bfsDist[Motion.stepOffset + 18] = (Motion.bfsCurr[18] | Motion.bfsCurr[17] | Motion.bfsCurr[19]) & (Motion.bitmask ^ Motion.bfsMap[18]);
-        Motion.bfsDist[Motion.stepOffset + 19] = (Motion.bfsCurr[19] | Motion.bfsCurr[18] | Motion.bfsCurr[20]) & (Motion.bitmask ^ Motion.bfsMap[19]);
-        Motion.bfsDist[Motion.stepOffset + 20] = (Motion.bfsCurr[20] | Motion.bfsCurr[19] | Motion.bfsCurr[21]) & (Motion.bitmask ^ Motion.bfsMap[20]);
-        Motion.bfsDist[Motion.stepOffset + 21] = (Motion.bfsCurr[21] | Motion.bfsCurr[20] | Motion.bfsCurr[22]) & (Motion.bitmask ^ Motion.bfsMap[21]);
-        Motion.bfsDist[Motion.stepOffset + 22] = (Motion.bfsCurr[22] | Motion.bfsCurr[21] | Motion.bfsCurr[23]) & (Motion.bitmask ^ Motion.bfsMap[22]);
-        Motion.bfsDist[Motion.stepOffset + 23] = (Motion.bfsCurr[23] | Motion.bfsCurr[22] | Motion.bfsCurr[24]) & (Motion.bitmask ^ Motion.bfsMap[23]);
-        Motion.bfsDist[Motion.stepOffset + 24] = (Motion.bfsCurr[24] | Motion.bfsCurr[23] | Motion.bfsCurr[25]) & (Motion.bitmask ^ Motion.bfsMap[24]);
-        Motion.bfsDist[Motion.stepOffset + 25] = (Motion.bfsCurr[25] | Motion.bfsCurr[24] | Motion.bfsCurr[26]) & (Motion.bitmask ^ Motion.bfsMap[25]);
-        Motion.bfsCurr[1] = Motion.bfsDist[Motion.stepOffset + 1];
-        Motion.bfsCurr[2] = Motion.bfsDist[Motion.stepOffset + 2];
-        Motion.bfsCurr[3] = Motion.bfsDist[Motion.stepOffset + 3];
-        Motion.bfsCurr[4] = Motion.bfsDist[Motion.stepOffset + 4];
-        Motion.bfsCurr[5] = Motion.bfsDist[Motion.stepOffset + 5];
-        Motion.bfsCurr[6] = Motion.bfsDist[Motion.stepOffset + 6];
-        Motion.bfsCurr[7] = Motion.bfsDist[Motion.stepOffset + 7];
-        Motion.bfsCurr[8] = Motion.bfsDist[Motion.stepOffset + 8];
-        Motion.bfsCurr[9] = Motion.bfsDist[Motion.stepOffset + 9];
-        Motion.bfsCurr[10] = Motion.bfsDist[Motion.stepOffset + 10];
-        Motion.bfsCurr[11] = Motion.bfsDist[Motion.stepOffset + 11];
-        Motion.bfsCurr[12] = Motion.bfsDist[Motion.stepOffset + 12];
-        Motion.bfsCurr[13] = Motion.bfsDist[Motion.stepOffset + 13];
-        Motion.bfsCurr[14] = Motion.bfsDist[Motion.stepOffset + 14];
-        Motion.bfsCurr[15] = Motion.bfsDist[Motion.stepOffset + 15];
-        Motion.bfsCurr[16] = Motion.bfsDist[Motion.stepOffset + 16];
-        Motion.bfsCurr[17] = Motion.bfsDist[Motion.stepOffset + 17];
-        Motion.bfsCurr[18] = Motion.bfsDist[Motion.stepOffset + 18];
-        Motion.bfsCurr[19] = Motion.bfsDist[Motion.stepOffset + 19];
-        Motion.bfsCurr[20] = Motion.bfsDist[Motion.stepOffset + 20];
-        Motion.bfsCurr[21] = Motion.bfsDist[Motion.stepOffset + 21];
-        Motion.bfsCurr[22] = Motion.bfsDist[Motion.stepOffset + 22];
-        Motion.bfsCurr[23] = Motion.bfsDist[Motion.stepOffset + 23];
-        Motion.bfsCurr[24] = Motion.bfsDist[Motion.stepOffset + 24];
-        Motion.bfsCurr[25] = Motion.bfsDist[Motion.stepOffset + 25];
-    }
-    public static void bfs26() {
-        Motion.bfsCurr[1] = Motion.bfsCurr[1] | (Motion.bfsCurr[1] >> 1) | (Motion.bfsCurr[1] << 1);
-        Motion.bfsCurr[2] = Motion.bfsCurr[2] | (Motion.bfsCurr[2] >> 1) | (Motion.bfsCurr[2] << 1);
-        Motion.bfsCurr[3] = Motion.bfsCurr[3] | (Motion.bfsCurr[3] >> 1) | (Motion.bfsCurr[3] << 1);
-        Motion.bfsCurr[4] = Motion.bfsCurr[4] | (Motion.bfsCurr[4] >> 1) | (Motion.bfsCurr[4] << 1);
-        Motion.bfsCurr[5] = Motion.bfsCurr[5] | (Motion.bfsCurr[5] >> 1) | (Motion.bfsCurr[5] << 1);
-        Motion.bfsCurr[6] = Motion.bfsCurr[6] | (Motion.bfsCurr[6] >> 1) | (Motion.bfsCurr[6] << 1);
-        Motion.bfsCurr[7] = Motion.bfsCurr[7] | (Motion.bfsCurr[7] >> 1) | (Motion.bfsCurr[7] << 1);
-        Motion.bfsCurr[8] = Motion.bfsCurr[8] | (Motion.bfsCurr[8] >> 1) | (Motion.bfsCurr[8] << 1);
-        Motion.bfsCurr[9] = Motion.bfsCurr[9] | (Motion.bfsCurr[9] >> 1) | (Motion.bfsCurr[9] << 1);
-        Motion.bfsCurr[10] = Motion.bfsCurr[10] | (Motion.bfsCurr[10] >> 1) | (Motion.bfsCurr[10] << 1);
-        Motion.bfsCurr[11] = Motion.bfsCurr[11] | (Motion.bfsCurr[11] >> 1) | (Motion.bfsCurr[11] << 1);
-        Motion.bfsCurr[12] = Motion.bfsCurr[12] | (Motion.bfsCurr[12] >> 1) | (Motion.bfsCurr[12] << 1);
-        Motion.bfsCurr[13] = Motion.bfsCurr[13] | (Motion.bfsCurr[13] >> 1) | (Motion.bfsCurr[13] << 1);
-        Motion.bfsCurr[14] = Motion.bfsCurr[14] | (Motion.bfsCurr[14] >> 1) | (Motion.bfsCurr[14] << 1);
-        Motion.bfsCurr[15] = Motion.bfsCurr[15] | (Motion.bfsCurr[15] >> 1) | (Motion.bfsCurr[15] << 1);
-        Motion.bfsCurr[16] = Motion.bfsCurr[16] | (Motion.bfsCurr[16] >> 1) | (Motion.bfsCurr[16] << 1);
-        Motion.bfsCurr[17] = Motion.bfsCurr[17] | (Motion.bfsCurr[17] >> 1) | (Motion.bfsCurr[17] << 1);
-        Motion.bfsCurr[18] = Motion.bfsCurr[18] | (Motion.bfsCurr[18] >> 1) | (Motion.bfsCurr[18] << 1);
-        Motion.bfsCurr[19] = Motion.bfsCurr[19] | (Motion.bfsCurr[19] >> 1) | (Motion.bfsCurr[19] << 1);
-        Motion.bfsCurr[20] = Motion.bfsCurr[20] | (Motion.bfsCurr[20] >> 1) | (Motion.bfsCurr[20] << 1);
-        Motion.bfsCurr[21] = Motion.bfsCurr[21] | (Motion.bfsCurr[21] >> 1) | (Motion.bfsCurr[21] << 1);
-        Motion.bfsCurr[22] = Motion.bfsCurr[22] | (Motion.bfsCurr[22] >> 1) | (Motion.bfsCurr[22] << 1);
-        Motion.bfsCurr[23] = Motion.bfsCurr[23] | (Motion.bfsCurr[23] >> 1) | (Motion.bfsCurr[23] << 1);
-        Motion.bfsCurr[24] = Motion.bfsCurr[24] | (Motion.bfsCurr[24] >> 1) | (Motion.bfsCurr[24] << 1);
-        Motion.bfsCurr[25] = Motion.bfsCurr[25] | (Motion.bfsCurr[25] >> 1) | (Motion.bfsCurr[25] << 1);
-        Motion.bfsCurr[26] = Motion.bfsCurr[26] | (Motion.bfsCurr[26] >> 1) | (Motion.bfsCurr[26] << 1);
-        Motion.bfsDist[Motion.stepOffset + 1] = (Motion.bfsCurr[1] | Motion.bfsCurr[0] | Motion.bfsCurr[2]) & (Motion.bitmask ^ Motion.bfsMap[1]);
-        Motion.bfsDist[Motion.stepOffset + 2] = (Motion.bfsCurr[2] | Motion.bfsCurr[1] | Motion.bfsCurr[3]) & (Motion.bitmask ^ Motion.bfsMap[2]);
-        Motion.bfsDist[Motion.stepOffset + 3] = (Motion.bfsCurr[3] | Motion.bfsCurr[2] | Motion.bfsCurr[4]) & (Motion.bitmask ^ Motion.bfsMap[3]);
-        Motion.bfsDist[Motion.stepOffset + 4] = (Motion.bfsCurr[4] | Motion.bfsCurr[3] | Motion.bfsCurr[5]) & (Motion.bitmask ^ Motion.bfsMap[4]);
-        Motion.bfsDist[Motion.stepOffset + 5] = (Motion.bfsCurr[5] | Motion.bfsCurr[4] | Motion.bfsCurr[6]) & (Motion.bitmask ^ Motion.bfsMap[5]);
-        Motion.bfsDist[Motion.stepOffset + 6] = (Motion.bfsCurr[6] | Motion.bfsCurr[5] | Motion.bfsCurr[7]) & (Motion.bitmask ^ Motion.bfsMap[6]);
-        Motion.bfsDist[Motion.stepOffset + 7] = (Motion.bfsCurr[7] | Motion.bfsCurr[6] | Motion.bfsCurr[8]) & (Motion.bitmask ^ Motion.bfsMap[7]);
-        Motion.bfsDist[Motion.stepOffset + 8] = (Motion.bfsCurr[8] | Motion.bfsCurr[7] | Motion.bfsCurr[9]) & (Motion.bitmask ^ Motion.bfsMap[8]);
-        Motion.bfsDist[Motion.stepOffset + 9] = (Motion.bfsCurr[9] | Motion.bfsCurr[8] | Motion.bfsCurr[10]) & (Motion.bitmask ^ Motion.bfsMap[9]);
-        Motion.bfsDist[Motion.stepOffset + 10] = (Motion.bfsCurr[10] | Motion.bfsCurr[9] | Motion.bfsCurr[11]) & (Motion.bitmask ^ Motion.bfsMap[10]);
-        Motion.bfsDist[Motion.stepOffset + 11] = (Motion.bfsCurr[11] | Motion.bfsCurr[10] | Motion.bfsCurr[12]) & (Motion.bitmask ^ Motion.bfsMap[11]);
-        Motion.bfsDist[Motion.stepOffset + 12] = (Motion.bfsCurr[12] | Motion.bfsCurr[11] | Motion.bfsCurr[13]) & (Motion.bitmask ^ Motion.bfsMap[12]);
-        Motion.bfsDist[Motion.stepOffset + 13] = (Motion.bfsCurr[13] | Motion.bfsCurr[12] | Motion.bfsCurr[14]) & (Motion.bitmask ^ Motion.bfsMap[13]);
-        Motion.bfsDist[Motion.stepOffset + 14] = (Motion.bfsCurr[14] | Motion.bfsCurr[13] | Motion.bfsCurr[15]) & (Motion.bitmask ^ Motion.bfsMap[14]);
-        Motion.bfsDist[Motion.stepOffset + 15] = (Motion.bfsCurr[15] | Motion.bfsCurr[14] | Motion.bfsCurr[16]) & (Motion.bitmask ^ Motion.bfsMap[15]);
-        Motion.bfsDist[Motion.stepOffset + 16] = (Motion.bfsCurr[16] | Motion.bfsCurr[15] | Motion.bfsCurr[17]) & (Motion.bitmask ^ Motion.bfsMap[16]);
-        Motion.bfsDist[Motion.stepOffset + 17] = (Motion.bfsCurr[17] | Motion.bfsCurr[16] | Motion.bfsCurr[18]) & (Motion.bitmask ^ Motion.bfsMap[17]);
-        Motion.bfsDist[Motion.stepOffset + 18] = (Motion.bfsCurr[18] | Motion.bfsCurr[17] | Motion.bfsCurr[19]) & (Motion.bitmask ^ Motion.bfsMap[18]);
-        Motion.bfsDist[Motion.stepOffset + 19] = (Motion.bfsCurr[19] | Motion.bfsCurr[18] | Motion.bfsCurr[20]) & (Motion.bitmask ^ Motion.bfsMap[19]);
-        Motion.bfsDist[Motion.stepOffset + 20] = (Motion.bfsCurr[20] | Motion.bfsCurr[19] | Motion.bfsCurr[21]) & (Motion.bitmask ^ Motion.bfsMap[20]);
-        Motion.bfsDist[Motion.stepOffset + 21] = (Motion.bfsCurr[21] | Motion.bfsCurr[20] | Motion.bfsCurr[22]) & (Motion.bitmask ^ Motion.bfsMap[21]);
-        Motion.bfsDist[Motion.stepOffset + 22] = (Motion.bfsCurr[22] | Motion.bfsCurr[21] | Motion.bfsCurr[23]) & (Motion.bitmask ^ Motion.bfsMap[22]);
-        Motion.bfsDist[Motion.stepOffset + 23] = (Motion.bfsCurr[23] | Motion.bfsCurr[22] | Motion.bfsCurr[24]) & (Motion.bitmask ^ Motion.bfsMap[23]);
-        Motion.bfsDist[Motion.stepOffset + 24] = (Motion.bfsCurr[24] | Motion.bfsCurr[23] | Motion.bfsCurr[25]) & (Motion.bitmask ^ Motion.bfsMap[24]);
-        Motion.bfsDist[Motion.stepOffset + 25] = (Motion.bfsCurr[25] | Motion.bfsCurr[24] | Motion.bfsCurr[26]) & (Motion.bitmask ^ Motion.bfsMap[25]);
-        Motion.bfsDist[Motion.stepOffset + 26] = (Motion.bfsCurr[26] | Motion.bfsCurr[25] | Motion.bfsCurr[27]) & (Motion.bitmask ^ Motion.bfsMap[26]);
-        Motion.bfsCurr[1] = Motion.bfsDist[Motion.stepOffset + 1];
-        Motion.bfsCurr[2] = Motion.bfsDist[Motion.stepOffset + 2];
-        Motion.bfsCurr[3] = Motion.bfsDist[Motion.stepOffset + 3];
-        Motion.bfsCurr[4] = Motion.bfsDist[Motion.stepOffset + 4];
-        Motion.bfsCurr[5] = Motion.bfsDist[Motion.stepOffset + 5];
-        Motion.bfsCurr[6] = Motion.bfsDist[Motion.stepOffset + 6];
-        Motion.bfsCurr[7] = Motion.bfsDist[Motion.stepOffset + 7];
-        Motion.bfsCurr[8] = Motion.bfsDist[Motion.stepOffset + 8];
-        Motion.bfsCurr[9] = Motion.bfsDist[Motion.stepOffset + 9];
-        Motion.bfsCurr[10] = Motion.bfsDist[Motion.stepOffset + 10];
-        Motion.bfsCurr[11] = Motion.bfsDist[Motion.stepOffset + 11];
-        Motion.bfsCurr[12] = Motion.bfsDist[Motion.stepOffset + 12];
-        Motion.bfsCurr[13] = Motion.bfsDist[Motion.stepOffset + 13];
-        Motion.bfsCurr[14] = Motion.bfsDist[Motion.stepOffset + 14];
-        Motion.bfsCurr[15] = Motion.bfsDist[Motion.stepOffset + 15];
-        Motion.bfsCurr[16] = Motion.bfsDist[Motion.stepOffset + 16];
-        Motion.bfsCurr[17] = Motion.bfsDist[Motion.stepOffset + 17];
-        Motion.bfsCurr[18] = Motion.bfsDist[Motion.stepOffset + 18];
-        Motion.bfsCurr[19] = Motion.bfsDist[Motion.stepOffset + 19];
-        Motion.bfsCurr[20] = Motion.bfsDist[Motion.stepOffset + 20];
-        Motion.bfsCurr[21] = Motion.bfsDist[Motion.stepOffset + 21];
-        Motion.bfsCurr[22] = Motion.bfsDist[Motion.stepOffset + 22];
-        Motion.bfsCurr[23] = Motion.bfsDist[Motion.stepOffset + 23];
-        Motion.bfsCurr[24] = Motion.bfsDist[Motion.stepOffset + 24];
-        Motion.bfsCurr[25] = Motion.bfsDist[Motion.stepOffset + 25];
-        Motion.bfsCurr[26] = Motion.bfsDist[Motion.stepOffset + 26];
-    }
-    public static void bfs27() {
-        Motion.bfsCurr[1] = Motion.bfsCurr[1] | (Motion.bfsCurr[1] >> 1) | (Motion.bfsCurr[1] << 1);
-        Motion.bfsCurr[2] = Motion.bfsCurr[2] | (Motion.bfsCurr[2] >> 1) | (Motion.bfsCurr[2] << 1);
-        Motion.bfsCurr[3] = Motion.bfsCurr[3] | (Motion.bfsCurr[3] >> 1) | (Motion.bfsCurr[3] << 1);
-        Motion.bfsCurr[4] = Motion.bfsCurr[4] | (Motion.bfsCurr[4] >> 1) | (Motion.bfsCurr[4] << 1);
-        Motion.bfsCurr[5] = Motion.bfsCurr[5] | (Motion.bfsCurr[5] >> 1) | (Motion.bfsCurr[5] << 1);
-        Motion.bfsCurr[6] = Motion.bfsCurr[6] | (Motion.bfsCurr[6] >> 1) | (Motion.bfsCurr[6] << 1);
-        Motion.bfsCurr[7] = Motion.bfsCurr[7] | (Motion.bfsCurr[7] >> 1) | (Motion.bfsCurr[7] << 1);
-        Motion.bfsCurr[8] = Motion.bfsCurr[8] | (Motion.bfsCurr[8] >> 1) | (Motion.bfsCurr[8] << 1);
-        Motion.bfsCurr[9] = Motion.bfsCurr[9] | (Motion.bfsCurr[9] >> 1) | (Motion.bfsCurr[9] << 1);
-        Motion.bfsCurr[10] = Motion.bfsCurr[10] | (Motion.bfsCurr[10] >> 1) | (Motion.bfsCurr[10] << 1);
-        Motion.bfsCurr[11] = Motion.bfsCurr[11] | (Motion.bfsCurr[11] >> 1) | (Motion.bfsCurr[11] << 1);
-        Motion.bfsCurr[12] = Motion.bfsCurr[12] | (Motion.bfsCurr[12] >> 1) | (Motion.bfsCurr[12] << 1);
-        Motion.bfsCurr[13] = Motion.bfsCurr[13] | (Motion.bfsCurr[13] >> 1) | (Motion.bfsCurr[13] << 1);
-        Motion.bfsCurr[14] = Motion.bfsCurr[14] | (Motion.bfsCurr[14] >> 1) | (Motion.bfsCurr[14] << 1);
-        Motion.bfsCurr[15] = Motion.bfsCurr[15] | (Motion.bfsCurr[15] >> 1) | (Motion.bfsCurr[15] << 1);
-        Motion.bfsCurr[16] = Motion.bfsCurr[16] | (Motion.bfsCurr[16] >> 1) | (Motion.bfsCurr[16] << 1);
-        Motion.bfsCurr[17] = Motion.bfsCurr[17] | (Motion.bfsCurr[17] >> 1) | (Motion.bfsCurr[17] << 1);
-        Motion.bfsCurr[18] = Motion.bfsCurr[18] | (Motion.bfsCurr[18] >> 1) | (Motion.bfsCurr[18] << 1);
-        Motion.bfsCurr[19] = Motion.bfsCurr[19] | (Motion.bfsCurr[19] >> 1) | (Motion.bfsCurr[19] << 1);
-        Motion.bfsCurr[20] = Motion.bfsCurr[20] | (Motion.bfsCurr[20] >> 1) | (Motion.bfsCurr[20] << 1);
-        Motion.bfsCurr[21] = Motion.bfsCurr[21] | (Motion.bfsCurr[21] >> 1) | (Motion.bfsCurr[21] << 1);
-        Motion.bfsCurr[22] = Motion.bfsCurr[22] | (Motion.bfsCurr[22] >> 1) | (Motion.bfsCurr[22] << 1);
-        Motion.bfsCurr[23] = Motion.bfsCurr[23] | (Motion.bfsCurr[23] >> 1) | (Motion.bfsCurr[23] << 1);
-        Motion.bfsCurr[24] = Motion.bfsCurr[24] | (Motion.bfsCurr[24] >> 1) | (Motion.bfsCurr[24] << 1);
-        Motion.bfsCurr[25] = Motion.bfsCurr[25] | (Motion.bfsCurr[25] >> 1) | (Motion.bfsCurr[25] << 1);
-        Motion.bfsCurr[26] = Motion.bfsCurr[26] | (Motion.bfsCurr[26] >> 1) | (Motion.bfsCurr[26] << 1);
-        Motion.bfsCurr[27] = Motion.bfsCurr[27] | (Motion.bfsCurr[27] >> 1) | (Motion.bfsCurr[27] << 1);
-        Motion.bfsDist[Motion.stepOffset + 1] = (Motion.bfsCurr[1] | Motion.bfsCurr[0] | Motion.bfsCurr[2]) & (Motion.bitmask ^ Motion.bfsMap[1]);
-        Motion.bfsDist[Motion.stepOffset + 2] = (Motion.bfsCurr[2] | Motion.bfsCurr[1] | Motion.bfsCurr[3]) & (Motion.bitmask ^ Motion.bfsMap[2]);
-        Motion.bfsDist[Motion.stepOffset + 3] = (Motion.bfsCurr[3] | Motion.bfsCurr[2] | Motion.bfsCurr[4]) & (Motion.bitmask ^ Motion.bfsMap[3]);
-        Motion.bfsDist[Motion.stepOffset + 4] = (Motion.bfsCurr[4] | Motion.bfsCurr[3] | Motion.bfsCurr[5]) & (Motion.bitmask ^ Motion.bfsMap[4]);
-        Motion.bfsDist[Motion.stepOffset + 5] = (Motion.bfsCurr[5] | Motion.bfsCurr[4] | Motion.bfsCurr[6]) & (Motion.bitmask ^ Motion.bfsMap[5]);
-        Motion.bfsDist[Motion.stepOffset + 6] = (Motion.bfsCurr[6] | Motion.bfsCurr[5] | Motion.bfsCurr[7]) & (Motion.bitmask ^ Motion.bfsMap[6]);
-        Motion.bfsDist[Motion.stepOffset + 7] = (Motion.bfsCurr[7] | Motion.bfsCurr[6] | Motion.bfsCurr[8]) & (Motion.bitmask ^ Motion.bfsMap[7]);
-        Motion.bfsDist[Motion.stepOffset + 8] = (Motion.bfsCurr[8] | Motion.bfsCurr[7] | Motion.bfsCurr[9]) & (Motion.bitmask ^ Motion.bfsMap[8]);
-        Motion.bfsDist[Motion.stepOffset + 9] = (Motion.bfsCurr[9] | Motion.bfsCurr[8] | Motion.bfsCurr[10]) & (Motion.bitmask ^ Motion.bfsMap[9]);
-        Motion.bfsDist[Motion.stepOffset + 10] = (Motion.bfsCurr[10] | Motion.bfsCurr[9] | Motion.bfsCurr[11]) & (Motion.bitmask ^ Motion.bfsMap[10]);
-        Motion.bfsDist[Motion.stepOffset + 11] = (Motion.bfsCurr[11] | Motion.bfsCurr[10] | Motion.bfsCurr[12]) & (Motion.bitmask ^ Motion.bfsMap[11]);
-        Motion.bfsDist[Motion.stepOffset + 12] = (Motion.bfsCurr[12] | Motion.bfsCurr[11] | Motion.bfsCurr[13]) & (Motion.bitmask ^ Motion.bfsMap[12]);
-        Motion.bfsDist[Motion.stepOffset + 13] = (Motion.bfsCurr[13] | Motion.bfsCurr[12] | Motion.bfsCurr[14]) & (Motion.bitmask ^ Motion.bfsMap[13]);
-        Motion.bfsDist[Motion.stepOffset + 14] = (Motion.bfsCurr[14] | Motion.bfsCurr[13] | Motion.bfsCurr[15]) & (Motion.bitmask ^ Motion.bfsMap[14]);
-        Motion.bfsDist[Motion.stepOffset + 15] = (Motion.bfsCurr[15] | Motion.bfsCurr[14] | Motion.bfsCurr[16]) & (Motion.bitmask ^ Motion.bfsMap[15]);
-        Motion.bfsDist[Motion.stepOffset + 16] = (Motion.bfsCurr[16] | Motion.bfsCurr[15] | Motion.bfsCurr[17]) & (Motion.bitmask ^ Motion.bfsMap[16]);
-        Motion.bfsDist[Motion.stepOffset + 17] = (Motion.bfsCurr[17] | Motion.bfsCurr[16] | Motion.bfsCurr[18]) & (Motion.bitmask ^ Motion.bfsMap[17]);
-        Motion.bfsDist[Motion.stepOffset + 18] = (Motion.bfsCurr[18] | Motion.bfsCurr[17] | Motion.bfsCurr[19]) & (Motion.bitmask ^ Motion.bfsMap[18]);
-        Motion.bfsDist[Motion.stepOffset + 19] = (Motion.bfsCurr[19] | Motion.bfsCurr[18] | Motion.bfsCurr[20]) & (Motion.bitmask ^ Motion.bfsMap[19]);
-        Motion.bfsDist[Motion.stepOffset + 20] = (Motion.bfsCurr[20] | Motion.bfsCurr[19] | Motion.bfsCurr[21]) & (Motion.bitmask ^ Motion.bfsMap[20]);
-        Motion.bfsDist[Motion.stepOffset + 21] = (Motion.bfsCurr[21] | Motion.bfsCurr[20] | Motion.bfsCurr[22]) & (Motion.bitmask ^ Motion.bfsMap[21]);
-        Motion.bfsDist[Motion.stepOffset + 22] = (Motion.bfsCurr[22] | Motion.bfsCurr[21] | Motion.bfsCurr[23]) & (Motion.bitmask ^ Motion.bfsMap[22]);
-        Motion.bfsDist[Motion.stepOffset + 23] = (Motion.bfsCurr[23] | Motion.bfsCurr[22] | Motion.bfsCurr[24]) & (Motion.bitmask ^ Motion.bfsMap[23]);
-        Motion.bfsDist[Motion.stepOffset + 24] = (Motion.bfsCurr[24] | Motion.bfsCurr[23] | Motion.bfsCurr[25]) & (Motion.bitmask ^ Motion.bfsMap[24]);
-        Motion.bfsDist[Motion.stepOffset + 25] = (Motion.bfsCurr[25] | Motion.bfsCurr[24] | Motion.bfsCurr[26]) & (Motion.bitmask ^ Motion.bfsMap[25]);
-        Motion.bfsDist[Motion.stepOffset + 26] = (Motion.bfsCurr[26] | Motion.bfsCurr[25] | Motion.bfsCurr[27]) & (Motion.bitmask ^ Motion.bfsMap[26]);
-        Motion.bfsDist[Motion.stepOffset + 27] = (Motion.bfsCurr[27] | Motion.bfsCurr[26] | Motion.bfsCurr[28]) & (Motion.bitmask ^ Motion.bfsMap[27]);
-        Motion.bfsCurr[1] = Motion.bfsDist[Motion.stepOffset + 1];
-        Motion.bfsCurr[2] = Motion.bfsDist[Motion.stepOffset + 2];
-        Motion.bfsCurr[3] = Motion.bfsDist[Motion.stepOffset + 3];
-        Motion.bfsCurr[4] = Motion.bfsDist[Motion.stepOffset + 4];
-        Motion.bfsCurr[5] = Motion.bfsDist[Motion.stepOffset + 5];
-        Motion.bfsCurr[6] = Motion.bfsDist[Motion.stepOffset + 6];
-        Motion.bfsCurr[7] = Motion.bfsDist[Motion.stepOffset + 7];
-        Motion.bfsCurr[8] = Motion.bfsDist[Motion.stepOffset + 8];
-        Motion.bfsCurr[9] = Motion.bfsDist[Motion.stepOffset + 9];
-        Motion.bfsCurr[10] = Motion.bfsDist[Motion.stepOffset + 10];
-        Motion.bfsCurr[11] = Motion.bfsDist[Motion.stepOffset + 11];
-        Motion.bfsCurr[12] = Motion.bfsDist[Motion.stepOffset + 12];
-        Motion.bfsCurr[13] = Motion.bfsDist[Motion.stepOffset + 13];
-        Motion.bfsCurr[14] = Motion.bfsDist[Motion.stepOffset + 14];
-        Motion.bfsCurr[15] = Motion.bfsDist[Motion.stepOffset + 15];
-        Motion.bfsCurr[16] = Motion.bfsDist[Motion.stepOffset + 16];
-        Motion.bfsCurr[17] = Motion.bfsDist[Motion.stepOffset + 17];
-        Motion.bfsCurr[18] = Motion.bfsDist[Motion.stepOffset + 18];
-        Motion.bfsCurr[19] = Motion.bfsDist[Motion.stepOffset + 19];
-        Motion.bfsCurr[20] = Motion.bfsDist[Motion.stepOffset + 20];
-        Motion.bfsCurr[21] = Motion.bfsDist[Motion.stepOffset + 21];
-        Motion.bfsCurr[22] = Motion.bfsDist[Motion.stepOffset + 22];
-        Motion.bfsCurr[23] = Motion.bfsDist[Motion.stepOffset + 23];
-        Motion.bfsCurr[24] = Motion.bfsDist[Motion.stepOffset + 24];
-        Motion.bfsCurr[25] = Motion.bfsDist[Motion.stepOffset + 25];
-        Motion.bfsCurr[26] = Motion.bfsDist[Motion.stepOffset + 26];
-        Motion.bfsCurr[27] = Motion.bfsDist[Motion.stepOffset + 27];
-    }
-    public static void bfs28() {
-        Motion.bfsCurr[1] = Motion.bfsCurr[1] | (Motion.bfsCurr[1] >> 1) | (Motion.bfsCurr[1] << 1);
-        Motion.bfsCurr[2] = Motion.bfsCurr[2] | (Motion.bfsCurr[2] >> 1) | (Motion.bfsCurr[2] << 1);
-        Motion.bfsCurr[3] = Motion.bfsCurr[3] | (Motion.bfsCurr[3] >> 1) | (Motion.bfsCurr[3] << 1);
-        Motion.bfsCurr[4] = Motion.bfsCurr[4] | (Motion.bfsCurr[4] >> 1) | (Motion.bfsCurr[4] << 1);
-        Motion.bfsCurr[5] = Motion.bfsCurr[5] | (Motion.bfsCurr[5] >> 1) | (Motion.bfsCurr[5] << 1);
-        Motion.bfsCurr[6] = Motion.bfsCurr[6] | (Motion.bfsCurr[6] >> 1) | (Motion.bfsCurr[6] << 1);
-        Motion.bfsCurr[7] = Motion.bfsCurr[7] | (Motion.bfsCurr[7] >> 1) | (Motion.bfsCurr[7] << 1);
-        Motion.bfsCurr[8] = Motion.bfsCurr[8] | (Motion.bfsCurr[8] >> 1) | (Motion.bfsCurr[8] << 1);
-        Motion.bfsCurr[9] = Motion.bfsCurr[9] | (Motion.bfsCurr[9] >> 1) | (Motion.bfsCurr[9] << 1);
-        Motion.bfsCurr[10] = Motion.bfsCurr[10] | (Motion.bfsCurr[10] >> 1) | (Motion.bfsCurr[10] << 1);
-        Motion.bfsCurr[11] = Motion.bfsCurr[11] | (Motion.bfsCurr[11] >> 1) | (Motion.bfsCurr[11] << 1);
-        Motion.bfsCurr[12] = Motion.bfsCurr[12] | (Motion.bfsCurr[12] >> 1) | (Motion.bfsCurr[12] << 1);
-        Motion.bfsCurr[13] = Motion.bfsCurr[13] | (Motion.bfsCurr[13] >> 1) | (Motion.bfsCurr[13] << 1);
-        Motion.bfsCurr[14] = Motion.bfsCurr[14] | (Motion.bfsCurr[14] >> 1) | (Motion.bfsCurr[14] << 1);
-        Motion.bfsCurr[15] = Motion.bfsCurr[15] | (Motion.bfsCurr[15] >> 1) | (Motion.bfsCurr[15] << 1);
-        Motion.bfsCurr[16] = Motion.bfsCurr[16] | (Motion.bfsCurr[16] >> 1) | (Motion.bfsCurr[16] << 1);
-        Motion.bfsCurr[17] = Motion.bfsCurr[17] | (Motion.bfsCurr[17] >> 1) | (Motion.bfsCurr[17] << 1);
-        Motion.bfsCurr[18] = Motion.bfsCurr[18] | (Motion.bfsCurr[18] >> 1) | (Motion.bfsCurr[18] << 1);
-        Motion.bfsCurr[19] = Motion.bfsCurr[19] | (Motion.bfsCurr[19] >> 1) | (Motion.bfsCurr[19] << 1);
-        Motion.bfsCurr[20] = Motion.bfsCurr[20] | (Motion.bfsCurr[20] >> 1) | (Motion.bfsCurr[20] << 1);
-        Motion.bfsCurr[21] = Motion.bfsCurr[21] | (Motion.bfsCurr[21] >> 1) | (Motion.bfsCurr[21] << 1);
-        Motion.bfsCurr[22] = Motion.bfsCurr[22] | (Motion.bfsCurr[22] >> 1) | (Motion.bfsCurr[22] << 1);
-        Motion.bfsCurr[23] = Motion.bfsCurr[23] | (Motion.bfsCurr[23] >> 1) | (Motion.bfsCurr[23] << 1);
-        Motion.bfsCurr[24] = Motion.bfsCurr[24] | (Motion.bfsCurr[24] >> 1) | (Motion.bfsCurr[24] << 1);
-        Motion.bfsCurr[25] = Motion.bfsCurr[25] | (Motion.bfsCurr[25] >> 1) | (Motion.bfsCurr[25] << 1);
-        Motion.bfsCurr[26] = Motion.bfsCurr[26] | (Motion.bfsCurr[26] >> 1) | (Motion.bfsCurr[26] << 1);
-        Motion.bfsCurr[27] = Motion.bfsCurr[27] | (Motion.bfsCurr[27] >> 1) | (Motion.bfsCurr[27] << 1);
-        Motion.bfsCurr[28] = Motion.bfsCurr[28] | (Motion.bfsCurr[28] >> 1) | (Motion.bfsCurr[28] << 1);
-        Motion.bfsDist[Motion.stepOffset + 1] = (Motion.bfsCurr[1] | Motion.bfsCurr[0] | Motion.bfsCurr[2]) & (Motion.bitmask ^ Motion.bfsMap[1]);
-        Motion.bfsDist[Motion.stepOffset + 2] = (Motion.bfsCurr[2] | Motion.bfsCurr[1] | Motion.bfsCurr[3]) & (Motion.bitmask ^ Motion.bfsMap[2]);
-        Motion.bfsDist[Motion.stepOffset + 3] = (Motion.bfsCurr[3] | Motion.bfsCurr[2] | Motion.bfsCurr[4]) & (Motion.bitmask ^ Motion.bfsMap[3]);
-        Motion.bfsDist[Motion.stepOffset + 4] = (Motion.bfsCurr[4] | Motion.bfsCurr[3] | Motion.bfsCurr[5]) & (Motion.bitmask ^ Motion.bfsMap[4]);
-        Motion.bfsDist[Motion.stepOffset + 5] = (Motion.bfsCurr[5] | Motion.bfsCurr[4] | Motion.bfsCurr[6]) & (Motion.bitmask ^ Motion.bfsMap[5]);
-        Motion.bfsDist[Motion.stepOffset + 6] = (Motion.bfsCurr[6] | Motion.bfsCurr[5] | Motion.bfsCurr[7]) & (Motion.bitmask ^ Motion.bfsMap[6]);
-        Motion.bfsDist[Motion.stepOffset + 7] = (Motion.bfsCurr[7] | Motion.bfsCurr[6] | Motion.bfsCurr[8]) & (Motion.bitmask ^ Motion.bfsMap[7]);
-        Motion.bfsDist[Motion.stepOffset + 8] = (Motion.bfsCurr[8] | Motion.bfsCurr[7] | Motion.bfsCurr[9]) & (Motion.bitmask ^ Motion.bfsMap[8]);
-        Motion.bfsDist[Motion.stepOffset + 9] = (Motion.bfsCurr[9] | Motion.bfsCurr[8] | Motion.bfsCurr[10]) & (Motion.bitmask ^ Motion.bfsMap[9]);
-        Motion.bfsDist[Motion.stepOffset + 10] = (Motion.bfsCurr[10] | Motion.bfsCurr[9] | Motion.bfsCurr[11]) & (Motion.bitmask ^ Motion.bfsMap[10]);
-        Motion.bfsDist[Motion.stepOffset + 11] = (Motion.bfsCurr[11] | Motion.bfsCurr[10] | Motion.bfsCurr[12]) & (Motion.bitmask ^ Motion.bfsMap[11]);
-        Motion.bfsDist[Motion.stepOffset + 12] = (Motion.bfsCurr[12] | Motion.bfsCurr[11] | Motion.bfsCurr[13]) & (Motion.bitmask ^ Motion.bfsMap[12]);
-        Motion.bfsDist[Motion.stepOffset + 13] = (Motion.bfsCurr[13] | Motion.bfsCurr[12] | Motion.bfsCurr[14]) & (Motion.bitmask ^ Motion.bfsMap[13]);
-        Motion.bfsDist[Motion.stepOffset + 14] = (Motion.bfsCurr[14] | Motion.bfsCurr[13] | Motion.bfsCurr[15]) & (Motion.bitmask ^ Motion.bfsMap[14]);
-        Motion.bfsDist[Motion.stepOffset + 15] = (Motion.bfsCurr[15] | Motion.bfsCurr[14] | Motion.bfsCurr[16]) & (Motion.bitmask ^ Motion.bfsMap[15]);
-        Motion.bfsDist[Motion.stepOffset + 16] = (Motion.bfsCurr[16] | Motion.bfsCurr[15] | Motion.bfsCurr[17]) & (Motion.bitmask ^ Motion.bfsMap[16]);
-        Motion.bfsDist[Motion.stepOffset + 17] = (Motion.bfsCurr[17] | Motion.bfsCurr[16] | Motion.bfsCurr[18]) & (Motion.bitmask ^ Motion.bfsMap[17]);
-        Motion.bfsDist[Motion.stepOffset + 18] = (Motion.bfsCurr[18] | Motion.bfsCurr[17] | Motion.bfsCurr[19]) & (Motion.bitmask ^ Motion.bfsMap[18]);
-        Motion.bfsDist[Motion.stepOffset + 19] = (Motion.bfsCurr[19] | Motion.bfsCurr[18] | Motion.bfsCurr[20]) & (Motion.bitmask ^ Motion.bfsMap[19]);
-        Motion.bfsDist[Motion.stepOffset + 20] = (Motion.bfsCurr[20] | Motion.bfsCurr[19] | Motion.bfsCurr[21]) & (Motion.bitmask ^ Motion.bfsMap[20]);
-        Motion.bfsDist[Motion.stepOffset + 21] = (Motion.bfsCurr[21] | Motion.bfsCurr[20] | Motion.bfsCurr[22]) & (Motion.bitmask ^ Motion.bfsMap[21]);
-        Motion.bfsDist[Motion.stepOffset + 22] = (Motion.bfsCurr[22] | Motion.bfsCurr[21] | Motion.bfsCurr[23]) & (Motion.bitmask ^ Motion.bfsMap[22]);
-        Motion.bfsDist[Motion.stepOffset + 23] = (Motion.bfsCurr[23] | Motion.bfsCurr[22] | Motion.bfsCurr[24]) & (Motion.bitmask ^ Motion.bfsMap[23]);
-        Motion.bfsDist[Motion.stepOffset + 24] = (Motion.bfsCurr[24] | Motion.bfsCurr[23] | Motion.bfsCurr[25]) & (Motion.bitmask ^ Motion.bfsMap[24]);
-        Motion.bfsDist[Motion.stepOffset + 25] = (Motion.bfsCurr[25] | Motion.bfsCurr[24] | Motion.bfsCurr[26]) & (Motion.bitmask ^ Motion.bfsMap[25]);
-        Motion.bfsDist[Motion.stepOffset + 26] = (Motion.bfsCurr[26] | Motion.bfsCurr[25] | Motion.bfsCurr[27]) & (Motion.bitmask ^ Motion.bfsMap[26]);
-        Motion.bfsDist[Motion.stepOffset + 27] = (Motion.bfsCurr[27] | Motion.bfsCurr[26] | Motion.bfsCurr[28]) & (Motion.bitmask ^ Motion.bfsMap[27]);
-        Motion.bfsDist[Motion.stepOffset + 28] = (Motion.bfsCurr[28] | Motion.bfsCurr[27] | Motion.bfsCurr[29]) & (Motion.bitmask ^ Motion.bfsMap[28]);
-        Motion.bfsCurr[1] = Motion.bfsDist[Motion.stepOffset + 1];
-        Motion.bfsCurr[2] = Motion.bfsDist[Motion.stepOffset + 2];
-        Motion.bfsCurr[3] = Motion.bfsDist[Motion.stepOffset + 3];
-        Motion.bfsCurr[4] = Motion.bfsDist[Motion.stepOffset + 4];
-        Motion.bfsCurr[5] = Motion.bfsDist[Motion.stepOffset + 5];
-        Motion.bfsCurr[6] = Motion.bfsDist[Motion.stepOffset + 6];
-        Motion.bfsCurr[7] = Motion.bfsDist[Motion.stepOffset + 7];
-        Motion.bfsCurr[8] = Motion.bfsDist[Motion.stepOffset + 8];
-        Motion.bfsCurr[9] = Motion.bfsDist[Motion.stepOffset + 9];
-        Motion.bfsCurr[10] = Motion.bfsDist[Motion.stepOffset + 10];
-        Motion.bfsCurr[11] = Motion.bfsDist[Motion.stepOffset + 11];
-        Motion.bfsCurr[12] = Motion.bfsDist[Motion.stepOffset + 12];
-        Motion.bfsCurr[13] = Motion.bfsDist[Motion.stepOffset + 13];
-        Motion.bfsCurr[14] = Motion.bfsDist[Motion.stepOffset + 14];
-        Motion.bfsCurr[15] = Motion.bfsDist[Motion.stepOffset + 15];
-        Motion.bfsCurr[16] = Motion.bfsDist[Motion.stepOffset + 16];
-        Motion.bfsCurr[17] = Motion.bfsDist[Motion.stepOffset + 17];
-        Motion.bfsCurr[18] = Motion.bfsDist[Motion.stepOffset + 18];
-        Motion.bfsCurr[19] = Motion.bfsDist[Motion.stepOffset + 19];
-        Motion.bfsCurr[20] = Motion.bfsDist[Motion.stepOffset + 20];
-        Motion.bfsCurr[21] = Motion.bfsDist[Motion.stepOffset + 21];
-        Motion.bfsCurr[22] = Motion.bfsDist[Motion.stepOffset + 22];
-        Motion.bfsCurr[23] = Motion.bfsDist[Motion.stepOffset + 23];
-        Motion.bfsCurr[24] = Motion.bfsDist[Motion.stepOffset + 24];
-        Motion.bfsCurr[25] = Motion.bfsDist[Motion.stepOffset + 25];
-        Motion.bfsCurr[26] = Motion.bfsDist[Motion.stepOffset + 26];
-        Motion.bfsCurr[27] = Motion.bfsDist[Motion.stepOffset + 27];
-        Motion.bfsCurr[28] = Motion.bfsDist[Motion.stepOffset + 28];
-    }
-    public static void bfs29() {
-        Motion.bfsCurr[1] = Motion.bfsCurr[1] | (Motion.bfsCurr[1] >> 1) | (Motion.bfsCurr[1] << 1);
-        Motion.bfsCurr[2] = Motion.bfsCurr[2] | (Motion.bfsCurr[2] >> 1) | (Motion.bfsCurr[2] << 1);
-        Motion.bfsCurr[3] = Motion.bfsCurr[3] | (Motion.bfsCurr[3] >> 1) | (Motion.bfsCurr[3] << 1);
-        Motion.bfsCurr[4] = Motion.bfsCurr[4] | (Motion.bfsCurr[4] >> 1) | (Motion.bfsCurr[4] << 1);
-        Motion.bfsCurr[5] = Motion.bfsCurr[5] | (Motion.bfsCurr[5] >> 1) | (Motion.bfsCurr[5] << 1);
-        Motion.bfsCurr[6] = Motion.bfsCurr[6] | (Motion.bfsCurr[6] >> 1) | (Motion.bfsCurr[6] << 1);
-        Motion.bfsCurr[7] = Motion.bfsCurr[7] | (Motion.bfsCurr[7] >> 1) | (Motion.bfsCurr[7] << 1);
-        Motion.bfsCurr[8] = Motion.bfsCurr[8] | (Motion.bfsCurr[8] >> 1) | (Motion.bfsCurr[8] << 1);
-        Motion.bfsCurr[9] = Motion.bfsCurr[9] | (Motion.bfsCurr[9] >> 1) | (Motion.bfsCurr[9] << 1);
-        Motion.bfsCurr[10] = Motion.bfsCurr[10] | (Motion.bfsCurr[10] >> 1) | (Motion.bfsCurr[10] << 1);
-        Motion.bfsCurr[11] = Motion.bfsCurr[11] | (Motion.bfsCurr[11] >> 1) | (Motion.bfsCurr[11] << 1);
-        Motion.bfsCurr[12] = Motion.bfsCurr[12] | (Motion.bfsCurr[12] >> 1) | (Motion.bfsCurr[12] << 1);
-        Motion.bfsCurr[13] = Motion.bfsCurr[13] | (Motion.bfsCurr[13] >> 1) | (Motion.bfsCurr[13] << 1);
-        Motion.bfsCurr[14] = Motion.bfsCurr[14] | (Motion.bfsCurr[14] >> 1) | (Motion.bfsCurr[14] << 1);
-        Motion.bfsCurr[15] = Motion.bfsCurr[15] | (Motion.bfsCurr[15] >> 1) | (Motion.bfsCurr[15] << 1);
-        Motion.bfsCurr[16] = Motion.bfsCurr[16] | (Motion.bfsCurr[16] >> 1) | (Motion.bfsCurr[16] << 1);
-        Motion.bfsCurr[17] = Motion.bfsCurr[17] | (Motion.bfsCurr[17] >> 1) | (Motion.bfsCurr[17] << 1);
-        Motion.bfsCurr[18] = Motion.bfsCurr[18] | (Motion.bfsCurr[18] >> 1) | (Motion.bfsCurr[18] << 1);
-        Motion.bfsCurr[19] = Motion.bfsCurr[19] | (Motion.bfsCurr[19] >> 1) | (Motion.bfsCurr[19] << 1);
-        Motion.bfsCurr[20] = Motion.bfsCurr[20] | (Motion.bfsCurr[20] >> 1) | (Motion.bfsCurr[20] << 1);
-        Motion.bfsCurr[21] = Motion.bfsCurr[21] | (Motion.bfsCurr[21] >> 1) | (Motion.bfsCurr[21] << 1);
-        Motion.bfsCurr[22] = Motion.bfsCurr[22] | (Motion.bfsCurr[22] >> 1) | (Motion.bfsCurr[22] << 1);
-        Motion.bfsCurr[23] = Motion.bfsCurr[23] | (Motion.bfsCurr[23] >> 1) | (Motion.bfsCurr[23] << 1);
-        Motion.bfsCurr[24] = Motion.bfsCurr[24] | (Motion.bfsCurr[24] >> 1) | (Motion.bfsCurr[24] << 1);
-        Motion.bfsCurr[25] = Motion.bfsCurr[25] | (Motion.bfsCurr[25] >> 1) | (Motion.bfsCurr[25] << 1);
-        Motion.bfsCurr[26] = Motion.bfsCurr[26] | (Motion.bfsCurr[26] >> 1) | (Motion.bfsCurr[26] << 1);
-        Motion.bfsCurr[27] = Motion.bfsCurr[27] | (Motion.bfsCurr[27] >> 1) | (Motion.bfsCurr[27] << 1);
-        Motion.bfsCurr[28] = Motion.bfsCurr[28] | (Motion.bfsCurr[28] >> 1) | (Motion.bfsCurr[28] << 1);
-        Motion.bfsCurr[29] = Motion.bfsCurr[29] | (Motion.bfsCurr[29] >> 1) | (Motion.bfsCurr[29] << 1);
-        Motion.bfsDist[Motion.stepOffset + 1] = (Motion.bfsCurr[1] | Motion.bfsCurr[0] | Motion.bfsCurr[2]) & (Motion.bitmask ^ Motion.bfsMap[1]);
-        Motion.bfsDist[Motion.stepOffset + 2] = (Motion.bfsCurr[2] | Motion.bfsCurr[1] | Motion.bfsCurr[3]) & (Motion.bitmask ^ Motion.bfsMap[2]);
-        Motion.bfsDist[Motion.stepOffset + 3] = (Motion.bfsCurr[3] | Motion.bfsCurr[2] | Motion.bfsCurr[4]) & (Motion.bitmask ^ Motion.bfsMap[3]);
-        Motion.bfsDist[Motion.stepOffset + 4] = (Motion.bfsCurr[4] | Motion.bfsCurr[3] | Motion.bfsCurr[5]) & (Motion.bitmask ^ Motion.bfsMap[4]);
-        Motion.bfsDist[Motion.stepOffset + 5] = (Motion.bfsCurr[5] | Motion.bfsCurr[4] | Motion.bfsCurr[6]) & (Motion.bitmask ^ Motion.bfsMap[5]);
-        Motion.bfsDist[Motion.stepOffset + 6] = (Motion.bfsCurr[6] | Motion.bfsCurr[5] | Motion.bfsCurr[7]) & (Motion.bitmask ^ Motion.bfsMap[6]);
-        Motion.bfsDist[Motion.stepOffset + 7] = (Motion.bfsCurr[7] | Motion.bfsCurr[6] | Motion.bfsCurr[8]) & (Motion.bitmask ^ Motion.bfsMap[7]);
-        Motion.bfsDist[Motion.stepOffset + 8] = (Motion.bfsCurr[8] | Motion.bfsCurr[7] | Motion.bfsCurr[9]) & (Motion.bitmask ^ Motion.bfsMap[8]);
-        Motion.bfsDist[Motion.stepOffset + 9] = (Motion.bfsCurr[9] | Motion.bfsCurr[8] | Motion.bfsCurr[10]) & (Motion.bitmask ^ Motion.bfsMap[9]);
-        Motion.bfsDist[Motion.stepOffset + 10] = (Motion.bfsCurr[10] | Motion.bfsCurr[9] | Motion.bfsCurr[11]) & (Motion.bitmask ^ Motion.bfsMap[10]);
-        Motion.bfsDist[Motion.stepOffset + 11] = (Motion.bfsCurr[11] | Motion.bfsCurr[10] | Motion.bfsCurr[12]) & (Motion.bitmask ^ Motion.bfsMap[11]);
-        Motion.bfsDist[Motion.stepOffset + 12] = (Motion.bfsCurr[12] | Motion.bfsCurr[11] | Motion.bfsCurr[13]) & (Motion.bitmask ^ Motion.bfsMap[12]);
-        Motion.bfsDist[Motion.stepOffset + 13] = (Motion.bfsCurr[13] | Motion.bfsCurr[12] | Motion.bfsCurr[14]) & (Motion.bitmask ^ Motion.bfsMap[13]);
-        Motion.bfsDist[Motion.stepOffset + 14] = (Motion.bfsCurr[14] | Motion.bfsCurr[13] | Motion.bfsCurr[15]) & (Motion.bitmask ^ Motion.bfsMap[14]);
-        Motion.bfsDist[Motion.stepOffset + 15] = (Motion.bfsCurr[15] | Motion.bfsCurr[14] | Motion.bfsCurr[16]) & (Motion.bitmask ^ Motion.bfsMap[15]);
-        Motion.bfsDist[Motion.stepOffset + 16] = (Motion.bfsCurr[16] | Motion.bfsCurr[15] | Motion.bfsCurr[17]) & (Motion.bitmask ^ Motion.bfsMap[16]);
-        Motion.bfsDist[Motion.stepOffset + 17] = (Motion.bfsCurr[17] | Motion.bfsCurr[16] | Motion.bfsCurr[18]) & (Motion.bitmask ^ Motion.bfsMap[17]);
-        Motion.bfsDist[Motion.stepOffset + 18] = (Motion.bfsCurr[18] | Motion.bfsCurr[17] | Motion.bfsCurr[19]) & (Motion.bitmask ^ Motion.bfsMap[18]);
-        Motion.bfsDist[Motion.stepOffset + 19] = (Motion.bfsCurr[19] | Motion.bfsCurr[18] | Motion.bfsCurr[20]) & (Motion.bitmask ^ Motion.bfsMap[19]);
-        Motion.bfsDist[Motion.stepOffset + 20] = (Motion.bfsCurr[20] | Motion.bfsCurr[19] | Motion.bfsCurr[21]) & (Motion.bitmask ^ Motion.bfsMap[20]);
-        Motion.bfsDist[Motion.stepOffset + 21] = (Motion.bfsCurr[21] | Motion.bfsCurr[20] | Motion.bfsCurr[22]) & (Motion.bitmask ^ Motion.bfsMap[21]);
-        Motion.bfsDist[Motion.stepOffset + 22] = (Motion.bfsCurr[22] | Motion.bfsCurr[21] | Motion.bfsCurr[23]) & (Motion.bitmask ^ Motion.bfsMap[22]);
-        Motion.bfsDist[Motion.stepOffset + 23] = (Motion.bfsCurr[23] | Motion.bfsCurr[22] | Motion.bfsCurr[24]) & (Motion.bitmask ^ Motion.bfsMap[23]);
-        Motion.bfsDist[Motion.stepOffset + 24] = (Motion.bfsCurr[24] | Motion.bfsCurr[23] | Motion.bfsCurr[25]) & (Motion.bitmask ^ Motion.bfsMap[24]);
-        Motion.bfsDist[Motion.stepOffset + 25] = (Motion.bfsCurr[25] | Motion.bfsCurr[24] | Motion.bfsCurr[26]) & (Motion.bitmask ^ Motion.bfsMap[25]);
-        Motion.bfsDist[Motion.stepOffset + 26] = (Motion.bfsCurr[26] | Motion.bfsCurr[25] | Motion.bfsCurr[27]) & (Motion.bitmask ^ Motion.bfsMap[26]);
-        Motion.bfsDist[Motion.stepOffset + 27] = (Motion.bfsCurr[27] | Motion.bfsCurr[26] | Motion.bfsCurr[28]) & (Motion.bitmask ^ Motion.bfsMap[27]);
-        Motion.bfsDist[Motion.stepOffset + 28] = (Motion.bfsCurr[28] | Motion.bfsCurr[27] | Motion.bfsCurr[29]) & (Motion.bitmask ^ Motion.bfsMap[28]);
-        Motion.bfsDist[Motion.stepOffset + 29] = (Motion.bfsCurr[29] | Motion.bfsCurr[28] | Motion.bfsCurr[30]) & (Motion.bitmask ^ Motion.bfsMap[29]);
-        Motion.bfsCurr[1] = Motion.bfsDist[Motion.stepOffset + 1];
-        Motion.bfsCurr[2] = Motion.bfsDist[Motion.stepOffset + 2];
-        Motion.bfsCurr[3] = Motion.bfsDist[Motion.stepOffset + 3];
-        Motion.bfsCurr[4] = Motion.bfsDist[Motion.stepOffset + 4];
-        Motion.bfsCurr[5] = Motion.bfsDist[Motion.stepOffset + 5];
-        Motion.bfsCurr[6] = Motion.bfsDist[Motion.stepOffset + 6];
-        Motion.bfsCurr[7] = Motion.bfsDist[Motion.stepOffset + 7];
-        Motion.bfsCurr[8] = Motion.bfsDist[Motion.stepOffset + 8];
-        Motion.bfsCurr[9] = Motion.bfsDist[Motion.stepOffset + 9];
-        Motion.bfsCurr[10] = Motion.bfsDist[Motion.stepOffset + 10];
-        Motion.bfsCurr[11] = Motion.bfsDist[Motion.stepOffset + 11];
-        Motion.bfsCurr[12] = Motion.bfsDist[Motion.stepOffset + 12];
-        Motion.bfsCurr[13] = Motion.bfsDist[Motion.stepOffset + 13];
-        Motion.bfsCurr[14] = Motion.bfsDist[Motion.stepOffset + 14];
-        Motion.bfsCurr[15] = Motion.bfsDist[Motion.stepOffset + 15];
-        Motion.bfsCurr[16] = Motion.bfsDist[Motion.stepOffset + 16];
-        Motion.bfsCurr[17] = Motion.bfsDist[Motion.stepOffset + 17];
-        Motion.bfsCurr[18] = Motion.bfsDist[Motion.stepOffset + 18];
-        Motion.bfsCurr[19] = Motion.bfsDist[Motion.stepOffset + 19];
-        Motion.bfsCurr[20] = Motion.bfsDist[Motion.stepOffset + 20];
-        Motion.bfsCurr[21] = Motion.bfsDist[Motion.stepOffset + 21];
-        Motion.bfsCurr[22] = Motion.bfsDist[Motion.stepOffset + 22];
-        Motion.bfsCurr[23] = Motion.bfsDist[Motion.stepOffset + 23];
-        Motion.bfsCurr[24] = Motion.bfsDist[Motion.stepOffset + 24];
-        Motion.bfsCurr[25] = Motion.bfsDist[Motion.stepOffset + 25];
-        Motion.bfsCurr[26] = Motion.bfsDist[Motion.stepOffset + 26];
-        Motion.bfsCurr[27] = Motion.bfsDist[Motion.stepOffset + 27];
-        Motion.bfsCurr[28] = Motion.bfsDist[Motion.stepOffset + 28];
-        Motion.bfsCurr[29] = Motion.bfsDist[Motion.stepOffset + 29];
-    }
-    public static void bfs30() {
-        Motion.bfsCurr[1] = Motion.bfsCurr[1] | (Motion.bfsCurr[1] >> 1) | (Motion.bfsCurr[1] << 1);
-        Motion.bfsCurr[2] = Motion.bfsCurr[2] | (Motion.bfsCurr[2] >> 1) | (Motion.bfsCurr[2] << 1);
-        Motion.bfsCurr[3] = Motion.bfsCurr[3] | (Motion.bfsCurr[3] >> 1) | (Motion.bfsCurr[3] << 1);
-        Motion.bfsCurr[4] = Motion.bfsCurr[4] | (Motion.bfsCurr[4] >> 1) | (Motion.bfsCurr[4] << 1);
-        Motion.bfsCurr[5] = Motion.bfsCurr[5] | (Motion.bfsCurr[5] >> 1) | (Motion.bfsCurr[5] << 1);
-        Motion.bfsCurr[6] = Motion.bfsCurr[6] | (Motion.bfsCurr[6] >> 1) | (Motion.bfsCurr[6] << 1);
-        Motion.bfsCurr[7] = Motion.bfsCurr[7] | (Motion.bfsCurr[7] >> 1) | (Motion.bfsCurr[7] << 1);
-        Motion.bfsCurr[8] = Motion.bfsCurr[8] | (Motion.bfsCurr[8] >> 1) | (Motion.bfsCurr[8] << 1);
-        Motion.bfsCurr[9] = Motion.bfsCurr[9] | (Motion.bfsCurr[9] >> 1) | (Motion.bfsCurr[9] << 1);
-        Motion.bfsCurr[10] = Motion.bfsCurr[10] | (Motion.bfsCurr[10] >> 1) | (Motion.bfsCurr[10] << 1);
-        Motion.bfsCurr[11] = Motion.bfsCurr[11] | (Motion.bfsCurr[11] >> 1) | (Motion.bfsCurr[11] << 1);
-        Motion.bfsCurr[12] = Motion.bfsCurr[12] | (Motion.bfsCurr[12] >> 1) | (Motion.bfsCurr[12] << 1);
-        Motion.bfsCurr[13] = Motion.bfsCurr[13] | (Motion.bfsCurr[13] >> 1) | (Motion.bfsCurr[13] << 1);
-        Motion.bfsCurr[14] = Motion.bfsCurr[14] | (Motion.bfsCurr[14] >> 1) | (Motion.bfsCurr[14] << 1);
-        Motion.bfsCurr[15] = Motion.bfsCurr[15] | (Motion.bfsCurr[15] >> 1) | (Motion.bfsCurr[15] << 1);
-        Motion.bfsCurr[16] = Motion.bfsCurr[16] | (Motion.bfsCurr[16] >> 1) | (Motion.bfsCurr[16] << 1);
-        Motion.bfsCurr[17] = Motion.bfsCurr[17] | (Motion.bfsCurr[17] >> 1) | (Motion.bfsCurr[17] << 1);
-        Motion.bfsCurr[18] = Motion.bfsCurr[18] | (Motion.bfsCurr[18] >> 1) | (Motion.bfsCurr[18] << 1);
-        Motion.bfsCurr[19] = Motion.bfsCurr[19] | (Motion.bfsCurr[19] >> 1) | (Motion.bfsCurr[19] << 1);
-        Motion.bfsCurr[20] = Motion.bfsCurr[20] | (Motion.bfsCurr[20] >> 1) | (Motion.bfsCurr[20] << 1);
-        Motion.bfsCurr[21] = Motion.bfsCurr[21] | (Motion.bfsCurr[21] >> 1) | (Motion.bfsCurr[21] << 1);
-        Motion.bfsCurr[22] = Motion.bfsCurr[22] | (Motion.bfsCurr[22] >> 1) | (Motion.bfsCurr[22] << 1);
-        Motion.bfsCurr[23] = Motion.bfsCurr[23] | (Motion.bfsCurr[23] >> 1) | (Motion.bfsCurr[23] << 1);
-        Motion.bfsCurr[24] = Motion.bfsCurr[24] | (Motion.bfsCurr[24] >> 1) | (Motion.bfsCurr[24] << 1);
-        Motion.bfsCurr[25] = Motion.bfsCurr[25] | (Motion.bfsCurr[25] >> 1) | (Motion.bfsCurr[25] << 1);
-        Motion.bfsCurr[26] = Motion.bfsCurr[26] | (Motion.bfsCurr[26] >> 1) | (Motion.bfsCurr[26] << 1);
-        Motion.bfsCurr[27] = Motion.bfsCurr[27] | (Motion.bfsCurr[27] >> 1) | (Motion.bfsCurr[27] << 1);
-        Motion.bfsCurr[28] = Motion.bfsCurr[28] | (Motion.bfsCurr[28] >> 1) | (Motion.bfsCurr[28] << 1);
-        Motion.bfsCurr[29] = Motion.bfsCurr[29] | (Motion.bfsCurr[29] >> 1) | (Motion.bfsCurr[29] << 1);
-        Motion.bfsCurr[30] = Motion.bfsCurr[30] | (Motion.bfsCurr[30] >> 1) | (Motion.bfsCurr[30] << 1);
-        Motion.bfsDist[Motion.stepOffset + 1] = (Motion.bfsCurr[1] | Motion.bfsCurr[0] | Motion.bfsCurr[2]) & (Motion.bitmask ^ Motion.bfsMap[1]);
-        Motion.bfsDist[Motion.stepOffset + 2] = (Motion.bfsCurr[2] | Motion.bfsCurr[1] | Motion.bfsCurr[3]) & (Motion.bitmask ^ Motion.bfsMap[2]);
-        Motion.bfsDist[Motion.stepOffset + 3] = (Motion.bfsCurr[3] | Motion.bfsCurr[2] | Motion.bfsCurr[4]) & (Motion.bitmask ^ Motion.bfsMap[3]);
-        Motion.bfsDist[Motion.stepOffset + 4] = (Motion.bfsCurr[4] | Motion.bfsCurr[3] | Motion.bfsCurr[5]) & (Motion.bitmask ^ Motion.bfsMap[4]);
-        Motion.bfsDist[Motion.stepOffset + 5] = (Motion.bfsCurr[5] | Motion.bfsCurr[4] | Motion.bfsCurr[6]) & (Motion.bitmask ^ Motion.bfsMap[5]);
-        Motion.bfsDist[Motion.stepOffset + 6] = (Motion.bfsCurr[6] | Motion.bfsCurr[5] | Motion.bfsCurr[7]) & (Motion.bitmask ^ Motion.bfsMap[6]);
-        Motion.bfsDist[Motion.stepOffset + 7] = (Motion.bfsCurr[7] | Motion.bfsCurr[6] | Motion.bfsCurr[8]) & (Motion.bitmask ^ Motion.bfsMap[7]);
-        Motion.bfsDist[Motion.stepOffset + 8] = (Motion.bfsCurr[8] | Motion.bfsCurr[7] | Motion.bfsCurr[9]) & (Motion.bitmask ^ Motion.bfsMap[8]);
-        Motion.bfsDist[Motion.stepOffset + 9] = (Motion.bfsCurr[9] | Motion.bfsCurr[8] | Motion.bfsCurr[10]) & (Motion.bitmask ^ Motion.bfsMap[9]);
-        Motion.bfsDist[Motion.stepOffset + 10] = (Motion.bfsCurr[10] | Motion.bfsCurr[9] | Motion.bfsCurr[11]) & (Motion.bitmask ^ Motion.bfsMap[10]);
-        Motion.bfsDist[Motion.stepOffset + 11] = (Motion.bfsCurr[11] | Motion.bfsCurr[10] | Motion.bfsCurr[12]) & (Motion.bitmask ^ Motion.bfsMap[11]);
-        Motion.bfsDist[Motion.stepOffset + 12] = (Motion.bfsCurr[12] | Motion.bfsCurr[11] | Motion.bfsCurr[13]) & (Motion.bitmask ^ Motion.bfsMap[12]);
-        Motion.bfsDist[Motion.stepOffset + 13] = (Motion.bfsCurr[13] | Motion.bfsCurr[12] | Motion.bfsCurr[14]) & (Motion.bitmask ^ Motion.bfsMap[13]);
-        Motion.bfsDist[Motion.stepOffset + 14] = (Motion.bfsCurr[14] | Motion.bfsCurr[13] | Motion.bfsCurr[15]) & (Motion.bitmask ^ Motion.bfsMap[14]);
-        Motion.bfsDist[Motion.stepOffset + 15] = (Motion.bfsCurr[15] | Motion.bfsCurr[14] | Motion.bfsCurr[16]) & (Motion.bitmask ^ Motion.bfsMap[15]);
-        Motion.bfsDist[Motion.stepOffset + 16] = (Motion.bfsCurr[16] | Motion.bfsCurr[15] | Motion.bfsCurr[17]) & (Motion.bitmask ^ Motion.bfsMap[16]);
-        Motion.bfsDist[Motion.stepOffset + 17] = (Motion.bfsCurr[17] | Motion.bfsCurr[16] | Motion.bfsCurr[18]) & (Motion.bitmask ^ Motion.bfsMap[17]);
-        Motion.bfsDist[Motion.stepOffset + 18] = (Motion.bfsCurr[18] | Motion.bfsCurr[17] | Motion.bfsCurr[19]) & (Motion.bitmask ^ Motion.bfsMap[18]);
-        Motion.bfsDist[Motion.stepOffset + 19] = (Motion.bfsCurr[19] | Motion.bfsCurr[18] | Motion.bfsCurr[20]) & (Motion.bitmask ^ Motion.bfsMap[19]);
-        Motion.bfsDist[Motion.stepOffset + 20] = (Motion.bfsCurr[20] | Motion.bfsCurr[19] | Motion.bfsCurr[21]) & (Motion.bitmask ^ Motion.bfsMap[20]);
-        Motion.bfsDist[Motion.stepOffset + 21] = (Motion.bfsCurr[21] | Motion.bfsCurr[20] | Motion.bfsCurr[22]) & (Motion.bitmask ^ Motion.bfsMap[21]);
-        Motion.bfsDist[Motion.stepOffset + 22] = (Motion.bfsCurr[22] | Motion.bfsCurr[21] | Motion.bfsCurr[23]) & (Motion.bitmask ^ Motion.bfsMap[22]);
-        Motion.bfsDist[Motion.stepOffset + 23] = (Motion.bfsCurr[23] | Motion.bfsCurr[22] | Motion.bfsCurr[24]) & (Motion.bitmask ^ Motion.bfsMap[23]);
-        Motion.bfsDist[Motion.stepOffset + 24] = (Motion.bfsCurr[24] | Motion.bfsCurr[23] | Motion.bfsCurr[25]) & (Motion.bitmask ^ Motion.bfsMap[24]);
-        Motion.bfsDist[Motion.stepOffset + 25] = (Motion.bfsCurr[25] | Motion.bfsCurr[24] | Motion.bfsCurr[26]) & (Motion.bitmask ^ Motion.bfsMap[25]);
-        Motion.bfsDist[Motion.stepOffset + 26] = (Motion.bfsCurr[26] | Motion.bfsCurr[25] | Motion.bfsCurr[27]) & (Motion.bitmask ^ Motion.bfsMap[26]);
-        Motion.bfsDist[Motion.stepOffset + 27] = (Motion.bfsCurr[27] | Motion.bfsCurr[26] | Motion.bfsCurr[28]) & (Motion.bitmask ^ Motion.bfsMap[27]);
-        Motion.bfsDist[Motion.stepOffset + 28] = (Motion.bfsCurr[28] | Motion.bfsCurr[27] | Motion.bfsCurr[29]) & (Motion.bitmask ^ Motion.bfsMap[28]);
-        Motion.bfsDist[Motion.stepOffset + 29] = (Motion.bfsCurr[29] | Motion.bfsCurr[28] | Motion.bfsCurr[30]) & (Motion.bitmask ^ Motion.bfsMap[29]);
-        Motion.bfsDist[Motion.stepOffset + 30] = (Motion.bfsCurr[30] | Motion.bfsCurr[29] | Motion.bfsCurr[31]) & (Motion.bitmask ^ Motion.bfsMap[30]);
-        Motion.bfsCurr[1] = Motion.bfsDist[Motion.stepOffset + 1];
-        Motion.bfsCurr[2] = Motion.bfsDist[Motion.stepOffset + 2];
-        Motion.bfsCurr[3] = Motion.bfsDist[Motion.stepOffset + 3];
-        Motion.bfsCurr[4] = Motion.bfsDist[Motion.stepOffset + 4];
-        Motion.bfsCurr[5] = Motion.bfsDist[Motion.stepOffset + 5];
-        Motion.bfsCurr[6] = Motion.bfsDist[Motion.stepOffset + 6];
-        Motion.bfsCurr[7] = Motion.bfsDist[Motion.stepOffset + 7];
-        Motion.bfsCurr[8] = Motion.bfsDist[Motion.stepOffset + 8];
-        Motion.bfsCurr[9] = Motion.bfsDist[Motion.stepOffset + 9];
-        Motion.bfsCurr[10] = Motion.bfsDist[Motion.stepOffset + 10];
-        Motion.bfsCurr[11] = Motion.bfsDist[Motion.stepOffset + 11];
-        Motion.bfsCurr[12] = Motion.bfsDist[Motion.stepOffset + 12];
-        Motion.bfsCurr[13] = Motion.bfsDist[Motion.stepOffset + 13];
-        Motion.bfsCurr[14] = Motion.bfsDist[Motion.stepOffset + 14];
-        Motion.bfsCurr[15] = Motion.bfsDist[Motion.stepOffset + 15];
-        Motion.bfsCurr[16] = Motion.bfsDist[Motion.stepOffset + 16];
-        Motion.bfsCurr[17] = Motion.bfsDist[Motion.stepOffset + 17];
-        Motion.bfsCurr[18] = Motion.bfsDist[Motion.stepOffset + 18];
-        Motion.bfsCurr[19] = Motion.bfsDist[Motion.stepOffset + 19];
-        Motion.bfsCurr[20] = Motion.bfsDist[Motion.stepOffset + 20];
-        Motion.bfsCurr[21] = Motion.bfsDist[Motion.stepOffset + 21];
-        Motion.bfsCurr[22] = Motion.bfsDist[Motion.stepOffset + 22];
-        Motion.bfsCurr[23] = Motion.bfsDist[Motion.stepOffset + 23];
-        Motion.bfsCurr[24] = Motion.bfsDist[Motion.stepOffset + 24];
-        Motion.bfsCurr[25] = Motion.bfsDist[Motion.stepOffset + 25];
-        Motion.bfsCurr[26] = Motion.bfsDist[Motion.stepOffset + 26];
-        Motion.bfsCurr[27] = Motion.bfsDist[Motion.stepOffset + 27];
-        Motion.bfsCurr[28] = Motion.bfsDist[Motion.stepOffset + 28];
-        Motion.bfsCurr[29] = Motion.bfsDist[Motion.stepOffset + 29];
-        Motion.bfsCurr[30] = Motion.bfsDist[Motion.stepOffset + 30];
-    }
-    public static void bfs31() {
-        Motion.bfsCurr[1] = Motion.bfsCurr[1] | (Motion.bfsCurr[1] >> 1) | (Motion.bfsCurr[1] << 1);
-        Motion.bfsCurr[2] = Motion.bfsCurr[2] | (Motion.bfsCurr[2] >> 1) | (Motion.bfsCurr[2] << 1);
-        Motion.bfsCurr[3] = Motion.bfsCurr[3] | (Motion.bfsCurr[3] >> 1) | (Motion.bfsCurr[3] << 1);
-        Motion.bfsCurr[4] = Motion.bfsCurr[4] | (Motion.bfsCurr[4] >> 1) | (Motion.bfsCurr[4] << 1);
-        Motion.bfsCurr[5] = Motion.bfsCurr[5] | (Motion.bfsCurr[5] >> 1) | (Motion.bfsCurr[5] << 1);
-        Motion.bfsCurr[6] = Motion.bfsCurr[6] | (Motion.bfsCurr[6] >> 1) | (Motion.bfsCurr[6] << 1);
-        Motion.bfsCurr[7] = Motion.bfsCurr[7] | (Motion.bfsCurr[7] >> 1) | (Motion.bfsCurr[7] << 1);
-        Motion.bfsCurr[8] = Motion.bfsCurr[8] | (Motion.bfsCurr[8] >> 1) | (Motion.bfsCurr[8] << 1);
-        Motion.bfsCurr[9] = Motion.bfsCurr[9] | (Motion.bfsCurr[9] >> 1) | (Motion.bfsCurr[9] << 1);
-        Motion.bfsCurr[10] = Motion.bfsCurr[10] | (Motion.bfsCurr[10] >> 1) | (Motion.bfsCurr[10] << 1);
-        Motion.bfsCurr[11] = Motion.bfsCurr[11] | (Motion.bfsCurr[11] >> 1) | (Motion.bfsCurr[11] << 1);
-        Motion.bfsCurr[12] = Motion.bfsCurr[12] | (Motion.bfsCurr[12] >> 1) | (Motion.bfsCurr[12] << 1);
-        Motion.bfsCurr[13] = Motion.bfsCurr[13] | (Motion.bfsCurr[13] >> 1) | (Motion.bfsCurr[13] << 1);
-        Motion.bfsCurr[14] = Motion.bfsCurr[14] | (Motion.bfsCurr[14] >> 1) | (Motion.bfsCurr[14] << 1);
-        Motion.bfsCurr[15] = Motion.bfsCurr[15] | (Motion.bfsCurr[15] >> 1) | (Motion.bfsCurr[15] << 1);
-        Motion.bfsCurr[16] = Motion.bfsCurr[16] | (Motion.bfsCurr[16] >> 1) | (Motion.bfsCurr[16] << 1);
-        Motion.bfsCurr[17] = Motion.bfsCurr[17] | (Motion.bfsCurr[17] >> 1) | (Motion.bfsCurr[17] << 1);
-        Motion.bfsCurr[18] = Motion.bfsCurr[18] | (Motion.bfsCurr[18] >> 1) | (Motion.bfsCurr[18] << 1);
-        Motion.bfsCurr[19] = Motion.bfsCurr[19] | (Motion.bfsCurr[19] >> 1) | (Motion.bfsCurr[19] << 1);
-        Motion.bfsCurr[20] = Motion.bfsCurr[20] | (Motion.bfsCurr[20] >> 1) | (Motion.bfsCurr[20] << 1);
-        Motion.bfsCurr[21] = Motion.bfsCurr[21] | (Motion.bfsCurr[21] >> 1) | (Motion.bfsCurr[21] << 1);
-        Motion.bfsCurr[22] = Motion.bfsCurr[22] | (Motion.bfsCurr[22] >> 1) | (Motion.bfsCurr[22] << 1);
-        Motion.bfsCurr[23] = Motion.bfsCurr[23] | (Motion.bfsCurr[23] >> 1) | (Motion.bfsCurr[23] << 1);
-        Motion.bfsCurr[24] = Motion.bfsCurr[24] | (Motion.bfsCurr[24] >> 1) | (Motion.bfsCurr[24] << 1);
-        Motion.bfsCurr[25] = Motion.bfsCurr[25] | (Motion.bfsCurr[25] >> 1) | (Motion.bfsCurr[25] << 1);
-        Motion.bfsCurr[26] = Motion.bfsCurr[26] | (Motion.bfsCurr[26] >> 1) | (Motion.bfsCurr[26] << 1);
-        Motion.bfsCurr[27] = Motion.bfsCurr[27] | (Motion.bfsCurr[27] >> 1) | (Motion.bfsCurr[27] << 1);
-        Motion.bfsCurr[28] = Motion.bfsCurr[28] | (Motion.bfsCurr[28] >> 1) | (Motion.bfsCurr[28] << 1);
-        Motion.bfsCurr[29] = Motion.bfsCurr[29] | (Motion.bfsCurr[29] >> 1) | (Motion.bfsCurr[29] << 1);
-        Motion.bfsCurr[30] = Motion.bfsCurr[30] | (Motion.bfsCurr[30] >> 1) | (Motion.bfsCurr[30] << 1);
-        Motion.bfsCurr[31] = Motion.bfsCurr[31] | (Motion.bfsCurr[31] >> 1) | (Motion.bfsCurr[31] << 1);
-        Motion.bfsDist[Motion.stepOffset + 1] = (Motion.bfsCurr[1] | Motion.bfsCurr[0] | Motion.bfsCurr[2]) & (Motion.bitmask ^ Motion.bfsMap[1]);
-        Motion.bfsDist[Motion.stepOffset + 2] = (Motion.bfsCurr[2] | Motion.bfsCurr[1] | Motion.bfsCurr[3]) & (Motion.bitmask ^ Motion.bfsMap[2]);
-        Motion.bfsDist[Motion.stepOffset + 3] = (Motion.bfsCurr[3] | Motion.bfsCurr[2] | Motion.bfsCurr[4]) & (Motion.bitmask ^ Motion.bfsMap[3]);
-        Motion.bfsDist[Motion.stepOffset + 4] = (Motion.bfsCurr[4] | Motion.bfsCurr[3] | Motion.bfsCurr[5]) & (Motion.bitmask ^ Motion.bfsMap[4]);
-        Motion.bfsDist[Motion.stepOffset + 5] = (Motion.bfsCurr[5] | Motion.bfsCurr[4] | Motion.bfsCurr[6]) & (Motion.bitmask ^ Motion.bfsMap[5]);
-        Motion.bfsDist[Motion.stepOffset + 6] = (Motion.bfsCurr[6] | Motion.bfsCurr[5] | Motion.bfsCurr[7]) & (Motion.bitmask ^ Motion.bfsMap[6]);
-        Motion.bfsDist[Motion.stepOffset + 7] = (Motion.bfsCurr[7] | Motion.bfsCurr[6] | Motion.bfsCurr[8]) & (Motion.bitmask ^ Motion.bfsMap[7]);
-        Motion.bfsDist[Motion.stepOffset + 8] = (Motion.bfsCurr[8] | Motion.bfsCurr[7] | Motion.bfsCurr[9]) & (Motion.bitmask ^ Motion.bfsMap[8]);
-        Motion.bfsDist[Motion.stepOffset + 9] = (Motion.bfsCurr[9] | Motion.bfsCurr[8] | Motion.bfsCurr[10]) & (Motion.bitmask ^ Motion.bfsMap[9]);
-        Motion.bfsDist[Motion.stepOffset + 10] = (Motion.bfsCurr[10] | Motion.bfsCurr[9] | Motion.bfsCurr[11]) & (Motion.bitmask ^ Motion.bfsMap[10]);
-        Motion.bfsDist[Motion.stepOffset + 11] = (Motion.bfsCurr[11] | Motion.bfsCurr[10] | Motion.bfsCurr[12]) & (Motion.bitmask ^ Motion.bfsMap[11]);
-        Motion.bfsDist[Motion.stepOffset + 12] = (Motion.bfsCurr[12] | Motion.bfsCurr[11] | Motion.bfsCurr[13]) & (Motion.bitmask ^ Motion.bfsMap[12]);
-        Motion.bfsDist[Motion.stepOffset + 13] = (Motion.bfsCurr[13] | Motion.bfsCurr[12] | Motion.bfsCurr[14]) & (Motion.bitmask ^ Motion.bfsMap[13]);
-        Motion.bfsDist[Motion.stepOffset + 14] = (Motion.bfsCurr[14] | Motion.bfsCurr[13] | Motion.bfsCurr[15]) & (Motion.bitmask ^ Motion.bfsMap[14]);
-        Motion.bfsDist[Motion.stepOffset + 15] = (Motion.bfsCurr[15] | Motion.bfsCurr[14] | Motion.bfsCurr[16]) & (Motion.bitmask ^ Motion.bfsMap[15]);
-        Motion.bfsDist[Motion.stepOffset + 16] = (Motion.bfsCurr[16] | Motion.bfsCurr[15] | Motion.bfsCurr[17]) & (Motion.bitmask ^ Motion.bfsMap[16]);
-        Motion.bfsDist[Motion.stepOffset + 17] = (Motion.bfsCurr[17] | Motion.bfsCurr[16] | Motion.bfsCurr[18]) & (Motion.bitmask ^ Motion.bfsMap[17]);
-        Motion.bfsDist[Motion.stepOffset + 18] = (Motion.bfsCurr[18] | Motion.bfsCurr[17] | Motion.bfsCurr[19]) & (Motion.bitmask ^ Motion.bfsMap[18]);
-        Motion.bfsDist[Motion.stepOffset + 19] = (Motion.bfsCurr[19] | Motion.bfsCurr[18] | Motion.bfsCurr[20]) & (Motion.bitmask ^ Motion.bfsMap[19]);
-        Motion.bfsDist[Motion.stepOffset + 20] = (Motion.bfsCurr[20] | Motion.bfsCurr[19] | Motion.bfsCurr[21]) & (Motion.bitmask ^ Motion.bfsMap[20]);
-        Motion.bfsDist[Motion.stepOffset + 21] = (Motion.bfsCurr[21] | Motion.bfsCurr[20] | Motion.bfsCurr[22]) & (Motion.bitmask ^ Motion.bfsMap[21]);
-        Motion.bfsDist[Motion.stepOffset + 22] = (Motion.bfsCurr[22] | Motion.bfsCurr[21] | Motion.bfsCurr[23]) & (Motion.bitmask ^ Motion.bfsMap[22]);
-        Motion.bfsDist[Motion.stepOffset + 23] = (Motion.bfsCurr[23] | Motion.bfsCurr[22] | Motion.bfsCurr[24]) & (Motion.bitmask ^ Motion.bfsMap[23]);
-        Motion.bfsDist[Motion.stepOffset + 24] = (Motion.bfsCurr[24] | Motion.bfsCurr[23] | Motion.bfsCurr[25]) & (Motion.bitmask ^ Motion.bfsMap[24]);
-        Motion.bfsDist[Motion.stepOffset + 25] = (Motion.bfsCurr[25] | Motion.bfsCurr[24] | Motion.bfsCurr[26]) & (Motion.bitmask ^ Motion.bfsMap[25]);
-        Motion.bfsDist[Motion.stepOffset + 26] = (Motion.bfsCurr[26] | Motion.bfsCurr[25] | Motion.bfsCurr[27]) & (Motion.bitmask ^ Motion.bfsMap[26]);
-        Motion.bfsDist[Motion.stepOffset + 27] = (Motion.bfsCurr[27] | Motion.bfsCurr[26] | Motion.bfsCurr[28]) & (Motion.bitmask ^ Motion.bfsMap[27]);
-        Motion.bfsDist[Motion.stepOffset + 28] = (Motion.bfsCurr[28] | Motion.bfsCurr[27] | Motion.bfsCurr[29]) & (Motion.bitmask ^ Motion.bfsMap[28]);
-        Motion.bfsDist[Motion.stepOffset + 29] = (Motion.bfsCurr[29] | Motion.bfsCurr[28] | Motion.bfsCurr[30]) & (Motion.bitmask ^ Motion.bfsMap[29]);
-        Motion.bfsDist[Motion.stepOffset + 30] = (Motion.bfsCurr[30] | Motion.bfsCurr[29] | Motion.bfsCurr[31]) & (Motion.bitmask ^ Motion.bfsMap[30]);
-        Motion.bfsDist[Motion.stepOffset + 31] = (Motion.bfsCurr[31] | Motion.bfsCurr[30] | Motion.bfsCurr[32]) & (Motion.bitmask ^ Motion.bfsMap[31]);
-        Motion.bfsCurr[1] = Motion.bfsDist[Motion.stepOffset + 1];
-        Motion.bfsCurr[2] = Motion.bfsDist[Motion.stepOffset + 2];
-        Motion.bfsCurr[3] = Motion.bfsDist[Motion.stepOffset + 3];
-        Motion.bfsCurr[4] = Motion.bfsDist[Motion.stepOffset + 4];
-        Motion.bfsCurr[5] = Motion.bfsDist[Motion.stepOffset + 5];
-        Motion.bfsCurr[6] = Motion.bfsDist[Motion.stepOffset + 6];
-        Motion.bfsCurr[7] = Motion.bfsDist[Motion.stepOffset + 7];
-        Motion.bfsCurr[8] = Motion.bfsDist[Motion.stepOffset + 8];
-        Motion.bfsCurr[9] = Motion.bfsDist[Motion.stepOffset + 9];
-        Motion.bfsCurr[10] = Motion.bfsDist[Motion.stepOffset + 10];
-        Motion.bfsCurr[11] = Motion.bfsDist[Motion.stepOffset + 11];
-        Motion.bfsCurr[12] = Motion.bfsDist[Motion.stepOffset + 12];
-        Motion.bfsCurr[13] = Motion.bfsDist[Motion.stepOffset + 13];
-        Motion.bfsCurr[14] = Motion.bfsDist[Motion.stepOffset + 14];
-        Motion.bfsCurr[15] = Motion.bfsDist[Motion.stepOffset + 15];
-        Motion.bfsCurr[16] = Motion.bfsDist[Motion.stepOffset + 16];
-        Motion.bfsCurr[17] = Motion.bfsDist[Motion.stepOffset + 17];
-        Motion.bfsCurr[18] = Motion.bfsDist[Motion.stepOffset + 18];
-        Motion.bfsCurr[19] = Motion.bfsDist[Motion.stepOffset + 19];
-        Motion.bfsCurr[20] = Motion.bfsDist[Motion.stepOffset + 20];
-        Motion.bfsCurr[21] = Motion.bfsDist[Motion.stepOffset + 21];
-        Motion.bfsCurr[22] = Motion.bfsDist[Motion.stepOffset + 22];
-        Motion.bfsCurr[23] = Motion.bfsDist[Motion.stepOffset + 23];
-        Motion.bfsCurr[24] = Motion.bfsDist[Motion.stepOffset + 24];
-        Motion.bfsCurr[25] = Motion.bfsDist[Motion.stepOffset + 25];
-        Motion.bfsCurr[26] = Motion.bfsDist[Motion.stepOffset + 26];
-        Motion.bfsCurr[27] = Motion.bfsDist[Motion.stepOffset + 27];
-        Motion.bfsCurr[28] = Motion.bfsDist[Motion.stepOffset + 28];
-        Motion.bfsCurr[29] = Motion.bfsDist[Motion.stepOffset + 29];
-        Motion.bfsCurr[30] = Motion.bfsDist[Motion.stepOffset + 30];
-        Motion.bfsCurr[31] = Motion.bfsDist[Motion.stepOffset + 31];
-    }
-    public static void bfs32() {
-        Motion.bfsCurr[1] = Motion.bfsCurr[1] | (Motion.bfsCurr[1] >> 1) | (Motion.bfsCurr[1] << 1);
-        Motion.bfsCurr[2] = Motion.bfsCurr[2] | (Motion.bfsCurr[2] >> 1) | (Motion.bfsCurr[2] << 1);
-        Motion.bfsCurr[3] = Motion.bfsCurr[3] | (Motion.bfsCurr[3] >> 1) | (Motion.bfsCurr[3] << 1);
-        Motion.bfsCurr[4] = Motion.bfsCurr[4] | (Motion.bfsCurr[4] >> 1) | (Motion.bfsCurr[4] << 1);
-        Motion.bfsCurr[5] = Motion.bfsCurr[5] | (Motion.bfsCurr[5] >> 1) | (Motion.bfsCurr[5] << 1);
-        Motion.bfsCurr[6] = Motion.bfsCurr[6] | (Motion.bfsCurr[6] >> 1) | (Motion.bfsCurr[6] << 1);
-        Motion.bfsCurr[7] = Motion.bfsCurr[7] | (Motion.bfsCurr[7] >> 1) | (Motion.bfsCurr[7] << 1);
-        Motion.bfsCurr[8] = Motion.bfsCurr[8] | (Motion.bfsCurr[8] >> 1) | (Motion.bfsCurr[8] << 1);
-        Motion.bfsCurr[9] = Motion.bfsCurr[9] | (Motion.bfsCurr[9] >> 1) | (Motion.bfsCurr[9] << 1);
-        Motion.bfsCurr[10] = Motion.bfsCurr[10] | (Motion.bfsCurr[10] >> 1) | (Motion.bfsCurr[10] << 1);
-        Motion.bfsCurr[11] = Motion.bfsCurr[11] | (Motion.bfsCurr[11] >> 1) | (Motion.bfsCurr[11] << 1);
-        Motion.bfsCurr[12] = Motion.bfsCurr[12] | (Motion.bfsCurr[12] >> 1) | (Motion.bfsCurr[12] << 1);
-        Motion.bfsCurr[13] = Motion.bfsCurr[13] | (Motion.bfsCurr[13] >> 1) | (Motion.bfsCurr[13] << 1);
-        Motion.bfsCurr[14] = Motion.bfsCurr[14] | (Motion.bfsCurr[14] >> 1) | (Motion.bfsCurr[14] << 1);
-        Motion.bfsCurr[15] = Motion.bfsCurr[15] | (Motion.bfsCurr[15] >> 1) | (Motion.bfsCurr[15] << 1);
-        Motion.bfsCurr[16] = Motion.bfsCurr[16] | (Motion.bfsCurr[16] >> 1) | (Motion.bfsCurr[16] << 1);
-        Motion.bfsCurr[17] = Motion.bfsCurr[17] | (Motion.bfsCurr[17] >> 1) | (Motion.bfsCurr[17] << 1);
-        Motion.bfsCurr[18] = Motion.bfsCurr[18] | (Motion.bfsCurr[18] >> 1) | (Motion.bfsCurr[18] << 1);
-        Motion.bfsCurr[19] = Motion.bfsCurr[19] | (Motion.bfsCurr[19] >> 1) | (Motion.bfsCurr[19] << 1);
-        Motion.bfsCurr[20] = Motion.bfsCurr[20] | (Motion.bfsCurr[20] >> 1) | (Motion.bfsCurr[20] << 1);
-        Motion.bfsCurr[21] = Motion.bfsCurr[21] | (Motion.bfsCurr[21] >> 1) | (Motion.bfsCurr[21] << 1);
-        Motion.bfsCurr[22] = Motion.bfsCurr[22] | (Motion.bfsCurr[22] >> 1) | (Motion.bfsCurr[22] << 1);
-        Motion.bfsCurr[23] = Motion.bfsCurr[23] | (Motion.bfsCurr[23] >> 1) | (Motion.bfsCurr[23] << 1);
-        Motion.bfsCurr[24] = Motion.bfsCurr[24] | (Motion.bfsCurr[24] >> 1) | (Motion.bfsCurr[24] << 1);
-        Motion.bfsCurr[25] = Motion.bfsCurr[25] | (Motion.bfsCurr[25] >> 1) | (Motion.bfsCurr[25] << 1);
-        Motion.bfsCurr[26] = Motion.bfsCurr[26] | (Motion.bfsCurr[26] >> 1) | (Motion.bfsCurr[26] << 1);
-        Motion.bfsCurr[27] = Motion.bfsCurr[27] | (Motion.bfsCurr[27] >> 1) | (Motion.bfsCurr[27] << 1);
-        Motion.bfsCurr[28] = Motion.bfsCurr[28] | (Motion.bfsCurr[28] >> 1) | (Motion.bfsCurr[28] << 1);
-        Motion.bfsCurr[29] = Motion.bfsCurr[29] | (Motion.bfsCurr[29] >> 1) | (Motion.bfsCurr[29] << 1);
-        Motion.bfsCurr[30] = Motion.bfsCurr[30] | (Motion.bfsCurr[30] >> 1) | (Motion.bfsCurr[30] << 1);
-        Motion.bfsCurr[31] = Motion.bfsCurr[31] | (Motion.bfsCurr[31] >> 1) | (Motion.bfsCurr[31] << 1);
-        Motion.bfsCurr[32] = Motion.bfsCurr[32] | (Motion.bfsCurr[32] >> 1) | (Motion.bfsCurr[32] << 1);
-        Motion.bfsDist[Motion.stepOffset + 1] = (Motion.bfsCurr[1] | Motion.bfsCurr[0] | Motion.bfsCurr[2]) & (Motion.bitmask ^ Motion.bfsMap[1]);
-        Motion.bfsDist[Motion.stepOffset + 2] = (Motion.bfsCurr[2] | Motion.bfsCurr[1] | Motion.bfsCurr[3]) & (Motion.bitmask ^ Motion.bfsMap[2]);
-        Motion.bfsDist[Motion.stepOffset + 3] = (Motion.bfsCurr[3] | Motion.bfsCurr[2] | Motion.bfsCurr[4]) & (Motion.bitmask ^ Motion.bfsMap[3]);
-        Motion.bfsDist[Motion.stepOffset + 4] = (Motion.bfsCurr[4] | Motion.bfsCurr[3] | Motion.bfsCurr[5]) & (Motion.bitmask ^ Motion.bfsMap[4]);
-        Motion.bfsDist[Motion.stepOffset + 5] = (Motion.bfsCurr[5] | Motion.bfsCurr[4] | Motion.bfsCurr[6]) & (Motion.bitmask ^ Motion.bfsMap[5]);
-        Motion.bfsDist[Motion.stepOffset + 6] = (Motion.bfsCurr[6] | Motion.bfsCurr[5] | Motion.bfsCurr[7]) & (Motion.bitmask ^ Motion.bfsMap[6]);
-        Motion.bfsDist[Motion.stepOffset + 7] = (Motion.bfsCurr[7] | Motion.bfsCurr[6] | Motion.bfsCurr[8]) & (Motion.bitmask ^ Motion.bfsMap[7]);
-        Motion.bfsDist[Motion.stepOffset + 8] = (Motion.bfsCurr[8] | Motion.bfsCurr[7] | Motion.bfsCurr[9]) & (Motion.bitmask ^ Motion.bfsMap[8]);
-        Motion.bfsDist[Motion.stepOffset + 9] = (Motion.bfsCurr[9] | Motion.bfsCurr[8] | Motion.bfsCurr[10]) & (Motion.bitmask ^ Motion.bfsMap[9]);
-        Motion.bfsDist[Motion.stepOffset + 10] = (Motion.bfsCurr[10] | Motion.bfsCurr[9] | Motion.bfsCurr[11]) & (Motion.bitmask ^ Motion.bfsMap[10]);
-        Motion.bfsDist[Motion.stepOffset + 11] = (Motion.bfsCurr[11] | Motion.bfsCurr[10] | Motion.bfsCurr[12]) & (Motion.bitmask ^ Motion.bfsMap[11]);
-        Motion.bfsDist[Motion.stepOffset + 12] = (Motion.bfsCurr[12] | Motion.bfsCurr[11] | Motion.bfsCurr[13]) & (Motion.bitmask ^ Motion.bfsMap[12]);
-        Motion.bfsDist[Motion.stepOffset + 13] = (Motion.bfsCurr[13] | Motion.bfsCurr[12] | Motion.bfsCurr[14]) & (Motion.bitmask ^ Motion.bfsMap[13]);
-        Motion.bfsDist[Motion.stepOffset + 14] = (Motion.bfsCurr[14] | Motion.bfsCurr[13] | Motion.bfsCurr[15]) & (Motion.bitmask ^ Motion.bfsMap[14]);
-        Motion.bfsDist[Motion.stepOffset + 15] = (Motion.bfsCurr[15] | Motion.bfsCurr[14] | Motion.bfsCurr[16]) & (Motion.bitmask ^ Motion.bfsMap[15]);
-        Motion.bfsDist[Motion.stepOffset + 16] = (Motion.bfsCurr[16] | Motion.bfsCurr[15] | Motion.bfsCurr[17]) & (Motion.bitmask ^ Motion.bfsMap[16]);
-        Motion.bfsDist[Motion.stepOffset + 17] = (Motion.bfsCurr[17] | Motion.bfsCurr[16] | Motion.bfsCurr[18]) & (Motion.bitmask ^ Motion.bfsMap[17]);
-        Motion.bfsDist[Motion.stepOffset + 18] = (Motion.bfsCurr[18] | Motion.bfsCurr[17] | Motion.bfsCurr[19]) & (Motion.bitmask ^ Motion.bfsMap[18]);
-        Motion.bfsDist[Motion.stepOffset + 19] = (Motion.bfsCurr[19] | Motion.bfsCurr[18] | Motion.bfsCurr[20]) & (Motion.bitmask ^ Motion.bfsMap[19]);
-        Motion.bfsDist[Motion.stepOffset + 20] = (Motion.bfsCurr[20] | Motion.bfsCurr[19] | Motion.bfsCurr[21]) & (Motion.bitmask ^ Motion.bfsMap[20]);
-        Motion.bfsDist[Motion.stepOffset + 21] = (Motion.bfsCurr[21] | Motion.bfsCurr[20] | Motion.bfsCurr[22]) & (Motion.bitmask ^ Motion.bfsMap[21]);
-        Motion.bfsDist[Motion.stepOffset + 22] = (Motion.bfsCurr[22] | Motion.bfsCurr[21] | Motion.bfsCurr[23]) & (Motion.bitmask ^ Motion.bfsMap[22]);
-        Motion.bfsDist[Motion.stepOffset + 23] = (Motion.bfsCurr[23] | Motion.bfsCurr[22] | Motion.bfsCurr[24]) & (Motion.bitmask ^ Motion.bfsMap[23]);
-        Motion.bfsDist[Motion.stepOffset + 24] = (Motion.bfsCurr[24] | Motion.bfsCurr[23] | Motion.bfsCurr[25]) & (Motion.bitmask ^ Motion.bfsMap[24]);
-        Motion.bfsDist[Motion.stepOffset + 25] = (Motion.bfsCurr[25] | Motion.bfsCurr[24] | Motion.bfsCurr[26]) & (Motion.bitmask ^ Motion.bfsMap[25]);
-        Motion.bfsDist[Motion.stepOffset + 26] = (Motion.bfsCurr[26] | Motion.bfsCurr[25] | Motion.bfsCurr[27]) & (Motion.bitmask ^ Motion.bfsMap[26]);
-        Motion.bfsDist[Motion.stepOffset + 27] = (Motion.bfsCurr[27] | Motion.bfsCurr[26] | Motion.bfsCurr[28]) & (Motion.bitmask ^ Motion.bfsMap[27]);
-        Motion.bfsDist[Motion.stepOffset + 28] = (Motion.bfsCurr[28] | Motion.bfsCurr[27] | Motion.bfsCurr[29]) & (Motion.bitmask ^ Motion.bfsMap[28]);
-        Motion.bfsDist[Motion.stepOffset + 29] = (Motion.bfsCurr[29] | Motion.bfsCurr[28] | Motion.bfsCurr[30]) & (Motion.bitmask ^ Motion.bfsMap[29]);
-        Motion.bfsDist[Motion.stepOffset + 30] = (Motion.bfsCurr[30] | Motion.bfsCurr[29] | Motion.bfsCurr[31]) & (Motion.bitmask ^ Motion.bfsMap[30]);
-        Motion.bfsDist[Motion.stepOffset + 31] = (Motion.bfsCurr[31] | Motion.bfsCurr[30] | Motion.bfsCurr[32]) & (Motion.bitmask ^ Motion.bfsMap[31]);
-        Motion.bfsDist[Motion.stepOffset + 32] = (Motion.bfsCurr[32] | Motion.bfsCurr[31] | Motion.bfsCurr[33]) & (Motion.bitmask ^ Motion.bfsMap[32]);
-        Motion.bfsCurr[1] = Motion.bfsDist[Motion.stepOffset + 1];
-        Motion.bfsCurr[2] = Motion.bfsDist[Motion.stepOffset + 2];
-        Motion.bfsCurr[3] = Motion.bfsDist[Motion.stepOffset + 3];
-        Motion.bfsCurr[4] = Motion.bfsDist[Motion.stepOffset + 4];
-        Motion.bfsCurr[5] = Motion.bfsDist[Motion.stepOffset + 5];
-        Motion.bfsCurr[6] = Motion.bfsDist[Motion.stepOffset + 6];
-        Motion.bfsCurr[7] = Motion.bfsDist[Motion.stepOffset + 7];
-        Motion.bfsCurr[8] = Motion.bfsDist[Motion.stepOffset + 8];
-        Motion.bfsCurr[9] = Motion.bfsDist[Motion.stepOffset + 9];
-        Motion.bfsCurr[10] = Motion.bfsDist[Motion.stepOffset + 10];
-        Motion.bfsCurr[11] = Motion.bfsDist[Motion.stepOffset + 11];
-        Motion.bfsCurr[12] = Motion.bfsDist[Motion.stepOffset + 12];
-        Motion.bfsCurr[13] = Motion.bfsDist[Motion.stepOffset + 13];
-        Motion.bfsCurr[14] = Motion.bfsDist[Motion.stepOffset + 14];
-        Motion.bfsCurr[15] = Motion.bfsDist[Motion.stepOffset + 15];
-        Motion.bfsCurr[16] = Motion.bfsDist[Motion.stepOffset + 16];
-        Motion.bfsCurr[17] = Motion.bfsDist[Motion.stepOffset + 17];
-        Motion.bfsCurr[18] = Motion.bfsDist[Motion.stepOffset + 18];
-        Motion.bfsCurr[19] = Motion.bfsDist[Motion.stepOffset + 19];
-        Motion.bfsCurr[20] = Motion.bfsDist[Motion.stepOffset + 20];
-        Motion.bfsCurr[21] = Motion.bfsDist[Motion.stepOffset + 21];
-        Motion.bfsCurr[22] = Motion.bfsDist[Motion.stepOffset + 22];
-        Motion.bfsCurr[23] = Motion.bfsDist[Motion.stepOffset + 23];
-        Motion.bfsCurr[24] = Motion.bfsDist[Motion.stepOffset + 24];
-        Motion.bfsCurr[25] = Motion.bfsDist[Motion.stepOffset + 25];
-        Motion.bfsCurr[26] = Motion.bfsDist[Motion.stepOffset + 26];
-        Motion.bfsCurr[27] = Motion.bfsDist[Motion.stepOffset + 27];
-        Motion.bfsCurr[28] = Motion.bfsDist[Motion.stepOffset + 28];
-        Motion.bfsCurr[29] = Motion.bfsDist[Motion.stepOffset + 29];
-        Motion.bfsCurr[30] = Motion.bfsDist[Motion.stepOffset + 30];
-        Motion.bfsCurr[31] = Motion.bfsDist[Motion.stepOffset + 31];
-        Motion.bfsCurr[32] = Motion.bfsDist[Motion.stepOffset + 32];
-    }
-    public static void bfs33() {
-        Motion.bfsCurr[1] = Motion.bfsCurr[1] | (Motion.bfsCurr[1] >> 1) | (Motion.bfsCurr[1] << 1);
-        Motion.bfsCurr[2] = Motion.bfsCurr[2] | (Motion.bfsCurr[2] >> 1) | (Motion.bfsCurr[2] << 1);
-        Motion.bfsCurr[3] = Motion.bfsCurr[3] | (Motion.bfsCurr[3] >> 1) | (Motion.bfsCurr[3] << 1);
-        Motion.bfsCurr[4] = Motion.bfsCurr[4] | (Motion.bfsCurr[4] >> 1) | (Motion.bfsCurr[4] << 1);
-        Motion.bfsCurr[5] = Motion.bfsCurr[5] | (Motion.bfsCurr[5] >> 1) | (Motion.bfsCurr[5] << 1);
-        Motion.bfsCurr[6] = Motion.bfsCurr[6] | (Motion.bfsCurr[6] >> 1) | (Motion.bfsCurr[6] << 1);
-        Motion.bfsCurr[7] = Motion.bfsCurr[7] | (Motion.bfsCurr[7] >> 1) | (Motion.bfsCurr[7] << 1);
-        Motion.bfsCurr[8] = Motion.bfsCurr[8] | (Motion.bfsCurr[8] >> 1) | (Motion.bfsCurr[8] << 1);
-        Motion.bfsCurr[9] = Motion.bfsCurr[9] | (Motion.bfsCurr[9] >> 1) | (Motion.bfsCurr[9] << 1);
-        Motion.bfsCurr[10] = Motion.bfsCurr[10] | (Motion.bfsCurr[10] >> 1) | (Motion.bfsCurr[10] << 1);
-        Motion.bfsCurr[11] = Motion.bfsCurr[11] | (Motion.bfsCurr[11] >> 1) | (Motion.bfsCurr[11] << 1);
-        Motion.bfsCurr[12] = Motion.bfsCurr[12] | (Motion.bfsCurr[12] >> 1) | (Motion.bfsCurr[12] << 1);
-        Motion.bfsCurr[13] = Motion.bfsCurr[13] | (Motion.bfsCurr[13] >> 1) | (Motion.bfsCurr[13] << 1);
-        Motion.bfsCurr[14] = Motion.bfsCurr[14] | (Motion.bfsCurr[14] >> 1) | (Motion.bfsCurr[14] << 1);
-        Motion.bfsCurr[15] = Motion.bfsCurr[15] | (Motion.bfsCurr[15] >> 1) | (Motion.bfsCurr[15] << 1);
-        Motion.bfsCurr[16] = Motion.bfsCurr[16] | (Motion.bfsCurr[16] >> 1) | (Motion.bfsCurr[16] << 1);
-        Motion.bfsCurr[17] = Motion.bfsCurr[17] | (Motion.bfsCurr[17] >> 1) | (Motion.bfsCurr[17] << 1);
-        Motion.bfsCurr[18] = Motion.bfsCurr[18] | (Motion.bfsCurr[18] >> 1) | (Motion.bfsCurr[18] << 1);
-        Motion.bfsCurr[19] = Motion.bfsCurr[19] | (Motion.bfsCurr[19] >> 1) | (Motion.bfsCurr[19] << 1);
-        Motion.bfsCurr[20] = Motion.bfsCurr[20] | (Motion.bfsCurr[20] >> 1) | (Motion.bfsCurr[20] << 1);
-        Motion.bfsCurr[21] = Motion.bfsCurr[21] | (Motion.bfsCurr[21] >> 1) | (Motion.bfsCurr[21] << 1);
-        Motion.bfsCurr[22] = Motion.bfsCurr[22] | (Motion.bfsCurr[22] >> 1) | (Motion.bfsCurr[22] << 1);
-        Motion.bfsCurr[23] = Motion.bfsCurr[23] | (Motion.bfsCurr[23] >> 1) | (Motion.bfsCurr[23] << 1);
-        Motion.bfsCurr[24] = Motion.bfsCurr[24] | (Motion.bfsCurr[24] >> 1) | (Motion.bfsCurr[24] << 1);
-        Motion.bfsCurr[25] = Motion.bfsCurr[25] | (Motion.bfsCurr[25] >> 1) | (Motion.bfsCurr[25] << 1);
-        Motion.bfsCurr[26] = Motion.bfsCurr[26] | (Motion.bfsCurr[26] >> 1) | (Motion.bfsCurr[26] << 1);
-        Motion.bfsCurr[27] = Motion.bfsCurr[27] | (Motion.bfsCurr[27] >> 1) | (Motion.bfsCurr[27] << 1);
-        Motion.bfsCurr[28] = Motion.bfsCurr[28] | (Motion.bfsCurr[28] >> 1) | (Motion.bfsCurr[28] << 1);
-        Motion.bfsCurr[29] = Motion.bfsCurr[29] | (Motion.bfsCurr[29] >> 1) | (Motion.bfsCurr[29] << 1);
-        Motion.bfsCurr[30] = Motion.bfsCurr[30] | (Motion.bfsCurr[30] >> 1) | (Motion.bfsCurr[30] << 1);
-        Motion.bfsCurr[31] = Motion.bfsCurr[31] | (Motion.bfsCurr[31] >> 1) | (Motion.bfsCurr[31] << 1);
-        Motion.bfsCurr[32] = Motion.bfsCurr[32] | (Motion.bfsCurr[32] >> 1) | (Motion.bfsCurr[32] << 1);
-        Motion.bfsCurr[33] = Motion.bfsCurr[33] | (Motion.bfsCurr[33] >> 1) | (Motion.bfsCurr[33] << 1);
-        Motion.bfsDist[Motion.stepOffset + 1] = (Motion.bfsCurr[1] | Motion.bfsCurr[0] | Motion.bfsCurr[2]) & (Motion.bitmask ^ Motion.bfsMap[1]);
-        Motion.bfsDist[Motion.stepOffset + 2] = (Motion.bfsCurr[2] | Motion.bfsCurr[1] | Motion.bfsCurr[3]) & (Motion.bitmask ^ Motion.bfsMap[2]);
-        Motion.bfsDist[Motion.stepOffset + 3] = (Motion.bfsCurr[3] | Motion.bfsCurr[2] | Motion.bfsCurr[4]) & (Motion.bitmask ^ Motion.bfsMap[3]);
-        Motion.bfsDist[Motion.stepOffset + 4] = (Motion.bfsCurr[4] | Motion.bfsCurr[3] | Motion.bfsCurr[5]) & (Motion.bitmask ^ Motion.bfsMap[4]);
-        Motion.bfsDist[Motion.stepOffset + 5] = (Motion.bfsCurr[5] | Motion.bfsCurr[4] | Motion.bfsCurr[6]) & (Motion.bitmask ^ Motion.bfsMap[5]);
-        Motion.bfsDist[Motion.stepOffset + 6] = (Motion.bfsCurr[6] | Motion.bfsCurr[5] | Motion.bfsCurr[7]) & (Motion.bitmask ^ Motion.bfsMap[6]);
-        Motion.bfsDist[Motion.stepOffset + 7] = (Motion.bfsCurr[7] | Motion.bfsCurr[6] | Motion.bfsCurr[8]) & (Motion.bitmask ^ Motion.bfsMap[7]);
-        Motion.bfsDist[Motion.stepOffset + 8] = (Motion.bfsCurr[8] | Motion.bfsCurr[7] | Motion.bfsCurr[9]) & (Motion.bitmask ^ Motion.bfsMap[8]);
-        Motion.bfsDist[Motion.stepOffset + 9] = (Motion.bfsCurr[9] | Motion.bfsCurr[8] | Motion.bfsCurr[10]) & (Motion.bitmask ^ Motion.bfsMap[9]);
-        Motion.bfsDist[Motion.stepOffset + 10] = (Motion.bfsCurr[10] | Motion.bfsCurr[9] | Motion.bfsCurr[11]) & (Motion.bitmask ^ Motion.bfsMap[10]);
-        Motion.bfsDist[Motion.stepOffset + 11] = (Motion.bfsCurr[11] | Motion.bfsCurr[10] | Motion.bfsCurr[12]) & (Motion.bitmask ^ Motion.bfsMap[11]);
-        Motion.bfsDist[Motion.stepOffset + 12] = (Motion.bfsCurr[12] | Motion.bfsCurr[11] | Motion.bfsCurr[13]) & (Motion.bitmask ^ Motion.bfsMap[12]);
-        Motion.bfsDist[Motion.stepOffset + 13] = (Motion.bfsCurr[13] | Motion.bfsCurr[12] | Motion.bfsCurr[14]) & (Motion.bitmask ^ Motion.bfsMap[13]);
-        Motion.bfsDist[Motion.stepOffset + 14] = (Motion.bfsCurr[14] | Motion.bfsCurr[13] | Motion.bfsCurr[15]) & (Motion.bitmask ^ Motion.bfsMap[14]);
-        Motion.bfsDist[Motion.stepOffset + 15] = (Motion.bfsCurr[15] | Motion.bfsCurr[14] | Motion.bfsCurr[16]) & (Motion.bitmask ^ Motion.bfsMap[15]);
-        Motion.bfsDist[Motion.stepOffset + 16] = (Motion.bfsCurr[16] | Motion.bfsCurr[15] | Motion.bfsCurr[17]) & (Motion.bitmask ^ Motion.bfsMap[16]);
-        Motion.bfsDist[Motion.stepOffset + 17] = (Motion.bfsCurr[17] | Motion.bfsCurr[16] | Motion.bfsCurr[18]) & (Motion.bitmask ^ Motion.bfsMap[17]);
-        Motion.bfsDist[Motion.stepOffset + 18] = (Motion.bfsCurr[18] | Motion.bfsCurr[17] | Motion.bfsCurr[19]) & (Motion.bitmask ^ Motion.bfsMap[18]);
-        Motion.bfsDist[Motion.stepOffset + 19] = (Motion.bfsCurr[19] | Motion.bfsCurr[18] | Motion.bfsCurr[20]) & (Motion.bitmask ^ Motion.bfsMap[19]);
-        Motion.bfsDist[Motion.stepOffset + 20] = (Motion.bfsCurr[20] | Motion.bfsCurr[19] | Motion.bfsCurr[21]) & (Motion.bitmask ^ Motion.bfsMap[20]);
-        Motion.bfsDist[Motion.stepOffset + 21] = (Motion.bfsCurr[21] | Motion.bfsCurr[20] | Motion.bfsCurr[22]) & (Motion.bitmask ^ Motion.bfsMap[21]);
-        Motion.bfsDist[Motion.stepOffset + 22] = (Motion.bfsCurr[22] | Motion.bfsCurr[21] | Motion.bfsCurr[23]) & (Motion.bitmask ^ Motion.bfsMap[22]);
-        Motion.bfsDist[Motion.stepOffset + 23] = (Motion.bfsCurr[23] | Motion.bfsCurr[22] | Motion.bfsCurr[24]) & (Motion.bitmask ^ Motion.bfsMap[23]);
-        Motion.bfsDist[Motion.stepOffset + 24] = (Motion.bfsCurr[24] | Motion.bfsCurr[23] | Motion.bfsCurr[25]) & (Motion.bitmask ^ Motion.bfsMap[24]);
-        Motion.bfsDist[Motion.stepOffset + 25] = (Motion.bfsCurr[25] | Motion.bfsCurr[24] | Motion.bfsCurr[26]) & (Motion.bitmask ^ Motion.bfsMap[25]);
-        Motion.bfsDist[Motion.stepOffset + 26] = (Motion.bfsCurr[26] | Motion.bfsCurr[25] | Motion.bfsCurr[27]) & (Motion.bitmask ^ Motion.bfsMap[26]);
-        Motion.bfsDist[Motion.stepOffset + 27] = (Motion.bfsCurr[27] | Motion.bfsCurr[26] | Motion.bfsCurr[28]) & (Motion.bitmask ^ Motion.bfsMap[27]);
-        Motion.bfsDist[Motion.stepOffset + 28] = (Motion.bfsCurr[28] | Motion.bfsCurr[27] | Motion.bfsCurr[29]) & (Motion.bitmask ^ Motion.bfsMap[28]);
-        Motion.bfsDist[Motion.stepOffset + 29] = (Motion.bfsCurr[29] | Motion.bfsCurr[28] | Motion.bfsCurr[30]) & (Motion.bitmask ^ Motion.bfsMap[29]);
-        Motion.bfsDist[Motion.stepOffset + 30] = (Motion.bfsCurr[30] | Motion.bfsCurr[29] | Motion.bfsCurr[31]) & (Motion.bitmask ^ Motion.bfsMap[30]);
-        Motion.bfsDist[Motion.stepOffset + 31] = (Motion.bfsCurr[31] | Motion.bfsCurr[30] | Motion.bfsCurr[32]) & (Motion.bitmask ^ Motion.bfsMap[31]);
-        Motion.bfsDist[Motion.stepOffset + 32] = (Motion.bfsCurr[32] | Motion.bfsCurr[31] | Motion.bfsCurr[33]) & (Motion.bitmask ^ Motion.bfsMap[32]);
-        Motion.bfsDist[Motion.stepOffset + 33] = (Motion.bfsCurr[33] | Motion.bfsCurr[32] | Motion.bfsCurr[34]) & (Motion.bitmask ^ Motion.bfsMap[33]);
-        Motion.bfsCurr[1] = Motion.bfsDist[Motion.stepOffset + 1];
-        Motion.bfsCurr[2] = Motion.bfsDist[Motion.stepOffset + 2];
-        Motion.bfsCurr[3] = Motion.bfsDist[Motion.stepOffset + 3];
-        Motion.bfsCurr[4] = Motion.bfsDist[Motion.stepOffset + 4];
-        Motion.bfsCurr[5] = Motion.bfsDist[Motion.stepOffset + 5];
-        Motion.bfsCurr[6] = Motion.bfsDist[Motion.stepOffset + 6];
-        Motion.bfsCurr[7] = Motion.bfsDist[Motion.stepOffset + 7];
-        Motion.bfsCurr[8] = Motion.bfsDist[Motion.stepOffset + 8];
-        Motion.bfsCurr[9] = Motion.bfsDist[Motion.stepOffset + 9];
-        Motion.bfsCurr[10] = Motion.bfsDist[Motion.stepOffset + 10];
-        Motion.bfsCurr[11] = Motion.bfsDist[Motion.stepOffset + 11];
-        Motion.bfsCurr[12] = Motion.bfsDist[Motion.stepOffset + 12];
-        Motion.bfsCurr[13] = Motion.bfsDist[Motion.stepOffset + 13];
-        Motion.bfsCurr[14] = Motion.bfsDist[Motion.stepOffset + 14];
-        Motion.bfsCurr[15] = Motion.bfsDist[Motion.stepOffset + 15];
-        Motion.bfsCurr[16] = Motion.bfsDist[Motion.stepOffset + 16];
-        Motion.bfsCurr[17] = Motion.bfsDist[Motion.stepOffset + 17];
-        Motion.bfsCurr[18] = Motion.bfsDist[Motion.stepOffset + 18];
-        Motion.bfsCurr[19] = Motion.bfsDist[Motion.stepOffset + 19];
-        Motion.bfsCurr[20] = Motion.bfsDist[Motion.stepOffset + 20];
-        Motion.bfsCurr[21] = Motion.bfsDist[Motion.stepOffset + 21];
-        Motion.bfsCurr[22] = Motion.bfsDist[Motion.stepOffset + 22];
-        Motion.bfsCurr[23] = Motion.bfsDist[Motion.stepOffset + 23];
-        Motion.bfsCurr[24] = Motion.bfsDist[Motion.stepOffset + 24];
-        Motion.bfsCurr[25] = Motion.bfsDist[Motion.stepOffset + 25];
-        Motion.bfsCurr[26] = Motion.bfsDist[Motion.stepOffset + 26];
-        Motion.bfsCurr[27] = Motion.bfsDist[Motion.stepOffset + 27];
-        Motion.bfsCurr[28] = Motion.bfsDist[Motion.stepOffset + 28];
-        Motion.bfsCurr[29] = Motion.bfsDist[Motion.stepOffset + 29];
-        Motion.bfsCurr[30] = Motion.bfsDist[Motion.stepOffset + 30];
-        Motion.bfsCurr[31] = Motion.bfsDist[Motion.stepOffset + 31];
-        Motion.bfsCurr[32] = Motion.bfsDist[Motion.stepOffset + 32];
-        Motion.bfsCurr[33] = Motion.bfsDist[Motion.stepOffset + 33];
-    }
-    public static void bfs34() {
-        Motion.bfsCurr[1] = Motion.bfsCurr[1] | (Motion.bfsCurr[1] >> 1) | (Motion.bfsCurr[1] << 1);
-        Motion.bfsCurr[2] = Motion.bfsCurr[2] | (Motion.bfsCurr[2] >> 1) | (Motion.bfsCurr[2] << 1);
-        Motion.bfsCurr[3] = Motion.bfsCurr[3] | (Motion.bfsCurr[3] >> 1) | (Motion.bfsCurr[3] << 1);
-        Motion.bfsCurr[4] = Motion.bfsCurr[4] | (Motion.bfsCurr[4] >> 1) | (Motion.bfsCurr[4] << 1);
-        Motion.bfsCurr[5] = Motion.bfsCurr[5] | (Motion.bfsCurr[5] >> 1) | (Motion.bfsCurr[5] << 1);
-        Motion.bfsCurr[6] = Motion.bfsCurr[6] | (Motion.bfsCurr[6] >> 1) | (Motion.bfsCurr[6] << 1);
-        Motion.bfsCurr[7] = Motion.bfsCurr[7] | (Motion.bfsCurr[7] >> 1) | (Motion.bfsCurr[7] << 1);
-        Motion.bfsCurr[8] = Motion.bfsCurr[8] | (Motion.bfsCurr[8] >> 1) | (Motion.bfsCurr[8] << 1);
-        Motion.bfsCurr[9] = Motion.bfsCurr[9] | (Motion.bfsCurr[9] >> 1) | (Motion.bfsCurr[9] << 1);
-        Motion.bfsCurr[10] = Motion.bfsCurr[10] | (Motion.bfsCurr[10] >> 1) | (Motion.bfsCurr[10] << 1);
-        Motion.bfsCurr[11] = Motion.bfsCurr[11] | (Motion.bfsCurr[11] >> 1) | (Motion.bfsCurr[11] << 1);
-        Motion.bfsCurr[12] = Motion.bfsCurr[12] | (Motion.bfsCurr[12] >> 1) | (Motion.bfsCurr[12] << 1);
-        Motion.bfsCurr[13] = Motion.bfsCurr[13] | (Motion.bfsCurr[13] >> 1) | (Motion.bfsCurr[13] << 1);
-        Motion.bfsCurr[14] = Motion.bfsCurr[14] | (Motion.bfsCurr[14] >> 1) | (Motion.bfsCurr[14] << 1);
-        Motion.bfsCurr[15] = Motion.bfsCurr[15] | (Motion.bfsCurr[15] >> 1) | (Motion.bfsCurr[15] << 1);
-        Motion.bfsCurr[16] = Motion.bfsCurr[16] | (Motion.bfsCurr[16] >> 1) | (Motion.bfsCurr[16] << 1);
-        Motion.bfsCurr[17] = Motion.bfsCurr[17] | (Motion.bfsCurr[17] >> 1) | (Motion.bfsCurr[17] << 1);
-        Motion.bfsCurr[18] = Motion.bfsCurr[18] | (Motion.bfsCurr[18] >> 1) | (Motion.bfsCurr[18] << 1);
-        Motion.bfsCurr[19] = Motion.bfsCurr[19] | (Motion.bfsCurr[19] >> 1) | (Motion.bfsCurr[19] << 1);
-        Motion.bfsCurr[20] = Motion.bfsCurr[20] | (Motion.bfsCurr[20] >> 1) | (Motion.bfsCurr[20] << 1);
-        Motion.bfsCurr[21] = Motion.bfsCurr[21] | (Motion.bfsCurr[21] >> 1) | (Motion.bfsCurr[21] << 1);
-        Motion.bfsCurr[22] = Motion.bfsCurr[22] | (Motion.bfsCurr[22] >> 1) | (Motion.bfsCurr[22] << 1);
-        Motion.bfsCurr[23] = Motion.bfsCurr[23] | (Motion.bfsCurr[23] >> 1) | (Motion.bfsCurr[23] << 1);
-        Motion.bfsCurr[24] = Motion.bfsCurr[24] | (Motion.bfsCurr[24] >> 1) | (Motion.bfsCurr[24] << 1);
-        Motion.bfsCurr[25] = Motion.bfsCurr[25] | (Motion.bfsCurr[25] >> 1) | (Motion.bfsCurr[25] << 1);
-        Motion.bfsCurr[26] = Motion.bfsCurr[26] | (Motion.bfsCurr[26] >> 1) | (Motion.bfsCurr[26] << 1);
-        Motion.bfsCurr[27] = Motion.bfsCurr[27] | (Motion.bfsCurr[27] >> 1) | (Motion.bfsCurr[27] << 1);
-        Motion.bfsCurr[28] = Motion.bfsCurr[28] | (Motion.bfsCurr[28] >> 1) | (Motion.bfsCurr[28] << 1);
-        Motion.bfsCurr[29] = Motion.bfsCurr[29] | (Motion.bfsCurr[29] >> 1) | (Motion.bfsCurr[29] << 1);
-        Motion.bfsCurr[30] = Motion.bfsCurr[30] | (Motion.bfsCurr[30] >> 1) | (Motion.bfsCurr[30] << 1);
-        Motion.bfsCurr[31] = Motion.bfsCurr[31] | (Motion.bfsCurr[31] >> 1) | (Motion.bfsCurr[31] << 1);
-        Motion.bfsCurr[32] = Motion.bfsCurr[32] | (Motion.bfsCurr[32] >> 1) | (Motion.bfsCurr[32] << 1);
-        Motion.bfsCurr[33] = Motion.bfsCurr[33] | (Motion.bfsCurr[33] >> 1) | (Motion.bfsCurr[33] << 1);
-        Motion.bfsCurr[34] = Motion.bfsCurr[34] | (Motion.bfsCurr[34] >> 1) | (Motion.bfsCurr[34] << 1);
-        Motion.bfsDist[Motion.stepOffset + 1] = (Motion.bfsCurr[1] | Motion.bfsCurr[0] | Motion.bfsCurr[2]) & (Motion.bitmask ^ Motion.bfsMap[1]);
-        Motion.bfsDist[Motion.stepOffset + 2] = (Motion.bfsCurr[2] | Motion.bfsCurr[1] | Motion.bfsCurr[3]) & (Motion.bitmask ^ Motion.bfsMap[2]);
-        Motion.bfsDist[Motion.stepOffset + 3] = (Motion.bfsCurr[3] | Motion.bfsCurr[2] | Motion.bfsCurr[4]) & (Motion.bitmask ^ Motion.bfsMap[3]);
-        Motion.bfsDist[Motion.stepOffset + 4] = (Motion.bfsCurr[4] | Motion.bfsCurr[3] | Motion.bfsCurr[5]) & (Motion.bitmask ^ Motion.bfsMap[4]);
-        Motion.bfsDist[Motion.stepOffset + 5] = (Motion.bfsCurr[5] | Motion.bfsCurr[4] | Motion.bfsCurr[6]) & (Motion.bitmask ^ Motion.bfsMap[5]);
-        Motion.bfsDist[Motion.stepOffset + 6] = (Motion.bfsCurr[6] | Motion.bfsCurr[5] | Motion.bfsCurr[7]) & (Motion.bitmask ^ Motion.bfsMap[6]);
-        Motion.bfsDist[Motion.stepOffset + 7] = (Motion.bfsCurr[7] | Motion.bfsCurr[6] | Motion.bfsCurr[8]) & (Motion.bitmask ^ Motion.bfsMap[7]);
-        Motion.bfsDist[Motion.stepOffset + 8] = (Motion.bfsCurr[8] | Motion.bfsCurr[7] | Motion.bfsCurr[9]) & (Motion.bitmask ^ Motion.bfsMap[8]);
-        Motion.bfsDist[Motion.stepOffset + 9] = (Motion.bfsCurr[9] | Motion.bfsCurr[8] | Motion.bfsCurr[10]) & (Motion.bitmask ^ Motion.bfsMap[9]);
-        Motion.bfsDist[Motion.stepOffset + 10] = (Motion.bfsCurr[10] | Motion.bfsCurr[9] | Motion.bfsCurr[11]) & (Motion.bitmask ^ Motion.bfsMap[10]);
-        Motion.bfsDist[Motion.stepOffset + 11] = (Motion.bfsCurr[11] | Motion.bfsCurr[10] | Motion.bfsCurr[12]) & (Motion.bitmask ^ Motion.bfsMap[11]);
-        Motion.bfsDist[Motion.stepOffset + 12] = (Motion.bfsCurr[12] | Motion.bfsCurr[11] | Motion.bfsCurr[13]) & (Motion.bitmask ^ Motion.bfsMap[12]);
-        Motion.bfsDist[Motion.stepOffset + 13] = (Motion.bfsCurr[13] | Motion.bfsCurr[12] | Motion.bfsCurr[14]) & (Motion.bitmask ^ Motion.bfsMap[13]);
-        Motion.bfsDist[Motion.stepOffset + 14] = (Motion.bfsCurr[14] | Motion.bfsCurr[13] | Motion.bfsCurr[15]) & (Motion.bitmask ^ Motion.bfsMap[14]);
-        Motion.bfsDist[Motion.stepOffset + 15] = (Motion.bfsCurr[15] | Motion.bfsCurr[14] | Motion.bfsCurr[16]) & (Motion.bitmask ^ Motion.bfsMap[15]);
-        Motion.bfsDist[Motion.stepOffset + 16] = (Motion.bfsCurr[16] | Motion.bfsCurr[15] | Motion.bfsCurr[17]) & (Motion.bitmask ^ Motion.bfsMap[16]);
-        Motion.bfsDist[Motion.stepOffset + 17] = (Motion.bfsCurr[17] | Motion.bfsCurr[16] | Motion.bfsCurr[18]) & (Motion.bitmask ^ Motion.bfsMap[17]);
-        Motion.bfsDist[Motion.stepOffset + 18] = (Motion.bfsCurr[18] | Motion.bfsCurr[17] | Motion.bfsCurr[19]) & (Motion.bitmask ^ Motion.bfsMap[18]);
-        Motion.bfsDist[Motion.stepOffset + 19] = (Motion.bfsCurr[19] | Motion.bfsCurr[18] | Motion.bfsCurr[20]) & (Motion.bitmask ^ Motion.bfsMap[19]);
-        Motion.bfsDist[Motion.stepOffset + 20] = (Motion.bfsCurr[20] | Motion.bfsCurr[19] | Motion.bfsCurr[21]) & (Motion.bitmask ^ Motion.bfsMap[20]);
-        Motion.bfsDist[Motion.stepOffset + 21] = (Motion.bfsCurr[21] | Motion.bfsCurr[20] | Motion.bfsCurr[22]) & (Motion.bitmask ^ Motion.bfsMap[21]);
-        Motion.bfsDist[Motion.stepOffset + 22] = (Motion.bfsCurr[22] | Motion.bfsCurr[21] | Motion.bfsCurr[23]) & (Motion.bitmask ^ Motion.bfsMap[22]);
-        Motion.bfsDist[Motion.stepOffset + 23] = (Motion.bfsCurr[23] | Motion.bfsCurr[22] | Motion.bfsCurr[24]) & (Motion.bitmask ^ Motion.bfsMap[23]);
-        Motion.bfsDist[Motion.stepOffset + 24] = (Motion.bfsCurr[24] | Motion.bfsCurr[23] | Motion.bfsCurr[25]) & (Motion.bitmask ^ Motion.bfsMap[24]);
-        Motion.bfsDist[Motion.stepOffset + 25] = (Motion.bfsCurr[25] | Motion.bfsCurr[24] | Motion.bfsCurr[26]) & (Motion.bitmask ^ Motion.bfsMap[25]);
-        Motion.bfsDist[Motion.stepOffset + 26] = (Motion.bfsCurr[26] | Motion.bfsCurr[25] | Motion.bfsCurr[27]) & (Motion.bitmask ^ Motion.bfsMap[26]);
-        Motion.bfsDist[Motion.stepOffset + 27] = (Motion.bfsCurr[27] | Motion.bfsCurr[26] | Motion.bfsCurr[28]) & (Motion.bitmask ^ Motion.bfsMap[27]);
-        Motion.bfsDist[Motion.stepOffset + 28] = (Motion.bfsCurr[28] | Motion.bfsCurr[27] | Motion.bfsCurr[29]) & (Motion.bitmask ^ Motion.bfsMap[28]);
-        Motion.bfsDist[Motion.stepOffset + 29] = (Motion.bfsCurr[29] | Motion.bfsCurr[28] | Motion.bfsCurr[30]) & (Motion.bitmask ^ Motion.bfsMap[29]);
-        Motion.bfsDist[Motion.stepOffset + 30] = (Motion.bfsCurr[30] | Motion.bfsCurr[29] | Motion.bfsCurr[31]) & (Motion.bitmask ^ Motion.bfsMap[30]);
-        Motion.bfsDist[Motion.stepOffset + 31] = (Motion.bfsCurr[31] | Motion.bfsCurr[30] | Motion.bfsCurr[32]) & (Motion.bitmask ^ Motion.bfsMap[31]);
-        Motion.bfsDist[Motion.stepOffset + 32] = (Motion.bfsCurr[32] | Motion.bfsCurr[31] | Motion.bfsCurr[33]) & (Motion.bitmask ^ Motion.bfsMap[32]);
-        Motion.bfsDist[Motion.stepOffset + 33] = (Motion.bfsCurr[33] | Motion.bfsCurr[32] | Motion.bfsCurr[34]) & (Motion.bitmask ^ Motion.bfsMap[33]);
-        Motion.bfsDist[Motion.stepOffset + 34] = (Motion.bfsCurr[34] | Motion.bfsCurr[33] | Motion.bfsCurr[35]) & (Motion.bitmask ^ Motion.bfsMap[34]);
-        Motion.bfsCurr[1] = Motion.bfsDist[Motion.stepOffset + 1];
-        Motion.bfsCurr[2] = Motion.bfsDist[Motion.stepOffset + 2];
-        Motion.bfsCurr[3] = Motion.bfsDist[Motion.stepOffset + 3];
-        Motion.bfsCurr[4] = Motion.bfsDist[Motion.stepOffset + 4];
-        Motion.bfsCurr[5] = Motion.bfsDist[Motion.stepOffset + 5];
-        Motion.bfsCurr[6] = Motion.bfsDist[Motion.stepOffset + 6];
-        Motion.bfsCurr[7] = Motion.bfsDist[Motion.stepOffset + 7];
-        Motion.bfsCurr[8] = Motion.bfsDist[Motion.stepOffset + 8];
-        Motion.bfsCurr[9] = Motion.bfsDist[Motion.stepOffset + 9];
-        Motion.bfsCurr[10] = Motion.bfsDist[Motion.stepOffset + 10];
-        Motion.bfsCurr[11] = Motion.bfsDist[Motion.stepOffset + 11];
-        Motion.bfsCurr[12] = Motion.bfsDist[Motion.stepOffset + 12];
-        Motion.bfsCurr[13] = Motion.bfsDist[Motion.stepOffset + 13];
-        Motion.bfsCurr[14] = Motion.bfsDist[Motion.stepOffset + 14];
-        Motion.bfsCurr[15] = Motion.bfsDist[Motion.stepOffset + 15];
-        Motion.bfsCurr[16] = Motion.bfsDist[Motion.stepOffset + 16];
-        Motion.bfsCurr[17] = Motion.bfsDist[Motion.stepOffset + 17];
-        Motion.bfsCurr[18] = Motion.bfsDist[Motion.stepOffset + 18];
-        Motion.bfsCurr[19] = Motion.bfsDist[Motion.stepOffset + 19];
-        Motion.bfsCurr[20] = Motion.bfsDist[Motion.stepOffset + 20];
-        Motion.bfsCurr[21] = Motion.bfsDist[Motion.stepOffset + 21];
-        Motion.bfsCurr[22] = Motion.bfsDist[Motion.stepOffset + 22];
-        Motion.bfsCurr[23] = Motion.bfsDist[Motion.stepOffset + 23];
-        Motion.bfsCurr[24] = Motion.bfsDist[Motion.stepOffset + 24];
-        Motion.bfsCurr[25] = Motion.bfsDist[Motion.stepOffset + 25];
-        Motion.bfsCurr[26] = Motion.bfsDist[Motion.stepOffset + 26];
-        Motion.bfsCurr[27] = Motion.bfsDist[Motion.stepOffset + 27];
-        Motion.bfsCurr[28] = Motion.bfsDist[Motion.stepOffset + 28];
-        Motion.bfsCurr[29] = Motion.bfsDist[Motion.stepOffset + 29];
-        Motion.bfsCurr[30] = Motion.bfsDist[Motion.stepOffset + 30];
-        Motion.bfsCurr[31] = Motion.bfsDist[Motion.stepOffset + 31];
-        Motion.bfsCurr[32] = Motion.bfsDist[Motion.stepOffset + 32];
-        Motion.bfsCurr[33] = Motion.bfsDist[Motion.stepOffset + 33];
-        Motion.bfsCurr[34] = Motion.bfsDist[Motion.stepOffset + 34];
-    }
-    public static void bfs35() {
-        Motion.bfsCurr[1] = Motion.bfsCurr[1] | (Motion.bfsCurr[1] >> 1) | (Motion.bfsCurr[1] << 1);
-        Motion.bfsCurr[2] = Motion.bfsCurr[2] | (Motion.bfsCurr[2] >> 1) | (Motion.bfsCurr[2] << 1);
-        Motion.bfsCurr[3] = Motion.bfsCurr[3] | (Motion.bfsCurr[3] >> 1) | (Motion.bfsCurr[3] << 1);
-        Motion.bfsCurr[4] = Motion.bfsCurr[4] | (Motion.bfsCurr[4] >> 1) | (Motion.bfsCurr[4] << 1);
-        Motion.bfsCurr[5] = Motion.bfsCurr[5] | (Motion.bfsCurr[5] >> 1) | (Motion.bfsCurr[5] << 1);
-        Motion.bfsCurr[6] = Motion.bfsCurr[6] | (Motion.bfsCurr[6] >> 1) | (Motion.bfsCurr[6] << 1);
-        Motion.bfsCurr[7] = Motion.bfsCurr[7] | (Motion.bfsCurr[7] >> 1) | (Motion.bfsCurr[7] << 1);
-        Motion.bfsCurr[8] = Motion.bfsCurr[8] | (Motion.bfsCurr[8] >> 1) | (Motion.bfsCurr[8] << 1);
-        Motion.bfsCurr[9] = Motion.bfsCurr[9] | (Motion.bfsCurr[9] >> 1) | (Motion.bfsCurr[9] << 1);
-        Motion.bfsCurr[10] = Motion.bfsCurr[10] | (Motion.bfsCurr[10] >> 1) | (Motion.bfsCurr[10] << 1);
-        Motion.bfsCurr[11] = Motion.bfsCurr[11] | (Motion.bfsCurr[11] >> 1) | (Motion.bfsCurr[11] << 1);
-        Motion.bfsCurr[12] = Motion.bfsCurr[12] | (Motion.bfsCurr[12] >> 1) | (Motion.bfsCurr[12] << 1);
-        Motion.bfsCurr[13] = Motion.bfsCurr[13] | (Motion.bfsCurr[13] >> 1) | (Motion.bfsCurr[13] << 1);
-        Motion.bfsCurr[14] = Motion.bfsCurr[14] | (Motion.bfsCurr[14] >> 1) | (Motion.bfsCurr[14] << 1);
-        Motion.bfsCurr[15] = Motion.bfsCurr[15] | (Motion.bfsCurr[15] >> 1) | (Motion.bfsCurr[15] << 1);
-        Motion.bfsCurr[16] = Motion.bfsCurr[16] | (Motion.bfsCurr[16] >> 1) | (Motion.bfsCurr[16] << 1);
-        Motion.bfsCurr[17] = Motion.bfsCurr[17] | (Motion.bfsCurr[17] >> 1) | (Motion.bfsCurr[17] << 1);
-        Motion.bfsCurr[18] = Motion.bfsCurr[18] | (Motion.bfsCurr[18] >> 1) | (Motion.bfsCurr[18] << 1);
-        Motion.bfsCurr[19] = Motion.bfsCurr[19] | (Motion.bfsCurr[19] >> 1) | (Motion.bfsCurr[19] << 1);
-        Motion.bfsCurr[20] = Motion.bfsCurr[20] | (Motion.bfsCurr[20] >> 1) | (Motion.bfsCurr[20] << 1);
-        Motion.bfsCurr[21] = Motion.bfsCurr[21] | (Motion.bfsCurr[21] >> 1) | (Motion.bfsCurr[21] << 1);
-        Motion.bfsCurr[22] = Motion.bfsCurr[22] | (Motion.bfsCurr[22] >> 1) | (Motion.bfsCurr[22] << 1);
-        Motion.bfsCurr[23] = Motion.bfsCurr[23] | (Motion.bfsCurr[23] >> 1) | (Motion.bfsCurr[23] << 1);
-        Motion.bfsCurr[24] = Motion.bfsCurr[24] | (Motion.bfsCurr[24] >> 1) | (Motion.bfsCurr[24] << 1);
-        Motion.bfsCurr[25] = Motion.bfsCurr[25] | (Motion.bfsCurr[25] >> 1) | (Motion.bfsCurr[25] << 1);
-        Motion.bfsCurr[26] = Motion.bfsCurr[26] | (Motion.bfsCurr[26] >> 1) | (Motion.bfsCurr[26] << 1);
-        Motion.bfsCurr[27] = Motion.bfsCurr[27] | (Motion.bfsCurr[27] >> 1) | (Motion.bfsCurr[27] << 1);
-        Motion.bfsCurr[28] = Motion.bfsCurr[28] | (Motion.bfsCurr[28] >> 1) | (Motion.bfsCurr[28] << 1);
-        Motion.bfsCurr[29] = Motion.bfsCurr[29] | (Motion.bfsCurr[29] >> 1) | (Motion.bfsCurr[29] << 1);
-        Motion.bfsCurr[30] = Motion.bfsCurr[30] | (Motion.bfsCurr[30] >> 1) | (Motion.bfsCurr[30] << 1);
-        Motion.bfsCurr[31] = Motion.bfsCurr[31] | (Motion.bfsCurr[31] >> 1) | (Motion.bfsCurr[31] << 1);
-        Motion.bfsCurr[32] = Motion.bfsCurr[32] | (Motion.bfsCurr[32] >> 1) | (Motion.bfsCurr[32] << 1);
-        Motion.bfsCurr[33] = Motion.bfsCurr[33] | (Motion.bfsCurr[33] >> 1) | (Motion.bfsCurr[33] << 1);
-        Motion.bfsCurr[34] = Motion.bfsCurr[34] | (Motion.bfsCurr[34] >> 1) | (Motion.bfsCurr[34] << 1);
-        Motion.bfsCurr[35] = Motion.bfsCurr[35] | (Motion.bfsCurr[35] >> 1) | (Motion.bfsCurr[35] << 1);
-        Motion.bfsDist[Motion.stepOffset + 1] = (Motion.bfsCurr[1] | Motion.bfsCurr[0] | Motion.bfsCurr[2]) & (Motion.bitmask ^ Motion.bfsMap[1]);
-        Motion.bfsDist[Motion.stepOffset + 2] = (Motion.bfsCurr[2] | Motion.bfsCurr[1] | Motion.bfsCurr[3]) & (Motion.bitmask ^ Motion.bfsMap[2]);
-        Motion.bfsDist[Motion.stepOffset + 3] = (Motion.bfsCurr[3] | Motion.bfsCurr[2] | Motion.bfsCurr[4]) & (Motion.bitmask ^ Motion.bfsMap[3]);
-        Motion.bfsDist[Motion.stepOffset + 4] = (Motion.bfsCurr[4] | Motion.bfsCurr[3] | Motion.bfsCurr[5]) & (Motion.bitmask ^ Motion.bfsMap[4]);
-        Motion.bfsDist[Motion.stepOffset + 5] = (Motion.bfsCurr[5] | Motion.bfsCurr[4] | Motion.bfsCurr[6]) & (Motion.bitmask ^ Motion.bfsMap[5]);
-        Motion.bfsDist[Motion.stepOffset + 6] = (Motion.bfsCurr[6] | Motion.bfsCurr[5] | Motion.bfsCurr[7]) & (Motion.bitmask ^ Motion.bfsMap[6]);
-        Motion.bfsDist[Motion.stepOffset + 7] = (Motion.bfsCurr[7] | Motion.bfsCurr[6] | Motion.bfsCurr[8]) & (Motion.bitmask ^ Motion.bfsMap[7]);
-        Motion.bfsDist[Motion.stepOffset + 8] = (Motion.bfsCurr[8] | Motion.bfsCurr[7] | Motion.bfsCurr[9]) & (Motion.bitmask ^ Motion.bfsMap[8]);
-        Motion.bfsDist[Motion.stepOffset + 9] = (Motion.bfsCurr[9] | Motion.bfsCurr[8] | Motion.bfsCurr[10]) & (Motion.bitmask ^ Motion.bfsMap[9]);
-        Motion.bfsDist[Motion.stepOffset + 10] = (Motion.bfsCurr[10] | Motion.bfsCurr[9] | Motion.bfsCurr[11]) & (Motion.bitmask ^ Motion.bfsMap[10]);
-        Motion.bfsDist[Motion.stepOffset + 11] = (Motion.bfsCurr[11] | Motion.bfsCurr[10] | Motion.bfsCurr[12]) & (Motion.bitmask ^ Motion.bfsMap[11]);
-        Motion.bfsDist[Motion.stepOffset + 12] = (Motion.bfsCurr[12] | Motion.bfsCurr[11] | Motion.bfsCurr[13]) & (Motion.bitmask ^ Motion.bfsMap[12]);
-        Motion.bfsDist[Motion.stepOffset + 13] = (Motion.bfsCurr[13] | Motion.bfsCurr[12] | Motion.bfsCurr[14]) & (Motion.bitmask ^ Motion.bfsMap[13]);
-        Motion.bfsDist[Motion.stepOffset + 14] = (Motion.bfsCurr[14] | Motion.bfsCurr[13] | Motion.bfsCurr[15]) & (Motion.bitmask ^ Motion.bfsMap[14]);
-        Motion.bfsDist[Motion.stepOffset + 15] = (Motion.bfsCurr[15] | Motion.bfsCurr[14] | Motion.bfsCurr[16]) & (Motion.bitmask ^ Motion.bfsMap[15]);
-        Motion.bfsDist[Motion.stepOffset + 16] = (Motion.bfsCurr[16] | Motion.bfsCurr[15] | Motion.bfsCurr[17]) & (Motion.bitmask ^ Motion.bfsMap[16]);
-        Motion.bfsDist[Motion.stepOffset + 17] = (Motion.bfsCurr[17] | Motion.bfsCurr[16] | Motion.bfsCurr[18]) & (Motion.bitmask ^ Motion.bfsMap[17]);
-        Motion.bfsDist[Motion.stepOffset + 18] = (Motion.bfsCurr[18] | Motion.bfsCurr[17] | Motion.bfsCurr[19]) & (Motion.bitmask ^ Motion.bfsMap[18]);
-        Motion.bfsDist[Motion.stepOffset + 19] = (Motion.bfsCurr[19] | Motion.bfsCurr[18] | Motion.bfsCurr[20]) & (Motion.bitmask ^ Motion.bfsMap[19]);
-        Motion.bfsDist[Motion.stepOffset + 20] = (Motion.bfsCurr[20] | Motion.bfsCurr[19] | Motion.bfsCurr[21]) & (Motion.bitmask ^ Motion.bfsMap[20]);
-        Motion.bfsDist[Motion.stepOffset + 21] = (Motion.bfsCurr[21] | Motion.bfsCurr[20] | Motion.bfsCurr[22]) & (Motion.bitmask ^ Motion.bfsMap[21]);
-        Motion.bfsDist[Motion.stepOffset + 22] = (Motion.bfsCurr[22] | Motion.bfsCurr[21] | Motion.bfsCurr[23]) & (Motion.bitmask ^ Motion.bfsMap[22]);
-        Motion.bfsDist[Motion.stepOffset + 23] = (Motion.bfsCurr[23] | Motion.bfsCurr[22] | Motion.bfsCurr[24]) & (Motion.bitmask ^ Motion.bfsMap[23]);
-        Motion.bfsDist[Motion.stepOffset + 24] = (Motion.bfsCurr[24] | Motion.bfsCurr[23] | Motion.bfsCurr[25]) & (Motion.bitmask ^ Motion.bfsMap[24]);
-        Motion.bfsDist[Motion.stepOffset + 25] = (Motion.bfsCurr[25] | Motion.bfsCurr[24] | Motion.bfsCurr[26]) & (Motion.bitmask ^ Motion.bfsMap[25]);
-        Motion.bfsDist[Motion.stepOffset + 26] = (Motion.bfsCurr[26] | Motion.bfsCurr[25] | Motion.bfsCurr[27]) & (Motion.bitmask ^ Motion.bfsMap[26]);
-        Motion.bfsDist[Motion.stepOffset + 27] = (Motion.bfsCurr[27] | Motion.bfsCurr[26] | Motion.bfsCurr[28]) & (Motion.bitmask ^ Motion.bfsMap[27]);
-        Motion.bfsDist[Motion.stepOffset + 28] = (Motion.bfsCurr[28] | Motion.bfsCurr[27] | Motion.bfsCurr[29]) & (Motion.bitmask ^ Motion.bfsMap[28]);
-        Motion.bfsDist[Motion.stepOffset + 29] = (Motion.bfsCurr[29] | Motion.bfsCurr[28] | Motion.bfsCurr[30]) & (Motion.bitmask ^ Motion.bfsMap[29]);
-        Motion.bfsDist[Motion.stepOffset + 30] = (Motion.bfsCurr[30] | Motion.bfsCurr[29] | Motion.bfsCurr[31]) & (Motion.bitmask ^ Motion.bfsMap[30]);
-        Motion.bfsDist[Motion.stepOffset + 31] = (Motion.bfsCurr[31] | Motion.bfsCurr[30] | Motion.bfsCurr[32]) & (Motion.bitmask ^ Motion.bfsMap[31]);
-        Motion.bfsDist[Motion.stepOffset + 32] = (Motion.bfsCurr[32] | Motion.bfsCurr[31] | Motion.bfsCurr[33]) & (Motion.bitmask ^ Motion.bfsMap[32]);
-        Motion.bfsDist[Motion.stepOffset + 33] = (Motion.bfsCurr[33] | Motion.bfsCurr[32] | Motion.bfsCurr[34]) & (Motion.bitmask ^ Motion.bfsMap[33]);
-        Motion.bfsDist[Motion.stepOffset + 34] = (Motion.bfsCurr[34] | Motion.bfsCurr[33] | Motion.bfsCurr[35]) & (Motion.bitmask ^ Motion.bfsMap[34]);
-        Motion.bfsDist[Motion.stepOffset + 35] = (Motion.bfsCurr[35] | Motion.bfsCurr[34] | Motion.bfsCurr[36]) & (Motion.bitmask ^ Motion.bfsMap[35]);
-        Motion.bfsCurr[1] = Motion.bfsDist[Motion.stepOffset + 1];
-        Motion.bfsCurr[2] = Motion.bfsDist[Motion.stepOffset + 2];
-        Motion.bfsCurr[3] = Motion.bfsDist[Motion.stepOffset + 3];
-        Motion.bfsCurr[4] = Motion.bfsDist[Motion.stepOffset + 4];
-        Motion.bfsCurr[5] = Motion.bfsDist[Motion.stepOffset + 5];
-        Motion.bfsCurr[6] = Motion.bfsDist[Motion.stepOffset + 6];
-        Motion.bfsCurr[7] = Motion.bfsDist[Motion.stepOffset + 7];
-        Motion.bfsCurr[8] = Motion.bfsDist[Motion.stepOffset + 8];
-        Motion.bfsCurr[9] = Motion.bfsDist[Motion.stepOffset + 9];
-        Motion.bfsCurr[10] = Motion.bfsDist[Motion.stepOffset + 10];
-        Motion.bfsCurr[11] = Motion.bfsDist[Motion.stepOffset + 11];
-        Motion.bfsCurr[12] = Motion.bfsDist[Motion.stepOffset + 12];
-        Motion.bfsCurr[13] = Motion.bfsDist[Motion.stepOffset + 13];
-        Motion.bfsCurr[14] = Motion.bfsDist[Motion.stepOffset + 14];
-        Motion.bfsCurr[15] = Motion.bfsDist[Motion.stepOffset + 15];
-        Motion.bfsCurr[16] = Motion.bfsDist[Motion.stepOffset + 16];
-        Motion.bfsCurr[17] = Motion.bfsDist[Motion.stepOffset + 17];
-        Motion.bfsCurr[18] = Motion.bfsDist[Motion.stepOffset + 18];
-        Motion.bfsCurr[19] = Motion.bfsDist[Motion.stepOffset + 19];
-        Motion.bfsCurr[20] = Motion.bfsDist[Motion.stepOffset + 20];
-        Motion.bfsCurr[21] = Motion.bfsDist[Motion.stepOffset + 21];
-        Motion.bfsCurr[22] = Motion.bfsDist[Motion.stepOffset + 22];
-        Motion.bfsCurr[23] = Motion.bfsDist[Motion.stepOffset + 23];
-        Motion.bfsCurr[24] = Motion.bfsDist[Motion.stepOffset + 24];
-        Motion.bfsCurr[25] = Motion.bfsDist[Motion.stepOffset + 25];
-        Motion.bfsCurr[26] = Motion.bfsDist[Motion.stepOffset + 26];
-        Motion.bfsCurr[27] = Motion.bfsDist[Motion.stepOffset + 27];
-        Motion.bfsCurr[28] = Motion.bfsDist[Motion.stepOffset + 28];
-        Motion.bfsCurr[29] = Motion.bfsDist[Motion.stepOffset + 29];
-        Motion.bfsCurr[30] = Motion.bfsDist[Motion.stepOffset + 30];
-        Motion.bfsCurr[31] = Motion.bfsDist[Motion.stepOffset + 31];
-        Motion.bfsCurr[32] = Motion.bfsDist[Motion.stepOffset + 32];
-        Motion.bfsCurr[33] = Motion.bfsDist[Motion.stepOffset + 33];
-        Motion.bfsCurr[34] = Motion.bfsDist[Motion.stepOffset + 34];
-        Motion.bfsCurr[35] = Motion.bfsDist[Motion.stepOffset + 35];
-    }
-    public static void bfs36() {
-        Motion.bfsCurr[1] = Motion.bfsCurr[1] | (Motion.bfsCurr[1] >> 1) | (Motion.bfsCurr[1] << 1);
-        Motion.bfsCurr[2] = Motion.bfsCurr[2] | (Motion.bfsCurr[2] >> 1) | (Motion.bfsCurr[2] << 1);
-        Motion.bfsCurr[3] = Motion.bfsCurr[3] | (Motion.bfsCurr[3] >> 1) | (Motion.bfsCurr[3] << 1);
-        Motion.bfsCurr[4] = Motion.bfsCurr[4] | (Motion.bfsCurr[4] >> 1) | (Motion.bfsCurr[4] << 1);
-        Motion.bfsCurr[5] = Motion.bfsCurr[5] | (Motion.bfsCurr[5] >> 1) | (Motion.bfsCurr[5] << 1);
-        Motion.bfsCurr[6] = Motion.bfsCurr[6] | (Motion.bfsCurr[6] >> 1) | (Motion.bfsCurr[6] << 1);
-        Motion.bfsCurr[7] = Motion.bfsCurr[7] | (Motion.bfsCurr[7] >> 1) | (Motion.bfsCurr[7] << 1);
-        Motion.bfsCurr[8] = Motion.bfsCurr[8] | (Motion.bfsCurr[8] >> 1) | (Motion.bfsCurr[8] << 1);
-        Motion.bfsCurr[9] = Motion.bfsCurr[9] | (Motion.bfsCurr[9] >> 1) | (Motion.bfsCurr[9] << 1);
-        Motion.bfsCurr[10] = Motion.bfsCurr[10] | (Motion.bfsCurr[10] >> 1) | (Motion.bfsCurr[10] << 1);
-        Motion.bfsCurr[11] = Motion.bfsCurr[11] | (Motion.bfsCurr[11] >> 1) | (Motion.bfsCurr[11] << 1);
-        Motion.bfsCurr[12] = Motion.bfsCurr[12] | (Motion.bfsCurr[12] >> 1) | (Motion.bfsCurr[12] << 1);
-        Motion.bfsCurr[13] = Motion.bfsCurr[13] | (Motion.bfsCurr[13] >> 1) | (Motion.bfsCurr[13] << 1);
-        Motion.bfsCurr[14] = Motion.bfsCurr[14] | (Motion.bfsCurr[14] >> 1) | (Motion.bfsCurr[14] << 1);
-        Motion.bfsCurr[15] = Motion.bfsCurr[15] | (Motion.bfsCurr[15] >> 1) | (Motion.bfsCurr[15] << 1);
-        Motion.bfsCurr[16] = Motion.bfsCurr[16] | (Motion.bfsCurr[16] >> 1) | (Motion.bfsCurr[16] << 1);
-        Motion.bfsCurr[17] = Motion.bfsCurr[17] | (Motion.bfsCurr[17] >> 1) | (Motion.bfsCurr[17] << 1);
-        Motion.bfsCurr[18] = Motion.bfsCurr[18] | (Motion.bfsCurr[18] >> 1) | (Motion.bfsCurr[18] << 1);
-        Motion.bfsCurr[19] = Motion.bfsCurr[19] | (Motion.bfsCurr[19] >> 1) | (Motion.bfsCurr[19] << 1);
-        Motion.bfsCurr[20] = Motion.bfsCurr[20] | (Motion.bfsCurr[20] >> 1) | (Motion.bfsCurr[20] << 1);
-        Motion.bfsCurr[21] = Motion.bfsCurr[21] | (Motion.bfsCurr[21] >> 1) | (Motion.bfsCurr[21] << 1);
-        Motion.bfsCurr[22] = Motion.bfsCurr[22] | (Motion.bfsCurr[22] >> 1) | (Motion.bfsCurr[22] << 1);
-        Motion.bfsCurr[23] = Motion.bfsCurr[23] | (Motion.bfsCurr[23] >> 1) | (Motion.bfsCurr[23] << 1);
-        Motion.bfsCurr[24] = Motion.bfsCurr[24] | (Motion.bfsCurr[24] >> 1) | (Motion.bfsCurr[24] << 1);
-        Motion.bfsCurr[25] = Motion.bfsCurr[25] | (Motion.bfsCurr[25] >> 1) | (Motion.bfsCurr[25] << 1);
-        Motion.bfsCurr[26] = Motion.bfsCurr[26] | (Motion.bfsCurr[26] >> 1) | (Motion.bfsCurr[26] << 1);
-        Motion.bfsCurr[27] = Motion.bfsCurr[27] | (Motion.bfsCurr[27] >> 1) | (Motion.bfsCurr[27] << 1);
-        Motion.bfsCurr[28] = Motion.bfsCurr[28] | (Motion.bfsCurr[28] >> 1) | (Motion.bfsCurr[28] << 1);
-        Motion.bfsCurr[29] = Motion.bfsCurr[29] | (Motion.bfsCurr[29] >> 1) | (Motion.bfsCurr[29] << 1);
-        Motion.bfsCurr[30] = Motion.bfsCurr[30] | (Motion.bfsCurr[30] >> 1) | (Motion.bfsCurr[30] << 1);
-        Motion.bfsCurr[31] = Motion.bfsCurr[31] | (Motion.bfsCurr[31] >> 1) | (Motion.bfsCurr[31] << 1);
-        Motion.bfsCurr[32] = Motion.bfsCurr[32] | (Motion.bfsCurr[32] >> 1) | (Motion.bfsCurr[32] << 1);
-        Motion.bfsCurr[33] = Motion.bfsCurr[33] | (Motion.bfsCurr[33] >> 1) | (Motion.bfsCurr[33] << 1);
-        Motion.bfsCurr[34] = Motion.bfsCurr[34] | (Motion.bfsCurr[34] >> 1) | (Motion.bfsCurr[34] << 1);
-        Motion.bfsCurr[35] = Motion.bfsCurr[35] | (Motion.bfsCurr[35] >> 1) | (Motion.bfsCurr[35] << 1);
-        Motion.bfsCurr[36] = Motion.bfsCurr[36] | (Motion.bfsCurr[36] >> 1) | (Motion.bfsCurr[36] << 1);
-        Motion.bfsDist[Motion.stepOffset + 1] = (Motion.bfsCurr[1] | Motion.bfsCurr[0] | Motion.bfsCurr[2]) & (Motion.bitmask ^ Motion.bfsMap[1]);
-        Motion.bfsDist[Motion.stepOffset + 2] = (Motion.bfsCurr[2] | Motion.bfsCurr[1] | Motion.bfsCurr[3]) & (Motion.bitmask ^ Motion.bfsMap[2]);
-        Motion.bfsDist[Motion.stepOffset + 3] = (Motion.bfsCurr[3] | Motion.bfsCurr[2] | Motion.bfsCurr[4]) & (Motion.bitmask ^ Motion.bfsMap[3]);
-        Motion.bfsDist[Motion.stepOffset + 4] = (Motion.bfsCurr[4] | Motion.bfsCurr[3] | Motion.bfsCurr[5]) & (Motion.bitmask ^ Motion.bfsMap[4]);
-        Motion.bfsDist[Motion.stepOffset + 5] = (Motion.bfsCurr[5] | Motion.bfsCurr[4] | Motion.bfsCurr[6]) & (Motion.bitmask ^ Motion.bfsMap[5]);
-        Motion.bfsDist[Motion.stepOffset + 6] = (Motion.bfsCurr[6] | Motion.bfsCurr[5] | Motion.bfsCurr[7]) & (Motion.bitmask ^ Motion.bfsMap[6]);
-        Motion.bfsDist[Motion.stepOffset + 7] = (Motion.bfsCurr[7] | Motion.bfsCurr[6] | Motion.bfsCurr[8]) & (Motion.bitmask ^ Motion.bfsMap[7]);
-        Motion.bfsDist[Motion.stepOffset + 8] = (Motion.bfsCurr[8] | Motion.bfsCurr[7] | Motion.bfsCurr[9]) & (Motion.bitmask ^ Motion.bfsMap[8]);
-        Motion.bfsDist[Motion.stepOffset + 9] = (Motion.bfsCurr[9] | Motion.bfsCurr[8] | Motion.bfsCurr[10]) & (Motion.bitmask ^ Motion.bfsMap[9]);
-        Motion.bfsDist[Motion.stepOffset + 10] = (Motion.bfsCurr[10] | Motion.bfsCurr[9] | Motion.bfsCurr[11]) & (Motion.bitmask ^ Motion.bfsMap[10]);
-        Motion.bfsDist[Motion.stepOffset + 11] = (Motion.bfsCurr[11] | Motion.bfsCurr[10] | Motion.bfsCurr[12]) & (Motion.bitmask ^ Motion.bfsMap[11]);
-        Motion.bfsDist[Motion.stepOffset + 12] = (Motion.bfsCurr[12] | Motion.bfsCurr[11] | Motion.bfsCurr[13]) & (Motion.bitmask ^ Motion.bfsMap[12]);
-        Motion.bfsDist[Motion.stepOffset + 13] = (Motion.bfsCurr[13] | Motion.bfsCurr[12] | Motion.bfsCurr[14]) & (Motion.bitmask ^ Motion.bfsMap[13]);
-        Motion.bfsDist[Motion.stepOffset + 14] = (Motion.bfsCurr[14] | Motion.bfsCurr[13] | Motion.bfsCurr[15]) & (Motion.bitmask ^ Motion.bfsMap[14]);
-        Motion.bfsDist[Motion.stepOffset + 15] = (Motion.bfsCurr[15] | Motion.bfsCurr[14] | Motion.bfsCurr[16]) & (Motion.bitmask ^ Motion.bfsMap[15]);
-        Motion.bfsDist[Motion.stepOffset + 16] = (Motion.bfsCurr[16] | Motion.bfsCurr[15] | Motion.bfsCurr[17]) & (Motion.bitmask ^ Motion.bfsMap[16]);
-        Motion.bfsDist[Motion.stepOffset + 17] = (Motion.bfsCurr[17] | Motion.bfsCurr[16] | Motion.bfsCurr[18]) & (Motion.bitmask ^ Motion.bfsMap[17]);
-        Motion.bfsDist[Motion.stepOffset + 18] = (Motion.bfsCurr[18] | Motion.bfsCurr[17] | Motion.bfsCurr[19]) & (Motion.bitmask ^ Motion.bfsMap[18]);
-        Motion.bfsDist[Motion.stepOffset + 19] = (Motion.bfsCurr[19] | Motion.bfsCurr[18] | Motion.bfsCurr[20]) & (Motion.bitmask ^ Motion.bfsMap[19]);
-        Motion.bfsDist[Motion.stepOffset + 20] = (Motion.bfsCurr[20] | Motion.bfsCurr[19] | Motion.bfsCurr[21]) & (Motion.bitmask ^ Motion.bfsMap[20]);
-        Motion.bfsDist[Motion.stepOffset + 21] = (Motion.bfsCurr[21] | Motion.bfsCurr[20] | Motion.bfsCurr[22]) & (Motion.bitmask ^ Motion.bfsMap[21]);
-        Motion.bfsDist[Motion.stepOffset + 22] = (Motion.bfsCurr[22] | Motion.bfsCurr[21] | Motion.bfsCurr[23]) & (Motion.bitmask ^ Motion.bfsMap[22]);
-        Motion.bfsDist[Motion.stepOffset + 23] = (Motion.bfsCurr[23] | Motion.bfsCurr[22] | Motion.bfsCurr[24]) & (Motion.bitmask ^ Motion.bfsMap[23]);
-        Motion.bfsDist[Motion.stepOffset + 24] = (Motion.bfsCurr[24] | Motion.bfsCurr[23] | Motion.bfsCurr[25]) & (Motion.bitmask ^ Motion.bfsMap[24]);
-        Motion.bfsDist[Motion.stepOffset + 25] = (Motion.bfsCurr[25] | Motion.bfsCurr[24] | Motion.bfsCurr[26]) & (Motion.bitmask ^ Motion.bfsMap[25]);
-        Motion.bfsDist[Motion.stepOffset + 26] = (Motion.bfsCurr[26] | Motion.bfsCurr[25] | Motion.bfsCurr[27]) & (Motion.bitmask ^ Motion.bfsMap[26]);
-        Motion.bfsDist[Motion.stepOffset + 27] = (Motion.bfsCurr[27] | Motion.bfsCurr[26] | Motion.bfsCurr[28]) & (Motion.bitmask ^ Motion.bfsMap[27]);
-        Motion.bfsDist[Motion.stepOffset + 28] = (Motion.bfsCurr[28] | Motion.bfsCurr[27] | Motion.bfsCurr[29]) & (Motion.bitmask ^ Motion.bfsMap[28]);
-        Motion.bfsDist[Motion.stepOffset + 29] = (Motion.bfsCurr[29] | Motion.bfsCurr[28] | Motion.bfsCurr[30]) & (Motion.bitmask ^ Motion.bfsMap[29]);
-        Motion.bfsDist[Motion.stepOffset + 30] = (Motion.bfsCurr[30] | Motion.bfsCurr[29] | Motion.bfsCurr[31]) & (Motion.bitmask ^ Motion.bfsMap[30]);
-        Motion.bfsDist[Motion.stepOffset + 31] = (Motion.bfsCurr[31] | Motion.bfsCurr[30] | Motion.bfsCurr[32]) & (Motion.bitmask ^ Motion.bfsMap[31]);
-        Motion.bfsDist[Motion.stepOffset + 32] = (Motion.bfsCurr[32] | Motion.bfsCurr[31] | Motion.bfsCurr[33]) & (Motion.bitmask ^ Motion.bfsMap[32]);
-        Motion.bfsDist[Motion.stepOffset + 33] = (Motion.bfsCurr[33] | Motion.bfsCurr[32] | Motion.bfsCurr[34]) & (Motion.bitmask ^ Motion.bfsMap[33]);
-        Motion.bfsDist[Motion.stepOffset + 34] = (Motion.bfsCurr[34] | Motion.bfsCurr[33] | Motion.bfsCurr[35]) & (Motion.bitmask ^ Motion.bfsMap[34]);
-        Motion.bfsDist[Motion.stepOffset + 35] = (Motion.bfsCurr[35] | Motion.bfsCurr[34] | Motion.bfsCurr[36]) & (Motion.bitmask ^ Motion.bfsMap[35]);
-        Motion.bfsDist[Motion.stepOffset + 36] = (Motion.bfsCurr[36] | Motion.bfsCurr[35] | Motion.bfsCurr[37]) & (Motion.bitmask ^ Motion.bfsMap[36]);
-        Motion.bfsCurr[1] = Motion.bfsDist[Motion.stepOffset + 1];
-        Motion.bfsCurr[2] = Motion.bfsDist[Motion.stepOffset + 2];
-        Motion.bfsCurr[3] = Motion.bfsDist[Motion.stepOffset + 3];
-        Motion.bfsCurr[4] = Motion.bfsDist[Motion.stepOffset + 4];
-        Motion.bfsCurr[5] = Motion.bfsDist[Motion.stepOffset + 5];
-        Motion.bfsCurr[6] = Motion.bfsDist[Motion.stepOffset + 6];
-        Motion.bfsCurr[7] = Motion.bfsDist[Motion.stepOffset + 7];
-        Motion.bfsCurr[8] = Motion.bfsDist[Motion.stepOffset + 8];
-        Motion.bfsCurr[9] = Motion.bfsDist[Motion.stepOffset + 9];
-        Motion.bfsCurr[10] = Motion.bfsDist[Motion.stepOffset + 10];
-        Motion.bfsCurr[11] = Motion.bfsDist[Motion.stepOffset + 11];
-        Motion.bfsCurr[12] = Motion.bfsDist[Motion.stepOffset + 12];
-        Motion.bfsCurr[13] = Motion.bfsDist[Motion.stepOffset + 13];
-        Motion.bfsCurr[14] = Motion.bfsDist[Motion.stepOffset + 14];
-        Motion.bfsCurr[15] = Motion.bfsDist[Motion.stepOffset + 15];
-        Motion.bfsCurr[16] = Motion.bfsDist[Motion.stepOffset + 16];
-        Motion.bfsCurr[17] = Motion.bfsDist[Motion.stepOffset + 17];
-        Motion.bfsCurr[18] = Motion.bfsDist[Motion.stepOffset + 18];
-        Motion.bfsCurr[19] = Motion.bfsDist[Motion.stepOffset + 19];
-        Motion.bfsCurr[20] = Motion.bfsDist[Motion.stepOffset + 20];
-        Motion.bfsCurr[21] = Motion.bfsDist[Motion.stepOffset + 21];
-        Motion.bfsCurr[22] = Motion.bfsDist[Motion.stepOffset + 22];
-        Motion.bfsCurr[23] = Motion.bfsDist[Motion.stepOffset + 23];
-        Motion.bfsCurr[24] = Motion.bfsDist[Motion.stepOffset + 24];
-        Motion.bfsCurr[25] = Motion.bfsDist[Motion.stepOffset + 25];
-        Motion.bfsCurr[26] = Motion.bfsDist[Motion.stepOffset + 26];
-        Motion.bfsCurr[27] = Motion.bfsDist[Motion.stepOffset + 27];
-        Motion.bfsCurr[28] = Motion.bfsDist[Motion.stepOffset + 28];
-        Motion.bfsCurr[29] = Motion.bfsDist[Motion.stepOffset + 29];
-        Motion.bfsCurr[30] = Motion.bfsDist[Motion.stepOffset + 30];
-        Motion.bfsCurr[31] = Motion.bfsDist[Motion.stepOffset + 31];
-        Motion.bfsCurr[32] = Motion.bfsDist[Motion.stepOffset + 32];
-        Motion.bfsCurr[33] = Motion.bfsDist[Motion.stepOffset + 33];
-        Motion.bfsCurr[34] = Motion.bfsDist[Motion.stepOffset + 34];
-        Motion.bfsCurr[35] = Motion.bfsDist[Motion.stepOffset + 35];
-        Motion.bfsCurr[36] = Motion.bfsDist[Motion.stepOffset + 36];
-    }
-    public static void bfs37() {
-        Motion.bfsCurr[1] = Motion.bfsCurr[1] | (Motion.bfsCurr[1] >> 1) | (Motion.bfsCurr[1] << 1);
-        Motion.bfsCurr[2] = Motion.bfsCurr[2] | (Motion.bfsCurr[2] >> 1) | (Motion.bfsCurr[2] << 1);
-        Motion.bfsCurr[3] = Motion.bfsCurr[3] | (Motion.bfsCurr[3] >> 1) | (Motion.bfsCurr[3] << 1);
-        Motion.bfsCurr[4] = Motion.bfsCurr[4] | (Motion.bfsCurr[4] >> 1) | (Motion.bfsCurr[4] << 1);
-        Motion.bfsCurr[5] = Motion.bfsCurr[5] | (Motion.bfsCurr[5] >> 1) | (Motion.bfsCurr[5] << 1);
-        Motion.bfsCurr[6] = Motion.bfsCurr[6] | (Motion.bfsCurr[6] >> 1) | (Motion.bfsCurr[6] << 1);
-        Motion.bfsCurr[7] = Motion.bfsCurr[7] | (Motion.bfsCurr[7] >> 1) | (Motion.bfsCurr[7] << 1);
-        Motion.bfsCurr[8] = Motion.bfsCurr[8] | (Motion.bfsCurr[8] >> 1) | (Motion.bfsCurr[8] << 1);
-        Motion.bfsCurr[9] = Motion.bfsCurr[9] | (Motion.bfsCurr[9] >> 1) | (Motion.bfsCurr[9] << 1);
-        Motion.bfsCurr[10] = Motion.bfsCurr[10] | (Motion.bfsCurr[10] >> 1) | (Motion.bfsCurr[10] << 1);
-        Motion.bfsCurr[11] = Motion.bfsCurr[11] | (Motion.bfsCurr[11] >> 1) | (Motion.bfsCurr[11] << 1);
-        Motion.bfsCurr[12] = Motion.bfsCurr[12] | (Motion.bfsCurr[12] >> 1) | (Motion.bfsCurr[12] << 1);
-        Motion.bfsCurr[13] = Motion.bfsCurr[13] | (Motion.bfsCurr[13] >> 1) | (Motion.bfsCurr[13] << 1);
-        Motion.bfsCurr[14] = Motion.bfsCurr[14] | (Motion.bfsCurr[14] >> 1) | (Motion.bfsCurr[14] << 1);
-        Motion.bfsCurr[15] = Motion.bfsCurr[15] | (Motion.bfsCurr[15] >> 1) | (Motion.bfsCurr[15] << 1);
-        Motion.bfsCurr[16] = Motion.bfsCurr[16] | (Motion.bfsCurr[16] >> 1) | (Motion.bfsCurr[16] << 1);
-        Motion.bfsCurr[17] = Motion.bfsCurr[17] | (Motion.bfsCurr[17] >> 1) | (Motion.bfsCurr[17] << 1);
-        Motion.bfsCurr[18] = Motion.bfsCurr[18] | (Motion.bfsCurr[18] >> 1) | (Motion.bfsCurr[18] << 1);
-        Motion.bfsCurr[19] = Motion.bfsCurr[19] | (Motion.bfsCurr[19] >> 1) | (Motion.bfsCurr[19] << 1);
-        Motion.bfsCurr[20] = Motion.bfsCurr[20] | (Motion.bfsCurr[20] >> 1) | (Motion.bfsCurr[20] << 1);
-        Motion.bfsCurr[21] = Motion.bfsCurr[21] | (Motion.bfsCurr[21] >> 1) | (Motion.bfsCurr[21] << 1);
-        Motion.bfsCurr[22] = Motion.bfsCurr[22] | (Motion.bfsCurr[22] >> 1) | (Motion.bfsCurr[22] << 1);
-        Motion.bfsCurr[23] = Motion.bfsCurr[23] | (Motion.bfsCurr[23] >> 1) | (Motion.bfsCurr[23] << 1);
-        Motion.bfsCurr[24] = Motion.bfsCurr[24] | (Motion.bfsCurr[24] >> 1) | (Motion.bfsCurr[24] << 1);
-        Motion.bfsCurr[25] = Motion.bfsCurr[25] | (Motion.bfsCurr[25] >> 1) | (Motion.bfsCurr[25] << 1);
-        Motion.bfsCurr[26] = Motion.bfsCurr[26] | (Motion.bfsCurr[26] >> 1) | (Motion.bfsCurr[26] << 1);
-        Motion.bfsCurr[27] = Motion.bfsCurr[27] | (Motion.bfsCurr[27] >> 1) | (Motion.bfsCurr[27] << 1);
-        Motion.bfsCurr[28] = Motion.bfsCurr[28] | (Motion.bfsCurr[28] >> 1) | (Motion.bfsCurr[28] << 1);
-        Motion.bfsCurr[29] = Motion.bfsCurr[29] | (Motion.bfsCurr[29] >> 1) | (Motion.bfsCurr[29] << 1);
-        Motion.bfsCurr[30] = Motion.bfsCurr[30] | (Motion.bfsCurr[30] >> 1) | (Motion.bfsCurr[30] << 1);
-        Motion.bfsCurr[31] = Motion.bfsCurr[31] | (Motion.bfsCurr[31] >> 1) | (Motion.bfsCurr[31] << 1);
-        Motion.bfsCurr[32] = Motion.bfsCurr[32] | (Motion.bfsCurr[32] >> 1) | (Motion.bfsCurr[32] << 1);
-        Motion.bfsCurr[33] = Motion.bfsCurr[33] | (Motion.bfsCurr[33] >> 1) | (Motion.bfsCurr[33] << 1);
-        Motion.bfsCurr[34] = Motion.bfsCurr[34] | (Motion.bfsCurr[34] >> 1) | (Motion.bfsCurr[34] << 1);
-        Motion.bfsCurr[35] = Motion.bfsCurr[35] | (Motion.bfsCurr[35] >> 1) | (Motion.bfsCurr[35] << 1);
-        Motion.bfsCurr[36] = Motion.bfsCurr[36] | (Motion.bfsCurr[36] >> 1) | (Motion.bfsCurr[36] << 1);
-        Motion.bfsCurr[37] = Motion.bfsCurr[37] | (Motion.bfsCurr[37] >> 1) | (Motion.bfsCurr[37] << 1);
-        Motion.bfsDist[Motion.stepOffset + 1] = (Motion.bfsCurr[1] | Motion.bfsCurr[0] | Motion.bfsCurr[2]) & (Motion.bitmask ^ Motion.bfsMap[1]);
-        Motion.bfsDist[Motion.stepOffset + 2] = (Motion.bfsCurr[2] | Motion.bfsCurr[1] | Motion.bfsCurr[3]) & (Motion.bitmask ^ Motion.bfsMap[2]);
-        Motion.bfsDist[Motion.stepOffset + 3] = (Motion.bfsCurr[3] | Motion.bfsCurr[2] | Motion.bfsCurr[4]) & (Motion.bitmask ^ Motion.bfsMap[3]);
-        Motion.bfsDist[Motion.stepOffset + 4] = (Motion.bfsCurr[4] | Motion.bfsCurr[3] | Motion.bfsCurr[5]) & (Motion.bitmask ^ Motion.bfsMap[4]);
-        Motion.bfsDist[Motion.stepOffset + 5] = (Motion.bfsCurr[5] | Motion.bfsCurr[4] | Motion.bfsCurr[6]) & (Motion.bitmask ^ Motion.bfsMap[5]);
-        Motion.bfsDist[Motion.stepOffset + 6] = (Motion.bfsCurr[6] | Motion.bfsCurr[5] | Motion.bfsCurr[7]) & (Motion.bitmask ^ Motion.bfsMap[6]);
-        Motion.bfsDist[Motion.stepOffset + 7] = (Motion.bfsCurr[7] | Motion.bfsCurr[6] | Motion.bfsCurr[8]) & (Motion.bitmask ^ Motion.bfsMap[7]);
-        Motion.bfsDist[Motion.stepOffset + 8] = (Motion.bfsCurr[8] | Motion.bfsCurr[7] | Motion.bfsCurr[9]) & (Motion.bitmask ^ Motion.bfsMap[8]);
-        Motion.bfsDist[Motion.stepOffset + 9] = (Motion.bfsCurr[9] | Motion.bfsCurr[8] | Motion.bfsCurr[10]) & (Motion.bitmask ^ Motion.bfsMap[9]);
-        Motion.bfsDist[Motion.stepOffset + 10] = (Motion.bfsCurr[10] | Motion.bfsCurr[9] | Motion.bfsCurr[11]) & (Motion.bitmask ^ Motion.bfsMap[10]);
-        Motion.bfsDist[Motion.stepOffset + 11] = (Motion.bfsCurr[11] | Motion.bfsCurr[10] | Motion.bfsCurr[12]) & (Motion.bitmask ^ Motion.bfsMap[11]);
-        Motion.bfsDist[Motion.stepOffset + 12] = (Motion.bfsCurr[12] | Motion.bfsCurr[11] | Motion.bfsCurr[13]) & (Motion.bitmask ^ Motion.bfsMap[12]);
-        Motion.bfsDist[Motion.stepOffset + 13] = (Motion.bfsCurr[13] | Motion.bfsCurr[12] | Motion.bfsCurr[14]) & (Motion.bitmask ^ Motion.bfsMap[13]);
-        Motion.bfsDist[Motion.stepOffset + 14] = (Motion.bfsCurr[14] | Motion.bfsCurr[13] | Motion.bfsCurr[15]) & (Motion.bitmask ^ Motion.bfsMap[14]);
-        Motion.bfsDist[Motion.stepOffset + 15] = (Motion.bfsCurr[15] | Motion.bfsCurr[14] | Motion.bfsCurr[16]) & (Motion.bitmask ^ Motion.bfsMap[15]);
-        Motion.bfsDist[Motion.stepOffset + 16] = (Motion.bfsCurr[16] | Motion.bfsCurr[15] | Motion.bfsCurr[17]) & (Motion.bitmask ^ Motion.bfsMap[16]);
-        Motion.bfsDist[Motion.stepOffset + 17] = (Motion.bfsCurr[17] | Motion.bfsCurr[16] | Motion.bfsCurr[18]) & (Motion.bitmask ^ Motion.bfsMap[17]);
-        Motion.bfsDist[Motion.stepOffset + 18] = (Motion.bfsCurr[18] | Motion.bfsCurr[17] | Motion.bfsCurr[19]) & (Motion.bitmask ^ Motion.bfsMap[18]);
-        Motion.bfsDist[Motion.stepOffset + 19] = (Motion.bfsCurr[19] | Motion.bfsCurr[18] | Motion.bfsCurr[20]) & (Motion.bitmask ^ Motion.bfsMap[19]);
-        Motion.bfsDist[Motion.stepOffset + 20] = (Motion.bfsCurr[20] | Motion.bfsCurr[19] | Motion.bfsCurr[21]) & (Motion.bitmask ^ Motion.bfsMap[20]);
-        Motion.bfsDist[Motion.stepOffset + 21] = (Motion.bfsCurr[21] | Motion.bfsCurr[20] | Motion.bfsCurr[22]) & (Motion.bitmask ^ Motion.bfsMap[21]);
-        Motion.bfsDist[Motion.stepOffset + 22] = (Motion.bfsCurr[22] | Motion.bfsCurr[21] | Motion.bfsCurr[23]) & (Motion.bitmask ^ Motion.bfsMap[22]);
-        Motion.bfsDist[Motion.stepOffset + 23] = (Motion.bfsCurr[23] | Motion.bfsCurr[22] | Motion.bfsCurr[24]) & (Motion.bitmask ^ Motion.bfsMap[23]);
-        Motion.bfsDist[Motion.stepOffset + 24] = (Motion.bfsCurr[24] | Motion.bfsCurr[23] | Motion.bfsCurr[25]) & (Motion.bitmask ^ Motion.bfsMap[24]);
-        Motion.bfsDist[Motion.stepOffset + 25] = (Motion.bfsCurr[25] | Motion.bfsCurr[24] | Motion.bfsCurr[26]) & (Motion.bitmask ^ Motion.bfsMap[25]);
-        Motion.bfsDist[Motion.stepOffset + 26] = (Motion.bfsCurr[26] | Motion.bfsCurr[25] | Motion.bfsCurr[27]) & (Motion.bitmask ^ Motion.bfsMap[26]);
-        Motion.bfsDist[Motion.stepOffset + 27] = (Motion.bfsCurr[27] | Motion.bfsCurr[26] | Motion.bfsCurr[28]) & (Motion.bitmask ^ Motion.bfsMap[27]);
-        Motion.bfsDist[Motion.stepOffset + 28] = (Motion.bfsCurr[28] | Motion.bfsCurr[27] | Motion.bfsCurr[29]) & (Motion.bitmask ^ Motion.bfsMap[28]);
-        Motion.bfsDist[Motion.stepOffset + 29] = (Motion.bfsCurr[29] | Motion.bfsCurr[28] | Motion.bfsCurr[30]) & (Motion.bitmask ^ Motion.bfsMap[29]);
-        Motion.bfsDist[Motion.stepOffset + 30] = (Motion.bfsCurr[30] | Motion.bfsCurr[29] | Motion.bfsCurr[31]) & (Motion.bitmask ^ Motion.bfsMap[30]);
-        Motion.bfsDist[Motion.stepOffset + 31] = (Motion.bfsCurr[31] | Motion.bfsCurr[30] | Motion.bfsCurr[32]) & (Motion.bitmask ^ Motion.bfsMap[31]);
-        Motion.bfsDist[Motion.stepOffset + 32] = (Motion.bfsCurr[32] | Motion.bfsCurr[31] | Motion.bfsCurr[33]) & (Motion.bitmask ^ Motion.bfsMap[32]);
-        Motion.bfsDist[Motion.stepOffset + 33] = (Motion.bfsCurr[33] | Motion.bfsCurr[32] | Motion.bfsCurr[34]) & (Motion.bitmask ^ Motion.bfsMap[33]);
-        Motion.bfsDist[Motion.stepOffset + 34] = (Motion.bfsCurr[34] | Motion.bfsCurr[33] | Motion.bfsCurr[35]) & (Motion.bitmask ^ Motion.bfsMap[34]);
-        Motion.bfsDist[Motion.stepOffset + 35] = (Motion.bfsCurr[35] | Motion.bfsCurr[34] | Motion.bfsCurr[36]) & (Motion.bitmask ^ Motion.bfsMap[35]);
-        Motion.bfsDist[Motion.stepOffset + 36] = (Motion.bfsCurr[36] | Motion.bfsCurr[35] | Motion.bfsCurr[37]) & (Motion.bitmask ^ Motion.bfsMap[36]);
-        Motion.bfsDist[Motion.stepOffset + 37] = (Motion.bfsCurr[37] | Motion.bfsCurr[36] | Motion.bfsCurr[38]) & (Motion.bitmask ^ Motion.bfsMap[37]);
-        Motion.bfsCurr[1] = Motion.bfsDist[Motion.stepOffset + 1];
-        Motion.bfsCurr[2] = Motion.bfsDist[Motion.stepOffset + 2];
-        Motion.bfsCurr[3] = Motion.bfsDist[Motion.stepOffset + 3];
-        Motion.bfsCurr[4] = Motion.bfsDist[Motion.stepOffset + 4];
-        Motion.bfsCurr[5] = Motion.bfsDist[Motion.stepOffset + 5];
-        Motion.bfsCurr[6] = Motion.bfsDist[Motion.stepOffset + 6];
-        Motion.bfsCurr[7] = Motion.bfsDist[Motion.stepOffset + 7];
-        Motion.bfsCurr[8] = Motion.bfsDist[Motion.stepOffset + 8];
-        Motion.bfsCurr[9] = Motion.bfsDist[Motion.stepOffset + 9];
-        Motion.bfsCurr[10] = Motion.bfsDist[Motion.stepOffset + 10];
-        Motion.bfsCurr[11] = Motion.bfsDist[Motion.stepOffset + 11];
-        Motion.bfsCurr[12] = Motion.bfsDist[Motion.stepOffset + 12];
-        Motion.bfsCurr[13] = Motion.bfsDist[Motion.stepOffset + 13];
-        Motion.bfsCurr[14] = Motion.bfsDist[Motion.stepOffset + 14];
-        Motion.bfsCurr[15] = Motion.bfsDist[Motion.stepOffset + 15];
-        Motion.bfsCurr[16] = Motion.bfsDist[Motion.stepOffset + 16];
-        Motion.bfsCurr[17] = Motion.bfsDist[Motion.stepOffset + 17];
-        Motion.bfsCurr[18] = Motion.bfsDist[Motion.stepOffset + 18];
-        Motion.bfsCurr[19] = Motion.bfsDist[Motion.stepOffset + 19];
-        Motion.bfsCurr[20] = Motion.bfsDist[Motion.stepOffset + 20];
-        Motion.bfsCurr[21] = Motion.bfsDist[Motion.stepOffset + 21];
-        Motion.bfsCurr[22] = Motion.bfsDist[Motion.stepOffset + 22];
-        Motion.bfsCurr[23] = Motion.bfsDist[Motion.stepOffset + 23];
-        Motion.bfsCurr[24] = Motion.bfsDist[Motion.stepOffset + 24];
-        Motion.bfsCurr[25] = Motion.bfsDist[Motion.stepOffset + 25];
-        Motion.bfsCurr[26] = Motion.bfsDist[Motion.stepOffset + 26];
-        Motion.bfsCurr[27] = Motion.bfsDist[Motion.stepOffset + 27];
-        Motion.bfsCurr[28] = Motion.bfsDist[Motion.stepOffset + 28];
-        Motion.bfsCurr[29] = Motion.bfsDist[Motion.stepOffset + 29];
-        Motion.bfsCurr[30] = Motion.bfsDist[Motion.stepOffset + 30];
-        Motion.bfsCurr[31] = Motion.bfsDist[Motion.stepOffset + 31];
-        Motion.bfsCurr[32] = Motion.bfsDist[Motion.stepOffset + 32];
-        Motion.bfsCurr[33] = Motion.bfsDist[Motion.stepOffset + 33];
-        Motion.bfsCurr[34] = Motion.bfsDist[Motion.stepOffset + 34];
-        Motion.bfsCurr[35] = Motion.bfsDist[Motion.stepOffset + 35];
-        Motion.bfsCurr[36] = Motion.bfsDist[Motion.stepOffset + 36];
-        Motion.bfsCurr[37] = Motion.bfsDist[Motion.stepOffset + 37];
-    }
-    public static void bfs38() {
-        Motion.bfsCurr[1] = Motion.bfsCurr[1] | (Motion.bfsCurr[1] >> 1) | (Motion.bfsCurr[1] << 1);
-        Motion.bfsCurr[2] = Motion.bfsCurr[2] | (Motion.bfsCurr[2] >> 1) | (Motion.bfsCurr[2] << 1);
-        Motion.bfsCurr[3] = Motion.bfsCurr[3] | (Motion.bfsCurr[3] >> 1) | (Motion.bfsCurr[3] << 1);
-        Motion.bfsCurr[4] = Motion.bfsCurr[4] | (Motion.bfsCurr[4] >> 1) | (Motion.bfsCurr[4] << 1);
-        Motion.bfsCurr[5] = Motion.bfsCurr[5] | (Motion.bfsCurr[5] >> 1) | (Motion.bfsCurr[5] << 1);
-        Motion.bfsCurr[6] = Motion.bfsCurr[6] | (Motion.bfsCurr[6] >> 1) | (Motion.bfsCurr[6] << 1);
-        Motion.bfsCurr[7] = Motion.bfsCurr[7] | (Motion.bfsCurr[7] >> 1) | (Motion.bfsCurr[7] << 1);
-        Motion.bfsCurr[8] = Motion.bfsCurr[8] | (Motion.bfsCurr[8] >> 1) | (Motion.bfsCurr[8] << 1);
-        Motion.bfsCurr[9] = Motion.bfsCurr[9] | (Motion.bfsCurr[9] >> 1) | (Motion.bfsCurr[9] << 1);
-        Motion.bfsCurr[10] = Motion.bfsCurr[10] | (Motion.bfsCurr[10] >> 1) | (Motion.bfsCurr[10] << 1);
-        Motion.bfsCurr[11] = Motion.bfsCurr[11] | (Motion.bfsCurr[11] >> 1) | (Motion.bfsCurr[11] << 1);
-        Motion.bfsCurr[12] = Motion.bfsCurr[12] | (Motion.bfsCurr[12] >> 1) | (Motion.bfsCurr[12] << 1);
-        Motion.bfsCurr[13] = Motion.bfsCurr[13] | (Motion.bfsCurr[13] >> 1) | (Motion.bfsCurr[13] << 1);
-        Motion.bfsCurr[14] = Motion.bfsCurr[14] | (Motion.bfsCurr[14] >> 1) | (Motion.bfsCurr[14] << 1);
-        Motion.bfsCurr[15] = Motion.bfsCurr[15] | (Motion.bfsCurr[15] >> 1) | (Motion.bfsCurr[15] << 1);
-        Motion.bfsCurr[16] = Motion.bfsCurr[16] | (Motion.bfsCurr[16] >> 1) | (Motion.bfsCurr[16] << 1);
-        Motion.bfsCurr[17] = Motion.bfsCurr[17] | (Motion.bfsCurr[17] >> 1) | (Motion.bfsCurr[17] << 1);
-        Motion.bfsCurr[18] = Motion.bfsCurr[18] | (Motion.bfsCurr[18] >> 1) | (Motion.bfsCurr[18] << 1);
-        Motion.bfsCurr[19] = Motion.bfsCurr[19] | (Motion.bfsCurr[19] >> 1) | (Motion.bfsCurr[19] << 1);
-        Motion.bfsCurr[20] = Motion.bfsCurr[20] | (Motion.bfsCurr[20] >> 1) | (Motion.bfsCurr[20] << 1);
-        Motion.bfsCurr[21] = Motion.bfsCurr[21] | (Motion.bfsCurr[21] >> 1) | (Motion.bfsCurr[21] << 1);
-        Motion.bfsCurr[22] = Motion.bfsCurr[22] | (Motion.bfsCurr[22] >> 1) | (Motion.bfsCurr[22] << 1);
-        Motion.bfsCurr[23] = Motion.bfsCurr[23] | (Motion.bfsCurr[23] >> 1) | (Motion.bfsCurr[23] << 1);
-        Motion.bfsCurr[24] = Motion.bfsCurr[24] | (Motion.bfsCurr[24] >> 1) | (Motion.bfsCurr[24] << 1);
-        Motion.bfsCurr[25] = Motion.bfsCurr[25] | (Motion.bfsCurr[25] >> 1) | (Motion.bfsCurr[25] << 1);
-        Motion.bfsCurr[26] = Motion.bfsCurr[26] | (Motion.bfsCurr[26] >> 1) | (Motion.bfsCurr[26] << 1);
-        Motion.bfsCurr[27] = Motion.bfsCurr[27] | (Motion.bfsCurr[27] >> 1) | (Motion.bfsCurr[27] << 1);
-        Motion.bfsCurr[28] = Motion.bfsCurr[28] | (Motion.bfsCurr[28] >> 1) | (Motion.bfsCurr[28] << 1);
-        Motion.bfsCurr[29] = Motion.bfsCurr[29] | (Motion.bfsCurr[29] >> 1) | (Motion.bfsCurr[29] << 1);
-        Motion.bfsCurr[30] = Motion.bfsCurr[30] | (Motion.bfsCurr[30] >> 1) | (Motion.bfsCurr[30] << 1);
-        Motion.bfsCurr[31] = Motion.bfsCurr[31] | (Motion.bfsCurr[31] >> 1) | (Motion.bfsCurr[31] << 1);
-        Motion.bfsCurr[32] = Motion.bfsCurr[32] | (Motion.bfsCurr[32] >> 1) | (Motion.bfsCurr[32] << 1);
-        Motion.bfsCurr[33] = Motion.bfsCurr[33] | (Motion.bfsCurr[33] >> 1) | (Motion.bfsCurr[33] << 1);
-        Motion.bfsCurr[34] = Motion.bfsCurr[34] | (Motion.bfsCurr[34] >> 1) | (Motion.bfsCurr[34] << 1);
-        Motion.bfsCurr[35] = Motion.bfsCurr[35] | (Motion.bfsCurr[35] >> 1) | (Motion.bfsCurr[35] << 1);
-        Motion.bfsCurr[36] = Motion.bfsCurr[36] | (Motion.bfsCurr[36] >> 1) | (Motion.bfsCurr[36] << 1);
-        Motion.bfsCurr[37] = Motion.bfsCurr[37] | (Motion.bfsCurr[37] >> 1) | (Motion.bfsCurr[37] << 1);
-        Motion.bfsCurr[38] = Motion.bfsCurr[38] | (Motion.bfsCurr[38] >> 1) | (Motion.bfsCurr[38] << 1);
-        Motion.bfsDist[Motion.stepOffset + 1] = (Motion.bfsCurr[1] | Motion.bfsCurr[0] | Motion.bfsCurr[2]) & (Motion.bitmask ^ Motion.bfsMap[1]);
-        Motion.bfsDist[Motion.stepOffset + 2] = (Motion.bfsCurr[2] | Motion.bfsCurr[1] | Motion.bfsCurr[3]) & (Motion.bitmask ^ Motion.bfsMap[2]);
-        Motion.bfsDist[Motion.stepOffset + 3] = (Motion.bfsCurr[3] | Motion.bfsCurr[2] | Motion.bfsCurr[4]) & (Motion.bitmask ^ Motion.bfsMap[3]);
-        Motion.bfsDist[Motion.stepOffset + 4] = (Motion.bfsCurr[4] | Motion.bfsCurr[3] | Motion.bfsCurr[5]) & (Motion.bitmask ^ Motion.bfsMap[4]);
-        Motion.bfsDist[Motion.stepOffset + 5] = (Motion.bfsCurr[5] | Motion.bfsCurr[4] | Motion.bfsCurr[6]) & (Motion.bitmask ^ Motion.bfsMap[5]);
-        Motion.bfsDist[Motion.stepOffset + 6] = (Motion.bfsCurr[6] | Motion.bfsCurr[5] | Motion.bfsCurr[7]) & (Motion.bitmask ^ Motion.bfsMap[6]);
-        Motion.bfsDist[Motion.stepOffset + 7] = (Motion.bfsCurr[7] | Motion.bfsCurr[6] | Motion.bfsCurr[8]) & (Motion.bitmask ^ Motion.bfsMap[7]);
-        Motion.bfsDist[Motion.stepOffset + 8] = (Motion.bfsCurr[8] | Motion.bfsCurr[7] | Motion.bfsCurr[9]) & (Motion.bitmask ^ Motion.bfsMap[8]);
-        Motion.bfsDist[Motion.stepOffset + 9] = (Motion.bfsCurr[9] | Motion.bfsCurr[8] | Motion.bfsCurr[10]) & (Motion.bitmask ^ Motion.bfsMap[9]);
-        Motion.bfsDist[Motion.stepOffset + 10] = (Motion.bfsCurr[10] | Motion.bfsCurr[9] | Motion.bfsCurr[11]) & (Motion.bitmask ^ Motion.bfsMap[10]);
-        Motion.bfsDist[Motion.stepOffset + 11] = (Motion.bfsCurr[11] | Motion.bfsCurr[10] | Motion.bfsCurr[12]) & (Motion.bitmask ^ Motion.bfsMap[11]);
-        Motion.bfsDist[Motion.stepOffset + 12] = (Motion.bfsCurr[12] | Motion.bfsCurr[11] | Motion.bfsCurr[13]) & (Motion.bitmask ^ Motion.bfsMap[12]);
-        Motion.bfsDist[Motion.stepOffset + 13] = (Motion.bfsCurr[13] | Motion.bfsCurr[12] | Motion.bfsCurr[14]) & (Motion.bitmask ^ Motion.bfsMap[13]);
-        Motion.bfsDist[Motion.stepOffset + 14] = (Motion.bfsCurr[14] | Motion.bfsCurr[13] | Motion.bfsCurr[15]) & (Motion.bitmask ^ Motion.bfsMap[14]);
-        Motion.bfsDist[Motion.stepOffset + 15] = (Motion.bfsCurr[15] | Motion.bfsCurr[14] | Motion.bfsCurr[16]) & (Motion.bitmask ^ Motion.bfsMap[15]);
-        Motion.bfsDist[Motion.stepOffset + 16] = (Motion.bfsCurr[16] | Motion.bfsCurr[15] | Motion.bfsCurr[17]) & (Motion.bitmask ^ Motion.bfsMap[16]);
-        Motion.bfsDist[Motion.stepOffset + 17] = (Motion.bfsCurr[17] | Motion.bfsCurr[16] | Motion.bfsCurr[18]) & (Motion.bitmask ^ Motion.bfsMap[17]);
-        Motion.bfsDist[Motion.stepOffset + 18] = (Motion.bfsCurr[18] | Motion.bfsCurr[17] | Motion.bfsCurr[19]) & (Motion.bitmask ^ Motion.bfsMap[18]);
-        Motion.bfsDist[Motion.stepOffset + 19] = (Motion.bfsCurr[19] | Motion.bfsCurr[18] | Motion.bfsCurr[20]) & (Motion.bitmask ^ Motion.bfsMap[19]);
-        Motion.bfsDist[Motion.stepOffset + 20] = (Motion.bfsCurr[20] | Motion.bfsCurr[19] | Motion.bfsCurr[21]) & (Motion.bitmask ^ Motion.bfsMap[20]);
-        Motion.bfsDist[Motion.stepOffset + 21] = (Motion.bfsCurr[21] | Motion.bfsCurr[20] | Motion.bfsCurr[22]) & (Motion.bitmask ^ Motion.bfsMap[21]);
-        Motion.bfsDist[Motion.stepOffset + 22] = (Motion.bfsCurr[22] | Motion.bfsCurr[21] | Motion.bfsCurr[23]) & (Motion.bitmask ^ Motion.bfsMap[22]);
-        Motion.bfsDist[Motion.stepOffset + 23] = (Motion.bfsCurr[23] | Motion.bfsCurr[22] | Motion.bfsCurr[24]) & (Motion.bitmask ^ Motion.bfsMap[23]);
-        Motion.bfsDist[Motion.stepOffset + 24] = (Motion.bfsCurr[24] | Motion.bfsCurr[23] | Motion.bfsCurr[25]) & (Motion.bitmask ^ Motion.bfsMap[24]);
-        Motion.bfsDist[Motion.stepOffset + 25] = (Motion.bfsCurr[25] | Motion.bfsCurr[24] | Motion.bfsCurr[26]) & (Motion.bitmask ^ Motion.bfsMap[25]);
-        Motion.bfsDist[Motion.stepOffset + 26] = (Motion.bfsCurr[26] | Motion.bfsCurr[25] | Motion.bfsCurr[27]) & (Motion.bitmask ^ Motion.bfsMap[26]);
-        Motion.bfsDist[Motion.stepOffset + 27] = (Motion.bfsCurr[27] | Motion.bfsCurr[26] | Motion.bfsCurr[28]) & (Motion.bitmask ^ Motion.bfsMap[27]);
-        Motion.bfsDist[Motion.stepOffset + 28] = (Motion.bfsCurr[28] | Motion.bfsCurr[27] | Motion.bfsCurr[29]) & (Motion.bitmask ^ Motion.bfsMap[28]);
-        Motion.bfsDist[Motion.stepOffset + 29] = (Motion.bfsCurr[29] | Motion.bfsCurr[28] | Motion.bfsCurr[30]) & (Motion.bitmask ^ Motion.bfsMap[29]);
-        Motion.bfsDist[Motion.stepOffset + 30] = (Motion.bfsCurr[30] | Motion.bfsCurr[29] | Motion.bfsCurr[31]) & (Motion.bitmask ^ Motion.bfsMap[30]);
-        Motion.bfsDist[Motion.stepOffset + 31] = (Motion.bfsCurr[31] | Motion.bfsCurr[30] | Motion.bfsCurr[32]) & (Motion.bitmask ^ Motion.bfsMap[31]);
-        Motion.bfsDist[Motion.stepOffset + 32] = (Motion.bfsCurr[32] | Motion.bfsCurr[31] | Motion.bfsCurr[33]) & (Motion.bitmask ^ Motion.bfsMap[32]);
-        Motion.bfsDist[Motion.stepOffset + 33] = (Motion.bfsCurr[33] | Motion.bfsCurr[32] | Motion.bfsCurr[34]) & (Motion.bitmask ^ Motion.bfsMap[33]);
-        Motion.bfsDist[Motion.stepOffset + 34] = (Motion.bfsCurr[34] | Motion.bfsCurr[33] | Motion.bfsCurr[35]) & (Motion.bitmask ^ Motion.bfsMap[34]);
-        Motion.bfsDist[Motion.stepOffset + 35] = (Motion.bfsCurr[35] | Motion.bfsCurr[34] | Motion.bfsCurr[36]) & (Motion.bitmask ^ Motion.bfsMap[35]);
-        Motion.bfsDist[Motion.stepOffset + 36] = (Motion.bfsCurr[36] | Motion.bfsCurr[35] | Motion.bfsCurr[37]) & (Motion.bitmask ^ Motion.bfsMap[36]);
-        Motion.bfsDist[Motion.stepOffset + 37] = (Motion.bfsCurr[37] | Motion.bfsCurr[36] | Motion.bfsCurr[38]) & (Motion.bitmask ^ Motion.bfsMap[37]);
-        Motion.bfsDist[Motion.stepOffset + 38] = (Motion.bfsCurr[38] | Motion.bfsCurr[37] | Motion.bfsCurr[39]) & (Motion.bitmask ^ Motion.bfsMap[38]);
-        Motion.bfsCurr[1] = Motion.bfsDist[Motion.stepOffset + 1];
-        Motion.bfsCurr[2] = Motion.bfsDist[Motion.stepOffset + 2];
-        Motion.bfsCurr[3] = Motion.bfsDist[Motion.stepOffset + 3];
-        Motion.bfsCurr[4] = Motion.bfsDist[Motion.stepOffset + 4];
-        Motion.bfsCurr[5] = Motion.bfsDist[Motion.stepOffset + 5];
-        Motion.bfsCurr[6] = Motion.bfsDist[Motion.stepOffset + 6];
-        Motion.bfsCurr[7] = Motion.bfsDist[Motion.stepOffset + 7];
-        Motion.bfsCurr[8] = Motion.bfsDist[Motion.stepOffset + 8];
-        Motion.bfsCurr[9] = Motion.bfsDist[Motion.stepOffset + 9];
-        Motion.bfsCurr[10] = Motion.bfsDist[Motion.stepOffset + 10];
-        Motion.bfsCurr[11] = Motion.bfsDist[Motion.stepOffset + 11];
-        Motion.bfsCurr[12] = Motion.bfsDist[Motion.stepOffset + 12];
-        Motion.bfsCurr[13] = Motion.bfsDist[Motion.stepOffset + 13];
-        Motion.bfsCurr[14] = Motion.bfsDist[Motion.stepOffset + 14];
-        Motion.bfsCurr[15] = Motion.bfsDist[Motion.stepOffset + 15];
-        Motion.bfsCurr[16] = Motion.bfsDist[Motion.stepOffset + 16];
-        Motion.bfsCurr[17] = Motion.bfsDist[Motion.stepOffset + 17];
-        Motion.bfsCurr[18] = Motion.bfsDist[Motion.stepOffset + 18];
-        Motion.bfsCurr[19] = Motion.bfsDist[Motion.stepOffset + 19];
-        Motion.bfsCurr[20] = Motion.bfsDist[Motion.stepOffset + 20];
-        Motion.bfsCurr[21] = Motion.bfsDist[Motion.stepOffset + 21];
-        Motion.bfsCurr[22] = Motion.bfsDist[Motion.stepOffset + 22];
-        Motion.bfsCurr[23] = Motion.bfsDist[Motion.stepOffset + 23];
-        Motion.bfsCurr[24] = Motion.bfsDist[Motion.stepOffset + 24];
-        Motion.bfsCurr[25] = Motion.bfsDist[Motion.stepOffset + 25];
-        Motion.bfsCurr[26] = Motion.bfsDist[Motion.stepOffset + 26];
-        Motion.bfsCurr[27] = Motion.bfsDist[Motion.stepOffset + 27];
-        Motion.bfsCurr[28] = Motion.bfsDist[Motion.stepOffset + 28];
-        Motion.bfsCurr[29] = Motion.bfsDist[Motion.stepOffset + 29];
-        Motion.bfsCurr[30] = Motion.bfsDist[Motion.stepOffset + 30];
-        Motion.bfsCurr[31] = Motion.bfsDist[Motion.stepOffset + 31];
-        Motion.bfsCurr[32] = Motion.bfsDist[Motion.stepOffset + 32];
-        Motion.bfsCurr[33] = Motion.bfsDist[Motion.stepOffset + 33];
-        Motion.bfsCurr[34] = Motion.bfsDist[Motion.stepOffset + 34];
-        Motion.bfsCurr[35] = Motion.bfsDist[Motion.stepOffset + 35];
-        Motion.bfsCurr[36] = Motion.bfsDist[Motion.stepOffset + 36];
-        Motion.bfsCurr[37] = Motion.bfsDist[Motion.stepOffset + 37];
-        Motion.bfsCurr[38] = Motion.bfsDist[Motion.stepOffset + 38];
-    }
-    public static void bfs39() {
-        Motion.bfsCurr[1] = Motion.bfsCurr[1] | (Motion.bfsCurr[1] >> 1) | (Motion.bfsCurr[1] << 1);
-        Motion.bfsCurr[2] = Motion.bfsCurr[2] | (Motion.bfsCurr[2] >> 1) | (Motion.bfsCurr[2] << 1);
-        Motion.bfsCurr[3] = Motion.bfsCurr[3] | (Motion.bfsCurr[3] >> 1) | (Motion.bfsCurr[3] << 1);
-        Motion.bfsCurr[4] = Motion.bfsCurr[4] | (Motion.bfsCurr[4] >> 1) | (Motion.bfsCurr[4] << 1);
-        Motion.bfsCurr[5] = Motion.bfsCurr[5] | (Motion.bfsCurr[5] >> 1) | (Motion.bfsCurr[5] << 1);
-        Motion.bfsCurr[6] = Motion.bfsCurr[6] | (Motion.bfsCurr[6] >> 1) | (Motion.bfsCurr[6] << 1);
-        Motion.bfsCurr[7] = Motion.bfsCurr[7] | (Motion.bfsCurr[7] >> 1) | (Motion.bfsCurr[7] << 1);
-        Motion.bfsCurr[8] = Motion.bfsCurr[8] | (Motion.bfsCurr[8] >> 1) | (Motion.bfsCurr[8] << 1);
-        Motion.bfsCurr[9] = Motion.bfsCurr[9] | (Motion.bfsCurr[9] >> 1) | (Motion.bfsCurr[9] << 1);
-        Motion.bfsCurr[10] = Motion.bfsCurr[10] | (Motion.bfsCurr[10] >> 1) | (Motion.bfsCurr[10] << 1);
-        Motion.bfsCurr[11] = Motion.bfsCurr[11] | (Motion.bfsCurr[11] >> 1) | (Motion.bfsCurr[11] << 1);
-        Motion.bfsCurr[12] = Motion.bfsCurr[12] | (Motion.bfsCurr[12] >> 1) | (Motion.bfsCurr[12] << 1);
-        Motion.bfsCurr[13] = Motion.bfsCurr[13] | (Motion.bfsCurr[13] >> 1) | (Motion.bfsCurr[13] << 1);
-        Motion.bfsCurr[14] = Motion.bfsCurr[14] | (Motion.bfsCurr[14] >> 1) | (Motion.bfsCurr[14] << 1);
-        Motion.bfsCurr[15] = Motion.bfsCurr[15] | (Motion.bfsCurr[15] >> 1) | (Motion.bfsCurr[15] << 1);
-        Motion.bfsCurr[16] = Motion.bfsCurr[16] | (Motion.bfsCurr[16] >> 1) | (Motion.bfsCurr[16] << 1);
-        Motion.bfsCurr[17] = Motion.bfsCurr[17] | (Motion.bfsCurr[17] >> 1) | (Motion.bfsCurr[17] << 1);
-        Motion.bfsCurr[18] = Motion.bfsCurr[18] | (Motion.bfsCurr[18] >> 1) | (Motion.bfsCurr[18] << 1);
-        Motion.bfsCurr[19] = Motion.bfsCurr[19] | (Motion.bfsCurr[19] >> 1) | (Motion.bfsCurr[19] << 1);
-        Motion.bfsCurr[20] = Motion.bfsCurr[20] | (Motion.bfsCurr[20] >> 1) | (Motion.bfsCurr[20] << 1);
-        Motion.bfsCurr[21] = Motion.bfsCurr[21] | (Motion.bfsCurr[21] >> 1) | (Motion.bfsCurr[21] << 1);
-        Motion.bfsCurr[22] = Motion.bfsCurr[22] | (Motion.bfsCurr[22] >> 1) | (Motion.bfsCurr[22] << 1);
-        Motion.bfsCurr[23] = Motion.bfsCurr[23] | (Motion.bfsCurr[23] >> 1) | (Motion.bfsCurr[23] << 1);
-        Motion.bfsCurr[24] = Motion.bfsCurr[24] | (Motion.bfsCurr[24] >> 1) | (Motion.bfsCurr[24] << 1);
-        Motion.bfsCurr[25] = Motion.bfsCurr[25] | (Motion.bfsCurr[25] >> 1) | (Motion.bfsCurr[25] << 1);
-        Motion.bfsCurr[26] = Motion.bfsCurr[26] | (Motion.bfsCurr[26] >> 1) | (Motion.bfsCurr[26] << 1);
-        Motion.bfsCurr[27] = Motion.bfsCurr[27] | (Motion.bfsCurr[27] >> 1) | (Motion.bfsCurr[27] << 1);
-        Motion.bfsCurr[28] = Motion.bfsCurr[28] | (Motion.bfsCurr[28] >> 1) | (Motion.bfsCurr[28] << 1);
-        Motion.bfsCurr[29] = Motion.bfsCurr[29] | (Motion.bfsCurr[29] >> 1) | (Motion.bfsCurr[29] << 1);
-        Motion.bfsCurr[30] = Motion.bfsCurr[30] | (Motion.bfsCurr[30] >> 1) | (Motion.bfsCurr[30] << 1);
-        Motion.bfsCurr[31] = Motion.bfsCurr[31] | (Motion.bfsCurr[31] >> 1) | (Motion.bfsCurr[31] << 1);
-        Motion.bfsCurr[32] = Motion.bfsCurr[32] | (Motion.bfsCurr[32] >> 1) | (Motion.bfsCurr[32] << 1);
-        Motion.bfsCurr[33] = Motion.bfsCurr[33] | (Motion.bfsCurr[33] >> 1) | (Motion.bfsCurr[33] << 1);
-        Motion.bfsCurr[34] = Motion.bfsCurr[34] | (Motion.bfsCurr[34] >> 1) | (Motion.bfsCurr[34] << 1);
-        Motion.bfsCurr[35] = Motion.bfsCurr[35] | (Motion.bfsCurr[35] >> 1) | (Motion.bfsCurr[35] << 1);
-        Motion.bfsCurr[36] = Motion.bfsCurr[36] | (Motion.bfsCurr[36] >> 1) | (Motion.bfsCurr[36] << 1);
-        Motion.bfsCurr[37] = Motion.bfsCurr[37] | (Motion.bfsCurr[37] >> 1) | (Motion.bfsCurr[37] << 1);
-        Motion.bfsCurr[38] = Motion.bfsCurr[38] | (Motion.bfsCurr[38] >> 1) | (Motion.bfsCurr[38] << 1);
-        Motion.bfsCurr[39] = Motion.bfsCurr[39] | (Motion.bfsCurr[39] >> 1) | (Motion.bfsCurr[39] << 1);
-        Motion.bfsDist[Motion.stepOffset + 1] = (Motion.bfsCurr[1] | Motion.bfsCurr[0] | Motion.bfsCurr[2]) & (Motion.bitmask ^ Motion.bfsMap[1]);
-        Motion.bfsDist[Motion.stepOffset + 2] = (Motion.bfsCurr[2] | Motion.bfsCurr[1] | Motion.bfsCurr[3]) & (Motion.bitmask ^ Motion.bfsMap[2]);
-        Motion.bfsDist[Motion.stepOffset + 3] = (Motion.bfsCurr[3] | Motion.bfsCurr[2] | Motion.bfsCurr[4]) & (Motion.bitmask ^ Motion.bfsMap[3]);
-        Motion.bfsDist[Motion.stepOffset + 4] = (Motion.bfsCurr[4] | Motion.bfsCurr[3] | Motion.bfsCurr[5]) & (Motion.bitmask ^ Motion.bfsMap[4]);
-        Motion.bfsDist[Motion.stepOffset + 5] = (Motion.bfsCurr[5] | Motion.bfsCurr[4] | Motion.bfsCurr[6]) & (Motion.bitmask ^ Motion.bfsMap[5]);
-        Motion.bfsDist[Motion.stepOffset + 6] = (Motion.bfsCurr[6] | Motion.bfsCurr[5] | Motion.bfsCurr[7]) & (Motion.bitmask ^ Motion.bfsMap[6]);
-        Motion.bfsDist[Motion.stepOffset + 7] = (Motion.bfsCurr[7] | Motion.bfsCurr[6] | Motion.bfsCurr[8]) & (Motion.bitmask ^ Motion.bfsMap[7]);
-        Motion.bfsDist[Motion.stepOffset + 8] = (Motion.bfsCurr[8] | Motion.bfsCurr[7] | Motion.bfsCurr[9]) & (Motion.bitmask ^ Motion.bfsMap[8]);
-        Motion.bfsDist[Motion.stepOffset + 9] = (Motion.bfsCurr[9] | Motion.bfsCurr[8] | Motion.bfsCurr[10]) & (Motion.bitmask ^ Motion.bfsMap[9]);
-        Motion.bfsDist[Motion.stepOffset + 10] = (Motion.bfsCurr[10] | Motion.bfsCurr[9] | Motion.bfsCurr[11]) & (Motion.bitmask ^ Motion.bfsMap[10]);
-        Motion.bfsDist[Motion.stepOffset + 11] = (Motion.bfsCurr[11] | Motion.bfsCurr[10] | Motion.bfsCurr[12]) & (Motion.bitmask ^ Motion.bfsMap[11]);
-        Motion.bfsDist[Motion.stepOffset + 12] = (Motion.bfsCurr[12] | Motion.bfsCurr[11] | Motion.bfsCurr[13]) & (Motion.bitmask ^ Motion.bfsMap[12]);
-        Motion.bfsDist[Motion.stepOffset + 13] = (Motion.bfsCurr[13] | Motion.bfsCurr[12] | Motion.bfsCurr[14]) & (Motion.bitmask ^ Motion.bfsMap[13]);
-        Motion.bfsDist[Motion.stepOffset + 14] = (Motion.bfsCurr[14] | Motion.bfsCurr[13] | Motion.bfsCurr[15]) & (Motion.bitmask ^ Motion.bfsMap[14]);
-        Motion.bfsDist[Motion.stepOffset + 15] = (Motion.bfsCurr[15] | Motion.bfsCurr[14] | Motion.bfsCurr[16]) & (Motion.bitmask ^ Motion.bfsMap[15]);
-        Motion.bfsDist[Motion.stepOffset + 16] = (Motion.bfsCurr[16] | Motion.bfsCurr[15] | Motion.bfsCurr[17]) & (Motion.bitmask ^ Motion.bfsMap[16]);
-        Motion.bfsDist[Motion.stepOffset + 17] = (Motion.bfsCurr[17] | Motion.bfsCurr[16] | Motion.bfsCurr[18]) & (Motion.bitmask ^ Motion.bfsMap[17]);
-        Motion.bfsDist[Motion.stepOffset + 18] = (Motion.bfsCurr[18] | Motion.bfsCurr[17] | Motion.bfsCurr[19]) & (Motion.bitmask ^ Motion.bfsMap[18]);
-        Motion.bfsDist[Motion.stepOffset + 19] = (Motion.bfsCurr[19] | Motion.bfsCurr[18] | Motion.bfsCurr[20]) & (Motion.bitmask ^ Motion.bfsMap[19]);
-        Motion.bfsDist[Motion.stepOffset + 20] = (Motion.bfsCurr[20] | Motion.bfsCurr[19] | Motion.bfsCurr[21]) & (Motion.bitmask ^ Motion.bfsMap[20]);
-        Motion.bfsDist[Motion.stepOffset + 21] = (Motion.bfsCurr[21] | Motion.bfsCurr[20] | Motion.bfsCurr[22]) & (Motion.bitmask ^ Motion.bfsMap[21]);
-        Motion.bfsDist[Motion.stepOffset + 22] = (Motion.bfsCurr[22] | Motion.bfsCurr[21] | Motion.bfsCurr[23]) & (Motion.bitmask ^ Motion.bfsMap[22]);
-        Motion.bfsDist[Motion.stepOffset + 23] = (Motion.bfsCurr[23] | Motion.bfsCurr[22] | Motion.bfsCurr[24]) & (Motion.bitmask ^ Motion.bfsMap[23]);
-        Motion.bfsDist[Motion.stepOffset + 24] = (Motion.bfsCurr[24] | Motion.bfsCurr[23] | Motion.bfsCurr[25]) & (Motion.bitmask ^ Motion.bfsMap[24]);
-        Motion.bfsDist[Motion.stepOffset + 25] = (Motion.bfsCurr[25] | Motion.bfsCurr[24] | Motion.bfsCurr[26]) & (Motion.bitmask ^ Motion.bfsMap[25]);
-        Motion.bfsDist[Motion.stepOffset + 26] = (Motion.bfsCurr[26] | Motion.bfsCurr[25] | Motion.bfsCurr[27]) & (Motion.bitmask ^ Motion.bfsMap[26]);
-        Motion.bfsDist[Motion.stepOffset + 27] = (Motion.bfsCurr[27] | Motion.bfsCurr[26] | Motion.bfsCurr[28]) & (Motion.bitmask ^ Motion.bfsMap[27]);
-        Motion.bfsDist[Motion.stepOffset + 28] = (Motion.bfsCurr[28] | Motion.bfsCurr[27] | Motion.bfsCurr[29]) & (Motion.bitmask ^ Motion.bfsMap[28]);
-        Motion.bfsDist[Motion.stepOffset + 29] = (Motion.bfsCurr[29] | Motion.bfsCurr[28] | Motion.bfsCurr[30]) & (Motion.bitmask ^ Motion.bfsMap[29]);
-        Motion.bfsDist[Motion.stepOffset + 30] = (Motion.bfsCurr[30] | Motion.bfsCurr[29] | Motion.bfsCurr[31]) & (Motion.bitmask ^ Motion.bfsMap[30]);
-        Motion.bfsDist[Motion.stepOffset + 31] = (Motion.bfsCurr[31] | Motion.bfsCurr[30] | Motion.bfsCurr[32]) & (Motion.bitmask ^ Motion.bfsMap[31]);
-        Motion.bfsDist[Motion.stepOffset + 32] = (Motion.bfsCurr[32] | Motion.bfsCurr[31] | Motion.bfsCurr[33]) & (Motion.bitmask ^ Motion.bfsMap[32]);
-        Motion.bfsDist[Motion.stepOffset + 33] = (Motion.bfsCurr[33] | Motion.bfsCurr[32] | Motion.bfsCurr[34]) & (Motion.bitmask ^ Motion.bfsMap[33]);
-        Motion.bfsDist[Motion.stepOffset + 34] = (Motion.bfsCurr[34] | Motion.bfsCurr[33] | Motion.bfsCurr[35]) & (Motion.bitmask ^ Motion.bfsMap[34]);
-        Motion.bfsDist[Motion.stepOffset + 35] = (Motion.bfsCurr[35] | Motion.bfsCurr[34] | Motion.bfsCurr[36]) & (Motion.bitmask ^ Motion.bfsMap[35]);
-        Motion.bfsDist[Motion.stepOffset + 36] = (Motion.bfsCurr[36] | Motion.bfsCurr[35] | Motion.bfsCurr[37]) & (Motion.bitmask ^ Motion.bfsMap[36]);
-        Motion.bfsDist[Motion.stepOffset + 37] = (Motion.bfsCurr[37] | Motion.bfsCurr[36] | Motion.bfsCurr[38]) & (Motion.bitmask ^ Motion.bfsMap[37]);
-        Motion.bfsDist[Motion.stepOffset + 38] = (Motion.bfsCurr[38] | Motion.bfsCurr[37] | Motion.bfsCurr[39]) & (Motion.bitmask ^ Motion.bfsMap[38]);
-        Motion.bfsDist[Motion.stepOffset + 39] = (Motion.bfsCurr[39] | Motion.bfsCurr[38] | Motion.bfsCurr[40]) & (Motion.bitmask ^ Motion.bfsMap[39]);
-        Motion.bfsCurr[1] = Motion.bfsDist[Motion.stepOffset + 1];
-        Motion.bfsCurr[2] = Motion.bfsDist[Motion.stepOffset + 2];
-        Motion.bfsCurr[3] = Motion.bfsDist[Motion.stepOffset + 3];
-        Motion.bfsCurr[4] = Motion.bfsDist[Motion.stepOffset + 4];
-        Motion.bfsCurr[5] = Motion.bfsDist[Motion.stepOffset + 5];
-        Motion.bfsCurr[6] = Motion.bfsDist[Motion.stepOffset + 6];
-        Motion.bfsCurr[7] = Motion.bfsDist[Motion.stepOffset + 7];
-        Motion.bfsCurr[8] = Motion.bfsDist[Motion.stepOffset + 8];
-        Motion.bfsCurr[9] = Motion.bfsDist[Motion.stepOffset + 9];
-        Motion.bfsCurr[10] = Motion.bfsDist[Motion.stepOffset + 10];
-        Motion.bfsCurr[11] = Motion.bfsDist[Motion.stepOffset + 11];
-        Motion.bfsCurr[12] = Motion.bfsDist[Motion.stepOffset + 12];
-        Motion.bfsCurr[13] = Motion.bfsDist[Motion.stepOffset + 13];
-        Motion.bfsCurr[14] = Motion.bfsDist[Motion.stepOffset + 14];
-        Motion.bfsCurr[15] = Motion.bfsDist[Motion.stepOffset + 15];
-        Motion.bfsCurr[16] = Motion.bfsDist[Motion.stepOffset + 16];
-        Motion.bfsCurr[17] = Motion.bfsDist[Motion.stepOffset + 17];
-        Motion.bfsCurr[18] = Motion.bfsDist[Motion.stepOffset + 18];
-        Motion.bfsCurr[19] = Motion.bfsDist[Motion.stepOffset + 19];
-        Motion.bfsCurr[20] = Motion.bfsDist[Motion.stepOffset + 20];
-        Motion.bfsCurr[21] = Motion.bfsDist[Motion.stepOffset + 21];
-        Motion.bfsCurr[22] = Motion.bfsDist[Motion.stepOffset + 22];
-        Motion.bfsCurr[23] = Motion.bfsDist[Motion.stepOffset + 23];
-        Motion.bfsCurr[24] = Motion.bfsDist[Motion.stepOffset + 24];
-        Motion.bfsCurr[25] = Motion.bfsDist[Motion.stepOffset + 25];
-        Motion.bfsCurr[26] = Motion.bfsDist[Motion.stepOffset + 26];
-        Motion.bfsCurr[27] = Motion.bfsDist[Motion.stepOffset + 27];
-        Motion.bfsCurr[28] = Motion.bfsDist[Motion.stepOffset + 28];
-        Motion.bfsCurr[29] = Motion.bfsDist[Motion.stepOffset + 29];
-        Motion.bfsCurr[30] = Motion.bfsDist[Motion.stepOffset + 30];
-        Motion.bfsCurr[31] = Motion.bfsDist[Motion.stepOffset + 31];
-        Motion.bfsCurr[32] = Motion.bfsDist[Motion.stepOffset + 32];
-        Motion.bfsCurr[33] = Motion.bfsDist[Motion.stepOffset + 33];
-        Motion.bfsCurr[34] = Motion.bfsDist[Motion.stepOffset + 34];
-        Motion.bfsCurr[35] = Motion.bfsDist[Motion.stepOffset + 35];
-        Motion.bfsCurr[36] = Motion.bfsDist[Motion.stepOffset + 36];
-        Motion.bfsCurr[37] = Motion.bfsDist[Motion.stepOffset + 37];
-        Motion.bfsCurr[38] = Motion.bfsDist[Motion.stepOffset + 38];
-        Motion.bfsCurr[39] = Motion.bfsDist[Motion.stepOffset + 39];
-    }
-    public static void bfs40() {
-        Motion.bfsCurr[1] = Motion.bfsCurr[1] | (Motion.bfsCurr[1] >> 1) | (Motion.bfsCurr[1] << 1);
-        Motion.bfsCurr[2] = Motion.bfsCurr[2] | (Motion.bfsCurr[2] >> 1) | (Motion.bfsCurr[2] << 1);
-        Motion.bfsCurr[3] = Motion.bfsCurr[3] | (Motion.bfsCurr[3] >> 1) | (Motion.bfsCurr[3] << 1);
-        Motion.bfsCurr[4] = Motion.bfsCurr[4] | (Motion.bfsCurr[4] >> 1) | (Motion.bfsCurr[4] << 1);
-        Motion.bfsCurr[5] = Motion.bfsCurr[5] | (Motion.bfsCurr[5] >> 1) | (Motion.bfsCurr[5] << 1);
-        Motion.bfsCurr[6] = Motion.bfsCurr[6] | (Motion.bfsCurr[6] >> 1) | (Motion.bfsCurr[6] << 1);
-        Motion.bfsCurr[7] = Motion.bfsCurr[7] | (Motion.bfsCurr[7] >> 1) | (Motion.bfsCurr[7] << 1);
-        Motion.bfsCurr[8] = Motion.bfsCurr[8] | (Motion.bfsCurr[8] >> 1) | (Motion.bfsCurr[8] << 1);
-        Motion.bfsCurr[9] = Motion.bfsCurr[9] | (Motion.bfsCurr[9] >> 1) | (Motion.bfsCurr[9] << 1);
-        Motion.bfsCurr[10] = Motion.bfsCurr[10] | (Motion.bfsCurr[10] >> 1) | (Motion.bfsCurr[10] << 1);
-        Motion.bfsCurr[11] = Motion.bfsCurr[11] | (Motion.bfsCurr[11] >> 1) | (Motion.bfsCurr[11] << 1);
-        Motion.bfsCurr[12] = Motion.bfsCurr[12] | (Motion.bfsCurr[12] >> 1) | (Motion.bfsCurr[12] << 1);
-        Motion.bfsCurr[13] = Motion.bfsCurr[13] | (Motion.bfsCurr[13] >> 1) | (Motion.bfsCurr[13] << 1);
-        Motion.bfsCurr[14] = Motion.bfsCurr[14] | (Motion.bfsCurr[14] >> 1) | (Motion.bfsCurr[14] << 1);
-        Motion.bfsCurr[15] = Motion.bfsCurr[15] | (Motion.bfsCurr[15] >> 1) | (Motion.bfsCurr[15] << 1);
-        Motion.bfsCurr[16] = Motion.bfsCurr[16] | (Motion.bfsCurr[16] >> 1) | (Motion.bfsCurr[16] << 1);
-        Motion.bfsCurr[17] = Motion.bfsCurr[17] | (Motion.bfsCurr[17] >> 1) | (Motion.bfsCurr[17] << 1);
-        Motion.bfsCurr[18] = Motion.bfsCurr[18] | (Motion.bfsCurr[18] >> 1) | (Motion.bfsCurr[18] << 1);
-        Motion.bfsCurr[19] = Motion.bfsCurr[19] | (Motion.bfsCurr[19] >> 1) | (Motion.bfsCurr[19] << 1);
-        Motion.bfsCurr[20] = Motion.bfsCurr[20] | (Motion.bfsCurr[20] >> 1) | (Motion.bfsCurr[20] << 1);
-        Motion.bfsCurr[21] = Motion.bfsCurr[21] | (Motion.bfsCurr[21] >> 1) | (Motion.bfsCurr[21] << 1);
-        Motion.bfsCurr[22] = Motion.bfsCurr[22] | (Motion.bfsCurr[22] >> 1) | (Motion.bfsCurr[22] << 1);
-        Motion.bfsCurr[23] = Motion.bfsCurr[23] | (Motion.bfsCurr[23] >> 1) | (Motion.bfsCurr[23] << 1);
-        Motion.bfsCurr[24] = Motion.bfsCurr[24] | (Motion.bfsCurr[24] >> 1) | (Motion.bfsCurr[24] << 1);
-        Motion.bfsCurr[25] = Motion.bfsCurr[25] | (Motion.bfsCurr[25] >> 1) | (Motion.bfsCurr[25] << 1);
-        Motion.bfsCurr[26] = Motion.bfsCurr[26] | (Motion.bfsCurr[26] >> 1) | (Motion.bfsCurr[26] << 1);
-        Motion.bfsCurr[27] = Motion.bfsCurr[27] | (Motion.bfsCurr[27] >> 1) | (Motion.bfsCurr[27] << 1);
-        Motion.bfsCurr[28] = Motion.bfsCurr[28] | (Motion.bfsCurr[28] >> 1) | (Motion.bfsCurr[28] << 1);
-        Motion.bfsCurr[29] = Motion.bfsCurr[29] | (Motion.bfsCurr[29] >> 1) | (Motion.bfsCurr[29] << 1);
-        Motion.bfsCurr[30] = Motion.bfsCurr[30] | (Motion.bfsCurr[30] >> 1) | (Motion.bfsCurr[30] << 1);
-        Motion.bfsCurr[31] = Motion.bfsCurr[31] | (Motion.bfsCurr[31] >> 1) | (Motion.bfsCurr[31] << 1);
-        Motion.bfsCurr[32] = Motion.bfsCurr[32] | (Motion.bfsCurr[32] >> 1) | (Motion.bfsCurr[32] << 1);
-        Motion.bfsCurr[33] = Motion.bfsCurr[33] | (Motion.bfsCurr[33] >> 1) | (Motion.bfsCurr[33] << 1);
-        Motion.bfsCurr[34] = Motion.bfsCurr[34] | (Motion.bfsCurr[34] >> 1) | (Motion.bfsCurr[34] << 1);
-        Motion.bfsCurr[35] = Motion.bfsCurr[35] | (Motion.bfsCurr[35] >> 1) | (Motion.bfsCurr[35] << 1);
-        Motion.bfsCurr[36] = Motion.bfsCurr[36] | (Motion.bfsCurr[36] >> 1) | (Motion.bfsCurr[36] << 1);
-        Motion.bfsCurr[37] = Motion.bfsCurr[37] | (Motion.bfsCurr[37] >> 1) | (Motion.bfsCurr[37] << 1);
-        Motion.bfsCurr[38] = Motion.bfsCurr[38] | (Motion.bfsCurr[38] >> 1) | (Motion.bfsCurr[38] << 1);
-        Motion.bfsCurr[39] = Motion.bfsCurr[39] | (Motion.bfsCurr[39] >> 1) | (Motion.bfsCurr[39] << 1);
-        Motion.bfsCurr[40] = Motion.bfsCurr[40] | (Motion.bfsCurr[40] >> 1) | (Motion.bfsCurr[40] << 1);
-        Motion.bfsDist[Motion.stepOffset + 1] = (Motion.bfsCurr[1] | Motion.bfsCurr[0] | Motion.bfsCurr[2]) & (Motion.bitmask ^ Motion.bfsMap[1]);
-        Motion.bfsDist[Motion.stepOffset + 2] = (Motion.bfsCurr[2] | Motion.bfsCurr[1] | Motion.bfsCurr[3]) & (Motion.bitmask ^ Motion.bfsMap[2]);
-        Motion.bfsDist[Motion.stepOffset + 3] = (Motion.bfsCurr[3] | Motion.bfsCurr[2] | Motion.bfsCurr[4]) & (Motion.bitmask ^ Motion.bfsMap[3]);
-        Motion.bfsDist[Motion.stepOffset + 4] = (Motion.bfsCurr[4] | Motion.bfsCurr[3] | Motion.bfsCurr[5]) & (Motion.bitmask ^ Motion.bfsMap[4]);
-        Motion.bfsDist[Motion.stepOffset + 5] = (Motion.bfsCurr[5] | Motion.bfsCurr[4] | Motion.bfsCurr[6]) & (Motion.bitmask ^ Motion.bfsMap[5]);
-        Motion.bfsDist[Motion.stepOffset + 6] = (Motion.bfsCurr[6] | Motion.bfsCurr[5] | Motion.bfsCurr[7]) & (Motion.bitmask ^ Motion.bfsMap[6]);
-        Motion.bfsDist[Motion.stepOffset + 7] = (Motion.bfsCurr[7] | Motion.bfsCurr[6] | Motion.bfsCurr[8]) & (Motion.bitmask ^ Motion.bfsMap[7]);
-        Motion.bfsDist[Motion.stepOffset + 8] = (Motion.bfsCurr[8] | Motion.bfsCurr[7] | Motion.bfsCurr[9]) & (Motion.bitmask ^ Motion.bfsMap[8]);
-        Motion.bfsDist[Motion.stepOffset + 9] = (Motion.bfsCurr[9] | Motion.bfsCurr[8] | Motion.bfsCurr[10]) & (Motion.bitmask ^ Motion.bfsMap[9]);
-        Motion.bfsDist[Motion.stepOffset + 10] = (Motion.bfsCurr[10] | Motion.bfsCurr[9] | Motion.bfsCurr[11]) & (Motion.bitmask ^ Motion.bfsMap[10]);
-        Motion.bfsDist[Motion.stepOffset + 11] = (Motion.bfsCurr[11] | Motion.bfsCurr[10] | Motion.bfsCurr[12]) & (Motion.bitmask ^ Motion.bfsMap[11]);
-        Motion.bfsDist[Motion.stepOffset + 12] = (Motion.bfsCurr[12] | Motion.bfsCurr[11] | Motion.bfsCurr[13]) & (Motion.bitmask ^ Motion.bfsMap[12]);
-        Motion.bfsDist[Motion.stepOffset + 13] = (Motion.bfsCurr[13] | Motion.bfsCurr[12] | Motion.bfsCurr[14]) & (Motion.bitmask ^ Motion.bfsMap[13]);
-        Motion.bfsDist[Motion.stepOffset + 14] = (Motion.bfsCurr[14] | Motion.bfsCurr[13] | Motion.bfsCurr[15]) & (Motion.bitmask ^ Motion.bfsMap[14]);
-        Motion.bfsDist[Motion.stepOffset + 15] = (Motion.bfsCurr[15] | Motion.bfsCurr[14] | Motion.bfsCurr[16]) & (Motion.bitmask ^ Motion.bfsMap[15]);
-        Motion.bfsDist[Motion.stepOffset + 16] = (Motion.bfsCurr[16] | Motion.bfsCurr[15] | Motion.bfsCurr[17]) & (Motion.bitmask ^ Motion.bfsMap[16]);
-        Motion.bfsDist[Motion.stepOffset + 17] = (Motion.bfsCurr[17] | Motion.bfsCurr[16] | Motion.bfsCurr[18]) & (Motion.bitmask ^ Motion.bfsMap[17]);
-        Motion.bfsDist[Motion.stepOffset + 18] = (Motion.bfsCurr[18] | Motion.bfsCurr[17] | Motion.bfsCurr[19]) & (Motion.bitmask ^ Motion.bfsMap[18]);
-        Motion.bfsDist[Motion.stepOffset + 19] = (Motion.bfsCurr[19] | Motion.bfsCurr[18] | Motion.bfsCurr[20]) & (Motion.bitmask ^ Motion.bfsMap[19]);
-        Motion.bfsDist[Motion.stepOffset + 20] = (Motion.bfsCurr[20] | Motion.bfsCurr[19] | Motion.bfsCurr[21]) & (Motion.bitmask ^ Motion.bfsMap[20]);
-        Motion.bfsDist[Motion.stepOffset + 21] = (Motion.bfsCurr[21] | Motion.bfsCurr[20] | Motion.bfsCurr[22]) & (Motion.bitmask ^ Motion.bfsMap[21]);
-        Motion.bfsDist[Motion.stepOffset + 22] = (Motion.bfsCurr[22] | Motion.bfsCurr[21] | Motion.bfsCurr[23]) & (Motion.bitmask ^ Motion.bfsMap[22]);
-        Motion.bfsDist[Motion.stepOffset + 23] = (Motion.bfsCurr[23] | Motion.bfsCurr[22] | Motion.bfsCurr[24]) & (Motion.bitmask ^ Motion.bfsMap[23]);
-        Motion.bfsDist[Motion.stepOffset + 24] = (Motion.bfsCurr[24] | Motion.bfsCurr[23] | Motion.bfsCurr[25]) & (Motion.bitmask ^ Motion.bfsMap[24]);
-        Motion.bfsDist[Motion.stepOffset + 25] = (Motion.bfsCurr[25] | Motion.bfsCurr[24] | Motion.bfsCurr[26]) & (Motion.bitmask ^ Motion.bfsMap[25]);
-        Motion.bfsDist[Motion.stepOffset + 26] = (Motion.bfsCurr[26] | Motion.bfsCurr[25] | Motion.bfsCurr[27]) & (Motion.bitmask ^ Motion.bfsMap[26]);
-        Motion.bfsDist[Motion.stepOffset + 27] = (Motion.bfsCurr[27] | Motion.bfsCurr[26] | Motion.bfsCurr[28]) & (Motion.bitmask ^ Motion.bfsMap[27]);
-        Motion.bfsDist[Motion.stepOffset + 28] = (Motion.bfsCurr[28] | Motion.bfsCurr[27] | Motion.bfsCurr[29]) & (Motion.bitmask ^ Motion.bfsMap[28]);
-        Motion.bfsDist[Motion.stepOffset + 29] = (Motion.bfsCurr[29] | Motion.bfsCurr[28] | Motion.bfsCurr[30]) & (Motion.bitmask ^ Motion.bfsMap[29]);
-        Motion.bfsDist[Motion.stepOffset + 30] = (Motion.bfsCurr[30] | Motion.bfsCurr[29] | Motion.bfsCurr[31]) & (Motion.bitmask ^ Motion.bfsMap[30]);
-        Motion.bfsDist[Motion.stepOffset + 31] = (Motion.bfsCurr[31] | Motion.bfsCurr[30] | Motion.bfsCurr[32]) & (Motion.bitmask ^ Motion.bfsMap[31]);
-        Motion.bfsDist[Motion.stepOffset + 32] = (Motion.bfsCurr[32] | Motion.bfsCurr[31] | Motion.bfsCurr[33]) & (Motion.bitmask ^ Motion.bfsMap[32]);
-        Motion.bfsDist[Motion.stepOffset + 33] = (Motion.bfsCurr[33] | Motion.bfsCurr[32] | Motion.bfsCurr[34]) & (Motion.bitmask ^ Motion.bfsMap[33]);
-        Motion.bfsDist[Motion.stepOffset + 34] = (Motion.bfsCurr[34] | Motion.bfsCurr[33] | Motion.bfsCurr[35]) & (Motion.bitmask ^ Motion.bfsMap[34]);
-        Motion.bfsDist[Motion.stepOffset + 35] = (Motion.bfsCurr[35] | Motion.bfsCurr[34] | Motion.bfsCurr[36]) & (Motion.bitmask ^ Motion.bfsMap[35]);
-        Motion.bfsDist[Motion.stepOffset + 36] = (Motion.bfsCurr[36] | Motion.bfsCurr[35] | Motion.bfsCurr[37]) & (Motion.bitmask ^ Motion.bfsMap[36]);
-        Motion.bfsDist[Motion.stepOffset + 37] = (Motion.bfsCurr[37] | Motion.bfsCurr[36] | Motion.bfsCurr[38]) & (Motion.bitmask ^ Motion.bfsMap[37]);
-        Motion.bfsDist[Motion.stepOffset + 38] = (Motion.bfsCurr[38] | Motion.bfsCurr[37] | Motion.bfsCurr[39]) & (Motion.bitmask ^ Motion.bfsMap[38]);
-        Motion.bfsDist[Motion.stepOffset + 39] = (Motion.bfsCurr[39] | Motion.bfsCurr[38] | Motion.bfsCurr[40]) & (Motion.bitmask ^ Motion.bfsMap[39]);
-        Motion.bfsDist[Motion.stepOffset + 40] = (Motion.bfsCurr[40] | Motion.bfsCurr[39] | Motion.bfsCurr[41]) & (Motion.bitmask ^ Motion.bfsMap[40]);
-        Motion.bfsCurr[1] = Motion.bfsDist[Motion.stepOffset + 1];
-        Motion.bfsCurr[2] = Motion.bfsDist[Motion.stepOffset + 2];
-        Motion.bfsCurr[3] = Motion.bfsDist[Motion.stepOffset + 3];
-        Motion.bfsCurr[4] = Motion.bfsDist[Motion.stepOffset + 4];
-        Motion.bfsCurr[5] = Motion.bfsDist[Motion.stepOffset + 5];
-        Motion.bfsCurr[6] = Motion.bfsDist[Motion.stepOffset + 6];
-        Motion.bfsCurr[7] = Motion.bfsDist[Motion.stepOffset + 7];
-        Motion.bfsCurr[8] = Motion.bfsDist[Motion.stepOffset + 8];
-        Motion.bfsCurr[9] = Motion.bfsDist[Motion.stepOffset + 9];
-        Motion.bfsCurr[10] = Motion.bfsDist[Motion.stepOffset + 10];
-        Motion.bfsCurr[11] = Motion.bfsDist[Motion.stepOffset + 11];
-        Motion.bfsCurr[12] = Motion.bfsDist[Motion.stepOffset + 12];
-        Motion.bfsCurr[13] = Motion.bfsDist[Motion.stepOffset + 13];
-        Motion.bfsCurr[14] = Motion.bfsDist[Motion.stepOffset + 14];
-        Motion.bfsCurr[15] = Motion.bfsDist[Motion.stepOffset + 15];
-        Motion.bfsCurr[16] = Motion.bfsDist[Motion.stepOffset + 16];
-        Motion.bfsCurr[17] = Motion.bfsDist[Motion.stepOffset + 17];
-        Motion.bfsCurr[18] = Motion.bfsDist[Motion.stepOffset + 18];
-        Motion.bfsCurr[19] = Motion.bfsDist[Motion.stepOffset + 19];
-        Motion.bfsCurr[20] = Motion.bfsDist[Motion.stepOffset + 20];
-        Motion.bfsCurr[21] = Motion.bfsDist[Motion.stepOffset + 21];
-        Motion.bfsCurr[22] = Motion.bfsDist[Motion.stepOffset + 22];
-        Motion.bfsCurr[23] = Motion.bfsDist[Motion.stepOffset + 23];
-        Motion.bfsCurr[24] = Motion.bfsDist[Motion.stepOffset + 24];
-        Motion.bfsCurr[25] = Motion.bfsDist[Motion.stepOffset + 25];
-        Motion.bfsCurr[26] = Motion.bfsDist[Motion.stepOffset + 26];
-        Motion.bfsCurr[27] = Motion.bfsDist[Motion.stepOffset + 27];
-        Motion.bfsCurr[28] = Motion.bfsDist[Motion.stepOffset + 28];
-        Motion.bfsCurr[29] = Motion.bfsDist[Motion.stepOffset + 29];
-        Motion.bfsCurr[30] = Motion.bfsDist[Motion.stepOffset + 30];
-        Motion.bfsCurr[31] = Motion.bfsDist[Motion.stepOffset + 31];
-        Motion.bfsCurr[32] = Motion.bfsDist[Motion.stepOffset + 32];
-        Motion.bfsCurr[33] = Motion.bfsDist[Motion.stepOffset + 33];
-        Motion.bfsCurr[34] = Motion.bfsDist[Motion.stepOffset + 34];
-        Motion.bfsCurr[35] = Motion.bfsDist[Motion.stepOffset + 35];
-        Motion.bfsCurr[36] = Motion.bfsDist[Motion.stepOffset + 36];
-        Motion.bfsCurr[37] = Motion.bfsDist[Motion.stepOffset + 37];
-        Motion.bfsCurr[38] = Motion.bfsDist[Motion.stepOffset + 38];
-        Motion.bfsCurr[39] = Motion.bfsDist[Motion.stepOffset + 39];
-        Motion.bfsCurr[40] = Motion.bfsDist[Motion.stepOffset + 40];
-    }
-    public static void bfs41() {
-        Motion.bfsCurr[1] = Motion.bfsCurr[1] | (Motion.bfsCurr[1] >> 1) | (Motion.bfsCurr[1] << 1);
-        Motion.bfsCurr[2] = Motion.bfsCurr[2] | (Motion.bfsCurr[2] >> 1) | (Motion.bfsCurr[2] << 1);
-        Motion.bfsCurr[3] = Motion.bfsCurr[3] | (Motion.bfsCurr[3] >> 1) | (Motion.bfsCurr[3] << 1);
-        Motion.bfsCurr[4] = Motion.bfsCurr[4] | (Motion.bfsCurr[4] >> 1) | (Motion.bfsCurr[4] << 1);
-        Motion.bfsCurr[5] = Motion.bfsCurr[5] | (Motion.bfsCurr[5] >> 1) | (Motion.bfsCurr[5] << 1);
-        Motion.bfsCurr[6] = Motion.bfsCurr[6] | (Motion.bfsCurr[6] >> 1) | (Motion.bfsCurr[6] << 1);
-        Motion.bfsCurr[7] = Motion.bfsCurr[7] | (Motion.bfsCurr[7] >> 1) | (Motion.bfsCurr[7] << 1);
-        Motion.bfsCurr[8] = Motion.bfsCurr[8] | (Motion.bfsCurr[8] >> 1) | (Motion.bfsCurr[8] << 1);
-        Motion.bfsCurr[9] = Motion.bfsCurr[9] | (Motion.bfsCurr[9] >> 1) | (Motion.bfsCurr[9] << 1);
-        Motion.bfsCurr[10] = Motion.bfsCurr[10] | (Motion.bfsCurr[10] >> 1) | (Motion.bfsCurr[10] << 1);
-        Motion.bfsCurr[11] = Motion.bfsCurr[11] | (Motion.bfsCurr[11] >> 1) | (Motion.bfsCurr[11] << 1);
-        Motion.bfsCurr[12] = Motion.bfsCurr[12] | (Motion.bfsCurr[12] >> 1) | (Motion.bfsCurr[12] << 1);
-        Motion.bfsCurr[13] = Motion.bfsCurr[13] | (Motion.bfsCurr[13] >> 1) | (Motion.bfsCurr[13] << 1);
-        Motion.bfsCurr[14] = Motion.bfsCurr[14] | (Motion.bfsCurr[14] >> 1) | (Motion.bfsCurr[14] << 1);
-        Motion.bfsCurr[15] = Motion.bfsCurr[15] | (Motion.bfsCurr[15] >> 1) | (Motion.bfsCurr[15] << 1);
-        Motion.bfsCurr[16] = Motion.bfsCurr[16] | (Motion.bfsCurr[16] >> 1) | (Motion.bfsCurr[16] << 1);
-        Motion.bfsCurr[17] = Motion.bfsCurr[17] | (Motion.bfsCurr[17] >> 1) | (Motion.bfsCurr[17] << 1);
-        Motion.bfsCurr[18] = Motion.bfsCurr[18] | (Motion.bfsCurr[18] >> 1) | (Motion.bfsCurr[18] << 1);
-        Motion.bfsCurr[19] = Motion.bfsCurr[19] | (Motion.bfsCurr[19] >> 1) | (Motion.bfsCurr[19] << 1);
-        Motion.bfsCurr[20] = Motion.bfsCurr[20] | (Motion.bfsCurr[20] >> 1) | (Motion.bfsCurr[20] << 1);
-        Motion.bfsCurr[21] = Motion.bfsCurr[21] | (Motion.bfsCurr[21] >> 1) | (Motion.bfsCurr[21] << 1);
-        Motion.bfsCurr[22] = Motion.bfsCurr[22] | (Motion.bfsCurr[22] >> 1) | (Motion.bfsCurr[22] << 1);
-        Motion.bfsCurr[23] = Motion.bfsCurr[23] | (Motion.bfsCurr[23] >> 1) | (Motion.bfsCurr[23] << 1);
-        Motion.bfsCurr[24] = Motion.bfsCurr[24] | (Motion.bfsCurr[24] >> 1) | (Motion.bfsCurr[24] << 1);
-        Motion.bfsCurr[25] = Motion.bfsCurr[25] | (Motion.bfsCurr[25] >> 1) | (Motion.bfsCurr[25] << 1);
-        Motion.bfsCurr[26] = Motion.bfsCurr[26] | (Motion.bfsCurr[26] >> 1) | (Motion.bfsCurr[26] << 1);
-        Motion.bfsCurr[27] = Motion.bfsCurr[27] | (Motion.bfsCurr[27] >> 1) | (Motion.bfsCurr[27] << 1);
-        Motion.bfsCurr[28] = Motion.bfsCurr[28] | (Motion.bfsCurr[28] >> 1) | (Motion.bfsCurr[28] << 1);
-        Motion.bfsCurr[29] = Motion.bfsCurr[29] | (Motion.bfsCurr[29] >> 1) | (Motion.bfsCurr[29] << 1);
-        Motion.bfsCurr[30] = Motion.bfsCurr[30] | (Motion.bfsCurr[30] >> 1) | (Motion.bfsCurr[30] << 1);
-        Motion.bfsCurr[31] = Motion.bfsCurr[31] | (Motion.bfsCurr[31] >> 1) | (Motion.bfsCurr[31] << 1);
-        Motion.bfsCurr[32] = Motion.bfsCurr[32] | (Motion.bfsCurr[32] >> 1) | (Motion.bfsCurr[32] << 1);
-        Motion.bfsCurr[33] = Motion.bfsCurr[33] | (Motion.bfsCurr[33] >> 1) | (Motion.bfsCurr[33] << 1);
-        Motion.bfsCurr[34] = Motion.bfsCurr[34] | (Motion.bfsCurr[34] >> 1) | (Motion.bfsCurr[34] << 1);
-        Motion.bfsCurr[35] = Motion.bfsCurr[35] | (Motion.bfsCurr[35] >> 1) | (Motion.bfsCurr[35] << 1);
-        Motion.bfsCurr[36] = Motion.bfsCurr[36] | (Motion.bfsCurr[36] >> 1) | (Motion.bfsCurr[36] << 1);
-        Motion.bfsCurr[37] = Motion.bfsCurr[37] | (Motion.bfsCurr[37] >> 1) | (Motion.bfsCurr[37] << 1);
-        Motion.bfsCurr[38] = Motion.bfsCurr[38] | (Motion.bfsCurr[38] >> 1) | (Motion.bfsCurr[38] << 1);
-        Motion.bfsCurr[39] = Motion.bfsCurr[39] | (Motion.bfsCurr[39] >> 1) | (Motion.bfsCurr[39] << 1);
-        Motion.bfsCurr[40] = Motion.bfsCurr[40] | (Motion.bfsCurr[40] >> 1) | (Motion.bfsCurr[40] << 1);
-        Motion.bfsCurr[41] = Motion.bfsCurr[41] | (Motion.bfsCurr[41] >> 1) | (Motion.bfsCurr[41] << 1);
-        Motion.bfsDist[Motion.stepOffset + 1] = (Motion.bfsCurr[1] | Motion.bfsCurr[0] | Motion.bfsCurr[2]) & (Motion.bitmask ^ Motion.bfsMap[1]);
-        Motion.bfsDist[Motion.stepOffset + 2] = (Motion.bfsCurr[2] | Motion.bfsCurr[1] | Motion.bfsCurr[3]) & (Motion.bitmask ^ Motion.bfsMap[2]);
-        Motion.bfsDist[Motion.stepOffset + 3] = (Motion.bfsCurr[3] | Motion.bfsCurr[2] | Motion.bfsCurr[4]) & (Motion.bitmask ^ Motion.bfsMap[3]);
-        Motion.bfsDist[Motion.stepOffset + 4] = (Motion.bfsCurr[4] | Motion.bfsCurr[3] | Motion.bfsCurr[5]) & (Motion.bitmask ^ Motion.bfsMap[4]);
-        Motion.bfsDist[Motion.stepOffset + 5] = (Motion.bfsCurr[5] | Motion.bfsCurr[4] | Motion.bfsCurr[6]) & (Motion.bitmask ^ Motion.bfsMap[5]);
-        Motion.bfsDist[Motion.stepOffset + 6] = (Motion.bfsCurr[6] | Motion.bfsCurr[5] | Motion.bfsCurr[7]) & (Motion.bitmask ^ Motion.bfsMap[6]);
-        Motion.bfsDist[Motion.stepOffset + 7] = (Motion.bfsCurr[7] | Motion.bfsCurr[6] | Motion.bfsCurr[8]) & (Motion.bitmask ^ Motion.bfsMap[7]);
-        Motion.bfsDist[Motion.stepOffset + 8] = (Motion.bfsCurr[8] | Motion.bfsCurr[7] | Motion.bfsCurr[9]) & (Motion.bitmask ^ Motion.bfsMap[8]);
-        Motion.bfsDist[Motion.stepOffset + 9] = (Motion.bfsCurr[9] | Motion.bfsCurr[8] | Motion.bfsCurr[10]) & (Motion.bitmask ^ Motion.bfsMap[9]);
-        Motion.bfsDist[Motion.stepOffset + 10] = (Motion.bfsCurr[10] | Motion.bfsCurr[9] | Motion.bfsCurr[11]) & (Motion.bitmask ^ Motion.bfsMap[10]);
-        Motion.bfsDist[Motion.stepOffset + 11] = (Motion.bfsCurr[11] | Motion.bfsCurr[10] | Motion.bfsCurr[12]) & (Motion.bitmask ^ Motion.bfsMap[11]);
-        Motion.bfsDist[Motion.stepOffset + 12] = (Motion.bfsCurr[12] | Motion.bfsCurr[11] | Motion.bfsCurr[13]) & (Motion.bitmask ^ Motion.bfsMap[12]);
-        Motion.bfsDist[Motion.stepOffset + 13] = (Motion.bfsCurr[13] | Motion.bfsCurr[12] | Motion.bfsCurr[14]) & (Motion.bitmask ^ Motion.bfsMap[13]);
-        Motion.bfsDist[Motion.stepOffset + 14] = (Motion.bfsCurr[14] | Motion.bfsCurr[13] | Motion.bfsCurr[15]) & (Motion.bitmask ^ Motion.bfsMap[14]);
-        Motion.bfsDist[Motion.stepOffset + 15] = (Motion.bfsCurr[15] | Motion.bfsCurr[14] | Motion.bfsCurr[16]) & (Motion.bitmask ^ Motion.bfsMap[15]);
-        Motion.bfsDist[Motion.stepOffset + 16] = (Motion.bfsCurr[16] | Motion.bfsCurr[15] | Motion.bfsCurr[17]) & (Motion.bitmask ^ Motion.bfsMap[16]);
-        Motion.bfsDist[Motion.stepOffset + 17] = (Motion.bfsCurr[17] | Motion.bfsCurr[16] | Motion.bfsCurr[18]) & (Motion.bitmask ^ Motion.bfsMap[17]);
-        Motion.bfsDist[Motion.stepOffset + 18] = (Motion.bfsCurr[18] | Motion.bfsCurr[17] | Motion.bfsCurr[19]) & (Motion.bitmask ^ Motion.bfsMap[18]);
-        Motion.bfsDist[Motion.stepOffset + 19] = (Motion.bfsCurr[19] | Motion.bfsCurr[18] | Motion.bfsCurr[20]) & (Motion.bitmask ^ Motion.bfsMap[19]);
-        Motion.bfsDist[Motion.stepOffset + 20] = (Motion.bfsCurr[20] | Motion.bfsCurr[19] | Motion.bfsCurr[21]) & (Motion.bitmask ^ Motion.bfsMap[20]);
-        Motion.bfsDist[Motion.stepOffset + 21] = (Motion.bfsCurr[21] | Motion.bfsCurr[20] | Motion.bfsCurr[22]) & (Motion.bitmask ^ Motion.bfsMap[21]);
-        Motion.bfsDist[Motion.stepOffset + 22] = (Motion.bfsCurr[22] | Motion.bfsCurr[21] | Motion.bfsCurr[23]) & (Motion.bitmask ^ Motion.bfsMap[22]);
-        Motion.bfsDist[Motion.stepOffset + 23] = (Motion.bfsCurr[23] | Motion.bfsCurr[22] | Motion.bfsCurr[24]) & (Motion.bitmask ^ Motion.bfsMap[23]);
-        Motion.bfsDist[Motion.stepOffset + 24] = (Motion.bfsCurr[24] | Motion.bfsCurr[23] | Motion.bfsCurr[25]) & (Motion.bitmask ^ Motion.bfsMap[24]);
-        Motion.bfsDist[Motion.stepOffset + 25] = (Motion.bfsCurr[25] | Motion.bfsCurr[24] | Motion.bfsCurr[26]) & (Motion.bitmask ^ Motion.bfsMap[25]);
-        Motion.bfsDist[Motion.stepOffset + 26] = (Motion.bfsCurr[26] | Motion.bfsCurr[25] | Motion.bfsCurr[27]) & (Motion.bitmask ^ Motion.bfsMap[26]);
-        Motion.bfsDist[Motion.stepOffset + 27] = (Motion.bfsCurr[27] | Motion.bfsCurr[26] | Motion.bfsCurr[28]) & (Motion.bitmask ^ Motion.bfsMap[27]);
-        Motion.bfsDist[Motion.stepOffset + 28] = (Motion.bfsCurr[28] | Motion.bfsCurr[27] | Motion.bfsCurr[29]) & (Motion.bitmask ^ Motion.bfsMap[28]);
-        Motion.bfsDist[Motion.stepOffset + 29] = (Motion.bfsCurr[29] | Motion.bfsCurr[28] | Motion.bfsCurr[30]) & (Motion.bitmask ^ Motion.bfsMap[29]);
-        Motion.bfsDist[Motion.stepOffset + 30] = (Motion.bfsCurr[30] | Motion.bfsCurr[29] | Motion.bfsCurr[31]) & (Motion.bitmask ^ Motion.bfsMap[30]);
-        Motion.bfsDist[Motion.stepOffset + 31] = (Motion.bfsCurr[31] | Motion.bfsCurr[30] | Motion.bfsCurr[32]) & (Motion.bitmask ^ Motion.bfsMap[31]);
-        Motion.bfsDist[Motion.stepOffset + 32] = (Motion.bfsCurr[32] | Motion.bfsCurr[31] | Motion.bfsCurr[33]) & (Motion.bitmask ^ Motion.bfsMap[32]);
-        Motion.bfsDist[Motion.stepOffset + 33] = (Motion.bfsCurr[33] | Motion.bfsCurr[32] | Motion.bfsCurr[34]) & (Motion.bitmask ^ Motion.bfsMap[33]);
-        Motion.bfsDist[Motion.stepOffset + 34] = (Motion.bfsCurr[34] | Motion.bfsCurr[33] | Motion.bfsCurr[35]) & (Motion.bitmask ^ Motion.bfsMap[34]);
-        Motion.bfsDist[Motion.stepOffset + 35] = (Motion.bfsCurr[35] | Motion.bfsCurr[34] | Motion.bfsCurr[36]) & (Motion.bitmask ^ Motion.bfsMap[35]);
-        Motion.bfsDist[Motion.stepOffset + 36] = (Motion.bfsCurr[36] | Motion.bfsCurr[35] | Motion.bfsCurr[37]) & (Motion.bitmask ^ Motion.bfsMap[36]);
-        Motion.bfsDist[Motion.stepOffset + 37] = (Motion.bfsCurr[37] | Motion.bfsCurr[36] | Motion.bfsCurr[38]) & (Motion.bitmask ^ Motion.bfsMap[37]);
-        Motion.bfsDist[Motion.stepOffset + 38] = (Motion.bfsCurr[38] | Motion.bfsCurr[37] | Motion.bfsCurr[39]) & (Motion.bitmask ^ Motion.bfsMap[38]);
-        Motion.bfsDist[Motion.stepOffset + 39] = (Motion.bfsCurr[39] | Motion.bfsCurr[38] | Motion.bfsCurr[40]) & (Motion.bitmask ^ Motion.bfsMap[39]);
-        Motion.bfsDist[Motion.stepOffset + 40] = (Motion.bfsCurr[40] | Motion.bfsCurr[39] | Motion.bfsCurr[41]) & (Motion.bitmask ^ Motion.bfsMap[40]);
-        Motion.bfsDist[Motion.stepOffset + 41] = (Motion.bfsCurr[41] | Motion.bfsCurr[40] | Motion.bfsCurr[42]) & (Motion.bitmask ^ Motion.bfsMap[41]);
-        Motion.bfsCurr[1] = Motion.bfsDist[Motion.stepOffset + 1];
-        Motion.bfsCurr[2] = Motion.bfsDist[Motion.stepOffset + 2];
-        Motion.bfsCurr[3] = Motion.bfsDist[Motion.stepOffset + 3];
-        Motion.bfsCurr[4] = Motion.bfsDist[Motion.stepOffset + 4];
-        Motion.bfsCurr[5] = Motion.bfsDist[Motion.stepOffset + 5];
-        Motion.bfsCurr[6] = Motion.bfsDist[Motion.stepOffset + 6];
-        Motion.bfsCurr[7] = Motion.bfsDist[Motion.stepOffset + 7];
-        Motion.bfsCurr[8] = Motion.bfsDist[Motion.stepOffset + 8];
-        Motion.bfsCurr[9] = Motion.bfsDist[Motion.stepOffset + 9];
-        Motion.bfsCurr[10] = Motion.bfsDist[Motion.stepOffset + 10];
-        Motion.bfsCurr[11] = Motion.bfsDist[Motion.stepOffset + 11];
-        Motion.bfsCurr[12] = Motion.bfsDist[Motion.stepOffset + 12];
-        Motion.bfsCurr[13] = Motion.bfsDist[Motion.stepOffset + 13];
-        Motion.bfsCurr[14] = Motion.bfsDist[Motion.stepOffset + 14];
-        Motion.bfsCurr[15] = Motion.bfsDist[Motion.stepOffset + 15];
-        Motion.bfsCurr[16] = Motion.bfsDist[Motion.stepOffset + 16];
-        Motion.bfsCurr[17] = Motion.bfsDist[Motion.stepOffset + 17];
-        Motion.bfsCurr[18] = Motion.bfsDist[Motion.stepOffset + 18];
-        Motion.bfsCurr[19] = Motion.bfsDist[Motion.stepOffset + 19];
-        Motion.bfsCurr[20] = Motion.bfsDist[Motion.stepOffset + 20];
-        Motion.bfsCurr[21] = Motion.bfsDist[Motion.stepOffset + 21];
-        Motion.bfsCurr[22] = Motion.bfsDist[Motion.stepOffset + 22];
-        Motion.bfsCurr[23] = Motion.bfsDist[Motion.stepOffset + 23];
-        Motion.bfsCurr[24] = Motion.bfsDist[Motion.stepOffset + 24];
-        Motion.bfsCurr[25] = Motion.bfsDist[Motion.stepOffset + 25];
-        Motion.bfsCurr[26] = Motion.bfsDist[Motion.stepOffset + 26];
-        Motion.bfsCurr[27] = Motion.bfsDist[Motion.stepOffset + 27];
-        Motion.bfsCurr[28] = Motion.bfsDist[Motion.stepOffset + 28];
-        Motion.bfsCurr[29] = Motion.bfsDist[Motion.stepOffset + 29];
-        Motion.bfsCurr[30] = Motion.bfsDist[Motion.stepOffset + 30];
-        Motion.bfsCurr[31] = Motion.bfsDist[Motion.stepOffset + 31];
-        Motion.bfsCurr[32] = Motion.bfsDist[Motion.stepOffset + 32];
-        Motion.bfsCurr[33] = Motion.bfsDist[Motion.stepOffset + 33];
-        Motion.bfsCurr[34] = Motion.bfsDist[Motion.stepOffset + 34];
-        Motion.bfsCurr[35] = Motion.bfsDist[Motion.stepOffset + 35];
-        Motion.bfsCurr[36] = Motion.bfsDist[Motion.stepOffset + 36];
-        Motion.bfsCurr[37] = Motion.bfsDist[Motion.stepOffset + 37];
-        Motion.bfsCurr[38] = Motion.bfsDist[Motion.stepOffset + 38];
-        Motion.bfsCurr[39] = Motion.bfsDist[Motion.stepOffset + 39];
-        Motion.bfsCurr[40] = Motion.bfsDist[Motion.stepOffset + 40];
-        Motion.bfsCurr[41] = Motion.bfsDist[Motion.stepOffset + 41];
-    }
-    public static void bfs42() {
-        Motion.bfsCurr[1] = Motion.bfsCurr[1] | (Motion.bfsCurr[1] >> 1) | (Motion.bfsCurr[1] << 1);
-        Motion.bfsCurr[2] = Motion.bfsCurr[2] | (Motion.bfsCurr[2] >> 1) | (Motion.bfsCurr[2] << 1);
-        Motion.bfsCurr[3] = Motion.bfsCurr[3] | (Motion.bfsCurr[3] >> 1) | (Motion.bfsCurr[3] << 1);
-        Motion.bfsCurr[4] = Motion.bfsCurr[4] | (Motion.bfsCurr[4] >> 1) | (Motion.bfsCurr[4] << 1);
-        Motion.bfsCurr[5] = Motion.bfsCurr[5] | (Motion.bfsCurr[5] >> 1) | (Motion.bfsCurr[5] << 1);
-        Motion.bfsCurr[6] = Motion.bfsCurr[6] | (Motion.bfsCurr[6] >> 1) | (Motion.bfsCurr[6] << 1);
-        Motion.bfsCurr[7] = Motion.bfsCurr[7] | (Motion.bfsCurr[7] >> 1) | (Motion.bfsCurr[7] << 1);
-        Motion.bfsCurr[8] = Motion.bfsCurr[8] | (Motion.bfsCurr[8] >> 1) | (Motion.bfsCurr[8] << 1);
-        Motion.bfsCurr[9] = Motion.bfsCurr[9] | (Motion.bfsCurr[9] >> 1) | (Motion.bfsCurr[9] << 1);
-        Motion.bfsCurr[10] = Motion.bfsCurr[10] | (Motion.bfsCurr[10] >> 1) | (Motion.bfsCurr[10] << 1);
-        Motion.bfsCurr[11] = Motion.bfsCurr[11] | (Motion.bfsCurr[11] >> 1) | (Motion.bfsCurr[11] << 1);
-        Motion.bfsCurr[12] = Motion.bfsCurr[12] | (Motion.bfsCurr[12] >> 1) | (Motion.bfsCurr[12] << 1);
-        Motion.bfsCurr[13] = Motion.bfsCurr[13] | (Motion.bfsCurr[13] >> 1) | (Motion.bfsCurr[13] << 1);
-        Motion.bfsCurr[14] = Motion.bfsCurr[14] | (Motion.bfsCurr[14] >> 1) | (Motion.bfsCurr[14] << 1);
-        Motion.bfsCurr[15] = Motion.bfsCurr[15] | (Motion.bfsCurr[15] >> 1) | (Motion.bfsCurr[15] << 1);
-        Motion.bfsCurr[16] = Motion.bfsCurr[16] | (Motion.bfsCurr[16] >> 1) | (Motion.bfsCurr[16] << 1);
-        Motion.bfsCurr[17] = Motion.bfsCurr[17] | (Motion.bfsCurr[17] >> 1) | (Motion.bfsCurr[17] << 1);
-        Motion.bfsCurr[18] = Motion.bfsCurr[18] | (Motion.bfsCurr[18] >> 1) | (Motion.bfsCurr[18] << 1);
-        Motion.bfsCurr[19] = Motion.bfsCurr[19] | (Motion.bfsCurr[19] >> 1) | (Motion.bfsCurr[19] << 1);
-        Motion.bfsCurr[20] = Motion.bfsCurr[20] | (Motion.bfsCurr[20] >> 1) | (Motion.bfsCurr[20] << 1);
-        Motion.bfsCurr[21] = Motion.bfsCurr[21] | (Motion.bfsCurr[21] >> 1) | (Motion.bfsCurr[21] << 1);
-        Motion.bfsCurr[22] = Motion.bfsCurr[22] | (Motion.bfsCurr[22] >> 1) | (Motion.bfsCurr[22] << 1);
-        Motion.bfsCurr[23] = Motion.bfsCurr[23] | (Motion.bfsCurr[23] >> 1) | (Motion.bfsCurr[23] << 1);
-        Motion.bfsCurr[24] = Motion.bfsCurr[24] | (Motion.bfsCurr[24] >> 1) | (Motion.bfsCurr[24] << 1);
-        Motion.bfsCurr[25] = Motion.bfsCurr[25] | (Motion.bfsCurr[25] >> 1) | (Motion.bfsCurr[25] << 1);
-        Motion.bfsCurr[26] = Motion.bfsCurr[26] | (Motion.bfsCurr[26] >> 1) | (Motion.bfsCurr[26] << 1);
-        Motion.bfsCurr[27] = Motion.bfsCurr[27] | (Motion.bfsCurr[27] >> 1) | (Motion.bfsCurr[27] << 1);
-        Motion.bfsCurr[28] = Motion.bfsCurr[28] | (Motion.bfsCurr[28] >> 1) | (Motion.bfsCurr[28] << 1);
-        Motion.bfsCurr[29] = Motion.bfsCurr[29] | (Motion.bfsCurr[29] >> 1) | (Motion.bfsCurr[29] << 1);
-        Motion.bfsCurr[30] = Motion.bfsCurr[30] | (Motion.bfsCurr[30] >> 1) | (Motion.bfsCurr[30] << 1);
-        Motion.bfsCurr[31] = Motion.bfsCurr[31] | (Motion.bfsCurr[31] >> 1) | (Motion.bfsCurr[31] << 1);
-        Motion.bfsCurr[32] = Motion.bfsCurr[32] | (Motion.bfsCurr[32] >> 1) | (Motion.bfsCurr[32] << 1);
-        Motion.bfsCurr[33] = Motion.bfsCurr[33] | (Motion.bfsCurr[33] >> 1) | (Motion.bfsCurr[33] << 1);
-        Motion.bfsCurr[34] = Motion.bfsCurr[34] | (Motion.bfsCurr[34] >> 1) | (Motion.bfsCurr[34] << 1);
-        Motion.bfsCurr[35] = Motion.bfsCurr[35] | (Motion.bfsCurr[35] >> 1) | (Motion.bfsCurr[35] << 1);
-        Motion.bfsCurr[36] = Motion.bfsCurr[36] | (Motion.bfsCurr[36] >> 1) | (Motion.bfsCurr[36] << 1);
-        Motion.bfsCurr[37] = Motion.bfsCurr[37] | (Motion.bfsCurr[37] >> 1) | (Motion.bfsCurr[37] << 1);
-        Motion.bfsCurr[38] = Motion.bfsCurr[38] | (Motion.bfsCurr[38] >> 1) | (Motion.bfsCurr[38] << 1);
-        Motion.bfsCurr[39] = Motion.bfsCurr[39] | (Motion.bfsCurr[39] >> 1) | (Motion.bfsCurr[39] << 1);
-        Motion.bfsCurr[40] = Motion.bfsCurr[40] | (Motion.bfsCurr[40] >> 1) | (Motion.bfsCurr[40] << 1);
-        Motion.bfsCurr[41] = Motion.bfsCurr[41] | (Motion.bfsCurr[41] >> 1) | (Motion.bfsCurr[41] << 1);
-        Motion.bfsCurr[42] = Motion.bfsCurr[42] | (Motion.bfsCurr[42] >> 1) | (Motion.bfsCurr[42] << 1);
-        Motion.bfsDist[Motion.stepOffset + 1] = (Motion.bfsCurr[1] | Motion.bfsCurr[0] | Motion.bfsCurr[2]) & (Motion.bitmask ^ Motion.bfsMap[1]);
-        Motion.bfsDist[Motion.stepOffset + 2] = (Motion.bfsCurr[2] | Motion.bfsCurr[1] | Motion.bfsCurr[3]) & (Motion.bitmask ^ Motion.bfsMap[2]);
-        Motion.bfsDist[Motion.stepOffset + 3] = (Motion.bfsCurr[3] | Motion.bfsCurr[2] | Motion.bfsCurr[4]) & (Motion.bitmask ^ Motion.bfsMap[3]);
-        Motion.bfsDist[Motion.stepOffset + 4] = (Motion.bfsCurr[4] | Motion.bfsCurr[3] | Motion.bfsCurr[5]) & (Motion.bitmask ^ Motion.bfsMap[4]);
-        Motion.bfsDist[Motion.stepOffset + 5] = (Motion.bfsCurr[5] | Motion.bfsCurr[4] | Motion.bfsCurr[6]) & (Motion.bitmask ^ Motion.bfsMap[5]);
-        Motion.bfsDist[Motion.stepOffset + 6] = (Motion.bfsCurr[6] | Motion.bfsCurr[5] | Motion.bfsCurr[7]) & (Motion.bitmask ^ Motion.bfsMap[6]);
-        Motion.bfsDist[Motion.stepOffset + 7] = (Motion.bfsCurr[7] | Motion.bfsCurr[6] | Motion.bfsCurr[8]) & (Motion.bitmask ^ Motion.bfsMap[7]);
-        Motion.bfsDist[Motion.stepOffset + 8] = (Motion.bfsCurr[8] | Motion.bfsCurr[7] | Motion.bfsCurr[9]) & (Motion.bitmask ^ Motion.bfsMap[8]);
-        Motion.bfsDist[Motion.stepOffset + 9] = (Motion.bfsCurr[9] | Motion.bfsCurr[8] | Motion.bfsCurr[10]) & (Motion.bitmask ^ Motion.bfsMap[9]);
-        Motion.bfsDist[Motion.stepOffset + 10] = (Motion.bfsCurr[10] | Motion.bfsCurr[9] | Motion.bfsCurr[11]) & (Motion.bitmask ^ Motion.bfsMap[10]);
-        Motion.bfsDist[Motion.stepOffset + 11] = (Motion.bfsCurr[11] | Motion.bfsCurr[10] | Motion.bfsCurr[12]) & (Motion.bitmask ^ Motion.bfsMap[11]);
-        Motion.bfsDist[Motion.stepOffset + 12] = (Motion.bfsCurr[12] | Motion.bfsCurr[11] | Motion.bfsCurr[13]) & (Motion.bitmask ^ Motion.bfsMap[12]);
-        Motion.bfsDist[Motion.stepOffset + 13] = (Motion.bfsCurr[13] | Motion.bfsCurr[12] | Motion.bfsCurr[14]) & (Motion.bitmask ^ Motion.bfsMap[13]);
-        Motion.bfsDist[Motion.stepOffset + 14] = (Motion.bfsCurr[14] | Motion.bfsCurr[13] | Motion.bfsCurr[15]) & (Motion.bitmask ^ Motion.bfsMap[14]);
-        Motion.bfsDist[Motion.stepOffset + 15] = (Motion.bfsCurr[15] | Motion.bfsCurr[14] | Motion.bfsCurr[16]) & (Motion.bitmask ^ Motion.bfsMap[15]);
-        Motion.bfsDist[Motion.stepOffset + 16] = (Motion.bfsCurr[16] | Motion.bfsCurr[15] | Motion.bfsCurr[17]) & (Motion.bitmask ^ Motion.bfsMap[16]);
-        Motion.bfsDist[Motion.stepOffset + 17] = (Motion.bfsCurr[17] | Motion.bfsCurr[16] | Motion.bfsCurr[18]) & (Motion.bitmask ^ Motion.bfsMap[17]);
-        Motion.bfsDist[Motion.stepOffset + 18] = (Motion.bfsCurr[18] | Motion.bfsCurr[17] | Motion.bfsCurr[19]) & (Motion.bitmask ^ Motion.bfsMap[18]);
-        Motion.bfsDist[Motion.stepOffset + 19] = (Motion.bfsCurr[19] | Motion.bfsCurr[18] | Motion.bfsCurr[20]) & (Motion.bitmask ^ Motion.bfsMap[19]);
-        Motion.bfsDist[Motion.stepOffset + 20] = (Motion.bfsCurr[20] | Motion.bfsCurr[19] | Motion.bfsCurr[21]) & (Motion.bitmask ^ Motion.bfsMap[20]);
-        Motion.bfsDist[Motion.stepOffset + 21] = (Motion.bfsCurr[21] | Motion.bfsCurr[20] | Motion.bfsCurr[22]) & (Motion.bitmask ^ Motion.bfsMap[21]);
-        Motion.bfsDist[Motion.stepOffset + 22] = (Motion.bfsCurr[22] | Motion.bfsCurr[21] | Motion.bfsCurr[23]) & (Motion.bitmask ^ Motion.bfsMap[22]);
-        Motion.bfsDist[Motion.stepOffset + 23] = (Motion.bfsCurr[23] | Motion.bfsCurr[22] | Motion.bfsCurr[24]) & (Motion.bitmask ^ Motion.bfsMap[23]);
-        Motion.bfsDist[Motion.stepOffset + 24] = (Motion.bfsCurr[24] | Motion.bfsCurr[23] | Motion.bfsCurr[25]) & (Motion.bitmask ^ Motion.bfsMap[24]);
-        Motion.bfsDist[Motion.stepOffset + 25] = (Motion.bfsCurr[25] | Motion.bfsCurr[24] | Motion.bfsCurr[26]) & (Motion.bitmask ^ Motion.bfsMap[25]);
-        Motion.bfsDist[Motion.stepOffset + 26] = (Motion.bfsCurr[26] | Motion.bfsCurr[25] | Motion.bfsCurr[27]) & (Motion.bitmask ^ Motion.bfsMap[26]);
-        Motion.bfsDist[Motion.stepOffset + 27] = (Motion.bfsCurr[27] | Motion.bfsCurr[26] | Motion.bfsCurr[28]) & (Motion.bitmask ^ Motion.bfsMap[27]);
-        Motion.bfsDist[Motion.stepOffset + 28] = (Motion.bfsCurr[28] | Motion.bfsCurr[27] | Motion.bfsCurr[29]) & (Motion.bitmask ^ Motion.bfsMap[28]);
-        Motion.bfsDist[Motion.stepOffset + 29] = (Motion.bfsCurr[29] | Motion.bfsCurr[28] | Motion.bfsCurr[30]) & (Motion.bitmask ^ Motion.bfsMap[29]);
-        Motion.bfsDist[Motion.stepOffset + 30] = (Motion.bfsCurr[30] | Motion.bfsCurr[29] | Motion.bfsCurr[31]) & (Motion.bitmask ^ Motion.bfsMap[30]);
-        Motion.bfsDist[Motion.stepOffset + 31] = (Motion.bfsCurr[31] | Motion.bfsCurr[30] | Motion.bfsCurr[32]) & (Motion.bitmask ^ Motion.bfsMap[31]);
-        Motion.bfsDist[Motion.stepOffset + 32] = (Motion.bfsCurr[32] | Motion.bfsCurr[31] | Motion.bfsCurr[33]) & (Motion.bitmask ^ Motion.bfsMap[32]);
-        Motion.bfsDist[Motion.stepOffset + 33] = (Motion.bfsCurr[33] | Motion.bfsCurr[32] | Motion.bfsCurr[34]) & (Motion.bitmask ^ Motion.bfsMap[33]);
-        Motion.bfsDist[Motion.stepOffset + 34] = (Motion.bfsCurr[34] | Motion.bfsCurr[33] | Motion.bfsCurr[35]) & (Motion.bitmask ^ Motion.bfsMap[34]);
-        Motion.bfsDist[Motion.stepOffset + 35] = (Motion.bfsCurr[35] | Motion.bfsCurr[34] | Motion.bfsCurr[36]) & (Motion.bitmask ^ Motion.bfsMap[35]);
-        Motion.bfsDist[Motion.stepOffset + 36] = (Motion.bfsCurr[36] | Motion.bfsCurr[35] | Motion.bfsCurr[37]) & (Motion.bitmask ^ Motion.bfsMap[36]);
-        Motion.bfsDist[Motion.stepOffset + 37] = (Motion.bfsCurr[37] | Motion.bfsCurr[36] | Motion.bfsCurr[38]) & (Motion.bitmask ^ Motion.bfsMap[37]);
-        Motion.bfsDist[Motion.stepOffset + 38] = (Motion.bfsCurr[38] | Motion.bfsCurr[37] | Motion.bfsCurr[39]) & (Motion.bitmask ^ Motion.bfsMap[38]);
-        Motion.bfsDist[Motion.stepOffset + 39] = (Motion.bfsCurr[39] | Motion.bfsCurr[38] | Motion.bfsCurr[40]) & (Motion.bitmask ^ Motion.bfsMap[39]);
-        Motion.bfsDist[Motion.stepOffset + 40] = (Motion.bfsCurr[40] | Motion.bfsCurr[39] | Motion.bfsCurr[41]) & (Motion.bitmask ^ Motion.bfsMap[40]);
-        Motion.bfsDist[Motion.stepOffset + 41] = (Motion.bfsCurr[41] | Motion.bfsCurr[40] | Motion.bfsCurr[42]) & (Motion.bitmask ^ Motion.bfsMap[41]);
-        Motion.bfsDist[Motion.stepOffset + 42] = (Motion.bfsCurr[42] | Motion.bfsCurr[41] | Motion.bfsCurr[43]) & (Motion.bitmask ^ Motion.bfsMap[42]);
-        Motion.bfsCurr[1] = Motion.bfsDist[Motion.stepOffset + 1];
-        Motion.bfsCurr[2] = Motion.bfsDist[Motion.stepOffset + 2];
-        Motion.bfsCurr[3] = Motion.bfsDist[Motion.stepOffset + 3];
-        Motion.bfsCurr[4] = Motion.bfsDist[Motion.stepOffset + 4];
-        Motion.bfsCurr[5] = Motion.bfsDist[Motion.stepOffset + 5];
-        Motion.bfsCurr[6] = Motion.bfsDist[Motion.stepOffset + 6];
-        Motion.bfsCurr[7] = Motion.bfsDist[Motion.stepOffset + 7];
-        Motion.bfsCurr[8] = Motion.bfsDist[Motion.stepOffset + 8];
-        Motion.bfsCurr[9] = Motion.bfsDist[Motion.stepOffset + 9];
-        Motion.bfsCurr[10] = Motion.bfsDist[Motion.stepOffset + 10];
-        Motion.bfsCurr[11] = Motion.bfsDist[Motion.stepOffset + 11];
-        Motion.bfsCurr[12] = Motion.bfsDist[Motion.stepOffset + 12];
-        Motion.bfsCurr[13] = Motion.bfsDist[Motion.stepOffset + 13];
-        Motion.bfsCurr[14] = Motion.bfsDist[Motion.stepOffset + 14];
-        Motion.bfsCurr[15] = Motion.bfsDist[Motion.stepOffset + 15];
-        Motion.bfsCurr[16] = Motion.bfsDist[Motion.stepOffset + 16];
-        Motion.bfsCurr[17] = Motion.bfsDist[Motion.stepOffset + 17];
-        Motion.bfsCurr[18] = Motion.bfsDist[Motion.stepOffset + 18];
-        Motion.bfsCurr[19] = Motion.bfsDist[Motion.stepOffset + 19];
-        Motion.bfsCurr[20] = Motion.bfsDist[Motion.stepOffset + 20];
-        Motion.bfsCurr[21] = Motion.bfsDist[Motion.stepOffset + 21];
-        Motion.bfsCurr[22] = Motion.bfsDist[Motion.stepOffset + 22];
-        Motion.bfsCurr[23] = Motion.bfsDist[Motion.stepOffset + 23];
-        Motion.bfsCurr[24] = Motion.bfsDist[Motion.stepOffset + 24];
-        Motion.bfsCurr[25] = Motion.bfsDist[Motion.stepOffset + 25];
-        Motion.bfsCurr[26] = Motion.bfsDist[Motion.stepOffset + 26];
-        Motion.bfsCurr[27] = Motion.bfsDist[Motion.stepOffset + 27];
-        Motion.bfsCurr[28] = Motion.bfsDist[Motion.stepOffset + 28];
-        Motion.bfsCurr[29] = Motion.bfsDist[Motion.stepOffset + 29];
-        Motion.bfsCurr[30] = Motion.bfsDist[Motion.stepOffset + 30];
-        Motion.bfsCurr[31] = Motion.bfsDist[Motion.stepOffset + 31];
-        Motion.bfsCurr[32] = Motion.bfsDist[Motion.stepOffset + 32];
-        Motion.bfsCurr[33] = Motion.bfsDist[Motion.stepOffset + 33];
-        Motion.bfsCurr[34] = Motion.bfsDist[Motion.stepOffset + 34];
-        Motion.bfsCurr[35] = Motion.bfsDist[Motion.stepOffset + 35];
-        Motion.bfsCurr[36] = Motion.bfsDist[Motion.stepOffset + 36];
-        Motion.bfsCurr[37] = Motion.bfsDist[Motion.stepOffset + 37];
-        Motion.bfsCurr[38] = Motion.bfsDist[Motion.stepOffset + 38];
-        Motion.bfsCurr[39] = Motion.bfsDist[Motion.stepOffset + 39];
-        Motion.bfsCurr[40] = Motion.bfsDist[Motion.stepOffset + 40];
-        Motion.bfsCurr[41] = Motion.bfsDist[Motion.stepOffset + 41];
-        Motion.bfsCurr[42] = Motion.bfsDist[Motion.stepOffset + 42];
-    }
-    public static void bfs43() {
-        Motion.bfsCurr[1] = Motion.bfsCurr[1] | (Motion.bfsCurr[1] >> 1) | (Motion.bfsCurr[1] << 1);
-        Motion.bfsCurr[2] = Motion.bfsCurr[2] | (Motion.bfsCurr[2] >> 1) | (Motion.bfsCurr[2] << 1);
-        Motion.bfsCurr[3] = Motion.bfsCurr[3] | (Motion.bfsCurr[3] >> 1) | (Motion.bfsCurr[3] << 1);
-        Motion.bfsCurr[4] = Motion.bfsCurr[4] | (Motion.bfsCurr[4] >> 1) | (Motion.bfsCurr[4] << 1);
-        Motion.bfsCurr[5] = Motion.bfsCurr[5] | (Motion.bfsCurr[5] >> 1) | (Motion.bfsCurr[5] << 1);
-        Motion.bfsCurr[6] = Motion.bfsCurr[6] | (Motion.bfsCurr[6] >> 1) | (Motion.bfsCurr[6] << 1);
-        Motion.bfsCurr[7] = Motion.bfsCurr[7] | (Motion.bfsCurr[7] >> 1) | (Motion.bfsCurr[7] << 1);
-        Motion.bfsCurr[8] = Motion.bfsCurr[8] | (Motion.bfsCurr[8] >> 1) | (Motion.bfsCurr[8] << 1);
-        Motion.bfsCurr[9] = Motion.bfsCurr[9] | (Motion.bfsCurr[9] >> 1) | (Motion.bfsCurr[9] << 1);
-        Motion.bfsCurr[10] = Motion.bfsCurr[10] | (Motion.bfsCurr[10] >> 1) | (Motion.bfsCurr[10] << 1);
-        Motion.bfsCurr[11] = Motion.bfsCurr[11] | (Motion.bfsCurr[11] >> 1) | (Motion.bfsCurr[11] << 1);
-        Motion.bfsCurr[12] = Motion.bfsCurr[12] | (Motion.bfsCurr[12] >> 1) | (Motion.bfsCurr[12] << 1);
-        Motion.bfsCurr[13] = Motion.bfsCurr[13] | (Motion.bfsCurr[13] >> 1) | (Motion.bfsCurr[13] << 1);
-        Motion.bfsCurr[14] = Motion.bfsCurr[14] | (Motion.bfsCurr[14] >> 1) | (Motion.bfsCurr[14] << 1);
-        Motion.bfsCurr[15] = Motion.bfsCurr[15] | (Motion.bfsCurr[15] >> 1) | (Motion.bfsCurr[15] << 1);
-        Motion.bfsCurr[16] = Motion.bfsCurr[16] | (Motion.bfsCurr[16] >> 1) | (Motion.bfsCurr[16] << 1);
-        Motion.bfsCurr[17] = Motion.bfsCurr[17] | (Motion.bfsCurr[17] >> 1) | (Motion.bfsCurr[17] << 1);
-        Motion.bfsCurr[18] = Motion.bfsCurr[18] | (Motion.bfsCurr[18] >> 1) | (Motion.bfsCurr[18] << 1);
-        Motion.bfsCurr[19] = Motion.bfsCurr[19] | (Motion.bfsCurr[19] >> 1) | (Motion.bfsCurr[19] << 1);
-        Motion.bfsCurr[20] = Motion.bfsCurr[20] | (Motion.bfsCurr[20] >> 1) | (Motion.bfsCurr[20] << 1);
-        Motion.bfsCurr[21] = Motion.bfsCurr[21] | (Motion.bfsCurr[21] >> 1) | (Motion.bfsCurr[21] << 1);
-        Motion.bfsCurr[22] = Motion.bfsCurr[22] | (Motion.bfsCurr[22] >> 1) | (Motion.bfsCurr[22] << 1);
-        Motion.bfsCurr[23] = Motion.bfsCurr[23] | (Motion.bfsCurr[23] >> 1) | (Motion.bfsCurr[23] << 1);
-        Motion.bfsCurr[24] = Motion.bfsCurr[24] | (Motion.bfsCurr[24] >> 1) | (Motion.bfsCurr[24] << 1);
-        Motion.bfsCurr[25] = Motion.bfsCurr[25] | (Motion.bfsCurr[25] >> 1) | (Motion.bfsCurr[25] << 1);
-        Motion.bfsCurr[26] = Motion.bfsCurr[26] | (Motion.bfsCurr[26] >> 1) | (Motion.bfsCurr[26] << 1);
-        Motion.bfsCurr[27] = Motion.bfsCurr[27] | (Motion.bfsCurr[27] >> 1) | (Motion.bfsCurr[27] << 1);
-        Motion.bfsCurr[28] = Motion.bfsCurr[28] | (Motion.bfsCurr[28] >> 1) | (Motion.bfsCurr[28] << 1);
-        Motion.bfsCurr[29] = Motion.bfsCurr[29] | (Motion.bfsCurr[29] >> 1) | (Motion.bfsCurr[29] << 1);
-        Motion.bfsCurr[30] = Motion.bfsCurr[30] | (Motion.bfsCurr[30] >> 1) | (Motion.bfsCurr[30] << 1);
-        Motion.bfsCurr[31] = Motion.bfsCurr[31] | (Motion.bfsCurr[31] >> 1) | (Motion.bfsCurr[31] << 1);
-        Motion.bfsCurr[32] = Motion.bfsCurr[32] | (Motion.bfsCurr[32] >> 1) | (Motion.bfsCurr[32] << 1);
-        Motion.bfsCurr[33] = Motion.bfsCurr[33] | (Motion.bfsCurr[33] >> 1) | (Motion.bfsCurr[33] << 1);
-        Motion.bfsCurr[34] = Motion.bfsCurr[34] | (Motion.bfsCurr[34] >> 1) | (Motion.bfsCurr[34] << 1);
-        Motion.bfsCurr[35] = Motion.bfsCurr[35] | (Motion.bfsCurr[35] >> 1) | (Motion.bfsCurr[35] << 1);
-        Motion.bfsCurr[36] = Motion.bfsCurr[36] | (Motion.bfsCurr[36] >> 1) | (Motion.bfsCurr[36] << 1);
-        Motion.bfsCurr[37] = Motion.bfsCurr[37] | (Motion.bfsCurr[37] >> 1) | (Motion.bfsCurr[37] << 1);
-        Motion.bfsCurr[38] = Motion.bfsCurr[38] | (Motion.bfsCurr[38] >> 1) | (Motion.bfsCurr[38] << 1);
-        Motion.bfsCurr[39] = Motion.bfsCurr[39] | (Motion.bfsCurr[39] >> 1) | (Motion.bfsCurr[39] << 1);
-        Motion.bfsCurr[40] = Motion.bfsCurr[40] | (Motion.bfsCurr[40] >> 1) | (Motion.bfsCurr[40] << 1);
-        Motion.bfsCurr[41] = Motion.bfsCurr[41] | (Motion.bfsCurr[41] >> 1) | (Motion.bfsCurr[41] << 1);
-        Motion.bfsCurr[42] = Motion.bfsCurr[42] | (Motion.bfsCurr[42] >> 1) | (Motion.bfsCurr[42] << 1);
-        Motion.bfsCurr[43] = Motion.bfsCurr[43] | (Motion.bfsCurr[43] >> 1) | (Motion.bfsCurr[43] << 1);
-        Motion.bfsDist[Motion.stepOffset + 1] = (Motion.bfsCurr[1] | Motion.bfsCurr[0] | Motion.bfsCurr[2]) & (Motion.bitmask ^ Motion.bfsMap[1]);
-        Motion.bfsDist[Motion.stepOffset + 2] = (Motion.bfsCurr[2] | Motion.bfsCurr[1] | Motion.bfsCurr[3]) & (Motion.bitmask ^ Motion.bfsMap[2]);
-        Motion.bfsDist[Motion.stepOffset + 3] = (Motion.bfsCurr[3] | Motion.bfsCurr[2] | Motion.bfsCurr[4]) & (Motion.bitmask ^ Motion.bfsMap[3]);
-        Motion.bfsDist[Motion.stepOffset + 4] = (Motion.bfsCurr[4] | Motion.bfsCurr[3] | Motion.bfsCurr[5]) & (Motion.bitmask ^ Motion.bfsMap[4]);
-        Motion.bfsDist[Motion.stepOffset + 5] = (Motion.bfsCurr[5] | Motion.bfsCurr[4] | Motion.bfsCurr[6]) & (Motion.bitmask ^ Motion.bfsMap[5]);
-        Motion.bfsDist[Motion.stepOffset + 6] = (Motion.bfsCurr[6] | Motion.bfsCurr[5] | Motion.bfsCurr[7]) & (Motion.bitmask ^ Motion.bfsMap[6]);
-        Motion.bfsDist[Motion.stepOffset + 7] = (Motion.bfsCurr[7] | Motion.bfsCurr[6] | Motion.bfsCurr[8]) & (Motion.bitmask ^ Motion.bfsMap[7]);
-        Motion.bfsDist[Motion.stepOffset + 8] = (Motion.bfsCurr[8] | Motion.bfsCurr[7] | Motion.bfsCurr[9]) & (Motion.bitmask ^ Motion.bfsMap[8]);
-        Motion.bfsDist[Motion.stepOffset + 9] = (Motion.bfsCurr[9] | Motion.bfsCurr[8] | Motion.bfsCurr[10]) & (Motion.bitmask ^ Motion.bfsMap[9]);
-        Motion.bfsDist[Motion.stepOffset + 10] = (Motion.bfsCurr[10] | Motion.bfsCurr[9] | Motion.bfsCurr[11]) & (Motion.bitmask ^ Motion.bfsMap[10]);
-        Motion.bfsDist[Motion.stepOffset + 11] = (Motion.bfsCurr[11] | Motion.bfsCurr[10] | Motion.bfsCurr[12]) & (Motion.bitmask ^ Motion.bfsMap[11]);
-        Motion.bfsDist[Motion.stepOffset + 12] = (Motion.bfsCurr[12] | Motion.bfsCurr[11] | Motion.bfsCurr[13]) & (Motion.bitmask ^ Motion.bfsMap[12]);
-        Motion.bfsDist[Motion.stepOffset + 13] = (Motion.bfsCurr[13] | Motion.bfsCurr[12] | Motion.bfsCurr[14]) & (Motion.bitmask ^ Motion.bfsMap[13]);
-        Motion.bfsDist[Motion.stepOffset + 14] = (Motion.bfsCurr[14] | Motion.bfsCurr[13] | Motion.bfsCurr[15]) & (Motion.bitmask ^ Motion.bfsMap[14]);
-        Motion.bfsDist[Motion.stepOffset + 15] = (Motion.bfsCurr[15] | Motion.bfsCurr[14] | Motion.bfsCurr[16]) & (Motion.bitmask ^ Motion.bfsMap[15]);
-        Motion.bfsDist[Motion.stepOffset + 16] = (Motion.bfsCurr[16] | Motion.bfsCurr[15] | Motion.bfsCurr[17]) & (Motion.bitmask ^ Motion.bfsMap[16]);
-        Motion.bfsDist[Motion.stepOffset + 17] = (Motion.bfsCurr[17] | Motion.bfsCurr[16] | Motion.bfsCurr[18]) & (Motion.bitmask ^ Motion.bfsMap[17]);
-        Motion.bfsDist[Motion.stepOffset + 18] = (Motion.bfsCurr[18] | Motion.bfsCurr[17] | Motion.bfsCurr[19]) & (Motion.bitmask ^ Motion.bfsMap[18]);
-        Motion.bfsDist[Motion.stepOffset + 19] = (Motion.bfsCurr[19] | Motion.bfsCurr[18] | Motion.bfsCurr[20]) & (Motion.bitmask ^ Motion.bfsMap[19]);
-        Motion.bfsDist[Motion.stepOffset + 20] = (Motion.bfsCurr[20] | Motion.bfsCurr[19] | Motion.bfsCurr[21]) & (Motion.bitmask ^ Motion.bfsMap[20]);
-        Motion.bfsDist[Motion.stepOffset + 21] = (Motion.bfsCurr[21] | Motion.bfsCurr[20] | Motion.bfsCurr[22]) & (Motion.bitmask ^ Motion.bfsMap[21]);
-        Motion.bfsDist[Motion.stepOffset + 22] = (Motion.bfsCurr[22] | Motion.bfsCurr[21] | Motion.bfsCurr[23]) & (Motion.bitmask ^ Motion.bfsMap[22]);
-        Motion.bfsDist[Motion.stepOffset + 23] = (Motion.bfsCurr[23] | Motion.bfsCurr[22] | Motion.bfsCurr[24]) & (Motion.bitmask ^ Motion.bfsMap[23]);
-        Motion.bfsDist[Motion.stepOffset + 24] = (Motion.bfsCurr[24] | Motion.bfsCurr[23] | Motion.bfsCurr[25]) & (Motion.bitmask ^ Motion.bfsMap[24]);
-        Motion.bfsDist[Motion.stepOffset + 25] = (Motion.bfsCurr[25] | Motion.bfsCurr[24] | Motion.bfsCurr[26]) & (Motion.bitmask ^ Motion.bfsMap[25]);
-        Motion.bfsDist[Motion.stepOffset + 26] = (Motion.bfsCurr[26] | Motion.bfsCurr[25] | Motion.bfsCurr[27]) & (Motion.bitmask ^ Motion.bfsMap[26]);
-        Motion.bfsDist[Motion.stepOffset + 27] = (Motion.bfsCurr[27] | Motion.bfsCurr[26] | Motion.bfsCurr[28]) & (Motion.bitmask ^ Motion.bfsMap[27]);
-        Motion.bfsDist[Motion.stepOffset + 28] = (Motion.bfsCurr[28] | Motion.bfsCurr[27] | Motion.bfsCurr[29]) & (Motion.bitmask ^ Motion.bfsMap[28]);
-        Motion.bfsDist[Motion.stepOffset + 29] = (Motion.bfsCurr[29] | Motion.bfsCurr[28] | Motion.bfsCurr[30]) & (Motion.bitmask ^ Motion.bfsMap[29]);
-        Motion.bfsDist[Motion.stepOffset + 30] = (Motion.bfsCurr[30] | Motion.bfsCurr[29] | Motion.bfsCurr[31]) & (Motion.bitmask ^ Motion.bfsMap[30]);
-        Motion.bfsDist[Motion.stepOffset + 31] = (Motion.bfsCurr[31] | Motion.bfsCurr[30] | Motion.bfsCurr[32]) & (Motion.bitmask ^ Motion.bfsMap[31]);
-        Motion.bfsDist[Motion.stepOffset + 32] = (Motion.bfsCurr[32] | Motion.bfsCurr[31] | Motion.bfsCurr[33]) & (Motion.bitmask ^ Motion.bfsMap[32]);
-        Motion.bfsDist[Motion.stepOffset + 33] = (Motion.bfsCurr[33] | Motion.bfsCurr[32] | Motion.bfsCurr[34]) & (Motion.bitmask ^ Motion.bfsMap[33]);
-        Motion.bfsDist[Motion.stepOffset + 34] = (Motion.bfsCurr[34] | Motion.bfsCurr[33] | Motion.bfsCurr[35]) & (Motion.bitmask ^ Motion.bfsMap[34]);
-        Motion.bfsDist[Motion.stepOffset + 35] = (Motion.bfsCurr[35] | Motion.bfsCurr[34] | Motion.bfsCurr[36]) & (Motion.bitmask ^ Motion.bfsMap[35]);
-        Motion.bfsDist[Motion.stepOffset + 36] = (Motion.bfsCurr[36] | Motion.bfsCurr[35] | Motion.bfsCurr[37]) & (Motion.bitmask ^ Motion.bfsMap[36]);
-        Motion.bfsDist[Motion.stepOffset + 37] = (Motion.bfsCurr[37] | Motion.bfsCurr[36] | Motion.bfsCurr[38]) & (Motion.bitmask ^ Motion.bfsMap[37]);
-        Motion.bfsDist[Motion.stepOffset + 38] = (Motion.bfsCurr[38] | Motion.bfsCurr[37] | Motion.bfsCurr[39]) & (Motion.bitmask ^ Motion.bfsMap[38]);
-        Motion.bfsDist[Motion.stepOffset + 39] = (Motion.bfsCurr[39] | Motion.bfsCurr[38] | Motion.bfsCurr[40]) & (Motion.bitmask ^ Motion.bfsMap[39]);
-        Motion.bfsDist[Motion.stepOffset + 40] = (Motion.bfsCurr[40] | Motion.bfsCurr[39] | Motion.bfsCurr[41]) & (Motion.bitmask ^ Motion.bfsMap[40]);
-        Motion.bfsDist[Motion.stepOffset + 41] = (Motion.bfsCurr[41] | Motion.bfsCurr[40] | Motion.bfsCurr[42]) & (Motion.bitmask ^ Motion.bfsMap[41]);
-        Motion.bfsDist[Motion.stepOffset + 42] = (Motion.bfsCurr[42] | Motion.bfsCurr[41] | Motion.bfsCurr[43]) & (Motion.bitmask ^ Motion.bfsMap[42]);
-        Motion.bfsDist[Motion.stepOffset + 43] = (Motion.bfsCurr[43] | Motion.bfsCurr[42] | Motion.bfsCurr[44]) & (Motion.bitmask ^ Motion.bfsMap[43]);
-        Motion.bfsCurr[1] = Motion.bfsDist[Motion.stepOffset + 1];
-        Motion.bfsCurr[2] = Motion.bfsDist[Motion.stepOffset + 2];
-        Motion.bfsCurr[3] = Motion.bfsDist[Motion.stepOffset + 3];
-        Motion.bfsCurr[4] = Motion.bfsDist[Motion.stepOffset + 4];
-        Motion.bfsCurr[5] = Motion.bfsDist[Motion.stepOffset + 5];
-        Motion.bfsCurr[6] = Motion.bfsDist[Motion.stepOffset + 6];
-        Motion.bfsCurr[7] = Motion.bfsDist[Motion.stepOffset + 7];
-        Motion.bfsCurr[8] = Motion.bfsDist[Motion.stepOffset + 8];
-        Motion.bfsCurr[9] = Motion.bfsDist[Motion.stepOffset + 9];
-        Motion.bfsCurr[10] = Motion.bfsDist[Motion.stepOffset + 10];
-        Motion.bfsCurr[11] = Motion.bfsDist[Motion.stepOffset + 11];
-        Motion.bfsCurr[12] = Motion.bfsDist[Motion.stepOffset + 12];
-        Motion.bfsCurr[13] = Motion.bfsDist[Motion.stepOffset + 13];
-        Motion.bfsCurr[14] = Motion.bfsDist[Motion.stepOffset + 14];
-        Motion.bfsCurr[15] = Motion.bfsDist[Motion.stepOffset + 15];
-        Motion.bfsCurr[16] = Motion.bfsDist[Motion.stepOffset + 16];
-        Motion.bfsCurr[17] = Motion.bfsDist[Motion.stepOffset + 17];
-        Motion.bfsCurr[18] = Motion.bfsDist[Motion.stepOffset + 18];
-        Motion.bfsCurr[19] = Motion.bfsDist[Motion.stepOffset + 19];
-        Motion.bfsCurr[20] = Motion.bfsDist[Motion.stepOffset + 20];
-        Motion.bfsCurr[21] = Motion.bfsDist[Motion.stepOffset + 21];
-        Motion.bfsCurr[22] = Motion.bfsDist[Motion.stepOffset + 22];
-        Motion.bfsCurr[23] = Motion.bfsDist[Motion.stepOffset + 23];
-        Motion.bfsCurr[24] = Motion.bfsDist[Motion.stepOffset + 24];
-        Motion.bfsCurr[25] = Motion.bfsDist[Motion.stepOffset + 25];
-        Motion.bfsCurr[26] = Motion.bfsDist[Motion.stepOffset + 26];
-        Motion.bfsCurr[27] = Motion.bfsDist[Motion.stepOffset + 27];
-        Motion.bfsCurr[28] = Motion.bfsDist[Motion.stepOffset + 28];
-        Motion.bfsCurr[29] = Motion.bfsDist[Motion.stepOffset + 29];
-        Motion.bfsCurr[30] = Motion.bfsDist[Motion.stepOffset + 30];
-        Motion.bfsCurr[31] = Motion.bfsDist[Motion.stepOffset + 31];
-        Motion.bfsCurr[32] = Motion.bfsDist[Motion.stepOffset + 32];
-        Motion.bfsCurr[33] = Motion.bfsDist[Motion.stepOffset + 33];
-        Motion.bfsCurr[34] = Motion.bfsDist[Motion.stepOffset + 34];
-        Motion.bfsCurr[35] = Motion.bfsDist[Motion.stepOffset + 35];
-        Motion.bfsCurr[36] = Motion.bfsDist[Motion.stepOffset + 36];
-        Motion.bfsCurr[37] = Motion.bfsDist[Motion.stepOffset + 37];
-        Motion.bfsCurr[38] = Motion.bfsDist[Motion.stepOffset + 38];
-        Motion.bfsCurr[39] = Motion.bfsDist[Motion.stepOffset + 39];
-        Motion.bfsCurr[40] = Motion.bfsDist[Motion.stepOffset + 40];
-        Motion.bfsCurr[41] = Motion.bfsDist[Motion.stepOffset + 41];
-        Motion.bfsCurr[42] = Motion.bfsDist[Motion.stepOffset + 42];
-        Motion.bfsCurr[43] = Motion.bfsDist[Motion.stepOffset + 43];
-    }
-    public static void bfs44() {
-        Motion.bfsCurr[1] = Motion.bfsCurr[1] | (Motion.bfsCurr[1] >> 1) | (Motion.bfsCurr[1] << 1);
-        Motion.bfsCurr[2] = Motion.bfsCurr[2] | (Motion.bfsCurr[2] >> 1) | (Motion.bfsCurr[2] << 1);
-        Motion.bfsCurr[3] = Motion.bfsCurr[3] | (Motion.bfsCurr[3] >> 1) | (Motion.bfsCurr[3] << 1);
-        Motion.bfsCurr[4] = Motion.bfsCurr[4] | (Motion.bfsCurr[4] >> 1) | (Motion.bfsCurr[4] << 1);
-        Motion.bfsCurr[5] = Motion.bfsCurr[5] | (Motion.bfsCurr[5] >> 1) | (Motion.bfsCurr[5] << 1);
-        Motion.bfsCurr[6] = Motion.bfsCurr[6] | (Motion.bfsCurr[6] >> 1) | (Motion.bfsCurr[6] << 1);
-        Motion.bfsCurr[7] = Motion.bfsCurr[7] | (Motion.bfsCurr[7] >> 1) | (Motion.bfsCurr[7] << 1);
-        Motion.bfsCurr[8] = Motion.bfsCurr[8] | (Motion.bfsCurr[8] >> 1) | (Motion.bfsCurr[8] << 1);
-        Motion.bfsCurr[9] = Motion.bfsCurr[9] | (Motion.bfsCurr[9] >> 1) | (Motion.bfsCurr[9] << 1);
-        Motion.bfsCurr[10] = Motion.bfsCurr[10] | (Motion.bfsCurr[10] >> 1) | (Motion.bfsCurr[10] << 1);
-        Motion.bfsCurr[11] = Motion.bfsCurr[11] | (Motion.bfsCurr[11] >> 1) | (Motion.bfsCurr[11] << 1);
-        Motion.bfsCurr[12] = Motion.bfsCurr[12] | (Motion.bfsCurr[12] >> 1) | (Motion.bfsCurr[12] << 1);
-        Motion.bfsCurr[13] = Motion.bfsCurr[13] | (Motion.bfsCurr[13] >> 1) | (Motion.bfsCurr[13] << 1);
-        Motion.bfsCurr[14] = Motion.bfsCurr[14] | (Motion.bfsCurr[14] >> 1) | (Motion.bfsCurr[14] << 1);
-        Motion.bfsCurr[15] = Motion.bfsCurr[15] | (Motion.bfsCurr[15] >> 1) | (Motion.bfsCurr[15] << 1);
-        Motion.bfsCurr[16] = Motion.bfsCurr[16] | (Motion.bfsCurr[16] >> 1) | (Motion.bfsCurr[16] << 1);
-        Motion.bfsCurr[17] = Motion.bfsCurr[17] | (Motion.bfsCurr[17] >> 1) | (Motion.bfsCurr[17] << 1);
-        Motion.bfsCurr[18] = Motion.bfsCurr[18] | (Motion.bfsCurr[18] >> 1) | (Motion.bfsCurr[18] << 1);
-        Motion.bfsCurr[19] = Motion.bfsCurr[19] | (Motion.bfsCurr[19] >> 1) | (Motion.bfsCurr[19] << 1);
-        Motion.bfsCurr[20] = Motion.bfsCurr[20] | (Motion.bfsCurr[20] >> 1) | (Motion.bfsCurr[20] << 1);
-        Motion.bfsCurr[21] = Motion.bfsCurr[21] | (Motion.bfsCurr[21] >> 1) | (Motion.bfsCurr[21] << 1);
-        Motion.bfsCurr[22] = Motion.bfsCurr[22] | (Motion.bfsCurr[22] >> 1) | (Motion.bfsCurr[22] << 1);
-        Motion.bfsCurr[23] = Motion.bfsCurr[23] | (Motion.bfsCurr[23] >> 1) | (Motion.bfsCurr[23] << 1);
-        Motion.bfsCurr[24] = Motion.bfsCurr[24] | (Motion.bfsCurr[24] >> 1) | (Motion.bfsCurr[24] << 1);
-        Motion.bfsCurr[25] = Motion.bfsCurr[25] | (Motion.bfsCurr[25] >> 1) | (Motion.bfsCurr[25] << 1);
-        Motion.bfsCurr[26] = Motion.bfsCurr[26] | (Motion.bfsCurr[26] >> 1) | (Motion.bfsCurr[26] << 1);
-        Motion.bfsCurr[27] = Motion.bfsCurr[27] | (Motion.bfsCurr[27] >> 1) | (Motion.bfsCurr[27] << 1);
-        Motion.bfsCurr[28] = Motion.bfsCurr[28] | (Motion.bfsCurr[28] >> 1) | (Motion.bfsCurr[28] << 1);
-        Motion.bfsCurr[29] = Motion.bfsCurr[29] | (Motion.bfsCurr[29] >> 1) | (Motion.bfsCurr[29] << 1);
-        Motion.bfsCurr[30] = Motion.bfsCurr[30] | (Motion.bfsCurr[30] >> 1) | (Motion.bfsCurr[30] << 1);
-        Motion.bfsCurr[31] = Motion.bfsCurr[31] | (Motion.bfsCurr[31] >> 1) | (Motion.bfsCurr[31] << 1);
-        Motion.bfsCurr[32] = Motion.bfsCurr[32] | (Motion.bfsCurr[32] >> 1) | (Motion.bfsCurr[32] << 1);
-        Motion.bfsCurr[33] = Motion.bfsCurr[33] | (Motion.bfsCurr[33] >> 1) | (Motion.bfsCurr[33] << 1);
-        Motion.bfsCurr[34] = Motion.bfsCurr[34] | (Motion.bfsCurr[34] >> 1) | (Motion.bfsCurr[34] << 1);
-        Motion.bfsCurr[35] = Motion.bfsCurr[35] | (Motion.bfsCurr[35] >> 1) | (Motion.bfsCurr[35] << 1);
-        Motion.bfsCurr[36] = Motion.bfsCurr[36] | (Motion.bfsCurr[36] >> 1) | (Motion.bfsCurr[36] << 1);
-        Motion.bfsCurr[37] = Motion.bfsCurr[37] | (Motion.bfsCurr[37] >> 1) | (Motion.bfsCurr[37] << 1);
-        Motion.bfsCurr[38] = Motion.bfsCurr[38] | (Motion.bfsCurr[38] >> 1) | (Motion.bfsCurr[38] << 1);
-        Motion.bfsCurr[39] = Motion.bfsCurr[39] | (Motion.bfsCurr[39] >> 1) | (Motion.bfsCurr[39] << 1);
-        Motion.bfsCurr[40] = Motion.bfsCurr[40] | (Motion.bfsCurr[40] >> 1) | (Motion.bfsCurr[40] << 1);
-        Motion.bfsCurr[41] = Motion.bfsCurr[41] | (Motion.bfsCurr[41] >> 1) | (Motion.bfsCurr[41] << 1);
-        Motion.bfsCurr[42] = Motion.bfsCurr[42] | (Motion.bfsCurr[42] >> 1) | (Motion.bfsCurr[42] << 1);
-        Motion.bfsCurr[43] = Motion.bfsCurr[43] | (Motion.bfsCurr[43] >> 1) | (Motion.bfsCurr[43] << 1);
-        Motion.bfsCurr[44] = Motion.bfsCurr[44] | (Motion.bfsCurr[44] >> 1) | (Motion.bfsCurr[44] << 1);
-        Motion.bfsDist[Motion.stepOffset + 1] = (Motion.bfsCurr[1] | Motion.bfsCurr[0] | Motion.bfsCurr[2]) & (Motion.bitmask ^ Motion.bfsMap[1]);
-        Motion.bfsDist[Motion.stepOffset + 2] = (Motion.bfsCurr[2] | Motion.bfsCurr[1] | Motion.bfsCurr[3]) & (Motion.bitmask ^ Motion.bfsMap[2]);
-        Motion.bfsDist[Motion.stepOffset + 3] = (Motion.bfsCurr[3] | Motion.bfsCurr[2] | Motion.bfsCurr[4]) & (Motion.bitmask ^ Motion.bfsMap[3]);
-        Motion.bfsDist[Motion.stepOffset + 4] = (Motion.bfsCurr[4] | Motion.bfsCurr[3] | Motion.bfsCurr[5]) & (Motion.bitmask ^ Motion.bfsMap[4]);
-        Motion.bfsDist[Motion.stepOffset + 5] = (Motion.bfsCurr[5] | Motion.bfsCurr[4] | Motion.bfsCurr[6]) & (Motion.bitmask ^ Motion.bfsMap[5]);
-        Motion.bfsDist[Motion.stepOffset + 6] = (Motion.bfsCurr[6] | Motion.bfsCurr[5] | Motion.bfsCurr[7]) & (Motion.bitmask ^ Motion.bfsMap[6]);
-        Motion.bfsDist[Motion.stepOffset + 7] = (Motion.bfsCurr[7] | Motion.bfsCurr[6] | Motion.bfsCurr[8]) & (Motion.bitmask ^ Motion.bfsMap[7]);
-        Motion.bfsDist[Motion.stepOffset + 8] = (Motion.bfsCurr[8] | Motion.bfsCurr[7] | Motion.bfsCurr[9]) & (Motion.bitmask ^ Motion.bfsMap[8]);
-        Motion.bfsDist[Motion.stepOffset + 9] = (Motion.bfsCurr[9] | Motion.bfsCurr[8] | Motion.bfsCurr[10]) & (Motion.bitmask ^ Motion.bfsMap[9]);
-        Motion.bfsDist[Motion.stepOffset + 10] = (Motion.bfsCurr[10] | Motion.bfsCurr[9] | Motion.bfsCurr[11]) & (Motion.bitmask ^ Motion.bfsMap[10]);
-        Motion.bfsDist[Motion.stepOffset + 11] = (Motion.bfsCurr[11] | Motion.bfsCurr[10] | Motion.bfsCurr[12]) & (Motion.bitmask ^ Motion.bfsMap[11]);
-        Motion.bfsDist[Motion.stepOffset + 12] = (Motion.bfsCurr[12] | Motion.bfsCurr[11] | Motion.bfsCurr[13]) & (Motion.bitmask ^ Motion.bfsMap[12]);
-        Motion.bfsDist[Motion.stepOffset + 13] = (Motion.bfsCurr[13] | Motion.bfsCurr[12] | Motion.bfsCurr[14]) & (Motion.bitmask ^ Motion.bfsMap[13]);
-        Motion.bfsDist[Motion.stepOffset + 14] = (Motion.bfsCurr[14] | Motion.bfsCurr[13] | Motion.bfsCurr[15]) & (Motion.bitmask ^ Motion.bfsMap[14]);
-        Motion.bfsDist[Motion.stepOffset + 15] = (Motion.bfsCurr[15] | Motion.bfsCurr[14] | Motion.bfsCurr[16]) & (Motion.bitmask ^ Motion.bfsMap[15]);
-        Motion.bfsDist[Motion.stepOffset + 16] = (Motion.bfsCurr[16] | Motion.bfsCurr[15] | Motion.bfsCurr[17]) & (Motion.bitmask ^ Motion.bfsMap[16]);
-        Motion.bfsDist[Motion.stepOffset + 17] = (Motion.bfsCurr[17] | Motion.bfsCurr[16] | Motion.bfsCurr[18]) & (Motion.bitmask ^ Motion.bfsMap[17]);
-        Motion.bfsDist[Motion.stepOffset + 18] = (Motion.bfsCurr[18] | Motion.bfsCurr[17] | Motion.bfsCurr[19]) & (Motion.bitmask ^ Motion.bfsMap[18]);
-        Motion.bfsDist[Motion.stepOffset + 19] = (Motion.bfsCurr[19] | Motion.bfsCurr[18] | Motion.bfsCurr[20]) & (Motion.bitmask ^ Motion.bfsMap[19]);
-        Motion.bfsDist[Motion.stepOffset + 20] = (Motion.bfsCurr[20] | Motion.bfsCurr[19] | Motion.bfsCurr[21]) & (Motion.bitmask ^ Motion.bfsMap[20]);
-        Motion.bfsDist[Motion.stepOffset + 21] = (Motion.bfsCurr[21] | Motion.bfsCurr[20] | Motion.bfsCurr[22]) & (Motion.bitmask ^ Motion.bfsMap[21]);
-        Motion.bfsDist[Motion.stepOffset + 22] = (Motion.bfsCurr[22] | Motion.bfsCurr[21] | Motion.bfsCurr[23]) & (Motion.bitmask ^ Motion.bfsMap[22]);
-        Motion.bfsDist[Motion.stepOffset + 23] = (Motion.bfsCurr[23] | Motion.bfsCurr[22] | Motion.bfsCurr[24]) & (Motion.bitmask ^ Motion.bfsMap[23]);
-        Motion.bfsDist[Motion.stepOffset + 24] = (Motion.bfsCurr[24] | Motion.bfsCurr[23] | Motion.bfsCurr[25]) & (Motion.bitmask ^ Motion.bfsMap[24]);
-        Motion.bfsDist[Motion.stepOffset + 25] = (Motion.bfsCurr[25] | Motion.bfsCurr[24] | Motion.bfsCurr[26]) & (Motion.bitmask ^ Motion.bfsMap[25]);
-        Motion.bfsDist[Motion.stepOffset + 26] = (Motion.bfsCurr[26] | Motion.bfsCurr[25] | Motion.bfsCurr[27]) & (Motion.bitmask ^ Motion.bfsMap[26]);
-        Motion.bfsDist[Motion.stepOffset + 27] = (Motion.bfsCurr[27] | Motion.bfsCurr[26] | Motion.bfsCurr[28]) & (Motion.bitmask ^ Motion.bfsMap[27]);
-        Motion.bfsDist[Motion.stepOffset + 28] = (Motion.bfsCurr[28] | Motion.bfsCurr[27] | Motion.bfsCurr[29]) & (Motion.bitmask ^ Motion.bfsMap[28]);
-        Motion.bfsDist[Motion.stepOffset + 29] = (Motion.bfsCurr[29] | Motion.bfsCurr[28] | Motion.bfsCurr[30]) & (Motion.bitmask ^ Motion.bfsMap[29]);
-        Motion.bfsDist[Motion.stepOffset + 30] = (Motion.bfsCurr[30] | Motion.bfsCurr[29] | Motion.bfsCurr[31]) & (Motion.bitmask ^ Motion.bfsMap[30]);
-        Motion.bfsDist[Motion.stepOffset + 31] = (Motion.bfsCurr[31] | Motion.bfsCurr[30] | Motion.bfsCurr[32]) & (Motion.bitmask ^ Motion.bfsMap[31]);
-        Motion.bfsDist[Motion.stepOffset + 32] = (Motion.bfsCurr[32] | Motion.bfsCurr[31] | Motion.bfsCurr[33]) & (Motion.bitmask ^ Motion.bfsMap[32]);
-        Motion.bfsDist[Motion.stepOffset + 33] = (Motion.bfsCurr[33] | Motion.bfsCurr[32] | Motion.bfsCurr[34]) & (Motion.bitmask ^ Motion.bfsMap[33]);
-        Motion.bfsDist[Motion.stepOffset + 34] = (Motion.bfsCurr[34] | Motion.bfsCurr[33] | Motion.bfsCurr[35]) & (Motion.bitmask ^ Motion.bfsMap[34]);
-        Motion.bfsDist[Motion.stepOffset + 35] = (Motion.bfsCurr[35] | Motion.bfsCurr[34] | Motion.bfsCurr[36]) & (Motion.bitmask ^ Motion.bfsMap[35]);
-        Motion.bfsDist[Motion.stepOffset + 36] = (Motion.bfsCurr[36] | Motion.bfsCurr[35] | Motion.bfsCurr[37]) & (Motion.bitmask ^ Motion.bfsMap[36]);
-        Motion.bfsDist[Motion.stepOffset + 37] = (Motion.bfsCurr[37] | Motion.bfsCurr[36] | Motion.bfsCurr[38]) & (Motion.bitmask ^ Motion.bfsMap[37]);
-        Motion.bfsDist[Motion.stepOffset + 38] = (Motion.bfsCurr[38] | Motion.bfsCurr[37] | Motion.bfsCurr[39]) & (Motion.bitmask ^ Motion.bfsMap[38]);
-        Motion.bfsDist[Motion.stepOffset + 39] = (Motion.bfsCurr[39] | Motion.bfsCurr[38] | Motion.bfsCurr[40]) & (Motion.bitmask ^ Motion.bfsMap[39]);
-        Motion.bfsDist[Motion.stepOffset + 40] = (Motion.bfsCurr[40] | Motion.bfsCurr[39] | Motion.bfsCurr[41]) & (Motion.bitmask ^ Motion.bfsMap[40]);
-        Motion.bfsDist[Motion.stepOffset + 41] = (Motion.bfsCurr[41] | Motion.bfsCurr[40] | Motion.bfsCurr[42]) & (Motion.bitmask ^ Motion.bfsMap[41]);
-        Motion.bfsDist[Motion.stepOffset + 42] = (Motion.bfsCurr[42] | Motion.bfsCurr[41] | Motion.bfsCurr[43]) & (Motion.bitmask ^ Motion.bfsMap[42]);
-        Motion.bfsDist[Motion.stepOffset + 43] = (Motion.bfsCurr[43] | Motion.bfsCurr[42] | Motion.bfsCurr[44]) & (Motion.bitmask ^ Motion.bfsMap[43]);
-        Motion.bfsDist[Motion.stepOffset + 44] = (Motion.bfsCurr[44] | Motion.bfsCurr[43] | Motion.bfsCurr[45]) & (Motion.bitmask ^ Motion.bfsMap[44]);
-        Motion.bfsCurr[1] = Motion.bfsDist[Motion.stepOffset + 1];
-        Motion.bfsCurr[2] = Motion.bfsDist[Motion.stepOffset + 2];
-        Motion.bfsCurr[3] = Motion.bfsDist[Motion.stepOffset + 3];
-        Motion.bfsCurr[4] = Motion.bfsDist[Motion.stepOffset + 4];
-        Motion.bfsCurr[5] = Motion.bfsDist[Motion.stepOffset + 5];
-        Motion.bfsCurr[6] = Motion.bfsDist[Motion.stepOffset + 6];
-        Motion.bfsCurr[7] = Motion.bfsDist[Motion.stepOffset + 7];
-        Motion.bfsCurr[8] = Motion.bfsDist[Motion.stepOffset + 8];
-        Motion.bfsCurr[9] = Motion.bfsDist[Motion.stepOffset + 9];
-        Motion.bfsCurr[10] = Motion.bfsDist[Motion.stepOffset + 10];
-        Motion.bfsCurr[11] = Motion.bfsDist[Motion.stepOffset + 11];
-        Motion.bfsCurr[12] = Motion.bfsDist[Motion.stepOffset + 12];
-        Motion.bfsCurr[13] = Motion.bfsDist[Motion.stepOffset + 13];
-        Motion.bfsCurr[14] = Motion.bfsDist[Motion.stepOffset + 14];
-        Motion.bfsCurr[15] = Motion.bfsDist[Motion.stepOffset + 15];
-        Motion.bfsCurr[16] = Motion.bfsDist[Motion.stepOffset + 16];
-        Motion.bfsCurr[17] = Motion.bfsDist[Motion.stepOffset + 17];
-        Motion.bfsCurr[18] = Motion.bfsDist[Motion.stepOffset + 18];
-        Motion.bfsCurr[19] = Motion.bfsDist[Motion.stepOffset + 19];
-        Motion.bfsCurr[20] = Motion.bfsDist[Motion.stepOffset + 20];
-        Motion.bfsCurr[21] = Motion.bfsDist[Motion.stepOffset + 21];
-        Motion.bfsCurr[22] = Motion.bfsDist[Motion.stepOffset + 22];
-        Motion.bfsCurr[23] = Motion.bfsDist[Motion.stepOffset + 23];
-        Motion.bfsCurr[24] = Motion.bfsDist[Motion.stepOffset + 24];
-        Motion.bfsCurr[25] = Motion.bfsDist[Motion.stepOffset + 25];
-        Motion.bfsCurr[26] = Motion.bfsDist[Motion.stepOffset + 26];
-        Motion.bfsCurr[27] = Motion.bfsDist[Motion.stepOffset + 27];
-        Motion.bfsCurr[28] = Motion.bfsDist[Motion.stepOffset + 28];
-        Motion.bfsCurr[29] = Motion.bfsDist[Motion.stepOffset + 29];
-        Motion.bfsCurr[30] = Motion.bfsDist[Motion.stepOffset + 30];
-        Motion.bfsCurr[31] = Motion.bfsDist[Motion.stepOffset + 31];
-        Motion.bfsCurr[32] = Motion.bfsDist[Motion.stepOffset + 32];
-        Motion.bfsCurr[33] = Motion.bfsDist[Motion.stepOffset + 33];
-        Motion.bfsCurr[34] = Motion.bfsDist[Motion.stepOffset + 34];
-        Motion.bfsCurr[35] = Motion.bfsDist[Motion.stepOffset + 35];
-        Motion.bfsCurr[36] = Motion.bfsDist[Motion.stepOffset + 36];
-        Motion.bfsCurr[37] = Motion.bfsDist[Motion.stepOffset + 37];
-        Motion.bfsCurr[38] = Motion.bfsDist[Motion.stepOffset + 38];
-        Motion.bfsCurr[39] = Motion.bfsDist[Motion.stepOffset + 39];
-        Motion.bfsCurr[40] = Motion.bfsDist[Motion.stepOffset + 40];
-        Motion.bfsCurr[41] = Motion.bfsDist[Motion.stepOffset + 41];
-        Motion.bfsCurr[42] = Motion.bfsDist[Motion.stepOffset + 42];
-        Motion.bfsCurr[43] = Motion.bfsDist[Motion.stepOffset + 43];
-        Motion.bfsCurr[44] = Motion.bfsDist[Motion.stepOffset + 44];
-    }
-    public static void bfs45() {
-        Motion.bfsCurr[1] = Motion.bfsCurr[1] | (Motion.bfsCurr[1] >> 1) | (Motion.bfsCurr[1] << 1);
-        Motion.bfsCurr[2] = Motion.bfsCurr[2] | (Motion.bfsCurr[2] >> 1) | (Motion.bfsCurr[2] << 1);
-        Motion.bfsCurr[3] = Motion.bfsCurr[3] | (Motion.bfsCurr[3] >> 1) | (Motion.bfsCurr[3] << 1);
-        Motion.bfsCurr[4] = Motion.bfsCurr[4] | (Motion.bfsCurr[4] >> 1) | (Motion.bfsCurr[4] << 1);
-        Motion.bfsCurr[5] = Motion.bfsCurr[5] | (Motion.bfsCurr[5] >> 1) | (Motion.bfsCurr[5] << 1);
-        Motion.bfsCurr[6] = Motion.bfsCurr[6] | (Motion.bfsCurr[6] >> 1) | (Motion.bfsCurr[6] << 1);
-        Motion.bfsCurr[7] = Motion.bfsCurr[7] | (Motion.bfsCurr[7] >> 1) | (Motion.bfsCurr[7] << 1);
-        Motion.bfsCurr[8] = Motion.bfsCurr[8] | (Motion.bfsCurr[8] >> 1) | (Motion.bfsCurr[8] << 1);
-        Motion.bfsCurr[9] = Motion.bfsCurr[9] | (Motion.bfsCurr[9] >> 1) | (Motion.bfsCurr[9] << 1);
-        Motion.bfsCurr[10] = Motion.bfsCurr[10] | (Motion.bfsCurr[10] >> 1) | (Motion.bfsCurr[10] << 1);
-        Motion.bfsCurr[11] = Motion.bfsCurr[11] | (Motion.bfsCurr[11] >> 1) | (Motion.bfsCurr[11] << 1);
-        Motion.bfsCurr[12] = Motion.bfsCurr[12] | (Motion.bfsCurr[12] >> 1) | (Motion.bfsCurr[12] << 1);
-        Motion.bfsCurr[13] = Motion.bfsCurr[13] | (Motion.bfsCurr[13] >> 1) | (Motion.bfsCurr[13] << 1);
-        Motion.bfsCurr[14] = Motion.bfsCurr[14] | (Motion.bfsCurr[14] >> 1) | (Motion.bfsCurr[14] << 1);
-        Motion.bfsCurr[15] = Motion.bfsCurr[15] | (Motion.bfsCurr[15] >> 1) | (Motion.bfsCurr[15] << 1);
-        Motion.bfsCurr[16] = Motion.bfsCurr[16] | (Motion.bfsCurr[16] >> 1) | (Motion.bfsCurr[16] << 1);
-        Motion.bfsCurr[17] = Motion.bfsCurr[17] | (Motion.bfsCurr[17] >> 1) | (Motion.bfsCurr[17] << 1);
-        Motion.bfsCurr[18] = Motion.bfsCurr[18] | (Motion.bfsCurr[18] >> 1) | (Motion.bfsCurr[18] << 1);
-        Motion.bfsCurr[19] = Motion.bfsCurr[19] | (Motion.bfsCurr[19] >> 1) | (Motion.bfsCurr[19] << 1);
-        Motion.bfsCurr[20] = Motion.bfsCurr[20] | (Motion.bfsCurr[20] >> 1) | (Motion.bfsCurr[20] << 1);
-        Motion.bfsCurr[21] = Motion.bfsCurr[21] | (Motion.bfsCurr[21] >> 1) | (Motion.bfsCurr[21] << 1);
-        Motion.bfsCurr[22] = Motion.bfsCurr[22] | (Motion.bfsCurr[22] >> 1) | (Motion.bfsCurr[22] << 1);
-        Motion.bfsCurr[23] = Motion.bfsCurr[23] | (Motion.bfsCurr[23] >> 1) | (Motion.bfsCurr[23] << 1);
-        Motion.bfsCurr[24] = Motion.bfsCurr[24] | (Motion.bfsCurr[24] >> 1) | (Motion.bfsCurr[24] << 1);
-        Motion.bfsCurr[25] = Motion.bfsCurr[25] | (Motion.bfsCurr[25] >> 1) | (Motion.bfsCurr[25] << 1);
-        Motion.bfsCurr[26] = Motion.bfsCurr[26] | (Motion.bfsCurr[26] >> 1) | (Motion.bfsCurr[26] << 1);
-        Motion.bfsCurr[27] = Motion.bfsCurr[27] | (Motion.bfsCurr[27] >> 1) | (Motion.bfsCurr[27] << 1);
-        Motion.bfsCurr[28] = Motion.bfsCurr[28] | (Motion.bfsCurr[28] >> 1) | (Motion.bfsCurr[28] << 1);
-        Motion.bfsCurr[29] = Motion.bfsCurr[29] | (Motion.bfsCurr[29] >> 1) | (Motion.bfsCurr[29] << 1);
-        Motion.bfsCurr[30] = Motion.bfsCurr[30] | (Motion.bfsCurr[30] >> 1) | (Motion.bfsCurr[30] << 1);
-        Motion.bfsCurr[31] = Motion.bfsCurr[31] | (Motion.bfsCurr[31] >> 1) | (Motion.bfsCurr[31] << 1);
-        Motion.bfsCurr[32] = Motion.bfsCurr[32] | (Motion.bfsCurr[32] >> 1) | (Motion.bfsCurr[32] << 1);
-        Motion.bfsCurr[33] = Motion.bfsCurr[33] | (Motion.bfsCurr[33] >> 1) | (Motion.bfsCurr[33] << 1);
-        Motion.bfsCurr[34] = Motion.bfsCurr[34] | (Motion.bfsCurr[34] >> 1) | (Motion.bfsCurr[34] << 1);
-        Motion.bfsCurr[35] = Motion.bfsCurr[35] | (Motion.bfsCurr[35] >> 1) | (Motion.bfsCurr[35] << 1);
-        Motion.bfsCurr[36] = Motion.bfsCurr[36] | (Motion.bfsCurr[36] >> 1) | (Motion.bfsCurr[36] << 1);
-        Motion.bfsCurr[37] = Motion.bfsCurr[37] | (Motion.bfsCurr[37] >> 1) | (Motion.bfsCurr[37] << 1);
-        Motion.bfsCurr[38] = Motion.bfsCurr[38] | (Motion.bfsCurr[38] >> 1) | (Motion.bfsCurr[38] << 1);
-        Motion.bfsCurr[39] = Motion.bfsCurr[39] | (Motion.bfsCurr[39] >> 1) | (Motion.bfsCurr[39] << 1);
-        Motion.bfsCurr[40] = Motion.bfsCurr[40] | (Motion.bfsCurr[40] >> 1) | (Motion.bfsCurr[40] << 1);
-        Motion.bfsCurr[41] = Motion.bfsCurr[41] | (Motion.bfsCurr[41] >> 1) | (Motion.bfsCurr[41] << 1);
-        Motion.bfsCurr[42] = Motion.bfsCurr[42] | (Motion.bfsCurr[42] >> 1) | (Motion.bfsCurr[42] << 1);
-        Motion.bfsCurr[43] = Motion.bfsCurr[43] | (Motion.bfsCurr[43] >> 1) | (Motion.bfsCurr[43] << 1);
-        Motion.bfsCurr[44] = Motion.bfsCurr[44] | (Motion.bfsCurr[44] >> 1) | (Motion.bfsCurr[44] << 1);
-        Motion.bfsCurr[45] = Motion.bfsCurr[45] | (Motion.bfsCurr[45] >> 1) | (Motion.bfsCurr[45] << 1);
-        Motion.bfsDist[Motion.stepOffset + 1] = (Motion.bfsCurr[1] | Motion.bfsCurr[0] | Motion.bfsCurr[2]) & (Motion.bitmask ^ Motion.bfsMap[1]);
-        Motion.bfsDist[Motion.stepOffset + 2] = (Motion.bfsCurr[2] | Motion.bfsCurr[1] | Motion.bfsCurr[3]) & (Motion.bitmask ^ Motion.bfsMap[2]);
-        Motion.bfsDist[Motion.stepOffset + 3] = (Motion.bfsCurr[3] | Motion.bfsCurr[2] | Motion.bfsCurr[4]) & (Motion.bitmask ^ Motion.bfsMap[3]);
-        Motion.bfsDist[Motion.stepOffset + 4] = (Motion.bfsCurr[4] | Motion.bfsCurr[3] | Motion.bfsCurr[5]) & (Motion.bitmask ^ Motion.bfsMap[4]);
-        Motion.bfsDist[Motion.stepOffset + 5] = (Motion.bfsCurr[5] | Motion.bfsCurr[4] | Motion.bfsCurr[6]) & (Motion.bitmask ^ Motion.bfsMap[5]);
-        Motion.bfsDist[Motion.stepOffset + 6] = (Motion.bfsCurr[6] | Motion.bfsCurr[5] | Motion.bfsCurr[7]) & (Motion.bitmask ^ Motion.bfsMap[6]);
-        Motion.bfsDist[Motion.stepOffset + 7] = (Motion.bfsCurr[7] | Motion.bfsCurr[6] | Motion.bfsCurr[8]) & (Motion.bitmask ^ Motion.bfsMap[7]);
-        Motion.bfsDist[Motion.stepOffset + 8] = (Motion.bfsCurr[8] | Motion.bfsCurr[7] | Motion.bfsCurr[9]) & (Motion.bitmask ^ Motion.bfsMap[8]);
-        Motion.bfsDist[Motion.stepOffset + 9] = (Motion.bfsCurr[9] | Motion.bfsCurr[8] | Motion.bfsCurr[10]) & (Motion.bitmask ^ Motion.bfsMap[9]);
-        Motion.bfsDist[Motion.stepOffset + 10] = (Motion.bfsCurr[10] | Motion.bfsCurr[9] | Motion.bfsCurr[11]) & (Motion.bitmask ^ Motion.bfsMap[10]);
-        Motion.bfsDist[Motion.stepOffset + 11] = (Motion.bfsCurr[11] | Motion.bfsCurr[10] | Motion.bfsCurr[12]) & (Motion.bitmask ^ Motion.bfsMap[11]);
-        Motion.bfsDist[Motion.stepOffset + 12] = (Motion.bfsCurr[12] | Motion.bfsCurr[11] | Motion.bfsCurr[13]) & (Motion.bitmask ^ Motion.bfsMap[12]);
-        Motion.bfsDist[Motion.stepOffset + 13] = (Motion.bfsCurr[13] | Motion.bfsCurr[12] | Motion.bfsCurr[14]) & (Motion.bitmask ^ Motion.bfsMap[13]);
-        Motion.bfsDist[Motion.stepOffset + 14] = (Motion.bfsCurr[14] | Motion.bfsCurr[13] | Motion.bfsCurr[15]) & (Motion.bitmask ^ Motion.bfsMap[14]);
-        Motion.bfsDist[Motion.stepOffset + 15] = (Motion.bfsCurr[15] | Motion.bfsCurr[14] | Motion.bfsCurr[16]) & (Motion.bitmask ^ Motion.bfsMap[15]);
-        Motion.bfsDist[Motion.stepOffset + 16] = (Motion.bfsCurr[16] | Motion.bfsCurr[15] | Motion.bfsCurr[17]) & (Motion.bitmask ^ Motion.bfsMap[16]);
-        Motion.bfsDist[Motion.stepOffset + 17] = (Motion.bfsCurr[17] | Motion.bfsCurr[16] | Motion.bfsCurr[18]) & (Motion.bitmask ^ Motion.bfsMap[17]);
-        Motion.bfsDist[Motion.stepOffset + 18] = (Motion.bfsCurr[18] | Motion.bfsCurr[17] | Motion.bfsCurr[19]) & (Motion.bitmask ^ Motion.bfsMap[18]);
-        Motion.bfsDist[Motion.stepOffset + 19] = (Motion.bfsCurr[19] | Motion.bfsCurr[18] | Motion.bfsCurr[20]) & (Motion.bitmask ^ Motion.bfsMap[19]);
-        Motion.bfsDist[Motion.stepOffset + 20] = (Motion.bfsCurr[20] | Motion.bfsCurr[19] | Motion.bfsCurr[21]) & (Motion.bitmask ^ Motion.bfsMap[20]);
-        Motion.bfsDist[Motion.stepOffset + 21] = (Motion.bfsCurr[21] | Motion.bfsCurr[20] | Motion.bfsCurr[22]) & (Motion.bitmask ^ Motion.bfsMap[21]);
-        Motion.bfsDist[Motion.stepOffset + 22] = (Motion.bfsCurr[22] | Motion.bfsCurr[21] | Motion.bfsCurr[23]) & (Motion.bitmask ^ Motion.bfsMap[22]);
-        Motion.bfsDist[Motion.stepOffset + 23] = (Motion.bfsCurr[23] | Motion.bfsCurr[22] | Motion.bfsCurr[24]) & (Motion.bitmask ^ Motion.bfsMap[23]);
-        Motion.bfsDist[Motion.stepOffset + 24] = (Motion.bfsCurr[24] | Motion.bfsCurr[23] | Motion.bfsCurr[25]) & (Motion.bitmask ^ Motion.bfsMap[24]);
-        Motion.bfsDist[Motion.stepOffset + 25] = (Motion.bfsCurr[25] | Motion.bfsCurr[24] | Motion.bfsCurr[26]) & (Motion.bitmask ^ Motion.bfsMap[25]);
-        Motion.bfsDist[Motion.stepOffset + 26] = (Motion.bfsCurr[26] | Motion.bfsCurr[25] | Motion.bfsCurr[27]) & (Motion.bitmask ^ Motion.bfsMap[26]);
-        Motion.bfsDist[Motion.stepOffset + 27] = (Motion.bfsCurr[27] | Motion.bfsCurr[26] | Motion.bfsCurr[28]) & (Motion.bitmask ^ Motion.bfsMap[27]);
-        Motion.bfsDist[Motion.stepOffset + 28] = (Motion.bfsCurr[28] | Motion.bfsCurr[27] | Motion.bfsCurr[29]) & (Motion.bitmask ^ Motion.bfsMap[28]);
-        Motion.bfsDist[Motion.stepOffset + 29] = (Motion.bfsCurr[29] | Motion.bfsCurr[28] | Motion.bfsCurr[30]) & (Motion.bitmask ^ Motion.bfsMap[29]);
-        Motion.bfsDist[Motion.stepOffset + 30] = (Motion.bfsCurr[30] | Motion.bfsCurr[29] | Motion.bfsCurr[31]) & (Motion.bitmask ^ Motion.bfsMap[30]);
-        Motion.bfsDist[Motion.stepOffset + 31] = (Motion.bfsCurr[31] | Motion.bfsCurr[30] | Motion.bfsCurr[32]) & (Motion.bitmask ^ Motion.bfsMap[31]);
-        Motion.bfsDist[Motion.stepOffset + 32] = (Motion.bfsCurr[32] | Motion.bfsCurr[31] | Motion.bfsCurr[33]) & (Motion.bitmask ^ Motion.bfsMap[32]);
-        Motion.bfsDist[Motion.stepOffset + 33] = (Motion.bfsCurr[33] | Motion.bfsCurr[32] | Motion.bfsCurr[34]) & (Motion.bitmask ^ Motion.bfsMap[33]);
-        Motion.bfsDist[Motion.stepOffset + 34] = (Motion.bfsCurr[34] | Motion.bfsCurr[33] | Motion.bfsCurr[35]) & (Motion.bitmask ^ Motion.bfsMap[34]);
-        Motion.bfsDist[Motion.stepOffset + 35] = (Motion.bfsCurr[35] | Motion.bfsCurr[34] | Motion.bfsCurr[36]) & (Motion.bitmask ^ Motion.bfsMap[35]);
-        Motion.bfsDist[Motion.stepOffset + 36] = (Motion.bfsCurr[36] | Motion.bfsCurr[35] | Motion.bfsCurr[37]) & (Motion.bitmask ^ Motion.bfsMap[36]);
-        Motion.bfsDist[Motion.stepOffset + 37] = (Motion.bfsCurr[37] | Motion.bfsCurr[36] | Motion.bfsCurr[38]) & (Motion.bitmask ^ Motion.bfsMap[37]);
-        Motion.bfsDist[Motion.stepOffset + 38] = (Motion.bfsCurr[38] | Motion.bfsCurr[37] | Motion.bfsCurr[39]) & (Motion.bitmask ^ Motion.bfsMap[38]);
-        Motion.bfsDist[Motion.stepOffset + 39] = (Motion.bfsCurr[39] | Motion.bfsCurr[38] | Motion.bfsCurr[40]) & (Motion.bitmask ^ Motion.bfsMap[39]);
-        Motion.bfsDist[Motion.stepOffset + 40] = (Motion.bfsCurr[40] | Motion.bfsCurr[39] | Motion.bfsCurr[41]) & (Motion.bitmask ^ Motion.bfsMap[40]);
-        Motion.bfsDist[Motion.stepOffset + 41] = (Motion.bfsCurr[41] | Motion.bfsCurr[40] | Motion.bfsCurr[42]) & (Motion.bitmask ^ Motion.bfsMap[41]);
-        Motion.bfsDist[Motion.stepOffset + 42] = (Motion.bfsCurr[42] | Motion.bfsCurr[41] | Motion.bfsCurr[43]) & (Motion.bitmask ^ Motion.bfsMap[42]);
-        Motion.bfsDist[Motion.stepOffset + 43] = (Motion.bfsCurr[43] | Motion.bfsCurr[42] | Motion.bfsCurr[44]) & (Motion.bitmask ^ Motion.bfsMap[43]);
-        Motion.bfsDist[Motion.stepOffset + 44] = (Motion.bfsCurr[44] | Motion.bfsCurr[43] | Motion.bfsCurr[45]) & (Motion.bitmask ^ Motion.bfsMap[44]);
-        Motion.bfsDist[Motion.stepOffset + 45] = (Motion.bfsCurr[45] | Motion.bfsCurr[44] | Motion.bfsCurr[46]) & (Motion.bitmask ^ Motion.bfsMap[45]);
-        Motion.bfsCurr[1] = Motion.bfsDist[Motion.stepOffset + 1];
-        Motion.bfsCurr[2] = Motion.bfsDist[Motion.stepOffset + 2];
-        Motion.bfsCurr[3] = Motion.bfsDist[Motion.stepOffset + 3];
-        Motion.bfsCurr[4] = Motion.bfsDist[Motion.stepOffset + 4];
-        Motion.bfsCurr[5] = Motion.bfsDist[Motion.stepOffset + 5];
-        Motion.bfsCurr[6] = Motion.bfsDist[Motion.stepOffset + 6];
-        Motion.bfsCurr[7] = Motion.bfsDist[Motion.stepOffset + 7];
-        Motion.bfsCurr[8] = Motion.bfsDist[Motion.stepOffset + 8];
-        Motion.bfsCurr[9] = Motion.bfsDist[Motion.stepOffset + 9];
-        Motion.bfsCurr[10] = Motion.bfsDist[Motion.stepOffset + 10];
-        Motion.bfsCurr[11] = Motion.bfsDist[Motion.stepOffset + 11];
-        Motion.bfsCurr[12] = Motion.bfsDist[Motion.stepOffset + 12];
-        Motion.bfsCurr[13] = Motion.bfsDist[Motion.stepOffset + 13];
-        Motion.bfsCurr[14] = Motion.bfsDist[Motion.stepOffset + 14];
-        Motion.bfsCurr[15] = Motion.bfsDist[Motion.stepOffset + 15];
-        Motion.bfsCurr[16] = Motion.bfsDist[Motion.stepOffset + 16];
-        Motion.bfsCurr[17] = Motion.bfsDist[Motion.stepOffset + 17];
-        Motion.bfsCurr[18] = Motion.bfsDist[Motion.stepOffset + 18];
-        Motion.bfsCurr[19] = Motion.bfsDist[Motion.stepOffset + 19];
-        Motion.bfsCurr[20] = Motion.bfsDist[Motion.stepOffset + 20];
-        Motion.bfsCurr[21] = Motion.bfsDist[Motion.stepOffset + 21];
-        Motion.bfsCurr[22] = Motion.bfsDist[Motion.stepOffset + 22];
-        Motion.bfsCurr[23] = Motion.bfsDist[Motion.stepOffset + 23];
-        Motion.bfsCurr[24] = Motion.bfsDist[Motion.stepOffset + 24];
-        Motion.bfsCurr[25] = Motion.bfsDist[Motion.stepOffset + 25];
-        Motion.bfsCurr[26] = Motion.bfsDist[Motion.stepOffset + 26];
-        Motion.bfsCurr[27] = Motion.bfsDist[Motion.stepOffset + 27];
-        Motion.bfsCurr[28] = Motion.bfsDist[Motion.stepOffset + 28];
-        Motion.bfsCurr[29] = Motion.bfsDist[Motion.stepOffset + 29];
-        Motion.bfsCurr[30] = Motion.bfsDist[Motion.stepOffset + 30];
-        Motion.bfsCurr[31] = Motion.bfsDist[Motion.stepOffset + 31];
-        Motion.bfsCurr[32] = Motion.bfsDist[Motion.stepOffset + 32];
-        Motion.bfsCurr[33] = Motion.bfsDist[Motion.stepOffset + 33];
-        Motion.bfsCurr[34] = Motion.bfsDist[Motion.stepOffset + 34];
-        Motion.bfsCurr[35] = Motion.bfsDist[Motion.stepOffset + 35];
-        Motion.bfsCurr[36] = Motion.bfsDist[Motion.stepOffset + 36];
-        Motion.bfsCurr[37] = Motion.bfsDist[Motion.stepOffset + 37];
-        Motion.bfsCurr[38] = Motion.bfsDist[Motion.stepOffset + 38];
-        Motion.bfsCurr[39] = Motion.bfsDist[Motion.stepOffset + 39];
-        Motion.bfsCurr[40] = Motion.bfsDist[Motion.stepOffset + 40];
-        Motion.bfsCurr[41] = Motion.bfsDist[Motion.stepOffset + 41];
-        Motion.bfsCurr[42] = Motion.bfsDist[Motion.stepOffset + 42];
-        Motion.bfsCurr[43] = Motion.bfsDist[Motion.stepOffset + 43];
-        Motion.bfsCurr[44] = Motion.bfsDist[Motion.stepOffset + 44];
-        Motion.bfsCurr[45] = Motion.bfsDist[Motion.stepOffset + 45];
-    }
-    public static void bfs46() {
-        Motion.bfsCurr[1] = Motion.bfsCurr[1] | (Motion.bfsCurr[1] >> 1) | (Motion.bfsCurr[1] << 1);
-        Motion.bfsCurr[2] = Motion.bfsCurr[2] | (Motion.bfsCurr[2] >> 1) | (Motion.bfsCurr[2] << 1);
-        Motion.bfsCurr[3] = Motion.bfsCurr[3] | (Motion.bfsCurr[3] >> 1) | (Motion.bfsCurr[3] << 1);
-        Motion.bfsCurr[4] = Motion.bfsCurr[4] | (Motion.bfsCurr[4] >> 1) | (Motion.bfsCurr[4] << 1);
-        Motion.bfsCurr[5] = Motion.bfsCurr[5] | (Motion.bfsCurr[5] >> 1) | (Motion.bfsCurr[5] << 1);
-        Motion.bfsCurr[6] = Motion.bfsCurr[6] | (Motion.bfsCurr[6] >> 1) | (Motion.bfsCurr[6] << 1);
-        Motion.bfsCurr[7] = Motion.bfsCurr[7] | (Motion.bfsCurr[7] >> 1) | (Motion.bfsCurr[7] << 1);
-        Motion.bfsCurr[8] = Motion.bfsCurr[8] | (Motion.bfsCurr[8] >> 1) | (Motion.bfsCurr[8] << 1);
-        Motion.bfsCurr[9] = Motion.bfsCurr[9] | (Motion.bfsCurr[9] >> 1) | (Motion.bfsCurr[9] << 1);
-        Motion.bfsCurr[10] = Motion.bfsCurr[10] | (Motion.bfsCurr[10] >> 1) | (Motion.bfsCurr[10] << 1);
-        Motion.bfsCurr[11] = Motion.bfsCurr[11] | (Motion.bfsCurr[11] >> 1) | (Motion.bfsCurr[11] << 1);
-        Motion.bfsCurr[12] = Motion.bfsCurr[12] | (Motion.bfsCurr[12] >> 1) | (Motion.bfsCurr[12] << 1);
-        Motion.bfsCurr[13] = Motion.bfsCurr[13] | (Motion.bfsCurr[13] >> 1) | (Motion.bfsCurr[13] << 1);
-        Motion.bfsCurr[14] = Motion.bfsCurr[14] | (Motion.bfsCurr[14] >> 1) | (Motion.bfsCurr[14] << 1);
-        Motion.bfsCurr[15] = Motion.bfsCurr[15] | (Motion.bfsCurr[15] >> 1) | (Motion.bfsCurr[15] << 1);
-        Motion.bfsCurr[16] = Motion.bfsCurr[16] | (Motion.bfsCurr[16] >> 1) | (Motion.bfsCurr[16] << 1);
-        Motion.bfsCurr[17] = Motion.bfsCurr[17] | (Motion.bfsCurr[17] >> 1) | (Motion.bfsCurr[17] << 1);
-        Motion.bfsCurr[18] = Motion.bfsCurr[18] | (Motion.bfsCurr[18] >> 1) | (Motion.bfsCurr[18] << 1);
-        Motion.bfsCurr[19] = Motion.bfsCurr[19] | (Motion.bfsCurr[19] >> 1) | (Motion.bfsCurr[19] << 1);
-        Motion.bfsCurr[20] = Motion.bfsCurr[20] | (Motion.bfsCurr[20] >> 1) | (Motion.bfsCurr[20] << 1);
-        Motion.bfsCurr[21] = Motion.bfsCurr[21] | (Motion.bfsCurr[21] >> 1) | (Motion.bfsCurr[21] << 1);
-        Motion.bfsCurr[22] = Motion.bfsCurr[22] | (Motion.bfsCurr[22] >> 1) | (Motion.bfsCurr[22] << 1);
-        Motion.bfsCurr[23] = Motion.bfsCurr[23] | (Motion.bfsCurr[23] >> 1) | (Motion.bfsCurr[23] << 1);
-        Motion.bfsCurr[24] = Motion.bfsCurr[24] | (Motion.bfsCurr[24] >> 1) | (Motion.bfsCurr[24] << 1);
-        Motion.bfsCurr[25] = Motion.bfsCurr[25] | (Motion.bfsCurr[25] >> 1) | (Motion.bfsCurr[25] << 1);
-        Motion.bfsCurr[26] = Motion.bfsCurr[26] | (Motion.bfsCurr[26] >> 1) | (Motion.bfsCurr[26] << 1);
-        Motion.bfsCurr[27] = Motion.bfsCurr[27] | (Motion.bfsCurr[27] >> 1) | (Motion.bfsCurr[27] << 1);
-        Motion.bfsCurr[28] = Motion.bfsCurr[28] | (Motion.bfsCurr[28] >> 1) | (Motion.bfsCurr[28] << 1);
-        Motion.bfsCurr[29] = Motion.bfsCurr[29] | (Motion.bfsCurr[29] >> 1) | (Motion.bfsCurr[29] << 1);
-        Motion.bfsCurr[30] = Motion.bfsCurr[30] | (Motion.bfsCurr[30] >> 1) | (Motion.bfsCurr[30] << 1);
-        Motion.bfsCurr[31] = Motion.bfsCurr[31] | (Motion.bfsCurr[31] >> 1) | (Motion.bfsCurr[31] << 1);
-        Motion.bfsCurr[32] = Motion.bfsCurr[32] | (Motion.bfsCurr[32] >> 1) | (Motion.bfsCurr[32] << 1);
-        Motion.bfsCurr[33] = Motion.bfsCurr[33] | (Motion.bfsCurr[33] >> 1) | (Motion.bfsCurr[33] << 1);
-        Motion.bfsCurr[34] = Motion.bfsCurr[34] | (Motion.bfsCurr[34] >> 1) | (Motion.bfsCurr[34] << 1);
-        Motion.bfsCurr[35] = Motion.bfsCurr[35] | (Motion.bfsCurr[35] >> 1) | (Motion.bfsCurr[35] << 1);
-        Motion.bfsCurr[36] = Motion.bfsCurr[36] | (Motion.bfsCurr[36] >> 1) | (Motion.bfsCurr[36] << 1);
-        Motion.bfsCurr[37] = Motion.bfsCurr[37] | (Motion.bfsCurr[37] >> 1) | (Motion.bfsCurr[37] << 1);
-        Motion.bfsCurr[38] = Motion.bfsCurr[38] | (Motion.bfsCurr[38] >> 1) | (Motion.bfsCurr[38] << 1);
-        Motion.bfsCurr[39] = Motion.bfsCurr[39] | (Motion.bfsCurr[39] >> 1) | (Motion.bfsCurr[39] << 1);
-        Motion.bfsCurr[40] = Motion.bfsCurr[40] | (Motion.bfsCurr[40] >> 1) | (Motion.bfsCurr[40] << 1);
-        Motion.bfsCurr[41] = Motion.bfsCurr[41] | (Motion.bfsCurr[41] >> 1) | (Motion.bfsCurr[41] << 1);
-        Motion.bfsCurr[42] = Motion.bfsCurr[42] | (Motion.bfsCurr[42] >> 1) | (Motion.bfsCurr[42] << 1);
-        Motion.bfsCurr[43] = Motion.bfsCurr[43] | (Motion.bfsCurr[43] >> 1) | (Motion.bfsCurr[43] << 1);
-        Motion.bfsCurr[44] = Motion.bfsCurr[44] | (Motion.bfsCurr[44] >> 1) | (Motion.bfsCurr[44] << 1);
-        Motion.bfsCurr[45] = Motion.bfsCurr[45] | (Motion.bfsCurr[45] >> 1) | (Motion.bfsCurr[45] << 1);
-        Motion.bfsCurr[46] = Motion.bfsCurr[46] | (Motion.bfsCurr[46] >> 1) | (Motion.bfsCurr[46] << 1);
-        Motion.bfsDist[Motion.stepOffset + 1] = (Motion.bfsCurr[1] | Motion.bfsCurr[0] | Motion.bfsCurr[2]) & (Motion.bitmask ^ Motion.bfsMap[1]);
-        Motion.bfsDist[Motion.stepOffset + 2] = (Motion.bfsCurr[2] | Motion.bfsCurr[1] | Motion.bfsCurr[3]) & (Motion.bitmask ^ Motion.bfsMap[2]);
-        Motion.bfsDist[Motion.stepOffset + 3] = (Motion.bfsCurr[3] | Motion.bfsCurr[2] | Motion.bfsCurr[4]) & (Motion.bitmask ^ Motion.bfsMap[3]);
-        Motion.bfsDist[Motion.stepOffset + 4] = (Motion.bfsCurr[4] | Motion.bfsCurr[3] | Motion.bfsCurr[5]) & (Motion.bitmask ^ Motion.bfsMap[4]);
-        Motion.bfsDist[Motion.stepOffset + 5] = (Motion.bfsCurr[5] | Motion.bfsCurr[4] | Motion.bfsCurr[6]) & (Motion.bitmask ^ Motion.bfsMap[5]);
-        Motion.bfsDist[Motion.stepOffset + 6] = (Motion.bfsCurr[6] | Motion.bfsCurr[5] | Motion.bfsCurr[7]) & (Motion.bitmask ^ Motion.bfsMap[6]);
-        Motion.bfsDist[Motion.stepOffset + 7] = (Motion.bfsCurr[7] | Motion.bfsCurr[6] | Motion.bfsCurr[8]) & (Motion.bitmask ^ Motion.bfsMap[7]);
-        Motion.bfsDist[Motion.stepOffset + 8] = (Motion.bfsCurr[8] | Motion.bfsCurr[7] | Motion.bfsCurr[9]) & (Motion.bitmask ^ Motion.bfsMap[8]);
-        Motion.bfsDist[Motion.stepOffset + 9] = (Motion.bfsCurr[9] | Motion.bfsCurr[8] | Motion.bfsCurr[10]) & (Motion.bitmask ^ Motion.bfsMap[9]);
-        Motion.bfsDist[Motion.stepOffset + 10] = (Motion.bfsCurr[10] | Motion.bfsCurr[9] | Motion.bfsCurr[11]) & (Motion.bitmask ^ Motion.bfsMap[10]);
-        Motion.bfsDist[Motion.stepOffset + 11] = (Motion.bfsCurr[11] | Motion.bfsCurr[10] | Motion.bfsCurr[12]) & (Motion.bitmask ^ Motion.bfsMap[11]);
-        Motion.bfsDist[Motion.stepOffset + 12] = (Motion.bfsCurr[12] | Motion.bfsCurr[11] | Motion.bfsCurr[13]) & (Motion.bitmask ^ Motion.bfsMap[12]);
-        Motion.bfsDist[Motion.stepOffset + 13] = (Motion.bfsCurr[13] | Motion.bfsCurr[12] | Motion.bfsCurr[14]) & (Motion.bitmask ^ Motion.bfsMap[13]);
-        Motion.bfsDist[Motion.stepOffset + 14] = (Motion.bfsCurr[14] | Motion.bfsCurr[13] | Motion.bfsCurr[15]) & (Motion.bitmask ^ Motion.bfsMap[14]);
-        Motion.bfsDist[Motion.stepOffset + 15] = (Motion.bfsCurr[15] | Motion.bfsCurr[14] | Motion.bfsCurr[16]) & (Motion.bitmask ^ Motion.bfsMap[15]);
-        Motion.bfsDist[Motion.stepOffset + 16] = (Motion.bfsCurr[16] | Motion.bfsCurr[15] | Motion.bfsCurr[17]) & (Motion.bitmask ^ Motion.bfsMap[16]);
-        Motion.bfsDist[Motion.stepOffset + 17] = (Motion.bfsCurr[17] | Motion.bfsCurr[16] | Motion.bfsCurr[18]) & (Motion.bitmask ^ Motion.bfsMap[17]);
-        Motion.bfsDist[Motion.stepOffset + 18] = (Motion.bfsCurr[18] | Motion.bfsCurr[17] | Motion.bfsCurr[19]) & (Motion.bitmask ^ Motion.bfsMap[18]);
-        Motion.bfsDist[Motion.stepOffset + 19] = (Motion.bfsCurr[19] | Motion.bfsCurr[18] | Motion.bfsCurr[20]) & (Motion.bitmask ^ Motion.bfsMap[19]);
-        Motion.bfsDist[Motion.stepOffset + 20] = (Motion.bfsCurr[20] | Motion.bfsCurr[19] | Motion.bfsCurr[21]) & (Motion.bitmask ^ Motion.bfsMap[20]);
-        Motion.bfsDist[Motion.stepOffset + 21] = (Motion.bfsCurr[21] | Motion.bfsCurr[20] | Motion.bfsCurr[22]) & (Motion.bitmask ^ Motion.bfsMap[21]);
-        Motion.bfsDist[Motion.stepOffset + 22] = (Motion.bfsCurr[22] | Motion.bfsCurr[21] | Motion.bfsCurr[23]) & (Motion.bitmask ^ Motion.bfsMap[22]);
-        Motion.bfsDist[Motion.stepOffset + 23] = (Motion.bfsCurr[23] | Motion.bfsCurr[22] | Motion.bfsCurr[24]) & (Motion.bitmask ^ Motion.bfsMap[23]);
-        Motion.bfsDist[Motion.stepOffset + 24] = (Motion.bfsCurr[24] | Motion.bfsCurr[23] | Motion.bfsCurr[25]) & (Motion.bitmask ^ Motion.bfsMap[24]);
-        Motion.bfsDist[Motion.stepOffset + 25] = (Motion.bfsCurr[25] | Motion.bfsCurr[24] | Motion.bfsCurr[26]) & (Motion.bitmask ^ Motion.bfsMap[25]);
-        Motion.bfsDist[Motion.stepOffset + 26] = (Motion.bfsCurr[26] | Motion.bfsCurr[25] | Motion.bfsCurr[27]) & (Motion.bitmask ^ Motion.bfsMap[26]);
-        Motion.bfsDist[Motion.stepOffset + 27] = (Motion.bfsCurr[27] | Motion.bfsCurr[26] | Motion.bfsCurr[28]) & (Motion.bitmask ^ Motion.bfsMap[27]);
-        Motion.bfsDist[Motion.stepOffset + 28] = (Motion.bfsCurr[28] | Motion.bfsCurr[27] | Motion.bfsCurr[29]) & (Motion.bitmask ^ Motion.bfsMap[28]);
-        Motion.bfsDist[Motion.stepOffset + 29] = (Motion.bfsCurr[29] | Motion.bfsCurr[28] | Motion.bfsCurr[30]) & (Motion.bitmask ^ Motion.bfsMap[29]);
-        Motion.bfsDist[Motion.stepOffset + 30] = (Motion.bfsCurr[30] | Motion.bfsCurr[29] | Motion.bfsCurr[31]) & (Motion.bitmask ^ Motion.bfsMap[30]);
-        Motion.bfsDist[Motion.stepOffset + 31] = (Motion.bfsCurr[31] | Motion.bfsCurr[30] | Motion.bfsCurr[32]) & (Motion.bitmask ^ Motion.bfsMap[31]);
-        Motion.bfsDist[Motion.stepOffset + 32] = (Motion.bfsCurr[32] | Motion.bfsCurr[31] | Motion.bfsCurr[33]) & (Motion.bitmask ^ Motion.bfsMap[32]);
-        Motion.bfsDist[Motion.stepOffset + 33] = (Motion.bfsCurr[33] | Motion.bfsCurr[32] | Motion.bfsCurr[34]) & (Motion.bitmask ^ Motion.bfsMap[33]);
-        Motion.bfsDist[Motion.stepOffset + 34] = (Motion.bfsCurr[34] | Motion.bfsCurr[33] | Motion.bfsCurr[35]) & (Motion.bitmask ^ Motion.bfsMap[34]);
-        Motion.bfsDist[Motion.stepOffset + 35] = (Motion.bfsCurr[35] | Motion.bfsCurr[34] | Motion.bfsCurr[36]) & (Motion.bitmask ^ Motion.bfsMap[35]);
-        Motion.bfsDist[Motion.stepOffset + 36] = (Motion.bfsCurr[36] | Motion.bfsCurr[35] | Motion.bfsCurr[37]) & (Motion.bitmask ^ Motion.bfsMap[36]);
-        Motion.bfsDist[Motion.stepOffset + 37] = (Motion.bfsCurr[37] | Motion.bfsCurr[36] | Motion.bfsCurr[38]) & (Motion.bitmask ^ Motion.bfsMap[37]);
-        Motion.bfsDist[Motion.stepOffset + 38] = (Motion.bfsCurr[38] | Motion.bfsCurr[37] | Motion.bfsCurr[39]) & (Motion.bitmask ^ Motion.bfsMap[38]);
-        Motion.bfsDist[Motion.stepOffset + 39] = (Motion.bfsCurr[39] | Motion.bfsCurr[38] | Motion.bfsCurr[40]) & (Motion.bitmask ^ Motion.bfsMap[39]);
-        Motion.bfsDist[Motion.stepOffset + 40] = (Motion.bfsCurr[40] | Motion.bfsCurr[39] | Motion.bfsCurr[41]) & (Motion.bitmask ^ Motion.bfsMap[40]);
-        Motion.bfsDist[Motion.stepOffset + 41] = (Motion.bfsCurr[41] | Motion.bfsCurr[40] | Motion.bfsCurr[42]) & (Motion.bitmask ^ Motion.bfsMap[41]);
-        Motion.bfsDist[Motion.stepOffset + 42] = (Motion.bfsCurr[42] | Motion.bfsCurr[41] | Motion.bfsCurr[43]) & (Motion.bitmask ^ Motion.bfsMap[42]);
-        Motion.bfsDist[Motion.stepOffset + 43] = (Motion.bfsCurr[43] | Motion.bfsCurr[42] | Motion.bfsCurr[44]) & (Motion.bitmask ^ Motion.bfsMap[43]);
-        Motion.bfsDist[Motion.stepOffset + 44] = (Motion.bfsCurr[44] | Motion.bfsCurr[43] | Motion.bfsCurr[45]) & (Motion.bitmask ^ Motion.bfsMap[44]);
-        Motion.bfsDist[Motion.stepOffset + 45] = (Motion.bfsCurr[45] | Motion.bfsCurr[44] | Motion.bfsCurr[46]) & (Motion.bitmask ^ Motion.bfsMap[45]);
-        Motion.bfsDist[Motion.stepOffset + 46] = (Motion.bfsCurr[46] | Motion.bfsCurr[45] | Motion.bfsCurr[47]) & (Motion.bitmask ^ Motion.bfsMap[46]);
-        Motion.bfsCurr[1] = Motion.bfsDist[Motion.stepOffset + 1];
-        Motion.bfsCurr[2] = Motion.bfsDist[Motion.stepOffset + 2];
-        Motion.bfsCurr[3] = Motion.bfsDist[Motion.stepOffset + 3];
-        Motion.bfsCurr[4] = Motion.bfsDist[Motion.stepOffset + 4];
-        Motion.bfsCurr[5] = Motion.bfsDist[Motion.stepOffset + 5];
-        Motion.bfsCurr[6] = Motion.bfsDist[Motion.stepOffset + 6];
-        Motion.bfsCurr[7] = Motion.bfsDist[Motion.stepOffset + 7];
-        Motion.bfsCurr[8] = Motion.bfsDist[Motion.stepOffset + 8];
-        Motion.bfsCurr[9] = Motion.bfsDist[Motion.stepOffset + 9];
-        Motion.bfsCurr[10] = Motion.bfsDist[Motion.stepOffset + 10];
-        Motion.bfsCurr[11] = Motion.bfsDist[Motion.stepOffset + 11];
-        Motion.bfsCurr[12] = Motion.bfsDist[Motion.stepOffset + 12];
-        Motion.bfsCurr[13] = Motion.bfsDist[Motion.stepOffset + 13];
-        Motion.bfsCurr[14] = Motion.bfsDist[Motion.stepOffset + 14];
-        Motion.bfsCurr[15] = Motion.bfsDist[Motion.stepOffset + 15];
-        Motion.bfsCurr[16] = Motion.bfsDist[Motion.stepOffset + 16];
-        Motion.bfsCurr[17] = Motion.bfsDist[Motion.stepOffset + 17];
-        Motion.bfsCurr[18] = Motion.bfsDist[Motion.stepOffset + 18];
-        Motion.bfsCurr[19] = Motion.bfsDist[Motion.stepOffset + 19];
-        Motion.bfsCurr[20] = Motion.bfsDist[Motion.stepOffset + 20];
-        Motion.bfsCurr[21] = Motion.bfsDist[Motion.stepOffset + 21];
-        Motion.bfsCurr[22] = Motion.bfsDist[Motion.stepOffset + 22];
-        Motion.bfsCurr[23] = Motion.bfsDist[Motion.stepOffset + 23];
-        Motion.bfsCurr[24] = Motion.bfsDist[Motion.stepOffset + 24];
-        Motion.bfsCurr[25] = Motion.bfsDist[Motion.stepOffset + 25];
-        Motion.bfsCurr[26] = Motion.bfsDist[Motion.stepOffset + 26];
-        Motion.bfsCurr[27] = Motion.bfsDist[Motion.stepOffset + 27];
-        Motion.bfsCurr[28] = Motion.bfsDist[Motion.stepOffset + 28];
-        Motion.bfsCurr[29] = Motion.bfsDist[Motion.stepOffset + 29];
-        Motion.bfsCurr[30] = Motion.bfsDist[Motion.stepOffset + 30];
-        Motion.bfsCurr[31] = Motion.bfsDist[Motion.stepOffset + 31];
-        Motion.bfsCurr[32] = Motion.bfsDist[Motion.stepOffset + 32];
-        Motion.bfsCurr[33] = Motion.bfsDist[Motion.stepOffset + 33];
-        Motion.bfsCurr[34] = Motion.bfsDist[Motion.stepOffset + 34];
-        Motion.bfsCurr[35] = Motion.bfsDist[Motion.stepOffset + 35];
-        Motion.bfsCurr[36] = Motion.bfsDist[Motion.stepOffset + 36];
-        Motion.bfsCurr[37] = Motion.bfsDist[Motion.stepOffset + 37];
-        Motion.bfsCurr[38] = Motion.bfsDist[Motion.stepOffset + 38];
-        Motion.bfsCurr[39] = Motion.bfsDist[Motion.stepOffset + 39];
-        Motion.bfsCurr[40] = Motion.bfsDist[Motion.stepOffset + 40];
-        Motion.bfsCurr[41] = Motion.bfsDist[Motion.stepOffset + 41];
-        Motion.bfsCurr[42] = Motion.bfsDist[Motion.stepOffset + 42];
-        Motion.bfsCurr[43] = Motion.bfsDist[Motion.stepOffset + 43];
-        Motion.bfsCurr[44] = Motion.bfsDist[Motion.stepOffset + 44];
-        Motion.bfsCurr[45] = Motion.bfsDist[Motion.stepOffset + 45];
-        Motion.bfsCurr[46] = Motion.bfsDist[Motion.stepOffset + 46];
-    }
-    public static void bfs47() {
-        Motion.bfsCurr[1] = Motion.bfsCurr[1] | (Motion.bfsCurr[1] >> 1) | (Motion.bfsCurr[1] << 1);
-        Motion.bfsCurr[2] = Motion.bfsCurr[2] | (Motion.bfsCurr[2] >> 1) | (Motion.bfsCurr[2] << 1);
-        Motion.bfsCurr[3] = Motion.bfsCurr[3] | (Motion.bfsCurr[3] >> 1) | (Motion.bfsCurr[3] << 1);
-        Motion.bfsCurr[4] = Motion.bfsCurr[4] | (Motion.bfsCurr[4] >> 1) | (Motion.bfsCurr[4] << 1);
-        Motion.bfsCurr[5] = Motion.bfsCurr[5] | (Motion.bfsCurr[5] >> 1) | (Motion.bfsCurr[5] << 1);
-        Motion.bfsCurr[6] = Motion.bfsCurr[6] | (Motion.bfsCurr[6] >> 1) | (Motion.bfsCurr[6] << 1);
-        Motion.bfsCurr[7] = Motion.bfsCurr[7] | (Motion.bfsCurr[7] >> 1) | (Motion.bfsCurr[7] << 1);
-        Motion.bfsCurr[8] = Motion.bfsCurr[8] | (Motion.bfsCurr[8] >> 1) | (Motion.bfsCurr[8] << 1);
-        Motion.bfsCurr[9] = Motion.bfsCurr[9] | (Motion.bfsCurr[9] >> 1) | (Motion.bfsCurr[9] << 1);
-        Motion.bfsCurr[10] = Motion.bfsCurr[10] | (Motion.bfsCurr[10] >> 1) | (Motion.bfsCurr[10] << 1);
-        Motion.bfsCurr[11] = Motion.bfsCurr[11] | (Motion.bfsCurr[11] >> 1) | (Motion.bfsCurr[11] << 1);
-        Motion.bfsCurr[12] = Motion.bfsCurr[12] | (Motion.bfsCurr[12] >> 1) | (Motion.bfsCurr[12] << 1);
-        Motion.bfsCurr[13] = Motion.bfsCurr[13] | (Motion.bfsCurr[13] >> 1) | (Motion.bfsCurr[13] << 1);
-        Motion.bfsCurr[14] = Motion.bfsCurr[14] | (Motion.bfsCurr[14] >> 1) | (Motion.bfsCurr[14] << 1);
-        Motion.bfsCurr[15] = Motion.bfsCurr[15] | (Motion.bfsCurr[15] >> 1) | (Motion.bfsCurr[15] << 1);
-        Motion.bfsCurr[16] = Motion.bfsCurr[16] | (Motion.bfsCurr[16] >> 1) | (Motion.bfsCurr[16] << 1);
-        Motion.bfsCurr[17] = Motion.bfsCurr[17] | (Motion.bfsCurr[17] >> 1) | (Motion.bfsCurr[17] << 1);
-        Motion.bfsCurr[18] = Motion.bfsCurr[18] | (Motion.bfsCurr[18] >> 1) | (Motion.bfsCurr[18] << 1);
-        Motion.bfsCurr[19] = Motion.bfsCurr[19] | (Motion.bfsCurr[19] >> 1) | (Motion.bfsCurr[19] << 1);
-        Motion.bfsCurr[20] = Motion.bfsCurr[20] | (Motion.bfsCurr[20] >> 1) | (Motion.bfsCurr[20] << 1);
-        Motion.bfsCurr[21] = Motion.bfsCurr[21] | (Motion.bfsCurr[21] >> 1) | (Motion.bfsCurr[21] << 1);
-        Motion.bfsCurr[22] = Motion.bfsCurr[22] | (Motion.bfsCurr[22] >> 1) | (Motion.bfsCurr[22] << 1);
-        Motion.bfsCurr[23] = Motion.bfsCurr[23] | (Motion.bfsCurr[23] >> 1) | (Motion.bfsCurr[23] << 1);
-        Motion.bfsCurr[24] = Motion.bfsCurr[24] | (Motion.bfsCurr[24] >> 1) | (Motion.bfsCurr[24] << 1);
-        Motion.bfsCurr[25] = Motion.bfsCurr[25] | (Motion.bfsCurr[25] >> 1) | (Motion.bfsCurr[25] << 1);
-        Motion.bfsCurr[26] = Motion.bfsCurr[26] | (Motion.bfsCurr[26] >> 1) | (Motion.bfsCurr[26] << 1);
-        Motion.bfsCurr[27] = Motion.bfsCurr[27] | (Motion.bfsCurr[27] >> 1) | (Motion.bfsCurr[27] << 1);
-        Motion.bfsCurr[28] = Motion.bfsCurr[28] | (Motion.bfsCurr[28] >> 1) | (Motion.bfsCurr[28] << 1);
-        Motion.bfsCurr[29] = Motion.bfsCurr[29] | (Motion.bfsCurr[29] >> 1) | (Motion.bfsCurr[29] << 1);
-        Motion.bfsCurr[30] = Motion.bfsCurr[30] | (Motion.bfsCurr[30] >> 1) | (Motion.bfsCurr[30] << 1);
-        Motion.bfsCurr[31] = Motion.bfsCurr[31] | (Motion.bfsCurr[31] >> 1) | (Motion.bfsCurr[31] << 1);
-        Motion.bfsCurr[32] = Motion.bfsCurr[32] | (Motion.bfsCurr[32] >> 1) | (Motion.bfsCurr[32] << 1);
-        Motion.bfsCurr[33] = Motion.bfsCurr[33] | (Motion.bfsCurr[33] >> 1) | (Motion.bfsCurr[33] << 1);
-        Motion.bfsCurr[34] = Motion.bfsCurr[34] | (Motion.bfsCurr[34] >> 1) | (Motion.bfsCurr[34] << 1);
-        Motion.bfsCurr[35] = Motion.bfsCurr[35] | (Motion.bfsCurr[35] >> 1) | (Motion.bfsCurr[35] << 1);
-        Motion.bfsCurr[36] = Motion.bfsCurr[36] | (Motion.bfsCurr[36] >> 1) | (Motion.bfsCurr[36] << 1);
-        Motion.bfsCurr[37] = Motion.bfsCurr[37] | (Motion.bfsCurr[37] >> 1) | (Motion.bfsCurr[37] << 1);
-        Motion.bfsCurr[38] = Motion.bfsCurr[38] | (Motion.bfsCurr[38] >> 1) | (Motion.bfsCurr[38] << 1);
-        Motion.bfsCurr[39] = Motion.bfsCurr[39] | (Motion.bfsCurr[39] >> 1) | (Motion.bfsCurr[39] << 1);
-        Motion.bfsCurr[40] = Motion.bfsCurr[40] | (Motion.bfsCurr[40] >> 1) | (Motion.bfsCurr[40] << 1);
-        Motion.bfsCurr[41] = Motion.bfsCurr[41] | (Motion.bfsCurr[41] >> 1) | (Motion.bfsCurr[41] << 1);
-        Motion.bfsCurr[42] = Motion.bfsCurr[42] | (Motion.bfsCurr[42] >> 1) | (Motion.bfsCurr[42] << 1);
-        Motion.bfsCurr[43] = Motion.bfsCurr[43] | (Motion.bfsCurr[43] >> 1) | (Motion.bfsCurr[43] << 1);
-        Motion.bfsCurr[44] = Motion.bfsCurr[44] | (Motion.bfsCurr[44] >> 1) | (Motion.bfsCurr[44] << 1);
-        Motion.bfsCurr[45] = Motion.bfsCurr[45] | (Motion.bfsCurr[45] >> 1) | (Motion.bfsCurr[45] << 1);
-        Motion.bfsCurr[46] = Motion.bfsCurr[46] | (Motion.bfsCurr[46] >> 1) | (Motion.bfsCurr[46] << 1);
-        Motion.bfsCurr[47] = Motion.bfsCurr[47] | (Motion.bfsCurr[47] >> 1) | (Motion.bfsCurr[47] << 1);
-        Motion.bfsDist[Motion.stepOffset + 1] = (Motion.bfsCurr[1] | Motion.bfsCurr[0] | Motion.bfsCurr[2]) & (Motion.bitmask ^ Motion.bfsMap[1]);
-        Motion.bfsDist[Motion.stepOffset + 2] = (Motion.bfsCurr[2] | Motion.bfsCurr[1] | Motion.bfsCurr[3]) & (Motion.bitmask ^ Motion.bfsMap[2]);
-        Motion.bfsDist[Motion.stepOffset + 3] = (Motion.bfsCurr[3] | Motion.bfsCurr[2] | Motion.bfsCurr[4]) & (Motion.bitmask ^ Motion.bfsMap[3]);
-        Motion.bfsDist[Motion.stepOffset + 4] = (Motion.bfsCurr[4] | Motion.bfsCurr[3] | Motion.bfsCurr[5]) & (Motion.bitmask ^ Motion.bfsMap[4]);
-        Motion.bfsDist[Motion.stepOffset + 5] = (Motion.bfsCurr[5] | Motion.bfsCurr[4] | Motion.bfsCurr[6]) & (Motion.bitmask ^ Motion.bfsMap[5]);
-        Motion.bfsDist[Motion.stepOffset + 6] = (Motion.bfsCurr[6] | Motion.bfsCurr[5] | Motion.bfsCurr[7]) & (Motion.bitmask ^ Motion.bfsMap[6]);
-        Motion.bfsDist[Motion.stepOffset + 7] = (Motion.bfsCurr[7] | Motion.bfsCurr[6] | Motion.bfsCurr[8]) & (Motion.bitmask ^ Motion.bfsMap[7]);
-        Motion.bfsDist[Motion.stepOffset + 8] = (Motion.bfsCurr[8] | Motion.bfsCurr[7] | Motion.bfsCurr[9]) & (Motion.bitmask ^ Motion.bfsMap[8]);
-        Motion.bfsDist[Motion.stepOffset + 9] = (Motion.bfsCurr[9] | Motion.bfsCurr[8] | Motion.bfsCurr[10]) & (Motion.bitmask ^ Motion.bfsMap[9]);
-        Motion.bfsDist[Motion.stepOffset + 10] = (Motion.bfsCurr[10] | Motion.bfsCurr[9] | Motion.bfsCurr[11]) & (Motion.bitmask ^ Motion.bfsMap[10]);
-        Motion.bfsDist[Motion.stepOffset + 11] = (Motion.bfsCurr[11] | Motion.bfsCurr[10] | Motion.bfsCurr[12]) & (Motion.bitmask ^ Motion.bfsMap[11]);
-        Motion.bfsDist[Motion.stepOffset + 12] = (Motion.bfsCurr[12] | Motion.bfsCurr[11] | Motion.bfsCurr[13]) & (Motion.bitmask ^ Motion.bfsMap[12]);
-        Motion.bfsDist[Motion.stepOffset + 13] = (Motion.bfsCurr[13] | Motion.bfsCurr[12] | Motion.bfsCurr[14]) & (Motion.bitmask ^ Motion.bfsMap[13]);
-        Motion.bfsDist[Motion.stepOffset + 14] = (Motion.bfsCurr[14] | Motion.bfsCurr[13] | Motion.bfsCurr[15]) & (Motion.bitmask ^ Motion.bfsMap[14]);
-        Motion.bfsDist[Motion.stepOffset + 15] = (Motion.bfsCurr[15] | Motion.bfsCurr[14] | Motion.bfsCurr[16]) & (Motion.bitmask ^ Motion.bfsMap[15]);
-        Motion.bfsDist[Motion.stepOffset + 16] = (Motion.bfsCurr[16] | Motion.bfsCurr[15] | Motion.bfsCurr[17]) & (Motion.bitmask ^ Motion.bfsMap[16]);
-        Motion.bfsDist[Motion.stepOffset + 17] = (Motion.bfsCurr[17] | Motion.bfsCurr[16] | Motion.bfsCurr[18]) & (Motion.bitmask ^ Motion.bfsMap[17]);
-        Motion.bfsDist[Motion.stepOffset + 18] = (Motion.bfsCurr[18] | Motion.bfsCurr[17] | Motion.bfsCurr[19]) & (Motion.bitmask ^ Motion.bfsMap[18]);
-        Motion.bfsDist[Motion.stepOffset + 19] = (Motion.bfsCurr[19] | Motion.bfsCurr[18] | Motion.bfsCurr[20]) & (Motion.bitmask ^ Motion.bfsMap[19]);
-        Motion.bfsDist[Motion.stepOffset + 20] = (Motion.bfsCurr[20] | Motion.bfsCurr[19] | Motion.bfsCurr[21]) & (Motion.bitmask ^ Motion.bfsMap[20]);
-        Motion.bfsDist[Motion.stepOffset + 21] = (Motion.bfsCurr[21] | Motion.bfsCurr[20] | Motion.bfsCurr[22]) & (Motion.bitmask ^ Motion.bfsMap[21]);
-        Motion.bfsDist[Motion.stepOffset + 22] = (Motion.bfsCurr[22] | Motion.bfsCurr[21] | Motion.bfsCurr[23]) & (Motion.bitmask ^ Motion.bfsMap[22]);
-        Motion.bfsDist[Motion.stepOffset + 23] = (Motion.bfsCurr[23] | Motion.bfsCurr[22] | Motion.bfsCurr[24]) & (Motion.bitmask ^ Motion.bfsMap[23]);
-        Motion.bfsDist[Motion.stepOffset + 24] = (Motion.bfsCurr[24] | Motion.bfsCurr[23] | Motion.bfsCurr[25]) & (Motion.bitmask ^ Motion.bfsMap[24]);
-        Motion.bfsDist[Motion.stepOffset + 25] = (Motion.bfsCurr[25] | Motion.bfsCurr[24] | Motion.bfsCurr[26]) & (Motion.bitmask ^ Motion.bfsMap[25]);
-        Motion.bfsDist[Motion.stepOffset + 26] = (Motion.bfsCurr[26] | Motion.bfsCurr[25] | Motion.bfsCurr[27]) & (Motion.bitmask ^ Motion.bfsMap[26]);
-        Motion.bfsDist[Motion.stepOffset + 27] = (Motion.bfsCurr[27] | Motion.bfsCurr[26] | Motion.bfsCurr[28]) & (Motion.bitmask ^ Motion.bfsMap[27]);
-        Motion.bfsDist[Motion.stepOffset + 28] = (Motion.bfsCurr[28] | Motion.bfsCurr[27] | Motion.bfsCurr[29]) & (Motion.bitmask ^ Motion.bfsMap[28]);
-        Motion.bfsDist[Motion.stepOffset + 29] = (Motion.bfsCurr[29] | Motion.bfsCurr[28] | Motion.bfsCurr[30]) & (Motion.bitmask ^ Motion.bfsMap[29]);
-        Motion.bfsDist[Motion.stepOffset + 30] = (Motion.bfsCurr[30] | Motion.bfsCurr[29] | Motion.bfsCurr[31]) & (Motion.bitmask ^ Motion.bfsMap[30]);
-        Motion.bfsDist[Motion.stepOffset + 31] = (Motion.bfsCurr[31] | Motion.bfsCurr[30] | Motion.bfsCurr[32]) & (Motion.bitmask ^ Motion.bfsMap[31]);
-        Motion.bfsDist[Motion.stepOffset + 32] = (Motion.bfsCurr[32] | Motion.bfsCurr[31] | Motion.bfsCurr[33]) & (Motion.bitmask ^ Motion.bfsMap[32]);
-        Motion.bfsDist[Motion.stepOffset + 33] = (Motion.bfsCurr[33] | Motion.bfsCurr[32] | Motion.bfsCurr[34]) & (Motion.bitmask ^ Motion.bfsMap[33]);
-        Motion.bfsDist[Motion.stepOffset + 34] = (Motion.bfsCurr[34] | Motion.bfsCurr[33] | Motion.bfsCurr[35]) & (Motion.bitmask ^ Motion.bfsMap[34]);
-        Motion.bfsDist[Motion.stepOffset + 35] = (Motion.bfsCurr[35] | Motion.bfsCurr[34] | Motion.bfsCurr[36]) & (Motion.bitmask ^ Motion.bfsMap[35]);
-        Motion.bfsDist[Motion.stepOffset + 36] = (Motion.bfsCurr[36] | Motion.bfsCurr[35] | Motion.bfsCurr[37]) & (Motion.bitmask ^ Motion.bfsMap[36]);
-        Motion.bfsDist[Motion.stepOffset + 37] = (Motion.bfsCurr[37] | Motion.bfsCurr[36] | Motion.bfsCurr[38]) & (Motion.bitmask ^ Motion.bfsMap[37]);
-        Motion.bfsDist[Motion.stepOffset + 38] = (Motion.bfsCurr[38] | Motion.bfsCurr[37] | Motion.bfsCurr[39]) & (Motion.bitmask ^ Motion.bfsMap[38]);
-        Motion.bfsDist[Motion.stepOffset + 39] = (Motion.bfsCurr[39] | Motion.bfsCurr[38] | Motion.bfsCurr[40]) & (Motion.bitmask ^ Motion.bfsMap[39]);
-        Motion.bfsDist[Motion.stepOffset + 40] = (Motion.bfsCurr[40] | Motion.bfsCurr[39] | Motion.bfsCurr[41]) & (Motion.bitmask ^ Motion.bfsMap[40]);
-        Motion.bfsDist[Motion.stepOffset + 41] = (Motion.bfsCurr[41] | Motion.bfsCurr[40] | Motion.bfsCurr[42]) & (Motion.bitmask ^ Motion.bfsMap[41]);
-        Motion.bfsDist[Motion.stepOffset + 42] = (Motion.bfsCurr[42] | Motion.bfsCurr[41] | Motion.bfsCurr[43]) & (Motion.bitmask ^ Motion.bfsMap[42]);
-        Motion.bfsDist[Motion.stepOffset + 43] = (Motion.bfsCurr[43] | Motion.bfsCurr[42] | Motion.bfsCurr[44]) & (Motion.bitmask ^ Motion.bfsMap[43]);
-        Motion.bfsDist[Motion.stepOffset + 44] = (Motion.bfsCurr[44] | Motion.bfsCurr[43] | Motion.bfsCurr[45]) & (Motion.bitmask ^ Motion.bfsMap[44]);
-        Motion.bfsDist[Motion.stepOffset + 45] = (Motion.bfsCurr[45] | Motion.bfsCurr[44] | Motion.bfsCurr[46]) & (Motion.bitmask ^ Motion.bfsMap[45]);
-        Motion.bfsDist[Motion.stepOffset + 46] = (Motion.bfsCurr[46] | Motion.bfsCurr[45] | Motion.bfsCurr[47]) & (Motion.bitmask ^ Motion.bfsMap[46]);
-        Motion.bfsDist[Motion.stepOffset + 47] = (Motion.bfsCurr[47] | Motion.bfsCurr[46] | Motion.bfsCurr[48]) & (Motion.bitmask ^ Motion.bfsMap[47]);
-        Motion.bfsCurr[1] = Motion.bfsDist[Motion.stepOffset + 1];
-        Motion.bfsCurr[2] = Motion.bfsDist[Motion.stepOffset + 2];
-        Motion.bfsCurr[3] = Motion.bfsDist[Motion.stepOffset + 3];
-        Motion.bfsCurr[4] = Motion.bfsDist[Motion.stepOffset + 4];
-        Motion.bfsCurr[5] = Motion.bfsDist[Motion.stepOffset + 5];
-        Motion.bfsCurr[6] = Motion.bfsDist[Motion.stepOffset + 6];
-        Motion.bfsCurr[7] = Motion.bfsDist[Motion.stepOffset + 7];
-        Motion.bfsCurr[8] = Motion.bfsDist[Motion.stepOffset + 8];
-        Motion.bfsCurr[9] = Motion.bfsDist[Motion.stepOffset + 9];
-        Motion.bfsCurr[10] = Motion.bfsDist[Motion.stepOffset + 10];
-        Motion.bfsCurr[11] = Motion.bfsDist[Motion.stepOffset + 11];
-        Motion.bfsCurr[12] = Motion.bfsDist[Motion.stepOffset + 12];
-        Motion.bfsCurr[13] = Motion.bfsDist[Motion.stepOffset + 13];
-        Motion.bfsCurr[14] = Motion.bfsDist[Motion.stepOffset + 14];
-        Motion.bfsCurr[15] = Motion.bfsDist[Motion.stepOffset + 15];
-        Motion.bfsCurr[16] = Motion.bfsDist[Motion.stepOffset + 16];
-        Motion.bfsCurr[17] = Motion.bfsDist[Motion.stepOffset + 17];
-        Motion.bfsCurr[18] = Motion.bfsDist[Motion.stepOffset + 18];
-        Motion.bfsCurr[19] = Motion.bfsDist[Motion.stepOffset + 19];
-        Motion.bfsCurr[20] = Motion.bfsDist[Motion.stepOffset + 20];
-        Motion.bfsCurr[21] = Motion.bfsDist[Motion.stepOffset + 21];
-        Motion.bfsCurr[22] = Motion.bfsDist[Motion.stepOffset + 22];
-        Motion.bfsCurr[23] = Motion.bfsDist[Motion.stepOffset + 23];
-        Motion.bfsCurr[24] = Motion.bfsDist[Motion.stepOffset + 24];
-        Motion.bfsCurr[25] = Motion.bfsDist[Motion.stepOffset + 25];
-        Motion.bfsCurr[26] = Motion.bfsDist[Motion.stepOffset + 26];
-        Motion.bfsCurr[27] = Motion.bfsDist[Motion.stepOffset + 27];
-        Motion.bfsCurr[28] = Motion.bfsDist[Motion.stepOffset + 28];
-        Motion.bfsCurr[29] = Motion.bfsDist[Motion.stepOffset + 29];
-        Motion.bfsCurr[30] = Motion.bfsDist[Motion.stepOffset + 30];
-        Motion.bfsCurr[31] = Motion.bfsDist[Motion.stepOffset + 31];
-        Motion.bfsCurr[32] = Motion.bfsDist[Motion.stepOffset + 32];
-        Motion.bfsCurr[33] = Motion.bfsDist[Motion.stepOffset + 33];
-        Motion.bfsCurr[34] = Motion.bfsDist[Motion.stepOffset + 34];
-        Motion.bfsCurr[35] = Motion.bfsDist[Motion.stepOffset + 35];
-        Motion.bfsCurr[36] = Motion.bfsDist[Motion.stepOffset + 36];
-        Motion.bfsCurr[37] = Motion.bfsDist[Motion.stepOffset + 37];
-        Motion.bfsCurr[38] = Motion.bfsDist[Motion.stepOffset + 38];
-        Motion.bfsCurr[39] = Motion.bfsDist[Motion.stepOffset + 39];
-        Motion.bfsCurr[40] = Motion.bfsDist[Motion.stepOffset + 40];
-        Motion.bfsCurr[41] = Motion.bfsDist[Motion.stepOffset + 41];
-        Motion.bfsCurr[42] = Motion.bfsDist[Motion.stepOffset + 42];
-        Motion.bfsCurr[43] = Motion.bfsDist[Motion.stepOffset + 43];
-        Motion.bfsCurr[44] = Motion.bfsDist[Motion.stepOffset + 44];
-        Motion.bfsCurr[45] = Motion.bfsDist[Motion.stepOffset + 45];
-        Motion.bfsCurr[46] = Motion.bfsDist[Motion.stepOffset + 46];
-        Motion.bfsCurr[47] = Motion.bfsDist[Motion.stepOffset + 47];
-    }
-    public static void bfs48() {
-        Motion.bfsCurr[1] = Motion.bfsCurr[1] | (Motion.bfsCurr[1] >> 1) | (Motion.bfsCurr[1] << 1);
-        Motion.bfsCurr[2] = Motion.bfsCurr[2] | (Motion.bfsCurr[2] >> 1) | (Motion.bfsCurr[2] << 1);
-        Motion.bfsCurr[3] = Motion.bfsCurr[3] | (Motion.bfsCurr[3] >> 1) | (Motion.bfsCurr[3] << 1);
-        Motion.bfsCurr[4] = Motion.bfsCurr[4] | (Motion.bfsCurr[4] >> 1) | (Motion.bfsCurr[4] << 1);
-        Motion.bfsCurr[5] = Motion.bfsCurr[5] | (Motion.bfsCurr[5] >> 1) | (Motion.bfsCurr[5] << 1);
-        Motion.bfsCurr[6] = Motion.bfsCurr[6] | (Motion.bfsCurr[6] >> 1) | (Motion.bfsCurr[6] << 1);
-        Motion.bfsCurr[7] = Motion.bfsCurr[7] | (Motion.bfsCurr[7] >> 1) | (Motion.bfsCurr[7] << 1);
-        Motion.bfsCurr[8] = Motion.bfsCurr[8] | (Motion.bfsCurr[8] >> 1) | (Motion.bfsCurr[8] << 1);
-        Motion.bfsCurr[9] = Motion.bfsCurr[9] | (Motion.bfsCurr[9] >> 1) | (Motion.bfsCurr[9] << 1);
-        Motion.bfsCurr[10] = Motion.bfsCurr[10] | (Motion.bfsCurr[10] >> 1) | (Motion.bfsCurr[10] << 1);
-        Motion.bfsCurr[11] = Motion.bfsCurr[11] | (Motion.bfsCurr[11] >> 1) | (Motion.bfsCurr[11] << 1);
-        Motion.bfsCurr[12] = Motion.bfsCurr[12] | (Motion.bfsCurr[12] >> 1) | (Motion.bfsCurr[12] << 1);
-        Motion.bfsCurr[13] = Motion.bfsCurr[13] | (Motion.bfsCurr[13] >> 1) | (Motion.bfsCurr[13] << 1);
-        Motion.bfsCurr[14] = Motion.bfsCurr[14] | (Motion.bfsCurr[14] >> 1) | (Motion.bfsCurr[14] << 1);
-        Motion.bfsCurr[15] = Motion.bfsCurr[15] | (Motion.bfsCurr[15] >> 1) | (Motion.bfsCurr[15] << 1);
-        Motion.bfsCurr[16] = Motion.bfsCurr[16] | (Motion.bfsCurr[16] >> 1) | (Motion.bfsCurr[16] << 1);
-        Motion.bfsCurr[17] = Motion.bfsCurr[17] | (Motion.bfsCurr[17] >> 1) | (Motion.bfsCurr[17] << 1);
-        Motion.bfsCurr[18] = Motion.bfsCurr[18] | (Motion.bfsCurr[18] >> 1) | (Motion.bfsCurr[18] << 1);
-        Motion.bfsCurr[19] = Motion.bfsCurr[19] | (Motion.bfsCurr[19] >> 1) | (Motion.bfsCurr[19] << 1);
-        Motion.bfsCurr[20] = Motion.bfsCurr[20] | (Motion.bfsCurr[20] >> 1) | (Motion.bfsCurr[20] << 1);
-        Motion.bfsCurr[21] = Motion.bfsCurr[21] | (Motion.bfsCurr[21] >> 1) | (Motion.bfsCurr[21] << 1);
-        Motion.bfsCurr[22] = Motion.bfsCurr[22] | (Motion.bfsCurr[22] >> 1) | (Motion.bfsCurr[22] << 1);
-        Motion.bfsCurr[23] = Motion.bfsCurr[23] | (Motion.bfsCurr[23] >> 1) | (Motion.bfsCurr[23] << 1);
-        Motion.bfsCurr[24] = Motion.bfsCurr[24] | (Motion.bfsCurr[24] >> 1) | (Motion.bfsCurr[24] << 1);
-        Motion.bfsCurr[25] = Motion.bfsCurr[25] | (Motion.bfsCurr[25] >> 1) | (Motion.bfsCurr[25] << 1);
-        Motion.bfsCurr[26] = Motion.bfsCurr[26] | (Motion.bfsCurr[26] >> 1) | (Motion.bfsCurr[26] << 1);
-        Motion.bfsCurr[27] = Motion.bfsCurr[27] | (Motion.bfsCurr[27] >> 1) | (Motion.bfsCurr[27] << 1);
-        Motion.bfsCurr[28] = Motion.bfsCurr[28] | (Motion.bfsCurr[28] >> 1) | (Motion.bfsCurr[28] << 1);
-        Motion.bfsCurr[29] = Motion.bfsCurr[29] | (Motion.bfsCurr[29] >> 1) | (Motion.bfsCurr[29] << 1);
-        Motion.bfsCurr[30] = Motion.bfsCurr[30] | (Motion.bfsCurr[30] >> 1) | (Motion.bfsCurr[30] << 1);
-        Motion.bfsCurr[31] = Motion.bfsCurr[31] | (Motion.bfsCurr[31] >> 1) | (Motion.bfsCurr[31] << 1);
-        Motion.bfsCurr[32] = Motion.bfsCurr[32] | (Motion.bfsCurr[32] >> 1) | (Motion.bfsCurr[32] << 1);
-        Motion.bfsCurr[33] = Motion.bfsCurr[33] | (Motion.bfsCurr[33] >> 1) | (Motion.bfsCurr[33] << 1);
-        Motion.bfsCurr[34] = Motion.bfsCurr[34] | (Motion.bfsCurr[34] >> 1) | (Motion.bfsCurr[34] << 1);
-        Motion.bfsCurr[35] = Motion.bfsCurr[35] | (Motion.bfsCurr[35] >> 1) | (Motion.bfsCurr[35] << 1);
-        Motion.bfsCurr[36] = Motion.bfsCurr[36] | (Motion.bfsCurr[36] >> 1) | (Motion.bfsCurr[36] << 1);
-        Motion.bfsCurr[37] = Motion.bfsCurr[37] | (Motion.bfsCurr[37] >> 1) | (Motion.bfsCurr[37] << 1);
-        Motion.bfsCurr[38] = Motion.bfsCurr[38] | (Motion.bfsCurr[38] >> 1) | (Motion.bfsCurr[38] << 1);
-        Motion.bfsCurr[39] = Motion.bfsCurr[39] | (Motion.bfsCurr[39] >> 1) | (Motion.bfsCurr[39] << 1);
-        Motion.bfsCurr[40] = Motion.bfsCurr[40] | (Motion.bfsCurr[40] >> 1) | (Motion.bfsCurr[40] << 1);
-        Motion.bfsCurr[41] = Motion.bfsCurr[41] | (Motion.bfsCurr[41] >> 1) | (Motion.bfsCurr[41] << 1);
-        Motion.bfsCurr[42] = Motion.bfsCurr[42] | (Motion.bfsCurr[42] >> 1) | (Motion.bfsCurr[42] << 1);
-        Motion.bfsCurr[43] = Motion.bfsCurr[43] | (Motion.bfsCurr[43] >> 1) | (Motion.bfsCurr[43] << 1);
-        Motion.bfsCurr[44] = Motion.bfsCurr[44] | (Motion.bfsCurr[44] >> 1) | (Motion.bfsCurr[44] << 1);
-        Motion.bfsCurr[45] = Motion.bfsCurr[45] | (Motion.bfsCurr[45] >> 1) | (Motion.bfsCurr[45] << 1);
-        Motion.bfsCurr[46] = Motion.bfsCurr[46] | (Motion.bfsCurr[46] >> 1) | (Motion.bfsCurr[46] << 1);
-        Motion.bfsCurr[47] = Motion.bfsCurr[47] | (Motion.bfsCurr[47] >> 1) | (Motion.bfsCurr[47] << 1);
-        Motion.bfsCurr[48] = Motion.bfsCurr[48] | (Motion.bfsCurr[48] >> 1) | (Motion.bfsCurr[48] << 1);
-        Motion.bfsDist[Motion.stepOffset + 1] = (Motion.bfsCurr[1] | Motion.bfsCurr[0] | Motion.bfsCurr[2]) & (Motion.bitmask ^ Motion.bfsMap[1]);
-        Motion.bfsDist[Motion.stepOffset + 2] = (Motion.bfsCurr[2] | Motion.bfsCurr[1] | Motion.bfsCurr[3]) & (Motion.bitmask ^ Motion.bfsMap[2]);
-        Motion.bfsDist[Motion.stepOffset + 3] = (Motion.bfsCurr[3] | Motion.bfsCurr[2] | Motion.bfsCurr[4]) & (Motion.bitmask ^ Motion.bfsMap[3]);
-        Motion.bfsDist[Motion.stepOffset + 4] = (Motion.bfsCurr[4] | Motion.bfsCurr[3] | Motion.bfsCurr[5]) & (Motion.bitmask ^ Motion.bfsMap[4]);
-        Motion.bfsDist[Motion.stepOffset + 5] = (Motion.bfsCurr[5] | Motion.bfsCurr[4] | Motion.bfsCurr[6]) & (Motion.bitmask ^ Motion.bfsMap[5]);
-        Motion.bfsDist[Motion.stepOffset + 6] = (Motion.bfsCurr[6] | Motion.bfsCurr[5] | Motion.bfsCurr[7]) & (Motion.bitmask ^ Motion.bfsMap[6]);
-        Motion.bfsDist[Motion.stepOffset + 7] = (Motion.bfsCurr[7] | Motion.bfsCurr[6] | Motion.bfsCurr[8]) & (Motion.bitmask ^ Motion.bfsMap[7]);
-        Motion.bfsDist[Motion.stepOffset + 8] = (Motion.bfsCurr[8] | Motion.bfsCurr[7] | Motion.bfsCurr[9]) & (Motion.bitmask ^ Motion.bfsMap[8]);
-        Motion.bfsDist[Motion.stepOffset + 9] = (Motion.bfsCurr[9] | Motion.bfsCurr[8] | Motion.bfsCurr[10]) & (Motion.bitmask ^ Motion.bfsMap[9]);
-        Motion.bfsDist[Motion.stepOffset + 10] = (Motion.bfsCurr[10] | Motion.bfsCurr[9] | Motion.bfsCurr[11]) & (Motion.bitmask ^ Motion.bfsMap[10]);
-        Motion.bfsDist[Motion.stepOffset + 11] = (Motion.bfsCurr[11] | Motion.bfsCurr[10] | Motion.bfsCurr[12]) & (Motion.bitmask ^ Motion.bfsMap[11]);
-        Motion.bfsDist[Motion.stepOffset + 12] = (Motion.bfsCurr[12] | Motion.bfsCurr[11] | Motion.bfsCurr[13]) & (Motion.bitmask ^ Motion.bfsMap[12]);
-        Motion.bfsDist[Motion.stepOffset + 13] = (Motion.bfsCurr[13] | Motion.bfsCurr[12] | Motion.bfsCurr[14]) & (Motion.bitmask ^ Motion.bfsMap[13]);
-        Motion.bfsDist[Motion.stepOffset + 14] = (Motion.bfsCurr[14] | Motion.bfsCurr[13] | Motion.bfsCurr[15]) & (Motion.bitmask ^ Motion.bfsMap[14]);
-        Motion.bfsDist[Motion.stepOffset + 15] = (Motion.bfsCurr[15] | Motion.bfsCurr[14] | Motion.bfsCurr[16]) & (Motion.bitmask ^ Motion.bfsMap[15]);
-        Motion.bfsDist[Motion.stepOffset + 16] = (Motion.bfsCurr[16] | Motion.bfsCurr[15] | Motion.bfsCurr[17]) & (Motion.bitmask ^ Motion.bfsMap[16]);
-        Motion.bfsDist[Motion.stepOffset + 17] = (Motion.bfsCurr[17] | Motion.bfsCurr[16] | Motion.bfsCurr[18]) & (Motion.bitmask ^ Motion.bfsMap[17]);
-        Motion.bfsDist[Motion.stepOffset + 18] = (Motion.bfsCurr[18] | Motion.bfsCurr[17] | Motion.bfsCurr[19]) & (Motion.bitmask ^ Motion.bfsMap[18]);
-        Motion.bfsDist[Motion.stepOffset + 19] = (Motion.bfsCurr[19] | Motion.bfsCurr[18] | Motion.bfsCurr[20]) & (Motion.bitmask ^ Motion.bfsMap[19]);
-        Motion.bfsDist[Motion.stepOffset + 20] = (Motion.bfsCurr[20] | Motion.bfsCurr[19] | Motion.bfsCurr[21]) & (Motion.bitmask ^ Motion.bfsMap[20]);
-        Motion.bfsDist[Motion.stepOffset + 21] = (Motion.bfsCurr[21] | Motion.bfsCurr[20] | Motion.bfsCurr[22]) & (Motion.bitmask ^ Motion.bfsMap[21]);
-        Motion.bfsDist[Motion.stepOffset + 22] = (Motion.bfsCurr[22] | Motion.bfsCurr[21] | Motion.bfsCurr[23]) & (Motion.bitmask ^ Motion.bfsMap[22]);
-        Motion.bfsDist[Motion.stepOffset + 23] = (Motion.bfsCurr[23] | Motion.bfsCurr[22] | Motion.bfsCurr[24]) & (Motion.bitmask ^ Motion.bfsMap[23]);
-        Motion.bfsDist[Motion.stepOffset + 24] = (Motion.bfsCurr[24] | Motion.bfsCurr[23] | Motion.bfsCurr[25]) & (Motion.bitmask ^ Motion.bfsMap[24]);
-        Motion.bfsDist[Motion.stepOffset + 25] = (Motion.bfsCurr[25] | Motion.bfsCurr[24] | Motion.bfsCurr[26]) & (Motion.bitmask ^ Motion.bfsMap[25]);
-        Motion.bfsDist[Motion.stepOffset + 26] = (Motion.bfsCurr[26] | Motion.bfsCurr[25] | Motion.bfsCurr[27]) & (Motion.bitmask ^ Motion.bfsMap[26]);
-        Motion.bfsDist[Motion.stepOffset + 27] = (Motion.bfsCurr[27] | Motion.bfsCurr[26] | Motion.bfsCurr[28]) & (Motion.bitmask ^ Motion.bfsMap[27]);
-        Motion.bfsDist[Motion.stepOffset + 28] = (Motion.bfsCurr[28] | Motion.bfsCurr[27] | Motion.bfsCurr[29]) & (Motion.bitmask ^ Motion.bfsMap[28]);
-        Motion.bfsDist[Motion.stepOffset + 29] = (Motion.bfsCurr[29] | Motion.bfsCurr[28] | Motion.bfsCurr[30]) & (Motion.bitmask ^ Motion.bfsMap[29]);
-        Motion.bfsDist[Motion.stepOffset + 30] = (Motion.bfsCurr[30] | Motion.bfsCurr[29] | Motion.bfsCurr[31]) & (Motion.bitmask ^ Motion.bfsMap[30]);
-        Motion.bfsDist[Motion.stepOffset + 31] = (Motion.bfsCurr[31] | Motion.bfsCurr[30] | Motion.bfsCurr[32]) & (Motion.bitmask ^ Motion.bfsMap[31]);
-        Motion.bfsDist[Motion.stepOffset + 32] = (Motion.bfsCurr[32] | Motion.bfsCurr[31] | Motion.bfsCurr[33]) & (Motion.bitmask ^ Motion.bfsMap[32]);
-        Motion.bfsDist[Motion.stepOffset + 33] = (Motion.bfsCurr[33] | Motion.bfsCurr[32] | Motion.bfsCurr[34]) & (Motion.bitmask ^ Motion.bfsMap[33]);
-        Motion.bfsDist[Motion.stepOffset + 34] = (Motion.bfsCurr[34] | Motion.bfsCurr[33] | Motion.bfsCurr[35]) & (Motion.bitmask ^ Motion.bfsMap[34]);
-        Motion.bfsDist[Motion.stepOffset + 35] = (Motion.bfsCurr[35] | Motion.bfsCurr[34] | Motion.bfsCurr[36]) & (Motion.bitmask ^ Motion.bfsMap[35]);
-        Motion.bfsDist[Motion.stepOffset + 36] = (Motion.bfsCurr[36] | Motion.bfsCurr[35] | Motion.bfsCurr[37]) & (Motion.bitmask ^ Motion.bfsMap[36]);
-        Motion.bfsDist[Motion.stepOffset + 37] = (Motion.bfsCurr[37] | Motion.bfsCurr[36] | Motion.bfsCurr[38]) & (Motion.bitmask ^ Motion.bfsMap[37]);
-        Motion.bfsDist[Motion.stepOffset + 38] = (Motion.bfsCurr[38] | Motion.bfsCurr[37] | Motion.bfsCurr[39]) & (Motion.bitmask ^ Motion.bfsMap[38]);
-        Motion.bfsDist[Motion.stepOffset + 39] = (Motion.bfsCurr[39] | Motion.bfsCurr[38] | Motion.bfsCurr[40]) & (Motion.bitmask ^ Motion.bfsMap[39]);
-        Motion.bfsDist[Motion.stepOffset + 40] = (Motion.bfsCurr[40] | Motion.bfsCurr[39] | Motion.bfsCurr[41]) & (Motion.bitmask ^ Motion.bfsMap[40]);
-        Motion.bfsDist[Motion.stepOffset + 41] = (Motion.bfsCurr[41] | Motion.bfsCurr[40] | Motion.bfsCurr[42]) & (Motion.bitmask ^ Motion.bfsMap[41]);
-        Motion.bfsDist[Motion.stepOffset + 42] = (Motion.bfsCurr[42] | Motion.bfsCurr[41] | Motion.bfsCurr[43]) & (Motion.bitmask ^ Motion.bfsMap[42]);
-        Motion.bfsDist[Motion.stepOffset + 43] = (Motion.bfsCurr[43] | Motion.bfsCurr[42] | Motion.bfsCurr[44]) & (Motion.bitmask ^ Motion.bfsMap[43]);
-        Motion.bfsDist[Motion.stepOffset + 44] = (Motion.bfsCurr[44] | Motion.bfsCurr[43] | Motion.bfsCurr[45]) & (Motion.bitmask ^ Motion.bfsMap[44]);
-        Motion.bfsDist[Motion.stepOffset + 45] = (Motion.bfsCurr[45] | Motion.bfsCurr[44] | Motion.bfsCurr[46]) & (Motion.bitmask ^ Motion.bfsMap[45]);
-        Motion.bfsDist[Motion.stepOffset + 46] = (Motion.bfsCurr[46] | Motion.bfsCurr[45] | Motion.bfsCurr[47]) & (Motion.bitmask ^ Motion.bfsMap[46]);
-        Motion.bfsDist[Motion.stepOffset + 47] = (Motion.bfsCurr[47] | Motion.bfsCurr[46] | Motion.bfsCurr[48]) & (Motion.bitmask ^ Motion.bfsMap[47]);
-        Motion.bfsDist[Motion.stepOffset + 48] = (Motion.bfsCurr[48] | Motion.bfsCurr[47] | Motion.bfsCurr[49]) & (Motion.bitmask ^ Motion.bfsMap[48]);
-        Motion.bfsCurr[1] = Motion.bfsDist[Motion.stepOffset + 1];
-        Motion.bfsCurr[2] = Motion.bfsDist[Motion.stepOffset + 2];
-        Motion.bfsCurr[3] = Motion.bfsDist[Motion.stepOffset + 3];
-        Motion.bfsCurr[4] = Motion.bfsDist[Motion.stepOffset + 4];
-        Motion.bfsCurr[5] = Motion.bfsDist[Motion.stepOffset + 5];
-        Motion.bfsCurr[6] = Motion.bfsDist[Motion.stepOffset + 6];
-        Motion.bfsCurr[7] = Motion.bfsDist[Motion.stepOffset + 7];
-        Motion.bfsCurr[8] = Motion.bfsDist[Motion.stepOffset + 8];
-        Motion.bfsCurr[9] = Motion.bfsDist[Motion.stepOffset + 9];
-        Motion.bfsCurr[10] = Motion.bfsDist[Motion.stepOffset + 10];
-        Motion.bfsCurr[11] = Motion.bfsDist[Motion.stepOffset + 11];
-        Motion.bfsCurr[12] = Motion.bfsDist[Motion.stepOffset + 12];
-        Motion.bfsCurr[13] = Motion.bfsDist[Motion.stepOffset + 13];
-        Motion.bfsCurr[14] = Motion.bfsDist[Motion.stepOffset + 14];
-        Motion.bfsCurr[15] = Motion.bfsDist[Motion.stepOffset + 15];
-        Motion.bfsCurr[16] = Motion.bfsDist[Motion.stepOffset + 16];
-        Motion.bfsCurr[17] = Motion.bfsDist[Motion.stepOffset + 17];
-        Motion.bfsCurr[18] = Motion.bfsDist[Motion.stepOffset + 18];
-        Motion.bfsCurr[19] = Motion.bfsDist[Motion.stepOffset + 19];
-        Motion.bfsCurr[20] = Motion.bfsDist[Motion.stepOffset + 20];
-        Motion.bfsCurr[21] = Motion.bfsDist[Motion.stepOffset + 21];
-        Motion.bfsCurr[22] = Motion.bfsDist[Motion.stepOffset + 22];
-        Motion.bfsCurr[23] = Motion.bfsDist[Motion.stepOffset + 23];
-        Motion.bfsCurr[24] = Motion.bfsDist[Motion.stepOffset + 24];
-        Motion.bfsCurr[25] = Motion.bfsDist[Motion.stepOffset + 25];
-        Motion.bfsCurr[26] = Motion.bfsDist[Motion.stepOffset + 26];
-        Motion.bfsCurr[27] = Motion.bfsDist[Motion.stepOffset + 27];
-        Motion.bfsCurr[28] = Motion.bfsDist[Motion.stepOffset + 28];
-        Motion.bfsCurr[29] = Motion.bfsDist[Motion.stepOffset + 29];
-        Motion.bfsCurr[30] = Motion.bfsDist[Motion.stepOffset + 30];
-        Motion.bfsCurr[31] = Motion.bfsDist[Motion.stepOffset + 31];
-        Motion.bfsCurr[32] = Motion.bfsDist[Motion.stepOffset + 32];
-        Motion.bfsCurr[33] = Motion.bfsDist[Motion.stepOffset + 33];
-        Motion.bfsCurr[34] = Motion.bfsDist[Motion.stepOffset + 34];
-        Motion.bfsCurr[35] = Motion.bfsDist[Motion.stepOffset + 35];
-        Motion.bfsCurr[36] = Motion.bfsDist[Motion.stepOffset + 36];
-        Motion.bfsCurr[37] = Motion.bfsDist[Motion.stepOffset + 37];
-        Motion.bfsCurr[38] = Motion.bfsDist[Motion.stepOffset + 38];
-        Motion.bfsCurr[39] = Motion.bfsDist[Motion.stepOffset + 39];
-        Motion.bfsCurr[40] = Motion.bfsDist[Motion.stepOffset + 40];
-        Motion.bfsCurr[41] = Motion.bfsDist[Motion.stepOffset + 41];
-        Motion.bfsCurr[42] = Motion.bfsDist[Motion.stepOffset + 42];
-        Motion.bfsCurr[43] = Motion.bfsDist[Motion.stepOffset + 43];
-        Motion.bfsCurr[44] = Motion.bfsDist[Motion.stepOffset + 44];
-        Motion.bfsCurr[45] = Motion.bfsDist[Motion.stepOffset + 45];
-        Motion.bfsCurr[46] = Motion.bfsDist[Motion.stepOffset + 46];
-        Motion.bfsCurr[47] = Motion.bfsDist[Motion.stepOffset + 47];
-        Motion.bfsCurr[48] = Motion.bfsDist[Motion.stepOffset + 48];
-    }
-    public static void bfs49() {
-        Motion.bfsCurr[1] = Motion.bfsCurr[1] | (Motion.bfsCurr[1] >> 1) | (Motion.bfsCurr[1] << 1);
-        Motion.bfsCurr[2] = Motion.bfsCurr[2] | (Motion.bfsCurr[2] >> 1) | (Motion.bfsCurr[2] << 1);
-        Motion.bfsCurr[3] = Motion.bfsCurr[3] | (Motion.bfsCurr[3] >> 1) | (Motion.bfsCurr[3] << 1);
-        Motion.bfsCurr[4] = Motion.bfsCurr[4] | (Motion.bfsCurr[4] >> 1) | (Motion.bfsCurr[4] << 1);
-        Motion.bfsCurr[5] = Motion.bfsCurr[5] | (Motion.bfsCurr[5] >> 1) | (Motion.bfsCurr[5] << 1);
-        Motion.bfsCurr[6] = Motion.bfsCurr[6] | (Motion.bfsCurr[6] >> 1) | (Motion.bfsCurr[6] << 1);
-        Motion.bfsCurr[7] = Motion.bfsCurr[7] | (Motion.bfsCurr[7] >> 1) | (Motion.bfsCurr[7] << 1);
-        Motion.bfsCurr[8] = Motion.bfsCurr[8] | (Motion.bfsCurr[8] >> 1) | (Motion.bfsCurr[8] << 1);
-        Motion.bfsCurr[9] = Motion.bfsCurr[9] | (Motion.bfsCurr[9] >> 1) | (Motion.bfsCurr[9] << 1);
-        Motion.bfsCurr[10] = Motion.bfsCurr[10] | (Motion.bfsCurr[10] >> 1) | (Motion.bfsCurr[10] << 1);
-        Motion.bfsCurr[11] = Motion.bfsCurr[11] | (Motion.bfsCurr[11] >> 1) | (Motion.bfsCurr[11] << 1);
-        Motion.bfsCurr[12] = Motion.bfsCurr[12] | (Motion.bfsCurr[12] >> 1) | (Motion.bfsCurr[12] << 1);
-        Motion.bfsCurr[13] = Motion.bfsCurr[13] | (Motion.bfsCurr[13] >> 1) | (Motion.bfsCurr[13] << 1);
-        Motion.bfsCurr[14] = Motion.bfsCurr[14] | (Motion.bfsCurr[14] >> 1) | (Motion.bfsCurr[14] << 1);
-        Motion.bfsCurr[15] = Motion.bfsCurr[15] | (Motion.bfsCurr[15] >> 1) | (Motion.bfsCurr[15] << 1);
-        Motion.bfsCurr[16] = Motion.bfsCurr[16] | (Motion.bfsCurr[16] >> 1) | (Motion.bfsCurr[16] << 1);
-        Motion.bfsCurr[17] = Motion.bfsCurr[17] | (Motion.bfsCurr[17] >> 1) | (Motion.bfsCurr[17] << 1);
-        Motion.bfsCurr[18] = Motion.bfsCurr[18] | (Motion.bfsCurr[18] >> 1) | (Motion.bfsCurr[18] << 1);
-        Motion.bfsCurr[19] = Motion.bfsCurr[19] | (Motion.bfsCurr[19] >> 1) | (Motion.bfsCurr[19] << 1);
-        Motion.bfsCurr[20] = Motion.bfsCurr[20] | (Motion.bfsCurr[20] >> 1) | (Motion.bfsCurr[20] << 1);
-        Motion.bfsCurr[21] = Motion.bfsCurr[21] | (Motion.bfsCurr[21] >> 1) | (Motion.bfsCurr[21] << 1);
-        Motion.bfsCurr[22] = Motion.bfsCurr[22] | (Motion.bfsCurr[22] >> 1) | (Motion.bfsCurr[22] << 1);
-        Motion.bfsCurr[23] = Motion.bfsCurr[23] | (Motion.bfsCurr[23] >> 1) | (Motion.bfsCurr[23] << 1);
-        Motion.bfsCurr[24] = Motion.bfsCurr[24] | (Motion.bfsCurr[24] >> 1) | (Motion.bfsCurr[24] << 1);
-        Motion.bfsCurr[25] = Motion.bfsCurr[25] | (Motion.bfsCurr[25] >> 1) | (Motion.bfsCurr[25] << 1);
-        Motion.bfsCurr[26] = Motion.bfsCurr[26] | (Motion.bfsCurr[26] >> 1) | (Motion.bfsCurr[26] << 1);
-        Motion.bfsCurr[27] = Motion.bfsCurr[27] | (Motion.bfsCurr[27] >> 1) | (Motion.bfsCurr[27] << 1);
-        Motion.bfsCurr[28] = Motion.bfsCurr[28] | (Motion.bfsCurr[28] >> 1) | (Motion.bfsCurr[28] << 1);
-        Motion.bfsCurr[29] = Motion.bfsCurr[29] | (Motion.bfsCurr[29] >> 1) | (Motion.bfsCurr[29] << 1);
-        Motion.bfsCurr[30] = Motion.bfsCurr[30] | (Motion.bfsCurr[30] >> 1) | (Motion.bfsCurr[30] << 1);
-        Motion.bfsCurr[31] = Motion.bfsCurr[31] | (Motion.bfsCurr[31] >> 1) | (Motion.bfsCurr[31] << 1);
-        Motion.bfsCurr[32] = Motion.bfsCurr[32] | (Motion.bfsCurr[32] >> 1) | (Motion.bfsCurr[32] << 1);
-        Motion.bfsCurr[33] = Motion.bfsCurr[33] | (Motion.bfsCurr[33] >> 1) | (Motion.bfsCurr[33] << 1);
-        Motion.bfsCurr[34] = Motion.bfsCurr[34] | (Motion.bfsCurr[34] >> 1) | (Motion.bfsCurr[34] << 1);
-        Motion.bfsCurr[35] = Motion.bfsCurr[35] | (Motion.bfsCurr[35] >> 1) | (Motion.bfsCurr[35] << 1);
-        Motion.bfsCurr[36] = Motion.bfsCurr[36] | (Motion.bfsCurr[36] >> 1) | (Motion.bfsCurr[36] << 1);
-        Motion.bfsCurr[37] = Motion.bfsCurr[37] | (Motion.bfsCurr[37] >> 1) | (Motion.bfsCurr[37] << 1);
-        Motion.bfsCurr[38] = Motion.bfsCurr[38] | (Motion.bfsCurr[38] >> 1) | (Motion.bfsCurr[38] << 1);
-        Motion.bfsCurr[39] = Motion.bfsCurr[39] | (Motion.bfsCurr[39] >> 1) | (Motion.bfsCurr[39] << 1);
-        Motion.bfsCurr[40] = Motion.bfsCurr[40] | (Motion.bfsCurr[40] >> 1) | (Motion.bfsCurr[40] << 1);
-        Motion.bfsCurr[41] = Motion.bfsCurr[41] | (Motion.bfsCurr[41] >> 1) | (Motion.bfsCurr[41] << 1);
-        Motion.bfsCurr[42] = Motion.bfsCurr[42] | (Motion.bfsCurr[42] >> 1) | (Motion.bfsCurr[42] << 1);
-        Motion.bfsCurr[43] = Motion.bfsCurr[43] | (Motion.bfsCurr[43] >> 1) | (Motion.bfsCurr[43] << 1);
-        Motion.bfsCurr[44] = Motion.bfsCurr[44] | (Motion.bfsCurr[44] >> 1) | (Motion.bfsCurr[44] << 1);
-        Motion.bfsCurr[45] = Motion.bfsCurr[45] | (Motion.bfsCurr[45] >> 1) | (Motion.bfsCurr[45] << 1);
-        Motion.bfsCurr[46] = Motion.bfsCurr[46] | (Motion.bfsCurr[46] >> 1) | (Motion.bfsCurr[46] << 1);
-        Motion.bfsCurr[47] = Motion.bfsCurr[47] | (Motion.bfsCurr[47] >> 1) | (Motion.bfsCurr[47] << 1);
-        Motion.bfsCurr[48] = Motion.bfsCurr[48] | (Motion.bfsCurr[48] >> 1) | (Motion.bfsCurr[48] << 1);
-        Motion.bfsCurr[49] = Motion.bfsCurr[49] | (Motion.bfsCurr[49] >> 1) | (Motion.bfsCurr[49] << 1);
-        Motion.bfsDist[Motion.stepOffset + 1] = (Motion.bfsCurr[1] | Motion.bfsCurr[0] | Motion.bfsCurr[2]) & (Motion.bitmask ^ Motion.bfsMap[1]);
-        Motion.bfsDist[Motion.stepOffset + 2] = (Motion.bfsCurr[2] | Motion.bfsCurr[1] | Motion.bfsCurr[3]) & (Motion.bitmask ^ Motion.bfsMap[2]);
-        Motion.bfsDist[Motion.stepOffset + 3] = (Motion.bfsCurr[3] | Motion.bfsCurr[2] | Motion.bfsCurr[4]) & (Motion.bitmask ^ Motion.bfsMap[3]);
-        Motion.bfsDist[Motion.stepOffset + 4] = (Motion.bfsCurr[4] | Motion.bfsCurr[3] | Motion.bfsCurr[5]) & (Motion.bitmask ^ Motion.bfsMap[4]);
-        Motion.bfsDist[Motion.stepOffset + 5] = (Motion.bfsCurr[5] | Motion.bfsCurr[4] | Motion.bfsCurr[6]) & (Motion.bitmask ^ Motion.bfsMap[5]);
-        Motion.bfsDist[Motion.stepOffset + 6] = (Motion.bfsCurr[6] | Motion.bfsCurr[5] | Motion.bfsCurr[7]) & (Motion.bitmask ^ Motion.bfsMap[6]);
-        Motion.bfsDist[Motion.stepOffset + 7] = (Motion.bfsCurr[7] | Motion.bfsCurr[6] | Motion.bfsCurr[8]) & (Motion.bitmask ^ Motion.bfsMap[7]);
-        Motion.bfsDist[Motion.stepOffset + 8] = (Motion.bfsCurr[8] | Motion.bfsCurr[7] | Motion.bfsCurr[9]) & (Motion.bitmask ^ Motion.bfsMap[8]);
-        Motion.bfsDist[Motion.stepOffset + 9] = (Motion.bfsCurr[9] | Motion.bfsCurr[8] | Motion.bfsCurr[10]) & (Motion.bitmask ^ Motion.bfsMap[9]);
-        Motion.bfsDist[Motion.stepOffset + 10] = (Motion.bfsCurr[10] | Motion.bfsCurr[9] | Motion.bfsCurr[11]) & (Motion.bitmask ^ Motion.bfsMap[10]);
-        Motion.bfsDist[Motion.stepOffset + 11] = (Motion.bfsCurr[11] | Motion.bfsCurr[10] | Motion.bfsCurr[12]) & (Motion.bitmask ^ Motion.bfsMap[11]);
-        Motion.bfsDist[Motion.stepOffset + 12] = (Motion.bfsCurr[12] | Motion.bfsCurr[11] | Motion.bfsCurr[13]) & (Motion.bitmask ^ Motion.bfsMap[12]);
-        Motion.bfsDist[Motion.stepOffset + 13] = (Motion.bfsCurr[13] | Motion.bfsCurr[12] | Motion.bfsCurr[14]) & (Motion.bitmask ^ Motion.bfsMap[13]);
-        Motion.bfsDist[Motion.stepOffset + 14] = (Motion.bfsCurr[14] | Motion.bfsCurr[13] | Motion.bfsCurr[15]) & (Motion.bitmask ^ Motion.bfsMap[14]);
-        Motion.bfsDist[Motion.stepOffset + 15] = (Motion.bfsCurr[15] | Motion.bfsCurr[14] | Motion.bfsCurr[16]) & (Motion.bitmask ^ Motion.bfsMap[15]);
-        Motion.bfsDist[Motion.stepOffset + 16] = (Motion.bfsCurr[16] | Motion.bfsCurr[15] | Motion.bfsCurr[17]) & (Motion.bitmask ^ Motion.bfsMap[16]);
-        Motion.bfsDist[Motion.stepOffset + 17] = (Motion.bfsCurr[17] | Motion.bfsCurr[16] | Motion.bfsCurr[18]) & (Motion.bitmask ^ Motion.bfsMap[17]);
-        Motion.bfsDist[Motion.stepOffset + 18] = (Motion.bfsCurr[18] | Motion.bfsCurr[17] | Motion.bfsCurr[19]) & (Motion.bitmask ^ Motion.bfsMap[18]);
-        Motion.bfsDist[Motion.stepOffset + 19] = (Motion.bfsCurr[19] | Motion.bfsCurr[18] | Motion.bfsCurr[20]) & (Motion.bitmask ^ Motion.bfsMap[19]);
-        Motion.bfsDist[Motion.stepOffset + 20] = (Motion.bfsCurr[20] | Motion.bfsCurr[19] | Motion.bfsCurr[21]) & (Motion.bitmask ^ Motion.bfsMap[20]);
-        Motion.bfsDist[Motion.stepOffset + 21] = (Motion.bfsCurr[21] | Motion.bfsCurr[20] | Motion.bfsCurr[22]) & (Motion.bitmask ^ Motion.bfsMap[21]);
-        Motion.bfsDist[Motion.stepOffset + 22] = (Motion.bfsCurr[22] | Motion.bfsCurr[21] | Motion.bfsCurr[23]) & (Motion.bitmask ^ Motion.bfsMap[22]);
-        Motion.bfsDist[Motion.stepOffset + 23] = (Motion.bfsCurr[23] | Motion.bfsCurr[22] | Motion.bfsCurr[24]) & (Motion.bitmask ^ Motion.bfsMap[23]);
-        Motion.bfsDist[Motion.stepOffset + 24] = (Motion.bfsCurr[24] | Motion.bfsCurr[23] | Motion.bfsCurr[25]) & (Motion.bitmask ^ Motion.bfsMap[24]);
-        Motion.bfsDist[Motion.stepOffset + 25] = (Motion.bfsCurr[25] | Motion.bfsCurr[24] | Motion.bfsCurr[26]) & (Motion.bitmask ^ Motion.bfsMap[25]);
-        Motion.bfsDist[Motion.stepOffset + 26] = (Motion.bfsCurr[26] | Motion.bfsCurr[25] | Motion.bfsCurr[27]) & (Motion.bitmask ^ Motion.bfsMap[26]);
-        Motion.bfsDist[Motion.stepOffset + 27] = (Motion.bfsCurr[27] | Motion.bfsCurr[26] | Motion.bfsCurr[28]) & (Motion.bitmask ^ Motion.bfsMap[27]);
-        Motion.bfsDist[Motion.stepOffset + 28] = (Motion.bfsCurr[28] | Motion.bfsCurr[27] | Motion.bfsCurr[29]) & (Motion.bitmask ^ Motion.bfsMap[28]);
-        Motion.bfsDist[Motion.stepOffset + 29] = (Motion.bfsCurr[29] | Motion.bfsCurr[28] | Motion.bfsCurr[30]) & (Motion.bitmask ^ Motion.bfsMap[29]);
-        Motion.bfsDist[Motion.stepOffset + 30] = (Motion.bfsCurr[30] | Motion.bfsCurr[29] | Motion.bfsCurr[31]) & (Motion.bitmask ^ Motion.bfsMap[30]);
-        Motion.bfsDist[Motion.stepOffset + 31] = (Motion.bfsCurr[31] | Motion.bfsCurr[30] | Motion.bfsCurr[32]) & (Motion.bitmask ^ Motion.bfsMap[31]);
-        Motion.bfsDist[Motion.stepOffset + 32] = (Motion.bfsCurr[32] | Motion.bfsCurr[31] | Motion.bfsCurr[33]) & (Motion.bitmask ^ Motion.bfsMap[32]);
-        Motion.bfsDist[Motion.stepOffset + 33] = (Motion.bfsCurr[33] | Motion.bfsCurr[32] | Motion.bfsCurr[34]) & (Motion.bitmask ^ Motion.bfsMap[33]);
-        Motion.bfsDist[Motion.stepOffset + 34] = (Motion.bfsCurr[34] | Motion.bfsCurr[33] | Motion.bfsCurr[35]) & (Motion.bitmask ^ Motion.bfsMap[34]);
-        Motion.bfsDist[Motion.stepOffset + 35] = (Motion.bfsCurr[35] | Motion.bfsCurr[34] | Motion.bfsCurr[36]) & (Motion.bitmask ^ Motion.bfsMap[35]);
-        Motion.bfsDist[Motion.stepOffset + 36] = (Motion.bfsCurr[36] | Motion.bfsCurr[35] | Motion.bfsCurr[37]) & (Motion.bitmask ^ Motion.bfsMap[36]);
-        Motion.bfsDist[Motion.stepOffset + 37] = (Motion.bfsCurr[37] | Motion.bfsCurr[36] | Motion.bfsCurr[38]) & (Motion.bitmask ^ Motion.bfsMap[37]);
-        Motion.bfsDist[Motion.stepOffset + 38] = (Motion.bfsCurr[38] | Motion.bfsCurr[37] | Motion.bfsCurr[39]) & (Motion.bitmask ^ Motion.bfsMap[38]);
-        Motion.bfsDist[Motion.stepOffset + 39] = (Motion.bfsCurr[39] | Motion.bfsCurr[38] | Motion.bfsCurr[40]) & (Motion.bitmask ^ Motion.bfsMap[39]);
-        Motion.bfsDist[Motion.stepOffset + 40] = (Motion.bfsCurr[40] | Motion.bfsCurr[39] | Motion.bfsCurr[41]) & (Motion.bitmask ^ Motion.bfsMap[40]);
-        Motion.bfsDist[Motion.stepOffset + 41] = (Motion.bfsCurr[41] | Motion.bfsCurr[40] | Motion.bfsCurr[42]) & (Motion.bitmask ^ Motion.bfsMap[41]);
-        Motion.bfsDist[Motion.stepOffset + 42] = (Motion.bfsCurr[42] | Motion.bfsCurr[41] | Motion.bfsCurr[43]) & (Motion.bitmask ^ Motion.bfsMap[42]);
-        Motion.bfsDist[Motion.stepOffset + 43] = (Motion.bfsCurr[43] | Motion.bfsCurr[42] | Motion.bfsCurr[44]) & (Motion.bitmask ^ Motion.bfsMap[43]);
-        Motion.bfsDist[Motion.stepOffset + 44] = (Motion.bfsCurr[44] | Motion.bfsCurr[43] | Motion.bfsCurr[45]) & (Motion.bitmask ^ Motion.bfsMap[44]);
-        Motion.bfsDist[Motion.stepOffset + 45] = (Motion.bfsCurr[45] | Motion.bfsCurr[44] | Motion.bfsCurr[46]) & (Motion.bitmask ^ Motion.bfsMap[45]);
-        Motion.bfsDist[Motion.stepOffset + 46] = (Motion.bfsCurr[46] | Motion.bfsCurr[45] | Motion.bfsCurr[47]) & (Motion.bitmask ^ Motion.bfsMap[46]);
-        Motion.bfsDist[Motion.stepOffset + 47] = (Motion.bfsCurr[47] | Motion.bfsCurr[46] | Motion.bfsCurr[48]) & (Motion.bitmask ^ Motion.bfsMap[47]);
-        Motion.bfsDist[Motion.stepOffset + 48] = (Motion.bfsCurr[48] | Motion.bfsCurr[47] | Motion.bfsCurr[49]) & (Motion.bitmask ^ Motion.bfsMap[48]);
-        Motion.bfsDist[Motion.stepOffset + 49] = (Motion.bfsCurr[49] | Motion.bfsCurr[48] | Motion.bfsCurr[50]) & (Motion.bitmask ^ Motion.bfsMap[49]);
-        Motion.bfsCurr[1] = Motion.bfsDist[Motion.stepOffset + 1];
-        Motion.bfsCurr[2] = Motion.bfsDist[Motion.stepOffset + 2];
-        Motion.bfsCurr[3] = Motion.bfsDist[Motion.stepOffset + 3];
-        Motion.bfsCurr[4] = Motion.bfsDist[Motion.stepOffset + 4];
-        Motion.bfsCurr[5] = Motion.bfsDist[Motion.stepOffset + 5];
-        Motion.bfsCurr[6] = Motion.bfsDist[Motion.stepOffset + 6];
-        Motion.bfsCurr[7] = Motion.bfsDist[Motion.stepOffset + 7];
-        Motion.bfsCurr[8] = Motion.bfsDist[Motion.stepOffset + 8];
-        Motion.bfsCurr[9] = Motion.bfsDist[Motion.stepOffset + 9];
-        Motion.bfsCurr[10] = Motion.bfsDist[Motion.stepOffset + 10];
-        Motion.bfsCurr[11] = Motion.bfsDist[Motion.stepOffset + 11];
-        Motion.bfsCurr[12] = Motion.bfsDist[Motion.stepOffset + 12];
-        Motion.bfsCurr[13] = Motion.bfsDist[Motion.stepOffset + 13];
-        Motion.bfsCurr[14] = Motion.bfsDist[Motion.stepOffset + 14];
-        Motion.bfsCurr[15] = Motion.bfsDist[Motion.stepOffset + 15];
-        Motion.bfsCurr[16] = Motion.bfsDist[Motion.stepOffset + 16];
-        Motion.bfsCurr[17] = Motion.bfsDist[Motion.stepOffset + 17];
-        Motion.bfsCurr[18] = Motion.bfsDist[Motion.stepOffset + 18];
-        Motion.bfsCurr[19] = Motion.bfsDist[Motion.stepOffset + 19];
-        Motion.bfsCurr[20] = Motion.bfsDist[Motion.stepOffset + 20];
-        Motion.bfsCurr[21] = Motion.bfsDist[Motion.stepOffset + 21];
-        Motion.bfsCurr[22] = Motion.bfsDist[Motion.stepOffset + 22];
-        Motion.bfsCurr[23] = Motion.bfsDist[Motion.stepOffset + 23];
-        Motion.bfsCurr[24] = Motion.bfsDist[Motion.stepOffset + 24];
-        Motion.bfsCurr[25] = Motion.bfsDist[Motion.stepOffset + 25];
-        Motion.bfsCurr[26] = Motion.bfsDist[Motion.stepOffset + 26];
-        Motion.bfsCurr[27] = Motion.bfsDist[Motion.stepOffset + 27];
-        Motion.bfsCurr[28] = Motion.bfsDist[Motion.stepOffset + 28];
-        Motion.bfsCurr[29] = Motion.bfsDist[Motion.stepOffset + 29];
-        Motion.bfsCurr[30] = Motion.bfsDist[Motion.stepOffset + 30];
-        Motion.bfsCurr[31] = Motion.bfsDist[Motion.stepOffset + 31];
-        Motion.bfsCurr[32] = Motion.bfsDist[Motion.stepOffset + 32];
-        Motion.bfsCurr[33] = Motion.bfsDist[Motion.stepOffset + 33];
-        Motion.bfsCurr[34] = Motion.bfsDist[Motion.stepOffset + 34];
-        Motion.bfsCurr[35] = Motion.bfsDist[Motion.stepOffset + 35];
-        Motion.bfsCurr[36] = Motion.bfsDist[Motion.stepOffset + 36];
-        Motion.bfsCurr[37] = Motion.bfsDist[Motion.stepOffset + 37];
-        Motion.bfsCurr[38] = Motion.bfsDist[Motion.stepOffset + 38];
-        Motion.bfsCurr[39] = Motion.bfsDist[Motion.stepOffset + 39];
-        Motion.bfsCurr[40] = Motion.bfsDist[Motion.stepOffset + 40];
-        Motion.bfsCurr[41] = Motion.bfsDist[Motion.stepOffset + 41];
-        Motion.bfsCurr[42] = Motion.bfsDist[Motion.stepOffset + 42];
-        Motion.bfsCurr[43] = Motion.bfsDist[Motion.stepOffset + 43];
-        Motion.bfsCurr[44] = Motion.bfsDist[Motion.stepOffset + 44];
-        Motion.bfsCurr[45] = Motion.bfsDist[Motion.stepOffset + 45];
-        Motion.bfsCurr[46] = Motion.bfsDist[Motion.stepOffset + 46];
-        Motion.bfsCurr[47] = Motion.bfsDist[Motion.stepOffset + 47];
-        Motion.bfsCurr[48] = Motion.bfsDist[Motion.stepOffset + 48];
-        Motion.bfsCurr[49] = Motion.bfsDist[Motion.stepOffset + 49];
-    }
-    public static void bfs50() {
-        Motion.bfsCurr[1] = Motion.bfsCurr[1] | (Motion.bfsCurr[1] >> 1) | (Motion.bfsCurr[1] << 1);
-        Motion.bfsCurr[2] = Motion.bfsCurr[2] | (Motion.bfsCurr[2] >> 1) | (Motion.bfsCurr[2] << 1);
-        Motion.bfsCurr[3] = Motion.bfsCurr[3] | (Motion.bfsCurr[3] >> 1) | (Motion.bfsCurr[3] << 1);
-        Motion.bfsCurr[4] = Motion.bfsCurr[4] | (Motion.bfsCurr[4] >> 1) | (Motion.bfsCurr[4] << 1);
-        Motion.bfsCurr[5] = Motion.bfsCurr[5] | (Motion.bfsCurr[5] >> 1) | (Motion.bfsCurr[5] << 1);
-        Motion.bfsCurr[6] = Motion.bfsCurr[6] | (Motion.bfsCurr[6] >> 1) | (Motion.bfsCurr[6] << 1);
-        Motion.bfsCurr[7] = Motion.bfsCurr[7] | (Motion.bfsCurr[7] >> 1) | (Motion.bfsCurr[7] << 1);
-        Motion.bfsCurr[8] = Motion.bfsCurr[8] | (Motion.bfsCurr[8] >> 1) | (Motion.bfsCurr[8] << 1);
-        Motion.bfsCurr[9] = Motion.bfsCurr[9] | (Motion.bfsCurr[9] >> 1) | (Motion.bfsCurr[9] << 1);
-        Motion.bfsCurr[10] = Motion.bfsCurr[10] | (Motion.bfsCurr[10] >> 1) | (Motion.bfsCurr[10] << 1);
-        Motion.bfsCurr[11] = Motion.bfsCurr[11] | (Motion.bfsCurr[11] >> 1) | (Motion.bfsCurr[11] << 1);
-        Motion.bfsCurr[12] = Motion.bfsCurr[12] | (Motion.bfsCurr[12] >> 1) | (Motion.bfsCurr[12] << 1);
-        Motion.bfsCurr[13] = Motion.bfsCurr[13] | (Motion.bfsCurr[13] >> 1) | (Motion.bfsCurr[13] << 1);
-        Motion.bfsCurr[14] = Motion.bfsCurr[14] | (Motion.bfsCurr[14] >> 1) | (Motion.bfsCurr[14] << 1);
-        Motion.bfsCurr[15] = Motion.bfsCurr[15] | (Motion.bfsCurr[15] >> 1) | (Motion.bfsCurr[15] << 1);
-        Motion.bfsCurr[16] = Motion.bfsCurr[16] | (Motion.bfsCurr[16] >> 1) | (Motion.bfsCurr[16] << 1);
-        Motion.bfsCurr[17] = Motion.bfsCurr[17] | (Motion.bfsCurr[17] >> 1) | (Motion.bfsCurr[17] << 1);
-        Motion.bfsCurr[18] = Motion.bfsCurr[18] | (Motion.bfsCurr[18] >> 1) | (Motion.bfsCurr[18] << 1);
-        Motion.bfsCurr[19] = Motion.bfsCurr[19] | (Motion.bfsCurr[19] >> 1) | (Motion.bfsCurr[19] << 1);
-        Motion.bfsCurr[20] = Motion.bfsCurr[20] | (Motion.bfsCurr[20] >> 1) | (Motion.bfsCurr[20] << 1);
-        Motion.bfsCurr[21] = Motion.bfsCurr[21] | (Motion.bfsCurr[21] >> 1) | (Motion.bfsCurr[21] << 1);
-        Motion.bfsCurr[22] = Motion.bfsCurr[22] | (Motion.bfsCurr[22] >> 1) | (Motion.bfsCurr[22] << 1);
-        Motion.bfsCurr[23] = Motion.bfsCurr[23] | (Motion.bfsCurr[23] >> 1) | (Motion.bfsCurr[23] << 1);
-        Motion.bfsCurr[24] = Motion.bfsCurr[24] | (Motion.bfsCurr[24] >> 1) | (Motion.bfsCurr[24] << 1);
-        Motion.bfsCurr[25] = Motion.bfsCurr[25] | (Motion.bfsCurr[25] >> 1) | (Motion.bfsCurr[25] << 1);
-        Motion.bfsCurr[26] = Motion.bfsCurr[26] | (Motion.bfsCurr[26] >> 1) | (Motion.bfsCurr[26] << 1);
-        Motion.bfsCurr[27] = Motion.bfsCurr[27] | (Motion.bfsCurr[27] >> 1) | (Motion.bfsCurr[27] << 1);
-        Motion.bfsCurr[28] = Motion.bfsCurr[28] | (Motion.bfsCurr[28] >> 1) | (Motion.bfsCurr[28] << 1);
-        Motion.bfsCurr[29] = Motion.bfsCurr[29] | (Motion.bfsCurr[29] >> 1) | (Motion.bfsCurr[29] << 1);
-        Motion.bfsCurr[30] = Motion.bfsCurr[30] | (Motion.bfsCurr[30] >> 1) | (Motion.bfsCurr[30] << 1);
-        Motion.bfsCurr[31] = Motion.bfsCurr[31] | (Motion.bfsCurr[31] >> 1) | (Motion.bfsCurr[31] << 1);
-        Motion.bfsCurr[32] = Motion.bfsCurr[32] | (Motion.bfsCurr[32] >> 1) | (Motion.bfsCurr[32] << 1);
-        Motion.bfsCurr[33] = Motion.bfsCurr[33] | (Motion.bfsCurr[33] >> 1) | (Motion.bfsCurr[33] << 1);
-        Motion.bfsCurr[34] = Motion.bfsCurr[34] | (Motion.bfsCurr[34] >> 1) | (Motion.bfsCurr[34] << 1);
-        Motion.bfsCurr[35] = Motion.bfsCurr[35] | (Motion.bfsCurr[35] >> 1) | (Motion.bfsCurr[35] << 1);
-        Motion.bfsCurr[36] = Motion.bfsCurr[36] | (Motion.bfsCurr[36] >> 1) | (Motion.bfsCurr[36] << 1);
-        Motion.bfsCurr[37] = Motion.bfsCurr[37] | (Motion.bfsCurr[37] >> 1) | (Motion.bfsCurr[37] << 1);
-        Motion.bfsCurr[38] = Motion.bfsCurr[38] | (Motion.bfsCurr[38] >> 1) | (Motion.bfsCurr[38] << 1);
-        Motion.bfsCurr[39] = Motion.bfsCurr[39] | (Motion.bfsCurr[39] >> 1) | (Motion.bfsCurr[39] << 1);
-        Motion.bfsCurr[40] = Motion.bfsCurr[40] | (Motion.bfsCurr[40] >> 1) | (Motion.bfsCurr[40] << 1);
-        Motion.bfsCurr[41] = Motion.bfsCurr[41] | (Motion.bfsCurr[41] >> 1) | (Motion.bfsCurr[41] << 1);
-        Motion.bfsCurr[42] = Motion.bfsCurr[42] | (Motion.bfsCurr[42] >> 1) | (Motion.bfsCurr[42] << 1);
-        Motion.bfsCurr[43] = Motion.bfsCurr[43] | (Motion.bfsCurr[43] >> 1) | (Motion.bfsCurr[43] << 1);
-        Motion.bfsCurr[44] = Motion.bfsCurr[44] | (Motion.bfsCurr[44] >> 1) | (Motion.bfsCurr[44] << 1);
-        Motion.bfsCurr[45] = Motion.bfsCurr[45] | (Motion.bfsCurr[45] >> 1) | (Motion.bfsCurr[45] << 1);
-        Motion.bfsCurr[46] = Motion.bfsCurr[46] | (Motion.bfsCurr[46] >> 1) | (Motion.bfsCurr[46] << 1);
-        Motion.bfsCurr[47] = Motion.bfsCurr[47] | (Motion.bfsCurr[47] >> 1) | (Motion.bfsCurr[47] << 1);
-        Motion.bfsCurr[48] = Motion.bfsCurr[48] | (Motion.bfsCurr[48] >> 1) | (Motion.bfsCurr[48] << 1);
-        Motion.bfsCurr[49] = Motion.bfsCurr[49] | (Motion.bfsCurr[49] >> 1) | (Motion.bfsCurr[49] << 1);
-        Motion.bfsCurr[50] = Motion.bfsCurr[50] | (Motion.bfsCurr[50] >> 1) | (Motion.bfsCurr[50] << 1);
-        Motion.bfsDist[Motion.stepOffset + 1] = (Motion.bfsCurr[1] | Motion.bfsCurr[0] | Motion.bfsCurr[2]) & (Motion.bitmask ^ Motion.bfsMap[1]);
-        Motion.bfsDist[Motion.stepOffset + 2] = (Motion.bfsCurr[2] | Motion.bfsCurr[1] | Motion.bfsCurr[3]) & (Motion.bitmask ^ Motion.bfsMap[2]);
-        Motion.bfsDist[Motion.stepOffset + 3] = (Motion.bfsCurr[3] | Motion.bfsCurr[2] | Motion.bfsCurr[4]) & (Motion.bitmask ^ Motion.bfsMap[3]);
-        Motion.bfsDist[Motion.stepOffset + 4] = (Motion.bfsCurr[4] | Motion.bfsCurr[3] | Motion.bfsCurr[5]) & (Motion.bitmask ^ Motion.bfsMap[4]);
-        Motion.bfsDist[Motion.stepOffset + 5] = (Motion.bfsCurr[5] | Motion.bfsCurr[4] | Motion.bfsCurr[6]) & (Motion.bitmask ^ Motion.bfsMap[5]);
-        Motion.bfsDist[Motion.stepOffset + 6] = (Motion.bfsCurr[6] | Motion.bfsCurr[5] | Motion.bfsCurr[7]) & (Motion.bitmask ^ Motion.bfsMap[6]);
-        Motion.bfsDist[Motion.stepOffset + 7] = (Motion.bfsCurr[7] | Motion.bfsCurr[6] | Motion.bfsCurr[8]) & (Motion.bitmask ^ Motion.bfsMap[7]);
-        Motion.bfsDist[Motion.stepOffset + 8] = (Motion.bfsCurr[8] | Motion.bfsCurr[7] | Motion.bfsCurr[9]) & (Motion.bitmask ^ Motion.bfsMap[8]);
-        Motion.bfsDist[Motion.stepOffset + 9] = (Motion.bfsCurr[9] | Motion.bfsCurr[8] | Motion.bfsCurr[10]) & (Motion.bitmask ^ Motion.bfsMap[9]);
-        Motion.bfsDist[Motion.stepOffset + 10] = (Motion.bfsCurr[10] | Motion.bfsCurr[9] | Motion.bfsCurr[11]) & (Motion.bitmask ^ Motion.bfsMap[10]);
-        Motion.bfsDist[Motion.stepOffset + 11] = (Motion.bfsCurr[11] | Motion.bfsCurr[10] | Motion.bfsCurr[12]) & (Motion.bitmask ^ Motion.bfsMap[11]);
-        Motion.bfsDist[Motion.stepOffset + 12] = (Motion.bfsCurr[12] | Motion.bfsCurr[11] | Motion.bfsCurr[13]) & (Motion.bitmask ^ Motion.bfsMap[12]);
-        Motion.bfsDist[Motion.stepOffset + 13] = (Motion.bfsCurr[13] | Motion.bfsCurr[12] | Motion.bfsCurr[14]) & (Motion.bitmask ^ Motion.bfsMap[13]);
-        Motion.bfsDist[Motion.stepOffset + 14] = (Motion.bfsCurr[14] | Motion.bfsCurr[13] | Motion.bfsCurr[15]) & (Motion.bitmask ^ Motion.bfsMap[14]);
-        Motion.bfsDist[Motion.stepOffset + 15] = (Motion.bfsCurr[15] | Motion.bfsCurr[14] | Motion.bfsCurr[16]) & (Motion.bitmask ^ Motion.bfsMap[15]);
-        Motion.bfsDist[Motion.stepOffset + 16] = (Motion.bfsCurr[16] | Motion.bfsCurr[15] | Motion.bfsCurr[17]) & (Motion.bitmask ^ Motion.bfsMap[16]);
-        Motion.bfsDist[Motion.stepOffset + 17] = (Motion.bfsCurr[17] | Motion.bfsCurr[16] | Motion.bfsCurr[18]) & (Motion.bitmask ^ Motion.bfsMap[17]);
-        Motion.bfsDist[Motion.stepOffset + 18] = (Motion.bfsCurr[18] | Motion.bfsCurr[17] | Motion.bfsCurr[19]) & (Motion.bitmask ^ Motion.bfsMap[18]);
-        Motion.bfsDist[Motion.stepOffset + 19] = (Motion.bfsCurr[19] | Motion.bfsCurr[18] | Motion.bfsCurr[20]) & (Motion.bitmask ^ Motion.bfsMap[19]);
-        Motion.bfsDist[Motion.stepOffset + 20] = (Motion.bfsCurr[20] | Motion.bfsCurr[19] | Motion.bfsCurr[21]) & (Motion.bitmask ^ Motion.bfsMap[20]);
-        Motion.bfsDist[Motion.stepOffset + 21] = (Motion.bfsCurr[21] | Motion.bfsCurr[20] | Motion.bfsCurr[22]) & (Motion.bitmask ^ Motion.bfsMap[21]);
-        Motion.bfsDist[Motion.stepOffset + 22] = (Motion.bfsCurr[22] | Motion.bfsCurr[21] | Motion.bfsCurr[23]) & (Motion.bitmask ^ Motion.bfsMap[22]);
-        Motion.bfsDist[Motion.stepOffset + 23] = (Motion.bfsCurr[23] | Motion.bfsCurr[22] | Motion.bfsCurr[24]) & (Motion.bitmask ^ Motion.bfsMap[23]);
-        Motion.bfsDist[Motion.stepOffset + 24] = (Motion.bfsCurr[24] | Motion.bfsCurr[23] | Motion.bfsCurr[25]) & (Motion.bitmask ^ Motion.bfsMap[24]);
-        Motion.bfsDist[Motion.stepOffset + 25] = (Motion.bfsCurr[25] | Motion.bfsCurr[24] | Motion.bfsCurr[26]) & (Motion.bitmask ^ Motion.bfsMap[25]);
-        Motion.bfsDist[Motion.stepOffset + 26] = (Motion.bfsCurr[26] | Motion.bfsCurr[25] | Motion.bfsCurr[27]) & (Motion.bitmask ^ Motion.bfsMap[26]);
-        Motion.bfsDist[Motion.stepOffset + 27] = (Motion.bfsCurr[27] | Motion.bfsCurr[26] | Motion.bfsCurr[28]) & (Motion.bitmask ^ Motion.bfsMap[27]);
-        Motion.bfsDist[Motion.stepOffset + 28] = (Motion.bfsCurr[28] | Motion.bfsCurr[27] | Motion.bfsCurr[29]) & (Motion.bitmask ^ Motion.bfsMap[28]);
-        Motion.bfsDist[Motion.stepOffset + 29] = (Motion.bfsCurr[29] | Motion.bfsCurr[28] | Motion.bfsCurr[30]) & (Motion.bitmask ^ Motion.bfsMap[29]);
-        Motion.bfsDist[Motion.stepOffset + 30] = (Motion.bfsCurr[30] | Motion.bfsCurr[29] | Motion.bfsCurr[31]) & (Motion.bitmask ^ Motion.bfsMap[30]);
-        Motion.bfsDist[Motion.stepOffset + 31] = (Motion.bfsCurr[31] | Motion.bfsCurr[30] | Motion.bfsCurr[32]) & (Motion.bitmask ^ Motion.bfsMap[31]);
-        Motion.bfsDist[Motion.stepOffset + 32] = (Motion.bfsCurr[32] | Motion.bfsCurr[31] | Motion.bfsCurr[33]) & (Motion.bitmask ^ Motion.bfsMap[32]);
-        Motion.bfsDist[Motion.stepOffset + 33] = (Motion.bfsCurr[33] | Motion.bfsCurr[32] | Motion.bfsCurr[34]) & (Motion.bitmask ^ Motion.bfsMap[33]);
-        Motion.bfsDist[Motion.stepOffset + 34] = (Motion.bfsCurr[34] | Motion.bfsCurr[33] | Motion.bfsCurr[35]) & (Motion.bitmask ^ Motion.bfsMap[34]);
-        Motion.bfsDist[Motion.stepOffset + 35] = (Motion.bfsCurr[35] | Motion.bfsCurr[34] | Motion.bfsCurr[36]) & (Motion.bitmask ^ Motion.bfsMap[35]);
-        Motion.bfsDist[Motion.stepOffset + 36] = (Motion.bfsCurr[36] | Motion.bfsCurr[35] | Motion.bfsCurr[37]) & (Motion.bitmask ^ Motion.bfsMap[36]);
-        Motion.bfsDist[Motion.stepOffset + 37] = (Motion.bfsCurr[37] | Motion.bfsCurr[36] | Motion.bfsCurr[38]) & (Motion.bitmask ^ Motion.bfsMap[37]);
-        Motion.bfsDist[Motion.stepOffset + 38] = (Motion.bfsCurr[38] | Motion.bfsCurr[37] | Motion.bfsCurr[39]) & (Motion.bitmask ^ Motion.bfsMap[38]);
-        Motion.bfsDist[Motion.stepOffset + 39] = (Motion.bfsCurr[39] | Motion.bfsCurr[38] | Motion.bfsCurr[40]) & (Motion.bitmask ^ Motion.bfsMap[39]);
-        Motion.bfsDist[Motion.stepOffset + 40] = (Motion.bfsCurr[40] | Motion.bfsCurr[39] | Motion.bfsCurr[41]) & (Motion.bitmask ^ Motion.bfsMap[40]);
-        Motion.bfsDist[Motion.stepOffset + 41] = (Motion.bfsCurr[41] | Motion.bfsCurr[40] | Motion.bfsCurr[42]) & (Motion.bitmask ^ Motion.bfsMap[41]);
-        Motion.bfsDist[Motion.stepOffset + 42] = (Motion.bfsCurr[42] | Motion.bfsCurr[41] | Motion.bfsCurr[43]) & (Motion.bitmask ^ Motion.bfsMap[42]);
-        Motion.bfsDist[Motion.stepOffset + 43] = (Motion.bfsCurr[43] | Motion.bfsCurr[42] | Motion.bfsCurr[44]) & (Motion.bitmask ^ Motion.bfsMap[43]);
-        Motion.bfsDist[Motion.stepOffset + 44] = (Motion.bfsCurr[44] | Motion.bfsCurr[43] | Motion.bfsCurr[45]) & (Motion.bitmask ^ Motion.bfsMap[44]);
-        Motion.bfsDist[Motion.stepOffset + 45] = (Motion.bfsCurr[45] | Motion.bfsCurr[44] | Motion.bfsCurr[46]) & (Motion.bitmask ^ Motion.bfsMap[45]);
-        Motion.bfsDist[Motion.stepOffset + 46] = (Motion.bfsCurr[46] | Motion.bfsCurr[45] | Motion.bfsCurr[47]) & (Motion.bitmask ^ Motion.bfsMap[46]);
-        Motion.bfsDist[Motion.stepOffset + 47] = (Motion.bfsCurr[47] | Motion.bfsCurr[46] | Motion.bfsCurr[48]) & (Motion.bitmask ^ Motion.bfsMap[47]);
-        Motion.bfsDist[Motion.stepOffset + 48] = (Motion.bfsCurr[48] | Motion.bfsCurr[47] | Motion.bfsCurr[49]) & (Motion.bitmask ^ Motion.bfsMap[48]);
-        Motion.bfsDist[Motion.stepOffset + 49] = (Motion.bfsCurr[49] | Motion.bfsCurr[48] | Motion.bfsCurr[50]) & (Motion.bitmask ^ Motion.bfsMap[49]);
-        Motion.bfsDist[Motion.stepOffset + 50] = (Motion.bfsCurr[50] | Motion.bfsCurr[49] | Motion.bfsCurr[51]) & (Motion.bitmask ^ Motion.bfsMap[50]);
-        Motion.bfsCurr[1] = Motion.bfsDist[Motion.stepOffset + 1];
-        Motion.bfsCurr[2] = Motion.bfsDist[Motion.stepOffset + 2];
-        Motion.bfsCurr[3] = Motion.bfsDist[Motion.stepOffset + 3];
-        Motion.bfsCurr[4] = Motion.bfsDist[Motion.stepOffset + 4];
-        Motion.bfsCurr[5] = Motion.bfsDist[Motion.stepOffset + 5];
-        Motion.bfsCurr[6] = Motion.bfsDist[Motion.stepOffset + 6];
-        Motion.bfsCurr[7] = Motion.bfsDist[Motion.stepOffset + 7];
-        Motion.bfsCurr[8] = Motion.bfsDist[Motion.stepOffset + 8];
-        Motion.bfsCurr[9] = Motion.bfsDist[Motion.stepOffset + 9];
-        Motion.bfsCurr[10] = Motion.bfsDist[Motion.stepOffset + 10];
-        Motion.bfsCurr[11] = Motion.bfsDist[Motion.stepOffset + 11];
-        Motion.bfsCurr[12] = Motion.bfsDist[Motion.stepOffset + 12];
-        Motion.bfsCurr[13] = Motion.bfsDist[Motion.stepOffset + 13];
-        Motion.bfsCurr[14] = Motion.bfsDist[Motion.stepOffset + 14];
-        Motion.bfsCurr[15] = Motion.bfsDist[Motion.stepOffset + 15];
-        Motion.bfsCurr[16] = Motion.bfsDist[Motion.stepOffset + 16];
-        Motion.bfsCurr[17] = Motion.bfsDist[Motion.stepOffset + 17];
-        Motion.bfsCurr[18] = Motion.bfsDist[Motion.stepOffset + 18];
-        Motion.bfsCurr[19] = Motion.bfsDist[Motion.stepOffset + 19];
-        Motion.bfsCurr[20] = Motion.bfsDist[Motion.stepOffset + 20];
-        Motion.bfsCurr[21] = Motion.bfsDist[Motion.stepOffset + 21];
-        Motion.bfsCurr[22] = Motion.bfsDist[Motion.stepOffset + 22];
-        Motion.bfsCurr[23] = Motion.bfsDist[Motion.stepOffset + 23];
-        Motion.bfsCurr[24] = Motion.bfsDist[Motion.stepOffset + 24];
-        Motion.bfsCurr[25] = Motion.bfsDist[Motion.stepOffset + 25];
-        Motion.bfsCurr[26] = Motion.bfsDist[Motion.stepOffset + 26];
-        Motion.bfsCurr[27] = Motion.bfsDist[Motion.stepOffset + 27];
-        Motion.bfsCurr[28] = Motion.bfsDist[Motion.stepOffset + 28];
-        Motion.bfsCurr[29] = Motion.bfsDist[Motion.stepOffset + 29];
-        Motion.bfsCurr[30] = Motion.bfsDist[Motion.stepOffset + 30];
-        Motion.bfsCurr[31] = Motion.bfsDist[Motion.stepOffset + 31];
-        Motion.bfsCurr[32] = Motion.bfsDist[Motion.stepOffset + 32];
-        Motion.bfsCurr[33] = Motion.bfsDist[Motion.stepOffset + 33];
-        Motion.bfsCurr[34] = Motion.bfsDist[Motion.stepOffset + 34];
-        Motion.bfsCurr[35] = Motion.bfsDist[Motion.stepOffset + 35];
-        Motion.bfsCurr[36] = Motion.bfsDist[Motion.stepOffset + 36];
-        Motion.bfsCurr[37] = Motion.bfsDist[Motion.stepOffset + 37];
-        Motion.bfsCurr[38] = Motion.bfsDist[Motion.stepOffset + 38];
-        Motion.bfsCurr[39] = Motion.bfsDist[Motion.stepOffset + 39];
-        Motion.bfsCurr[40] = Motion.bfsDist[Motion.stepOffset + 40];
-        Motion.bfsCurr[41] = Motion.bfsDist[Motion.stepOffset + 41];
-        Motion.bfsCurr[42] = Motion.bfsDist[Motion.stepOffset + 42];
-        Motion.bfsCurr[43] = Motion.bfsDist[Motion.stepOffset + 43];
-        Motion.bfsCurr[44] = Motion.bfsDist[Motion.stepOffset + 44];
-        Motion.bfsCurr[45] = Motion.bfsDist[Motion.stepOffset + 45];
-        Motion.bfsCurr[46] = Motion.bfsDist[Motion.stepOffset + 46];
-        Motion.bfsCurr[47] = Motion.bfsDist[Motion.stepOffset + 47];
-        Motion.bfsCurr[48] = Motion.bfsDist[Motion.stepOffset + 48];
-        Motion.bfsCurr[49] = Motion.bfsDist[Motion.stepOffset + 49];
-        Motion.bfsCurr[50] = Motion.bfsDist[Motion.stepOffset + 50];
-    }
-    public static void bfs51() {
-        Motion.bfsCurr[1] = Motion.bfsCurr[1] | (Motion.bfsCurr[1] >> 1) | (Motion.bfsCurr[1] << 1);
-        Motion.bfsCurr[2] = Motion.bfsCurr[2] | (Motion.bfsCurr[2] >> 1) | (Motion.bfsCurr[2] << 1);
-        Motion.bfsCurr[3] = Motion.bfsCurr[3] | (Motion.bfsCurr[3] >> 1) | (Motion.bfsCurr[3] << 1);
-        Motion.bfsCurr[4] = Motion.bfsCurr[4] | (Motion.bfsCurr[4] >> 1) | (Motion.bfsCurr[4] << 1);
-        Motion.bfsCurr[5] = Motion.bfsCurr[5] | (Motion.bfsCurr[5] >> 1) | (Motion.bfsCurr[5] << 1);
-        Motion.bfsCurr[6] = Motion.bfsCurr[6] | (Motion.bfsCurr[6] >> 1) | (Motion.bfsCurr[6] << 1);
-        Motion.bfsCurr[7] = Motion.bfsCurr[7] | (Motion.bfsCurr[7] >> 1) | (Motion.bfsCurr[7] << 1);
-        Motion.bfsCurr[8] = Motion.bfsCurr[8] | (Motion.bfsCurr[8] >> 1) | (Motion.bfsCurr[8] << 1);
-        Motion.bfsCurr[9] = Motion.bfsCurr[9] | (Motion.bfsCurr[9] >> 1) | (Motion.bfsCurr[9] << 1);
-        Motion.bfsCurr[10] = Motion.bfsCurr[10] | (Motion.bfsCurr[10] >> 1) | (Motion.bfsCurr[10] << 1);
-        Motion.bfsCurr[11] = Motion.bfsCurr[11] | (Motion.bfsCurr[11] >> 1) | (Motion.bfsCurr[11] << 1);
-        Motion.bfsCurr[12] = Motion.bfsCurr[12] | (Motion.bfsCurr[12] >> 1) | (Motion.bfsCurr[12] << 1);
-        Motion.bfsCurr[13] = Motion.bfsCurr[13] | (Motion.bfsCurr[13] >> 1) | (Motion.bfsCurr[13] << 1);
-        Motion.bfsCurr[14] = Motion.bfsCurr[14] | (Motion.bfsCurr[14] >> 1) | (Motion.bfsCurr[14] << 1);
-        Motion.bfsCurr[15] = Motion.bfsCurr[15] | (Motion.bfsCurr[15] >> 1) | (Motion.bfsCurr[15] << 1);
-        Motion.bfsCurr[16] = Motion.bfsCurr[16] | (Motion.bfsCurr[16] >> 1) | (Motion.bfsCurr[16] << 1);
-        Motion.bfsCurr[17] = Motion.bfsCurr[17] | (Motion.bfsCurr[17] >> 1) | (Motion.bfsCurr[17] << 1);
-        Motion.bfsCurr[18] = Motion.bfsCurr[18] | (Motion.bfsCurr[18] >> 1) | (Motion.bfsCurr[18] << 1);
-        Motion.bfsCurr[19] = Motion.bfsCurr[19] | (Motion.bfsCurr[19] >> 1) | (Motion.bfsCurr[19] << 1);
-        Motion.bfsCurr[20] = Motion.bfsCurr[20] | (Motion.bfsCurr[20] >> 1) | (Motion.bfsCurr[20] << 1);
-        Motion.bfsCurr[21] = Motion.bfsCurr[21] | (Motion.bfsCurr[21] >> 1) | (Motion.bfsCurr[21] << 1);
-        Motion.bfsCurr[22] = Motion.bfsCurr[22] | (Motion.bfsCurr[22] >> 1) | (Motion.bfsCurr[22] << 1);
-        Motion.bfsCurr[23] = Motion.bfsCurr[23] | (Motion.bfsCurr[23] >> 1) | (Motion.bfsCurr[23] << 1);
-        Motion.bfsCurr[24] = Motion.bfsCurr[24] | (Motion.bfsCurr[24] >> 1) | (Motion.bfsCurr[24] << 1);
-        Motion.bfsCurr[25] = Motion.bfsCurr[25] | (Motion.bfsCurr[25] >> 1) | (Motion.bfsCurr[25] << 1);
-        Motion.bfsCurr[26] = Motion.bfsCurr[26] | (Motion.bfsCurr[26] >> 1) | (Motion.bfsCurr[26] << 1);
-        Motion.bfsCurr[27] = Motion.bfsCurr[27] | (Motion.bfsCurr[27] >> 1) | (Motion.bfsCurr[27] << 1);
-        Motion.bfsCurr[28] = Motion.bfsCurr[28] | (Motion.bfsCurr[28] >> 1) | (Motion.bfsCurr[28] << 1);
-        Motion.bfsCurr[29] = Motion.bfsCurr[29] | (Motion.bfsCurr[29] >> 1) | (Motion.bfsCurr[29] << 1);
-        Motion.bfsCurr[30] = Motion.bfsCurr[30] | (Motion.bfsCurr[30] >> 1) | (Motion.bfsCurr[30] << 1);
-        Motion.bfsCurr[31] = Motion.bfsCurr[31] | (Motion.bfsCurr[31] >> 1) | (Motion.bfsCurr[31] << 1);
-        Motion.bfsCurr[32] = Motion.bfsCurr[32] | (Motion.bfsCurr[32] >> 1) | (Motion.bfsCurr[32] << 1);
-        Motion.bfsCurr[33] = Motion.bfsCurr[33] | (Motion.bfsCurr[33] >> 1) | (Motion.bfsCurr[33] << 1);
-        Motion.bfsCurr[34] = Motion.bfsCurr[34] | (Motion.bfsCurr[34] >> 1) | (Motion.bfsCurr[34] << 1);
-        Motion.bfsCurr[35] = Motion.bfsCurr[35] | (Motion.bfsCurr[35] >> 1) | (Motion.bfsCurr[35] << 1);
-        Motion.bfsCurr[36] = Motion.bfsCurr[36] | (Motion.bfsCurr[36] >> 1) | (Motion.bfsCurr[36] << 1);
-        Motion.bfsCurr[37] = Motion.bfsCurr[37] | (Motion.bfsCurr[37] >> 1) | (Motion.bfsCurr[37] << 1);
-        Motion.bfsCurr[38] = Motion.bfsCurr[38] | (Motion.bfsCurr[38] >> 1) | (Motion.bfsCurr[38] << 1);
-        Motion.bfsCurr[39] = Motion.bfsCurr[39] | (Motion.bfsCurr[39] >> 1) | (Motion.bfsCurr[39] << 1);
-        Motion.bfsCurr[40] = Motion.bfsCurr[40] | (Motion.bfsCurr[40] >> 1) | (Motion.bfsCurr[40] << 1);
-        Motion.bfsCurr[41] = Motion.bfsCurr[41] | (Motion.bfsCurr[41] >> 1) | (Motion.bfsCurr[41] << 1);
-        Motion.bfsCurr[42] = Motion.bfsCurr[42] | (Motion.bfsCurr[42] >> 1) | (Motion.bfsCurr[42] << 1);
-        Motion.bfsCurr[43] = Motion.bfsCurr[43] | (Motion.bfsCurr[43] >> 1) | (Motion.bfsCurr[43] << 1);
-        Motion.bfsCurr[44] = Motion.bfsCurr[44] | (Motion.bfsCurr[44] >> 1) | (Motion.bfsCurr[44] << 1);
-        Motion.bfsCurr[45] = Motion.bfsCurr[45] | (Motion.bfsCurr[45] >> 1) | (Motion.bfsCurr[45] << 1);
-        Motion.bfsCurr[46] = Motion.bfsCurr[46] | (Motion.bfsCurr[46] >> 1) | (Motion.bfsCurr[46] << 1);
-        Motion.bfsCurr[47] = Motion.bfsCurr[47] | (Motion.bfsCurr[47] >> 1) | (Motion.bfsCurr[47] << 1);
-        Motion.bfsCurr[48] = Motion.bfsCurr[48] | (Motion.bfsCurr[48] >> 1) | (Motion.bfsCurr[48] << 1);
-        Motion.bfsCurr[49] = Motion.bfsCurr[49] | (Motion.bfsCurr[49] >> 1) | (Motion.bfsCurr[49] << 1);
-        Motion.bfsCurr[50] = Motion.bfsCurr[50] | (Motion.bfsCurr[50] >> 1) | (Motion.bfsCurr[50] << 1);
-        Motion.bfsCurr[51] = Motion.bfsCurr[51] | (Motion.bfsCurr[51] >> 1) | (Motion.bfsCurr[51] << 1);
-        Motion.bfsDist[Motion.stepOffset + 1] = (Motion.bfsCurr[1] | Motion.bfsCurr[0] | Motion.bfsCurr[2]) & (Motion.bitmask ^ Motion.bfsMap[1]);
-        Motion.bfsDist[Motion.stepOffset + 2] = (Motion.bfsCurr[2] | Motion.bfsCurr[1] | Motion.bfsCurr[3]) & (Motion.bitmask ^ Motion.bfsMap[2]);
-        Motion.bfsDist[Motion.stepOffset + 3] = (Motion.bfsCurr[3] | Motion.bfsCurr[2] | Motion.bfsCurr[4]) & (Motion.bitmask ^ Motion.bfsMap[3]);
-        Motion.bfsDist[Motion.stepOffset + 4] = (Motion.bfsCurr[4] | Motion.bfsCurr[3] | Motion.bfsCurr[5]) & (Motion.bitmask ^ Motion.bfsMap[4]);
-        Motion.bfsDist[Motion.stepOffset + 5] = (Motion.bfsCurr[5] | Motion.bfsCurr[4] | Motion.bfsCurr[6]) & (Motion.bitmask ^ Motion.bfsMap[5]);
-        Motion.bfsDist[Motion.stepOffset + 6] = (Motion.bfsCurr[6] | Motion.bfsCurr[5] | Motion.bfsCurr[7]) & (Motion.bitmask ^ Motion.bfsMap[6]);
-        Motion.bfsDist[Motion.stepOffset + 7] = (Motion.bfsCurr[7] | Motion.bfsCurr[6] | Motion.bfsCurr[8]) & (Motion.bitmask ^ Motion.bfsMap[7]);
-        Motion.bfsDist[Motion.stepOffset + 8] = (Motion.bfsCurr[8] | Motion.bfsCurr[7] | Motion.bfsCurr[9]) & (Motion.bitmask ^ Motion.bfsMap[8]);
-        Motion.bfsDist[Motion.stepOffset + 9] = (Motion.bfsCurr[9] | Motion.bfsCurr[8] | Motion.bfsCurr[10]) & (Motion.bitmask ^ Motion.bfsMap[9]);
-        Motion.bfsDist[Motion.stepOffset + 10] = (Motion.bfsCurr[10] | Motion.bfsCurr[9] | Motion.bfsCurr[11]) & (Motion.bitmask ^ Motion.bfsMap[10]);
-        Motion.bfsDist[Motion.stepOffset + 11] = (Motion.bfsCurr[11] | Motion.bfsCurr[10] | Motion.bfsCurr[12]) & (Motion.bitmask ^ Motion.bfsMap[11]);
-        Motion.bfsDist[Motion.stepOffset + 12] = (Motion.bfsCurr[12] | Motion.bfsCurr[11] | Motion.bfsCurr[13]) & (Motion.bitmask ^ Motion.bfsMap[12]);
-        Motion.bfsDist[Motion.stepOffset + 13] = (Motion.bfsCurr[13] | Motion.bfsCurr[12] | Motion.bfsCurr[14]) & (Motion.bitmask ^ Motion.bfsMap[13]);
-        Motion.bfsDist[Motion.stepOffset + 14] = (Motion.bfsCurr[14] | Motion.bfsCurr[13] | Motion.bfsCurr[15]) & (Motion.bitmask ^ Motion.bfsMap[14]);
-        Motion.bfsDist[Motion.stepOffset + 15] = (Motion.bfsCurr[15] | Motion.bfsCurr[14] | Motion.bfsCurr[16]) & (Motion.bitmask ^ Motion.bfsMap[15]);
-        Motion.bfsDist[Motion.stepOffset + 16] = (Motion.bfsCurr[16] | Motion.bfsCurr[15] | Motion.bfsCurr[17]) & (Motion.bitmask ^ Motion.bfsMap[16]);
-        Motion.bfsDist[Motion.stepOffset + 17] = (Motion.bfsCurr[17] | Motion.bfsCurr[16] | Motion.bfsCurr[18]) & (Motion.bitmask ^ Motion.bfsMap[17]);
-        Motion.bfsDist[Motion.stepOffset + 18] = (Motion.bfsCurr[18] | Motion.bfsCurr[17] | Motion.bfsCurr[19]) & (Motion.bitmask ^ Motion.bfsMap[18]);
-        Motion.bfsDist[Motion.stepOffset + 19] = (Motion.bfsCurr[19] | Motion.bfsCurr[18] | Motion.bfsCurr[20]) & (Motion.bitmask ^ Motion.bfsMap[19]);
-        Motion.bfsDist[Motion.stepOffset + 20] = (Motion.bfsCurr[20] | Motion.bfsCurr[19] | Motion.bfsCurr[21]) & (Motion.bitmask ^ Motion.bfsMap[20]);
-        Motion.bfsDist[Motion.stepOffset + 21] = (Motion.bfsCurr[21] | Motion.bfsCurr[20] | Motion.bfsCurr[22]) & (Motion.bitmask ^ Motion.bfsMap[21]);
-        Motion.bfsDist[Motion.stepOffset + 22] = (Motion.bfsCurr[22] | Motion.bfsCurr[21] | Motion.bfsCurr[23]) & (Motion.bitmask ^ Motion.bfsMap[22]);
-        Motion.bfsDist[Motion.stepOffset + 23] = (Motion.bfsCurr[23] | Motion.bfsCurr[22] | Motion.bfsCurr[24]) & (Motion.bitmask ^ Motion.bfsMap[23]);
-        Motion.bfsDist[Motion.stepOffset + 24] = (Motion.bfsCurr[24] | Motion.bfsCurr[23] | Motion.bfsCurr[25]) & (Motion.bitmask ^ Motion.bfsMap[24]);
-        Motion.bfsDist[Motion.stepOffset + 25] = (Motion.bfsCurr[25] | Motion.bfsCurr[24] | Motion.bfsCurr[26]) & (Motion.bitmask ^ Motion.bfsMap[25]);
-        Motion.bfsDist[Motion.stepOffset + 26] = (Motion.bfsCurr[26] | Motion.bfsCurr[25] | Motion.bfsCurr[27]) & (Motion.bitmask ^ Motion.bfsMap[26]);
-        Motion.bfsDist[Motion.stepOffset + 27] = (Motion.bfsCurr[27] | Motion.bfsCurr[26] | Motion.bfsCurr[28]) & (Motion.bitmask ^ Motion.bfsMap[27]);
-        Motion.bfsDist[Motion.stepOffset + 28] = (Motion.bfsCurr[28] | Motion.bfsCurr[27] | Motion.bfsCurr[29]) & (Motion.bitmask ^ Motion.bfsMap[28]);
-        Motion.bfsDist[Motion.stepOffset + 29] = (Motion.bfsCurr[29] | Motion.bfsCurr[28] | Motion.bfsCurr[30]) & (Motion.bitmask ^ Motion.bfsMap[29]);
-        Motion.bfsDist[Motion.stepOffset + 30] = (Motion.bfsCurr[30] | Motion.bfsCurr[29] | Motion.bfsCurr[31]) & (Motion.bitmask ^ Motion.bfsMap[30]);
-        Motion.bfsDist[Motion.stepOffset + 31] = (Motion.bfsCurr[31] | Motion.bfsCurr[30] | Motion.bfsCurr[32]) & (Motion.bitmask ^ Motion.bfsMap[31]);
-        Motion.bfsDist[Motion.stepOffset + 32] = (Motion.bfsCurr[32] | Motion.bfsCurr[31] | Motion.bfsCurr[33]) & (Motion.bitmask ^ Motion.bfsMap[32]);
-        Motion.bfsDist[Motion.stepOffset + 33] = (Motion.bfsCurr[33] | Motion.bfsCurr[32] | Motion.bfsCurr[34]) & (Motion.bitmask ^ Motion.bfsMap[33]);
-        Motion.bfsDist[Motion.stepOffset + 34] = (Motion.bfsCurr[34] | Motion.bfsCurr[33] | Motion.bfsCurr[35]) & (Motion.bitmask ^ Motion.bfsMap[34]);
-        Motion.bfsDist[Motion.stepOffset + 35] = (Motion.bfsCurr[35] | Motion.bfsCurr[34] | Motion.bfsCurr[36]) & (Motion.bitmask ^ Motion.bfsMap[35]);
-        Motion.bfsDist[Motion.stepOffset + 36] = (Motion.bfsCurr[36] | Motion.bfsCurr[35] | Motion.bfsCurr[37]) & (Motion.bitmask ^ Motion.bfsMap[36]);
-        Motion.bfsDist[Motion.stepOffset + 37] = (Motion.bfsCurr[37] | Motion.bfsCurr[36] | Motion.bfsCurr[38]) & (Motion.bitmask ^ Motion.bfsMap[37]);
-        Motion.bfsDist[Motion.stepOffset + 38] = (Motion.bfsCurr[38] | Motion.bfsCurr[37] | Motion.bfsCurr[39]) & (Motion.bitmask ^ Motion.bfsMap[38]);
-        Motion.bfsDist[Motion.stepOffset + 39] = (Motion.bfsCurr[39] | Motion.bfsCurr[38] | Motion.bfsCurr[40]) & (Motion.bitmask ^ Motion.bfsMap[39]);
-        Motion.bfsDist[Motion.stepOffset + 40] = (Motion.bfsCurr[40] | Motion.bfsCurr[39] | Motion.bfsCurr[41]) & (Motion.bitmask ^ Motion.bfsMap[40]);
-        Motion.bfsDist[Motion.stepOffset + 41] = (Motion.bfsCurr[41] | Motion.bfsCurr[40] | Motion.bfsCurr[42]) & (Motion.bitmask ^ Motion.bfsMap[41]);
-        Motion.bfsDist[Motion.stepOffset + 42] = (Motion.bfsCurr[42] | Motion.bfsCurr[41] | Motion.bfsCurr[43]) & (Motion.bitmask ^ Motion.bfsMap[42]);
-        Motion.bfsDist[Motion.stepOffset + 43] = (Motion.bfsCurr[43] | Motion.bfsCurr[42] | Motion.bfsCurr[44]) & (Motion.bitmask ^ Motion.bfsMap[43]);
-        Motion.bfsDist[Motion.stepOffset + 44] = (Motion.bfsCurr[44] | Motion.bfsCurr[43] | Motion.bfsCurr[45]) & (Motion.bitmask ^ Motion.bfsMap[44]);
-        Motion.bfsDist[Motion.stepOffset + 45] = (Motion.bfsCurr[45] | Motion.bfsCurr[44] | Motion.bfsCurr[46]) & (Motion.bitmask ^ Motion.bfsMap[45]);
-        Motion.bfsDist[Motion.stepOffset + 46] = (Motion.bfsCurr[46] | Motion.bfsCurr[45] | Motion.bfsCurr[47]) & (Motion.bitmask ^ Motion.bfsMap[46]);
-        Motion.bfsDist[Motion.stepOffset + 47] = (Motion.bfsCurr[47] | Motion.bfsCurr[46] | Motion.bfsCurr[48]) & (Motion.bitmask ^ Motion.bfsMap[47]);
-        Motion.bfsDist[Motion.stepOffset + 48] = (Motion.bfsCurr[48] | Motion.bfsCurr[47] | Motion.bfsCurr[49]) & (Motion.bitmask ^ Motion.bfsMap[48]);
-        Motion.bfsDist[Motion.stepOffset + 49] = (Motion.bfsCurr[49] | Motion.bfsCurr[48] | Motion.bfsCurr[50]) & (Motion.bitmask ^ Motion.bfsMap[49]);
-        Motion.bfsDist[Motion.stepOffset + 50] = (Motion.bfsCurr[50] | Motion.bfsCurr[49] | Motion.bfsCurr[51]) & (Motion.bitmask ^ Motion.bfsMap[50]);
-        Motion.bfsDist[Motion.stepOffset + 51] = (Motion.bfsCurr[51] | Motion.bfsCurr[50] | Motion.bfsCurr[52]) & (Motion.bitmask ^ Motion.bfsMap[51]);
-        Motion.bfsCurr[1] = Motion.bfsDist[Motion.stepOffset + 1];
-        Motion.bfsCurr[2] = Motion.bfsDist[Motion.stepOffset + 2];
-        Motion.bfsCurr[3] = Motion.bfsDist[Motion.stepOffset + 3];
-        Motion.bfsCurr[4] = Motion.bfsDist[Motion.stepOffset + 4];
-        Motion.bfsCurr[5] = Motion.bfsDist[Motion.stepOffset + 5];
-        Motion.bfsCurr[6] = Motion.bfsDist[Motion.stepOffset + 6];
-        Motion.bfsCurr[7] = Motion.bfsDist[Motion.stepOffset + 7];
-        Motion.bfsCurr[8] = Motion.bfsDist[Motion.stepOffset + 8];
-        Motion.bfsCurr[9] = Motion.bfsDist[Motion.stepOffset + 9];
-        Motion.bfsCurr[10] = Motion.bfsDist[Motion.stepOffset + 10];
-        Motion.bfsCurr[11] = Motion.bfsDist[Motion.stepOffset + 11];
-        Motion.bfsCurr[12] = Motion.bfsDist[Motion.stepOffset + 12];
-        Motion.bfsCurr[13] = Motion.bfsDist[Motion.stepOffset + 13];
-        Motion.bfsCurr[14] = Motion.bfsDist[Motion.stepOffset + 14];
-        Motion.bfsCurr[15] = Motion.bfsDist[Motion.stepOffset + 15];
-        Motion.bfsCurr[16] = Motion.bfsDist[Motion.stepOffset + 16];
-        Motion.bfsCurr[17] = Motion.bfsDist[Motion.stepOffset + 17];
-        Motion.bfsCurr[18] = Motion.bfsDist[Motion.stepOffset + 18];
-        Motion.bfsCurr[19] = Motion.bfsDist[Motion.stepOffset + 19];
-        Motion.bfsCurr[20] = Motion.bfsDist[Motion.stepOffset + 20];
-        Motion.bfsCurr[21] = Motion.bfsDist[Motion.stepOffset + 21];
-        Motion.bfsCurr[22] = Motion.bfsDist[Motion.stepOffset + 22];
-        Motion.bfsCurr[23] = Motion.bfsDist[Motion.stepOffset + 23];
-        Motion.bfsCurr[24] = Motion.bfsDist[Motion.stepOffset + 24];
-        Motion.bfsCurr[25] = Motion.bfsDist[Motion.stepOffset + 25];
-        Motion.bfsCurr[26] = Motion.bfsDist[Motion.stepOffset + 26];
-        Motion.bfsCurr[27] = Motion.bfsDist[Motion.stepOffset + 27];
-        Motion.bfsCurr[28] = Motion.bfsDist[Motion.stepOffset + 28];
-        Motion.bfsCurr[29] = Motion.bfsDist[Motion.stepOffset + 29];
-        Motion.bfsCurr[30] = Motion.bfsDist[Motion.stepOffset + 30];
-        Motion.bfsCurr[31] = Motion.bfsDist[Motion.stepOffset + 31];
-        Motion.bfsCurr[32] = Motion.bfsDist[Motion.stepOffset + 32];
-        Motion.bfsCurr[33] = Motion.bfsDist[Motion.stepOffset + 33];
-        Motion.bfsCurr[34] = Motion.bfsDist[Motion.stepOffset + 34];
-        Motion.bfsCurr[35] = Motion.bfsDist[Motion.stepOffset + 35];
-        Motion.bfsCurr[36] = Motion.bfsDist[Motion.stepOffset + 36];
-        Motion.bfsCurr[37] = Motion.bfsDist[Motion.stepOffset + 37];
-        Motion.bfsCurr[38] = Motion.bfsDist[Motion.stepOffset + 38];
-        Motion.bfsCurr[39] = Motion.bfsDist[Motion.stepOffset + 39];
-        Motion.bfsCurr[40] = Motion.bfsDist[Motion.stepOffset + 40];
-        Motion.bfsCurr[41] = Motion.bfsDist[Motion.stepOffset + 41];
-        Motion.bfsCurr[42] = Motion.bfsDist[Motion.stepOffset + 42];
-        Motion.bfsCurr[43] = Motion.bfsDist[Motion.stepOffset + 43];
-        Motion.bfsCurr[44] = Motion.bfsDist[Motion.stepOffset + 44];
-        Motion.bfsCurr[45] = Motion.bfsDist[Motion.stepOffset + 45];
-        Motion.bfsCurr[46] = Motion.bfsDist[Motion.stepOffset + 46];
-        Motion.bfsCurr[47] = Motion.bfsDist[Motion.stepOffset + 47];
-        Motion.bfsCurr[48] = Motion.bfsDist[Motion.stepOffset + 48];
-        Motion.bfsCurr[49] = Motion.bfsDist[Motion.stepOffset + 49];
-        Motion.bfsCurr[50] = Motion.bfsDist[Motion.stepOffset + 50];
-        Motion.bfsCurr[51] = Motion.bfsDist[Motion.stepOffset + 51];
-    }
-    public static void bfs52() {
-        Motion.bfsCurr[1] = Motion.bfsCurr[1] | (Motion.bfsCurr[1] >> 1) | (Motion.bfsCurr[1] << 1);
-        Motion.bfsCurr[2] = Motion.bfsCurr[2] | (Motion.bfsCurr[2] >> 1) | (Motion.bfsCurr[2] << 1);
-        Motion.bfsCurr[3] = Motion.bfsCurr[3] | (Motion.bfsCurr[3] >> 1) | (Motion.bfsCurr[3] << 1);
-        Motion.bfsCurr[4] = Motion.bfsCurr[4] | (Motion.bfsCurr[4] >> 1) | (Motion.bfsCurr[4] << 1);
-        Motion.bfsCurr[5] = Motion.bfsCurr[5] | (Motion.bfsCurr[5] >> 1) | (Motion.bfsCurr[5] << 1);
-        Motion.bfsCurr[6] = Motion.bfsCurr[6] | (Motion.bfsCurr[6] >> 1) | (Motion.bfsCurr[6] << 1);
-        Motion.bfsCurr[7] = Motion.bfsCurr[7] | (Motion.bfsCurr[7] >> 1) | (Motion.bfsCurr[7] << 1);
-        Motion.bfsCurr[8] = Motion.bfsCurr[8] | (Motion.bfsCurr[8] >> 1) | (Motion.bfsCurr[8] << 1);
-        Motion.bfsCurr[9] = Motion.bfsCurr[9] | (Motion.bfsCurr[9] >> 1) | (Motion.bfsCurr[9] << 1);
-        Motion.bfsCurr[10] = Motion.bfsCurr[10] | (Motion.bfsCurr[10] >> 1) | (Motion.bfsCurr[10] << 1);
-        Motion.bfsCurr[11] = Motion.bfsCurr[11] | (Motion.bfsCurr[11] >> 1) | (Motion.bfsCurr[11] << 1);
-        Motion.bfsCurr[12] = Motion.bfsCurr[12] | (Motion.bfsCurr[12] >> 1) | (Motion.bfsCurr[12] << 1);
-        Motion.bfsCurr[13] = Motion.bfsCurr[13] | (Motion.bfsCurr[13] >> 1) | (Motion.bfsCurr[13] << 1);
-        Motion.bfsCurr[14] = Motion.bfsCurr[14] | (Motion.bfsCurr[14] >> 1) | (Motion.bfsCurr[14] << 1);
-        Motion.bfsCurr[15] = Motion.bfsCurr[15] | (Motion.bfsCurr[15] >> 1) | (Motion.bfsCurr[15] << 1);
-        Motion.bfsCurr[16] = Motion.bfsCurr[16] | (Motion.bfsCurr[16] >> 1) | (Motion.bfsCurr[16] << 1);
-        Motion.bfsCurr[17] = Motion.bfsCurr[17] | (Motion.bfsCurr[17] >> 1) | (Motion.bfsCurr[17] << 1);
-        Motion.bfsCurr[18] = Motion.bfsCurr[18] | (Motion.bfsCurr[18] >> 1) | (Motion.bfsCurr[18] << 1);
-        Motion.bfsCurr[19] = Motion.bfsCurr[19] | (Motion.bfsCurr[19] >> 1) | (Motion.bfsCurr[19] << 1);
-        Motion.bfsCurr[20] = Motion.bfsCurr[20] | (Motion.bfsCurr[20] >> 1) | (Motion.bfsCurr[20] << 1);
-        Motion.bfsCurr[21] = Motion.bfsCurr[21] | (Motion.bfsCurr[21] >> 1) | (Motion.bfsCurr[21] << 1);
-        Motion.bfsCurr[22] = Motion.bfsCurr[22] | (Motion.bfsCurr[22] >> 1) | (Motion.bfsCurr[22] << 1);
-        Motion.bfsCurr[23] = Motion.bfsCurr[23] | (Motion.bfsCurr[23] >> 1) | (Motion.bfsCurr[23] << 1);
-        Motion.bfsCurr[24] = Motion.bfsCurr[24] | (Motion.bfsCurr[24] >> 1) | (Motion.bfsCurr[24] << 1);
-        Motion.bfsCurr[25] = Motion.bfsCurr[25] | (Motion.bfsCurr[25] >> 1) | (Motion.bfsCurr[25] << 1);
-        Motion.bfsCurr[26] = Motion.bfsCurr[26] | (Motion.bfsCurr[26] >> 1) | (Motion.bfsCurr[26] << 1);
-        Motion.bfsCurr[27] = Motion.bfsCurr[27] | (Motion.bfsCurr[27] >> 1) | (Motion.bfsCurr[27] << 1);
-        Motion.bfsCurr[28] = Motion.bfsCurr[28] | (Motion.bfsCurr[28] >> 1) | (Motion.bfsCurr[28] << 1);
-        Motion.bfsCurr[29] = Motion.bfsCurr[29] | (Motion.bfsCurr[29] >> 1) | (Motion.bfsCurr[29] << 1);
-        Motion.bfsCurr[30] = Motion.bfsCurr[30] | (Motion.bfsCurr[30] >> 1) | (Motion.bfsCurr[30] << 1);
-        Motion.bfsCurr[31] = Motion.bfsCurr[31] | (Motion.bfsCurr[31] >> 1) | (Motion.bfsCurr[31] << 1);
-        Motion.bfsCurr[32] = Motion.bfsCurr[32] | (Motion.bfsCurr[32] >> 1) | (Motion.bfsCurr[32] << 1);
-        Motion.bfsCurr[33] = Motion.bfsCurr[33] | (Motion.bfsCurr[33] >> 1) | (Motion.bfsCurr[33] << 1);
-        Motion.bfsCurr[34] = Motion.bfsCurr[34] | (Motion.bfsCurr[34] >> 1) | (Motion.bfsCurr[34] << 1);
-        Motion.bfsCurr[35] = Motion.bfsCurr[35] | (Motion.bfsCurr[35] >> 1) | (Motion.bfsCurr[35] << 1);
-        Motion.bfsCurr[36] = Motion.bfsCurr[36] | (Motion.bfsCurr[36] >> 1) | (Motion.bfsCurr[36] << 1);
-        Motion.bfsCurr[37] = Motion.bfsCurr[37] | (Motion.bfsCurr[37] >> 1) | (Motion.bfsCurr[37] << 1);
-        Motion.bfsCurr[38] = Motion.bfsCurr[38] | (Motion.bfsCurr[38] >> 1) | (Motion.bfsCurr[38] << 1);
-        Motion.bfsCurr[39] = Motion.bfsCurr[39] | (Motion.bfsCurr[39] >> 1) | (Motion.bfsCurr[39] << 1);
-        Motion.bfsCurr[40] = Motion.bfsCurr[40] | (Motion.bfsCurr[40] >> 1) | (Motion.bfsCurr[40] << 1);
-        Motion.bfsCurr[41] = Motion.bfsCurr[41] | (Motion.bfsCurr[41] >> 1) | (Motion.bfsCurr[41] << 1);
-        Motion.bfsCurr[42] = Motion.bfsCurr[42] | (Motion.bfsCurr[42] >> 1) | (Motion.bfsCurr[42] << 1);
-        Motion.bfsCurr[43] = Motion.bfsCurr[43] | (Motion.bfsCurr[43] >> 1) | (Motion.bfsCurr[43] << 1);
-        Motion.bfsCurr[44] = Motion.bfsCurr[44] | (Motion.bfsCurr[44] >> 1) | (Motion.bfsCurr[44] << 1);
-        Motion.bfsCurr[45] = Motion.bfsCurr[45] | (Motion.bfsCurr[45] >> 1) | (Motion.bfsCurr[45] << 1);
-        Motion.bfsCurr[46] = Motion.bfsCurr[46] | (Motion.bfsCurr[46] >> 1) | (Motion.bfsCurr[46] << 1);
-        Motion.bfsCurr[47] = Motion.bfsCurr[47] | (Motion.bfsCurr[47] >> 1) | (Motion.bfsCurr[47] << 1);
-        Motion.bfsCurr[48] = Motion.bfsCurr[48] | (Motion.bfsCurr[48] >> 1) | (Motion.bfsCurr[48] << 1);
-        Motion.bfsCurr[49] = Motion.bfsCurr[49] | (Motion.bfsCurr[49] >> 1) | (Motion.bfsCurr[49] << 1);
-        Motion.bfsCurr[50] = Motion.bfsCurr[50] | (Motion.bfsCurr[50] >> 1) | (Motion.bfsCurr[50] << 1);
-        Motion.bfsCurr[51] = Motion.bfsCurr[51] | (Motion.bfsCurr[51] >> 1) | (Motion.bfsCurr[51] << 1);
-        Motion.bfsCurr[52] = Motion.bfsCurr[52] | (Motion.bfsCurr[52] >> 1) | (Motion.bfsCurr[52] << 1);
-        Motion.bfsDist[Motion.stepOffset + 1] = (Motion.bfsCurr[1] | Motion.bfsCurr[0] | Motion.bfsCurr[2]) & (Motion.bitmask ^ Motion.bfsMap[1]);
-        Motion.bfsDist[Motion.stepOffset + 2] = (Motion.bfsCurr[2] | Motion.bfsCurr[1] | Motion.bfsCurr[3]) & (Motion.bitmask ^ Motion.bfsMap[2]);
-        Motion.bfsDist[Motion.stepOffset + 3] = (Motion.bfsCurr[3] | Motion.bfsCurr[2] | Motion.bfsCurr[4]) & (Motion.bitmask ^ Motion.bfsMap[3]);
-        Motion.bfsDist[Motion.stepOffset + 4] = (Motion.bfsCurr[4] | Motion.bfsCurr[3] | Motion.bfsCurr[5]) & (Motion.bitmask ^ Motion.bfsMap[4]);
-        Motion.bfsDist[Motion.stepOffset + 5] = (Motion.bfsCurr[5] | Motion.bfsCurr[4] | Motion.bfsCurr[6]) & (Motion.bitmask ^ Motion.bfsMap[5]);
-        Motion.bfsDist[Motion.stepOffset + 6] = (Motion.bfsCurr[6] | Motion.bfsCurr[5] | Motion.bfsCurr[7]) & (Motion.bitmask ^ Motion.bfsMap[6]);
-        Motion.bfsDist[Motion.stepOffset + 7] = (Motion.bfsCurr[7] | Motion.bfsCurr[6] | Motion.bfsCurr[8]) & (Motion.bitmask ^ Motion.bfsMap[7]);
-        Motion.bfsDist[Motion.stepOffset + 8] = (Motion.bfsCurr[8] | Motion.bfsCurr[7] | Motion.bfsCurr[9]) & (Motion.bitmask ^ Motion.bfsMap[8]);
-        Motion.bfsDist[Motion.stepOffset + 9] = (Motion.bfsCurr[9] | Motion.bfsCurr[8] | Motion.bfsCurr[10]) & (Motion.bitmask ^ Motion.bfsMap[9]);
-        Motion.bfsDist[Motion.stepOffset + 10] = (Motion.bfsCurr[10] | Motion.bfsCurr[9] | Motion.bfsCurr[11]) & (Motion.bitmask ^ Motion.bfsMap[10]);
-        Motion.bfsDist[Motion.stepOffset + 11] = (Motion.bfsCurr[11] | Motion.bfsCurr[10] | Motion.bfsCurr[12]) & (Motion.bitmask ^ Motion.bfsMap[11]);
-        Motion.bfsDist[Motion.stepOffset + 12] = (Motion.bfsCurr[12] | Motion.bfsCurr[11] | Motion.bfsCurr[13]) & (Motion.bitmask ^ Motion.bfsMap[12]);
-        Motion.bfsDist[Motion.stepOffset + 13] = (Motion.bfsCurr[13] | Motion.bfsCurr[12] | Motion.bfsCurr[14]) & (Motion.bitmask ^ Motion.bfsMap[13]);
-        Motion.bfsDist[Motion.stepOffset + 14] = (Motion.bfsCurr[14] | Motion.bfsCurr[13] | Motion.bfsCurr[15]) & (Motion.bitmask ^ Motion.bfsMap[14]);
-        Motion.bfsDist[Motion.stepOffset + 15] = (Motion.bfsCurr[15] | Motion.bfsCurr[14] | Motion.bfsCurr[16]) & (Motion.bitmask ^ Motion.bfsMap[15]);
-        Motion.bfsDist[Motion.stepOffset + 16] = (Motion.bfsCurr[16] | Motion.bfsCurr[15] | Motion.bfsCurr[17]) & (Motion.bitmask ^ Motion.bfsMap[16]);
-        Motion.bfsDist[Motion.stepOffset + 17] = (Motion.bfsCurr[17] | Motion.bfsCurr[16] | Motion.bfsCurr[18]) & (Motion.bitmask ^ Motion.bfsMap[17]);
-        Motion.bfsDist[Motion.stepOffset + 18] = (Motion.bfsCurr[18] | Motion.bfsCurr[17] | Motion.bfsCurr[19]) & (Motion.bitmask ^ Motion.bfsMap[18]);
-        Motion.bfsDist[Motion.stepOffset + 19] = (Motion.bfsCurr[19] | Motion.bfsCurr[18] | Motion.bfsCurr[20]) & (Motion.bitmask ^ Motion.bfsMap[19]);
-        Motion.bfsDist[Motion.stepOffset + 20] = (Motion.bfsCurr[20] | Motion.bfsCurr[19] | Motion.bfsCurr[21]) & (Motion.bitmask ^ Motion.bfsMap[20]);
-        Motion.bfsDist[Motion.stepOffset + 21] = (Motion.bfsCurr[21] | Motion.bfsCurr[20] | Motion.bfsCurr[22]) & (Motion.bitmask ^ Motion.bfsMap[21]);
-        Motion.bfsDist[Motion.stepOffset + 22] = (Motion.bfsCurr[22] | Motion.bfsCurr[21] | Motion.bfsCurr[23]) & (Motion.bitmask ^ Motion.bfsMap[22]);
-        Motion.bfsDist[Motion.stepOffset + 23] = (Motion.bfsCurr[23] | Motion.bfsCurr[22] | Motion.bfsCurr[24]) & (Motion.bitmask ^ Motion.bfsMap[23]);
-        Motion.bfsDist[Motion.stepOffset + 24] = (Motion.bfsCurr[24] | Motion.bfsCurr[23] | Motion.bfsCurr[25]) & (Motion.bitmask ^ Motion.bfsMap[24]);
-        Motion.bfsDist[Motion.stepOffset + 25] = (Motion.bfsCurr[25] | Motion.bfsCurr[24] | Motion.bfsCurr[26]) & (Motion.bitmask ^ Motion.bfsMap[25]);
-        Motion.bfsDist[Motion.stepOffset + 26] = (Motion.bfsCurr[26] | Motion.bfsCurr[25] | Motion.bfsCurr[27]) & (Motion.bitmask ^ Motion.bfsMap[26]);
-        Motion.bfsDist[Motion.stepOffset + 27] = (Motion.bfsCurr[27] | Motion.bfsCurr[26] | Motion.bfsCurr[28]) & (Motion.bitmask ^ Motion.bfsMap[27]);
-        Motion.bfsDist[Motion.stepOffset + 28] = (Motion.bfsCurr[28] | Motion.bfsCurr[27] | Motion.bfsCurr[29]) & (Motion.bitmask ^ Motion.bfsMap[28]);
-        Motion.bfsDist[Motion.stepOffset + 29] = (Motion.bfsCurr[29] | Motion.bfsCurr[28] | Motion.bfsCurr[30]) & (Motion.bitmask ^ Motion.bfsMap[29]);
-        Motion.bfsDist[Motion.stepOffset + 30] = (Motion.bfsCurr[30] | Motion.bfsCurr[29] | Motion.bfsCurr[31]) & (Motion.bitmask ^ Motion.bfsMap[30]);
-        Motion.bfsDist[Motion.stepOffset + 31] = (Motion.bfsCurr[31] | Motion.bfsCurr[30] | Motion.bfsCurr[32]) & (Motion.bitmask ^ Motion.bfsMap[31]);
-        Motion.bfsDist[Motion.stepOffset + 32] = (Motion.bfsCurr[32] | Motion.bfsCurr[31] | Motion.bfsCurr[33]) & (Motion.bitmask ^ Motion.bfsMap[32]);
-        Motion.bfsDist[Motion.stepOffset + 33] = (Motion.bfsCurr[33] | Motion.bfsCurr[32] | Motion.bfsCurr[34]) & (Motion.bitmask ^ Motion.bfsMap[33]);
-        Motion.bfsDist[Motion.stepOffset + 34] = (Motion.bfsCurr[34] | Motion.bfsCurr[33] | Motion.bfsCurr[35]) & (Motion.bitmask ^ Motion.bfsMap[34]);
-        Motion.bfsDist[Motion.stepOffset + 35] = (Motion.bfsCurr[35] | Motion.bfsCurr[34] | Motion.bfsCurr[36]) & (Motion.bitmask ^ Motion.bfsMap[35]);
-        Motion.bfsDist[Motion.stepOffset + 36] = (Motion.bfsCurr[36] | Motion.bfsCurr[35] | Motion.bfsCurr[37]) & (Motion.bitmask ^ Motion.bfsMap[36]);
-        Motion.bfsDist[Motion.stepOffset + 37] = (Motion.bfsCurr[37] | Motion.bfsCurr[36] | Motion.bfsCurr[38]) & (Motion.bitmask ^ Motion.bfsMap[37]);
-        Motion.bfsDist[Motion.stepOffset + 38] = (Motion.bfsCurr[38] | Motion.bfsCurr[37] | Motion.bfsCurr[39]) & (Motion.bitmask ^ Motion.bfsMap[38]);
-        Motion.bfsDist[Motion.stepOffset + 39] = (Motion.bfsCurr[39] | Motion.bfsCurr[38] | Motion.bfsCurr[40]) & (Motion.bitmask ^ Motion.bfsMap[39]);
-        Motion.bfsDist[Motion.stepOffset + 40] = (Motion.bfsCurr[40] | Motion.bfsCurr[39] | Motion.bfsCurr[41]) & (Motion.bitmask ^ Motion.bfsMap[40]);
-        Motion.bfsDist[Motion.stepOffset + 41] = (Motion.bfsCurr[41] | Motion.bfsCurr[40] | Motion.bfsCurr[42]) & (Motion.bitmask ^ Motion.bfsMap[41]);
-        Motion.bfsDist[Motion.stepOffset + 42] = (Motion.bfsCurr[42] | Motion.bfsCurr[41] | Motion.bfsCurr[43]) & (Motion.bitmask ^ Motion.bfsMap[42]);
-        Motion.bfsDist[Motion.stepOffset + 43] = (Motion.bfsCurr[43] | Motion.bfsCurr[42] | Motion.bfsCurr[44]) & (Motion.bitmask ^ Motion.bfsMap[43]);
-        Motion.bfsDist[Motion.stepOffset + 44] = (Motion.bfsCurr[44] | Motion.bfsCurr[43] | Motion.bfsCurr[45]) & (Motion.bitmask ^ Motion.bfsMap[44]);
-        Motion.bfsDist[Motion.stepOffset + 45] = (Motion.bfsCurr[45] | Motion.bfsCurr[44] | Motion.bfsCurr[46]) & (Motion.bitmask ^ Motion.bfsMap[45]);
-        Motion.bfsDist[Motion.stepOffset + 46] = (Motion.bfsCurr[46] | Motion.bfsCurr[45] | Motion.bfsCurr[47]) & (Motion.bitmask ^ Motion.bfsMap[46]);
-        Motion.bfsDist[Motion.stepOffset + 47] = (Motion.bfsCurr[47] | Motion.bfsCurr[46] | Motion.bfsCurr[48]) & (Motion.bitmask ^ Motion.bfsMap[47]);
-        Motion.bfsDist[Motion.stepOffset + 48] = (Motion.bfsCurr[48] | Motion.bfsCurr[47] | Motion.bfsCurr[49]) & (Motion.bitmask ^ Motion.bfsMap[48]);
-        Motion.bfsDist[Motion.stepOffset + 49] = (Motion.bfsCurr[49] | Motion.bfsCurr[48] | Motion.bfsCurr[50]) & (Motion.bitmask ^ Motion.bfsMap[49]);
-        Motion.bfsDist[Motion.stepOffset + 50] = (Motion.bfsCurr[50] | Motion.bfsCurr[49] | Motion.bfsCurr[51]) & (Motion.bitmask ^ Motion.bfsMap[50]);
-        Motion.bfsDist[Motion.stepOffset + 51] = (Motion.bfsCurr[51] | Motion.bfsCurr[50] | Motion.bfsCurr[52]) & (Motion.bitmask ^ Motion.bfsMap[51]);
-        Motion.bfsDist[Motion.stepOffset + 52] = (Motion.bfsCurr[52] | Motion.bfsCurr[51] | Motion.bfsCurr[53]) & (Motion.bitmask ^ Motion.bfsMap[52]);
-        Motion.bfsCurr[1] = Motion.bfsDist[Motion.stepOffset + 1];
-        Motion.bfsCurr[2] = Motion.bfsDist[Motion.stepOffset + 2];
-        Motion.bfsCurr[3] = Motion.bfsDist[Motion.stepOffset + 3];
-        Motion.bfsCurr[4] = Motion.bfsDist[Motion.stepOffset + 4];
-        Motion.bfsCurr[5] = Motion.bfsDist[Motion.stepOffset + 5];
-        Motion.bfsCurr[6] = Motion.bfsDist[Motion.stepOffset + 6];
-        Motion.bfsCurr[7] = Motion.bfsDist[Motion.stepOffset + 7];
-        Motion.bfsCurr[8] = Motion.bfsDist[Motion.stepOffset + 8];
-        Motion.bfsCurr[9] = Motion.bfsDist[Motion.stepOffset + 9];
-        Motion.bfsCurr[10] = Motion.bfsDist[Motion.stepOffset + 10];
-        Motion.bfsCurr[11] = Motion.bfsDist[Motion.stepOffset + 11];
-        Motion.bfsCurr[12] = Motion.bfsDist[Motion.stepOffset + 12];
-        Motion.bfsCurr[13] = Motion.bfsDist[Motion.stepOffset + 13];
-        Motion.bfsCurr[14] = Motion.bfsDist[Motion.stepOffset + 14];
-        Motion.bfsCurr[15] = Motion.bfsDist[Motion.stepOffset + 15];
-        Motion.bfsCurr[16] = Motion.bfsDist[Motion.stepOffset + 16];
-        Motion.bfsCurr[17] = Motion.bfsDist[Motion.stepOffset + 17];
-        Motion.bfsCurr[18] = Motion.bfsDist[Motion.stepOffset + 18];
-        Motion.bfsCurr[19] = Motion.bfsDist[Motion.stepOffset + 19];
-        Motion.bfsCurr[20] = Motion.bfsDist[Motion.stepOffset + 20];
-        Motion.bfsCurr[21] = Motion.bfsDist[Motion.stepOffset + 21];
-        Motion.bfsCurr[22] = Motion.bfsDist[Motion.stepOffset + 22];
-        Motion.bfsCurr[23] = Motion.bfsDist[Motion.stepOffset + 23];
-        Motion.bfsCurr[24] = Motion.bfsDist[Motion.stepOffset + 24];
-        Motion.bfsCurr[25] = Motion.bfsDist[Motion.stepOffset + 25];
-        Motion.bfsCurr[26] = Motion.bfsDist[Motion.stepOffset + 26];
-        Motion.bfsCurr[27] = Motion.bfsDist[Motion.stepOffset + 27];
-        Motion.bfsCurr[28] = Motion.bfsDist[Motion.stepOffset + 28];
-        Motion.bfsCurr[29] = Motion.bfsDist[Motion.stepOffset + 29];
-        Motion.bfsCurr[30] = Motion.bfsDist[Motion.stepOffset + 30];
-        Motion.bfsCurr[31] = Motion.bfsDist[Motion.stepOffset + 31];
-        Motion.bfsCurr[32] = Motion.bfsDist[Motion.stepOffset + 32];
-        Motion.bfsCurr[33] = Motion.bfsDist[Motion.stepOffset + 33];
-        Motion.bfsCurr[34] = Motion.bfsDist[Motion.stepOffset + 34];
-        Motion.bfsCurr[35] = Motion.bfsDist[Motion.stepOffset + 35];
-        Motion.bfsCurr[36] = Motion.bfsDist[Motion.stepOffset + 36];
-        Motion.bfsCurr[37] = Motion.bfsDist[Motion.stepOffset + 37];
-        Motion.bfsCurr[38] = Motion.bfsDist[Motion.stepOffset + 38];
-        Motion.bfsCurr[39] = Motion.bfsDist[Motion.stepOffset + 39];
-        Motion.bfsCurr[40] = Motion.bfsDist[Motion.stepOffset + 40];
-        Motion.bfsCurr[41] = Motion.bfsDist[Motion.stepOffset + 41];
-        Motion.bfsCurr[42] = Motion.bfsDist[Motion.stepOffset + 42];
-        Motion.bfsCurr[43] = Motion.bfsDist[Motion.stepOffset + 43];
-        Motion.bfsCurr[44] = Motion.bfsDist[Motion.stepOffset + 44];
-        Motion.bfsCurr[45] = Motion.bfsDist[Motion.stepOffset + 45];
-        Motion.bfsCurr[46] = Motion.bfsDist[Motion.stepOffset + 46];
-        Motion.bfsCurr[47] = Motion.bfsDist[Motion.stepOffset + 47];
-        Motion.bfsCurr[48] = Motion.bfsDist[Motion.stepOffset + 48];
-        Motion.bfsCurr[49] = Motion.bfsDist[Motion.stepOffset + 49];
-        Motion.bfsCurr[50] = Motion.bfsDist[Motion.stepOffset + 50];
-        Motion.bfsCurr[51] = Motion.bfsDist[Motion.stepOffset + 51];
-        Motion.bfsCurr[52] = Motion.bfsDist[Motion.stepOffset + 52];
-    }
-    public static void bfs53() {
-        Motion.bfsCurr[1] = Motion.bfsCurr[1] | (Motion.bfsCurr[1] >> 1) | (Motion.bfsCurr[1] << 1);
-        Motion.bfsCurr[2] = Motion.bfsCurr[2] | (Motion.bfsCurr[2] >> 1) | (Motion.bfsCurr[2] << 1);
-        Motion.bfsCurr[3] = Motion.bfsCurr[3] | (Motion.bfsCurr[3] >> 1) | (Motion.bfsCurr[3] << 1);
-        Motion.bfsCurr[4] = Motion.bfsCurr[4] | (Motion.bfsCurr[4] >> 1) | (Motion.bfsCurr[4] << 1);
-        Motion.bfsCurr[5] = Motion.bfsCurr[5] | (Motion.bfsCurr[5] >> 1) | (Motion.bfsCurr[5] << 1);
-        Motion.bfsCurr[6] = Motion.bfsCurr[6] | (Motion.bfsCurr[6] >> 1) | (Motion.bfsCurr[6] << 1);
-        Motion.bfsCurr[7] = Motion.bfsCurr[7] | (Motion.bfsCurr[7] >> 1) | (Motion.bfsCurr[7] << 1);
-        Motion.bfsCurr[8] = Motion.bfsCurr[8] | (Motion.bfsCurr[8] >> 1) | (Motion.bfsCurr[8] << 1);
-        Motion.bfsCurr[9] = Motion.bfsCurr[9] | (Motion.bfsCurr[9] >> 1) | (Motion.bfsCurr[9] << 1);
-        Motion.bfsCurr[10] = Motion.bfsCurr[10] | (Motion.bfsCurr[10] >> 1) | (Motion.bfsCurr[10] << 1);
-        Motion.bfsCurr[11] = Motion.bfsCurr[11] | (Motion.bfsCurr[11] >> 1) | (Motion.bfsCurr[11] << 1);
-        Motion.bfsCurr[12] = Motion.bfsCurr[12] | (Motion.bfsCurr[12] >> 1) | (Motion.bfsCurr[12] << 1);
-        Motion.bfsCurr[13] = Motion.bfsCurr[13] | (Motion.bfsCurr[13] >> 1) | (Motion.bfsCurr[13] << 1);
-        Motion.bfsCurr[14] = Motion.bfsCurr[14] | (Motion.bfsCurr[14] >> 1) | (Motion.bfsCurr[14] << 1);
-        Motion.bfsCurr[15] = Motion.bfsCurr[15] | (Motion.bfsCurr[15] >> 1) | (Motion.bfsCurr[15] << 1);
-        Motion.bfsCurr[16] = Motion.bfsCurr[16] | (Motion.bfsCurr[16] >> 1) | (Motion.bfsCurr[16] << 1);
-        Motion.bfsCurr[17] = Motion.bfsCurr[17] | (Motion.bfsCurr[17] >> 1) | (Motion.bfsCurr[17] << 1);
-        Motion.bfsCurr[18] = Motion.bfsCurr[18] | (Motion.bfsCurr[18] >> 1) | (Motion.bfsCurr[18] << 1);
-        Motion.bfsCurr[19] = Motion.bfsCurr[19] | (Motion.bfsCurr[19] >> 1) | (Motion.bfsCurr[19] << 1);
-        Motion.bfsCurr[20] = Motion.bfsCurr[20] | (Motion.bfsCurr[20] >> 1) | (Motion.bfsCurr[20] << 1);
-        Motion.bfsCurr[21] = Motion.bfsCurr[21] | (Motion.bfsCurr[21] >> 1) | (Motion.bfsCurr[21] << 1);
-        Motion.bfsCurr[22] = Motion.bfsCurr[22] | (Motion.bfsCurr[22] >> 1) | (Motion.bfsCurr[22] << 1);
-        Motion.bfsCurr[23] = Motion.bfsCurr[23] | (Motion.bfsCurr[23] >> 1) | (Motion.bfsCurr[23] << 1);
-        Motion.bfsCurr[24] = Motion.bfsCurr[24] | (Motion.bfsCurr[24] >> 1) | (Motion.bfsCurr[24] << 1);
-        Motion.bfsCurr[25] = Motion.bfsCurr[25] | (Motion.bfsCurr[25] >> 1) | (Motion.bfsCurr[25] << 1);
-        Motion.bfsCurr[26] = Motion.bfsCurr[26] | (Motion.bfsCurr[26] >> 1) | (Motion.bfsCurr[26] << 1);
-        Motion.bfsCurr[27] = Motion.bfsCurr[27] | (Motion.bfsCurr[27] >> 1) | (Motion.bfsCurr[27] << 1);
-        Motion.bfsCurr[28] = Motion.bfsCurr[28] | (Motion.bfsCurr[28] >> 1) | (Motion.bfsCurr[28] << 1);
-        Motion.bfsCurr[29] = Motion.bfsCurr[29] | (Motion.bfsCurr[29] >> 1) | (Motion.bfsCurr[29] << 1);
-        Motion.bfsCurr[30] = Motion.bfsCurr[30] | (Motion.bfsCurr[30] >> 1) | (Motion.bfsCurr[30] << 1);
-        Motion.bfsCurr[31] = Motion.bfsCurr[31] | (Motion.bfsCurr[31] >> 1) | (Motion.bfsCurr[31] << 1);
-        Motion.bfsCurr[32] = Motion.bfsCurr[32] | (Motion.bfsCurr[32] >> 1) | (Motion.bfsCurr[32] << 1);
-        Motion.bfsCurr[33] = Motion.bfsCurr[33] | (Motion.bfsCurr[33] >> 1) | (Motion.bfsCurr[33] << 1);
-        Motion.bfsCurr[34] = Motion.bfsCurr[34] | (Motion.bfsCurr[34] >> 1) | (Motion.bfsCurr[34] << 1);
-        Motion.bfsCurr[35] = Motion.bfsCurr[35] | (Motion.bfsCurr[35] >> 1) | (Motion.bfsCurr[35] << 1);
-        Motion.bfsCurr[36] = Motion.bfsCurr[36] | (Motion.bfsCurr[36] >> 1) | (Motion.bfsCurr[36] << 1);
-        Motion.bfsCurr[37] = Motion.bfsCurr[37] | (Motion.bfsCurr[37] >> 1) | (Motion.bfsCurr[37] << 1);
-        Motion.bfsCurr[38] = Motion.bfsCurr[38] | (Motion.bfsCurr[38] >> 1) | (Motion.bfsCurr[38] << 1);
-        Motion.bfsCurr[39] = Motion.bfsCurr[39] | (Motion.bfsCurr[39] >> 1) | (Motion.bfsCurr[39] << 1);
-        Motion.bfsCurr[40] = Motion.bfsCurr[40] | (Motion.bfsCurr[40] >> 1) | (Motion.bfsCurr[40] << 1);
-        Motion.bfsCurr[41] = Motion.bfsCurr[41] | (Motion.bfsCurr[41] >> 1) | (Motion.bfsCurr[41] << 1);
-        Motion.bfsCurr[42] = Motion.bfsCurr[42] | (Motion.bfsCurr[42] >> 1) | (Motion.bfsCurr[42] << 1);
-        Motion.bfsCurr[43] = Motion.bfsCurr[43] | (Motion.bfsCurr[43] >> 1) | (Motion.bfsCurr[43] << 1);
-        Motion.bfsCurr[44] = Motion.bfsCurr[44] | (Motion.bfsCurr[44] >> 1) | (Motion.bfsCurr[44] << 1);
-        Motion.bfsCurr[45] = Motion.bfsCurr[45] | (Motion.bfsCurr[45] >> 1) | (Motion.bfsCurr[45] << 1);
-        Motion.bfsCurr[46] = Motion.bfsCurr[46] | (Motion.bfsCurr[46] >> 1) | (Motion.bfsCurr[46] << 1);
-        Motion.bfsCurr[47] = Motion.bfsCurr[47] | (Motion.bfsCurr[47] >> 1) | (Motion.bfsCurr[47] << 1);
-        Motion.bfsCurr[48] = Motion.bfsCurr[48] | (Motion.bfsCurr[48] >> 1) | (Motion.bfsCurr[48] << 1);
-        Motion.bfsCurr[49] = Motion.bfsCurr[49] | (Motion.bfsCurr[49] >> 1) | (Motion.bfsCurr[49] << 1);
-        Motion.bfsCurr[50] = Motion.bfsCurr[50] | (Motion.bfsCurr[50] >> 1) | (Motion.bfsCurr[50] << 1);
-        Motion.bfsCurr[51] = Motion.bfsCurr[51] | (Motion.bfsCurr[51] >> 1) | (Motion.bfsCurr[51] << 1);
-        Motion.bfsCurr[52] = Motion.bfsCurr[52] | (Motion.bfsCurr[52] >> 1) | (Motion.bfsCurr[52] << 1);
-        Motion.bfsCurr[53] = Motion.bfsCurr[53] | (Motion.bfsCurr[53] >> 1) | (Motion.bfsCurr[53] << 1);
-        Motion.bfsDist[Motion.stepOffset + 1] = (Motion.bfsCurr[1] | Motion.bfsCurr[0] | Motion.bfsCurr[2]) & (Motion.bitmask ^ Motion.bfsMap[1]);
-        Motion.bfsDist[Motion.stepOffset + 2] = (Motion.bfsCurr[2] | Motion.bfsCurr[1] | Motion.bfsCurr[3]) & (Motion.bitmask ^ Motion.bfsMap[2]);
-        Motion.bfsDist[Motion.stepOffset + 3] = (Motion.bfsCurr[3] | Motion.bfsCurr[2] | Motion.bfsCurr[4]) & (Motion.bitmask ^ Motion.bfsMap[3]);
-        Motion.bfsDist[Motion.stepOffset + 4] = (Motion.bfsCurr[4] | Motion.bfsCurr[3] | Motion.bfsCurr[5]) & (Motion.bitmask ^ Motion.bfsMap[4]);
-        Motion.bfsDist[Motion.stepOffset + 5] = (Motion.bfsCurr[5] | Motion.bfsCurr[4] | Motion.bfsCurr[6]) & (Motion.bitmask ^ Motion.bfsMap[5]);
-        Motion.bfsDist[Motion.stepOffset + 6] = (Motion.bfsCurr[6] | Motion.bfsCurr[5] | Motion.bfsCurr[7]) & (Motion.bitmask ^ Motion.bfsMap[6]);
-        Motion.bfsDist[Motion.stepOffset + 7] = (Motion.bfsCurr[7] | Motion.bfsCurr[6] | Motion.bfsCurr[8]) & (Motion.bitmask ^ Motion.bfsMap[7]);
-        Motion.bfsDist[Motion.stepOffset + 8] = (Motion.bfsCurr[8] | Motion.bfsCurr[7] | Motion.bfsCurr[9]) & (Motion.bitmask ^ Motion.bfsMap[8]);
-        Motion.bfsDist[Motion.stepOffset + 9] = (Motion.bfsCurr[9] | Motion.bfsCurr[8] | Motion.bfsCurr[10]) & (Motion.bitmask ^ Motion.bfsMap[9]);
-        Motion.bfsDist[Motion.stepOffset + 10] = (Motion.bfsCurr[10] | Motion.bfsCurr[9] | Motion.bfsCurr[11]) & (Motion.bitmask ^ Motion.bfsMap[10]);
-        Motion.bfsDist[Motion.stepOffset + 11] = (Motion.bfsCurr[11] | Motion.bfsCurr[10] | Motion.bfsCurr[12]) & (Motion.bitmask ^ Motion.bfsMap[11]);
-        Motion.bfsDist[Motion.stepOffset + 12] = (Motion.bfsCurr[12] | Motion.bfsCurr[11] | Motion.bfsCurr[13]) & (Motion.bitmask ^ Motion.bfsMap[12]);
-        Motion.bfsDist[Motion.stepOffset + 13] = (Motion.bfsCurr[13] | Motion.bfsCurr[12] | Motion.bfsCurr[14]) & (Motion.bitmask ^ Motion.bfsMap[13]);
-        Motion.bfsDist[Motion.stepOffset + 14] = (Motion.bfsCurr[14] | Motion.bfsCurr[13] | Motion.bfsCurr[15]) & (Motion.bitmask ^ Motion.bfsMap[14]);
-        Motion.bfsDist[Motion.stepOffset + 15] = (Motion.bfsCurr[15] | Motion.bfsCurr[14] | Motion.bfsCurr[16]) & (Motion.bitmask ^ Motion.bfsMap[15]);
-        Motion.bfsDist[Motion.stepOffset + 16] = (Motion.bfsCurr[16] | Motion.bfsCurr[15] | Motion.bfsCurr[17]) & (Motion.bitmask ^ Motion.bfsMap[16]);
-        Motion.bfsDist[Motion.stepOffset + 17] = (Motion.bfsCurr[17] | Motion.bfsCurr[16] | Motion.bfsCurr[18]) & (Motion.bitmask ^ Motion.bfsMap[17]);
-        Motion.bfsDist[Motion.stepOffset + 18] = (Motion.bfsCurr[18] | Motion.bfsCurr[17] | Motion.bfsCurr[19]) & (Motion.bitmask ^ Motion.bfsMap[18]);
-        Motion.bfsDist[Motion.stepOffset + 19] = (Motion.bfsCurr[19] | Motion.bfsCurr[18] | Motion.bfsCurr[20]) & (Motion.bitmask ^ Motion.bfsMap[19]);
-        Motion.bfsDist[Motion.stepOffset + 20] = (Motion.bfsCurr[20] | Motion.bfsCurr[19] | Motion.bfsCurr[21]) & (Motion.bitmask ^ Motion.bfsMap[20]);
-        Motion.bfsDist[Motion.stepOffset + 21] = (Motion.bfsCurr[21] | Motion.bfsCurr[20] | Motion.bfsCurr[22]) & (Motion.bitmask ^ Motion.bfsMap[21]);
-        Motion.bfsDist[Motion.stepOffset + 22] = (Motion.bfsCurr[22] | Motion.bfsCurr[21] | Motion.bfsCurr[23]) & (Motion.bitmask ^ Motion.bfsMap[22]);
-        Motion.bfsDist[Motion.stepOffset + 23] = (Motion.bfsCurr[23] | Motion.bfsCurr[22] | Motion.bfsCurr[24]) & (Motion.bitmask ^ Motion.bfsMap[23]);
-        Motion.bfsDist[Motion.stepOffset + 24] = (Motion.bfsCurr[24] | Motion.bfsCurr[23] | Motion.bfsCurr[25]) & (Motion.bitmask ^ Motion.bfsMap[24]);
-        Motion.bfsDist[Motion.stepOffset + 25] = (Motion.bfsCurr[25] | Motion.bfsCurr[24] | Motion.bfsCurr[26]) & (Motion.bitmask ^ Motion.bfsMap[25]);
-        Motion.bfsDist[Motion.stepOffset + 26] = (Motion.bfsCurr[26] | Motion.bfsCurr[25] | Motion.bfsCurr[27]) & (Motion.bitmask ^ Motion.bfsMap[26]);
-        Motion.bfsDist[Motion.stepOffset + 27] = (Motion.bfsCurr[27] | Motion.bfsCurr[26] | Motion.bfsCurr[28]) & (Motion.bitmask ^ Motion.bfsMap[27]);
-        Motion.bfsDist[Motion.stepOffset + 28] = (Motion.bfsCurr[28] | Motion.bfsCurr[27] | Motion.bfsCurr[29]) & (Motion.bitmask ^ Motion.bfsMap[28]);
-        Motion.bfsDist[Motion.stepOffset + 29] = (Motion.bfsCurr[29] | Motion.bfsCurr[28] | Motion.bfsCurr[30]) & (Motion.bitmask ^ Motion.bfsMap[29]);
-        Motion.bfsDist[Motion.stepOffset + 30] = (Motion.bfsCurr[30] | Motion.bfsCurr[29] | Motion.bfsCurr[31]) & (Motion.bitmask ^ Motion.bfsMap[30]);
-        Motion.bfsDist[Motion.stepOffset + 31] = (Motion.bfsCurr[31] | Motion.bfsCurr[30] | Motion.bfsCurr[32]) & (Motion.bitmask ^ Motion.bfsMap[31]);
-        Motion.bfsDist[Motion.stepOffset + 32] = (Motion.bfsCurr[32] | Motion.bfsCurr[31] | Motion.bfsCurr[33]) & (Motion.bitmask ^ Motion.bfsMap[32]);
-        Motion.bfsDist[Motion.stepOffset + 33] = (Motion.bfsCurr[33] | Motion.bfsCurr[32] | Motion.bfsCurr[34]) & (Motion.bitmask ^ Motion.bfsMap[33]);
-        Motion.bfsDist[Motion.stepOffset + 34] = (Motion.bfsCurr[34] | Motion.bfsCurr[33] | Motion.bfsCurr[35]) & (Motion.bitmask ^ Motion.bfsMap[34]);
-        Motion.bfsDist[Motion.stepOffset + 35] = (Motion.bfsCurr[35] | Motion.bfsCurr[34] | Motion.bfsCurr[36]) & (Motion.bitmask ^ Motion.bfsMap[35]);
-        Motion.bfsDist[Motion.stepOffset + 36] = (Motion.bfsCurr[36] | Motion.bfsCurr[35] | Motion.bfsCurr[37]) & (Motion.bitmask ^ Motion.bfsMap[36]);
-        Motion.bfsDist[Motion.stepOffset + 37] = (Motion.bfsCurr[37] | Motion.bfsCurr[36] | Motion.bfsCurr[38]) & (Motion.bitmask ^ Motion.bfsMap[37]);
-        Motion.bfsDist[Motion.stepOffset + 38] = (Motion.bfsCurr[38] | Motion.bfsCurr[37] | Motion.bfsCurr[39]) & (Motion.bitmask ^ Motion.bfsMap[38]);
-        Motion.bfsDist[Motion.stepOffset + 39] = (Motion.bfsCurr[39] | Motion.bfsCurr[38] | Motion.bfsCurr[40]) & (Motion.bitmask ^ Motion.bfsMap[39]);
-        Motion.bfsDist[Motion.stepOffset + 40] = (Motion.bfsCurr[40] | Motion.bfsCurr[39] | Motion.bfsCurr[41]) & (Motion.bitmask ^ Motion.bfsMap[40]);
-        Motion.bfsDist[Motion.stepOffset + 41] = (Motion.bfsCurr[41] | Motion.bfsCurr[40] | Motion.bfsCurr[42]) & (Motion.bitmask ^ Motion.bfsMap[41]);
-        Motion.bfsDist[Motion.stepOffset + 42] = (Motion.bfsCurr[42] | Motion.bfsCurr[41] | Motion.bfsCurr[43]) & (Motion.bitmask ^ Motion.bfsMap[42]);
-        Motion.bfsDist[Motion.stepOffset + 43] = (Motion.bfsCurr[43] | Motion.bfsCurr[42] | Motion.bfsCurr[44]) & (Motion.bitmask ^ Motion.bfsMap[43]);
-        Motion.bfsDist[Motion.stepOffset + 44] = (Motion.bfsCurr[44] | Motion.bfsCurr[43] | Motion.bfsCurr[45]) & (Motion.bitmask ^ Motion.bfsMap[44]);
-        Motion.bfsDist[Motion.stepOffset + 45] = (Motion.bfsCurr[45] | Motion.bfsCurr[44] | Motion.bfsCurr[46]) & (Motion.bitmask ^ Motion.bfsMap[45]);
-        Motion.bfsDist[Motion.stepOffset + 46] = (Motion.bfsCurr[46] | Motion.bfsCurr[45] | Motion.bfsCurr[47]) & (Motion.bitmask ^ Motion.bfsMap[46]);
-        Motion.bfsDist[Motion.stepOffset + 47] = (Motion.bfsCurr[47] | Motion.bfsCurr[46] | Motion.bfsCurr[48]) & (Motion.bitmask ^ Motion.bfsMap[47]);
-        Motion.bfsDist[Motion.stepOffset + 48] = (Motion.bfsCurr[48] | Motion.bfsCurr[47] | Motion.bfsCurr[49]) & (Motion.bitmask ^ Motion.bfsMap[48]);
-        Motion.bfsDist[Motion.stepOffset + 49] = (Motion.bfsCurr[49] | Motion.bfsCurr[48] | Motion.bfsCurr[50]) & (Motion.bitmask ^ Motion.bfsMap[49]);
-        Motion.bfsDist[Motion.stepOffset + 50] = (Motion.bfsCurr[50] | Motion.bfsCurr[49] | Motion.bfsCurr[51]) & (Motion.bitmask ^ Motion.bfsMap[50]);
-        Motion.bfsDist[Motion.stepOffset + 51] = (Motion.bfsCurr[51] | Motion.bfsCurr[50] | Motion.bfsCurr[52]) & (Motion.bitmask ^ Motion.bfsMap[51]);
-        Motion.bfsDist[Motion.stepOffset + 52] = (Motion.bfsCurr[52] | Motion.bfsCurr[51] | Motion.bfsCurr[53]) & (Motion.bitmask ^ Motion.bfsMap[52]);
-        Motion.bfsDist[Motion.stepOffset + 53] = (Motion.bfsCurr[53] | Motion.bfsCurr[52] | Motion.bfsCurr[54]) & (Motion.bitmask ^ Motion.bfsMap[53]);
-        Motion.bfsCurr[1] = Motion.bfsDist[Motion.stepOffset + 1];
-        Motion.bfsCurr[2] = Motion.bfsDist[Motion.stepOffset + 2];
-        Motion.bfsCurr[3] = Motion.bfsDist[Motion.stepOffset + 3];
-        Motion.bfsCurr[4] = Motion.bfsDist[Motion.stepOffset + 4];
-        Motion.bfsCurr[5] = Motion.bfsDist[Motion.stepOffset + 5];
-        Motion.bfsCurr[6] = Motion.bfsDist[Motion.stepOffset + 6];
-        Motion.bfsCurr[7] = Motion.bfsDist[Motion.stepOffset + 7];
-        Motion.bfsCurr[8] = Motion.bfsDist[Motion.stepOffset + 8];
-        Motion.bfsCurr[9] = Motion.bfsDist[Motion.stepOffset + 9];
-        Motion.bfsCurr[10] = Motion.bfsDist[Motion.stepOffset + 10];
-        Motion.bfsCurr[11] = Motion.bfsDist[Motion.stepOffset + 11];
-        Motion.bfsCurr[12] = Motion.bfsDist[Motion.stepOffset + 12];
-        Motion.bfsCurr[13] = Motion.bfsDist[Motion.stepOffset + 13];
-        Motion.bfsCurr[14] = Motion.bfsDist[Motion.stepOffset + 14];
-        Motion.bfsCurr[15] = Motion.bfsDist[Motion.stepOffset + 15];
-        Motion.bfsCurr[16] = Motion.bfsDist[Motion.stepOffset + 16];
-        Motion.bfsCurr[17] = Motion.bfsDist[Motion.stepOffset + 17];
-        Motion.bfsCurr[18] = Motion.bfsDist[Motion.stepOffset + 18];
-        Motion.bfsCurr[19] = Motion.bfsDist[Motion.stepOffset + 19];
-        Motion.bfsCurr[20] = Motion.bfsDist[Motion.stepOffset + 20];
-        Motion.bfsCurr[21] = Motion.bfsDist[Motion.stepOffset + 21];
-        Motion.bfsCurr[22] = Motion.bfsDist[Motion.stepOffset + 22];
-        Motion.bfsCurr[23] = Motion.bfsDist[Motion.stepOffset + 23];
-        Motion.bfsCurr[24] = Motion.bfsDist[Motion.stepOffset + 24];
-        Motion.bfsCurr[25] = Motion.bfsDist[Motion.stepOffset + 25];
-        Motion.bfsCurr[26] = Motion.bfsDist[Motion.stepOffset + 26];
-        Motion.bfsCurr[27] = Motion.bfsDist[Motion.stepOffset + 27];
-        Motion.bfsCurr[28] = Motion.bfsDist[Motion.stepOffset + 28];
-        Motion.bfsCurr[29] = Motion.bfsDist[Motion.stepOffset + 29];
-        Motion.bfsCurr[30] = Motion.bfsDist[Motion.stepOffset + 30];
-        Motion.bfsCurr[31] = Motion.bfsDist[Motion.stepOffset + 31];
-        Motion.bfsCurr[32] = Motion.bfsDist[Motion.stepOffset + 32];
-        Motion.bfsCurr[33] = Motion.bfsDist[Motion.stepOffset + 33];
-        Motion.bfsCurr[34] = Motion.bfsDist[Motion.stepOffset + 34];
-        Motion.bfsCurr[35] = Motion.bfsDist[Motion.stepOffset + 35];
-        Motion.bfsCurr[36] = Motion.bfsDist[Motion.stepOffset + 36];
-        Motion.bfsCurr[37] = Motion.bfsDist[Motion.stepOffset + 37];
-        Motion.bfsCurr[38] = Motion.bfsDist[Motion.stepOffset + 38];
-        Motion.bfsCurr[39] = Motion.bfsDist[Motion.stepOffset + 39];
-        Motion.bfsCurr[40] = Motion.bfsDist[Motion.stepOffset + 40];
-        Motion.bfsCurr[41] = Motion.bfsDist[Motion.stepOffset + 41];
-        Motion.bfsCurr[42] = Motion.bfsDist[Motion.stepOffset + 42];
-        Motion.bfsCurr[43] = Motion.bfsDist[Motion.stepOffset + 43];
-        Motion.bfsCurr[44] = Motion.bfsDist[Motion.stepOffset + 44];
-        Motion.bfsCurr[45] = Motion.bfsDist[Motion.stepOffset + 45];
-        Motion.bfsCurr[46] = Motion.bfsDist[Motion.stepOffset + 46];
-        Motion.bfsCurr[47] = Motion.bfsDist[Motion.stepOffset + 47];
-        Motion.bfsCurr[48] = Motion.bfsDist[Motion.stepOffset + 48];
-        Motion.bfsCurr[49] = Motion.bfsDist[Motion.stepOffset + 49];
-        Motion.bfsCurr[50] = Motion.bfsDist[Motion.stepOffset + 50];
-        Motion.bfsCurr[51] = Motion.bfsDist[Motion.stepOffset + 51];
-        Motion.bfsCurr[52] = Motion.bfsDist[Motion.stepOffset + 52];
-        Motion.bfsCurr[53] = Motion.bfsDist[Motion.stepOffset + 53];
-    }
-    public static void bfs54() {
-        Motion.bfsCurr[1] = Motion.bfsCurr[1] | (Motion.bfsCurr[1] >> 1) | (Motion.bfsCurr[1] << 1);
-        Motion.bfsCurr[2] = Motion.bfsCurr[2] | (Motion.bfsCurr[2] >> 1) | (Motion.bfsCurr[2] << 1);
-        Motion.bfsCurr[3] = Motion.bfsCurr[3] | (Motion.bfsCurr[3] >> 1) | (Motion.bfsCurr[3] << 1);
-        Motion.bfsCurr[4] = Motion.bfsCurr[4] | (Motion.bfsCurr[4] >> 1) | (Motion.bfsCurr[4] << 1);
-        Motion.bfsCurr[5] = Motion.bfsCurr[5] | (Motion.bfsCurr[5] >> 1) | (Motion.bfsCurr[5] << 1);
-        Motion.bfsCurr[6] = Motion.bfsCurr[6] | (Motion.bfsCurr[6] >> 1) | (Motion.bfsCurr[6] << 1);
-        Motion.bfsCurr[7] = Motion.bfsCurr[7] | (Motion.bfsCurr[7] >> 1) | (Motion.bfsCurr[7] << 1);
-        Motion.bfsCurr[8] = Motion.bfsCurr[8] | (Motion.bfsCurr[8] >> 1) | (Motion.bfsCurr[8] << 1);
-        Motion.bfsCurr[9] = Motion.bfsCurr[9] | (Motion.bfsCurr[9] >> 1) | (Motion.bfsCurr[9] << 1);
-        Motion.bfsCurr[10] = Motion.bfsCurr[10] | (Motion.bfsCurr[10] >> 1) | (Motion.bfsCurr[10] << 1);
-        Motion.bfsCurr[11] = Motion.bfsCurr[11] | (Motion.bfsCurr[11] >> 1) | (Motion.bfsCurr[11] << 1);
-        Motion.bfsCurr[12] = Motion.bfsCurr[12] | (Motion.bfsCurr[12] >> 1) | (Motion.bfsCurr[12] << 1);
-        Motion.bfsCurr[13] = Motion.bfsCurr[13] | (Motion.bfsCurr[13] >> 1) | (Motion.bfsCurr[13] << 1);
-        Motion.bfsCurr[14] = Motion.bfsCurr[14] | (Motion.bfsCurr[14] >> 1) | (Motion.bfsCurr[14] << 1);
-        Motion.bfsCurr[15] = Motion.bfsCurr[15] | (Motion.bfsCurr[15] >> 1) | (Motion.bfsCurr[15] << 1);
-        Motion.bfsCurr[16] = Motion.bfsCurr[16] | (Motion.bfsCurr[16] >> 1) | (Motion.bfsCurr[16] << 1);
-        Motion.bfsCurr[17] = Motion.bfsCurr[17] | (Motion.bfsCurr[17] >> 1) | (Motion.bfsCurr[17] << 1);
-        Motion.bfsCurr[18] = Motion.bfsCurr[18] | (Motion.bfsCurr[18] >> 1) | (Motion.bfsCurr[18] << 1);
-        Motion.bfsCurr[19] = Motion.bfsCurr[19] | (Motion.bfsCurr[19] >> 1) | (Motion.bfsCurr[19] << 1);
-        Motion.bfsCurr[20] = Motion.bfsCurr[20] | (Motion.bfsCurr[20] >> 1) | (Motion.bfsCurr[20] << 1);
-        Motion.bfsCurr[21] = Motion.bfsCurr[21] | (Motion.bfsCurr[21] >> 1) | (Motion.bfsCurr[21] << 1);
-        Motion.bfsCurr[22] = Motion.bfsCurr[22] | (Motion.bfsCurr[22] >> 1) | (Motion.bfsCurr[22] << 1);
-        Motion.bfsCurr[23] = Motion.bfsCurr[23] | (Motion.bfsCurr[23] >> 1) | (Motion.bfsCurr[23] << 1);
-        Motion.bfsCurr[24] = Motion.bfsCurr[24] | (Motion.bfsCurr[24] >> 1) | (Motion.bfsCurr[24] << 1);
-        Motion.bfsCurr[25] = Motion.bfsCurr[25] | (Motion.bfsCurr[25] >> 1) | (Motion.bfsCurr[25] << 1);
-        Motion.bfsCurr[26] = Motion.bfsCurr[26] | (Motion.bfsCurr[26] >> 1) | (Motion.bfsCurr[26] << 1);
-        Motion.bfsCurr[27] = Motion.bfsCurr[27] | (Motion.bfsCurr[27] >> 1) | (Motion.bfsCurr[27] << 1);
-        Motion.bfsCurr[28] = Motion.bfsCurr[28] | (Motion.bfsCurr[28] >> 1) | (Motion.bfsCurr[28] << 1);
-        Motion.bfsCurr[29] = Motion.bfsCurr[29] | (Motion.bfsCurr[29] >> 1) | (Motion.bfsCurr[29] << 1);
-        Motion.bfsCurr[30] = Motion.bfsCurr[30] | (Motion.bfsCurr[30] >> 1) | (Motion.bfsCurr[30] << 1);
-        Motion.bfsCurr[31] = Motion.bfsCurr[31] | (Motion.bfsCurr[31] >> 1) | (Motion.bfsCurr[31] << 1);
-        Motion.bfsCurr[32] = Motion.bfsCurr[32] | (Motion.bfsCurr[32] >> 1) | (Motion.bfsCurr[32] << 1);
-        Motion.bfsCurr[33] = Motion.bfsCurr[33] | (Motion.bfsCurr[33] >> 1) | (Motion.bfsCurr[33] << 1);
-        Motion.bfsCurr[34] = Motion.bfsCurr[34] | (Motion.bfsCurr[34] >> 1) | (Motion.bfsCurr[34] << 1);
-        Motion.bfsCurr[35] = Motion.bfsCurr[35] | (Motion.bfsCurr[35] >> 1) | (Motion.bfsCurr[35] << 1);
-        Motion.bfsCurr[36] = Motion.bfsCurr[36] | (Motion.bfsCurr[36] >> 1) | (Motion.bfsCurr[36] << 1);
-        Motion.bfsCurr[37] = Motion.bfsCurr[37] | (Motion.bfsCurr[37] >> 1) | (Motion.bfsCurr[37] << 1);
-        Motion.bfsCurr[38] = Motion.bfsCurr[38] | (Motion.bfsCurr[38] >> 1) | (Motion.bfsCurr[38] << 1);
-        Motion.bfsCurr[39] = Motion.bfsCurr[39] | (Motion.bfsCurr[39] >> 1) | (Motion.bfsCurr[39] << 1);
-        Motion.bfsCurr[40] = Motion.bfsCurr[40] | (Motion.bfsCurr[40] >> 1) | (Motion.bfsCurr[40] << 1);
-        Motion.bfsCurr[41] = Motion.bfsCurr[41] | (Motion.bfsCurr[41] >> 1) | (Motion.bfsCurr[41] << 1);
-        Motion.bfsCurr[42] = Motion.bfsCurr[42] | (Motion.bfsCurr[42] >> 1) | (Motion.bfsCurr[42] << 1);
-        Motion.bfsCurr[43] = Motion.bfsCurr[43] | (Motion.bfsCurr[43] >> 1) | (Motion.bfsCurr[43] << 1);
-        Motion.bfsCurr[44] = Motion.bfsCurr[44] | (Motion.bfsCurr[44] >> 1) | (Motion.bfsCurr[44] << 1);
-        Motion.bfsCurr[45] = Motion.bfsCurr[45] | (Motion.bfsCurr[45] >> 1) | (Motion.bfsCurr[45] << 1);
-        Motion.bfsCurr[46] = Motion.bfsCurr[46] | (Motion.bfsCurr[46] >> 1) | (Motion.bfsCurr[46] << 1);
-        Motion.bfsCurr[47] = Motion.bfsCurr[47] | (Motion.bfsCurr[47] >> 1) | (Motion.bfsCurr[47] << 1);
-        Motion.bfsCurr[48] = Motion.bfsCurr[48] | (Motion.bfsCurr[48] >> 1) | (Motion.bfsCurr[48] << 1);
-        Motion.bfsCurr[49] = Motion.bfsCurr[49] | (Motion.bfsCurr[49] >> 1) | (Motion.bfsCurr[49] << 1);
-        Motion.bfsCurr[50] = Motion.bfsCurr[50] | (Motion.bfsCurr[50] >> 1) | (Motion.bfsCurr[50] << 1);
-        Motion.bfsCurr[51] = Motion.bfsCurr[51] | (Motion.bfsCurr[51] >> 1) | (Motion.bfsCurr[51] << 1);
-        Motion.bfsCurr[52] = Motion.bfsCurr[52] | (Motion.bfsCurr[52] >> 1) | (Motion.bfsCurr[52] << 1);
-        Motion.bfsCurr[53] = Motion.bfsCurr[53] | (Motion.bfsCurr[53] >> 1) | (Motion.bfsCurr[53] << 1);
-        Motion.bfsCurr[54] = Motion.bfsCurr[54] | (Motion.bfsCurr[54] >> 1) | (Motion.bfsCurr[54] << 1);
-        Motion.bfsDist[Motion.stepOffset + 1] = (Motion.bfsCurr[1] | Motion.bfsCurr[0] | Motion.bfsCurr[2]) & (Motion.bitmask ^ Motion.bfsMap[1]);
-        Motion.bfsDist[Motion.stepOffset + 2] = (Motion.bfsCurr[2] | Motion.bfsCurr[1] | Motion.bfsCurr[3]) & (Motion.bitmask ^ Motion.bfsMap[2]);
-        Motion.bfsDist[Motion.stepOffset + 3] = (Motion.bfsCurr[3] | Motion.bfsCurr[2] | Motion.bfsCurr[4]) & (Motion.bitmask ^ Motion.bfsMap[3]);
-        Motion.bfsDist[Motion.stepOffset + 4] = (Motion.bfsCurr[4] | Motion.bfsCurr[3] | Motion.bfsCurr[5]) & (Motion.bitmask ^ Motion.bfsMap[4]);
-        Motion.bfsDist[Motion.stepOffset + 5] = (Motion.bfsCurr[5] | Motion.bfsCurr[4] | Motion.bfsCurr[6]) & (Motion.bitmask ^ Motion.bfsMap[5]);
-        Motion.bfsDist[Motion.stepOffset + 6] = (Motion.bfsCurr[6] | Motion.bfsCurr[5] | Motion.bfsCurr[7]) & (Motion.bitmask ^ Motion.bfsMap[6]);
-        Motion.bfsDist[Motion.stepOffset + 7] = (Motion.bfsCurr[7] | Motion.bfsCurr[6] | Motion.bfsCurr[8]) & (Motion.bitmask ^ Motion.bfsMap[7]);
-        Motion.bfsDist[Motion.stepOffset + 8] = (Motion.bfsCurr[8] | Motion.bfsCurr[7] | Motion.bfsCurr[9]) & (Motion.bitmask ^ Motion.bfsMap[8]);
-        Motion.bfsDist[Motion.stepOffset + 9] = (Motion.bfsCurr[9] | Motion.bfsCurr[8] | Motion.bfsCurr[10]) & (Motion.bitmask ^ Motion.bfsMap[9]);
-        Motion.bfsDist[Motion.stepOffset + 10] = (Motion.bfsCurr[10] | Motion.bfsCurr[9] | Motion.bfsCurr[11]) & (Motion.bitmask ^ Motion.bfsMap[10]);
-        Motion.bfsDist[Motion.stepOffset + 11] = (Motion.bfsCurr[11] | Motion.bfsCurr[10] | Motion.bfsCurr[12]) & (Motion.bitmask ^ Motion.bfsMap[11]);
-        Motion.bfsDist[Motion.stepOffset + 12] = (Motion.bfsCurr[12] | Motion.bfsCurr[11] | Motion.bfsCurr[13]) & (Motion.bitmask ^ Motion.bfsMap[12]);
-        Motion.bfsDist[Motion.stepOffset + 13] = (Motion.bfsCurr[13] | Motion.bfsCurr[12] | Motion.bfsCurr[14]) & (Motion.bitmask ^ Motion.bfsMap[13]);
-        Motion.bfsDist[Motion.stepOffset + 14] = (Motion.bfsCurr[14] | Motion.bfsCurr[13] | Motion.bfsCurr[15]) & (Motion.bitmask ^ Motion.bfsMap[14]);
-        Motion.bfsDist[Motion.stepOffset + 15] = (Motion.bfsCurr[15] | Motion.bfsCurr[14] | Motion.bfsCurr[16]) & (Motion.bitmask ^ Motion.bfsMap[15]);
-        Motion.bfsDist[Motion.stepOffset + 16] = (Motion.bfsCurr[16] | Motion.bfsCurr[15] | Motion.bfsCurr[17]) & (Motion.bitmask ^ Motion.bfsMap[16]);
-        Motion.bfsDist[Motion.stepOffset + 17] = (Motion.bfsCurr[17] | Motion.bfsCurr[16] | Motion.bfsCurr[18]) & (Motion.bitmask ^ Motion.bfsMap[17]);
-        Motion.bfsDist[Motion.stepOffset + 18] = (Motion.bfsCurr[18] | Motion.bfsCurr[17] | Motion.bfsCurr[19]) & (Motion.bitmask ^ Motion.bfsMap[18]);
-        Motion.bfsDist[Motion.stepOffset + 19] = (Motion.bfsCurr[19] | Motion.bfsCurr[18] | Motion.bfsCurr[20]) & (Motion.bitmask ^ Motion.bfsMap[19]);
-        Motion.bfsDist[Motion.stepOffset + 20] = (Motion.bfsCurr[20] | Motion.bfsCurr[19] | Motion.bfsCurr[21]) & (Motion.bitmask ^ Motion.bfsMap[20]);
-        Motion.bfsDist[Motion.stepOffset + 21] = (Motion.bfsCurr[21] | Motion.bfsCurr[20] | Motion.bfsCurr[22]) & (Motion.bitmask ^ Motion.bfsMap[21]);
-        Motion.bfsDist[Motion.stepOffset + 22] = (Motion.bfsCurr[22] | Motion.bfsCurr[21] | Motion.bfsCurr[23]) & (Motion.bitmask ^ Motion.bfsMap[22]);
-        Motion.bfsDist[Motion.stepOffset + 23] = (Motion.bfsCurr[23] | Motion.bfsCurr[22] | Motion.bfsCurr[24]) & (Motion.bitmask ^ Motion.bfsMap[23]);
-        Motion.bfsDist[Motion.stepOffset + 24] = (Motion.bfsCurr[24] | Motion.bfsCurr[23] | Motion.bfsCurr[25]) & (Motion.bitmask ^ Motion.bfsMap[24]);
-        Motion.bfsDist[Motion.stepOffset + 25] = (Motion.bfsCurr[25] | Motion.bfsCurr[24] | Motion.bfsCurr[26]) & (Motion.bitmask ^ Motion.bfsMap[25]);
-        Motion.bfsDist[Motion.stepOffset + 26] = (Motion.bfsCurr[26] | Motion.bfsCurr[25] | Motion.bfsCurr[27]) & (Motion.bitmask ^ Motion.bfsMap[26]);
-        Motion.bfsDist[Motion.stepOffset + 27] = (Motion.bfsCurr[27] | Motion.bfsCurr[26] | Motion.bfsCurr[28]) & (Motion.bitmask ^ Motion.bfsMap[27]);
-        Motion.bfsDist[Motion.stepOffset + 28] = (Motion.bfsCurr[28] | Motion.bfsCurr[27] | Motion.bfsCurr[29]) & (Motion.bitmask ^ Motion.bfsMap[28]);
-        Motion.bfsDist[Motion.stepOffset + 29] = (Motion.bfsCurr[29] | Motion.bfsCurr[28] | Motion.bfsCurr[30]) & (Motion.bitmask ^ Motion.bfsMap[29]);
-        Motion.bfsDist[Motion.stepOffset + 30] = (Motion.bfsCurr[30] | Motion.bfsCurr[29] | Motion.bfsCurr[31]) & (Motion.bitmask ^ Motion.bfsMap[30]);
-        Motion.bfsDist[Motion.stepOffset + 31] = (Motion.bfsCurr[31] | Motion.bfsCurr[30] | Motion.bfsCurr[32]) & (Motion.bitmask ^ Motion.bfsMap[31]);
-        Motion.bfsDist[Motion.stepOffset + 32] = (Motion.bfsCurr[32] | Motion.bfsCurr[31] | Motion.bfsCurr[33]) & (Motion.bitmask ^ Motion.bfsMap[32]);
-        Motion.bfsDist[Motion.stepOffset + 33] = (Motion.bfsCurr[33] | Motion.bfsCurr[32] | Motion.bfsCurr[34]) & (Motion.bitmask ^ Motion.bfsMap[33]);
-        Motion.bfsDist[Motion.stepOffset + 34] = (Motion.bfsCurr[34] | Motion.bfsCurr[33] | Motion.bfsCurr[35]) & (Motion.bitmask ^ Motion.bfsMap[34]);
-        Motion.bfsDist[Motion.stepOffset + 35] = (Motion.bfsCurr[35] | Motion.bfsCurr[34] | Motion.bfsCurr[36]) & (Motion.bitmask ^ Motion.bfsMap[35]);
-        Motion.bfsDist[Motion.stepOffset + 36] = (Motion.bfsCurr[36] | Motion.bfsCurr[35] | Motion.bfsCurr[37]) & (Motion.bitmask ^ Motion.bfsMap[36]);
-        Motion.bfsDist[Motion.stepOffset + 37] = (Motion.bfsCurr[37] | Motion.bfsCurr[36] | Motion.bfsCurr[38]) & (Motion.bitmask ^ Motion.bfsMap[37]);
-        Motion.bfsDist[Motion.stepOffset + 38] = (Motion.bfsCurr[38] | Motion.bfsCurr[37] | Motion.bfsCurr[39]) & (Motion.bitmask ^ Motion.bfsMap[38]);
-        Motion.bfsDist[Motion.stepOffset + 39] = (Motion.bfsCurr[39] | Motion.bfsCurr[38] | Motion.bfsCurr[40]) & (Motion.bitmask ^ Motion.bfsMap[39]);
-        Motion.bfsDist[Motion.stepOffset + 40] = (Motion.bfsCurr[40] | Motion.bfsCurr[39] | Motion.bfsCurr[41]) & (Motion.bitmask ^ Motion.bfsMap[40]);
-        Motion.bfsDist[Motion.stepOffset + 41] = (Motion.bfsCurr[41] | Motion.bfsCurr[40] | Motion.bfsCurr[42]) & (Motion.bitmask ^ Motion.bfsMap[41]);
-        Motion.bfsDist[Motion.stepOffset + 42] = (Motion.bfsCurr[42] | Motion.bfsCurr[41] | Motion.bfsCurr[43]) & (Motion.bitmask ^ Motion.bfsMap[42]);
-        Motion.bfsDist[Motion.stepOffset + 43] = (Motion.bfsCurr[43] | Motion.bfsCurr[42] | Motion.bfsCurr[44]) & (Motion.bitmask ^ Motion.bfsMap[43]);
-        Motion.bfsDist[Motion.stepOffset + 44] = (Motion.bfsCurr[44] | Motion.bfsCurr[43] | Motion.bfsCurr[45]) & (Motion.bitmask ^ Motion.bfsMap[44]);
-        Motion.bfsDist[Motion.stepOffset + 45] = (Motion.bfsCurr[45] | Motion.bfsCurr[44] | Motion.bfsCurr[46]) & (Motion.bitmask ^ Motion.bfsMap[45]);
-        Motion.bfsDist[Motion.stepOffset + 46] = (Motion.bfsCurr[46] | Motion.bfsCurr[45] | Motion.bfsCurr[47]) & (Motion.bitmask ^ Motion.bfsMap[46]);
-        Motion.bfsDist[Motion.stepOffset + 47] = (Motion.bfsCurr[47] | Motion.bfsCurr[46] | Motion.bfsCurr[48]) & (Motion.bitmask ^ Motion.bfsMap[47]);
-        Motion.bfsDist[Motion.stepOffset + 48] = (Motion.bfsCurr[48] | Motion.bfsCurr[47] | Motion.bfsCurr[49]) & (Motion.bitmask ^ Motion.bfsMap[48]);
-        Motion.bfsDist[Motion.stepOffset + 49] = (Motion.bfsCurr[49] | Motion.bfsCurr[48] | Motion.bfsCurr[50]) & (Motion.bitmask ^ Motion.bfsMap[49]);
-        Motion.bfsDist[Motion.stepOffset + 50] = (Motion.bfsCurr[50] | Motion.bfsCurr[49] | Motion.bfsCurr[51]) & (Motion.bitmask ^ Motion.bfsMap[50]);
-        Motion.bfsDist[Motion.stepOffset + 51] = (Motion.bfsCurr[51] | Motion.bfsCurr[50] | Motion.bfsCurr[52]) & (Motion.bitmask ^ Motion.bfsMap[51]);
-        Motion.bfsDist[Motion.stepOffset + 52] = (Motion.bfsCurr[52] | Motion.bfsCurr[51] | Motion.bfsCurr[53]) & (Motion.bitmask ^ Motion.bfsMap[52]);
-        Motion.bfsDist[Motion.stepOffset + 53] = (Motion.bfsCurr[53] | Motion.bfsCurr[52] | Motion.bfsCurr[54]) & (Motion.bitmask ^ Motion.bfsMap[53]);
-        Motion.bfsDist[Motion.stepOffset + 54] = (Motion.bfsCurr[54] | Motion.bfsCurr[53] | Motion.bfsCurr[55]) & (Motion.bitmask ^ Motion.bfsMap[54]);
-        Motion.bfsCurr[1] = Motion.bfsDist[Motion.stepOffset + 1];
-        Motion.bfsCurr[2] = Motion.bfsDist[Motion.stepOffset + 2];
-        Motion.bfsCurr[3] = Motion.bfsDist[Motion.stepOffset + 3];
-        Motion.bfsCurr[4] = Motion.bfsDist[Motion.stepOffset + 4];
-        Motion.bfsCurr[5] = Motion.bfsDist[Motion.stepOffset + 5];
-        Motion.bfsCurr[6] = Motion.bfsDist[Motion.stepOffset + 6];
-        Motion.bfsCurr[7] = Motion.bfsDist[Motion.stepOffset + 7];
-        Motion.bfsCurr[8] = Motion.bfsDist[Motion.stepOffset + 8];
-        Motion.bfsCurr[9] = Motion.bfsDist[Motion.stepOffset + 9];
-        Motion.bfsCurr[10] = Motion.bfsDist[Motion.stepOffset + 10];
-        Motion.bfsCurr[11] = Motion.bfsDist[Motion.stepOffset + 11];
-        Motion.bfsCurr[12] = Motion.bfsDist[Motion.stepOffset + 12];
-        Motion.bfsCurr[13] = Motion.bfsDist[Motion.stepOffset + 13];
-        Motion.bfsCurr[14] = Motion.bfsDist[Motion.stepOffset + 14];
-        Motion.bfsCurr[15] = Motion.bfsDist[Motion.stepOffset + 15];
-        Motion.bfsCurr[16] = Motion.bfsDist[Motion.stepOffset + 16];
-        Motion.bfsCurr[17] = Motion.bfsDist[Motion.stepOffset + 17];
-        Motion.bfsCurr[18] = Motion.bfsDist[Motion.stepOffset + 18];
-        Motion.bfsCurr[19] = Motion.bfsDist[Motion.stepOffset + 19];
-        Motion.bfsCurr[20] = Motion.bfsDist[Motion.stepOffset + 20];
-        Motion.bfsCurr[21] = Motion.bfsDist[Motion.stepOffset + 21];
-        Motion.bfsCurr[22] = Motion.bfsDist[Motion.stepOffset + 22];
-        Motion.bfsCurr[23] = Motion.bfsDist[Motion.stepOffset + 23];
-        Motion.bfsCurr[24] = Motion.bfsDist[Motion.stepOffset + 24];
-        Motion.bfsCurr[25] = Motion.bfsDist[Motion.stepOffset + 25];
-        Motion.bfsCurr[26] = Motion.bfsDist[Motion.stepOffset + 26];
-        Motion.bfsCurr[27] = Motion.bfsDist[Motion.stepOffset + 27];
-        Motion.bfsCurr[28] = Motion.bfsDist[Motion.stepOffset + 28];
-        Motion.bfsCurr[29] = Motion.bfsDist[Motion.stepOffset + 29];
-        Motion.bfsCurr[30] = Motion.bfsDist[Motion.stepOffset + 30];
-        Motion.bfsCurr[31] = Motion.bfsDist[Motion.stepOffset + 31];
-        Motion.bfsCurr[32] = Motion.bfsDist[Motion.stepOffset + 32];
-        Motion.bfsCurr[33] = Motion.bfsDist[Motion.stepOffset + 33];
-        Motion.bfsCurr[34] = Motion.bfsDist[Motion.stepOffset + 34];
-        Motion.bfsCurr[35] = Motion.bfsDist[Motion.stepOffset + 35];
-        Motion.bfsCurr[36] = Motion.bfsDist[Motion.stepOffset + 36];
-        Motion.bfsCurr[37] = Motion.bfsDist[Motion.stepOffset + 37];
-        Motion.bfsCurr[38] = Motion.bfsDist[Motion.stepOffset + 38];
-        Motion.bfsCurr[39] = Motion.bfsDist[Motion.stepOffset + 39];
-        Motion.bfsCurr[40] = Motion.bfsDist[Motion.stepOffset + 40];
-        Motion.bfsCurr[41] = Motion.bfsDist[Motion.stepOffset + 41];
-        Motion.bfsCurr[42] = Motion.bfsDist[Motion.stepOffset + 42];
-        Motion.bfsCurr[43] = Motion.bfsDist[Motion.stepOffset + 43];
-        Motion.bfsCurr[44] = Motion.bfsDist[Motion.stepOffset + 44];
-        Motion.bfsCurr[45] = Motion.bfsDist[Motion.stepOffset + 45];
-        Motion.bfsCurr[46] = Motion.bfsDist[Motion.stepOffset + 46];
-        Motion.bfsCurr[47] = Motion.bfsDist[Motion.stepOffset + 47];
-        Motion.bfsCurr[48] = Motion.bfsDist[Motion.stepOffset + 48];
-        Motion.bfsCurr[49] = Motion.bfsDist[Motion.stepOffset + 49];
-        Motion.bfsCurr[50] = Motion.bfsDist[Motion.stepOffset + 50];
-        Motion.bfsCurr[51] = Motion.bfsDist[Motion.stepOffset + 51];
-        Motion.bfsCurr[52] = Motion.bfsDist[Motion.stepOffset + 52];
-        Motion.bfsCurr[53] = Motion.bfsDist[Motion.stepOffset + 53];
-        Motion.bfsCurr[54] = Motion.bfsDist[Motion.stepOffset + 54];
-    }
-    public static void bfs55() {
-        Motion.bfsCurr[1] = Motion.bfsCurr[1] | (Motion.bfsCurr[1] >> 1) | (Motion.bfsCurr[1] << 1);
-        Motion.bfsCurr[2] = Motion.bfsCurr[2] | (Motion.bfsCurr[2] >> 1) | (Motion.bfsCurr[2] << 1);
-        Motion.bfsCurr[3] = Motion.bfsCurr[3] | (Motion.bfsCurr[3] >> 1) | (Motion.bfsCurr[3] << 1);
-        Motion.bfsCurr[4] = Motion.bfsCurr[4] | (Motion.bfsCurr[4] >> 1) | (Motion.bfsCurr[4] << 1);
-        Motion.bfsCurr[5] = Motion.bfsCurr[5] | (Motion.bfsCurr[5] >> 1) | (Motion.bfsCurr[5] << 1);
-        Motion.bfsCurr[6] = Motion.bfsCurr[6] | (Motion.bfsCurr[6] >> 1) | (Motion.bfsCurr[6] << 1);
-        Motion.bfsCurr[7] = Motion.bfsCurr[7] | (Motion.bfsCurr[7] >> 1) | (Motion.bfsCurr[7] << 1);
-        Motion.bfsCurr[8] = Motion.bfsCurr[8] | (Motion.bfsCurr[8] >> 1) | (Motion.bfsCurr[8] << 1);
-        Motion.bfsCurr[9] = Motion.bfsCurr[9] | (Motion.bfsCurr[9] >> 1) | (Motion.bfsCurr[9] << 1);
-        Motion.bfsCurr[10] = Motion.bfsCurr[10] | (Motion.bfsCurr[10] >> 1) | (Motion.bfsCurr[10] << 1);
-        Motion.bfsCurr[11] = Motion.bfsCurr[11] | (Motion.bfsCurr[11] >> 1) | (Motion.bfsCurr[11] << 1);
-        Motion.bfsCurr[12] = Motion.bfsCurr[12] | (Motion.bfsCurr[12] >> 1) | (Motion.bfsCurr[12] << 1);
-        Motion.bfsCurr[13] = Motion.bfsCurr[13] | (Motion.bfsCurr[13] >> 1) | (Motion.bfsCurr[13] << 1);
-        Motion.bfsCurr[14] = Motion.bfsCurr[14] | (Motion.bfsCurr[14] >> 1) | (Motion.bfsCurr[14] << 1);
-        Motion.bfsCurr[15] = Motion.bfsCurr[15] | (Motion.bfsCurr[15] >> 1) | (Motion.bfsCurr[15] << 1);
-        Motion.bfsCurr[16] = Motion.bfsCurr[16] | (Motion.bfsCurr[16] >> 1) | (Motion.bfsCurr[16] << 1);
-        Motion.bfsCurr[17] = Motion.bfsCurr[17] | (Motion.bfsCurr[17] >> 1) | (Motion.bfsCurr[17] << 1);
-        Motion.bfsCurr[18] = Motion.bfsCurr[18] | (Motion.bfsCurr[18] >> 1) | (Motion.bfsCurr[18] << 1);
-        Motion.bfsCurr[19] = Motion.bfsCurr[19] | (Motion.bfsCurr[19] >> 1) | (Motion.bfsCurr[19] << 1);
-        Motion.bfsCurr[20] = Motion.bfsCurr[20] | (Motion.bfsCurr[20] >> 1) | (Motion.bfsCurr[20] << 1);
-        Motion.bfsCurr[21] = Motion.bfsCurr[21] | (Motion.bfsCurr[21] >> 1) | (Motion.bfsCurr[21] << 1);
-        Motion.bfsCurr[22] = Motion.bfsCurr[22] | (Motion.bfsCurr[22] >> 1) | (Motion.bfsCurr[22] << 1);
-        Motion.bfsCurr[23] = Motion.bfsCurr[23] | (Motion.bfsCurr[23] >> 1) | (Motion.bfsCurr[23] << 1);
-        Motion.bfsCurr[24] = Motion.bfsCurr[24] | (Motion.bfsCurr[24] >> 1) | (Motion.bfsCurr[24] << 1);
-        Motion.bfsCurr[25] = Motion.bfsCurr[25] | (Motion.bfsCurr[25] >> 1) | (Motion.bfsCurr[25] << 1);
-        Motion.bfsCurr[26] = Motion.bfsCurr[26] | (Motion.bfsCurr[26] >> 1) | (Motion.bfsCurr[26] << 1);
-        Motion.bfsCurr[27] = Motion.bfsCurr[27] | (Motion.bfsCurr[27] >> 1) | (Motion.bfsCurr[27] << 1);
-        Motion.bfsCurr[28] = Motion.bfsCurr[28] | (Motion.bfsCurr[28] >> 1) | (Motion.bfsCurr[28] << 1);
-        Motion.bfsCurr[29] = Motion.bfsCurr[29] | (Motion.bfsCurr[29] >> 1) | (Motion.bfsCurr[29] << 1);
-        Motion.bfsCurr[30] = Motion.bfsCurr[30] | (Motion.bfsCurr[30] >> 1) | (Motion.bfsCurr[30] << 1);
-        Motion.bfsCurr[31] = Motion.bfsCurr[31] | (Motion.bfsCurr[31] >> 1) | (Motion.bfsCurr[31] << 1);
-        Motion.bfsCurr[32] = Motion.bfsCurr[32] | (Motion.bfsCurr[32] >> 1) | (Motion.bfsCurr[32] << 1);
-        Motion.bfsCurr[33] = Motion.bfsCurr[33] | (Motion.bfsCurr[33] >> 1) | (Motion.bfsCurr[33] << 1);
-        Motion.bfsCurr[34] = Motion.bfsCurr[34] | (Motion.bfsCurr[34] >> 1) | (Motion.bfsCurr[34] << 1);
-        Motion.bfsCurr[35] = Motion.bfsCurr[35] | (Motion.bfsCurr[35] >> 1) | (Motion.bfsCurr[35] << 1);
-        Motion.bfsCurr[36] = Motion.bfsCurr[36] | (Motion.bfsCurr[36] >> 1) | (Motion.bfsCurr[36] << 1);
-        Motion.bfsCurr[37] = Motion.bfsCurr[37] | (Motion.bfsCurr[37] >> 1) | (Motion.bfsCurr[37] << 1);
-        Motion.bfsCurr[38] = Motion.bfsCurr[38] | (Motion.bfsCurr[38] >> 1) | (Motion.bfsCurr[38] << 1);
-        Motion.bfsCurr[39] = Motion.bfsCurr[39] | (Motion.bfsCurr[39] >> 1) | (Motion.bfsCurr[39] << 1);
-        Motion.bfsCurr[40] = Motion.bfsCurr[40] | (Motion.bfsCurr[40] >> 1) | (Motion.bfsCurr[40] << 1);
-        Motion.bfsCurr[41] = Motion.bfsCurr[41] | (Motion.bfsCurr[41] >> 1) | (Motion.bfsCurr[41] << 1);
-        Motion.bfsCurr[42] = Motion.bfsCurr[42] | (Motion.bfsCurr[42] >> 1) | (Motion.bfsCurr[42] << 1);
-        Motion.bfsCurr[43] = Motion.bfsCurr[43] | (Motion.bfsCurr[43] >> 1) | (Motion.bfsCurr[43] << 1);
-        Motion.bfsCurr[44] = Motion.bfsCurr[44] | (Motion.bfsCurr[44] >> 1) | (Motion.bfsCurr[44] << 1);
-        Motion.bfsCurr[45] = Motion.bfsCurr[45] | (Motion.bfsCurr[45] >> 1) | (Motion.bfsCurr[45] << 1);
-        Motion.bfsCurr[46] = Motion.bfsCurr[46] | (Motion.bfsCurr[46] >> 1) | (Motion.bfsCurr[46] << 1);
-        Motion.bfsCurr[47] = Motion.bfsCurr[47] | (Motion.bfsCurr[47] >> 1) | (Motion.bfsCurr[47] << 1);
-        Motion.bfsCurr[48] = Motion.bfsCurr[48] | (Motion.bfsCurr[48] >> 1) | (Motion.bfsCurr[48] << 1);
-        Motion.bfsCurr[49] = Motion.bfsCurr[49] | (Motion.bfsCurr[49] >> 1) | (Motion.bfsCurr[49] << 1);
-        Motion.bfsCurr[50] = Motion.bfsCurr[50] | (Motion.bfsCurr[50] >> 1) | (Motion.bfsCurr[50] << 1);
-        Motion.bfsCurr[51] = Motion.bfsCurr[51] | (Motion.bfsCurr[51] >> 1) | (Motion.bfsCurr[51] << 1);
-        Motion.bfsCurr[52] = Motion.bfsCurr[52] | (Motion.bfsCurr[52] >> 1) | (Motion.bfsCurr[52] << 1);
-        Motion.bfsCurr[53] = Motion.bfsCurr[53] | (Motion.bfsCurr[53] >> 1) | (Motion.bfsCurr[53] << 1);
-        Motion.bfsCurr[54] = Motion.bfsCurr[54] | (Motion.bfsCurr[54] >> 1) | (Motion.bfsCurr[54] << 1);
-        Motion.bfsCurr[55] = Motion.bfsCurr[55] | (Motion.bfsCurr[55] >> 1) | (Motion.bfsCurr[55] << 1);
-        Motion.bfsDist[Motion.stepOffset + 1] = (Motion.bfsCurr[1] | Motion.bfsCurr[0] | Motion.bfsCurr[2]) & (Motion.bitmask ^ Motion.bfsMap[1]);
-        Motion.bfsDist[Motion.stepOffset + 2] = (Motion.bfsCurr[2] | Motion.bfsCurr[1] | Motion.bfsCurr[3]) & (Motion.bitmask ^ Motion.bfsMap[2]);
-        Motion.bfsDist[Motion.stepOffset + 3] = (Motion.bfsCurr[3] | Motion.bfsCurr[2] | Motion.bfsCurr[4]) & (Motion.bitmask ^ Motion.bfsMap[3]);
-        Motion.bfsDist[Motion.stepOffset + 4] = (Motion.bfsCurr[4] | Motion.bfsCurr[3] | Motion.bfsCurr[5]) & (Motion.bitmask ^ Motion.bfsMap[4]);
-        Motion.bfsDist[Motion.stepOffset + 5] = (Motion.bfsCurr[5] | Motion.bfsCurr[4] | Motion.bfsCurr[6]) & (Motion.bitmask ^ Motion.bfsMap[5]);
-        Motion.bfsDist[Motion.stepOffset + 6] = (Motion.bfsCurr[6] | Motion.bfsCurr[5] | Motion.bfsCurr[7]) & (Motion.bitmask ^ Motion.bfsMap[6]);
-        Motion.bfsDist[Motion.stepOffset + 7] = (Motion.bfsCurr[7] | Motion.bfsCurr[6] | Motion.bfsCurr[8]) & (Motion.bitmask ^ Motion.bfsMap[7]);
-        Motion.bfsDist[Motion.stepOffset + 8] = (Motion.bfsCurr[8] | Motion.bfsCurr[7] | Motion.bfsCurr[9]) & (Motion.bitmask ^ Motion.bfsMap[8]);
-        Motion.bfsDist[Motion.stepOffset + 9] = (Motion.bfsCurr[9] | Motion.bfsCurr[8] | Motion.bfsCurr[10]) & (Motion.bitmask ^ Motion.bfsMap[9]);
-        Motion.bfsDist[Motion.stepOffset + 10] = (Motion.bfsCurr[10] | Motion.bfsCurr[9] | Motion.bfsCurr[11]) & (Motion.bitmask ^ Motion.bfsMap[10]);
-        Motion.bfsDist[Motion.stepOffset + 11] = (Motion.bfsCurr[11] | Motion.bfsCurr[10] | Motion.bfsCurr[12]) & (Motion.bitmask ^ Motion.bfsMap[11]);
-        Motion.bfsDist[Motion.stepOffset + 12] = (Motion.bfsCurr[12] | Motion.bfsCurr[11] | Motion.bfsCurr[13]) & (Motion.bitmask ^ Motion.bfsMap[12]);
-        Motion.bfsDist[Motion.stepOffset + 13] = (Motion.bfsCurr[13] | Motion.bfsCurr[12] | Motion.bfsCurr[14]) & (Motion.bitmask ^ Motion.bfsMap[13]);
-        Motion.bfsDist[Motion.stepOffset + 14] = (Motion.bfsCurr[14] | Motion.bfsCurr[13] | Motion.bfsCurr[15]) & (Motion.bitmask ^ Motion.bfsMap[14]);
-        Motion.bfsDist[Motion.stepOffset + 15] = (Motion.bfsCurr[15] | Motion.bfsCurr[14] | Motion.bfsCurr[16]) & (Motion.bitmask ^ Motion.bfsMap[15]);
-        Motion.bfsDist[Motion.stepOffset + 16] = (Motion.bfsCurr[16] | Motion.bfsCurr[15] | Motion.bfsCurr[17]) & (Motion.bitmask ^ Motion.bfsMap[16]);
-        Motion.bfsDist[Motion.stepOffset + 17] = (Motion.bfsCurr[17] | Motion.bfsCurr[16] | Motion.bfsCurr[18]) & (Motion.bitmask ^ Motion.bfsMap[17]);
-        Motion.bfsDist[Motion.stepOffset + 18] = (Motion.bfsCurr[18] | Motion.bfsCurr[17] | Motion.bfsCurr[19]) & (Motion.bitmask ^ Motion.bfsMap[18]);
-        Motion.bfsDist[Motion.stepOffset + 19] = (Motion.bfsCurr[19] | Motion.bfsCurr[18] | Motion.bfsCurr[20]) & (Motion.bitmask ^ Motion.bfsMap[19]);
-        Motion.bfsDist[Motion.stepOffset + 20] = (Motion.bfsCurr[20] | Motion.bfsCurr[19] | Motion.bfsCurr[21]) & (Motion.bitmask ^ Motion.bfsMap[20]);
-        Motion.bfsDist[Motion.stepOffset + 21] = (Motion.bfsCurr[21] | Motion.bfsCurr[20] | Motion.bfsCurr[22]) & (Motion.bitmask ^ Motion.bfsMap[21]);
-        Motion.bfsDist[Motion.stepOffset + 22] = (Motion.bfsCurr[22] | Motion.bfsCurr[21] | Motion.bfsCurr[23]) & (Motion.bitmask ^ Motion.bfsMap[22]);
-        Motion.bfsDist[Motion.stepOffset + 23] = (Motion.bfsCurr[23] | Motion.bfsCurr[22] | Motion.bfsCurr[24]) & (Motion.bitmask ^ Motion.bfsMap[23]);
-        Motion.bfsDist[Motion.stepOffset + 24] = (Motion.bfsCurr[24] | Motion.bfsCurr[23] | Motion.bfsCurr[25]) & (Motion.bitmask ^ Motion.bfsMap[24]);
-        Motion.bfsDist[Motion.stepOffset + 25] = (Motion.bfsCurr[25] | Motion.bfsCurr[24] | Motion.bfsCurr[26]) & (Motion.bitmask ^ Motion.bfsMap[25]);
-        Motion.bfsDist[Motion.stepOffset + 26] = (Motion.bfsCurr[26] | Motion.bfsCurr[25] | Motion.bfsCurr[27]) & (Motion.bitmask ^ Motion.bfsMap[26]);
-        Motion.bfsDist[Motion.stepOffset + 27] = (Motion.bfsCurr[27] | Motion.bfsCurr[26] | Motion.bfsCurr[28]) & (Motion.bitmask ^ Motion.bfsMap[27]);
-        Motion.bfsDist[Motion.stepOffset + 28] = (Motion.bfsCurr[28] | Motion.bfsCurr[27] | Motion.bfsCurr[29]) & (Motion.bitmask ^ Motion.bfsMap[28]);
-        Motion.bfsDist[Motion.stepOffset + 29] = (Motion.bfsCurr[29] | Motion.bfsCurr[28] | Motion.bfsCurr[30]) & (Motion.bitmask ^ Motion.bfsMap[29]);
-        Motion.bfsDist[Motion.stepOffset + 30] = (Motion.bfsCurr[30] | Motion.bfsCurr[29] | Motion.bfsCurr[31]) & (Motion.bitmask ^ Motion.bfsMap[30]);
-        Motion.bfsDist[Motion.stepOffset + 31] = (Motion.bfsCurr[31] | Motion.bfsCurr[30] | Motion.bfsCurr[32]) & (Motion.bitmask ^ Motion.bfsMap[31]);
-        Motion.bfsDist[Motion.stepOffset + 32] = (Motion.bfsCurr[32] | Motion.bfsCurr[31] | Motion.bfsCurr[33]) & (Motion.bitmask ^ Motion.bfsMap[32]);
-        Motion.bfsDist[Motion.stepOffset + 33] = (Motion.bfsCurr[33] | Motion.bfsCurr[32] | Motion.bfsCurr[34]) & (Motion.bitmask ^ Motion.bfsMap[33]);
-        Motion.bfsDist[Motion.stepOffset + 34] = (Motion.bfsCurr[34] | Motion.bfsCurr[33] | Motion.bfsCurr[35]) & (Motion.bitmask ^ Motion.bfsMap[34]);
-        Motion.bfsDist[Motion.stepOffset + 35] = (Motion.bfsCurr[35] | Motion.bfsCurr[34] | Motion.bfsCurr[36]) & (Motion.bitmask ^ Motion.bfsMap[35]);
-        Motion.bfsDist[Motion.stepOffset + 36] = (Motion.bfsCurr[36] | Motion.bfsCurr[35] | Motion.bfsCurr[37]) & (Motion.bitmask ^ Motion.bfsMap[36]);
-        Motion.bfsDist[Motion.stepOffset + 37] = (Motion.bfsCurr[37] | Motion.bfsCurr[36] | Motion.bfsCurr[38]) & (Motion.bitmask ^ Motion.bfsMap[37]);
-        Motion.bfsDist[Motion.stepOffset + 38] = (Motion.bfsCurr[38] | Motion.bfsCurr[37] | Motion.bfsCurr[39]) & (Motion.bitmask ^ Motion.bfsMap[38]);
-        Motion.bfsDist[Motion.stepOffset + 39] = (Motion.bfsCurr[39] | Motion.bfsCurr[38] | Motion.bfsCurr[40]) & (Motion.bitmask ^ Motion.bfsMap[39]);
-        Motion.bfsDist[Motion.stepOffset + 40] = (Motion.bfsCurr[40] | Motion.bfsCurr[39] | Motion.bfsCurr[41]) & (Motion.bitmask ^ Motion.bfsMap[40]);
-        Motion.bfsDist[Motion.stepOffset + 41] = (Motion.bfsCurr[41] | Motion.bfsCurr[40] | Motion.bfsCurr[42]) & (Motion.bitmask ^ Motion.bfsMap[41]);
-        Motion.bfsDist[Motion.stepOffset + 42] = (Motion.bfsCurr[42] | Motion.bfsCurr[41] | Motion.bfsCurr[43]) & (Motion.bitmask ^ Motion.bfsMap[42]);
-        Motion.bfsDist[Motion.stepOffset + 43] = (Motion.bfsCurr[43] | Motion.bfsCurr[42] | Motion.bfsCurr[44]) & (Motion.bitmask ^ Motion.bfsMap[43]);
-        Motion.bfsDist[Motion.stepOffset + 44] = (Motion.bfsCurr[44] | Motion.bfsCurr[43] | Motion.bfsCurr[45]) & (Motion.bitmask ^ Motion.bfsMap[44]);
-        Motion.bfsDist[Motion.stepOffset + 45] = (Motion.bfsCurr[45] | Motion.bfsCurr[44] | Motion.bfsCurr[46]) & (Motion.bitmask ^ Motion.bfsMap[45]);
-        Motion.bfsDist[Motion.stepOffset + 46] = (Motion.bfsCurr[46] | Motion.bfsCurr[45] | Motion.bfsCurr[47]) & (Motion.bitmask ^ Motion.bfsMap[46]);
-        Motion.bfsDist[Motion.stepOffset + 47] = (Motion.bfsCurr[47] | Motion.bfsCurr[46] | Motion.bfsCurr[48]) & (Motion.bitmask ^ Motion.bfsMap[47]);
-        Motion.bfsDist[Motion.stepOffset + 48] = (Motion.bfsCurr[48] | Motion.bfsCurr[47] | Motion.bfsCurr[49]) & (Motion.bitmask ^ Motion.bfsMap[48]);
-        Motion.bfsDist[Motion.stepOffset + 49] = (Motion.bfsCurr[49] | Motion.bfsCurr[48] | Motion.bfsCurr[50]) & (Motion.bitmask ^ Motion.bfsMap[49]);
-        Motion.bfsDist[Motion.stepOffset + 50] = (Motion.bfsCurr[50] | Motion.bfsCurr[49] | Motion.bfsCurr[51]) & (Motion.bitmask ^ Motion.bfsMap[50]);
-        Motion.bfsDist[Motion.stepOffset + 51] = (Motion.bfsCurr[51] | Motion.bfsCurr[50] | Motion.bfsCurr[52]) & (Motion.bitmask ^ Motion.bfsMap[51]);
-        Motion.bfsDist[Motion.stepOffset + 52] = (Motion.bfsCurr[52] | Motion.bfsCurr[51] | Motion.bfsCurr[53]) & (Motion.bitmask ^ Motion.bfsMap[52]);
-        Motion.bfsDist[Motion.stepOffset + 53] = (Motion.bfsCurr[53] | Motion.bfsCurr[52] | Motion.bfsCurr[54]) & (Motion.bitmask ^ Motion.bfsMap[53]);
-        Motion.bfsDist[Motion.stepOffset + 54] = (Motion.bfsCurr[54] | Motion.bfsCurr[53] | Motion.bfsCurr[55]) & (Motion.bitmask ^ Motion.bfsMap[54]);
-        Motion.bfsDist[Motion.stepOffset + 55] = (Motion.bfsCurr[55] | Motion.bfsCurr[54] | Motion.bfsCurr[56]) & (Motion.bitmask ^ Motion.bfsMap[55]);
-        Motion.bfsCurr[1] = Motion.bfsDist[Motion.stepOffset + 1];
-        Motion.bfsCurr[2] = Motion.bfsDist[Motion.stepOffset + 2];
-        Motion.bfsCurr[3] = Motion.bfsDist[Motion.stepOffset + 3];
-        Motion.bfsCurr[4] = Motion.bfsDist[Motion.stepOffset + 4];
-        Motion.bfsCurr[5] = Motion.bfsDist[Motion.stepOffset + 5];
-        Motion.bfsCurr[6] = Motion.bfsDist[Motion.stepOffset + 6];
-        Motion.bfsCurr[7] = Motion.bfsDist[Motion.stepOffset + 7];
-        Motion.bfsCurr[8] = Motion.bfsDist[Motion.stepOffset + 8];
-        Motion.bfsCurr[9] = Motion.bfsDist[Motion.stepOffset + 9];
-        Motion.bfsCurr[10] = Motion.bfsDist[Motion.stepOffset + 10];
-        Motion.bfsCurr[11] = Motion.bfsDist[Motion.stepOffset + 11];
-        Motion.bfsCurr[12] = Motion.bfsDist[Motion.stepOffset + 12];
-        Motion.bfsCurr[13] = Motion.bfsDist[Motion.stepOffset + 13];
-        Motion.bfsCurr[14] = Motion.bfsDist[Motion.stepOffset + 14];
-        Motion.bfsCurr[15] = Motion.bfsDist[Motion.stepOffset + 15];
-        Motion.bfsCurr[16] = Motion.bfsDist[Motion.stepOffset + 16];
-        Motion.bfsCurr[17] = Motion.bfsDist[Motion.stepOffset + 17];
-        Motion.bfsCurr[18] = Motion.bfsDist[Motion.stepOffset + 18];
-        Motion.bfsCurr[19] = Motion.bfsDist[Motion.stepOffset + 19];
-        Motion.bfsCurr[20] = Motion.bfsDist[Motion.stepOffset + 20];
-        Motion.bfsCurr[21] = Motion.bfsDist[Motion.stepOffset + 21];
-        Motion.bfsCurr[22] = Motion.bfsDist[Motion.stepOffset + 22];
-        Motion.bfsCurr[23] = Motion.bfsDist[Motion.stepOffset + 23];
-        Motion.bfsCurr[24] = Motion.bfsDist[Motion.stepOffset + 24];
-        Motion.bfsCurr[25] = Motion.bfsDist[Motion.stepOffset + 25];
-        Motion.bfsCurr[26] = Motion.bfsDist[Motion.stepOffset + 26];
-        Motion.bfsCurr[27] = Motion.bfsDist[Motion.stepOffset + 27];
-        Motion.bfsCurr[28] = Motion.bfsDist[Motion.stepOffset + 28];
-        Motion.bfsCurr[29] = Motion.bfsDist[Motion.stepOffset + 29];
-        Motion.bfsCurr[30] = Motion.bfsDist[Motion.stepOffset + 30];
-        Motion.bfsCurr[31] = Motion.bfsDist[Motion.stepOffset + 31];
-        Motion.bfsCurr[32] = Motion.bfsDist[Motion.stepOffset + 32];
-        Motion.bfsCurr[33] = Motion.bfsDist[Motion.stepOffset + 33];
-        Motion.bfsCurr[34] = Motion.bfsDist[Motion.stepOffset + 34];
-        Motion.bfsCurr[35] = Motion.bfsDist[Motion.stepOffset + 35];
-        Motion.bfsCurr[36] = Motion.bfsDist[Motion.stepOffset + 36];
-        Motion.bfsCurr[37] = Motion.bfsDist[Motion.stepOffset + 37];
-        Motion.bfsCurr[38] = Motion.bfsDist[Motion.stepOffset + 38];
-        Motion.bfsCurr[39] = Motion.bfsDist[Motion.stepOffset + 39];
-        Motion.bfsCurr[40] = Motion.bfsDist[Motion.stepOffset + 40];
-        Motion.bfsCurr[41] = Motion.bfsDist[Motion.stepOffset + 41];
-        Motion.bfsCurr[42] = Motion.bfsDist[Motion.stepOffset + 42];
-        Motion.bfsCurr[43] = Motion.bfsDist[Motion.stepOffset + 43];
-        Motion.bfsCurr[44] = Motion.bfsDist[Motion.stepOffset + 44];
-        Motion.bfsCurr[45] = Motion.bfsDist[Motion.stepOffset + 45];
-        Motion.bfsCurr[46] = Motion.bfsDist[Motion.stepOffset + 46];
-        Motion.bfsCurr[47] = Motion.bfsDist[Motion.stepOffset + 47];
-        Motion.bfsCurr[48] = Motion.bfsDist[Motion.stepOffset + 48];
-        Motion.bfsCurr[49] = Motion.bfsDist[Motion.stepOffset + 49];
-        Motion.bfsCurr[50] = Motion.bfsDist[Motion.stepOffset + 50];
-        Motion.bfsCurr[51] = Motion.bfsDist[Motion.stepOffset + 51];
-        Motion.bfsCurr[52] = Motion.bfsDist[Motion.stepOffset + 52];
-        Motion.bfsCurr[53] = Motion.bfsDist[Motion.stepOffset + 53];
-        Motion.bfsCurr[54] = Motion.bfsDist[Motion.stepOffset + 54];
-        Motion.bfsCurr[55] = Motion.bfsDist[Motion.stepOffset + 55];
-    }
-    public static void bfs56() {
-        Motion.bfsCurr[1] = Motion.bfsCurr[1] | (Motion.bfsCurr[1] >> 1) | (Motion.bfsCurr[1] << 1);
-        Motion.bfsCurr[2] = Motion.bfsCurr[2] | (Motion.bfsCurr[2] >> 1) | (Motion.bfsCurr[2] << 1);
-        Motion.bfsCurr[3] = Motion.bfsCurr[3] | (Motion.bfsCurr[3] >> 1) | (Motion.bfsCurr[3] << 1);
-        Motion.bfsCurr[4] = Motion.bfsCurr[4] | (Motion.bfsCurr[4] >> 1) | (Motion.bfsCurr[4] << 1);
-        Motion.bfsCurr[5] = Motion.bfsCurr[5] | (Motion.bfsCurr[5] >> 1) | (Motion.bfsCurr[5] << 1);
-        Motion.bfsCurr[6] = Motion.bfsCurr[6] | (Motion.bfsCurr[6] >> 1) | (Motion.bfsCurr[6] << 1);
-        Motion.bfsCurr[7] = Motion.bfsCurr[7] | (Motion.bfsCurr[7] >> 1) | (Motion.bfsCurr[7] << 1);
-        Motion.bfsCurr[8] = Motion.bfsCurr[8] | (Motion.bfsCurr[8] >> 1) | (Motion.bfsCurr[8] << 1);
-        Motion.bfsCurr[9] = Motion.bfsCurr[9] | (Motion.bfsCurr[9] >> 1) | (Motion.bfsCurr[9] << 1);
-        Motion.bfsCurr[10] = Motion.bfsCurr[10] | (Motion.bfsCurr[10] >> 1) | (Motion.bfsCurr[10] << 1);
-        Motion.bfsCurr[11] = Motion.bfsCurr[11] | (Motion.bfsCurr[11] >> 1) | (Motion.bfsCurr[11] << 1);
-        Motion.bfsCurr[12] = Motion.bfsCurr[12] | (Motion.bfsCurr[12] >> 1) | (Motion.bfsCurr[12] << 1);
-        Motion.bfsCurr[13] = Motion.bfsCurr[13] | (Motion.bfsCurr[13] >> 1) | (Motion.bfsCurr[13] << 1);
-        Motion.bfsCurr[14] = Motion.bfsCurr[14] | (Motion.bfsCurr[14] >> 1) | (Motion.bfsCurr[14] << 1);
-        Motion.bfsCurr[15] = Motion.bfsCurr[15] | (Motion.bfsCurr[15] >> 1) | (Motion.bfsCurr[15] << 1);
-        Motion.bfsCurr[16] = Motion.bfsCurr[16] | (Motion.bfsCurr[16] >> 1) | (Motion.bfsCurr[16] << 1);
-        Motion.bfsCurr[17] = Motion.bfsCurr[17] | (Motion.bfsCurr[17] >> 1) | (Motion.bfsCurr[17] << 1);
-        Motion.bfsCurr[18] = Motion.bfsCurr[18] | (Motion.bfsCurr[18] >> 1) | (Motion.bfsCurr[18] << 1);
-        Motion.bfsCurr[19] = Motion.bfsCurr[19] | (Motion.bfsCurr[19] >> 1) | (Motion.bfsCurr[19] << 1);
-        Motion.bfsCurr[20] = Motion.bfsCurr[20] | (Motion.bfsCurr[20] >> 1) | (Motion.bfsCurr[20] << 1);
-        Motion.bfsCurr[21] = Motion.bfsCurr[21] | (Motion.bfsCurr[21] >> 1) | (Motion.bfsCurr[21] << 1);
-        Motion.bfsCurr[22] = Motion.bfsCurr[22] | (Motion.bfsCurr[22] >> 1) | (Motion.bfsCurr[22] << 1);
-        Motion.bfsCurr[23] = Motion.bfsCurr[23] | (Motion.bfsCurr[23] >> 1) | (Motion.bfsCurr[23] << 1);
-        Motion.bfsCurr[24] = Motion.bfsCurr[24] | (Motion.bfsCurr[24] >> 1) | (Motion.bfsCurr[24] << 1);
-        Motion.bfsCurr[25] = Motion.bfsCurr[25] | (Motion.bfsCurr[25] >> 1) | (Motion.bfsCurr[25] << 1);
-        Motion.bfsCurr[26] = Motion.bfsCurr[26] | (Motion.bfsCurr[26] >> 1) | (Motion.bfsCurr[26] << 1);
-        Motion.bfsCurr[27] = Motion.bfsCurr[27] | (Motion.bfsCurr[27] >> 1) | (Motion.bfsCurr[27] << 1);
-        Motion.bfsCurr[28] = Motion.bfsCurr[28] | (Motion.bfsCurr[28] >> 1) | (Motion.bfsCurr[28] << 1);
-        Motion.bfsCurr[29] = Motion.bfsCurr[29] | (Motion.bfsCurr[29] >> 1) | (Motion.bfsCurr[29] << 1);
-        Motion.bfsCurr[30] = Motion.bfsCurr[30] | (Motion.bfsCurr[30] >> 1) | (Motion.bfsCurr[30] << 1);
-        Motion.bfsCurr[31] = Motion.bfsCurr[31] | (Motion.bfsCurr[31] >> 1) | (Motion.bfsCurr[31] << 1);
-        Motion.bfsCurr[32] = Motion.bfsCurr[32] | (Motion.bfsCurr[32] >> 1) | (Motion.bfsCurr[32] << 1);
-        Motion.bfsCurr[33] = Motion.bfsCurr[33] | (Motion.bfsCurr[33] >> 1) | (Motion.bfsCurr[33] << 1);
-        Motion.bfsCurr[34] = Motion.bfsCurr[34] | (Motion.bfsCurr[34] >> 1) | (Motion.bfsCurr[34] << 1);
-        Motion.bfsCurr[35] = Motion.bfsCurr[35] | (Motion.bfsCurr[35] >> 1) | (Motion.bfsCurr[35] << 1);
-        Motion.bfsCurr[36] = Motion.bfsCurr[36] | (Motion.bfsCurr[36] >> 1) | (Motion.bfsCurr[36] << 1);
-        Motion.bfsCurr[37] = Motion.bfsCurr[37] | (Motion.bfsCurr[37] >> 1) | (Motion.bfsCurr[37] << 1);
-        Motion.bfsCurr[38] = Motion.bfsCurr[38] | (Motion.bfsCurr[38] >> 1) | (Motion.bfsCurr[38] << 1);
-        Motion.bfsCurr[39] = Motion.bfsCurr[39] | (Motion.bfsCurr[39] >> 1) | (Motion.bfsCurr[39] << 1);
-        Motion.bfsCurr[40] = Motion.bfsCurr[40] | (Motion.bfsCurr[40] >> 1) | (Motion.bfsCurr[40] << 1);
-        Motion.bfsCurr[41] = Motion.bfsCurr[41] | (Motion.bfsCurr[41] >> 1) | (Motion.bfsCurr[41] << 1);
-        Motion.bfsCurr[42] = Motion.bfsCurr[42] | (Motion.bfsCurr[42] >> 1) | (Motion.bfsCurr[42] << 1);
-        Motion.bfsCurr[43] = Motion.bfsCurr[43] | (Motion.bfsCurr[43] >> 1) | (Motion.bfsCurr[43] << 1);
-        Motion.bfsCurr[44] = Motion.bfsCurr[44] | (Motion.bfsCurr[44] >> 1) | (Motion.bfsCurr[44] << 1);
-        Motion.bfsCurr[45] = Motion.bfsCurr[45] | (Motion.bfsCurr[45] >> 1) | (Motion.bfsCurr[45] << 1);
-        Motion.bfsCurr[46] = Motion.bfsCurr[46] | (Motion.bfsCurr[46] >> 1) | (Motion.bfsCurr[46] << 1);
-        Motion.bfsCurr[47] = Motion.bfsCurr[47] | (Motion.bfsCurr[47] >> 1) | (Motion.bfsCurr[47] << 1);
-        Motion.bfsCurr[48] = Motion.bfsCurr[48] | (Motion.bfsCurr[48] >> 1) | (Motion.bfsCurr[48] << 1);
-        Motion.bfsCurr[49] = Motion.bfsCurr[49] | (Motion.bfsCurr[49] >> 1) | (Motion.bfsCurr[49] << 1);
-        Motion.bfsCurr[50] = Motion.bfsCurr[50] | (Motion.bfsCurr[50] >> 1) | (Motion.bfsCurr[50] << 1);
-        Motion.bfsCurr[51] = Motion.bfsCurr[51] | (Motion.bfsCurr[51] >> 1) | (Motion.bfsCurr[51] << 1);
-        Motion.bfsCurr[52] = Motion.bfsCurr[52] | (Motion.bfsCurr[52] >> 1) | (Motion.bfsCurr[52] << 1);
-        Motion.bfsCurr[53] = Motion.bfsCurr[53] | (Motion.bfsCurr[53] >> 1) | (Motion.bfsCurr[53] << 1);
-        Motion.bfsCurr[54] = Motion.bfsCurr[54] | (Motion.bfsCurr[54] >> 1) | (Motion.bfsCurr[54] << 1);
-        Motion.bfsCurr[55] = Motion.bfsCurr[55] | (Motion.bfsCurr[55] >> 1) | (Motion.bfsCurr[55] << 1);
-        Motion.bfsCurr[56] = Motion.bfsCurr[56] | (Motion.bfsCurr[56] >> 1) | (Motion.bfsCurr[56] << 1);
-        Motion.bfsDist[Motion.stepOffset + 1] = (Motion.bfsCurr[1] | Motion.bfsCurr[0] | Motion.bfsCurr[2]) & (Motion.bitmask ^ Motion.bfsMap[1]);
-        Motion.bfsDist[Motion.stepOffset + 2] = (Motion.bfsCurr[2] | Motion.bfsCurr[1] | Motion.bfsCurr[3]) & (Motion.bitmask ^ Motion.bfsMap[2]);
-        Motion.bfsDist[Motion.stepOffset + 3] = (Motion.bfsCurr[3] | Motion.bfsCurr[2] | Motion.bfsCurr[4]) & (Motion.bitmask ^ Motion.bfsMap[3]);
-        Motion.bfsDist[Motion.stepOffset + 4] = (Motion.bfsCurr[4] | Motion.bfsCurr[3] | Motion.bfsCurr[5]) & (Motion.bitmask ^ Motion.bfsMap[4]);
-        Motion.bfsDist[Motion.stepOffset + 5] = (Motion.bfsCurr[5] | Motion.bfsCurr[4] | Motion.bfsCurr[6]) & (Motion.bitmask ^ Motion.bfsMap[5]);
-        Motion.bfsDist[Motion.stepOffset + 6] = (Motion.bfsCurr[6] | Motion.bfsCurr[5] | Motion.bfsCurr[7]) & (Motion.bitmask ^ Motion.bfsMap[6]);
-        Motion.bfsDist[Motion.stepOffset + 7] = (Motion.bfsCurr[7] | Motion.bfsCurr[6] | Motion.bfsCurr[8]) & (Motion.bitmask ^ Motion.bfsMap[7]);
-        Motion.bfsDist[Motion.stepOffset + 8] = (Motion.bfsCurr[8] | Motion.bfsCurr[7] | Motion.bfsCurr[9]) & (Motion.bitmask ^ Motion.bfsMap[8]);
-        Motion.bfsDist[Motion.stepOffset + 9] = (Motion.bfsCurr[9] | Motion.bfsCurr[8] | Motion.bfsCurr[10]) & (Motion.bitmask ^ Motion.bfsMap[9]);
-        Motion.bfsDist[Motion.stepOffset + 10] = (Motion.bfsCurr[10] | Motion.bfsCurr[9] | Motion.bfsCurr[11]) & (Motion.bitmask ^ Motion.bfsMap[10]);
-        Motion.bfsDist[Motion.stepOffset + 11] = (Motion.bfsCurr[11] | Motion.bfsCurr[10] | Motion.bfsCurr[12]) & (Motion.bitmask ^ Motion.bfsMap[11]);
-        Motion.bfsDist[Motion.stepOffset + 12] = (Motion.bfsCurr[12] | Motion.bfsCurr[11] | Motion.bfsCurr[13]) & (Motion.bitmask ^ Motion.bfsMap[12]);
-        Motion.bfsDist[Motion.stepOffset + 13] = (Motion.bfsCurr[13] | Motion.bfsCurr[12] | Motion.bfsCurr[14]) & (Motion.bitmask ^ Motion.bfsMap[13]);
-        Motion.bfsDist[Motion.stepOffset + 14] = (Motion.bfsCurr[14] | Motion.bfsCurr[13] | Motion.bfsCurr[15]) & (Motion.bitmask ^ Motion.bfsMap[14]);
-        Motion.bfsDist[Motion.stepOffset + 15] = (Motion.bfsCurr[15] | Motion.bfsCurr[14] | Motion.bfsCurr[16]) & (Motion.bitmask ^ Motion.bfsMap[15]);
-        Motion.bfsDist[Motion.stepOffset + 16] = (Motion.bfsCurr[16] | Motion.bfsCurr[15] | Motion.bfsCurr[17]) & (Motion.bitmask ^ Motion.bfsMap[16]);
-        Motion.bfsDist[Motion.stepOffset + 17] = (Motion.bfsCurr[17] | Motion.bfsCurr[16] | Motion.bfsCurr[18]) & (Motion.bitmask ^ Motion.bfsMap[17]);
-        Motion.bfsDist[Motion.stepOffset + 18] = (Motion.bfsCurr[18] | Motion.bfsCurr[17] | Motion.bfsCurr[19]) & (Motion.bitmask ^ Motion.bfsMap[18]);
-        Motion.bfsDist[Motion.stepOffset + 19] = (Motion.bfsCurr[19] | Motion.bfsCurr[18] | Motion.bfsCurr[20]) & (Motion.bitmask ^ Motion.bfsMap[19]);
-        Motion.bfsDist[Motion.stepOffset + 20] = (Motion.bfsCurr[20] | Motion.bfsCurr[19] | Motion.bfsCurr[21]) & (Motion.bitmask ^ Motion.bfsMap[20]);
-        Motion.bfsDist[Motion.stepOffset + 21] = (Motion.bfsCurr[21] | Motion.bfsCurr[20] | Motion.bfsCurr[22]) & (Motion.bitmask ^ Motion.bfsMap[21]);
-        Motion.bfsDist[Motion.stepOffset + 22] = (Motion.bfsCurr[22] | Motion.bfsCurr[21] | Motion.bfsCurr[23]) & (Motion.bitmask ^ Motion.bfsMap[22]);
-        Motion.bfsDist[Motion.stepOffset + 23] = (Motion.bfsCurr[23] | Motion.bfsCurr[22] | Motion.bfsCurr[24]) & (Motion.bitmask ^ Motion.bfsMap[23]);
-        Motion.bfsDist[Motion.stepOffset + 24] = (Motion.bfsCurr[24] | Motion.bfsCurr[23] | Motion.bfsCurr[25]) & (Motion.bitmask ^ Motion.bfsMap[24]);
-        Motion.bfsDist[Motion.stepOffset + 25] = (Motion.bfsCurr[25] | Motion.bfsCurr[24] | Motion.bfsCurr[26]) & (Motion.bitmask ^ Motion.bfsMap[25]);
-        Motion.bfsDist[Motion.stepOffset + 26] = (Motion.bfsCurr[26] | Motion.bfsCurr[25] | Motion.bfsCurr[27]) & (Motion.bitmask ^ Motion.bfsMap[26]);
-        Motion.bfsDist[Motion.stepOffset + 27] = (Motion.bfsCurr[27] | Motion.bfsCurr[26] | Motion.bfsCurr[28]) & (Motion.bitmask ^ Motion.bfsMap[27]);
-        Motion.bfsDist[Motion.stepOffset + 28] = (Motion.bfsCurr[28] | Motion.bfsCurr[27] | Motion.bfsCurr[29]) & (Motion.bitmask ^ Motion.bfsMap[28]);
-        Motion.bfsDist[Motion.stepOffset + 29] = (Motion.bfsCurr[29] | Motion.bfsCurr[28] | Motion.bfsCurr[30]) & (Motion.bitmask ^ Motion.bfsMap[29]);
-        Motion.bfsDist[Motion.stepOffset + 30] = (Motion.bfsCurr[30] | Motion.bfsCurr[29] | Motion.bfsCurr[31]) & (Motion.bitmask ^ Motion.bfsMap[30]);
-        Motion.bfsDist[Motion.stepOffset + 31] = (Motion.bfsCurr[31] | Motion.bfsCurr[30] | Motion.bfsCurr[32]) & (Motion.bitmask ^ Motion.bfsMap[31]);
-        Motion.bfsDist[Motion.stepOffset + 32] = (Motion.bfsCurr[32] | Motion.bfsCurr[31] | Motion.bfsCurr[33]) & (Motion.bitmask ^ Motion.bfsMap[32]);
-        Motion.bfsDist[Motion.stepOffset + 33] = (Motion.bfsCurr[33] | Motion.bfsCurr[32] | Motion.bfsCurr[34]) & (Motion.bitmask ^ Motion.bfsMap[33]);
-        Motion.bfsDist[Motion.stepOffset + 34] = (Motion.bfsCurr[34] | Motion.bfsCurr[33] | Motion.bfsCurr[35]) & (Motion.bitmask ^ Motion.bfsMap[34]);
-        Motion.bfsDist[Motion.stepOffset + 35] = (Motion.bfsCurr[35] | Motion.bfsCurr[34] | Motion.bfsCurr[36]) & (Motion.bitmask ^ Motion.bfsMap[35]);
-        Motion.bfsDist[Motion.stepOffset + 36] = (Motion.bfsCurr[36] | Motion.bfsCurr[35] | Motion.bfsCurr[37]) & (Motion.bitmask ^ Motion.bfsMap[36]);
-        Motion.bfsDist[Motion.stepOffset + 37] = (Motion.bfsCurr[37] | Motion.bfsCurr[36] | Motion.bfsCurr[38]) & (Motion.bitmask ^ Motion.bfsMap[37]);
-        Motion.bfsDist[Motion.stepOffset + 38] = (Motion.bfsCurr[38] | Motion.bfsCurr[37] | Motion.bfsCurr[39]) & (Motion.bitmask ^ Motion.bfsMap[38]);
-        Motion.bfsDist[Motion.stepOffset + 39] = (Motion.bfsCurr[39] | Motion.bfsCurr[38] | Motion.bfsCurr[40]) & (Motion.bitmask ^ Motion.bfsMap[39]);
-        Motion.bfsDist[Motion.stepOffset + 40] = (Motion.bfsCurr[40] | Motion.bfsCurr[39] | Motion.bfsCurr[41]) & (Motion.bitmask ^ Motion.bfsMap[40]);
-        Motion.bfsDist[Motion.stepOffset + 41] = (Motion.bfsCurr[41] | Motion.bfsCurr[40] | Motion.bfsCurr[42]) & (Motion.bitmask ^ Motion.bfsMap[41]);
-        Motion.bfsDist[Motion.stepOffset + 42] = (Motion.bfsCurr[42] | Motion.bfsCurr[41] | Motion.bfsCurr[43]) & (Motion.bitmask ^ Motion.bfsMap[42]);
-        Motion.bfsDist[Motion.stepOffset + 43] = (Motion.bfsCurr[43] | Motion.bfsCurr[42] | Motion.bfsCurr[44]) & (Motion.bitmask ^ Motion.bfsMap[43]);
-        Motion.bfsDist[Motion.stepOffset + 44] = (Motion.bfsCurr[44] | Motion.bfsCurr[43] | Motion.bfsCurr[45]) & (Motion.bitmask ^ Motion.bfsMap[44]);
-        Motion.bfsDist[Motion.stepOffset + 45] = (Motion.bfsCurr[45] | Motion.bfsCurr[44] | Motion.bfsCurr[46]) & (Motion.bitmask ^ Motion.bfsMap[45]);
-        Motion.bfsDist[Motion.stepOffset + 46] = (Motion.bfsCurr[46] | Motion.bfsCurr[45] | Motion.bfsCurr[47]) & (Motion.bitmask ^ Motion.bfsMap[46]);
-        Motion.bfsDist[Motion.stepOffset + 47] = (Motion.bfsCurr[47] | Motion.bfsCurr[46] | Motion.bfsCurr[48]) & (Motion.bitmask ^ Motion.bfsMap[47]);
-        Motion.bfsDist[Motion.stepOffset + 48] = (Motion.bfsCurr[48] | Motion.bfsCurr[47] | Motion.bfsCurr[49]) & (Motion.bitmask ^ Motion.bfsMap[48]);
-        Motion.bfsDist[Motion.stepOffset + 49] = (Motion.bfsCurr[49] | Motion.bfsCurr[48] | Motion.bfsCurr[50]) & (Motion.bitmask ^ Motion.bfsMap[49]);
-        Motion.bfsDist[Motion.stepOffset + 50] = (Motion.bfsCurr[50] | Motion.bfsCurr[49] | Motion.bfsCurr[51]) & (Motion.bitmask ^ Motion.bfsMap[50]);
-        Motion.bfsDist[Motion.stepOffset + 51] = (Motion.bfsCurr[51] | Motion.bfsCurr[50] | Motion.bfsCurr[52]) & (Motion.bitmask ^ Motion.bfsMap[51]);
-        Motion.bfsDist[Motion.stepOffset + 52] = (Motion.bfsCurr[52] | Motion.bfsCurr[51] | Motion.bfsCurr[53]) & (Motion.bitmask ^ Motion.bfsMap[52]);
-        Motion.bfsDist[Motion.stepOffset + 53] = (Motion.bfsCurr[53] | Motion.bfsCurr[52] | Motion.bfsCurr[54]) & (Motion.bitmask ^ Motion.bfsMap[53]);
-        Motion.bfsDist[Motion.stepOffset + 54] = (Motion.bfsCurr[54] | Motion.bfsCurr[53] | Motion.bfsCurr[55]) & (Motion.bitmask ^ Motion.bfsMap[54]);
-        Motion.bfsDist[Motion.stepOffset + 55] = (Motion.bfsCurr[55] | Motion.bfsCurr[54] | Motion.bfsCurr[56]) & (Motion.bitmask ^ Motion.bfsMap[55]);
-        Motion.bfsDist[Motion.stepOffset + 56] = (Motion.bfsCurr[56] | Motion.bfsCurr[55] | Motion.bfsCurr[57]) & (Motion.bitmask ^ Motion.bfsMap[56]);
-        Motion.bfsCurr[1] = Motion.bfsDist[Motion.stepOffset + 1];
-        Motion.bfsCurr[2] = Motion.bfsDist[Motion.stepOffset + 2];
-        Motion.bfsCurr[3] = Motion.bfsDist[Motion.stepOffset + 3];
-        Motion.bfsCurr[4] = Motion.bfsDist[Motion.stepOffset + 4];
-        Motion.bfsCurr[5] = Motion.bfsDist[Motion.stepOffset + 5];
-        Motion.bfsCurr[6] = Motion.bfsDist[Motion.stepOffset + 6];
-        Motion.bfsCurr[7] = Motion.bfsDist[Motion.stepOffset + 7];
-        Motion.bfsCurr[8] = Motion.bfsDist[Motion.stepOffset + 8];
-        Motion.bfsCurr[9] = Motion.bfsDist[Motion.stepOffset + 9];
-        Motion.bfsCurr[10] = Motion.bfsDist[Motion.stepOffset + 10];
-        Motion.bfsCurr[11] = Motion.bfsDist[Motion.stepOffset + 11];
-        Motion.bfsCurr[12] = Motion.bfsDist[Motion.stepOffset + 12];
-        Motion.bfsCurr[13] = Motion.bfsDist[Motion.stepOffset + 13];
-        Motion.bfsCurr[14] = Motion.bfsDist[Motion.stepOffset + 14];
-        Motion.bfsCurr[15] = Motion.bfsDist[Motion.stepOffset + 15];
-        Motion.bfsCurr[16] = Motion.bfsDist[Motion.stepOffset + 16];
-        Motion.bfsCurr[17] = Motion.bfsDist[Motion.stepOffset + 17];
-        Motion.bfsCurr[18] = Motion.bfsDist[Motion.stepOffset + 18];
-        Motion.bfsCurr[19] = Motion.bfsDist[Motion.stepOffset + 19];
-        Motion.bfsCurr[20] = Motion.bfsDist[Motion.stepOffset + 20];
-        Motion.bfsCurr[21] = Motion.bfsDist[Motion.stepOffset + 21];
-        Motion.bfsCurr[22] = Motion.bfsDist[Motion.stepOffset + 22];
-        Motion.bfsCurr[23] = Motion.bfsDist[Motion.stepOffset + 23];
-        Motion.bfsCurr[24] = Motion.bfsDist[Motion.stepOffset + 24];
-        Motion.bfsCurr[25] = Motion.bfsDist[Motion.stepOffset + 25];
-        Motion.bfsCurr[26] = Motion.bfsDist[Motion.stepOffset + 26];
-        Motion.bfsCurr[27] = Motion.bfsDist[Motion.stepOffset + 27];
-        Motion.bfsCurr[28] = Motion.bfsDist[Motion.stepOffset + 28];
-        Motion.bfsCurr[29] = Motion.bfsDist[Motion.stepOffset + 29];
-        Motion.bfsCurr[30] = Motion.bfsDist[Motion.stepOffset + 30];
-        Motion.bfsCurr[31] = Motion.bfsDist[Motion.stepOffset + 31];
-        Motion.bfsCurr[32] = Motion.bfsDist[Motion.stepOffset + 32];
-        Motion.bfsCurr[33] = Motion.bfsDist[Motion.stepOffset + 33];
-        Motion.bfsCurr[34] = Motion.bfsDist[Motion.stepOffset + 34];
-        Motion.bfsCurr[35] = Motion.bfsDist[Motion.stepOffset + 35];
-        Motion.bfsCurr[36] = Motion.bfsDist[Motion.stepOffset + 36];
-        Motion.bfsCurr[37] = Motion.bfsDist[Motion.stepOffset + 37];
-        Motion.bfsCurr[38] = Motion.bfsDist[Motion.stepOffset + 38];
-        Motion.bfsCurr[39] = Motion.bfsDist[Motion.stepOffset + 39];
-        Motion.bfsCurr[40] = Motion.bfsDist[Motion.stepOffset + 40];
-        Motion.bfsCurr[41] = Motion.bfsDist[Motion.stepOffset + 41];
-        Motion.bfsCurr[42] = Motion.bfsDist[Motion.stepOffset + 42];
-        Motion.bfsCurr[43] = Motion.bfsDist[Motion.stepOffset + 43];
-        Motion.bfsCurr[44] = Motion.bfsDist[Motion.stepOffset + 44];
-        Motion.bfsCurr[45] = Motion.bfsDist[Motion.stepOffset + 45];
-        Motion.bfsCurr[46] = Motion.bfsDist[Motion.stepOffset + 46];
-        Motion.bfsCurr[47] = Motion.bfsDist[Motion.stepOffset + 47];
-        Motion.bfsCurr[48] = Motion.bfsDist[Motion.stepOffset + 48];
-        Motion.bfsCurr[49] = Motion.bfsDist[Motion.stepOffset + 49];
-        Motion.bfsCurr[50] = Motion.bfsDist[Motion.stepOffset + 50];
-        Motion.bfsCurr[51] = Motion.bfsDist[Motion.stepOffset + 51];
-        Motion.bfsCurr[52] = Motion.bfsDist[Motion.stepOffset + 52];
-        Motion.bfsCurr[53] = Motion.bfsDist[Motion.stepOffset + 53];
-        Motion.bfsCurr[54] = Motion.bfsDist[Motion.stepOffset + 54];
-        Motion.bfsCurr[55] = Motion.bfsDist[Motion.stepOffset + 55];
-        Motion.bfsCurr[56] = Motion.bfsDist[Motion.stepOffset + 56];
-    }
-    public static void bfs57() {
-        Motion.bfsCurr[1] = Motion.bfsCurr[1] | (Motion.bfsCurr[1] >> 1) | (Motion.bfsCurr[1] << 1);
-        Motion.bfsCurr[2] = Motion.bfsCurr[2] | (Motion.bfsCurr[2] >> 1) | (Motion.bfsCurr[2] << 1);
-        Motion.bfsCurr[3] = Motion.bfsCurr[3] | (Motion.bfsCurr[3] >> 1) | (Motion.bfsCurr[3] << 1);
-        Motion.bfsCurr[4] = Motion.bfsCurr[4] | (Motion.bfsCurr[4] >> 1) | (Motion.bfsCurr[4] << 1);
-        Motion.bfsCurr[5] = Motion.bfsCurr[5] | (Motion.bfsCurr[5] >> 1) | (Motion.bfsCurr[5] << 1);
-        Motion.bfsCurr[6] = Motion.bfsCurr[6] | (Motion.bfsCurr[6] >> 1) | (Motion.bfsCurr[6] << 1);
-        Motion.bfsCurr[7] = Motion.bfsCurr[7] | (Motion.bfsCurr[7] >> 1) | (Motion.bfsCurr[7] << 1);
-        Motion.bfsCurr[8] = Motion.bfsCurr[8] | (Motion.bfsCurr[8] >> 1) | (Motion.bfsCurr[8] << 1);
-        Motion.bfsCurr[9] = Motion.bfsCurr[9] | (Motion.bfsCurr[9] >> 1) | (Motion.bfsCurr[9] << 1);
-        Motion.bfsCurr[10] = Motion.bfsCurr[10] | (Motion.bfsCurr[10] >> 1) | (Motion.bfsCurr[10] << 1);
-        Motion.bfsCurr[11] = Motion.bfsCurr[11] | (Motion.bfsCurr[11] >> 1) | (Motion.bfsCurr[11] << 1);
-        Motion.bfsCurr[12] = Motion.bfsCurr[12] | (Motion.bfsCurr[12] >> 1) | (Motion.bfsCurr[12] << 1);
-        Motion.bfsCurr[13] = Motion.bfsCurr[13] | (Motion.bfsCurr[13] >> 1) | (Motion.bfsCurr[13] << 1);
-        Motion.bfsCurr[14] = Motion.bfsCurr[14] | (Motion.bfsCurr[14] >> 1) | (Motion.bfsCurr[14] << 1);
-        Motion.bfsCurr[15] = Motion.bfsCurr[15] | (Motion.bfsCurr[15] >> 1) | (Motion.bfsCurr[15] << 1);
-        Motion.bfsCurr[16] = Motion.bfsCurr[16] | (Motion.bfsCurr[16] >> 1) | (Motion.bfsCurr[16] << 1);
-        Motion.bfsCurr[17] = Motion.bfsCurr[17] | (Motion.bfsCurr[17] >> 1) | (Motion.bfsCurr[17] << 1);
-        Motion.bfsCurr[18] = Motion.bfsCurr[18] | (Motion.bfsCurr[18] >> 1) | (Motion.bfsCurr[18] << 1);
-        Motion.bfsCurr[19] = Motion.bfsCurr[19] | (Motion.bfsCurr[19] >> 1) | (Motion.bfsCurr[19] << 1);
-        Motion.bfsCurr[20] = Motion.bfsCurr[20] | (Motion.bfsCurr[20] >> 1) | (Motion.bfsCurr[20] << 1);
-        Motion.bfsCurr[21] = Motion.bfsCurr[21] | (Motion.bfsCurr[21] >> 1) | (Motion.bfsCurr[21] << 1);
-        Motion.bfsCurr[22] = Motion.bfsCurr[22] | (Motion.bfsCurr[22] >> 1) | (Motion.bfsCurr[22] << 1);
-        Motion.bfsCurr[23] = Motion.bfsCurr[23] | (Motion.bfsCurr[23] >> 1) | (Motion.bfsCurr[23] << 1);
-        Motion.bfsCurr[24] = Motion.bfsCurr[24] | (Motion.bfsCurr[24] >> 1) | (Motion.bfsCurr[24] << 1);
-        Motion.bfsCurr[25] = Motion.bfsCurr[25] | (Motion.bfsCurr[25] >> 1) | (Motion.bfsCurr[25] << 1);
-        Motion.bfsCurr[26] = Motion.bfsCurr[26] | (Motion.bfsCurr[26] >> 1) | (Motion.bfsCurr[26] << 1);
-        Motion.bfsCurr[27] = Motion.bfsCurr[27] | (Motion.bfsCurr[27] >> 1) | (Motion.bfsCurr[27] << 1);
-        Motion.bfsCurr[28] = Motion.bfsCurr[28] | (Motion.bfsCurr[28] >> 1) | (Motion.bfsCurr[28] << 1);
-        Motion.bfsCurr[29] = Motion.bfsCurr[29] | (Motion.bfsCurr[29] >> 1) | (Motion.bfsCurr[29] << 1);
-        Motion.bfsCurr[30] = Motion.bfsCurr[30] | (Motion.bfsCurr[30] >> 1) | (Motion.bfsCurr[30] << 1);
-        Motion.bfsCurr[31] = Motion.bfsCurr[31] | (Motion.bfsCurr[31] >> 1) | (Motion.bfsCurr[31] << 1);
-        Motion.bfsCurr[32] = Motion.bfsCurr[32] | (Motion.bfsCurr[32] >> 1) | (Motion.bfsCurr[32] << 1);
-        Motion.bfsCurr[33] = Motion.bfsCurr[33] | (Motion.bfsCurr[33] >> 1) | (Motion.bfsCurr[33] << 1);
-        Motion.bfsCurr[34] = Motion.bfsCurr[34] | (Motion.bfsCurr[34] >> 1) | (Motion.bfsCurr[34] << 1);
-        Motion.bfsCurr[35] = Motion.bfsCurr[35] | (Motion.bfsCurr[35] >> 1) | (Motion.bfsCurr[35] << 1);
-        Motion.bfsCurr[36] = Motion.bfsCurr[36] | (Motion.bfsCurr[36] >> 1) | (Motion.bfsCurr[36] << 1);
-        Motion.bfsCurr[37] = Motion.bfsCurr[37] | (Motion.bfsCurr[37] >> 1) | (Motion.bfsCurr[37] << 1);
-        Motion.bfsCurr[38] = Motion.bfsCurr[38] | (Motion.bfsCurr[38] >> 1) | (Motion.bfsCurr[38] << 1);
-        Motion.bfsCurr[39] = Motion.bfsCurr[39] | (Motion.bfsCurr[39] >> 1) | (Motion.bfsCurr[39] << 1);
-        Motion.bfsCurr[40] = Motion.bfsCurr[40] | (Motion.bfsCurr[40] >> 1) | (Motion.bfsCurr[40] << 1);
-        Motion.bfsCurr[41] = Motion.bfsCurr[41] | (Motion.bfsCurr[41] >> 1) | (Motion.bfsCurr[41] << 1);
-        Motion.bfsCurr[42] = Motion.bfsCurr[42] | (Motion.bfsCurr[42] >> 1) | (Motion.bfsCurr[42] << 1);
-        Motion.bfsCurr[43] = Motion.bfsCurr[43] | (Motion.bfsCurr[43] >> 1) | (Motion.bfsCurr[43] << 1);
-        Motion.bfsCurr[44] = Motion.bfsCurr[44] | (Motion.bfsCurr[44] >> 1) | (Motion.bfsCurr[44] << 1);
-        Motion.bfsCurr[45] = Motion.bfsCurr[45] | (Motion.bfsCurr[45] >> 1) | (Motion.bfsCurr[45] << 1);
-        Motion.bfsCurr[46] = Motion.bfsCurr[46] | (Motion.bfsCurr[46] >> 1) | (Motion.bfsCurr[46] << 1);
-        Motion.bfsCurr[47] = Motion.bfsCurr[47] | (Motion.bfsCurr[47] >> 1) | (Motion.bfsCurr[47] << 1);
-        Motion.bfsCurr[48] = Motion.bfsCurr[48] | (Motion.bfsCurr[48] >> 1) | (Motion.bfsCurr[48] << 1);
-        Motion.bfsCurr[49] = Motion.bfsCurr[49] | (Motion.bfsCurr[49] >> 1) | (Motion.bfsCurr[49] << 1);
-        Motion.bfsCurr[50] = Motion.bfsCurr[50] | (Motion.bfsCurr[50] >> 1) | (Motion.bfsCurr[50] << 1);
-        Motion.bfsCurr[51] = Motion.bfsCurr[51] | (Motion.bfsCurr[51] >> 1) | (Motion.bfsCurr[51] << 1);
-        Motion.bfsCurr[52] = Motion.bfsCurr[52] | (Motion.bfsCurr[52] >> 1) | (Motion.bfsCurr[52] << 1);
-        Motion.bfsCurr[53] = Motion.bfsCurr[53] | (Motion.bfsCurr[53] >> 1) | (Motion.bfsCurr[53] << 1);
-        Motion.bfsCurr[54] = Motion.bfsCurr[54] | (Motion.bfsCurr[54] >> 1) | (Motion.bfsCurr[54] << 1);
-        Motion.bfsCurr[55] = Motion.bfsCurr[55] | (Motion.bfsCurr[55] >> 1) | (Motion.bfsCurr[55] << 1);
-        Motion.bfsCurr[56] = Motion.bfsCurr[56] | (Motion.bfsCurr[56] >> 1) | (Motion.bfsCurr[56] << 1);
-        Motion.bfsCurr[57] = Motion.bfsCurr[57] | (Motion.bfsCurr[57] >> 1) | (Motion.bfsCurr[57] << 1);
-        Motion.bfsDist[Motion.stepOffset + 1] = (Motion.bfsCurr[1] | Motion.bfsCurr[0] | Motion.bfsCurr[2]) & (Motion.bitmask ^ Motion.bfsMap[1]);
-        Motion.bfsDist[Motion.stepOffset + 2] = (Motion.bfsCurr[2] | Motion.bfsCurr[1] | Motion.bfsCurr[3]) & (Motion.bitmask ^ Motion.bfsMap[2]);
-        Motion.bfsDist[Motion.stepOffset + 3] = (Motion.bfsCurr[3] | Motion.bfsCurr[2] | Motion.bfsCurr[4]) & (Motion.bitmask ^ Motion.bfsMap[3]);
-        Motion.bfsDist[Motion.stepOffset + 4] = (Motion.bfsCurr[4] | Motion.bfsCurr[3] | Motion.bfsCurr[5]) & (Motion.bitmask ^ Motion.bfsMap[4]);
-        Motion.bfsDist[Motion.stepOffset + 5] = (Motion.bfsCurr[5] | Motion.bfsCurr[4] | Motion.bfsCurr[6]) & (Motion.bitmask ^ Motion.bfsMap[5]);
-        Motion.bfsDist[Motion.stepOffset + 6] = (Motion.bfsCurr[6] | Motion.bfsCurr[5] | Motion.bfsCurr[7]) & (Motion.bitmask ^ Motion.bfsMap[6]);
-        Motion.bfsDist[Motion.stepOffset + 7] = (Motion.bfsCurr[7] | Motion.bfsCurr[6] | Motion.bfsCurr[8]) & (Motion.bitmask ^ Motion.bfsMap[7]);
-        Motion.bfsDist[Motion.stepOffset + 8] = (Motion.bfsCurr[8] | Motion.bfsCurr[7] | Motion.bfsCurr[9]) & (Motion.bitmask ^ Motion.bfsMap[8]);
-        Motion.bfsDist[Motion.stepOffset + 9] = (Motion.bfsCurr[9] | Motion.bfsCurr[8] | Motion.bfsCurr[10]) & (Motion.bitmask ^ Motion.bfsMap[9]);
-        Motion.bfsDist[Motion.stepOffset + 10] = (Motion.bfsCurr[10] | Motion.bfsCurr[9] | Motion.bfsCurr[11]) & (Motion.bitmask ^ Motion.bfsMap[10]);
-        Motion.bfsDist[Motion.stepOffset + 11] = (Motion.bfsCurr[11] | Motion.bfsCurr[10] | Motion.bfsCurr[12]) & (Motion.bitmask ^ Motion.bfsMap[11]);
-        Motion.bfsDist[Motion.stepOffset + 12] = (Motion.bfsCurr[12] | Motion.bfsCurr[11] | Motion.bfsCurr[13]) & (Motion.bitmask ^ Motion.bfsMap[12]);
-        Motion.bfsDist[Motion.stepOffset + 13] = (Motion.bfsCurr[13] | Motion.bfsCurr[12] | Motion.bfsCurr[14]) & (Motion.bitmask ^ Motion.bfsMap[13]);
-        Motion.bfsDist[Motion.stepOffset + 14] = (Motion.bfsCurr[14] | Motion.bfsCurr[13] | Motion.bfsCurr[15]) & (Motion.bitmask ^ Motion.bfsMap[14]);
-        Motion.bfsDist[Motion.stepOffset + 15] = (Motion.bfsCurr[15] | Motion.bfsCurr[14] | Motion.bfsCurr[16]) & (Motion.bitmask ^ Motion.bfsMap[15]);
-        Motion.bfsDist[Motion.stepOffset + 16] = (Motion.bfsCurr[16] | Motion.bfsCurr[15] | Motion.bfsCurr[17]) & (Motion.bitmask ^ Motion.bfsMap[16]);
-        Motion.bfsDist[Motion.stepOffset + 17] = (Motion.bfsCurr[17] | Motion.bfsCurr[16] | Motion.bfsCurr[18]) & (Motion.bitmask ^ Motion.bfsMap[17]);
-        Motion.bfsDist[Motion.stepOffset + 18] = (Motion.bfsCurr[18] | Motion.bfsCurr[17] | Motion.bfsCurr[19]) & (Motion.bitmask ^ Motion.bfsMap[18]);
-        Motion.bfsDist[Motion.stepOffset + 19] = (Motion.bfsCurr[19] | Motion.bfsCurr[18] | Motion.bfsCurr[20]) & (Motion.bitmask ^ Motion.bfsMap[19]);
-        Motion.bfsDist[Motion.stepOffset + 20] = (Motion.bfsCurr[20] | Motion.bfsCurr[19] | Motion.bfsCurr[21]) & (Motion.bitmask ^ Motion.bfsMap[20]);
-        Motion.bfsDist[Motion.stepOffset + 21] = (Motion.bfsCurr[21] | Motion.bfsCurr[20] | Motion.bfsCurr[22]) & (Motion.bitmask ^ Motion.bfsMap[21]);
-        Motion.bfsDist[Motion.stepOffset + 22] = (Motion.bfsCurr[22] | Motion.bfsCurr[21] | Motion.bfsCurr[23]) & (Motion.bitmask ^ Motion.bfsMap[22]);
-        Motion.bfsDist[Motion.stepOffset + 23] = (Motion.bfsCurr[23] | Motion.bfsCurr[22] | Motion.bfsCurr[24]) & (Motion.bitmask ^ Motion.bfsMap[23]);
-        Motion.bfsDist[Motion.stepOffset + 24] = (Motion.bfsCurr[24] | Motion.bfsCurr[23] | Motion.bfsCurr[25]) & (Motion.bitmask ^ Motion.bfsMap[24]);
-        Motion.bfsDist[Motion.stepOffset + 25] = (Motion.bfsCurr[25] | Motion.bfsCurr[24] | Motion.bfsCurr[26]) & (Motion.bitmask ^ Motion.bfsMap[25]);
-        Motion.bfsDist[Motion.stepOffset + 26] = (Motion.bfsCurr[26] | Motion.bfsCurr[25] | Motion.bfsCurr[27]) & (Motion.bitmask ^ Motion.bfsMap[26]);
-        Motion.bfsDist[Motion.stepOffset + 27] = (Motion.bfsCurr[27] | Motion.bfsCurr[26] | Motion.bfsCurr[28]) & (Motion.bitmask ^ Motion.bfsMap[27]);
-        Motion.bfsDist[Motion.stepOffset + 28] = (Motion.bfsCurr[28] | Motion.bfsCurr[27] | Motion.bfsCurr[29]) & (Motion.bitmask ^ Motion.bfsMap[28]);
-        Motion.bfsDist[Motion.stepOffset + 29] = (Motion.bfsCurr[29] | Motion.bfsCurr[28] | Motion.bfsCurr[30]) & (Motion.bitmask ^ Motion.bfsMap[29]);
-        Motion.bfsDist[Motion.stepOffset + 30] = (Motion.bfsCurr[30] | Motion.bfsCurr[29] | Motion.bfsCurr[31]) & (Motion.bitmask ^ Motion.bfsMap[30]);
-        Motion.bfsDist[Motion.stepOffset + 31] = (Motion.bfsCurr[31] | Motion.bfsCurr[30] | Motion.bfsCurr[32]) & (Motion.bitmask ^ Motion.bfsMap[31]);
-        Motion.bfsDist[Motion.stepOffset + 32] = (Motion.bfsCurr[32] | Motion.bfsCurr[31] | Motion.bfsCurr[33]) & (Motion.bitmask ^ Motion.bfsMap[32]);
-        Motion.bfsDist[Motion.stepOffset + 33] = (Motion.bfsCurr[33] | Motion.bfsCurr[32] | Motion.bfsCurr[34]) & (Motion.bitmask ^ Motion.bfsMap[33]);
-        Motion.bfsDist[Motion.stepOffset + 34] = (Motion.bfsCurr[34] | Motion.bfsCurr[33] | Motion.bfsCurr[35]) & (Motion.bitmask ^ Motion.bfsMap[34]);
-        Motion.bfsDist[Motion.stepOffset + 35] = (Motion.bfsCurr[35] | Motion.bfsCurr[34] | Motion.bfsCurr[36]) & (Motion.bitmask ^ Motion.bfsMap[35]);
-        Motion.bfsDist[Motion.stepOffset + 36] = (Motion.bfsCurr[36] | Motion.bfsCurr[35] | Motion.bfsCurr[37]) & (Motion.bitmask ^ Motion.bfsMap[36]);
-        Motion.bfsDist[Motion.stepOffset + 37] = (Motion.bfsCurr[37] | Motion.bfsCurr[36] | Motion.bfsCurr[38]) & (Motion.bitmask ^ Motion.bfsMap[37]);
-        Motion.bfsDist[Motion.stepOffset + 38] = (Motion.bfsCurr[38] | Motion.bfsCurr[37] | Motion.bfsCurr[39]) & (Motion.bitmask ^ Motion.bfsMap[38]);
-        Motion.bfsDist[Motion.stepOffset + 39] = (Motion.bfsCurr[39] | Motion.bfsCurr[38] | Motion.bfsCurr[40]) & (Motion.bitmask ^ Motion.bfsMap[39]);
-        Motion.bfsDist[Motion.stepOffset + 40] = (Motion.bfsCurr[40] | Motion.bfsCurr[39] | Motion.bfsCurr[41]) & (Motion.bitmask ^ Motion.bfsMap[40]);
-        Motion.bfsDist[Motion.stepOffset + 41] = (Motion.bfsCurr[41] | Motion.bfsCurr[40] | Motion.bfsCurr[42]) & (Motion.bitmask ^ Motion.bfsMap[41]);
-        Motion.bfsDist[Motion.stepOffset + 42] = (Motion.bfsCurr[42] | Motion.bfsCurr[41] | Motion.bfsCurr[43]) & (Motion.bitmask ^ Motion.bfsMap[42]);
-        Motion.bfsDist[Motion.stepOffset + 43] = (Motion.bfsCurr[43] | Motion.bfsCurr[42] | Motion.bfsCurr[44]) & (Motion.bitmask ^ Motion.bfsMap[43]);
-        Motion.bfsDist[Motion.stepOffset + 44] = (Motion.bfsCurr[44] | Motion.bfsCurr[43] | Motion.bfsCurr[45]) & (Motion.bitmask ^ Motion.bfsMap[44]);
-        Motion.bfsDist[Motion.stepOffset + 45] = (Motion.bfsCurr[45] | Motion.bfsCurr[44] | Motion.bfsCurr[46]) & (Motion.bitmask ^ Motion.bfsMap[45]);
-        Motion.bfsDist[Motion.stepOffset + 46] = (Motion.bfsCurr[46] | Motion.bfsCurr[45] | Motion.bfsCurr[47]) & (Motion.bitmask ^ Motion.bfsMap[46]);
-        Motion.bfsDist[Motion.stepOffset + 47] = (Motion.bfsCurr[47] | Motion.bfsCurr[46] | Motion.bfsCurr[48]) & (Motion.bitmask ^ Motion.bfsMap[47]);
-        Motion.bfsDist[Motion.stepOffset + 48] = (Motion.bfsCurr[48] | Motion.bfsCurr[47] | Motion.bfsCurr[49]) & (Motion.bitmask ^ Motion.bfsMap[48]);
-        Motion.bfsDist[Motion.stepOffset + 49] = (Motion.bfsCurr[49] | Motion.bfsCurr[48] | Motion.bfsCurr[50]) & (Motion.bitmask ^ Motion.bfsMap[49]);
-        Motion.bfsDist[Motion.stepOffset + 50] = (Motion.bfsCurr[50] | Motion.bfsCurr[49] | Motion.bfsCurr[51]) & (Motion.bitmask ^ Motion.bfsMap[50]);
-        Motion.bfsDist[Motion.stepOffset + 51] = (Motion.bfsCurr[51] | Motion.bfsCurr[50] | Motion.bfsCurr[52]) & (Motion.bitmask ^ Motion.bfsMap[51]);
-        Motion.bfsDist[Motion.stepOffset + 52] = (Motion.bfsCurr[52] | Motion.bfsCurr[51] | Motion.bfsCurr[53]) & (Motion.bitmask ^ Motion.bfsMap[52]);
-        Motion.bfsDist[Motion.stepOffset + 53] = (Motion.bfsCurr[53] | Motion.bfsCurr[52] | Motion.bfsCurr[54]) & (Motion.bitmask ^ Motion.bfsMap[53]);
-        Motion.bfsDist[Motion.stepOffset + 54] = (Motion.bfsCurr[54] | Motion.bfsCurr[53] | Motion.bfsCurr[55]) & (Motion.bitmask ^ Motion.bfsMap[54]);
-        Motion.bfsDist[Motion.stepOffset + 55] = (Motion.bfsCurr[55] | Motion.bfsCurr[54] | Motion.bfsCurr[56]) & (Motion.bitmask ^ Motion.bfsMap[55]);
-        Motion.bfsDist[Motion.stepOffset + 56] = (Motion.bfsCurr[56] | Motion.bfsCurr[55] | Motion.bfsCurr[57]) & (Motion.bitmask ^ Motion.bfsMap[56]);
-        Motion.bfsDist[Motion.stepOffset + 57] = (Motion.bfsCurr[57] | Motion.bfsCurr[56] | Motion.bfsCurr[58]) & (Motion.bitmask ^ Motion.bfsMap[57]);
-        Motion.bfsCurr[1] = Motion.bfsDist[Motion.stepOffset + 1];
-        Motion.bfsCurr[2] = Motion.bfsDist[Motion.stepOffset + 2];
-        Motion.bfsCurr[3] = Motion.bfsDist[Motion.stepOffset + 3];
-        Motion.bfsCurr[4] = Motion.bfsDist[Motion.stepOffset + 4];
-        Motion.bfsCurr[5] = Motion.bfsDist[Motion.stepOffset + 5];
-        Motion.bfsCurr[6] = Motion.bfsDist[Motion.stepOffset + 6];
-        Motion.bfsCurr[7] = Motion.bfsDist[Motion.stepOffset + 7];
-        Motion.bfsCurr[8] = Motion.bfsDist[Motion.stepOffset + 8];
-        Motion.bfsCurr[9] = Motion.bfsDist[Motion.stepOffset + 9];
-        Motion.bfsCurr[10] = Motion.bfsDist[Motion.stepOffset + 10];
-        Motion.bfsCurr[11] = Motion.bfsDist[Motion.stepOffset + 11];
-        Motion.bfsCurr[12] = Motion.bfsDist[Motion.stepOffset + 12];
-        Motion.bfsCurr[13] = Motion.bfsDist[Motion.stepOffset + 13];
-        Motion.bfsCurr[14] = Motion.bfsDist[Motion.stepOffset + 14];
-        Motion.bfsCurr[15] = Motion.bfsDist[Motion.stepOffset + 15];
-        Motion.bfsCurr[16] = Motion.bfsDist[Motion.stepOffset + 16];
-        Motion.bfsCurr[17] = Motion.bfsDist[Motion.stepOffset + 17];
-        Motion.bfsCurr[18] = Motion.bfsDist[Motion.stepOffset + 18];
-        Motion.bfsCurr[19] = Motion.bfsDist[Motion.stepOffset + 19];
-        Motion.bfsCurr[20] = Motion.bfsDist[Motion.stepOffset + 20];
-        Motion.bfsCurr[21] = Motion.bfsDist[Motion.stepOffset + 21];
-        Motion.bfsCurr[22] = Motion.bfsDist[Motion.stepOffset + 22];
-        Motion.bfsCurr[23] = Motion.bfsDist[Motion.stepOffset + 23];
-        Motion.bfsCurr[24] = Motion.bfsDist[Motion.stepOffset + 24];
-        Motion.bfsCurr[25] = Motion.bfsDist[Motion.stepOffset + 25];
-        Motion.bfsCurr[26] = Motion.bfsDist[Motion.stepOffset + 26];
-        Motion.bfsCurr[27] = Motion.bfsDist[Motion.stepOffset + 27];
-        Motion.bfsCurr[28] = Motion.bfsDist[Motion.stepOffset + 28];
-        Motion.bfsCurr[29] = Motion.bfsDist[Motion.stepOffset + 29];
-        Motion.bfsCurr[30] = Motion.bfsDist[Motion.stepOffset + 30];
-        Motion.bfsCurr[31] = Motion.bfsDist[Motion.stepOffset + 31];
-        Motion.bfsCurr[32] = Motion.bfsDist[Motion.stepOffset + 32];
-        Motion.bfsCurr[33] = Motion.bfsDist[Motion.stepOffset + 33];
-        Motion.bfsCurr[34] = Motion.bfsDist[Motion.stepOffset + 34];
-        Motion.bfsCurr[35] = Motion.bfsDist[Motion.stepOffset + 35];
-        Motion.bfsCurr[36] = Motion.bfsDist[Motion.stepOffset + 36];
-        Motion.bfsCurr[37] = Motion.bfsDist[Motion.stepOffset + 37];
-        Motion.bfsCurr[38] = Motion.bfsDist[Motion.stepOffset + 38];
-        Motion.bfsCurr[39] = Motion.bfsDist[Motion.stepOffset + 39];
-        Motion.bfsCurr[40] = Motion.bfsDist[Motion.stepOffset + 40];
-        Motion.bfsCurr[41] = Motion.bfsDist[Motion.stepOffset + 41];
-        Motion.bfsCurr[42] = Motion.bfsDist[Motion.stepOffset + 42];
-        Motion.bfsCurr[43] = Motion.bfsDist[Motion.stepOffset + 43];
-        Motion.bfsCurr[44] = Motion.bfsDist[Motion.stepOffset + 44];
-        Motion.bfsCurr[45] = Motion.bfsDist[Motion.stepOffset + 45];
-        Motion.bfsCurr[46] = Motion.bfsDist[Motion.stepOffset + 46];
-        Motion.bfsCurr[47] = Motion.bfsDist[Motion.stepOffset + 47];
-        Motion.bfsCurr[48] = Motion.bfsDist[Motion.stepOffset + 48];
-        Motion.bfsCurr[49] = Motion.bfsDist[Motion.stepOffset + 49];
-        Motion.bfsCurr[50] = Motion.bfsDist[Motion.stepOffset + 50];
-        Motion.bfsCurr[51] = Motion.bfsDist[Motion.stepOffset + 51];
-        Motion.bfsCurr[52] = Motion.bfsDist[Motion.stepOffset + 52];
-        Motion.bfsCurr[53] = Motion.bfsDist[Motion.stepOffset + 53];
-        Motion.bfsCurr[54] = Motion.bfsDist[Motion.stepOffset + 54];
-        Motion.bfsCurr[55] = Motion.bfsDist[Motion.stepOffset + 55];
-        Motion.bfsCurr[56] = Motion.bfsDist[Motion.stepOffset + 56];
-        Motion.bfsCurr[57] = Motion.bfsDist[Motion.stepOffset + 57];
-    }
-    public static void bfs58() {
-        Motion.bfsCurr[1] = Motion.bfsCurr[1] | (Motion.bfsCurr[1] >> 1) | (Motion.bfsCurr[1] << 1);
-        Motion.bfsCurr[2] = Motion.bfsCurr[2] | (Motion.bfsCurr[2] >> 1) | (Motion.bfsCurr[2] << 1);
-        Motion.bfsCurr[3] = Motion.bfsCurr[3] | (Motion.bfsCurr[3] >> 1) | (Motion.bfsCurr[3] << 1);
-        Motion.bfsCurr[4] = Motion.bfsCurr[4] | (Motion.bfsCurr[4] >> 1) | (Motion.bfsCurr[4] << 1);
-        Motion.bfsCurr[5] = Motion.bfsCurr[5] | (Motion.bfsCurr[5] >> 1) | (Motion.bfsCurr[5] << 1);
-        Motion.bfsCurr[6] = Motion.bfsCurr[6] | (Motion.bfsCurr[6] >> 1) | (Motion.bfsCurr[6] << 1);
-        Motion.bfsCurr[7] = Motion.bfsCurr[7] | (Motion.bfsCurr[7] >> 1) | (Motion.bfsCurr[7] << 1);
-        Motion.bfsCurr[8] = Motion.bfsCurr[8] | (Motion.bfsCurr[8] >> 1) | (Motion.bfsCurr[8] << 1);
-        Motion.bfsCurr[9] = Motion.bfsCurr[9] | (Motion.bfsCurr[9] >> 1) | (Motion.bfsCurr[9] << 1);
-        Motion.bfsCurr[10] = Motion.bfsCurr[10] | (Motion.bfsCurr[10] >> 1) | (Motion.bfsCurr[10] << 1);
-        Motion.bfsCurr[11] = Motion.bfsCurr[11] | (Motion.bfsCurr[11] >> 1) | (Motion.bfsCurr[11] << 1);
-        Motion.bfsCurr[12] = Motion.bfsCurr[12] | (Motion.bfsCurr[12] >> 1) | (Motion.bfsCurr[12] << 1);
-        Motion.bfsCurr[13] = Motion.bfsCurr[13] | (Motion.bfsCurr[13] >> 1) | (Motion.bfsCurr[13] << 1);
-        Motion.bfsCurr[14] = Motion.bfsCurr[14] | (Motion.bfsCurr[14] >> 1) | (Motion.bfsCurr[14] << 1);
-        Motion.bfsCurr[15] = Motion.bfsCurr[15] | (Motion.bfsCurr[15] >> 1) | (Motion.bfsCurr[15] << 1);
-        Motion.bfsCurr[16] = Motion.bfsCurr[16] | (Motion.bfsCurr[16] >> 1) | (Motion.bfsCurr[16] << 1);
-        Motion.bfsCurr[17] = Motion.bfsCurr[17] | (Motion.bfsCurr[17] >> 1) | (Motion.bfsCurr[17] << 1);
-        Motion.bfsCurr[18] = Motion.bfsCurr[18] | (Motion.bfsCurr[18] >> 1) | (Motion.bfsCurr[18] << 1);
-        Motion.bfsCurr[19] = Motion.bfsCurr[19] | (Motion.bfsCurr[19] >> 1) | (Motion.bfsCurr[19] << 1);
-        Motion.bfsCurr[20] = Motion.bfsCurr[20] | (Motion.bfsCurr[20] >> 1) | (Motion.bfsCurr[20] << 1);
-        Motion.bfsCurr[21] = Motion.bfsCurr[21] | (Motion.bfsCurr[21] >> 1) | (Motion.bfsCurr[21] << 1);
-        Motion.bfsCurr[22] = Motion.bfsCurr[22] | (Motion.bfsCurr[22] >> 1) | (Motion.bfsCurr[22] << 1);
-        Motion.bfsCurr[23] = Motion.bfsCurr[23] | (Motion.bfsCurr[23] >> 1) | (Motion.bfsCurr[23] << 1);
-        Motion.bfsCurr[24] = Motion.bfsCurr[24] | (Motion.bfsCurr[24] >> 1) | (Motion.bfsCurr[24] << 1);
-        Motion.bfsCurr[25] = Motion.bfsCurr[25] | (Motion.bfsCurr[25] >> 1) | (Motion.bfsCurr[25] << 1);
-        Motion.bfsCurr[26] = Motion.bfsCurr[26] | (Motion.bfsCurr[26] >> 1) | (Motion.bfsCurr[26] << 1);
-        Motion.bfsCurr[27] = Motion.bfsCurr[27] | (Motion.bfsCurr[27] >> 1) | (Motion.bfsCurr[27] << 1);
-        Motion.bfsCurr[28] = Motion.bfsCurr[28] | (Motion.bfsCurr[28] >> 1) | (Motion.bfsCurr[28] << 1);
-        Motion.bfsCurr[29] = Motion.bfsCurr[29] | (Motion.bfsCurr[29] >> 1) | (Motion.bfsCurr[29] << 1);
-        Motion.bfsCurr[30] = Motion.bfsCurr[30] | (Motion.bfsCurr[30] >> 1) | (Motion.bfsCurr[30] << 1);
-        Motion.bfsCurr[31] = Motion.bfsCurr[31] | (Motion.bfsCurr[31] >> 1) | (Motion.bfsCurr[31] << 1);
-        Motion.bfsCurr[32] = Motion.bfsCurr[32] | (Motion.bfsCurr[32] >> 1) | (Motion.bfsCurr[32] << 1);
-        Motion.bfsCurr[33] = Motion.bfsCurr[33] | (Motion.bfsCurr[33] >> 1) | (Motion.bfsCurr[33] << 1);
-        Motion.bfsCurr[34] = Motion.bfsCurr[34] | (Motion.bfsCurr[34] >> 1) | (Motion.bfsCurr[34] << 1);
-        Motion.bfsCurr[35] = Motion.bfsCurr[35] | (Motion.bfsCurr[35] >> 1) | (Motion.bfsCurr[35] << 1);
-        Motion.bfsCurr[36] = Motion.bfsCurr[36] | (Motion.bfsCurr[36] >> 1) | (Motion.bfsCurr[36] << 1);
-        Motion.bfsCurr[37] = Motion.bfsCurr[37] | (Motion.bfsCurr[37] >> 1) | (Motion.bfsCurr[37] << 1);
-        Motion.bfsCurr[38] = Motion.bfsCurr[38] | (Motion.bfsCurr[38] >> 1) | (Motion.bfsCurr[38] << 1);
-        Motion.bfsCurr[39] = Motion.bfsCurr[39] | (Motion.bfsCurr[39] >> 1) | (Motion.bfsCurr[39] << 1);
-        Motion.bfsCurr[40] = Motion.bfsCurr[40] | (Motion.bfsCurr[40] >> 1) | (Motion.bfsCurr[40] << 1);
-        Motion.bfsCurr[41] = Motion.bfsCurr[41] | (Motion.bfsCurr[41] >> 1) | (Motion.bfsCurr[41] << 1);
-        Motion.bfsCurr[42] = Motion.bfsCurr[42] | (Motion.bfsCurr[42] >> 1) | (Motion.bfsCurr[42] << 1);
-        Motion.bfsCurr[43] = Motion.bfsCurr[43] | (Motion.bfsCurr[43] >> 1) | (Motion.bfsCurr[43] << 1);
-        Motion.bfsCurr[44] = Motion.bfsCurr[44] | (Motion.bfsCurr[44] >> 1) | (Motion.bfsCurr[44] << 1);
-        Motion.bfsCurr[45] = Motion.bfsCurr[45] | (Motion.bfsCurr[45] >> 1) | (Motion.bfsCurr[45] << 1);
-        Motion.bfsCurr[46] = Motion.bfsCurr[46] | (Motion.bfsCurr[46] >> 1) | (Motion.bfsCurr[46] << 1);
-        Motion.bfsCurr[47] = Motion.bfsCurr[47] | (Motion.bfsCurr[47] >> 1) | (Motion.bfsCurr[47] << 1);
-        Motion.bfsCurr[48] = Motion.bfsCurr[48] | (Motion.bfsCurr[48] >> 1) | (Motion.bfsCurr[48] << 1);
-        Motion.bfsCurr[49] = Motion.bfsCurr[49] | (Motion.bfsCurr[49] >> 1) | (Motion.bfsCurr[49] << 1);
-        Motion.bfsCurr[50] = Motion.bfsCurr[50] | (Motion.bfsCurr[50] >> 1) | (Motion.bfsCurr[50] << 1);
-        Motion.bfsCurr[51] = Motion.bfsCurr[51] | (Motion.bfsCurr[51] >> 1) | (Motion.bfsCurr[51] << 1);
-        Motion.bfsCurr[52] = Motion.bfsCurr[52] | (Motion.bfsCurr[52] >> 1) | (Motion.bfsCurr[52] << 1);
-        Motion.bfsCurr[53] = Motion.bfsCurr[53] | (Motion.bfsCurr[53] >> 1) | (Motion.bfsCurr[53] << 1);
-        Motion.bfsCurr[54] = Motion.bfsCurr[54] | (Motion.bfsCurr[54] >> 1) | (Motion.bfsCurr[54] << 1);
-        Motion.bfsCurr[55] = Motion.bfsCurr[55] | (Motion.bfsCurr[55] >> 1) | (Motion.bfsCurr[55] << 1);
-        Motion.bfsCurr[56] = Motion.bfsCurr[56] | (Motion.bfsCurr[56] >> 1) | (Motion.bfsCurr[56] << 1);
-        Motion.bfsCurr[57] = Motion.bfsCurr[57] | (Motion.bfsCurr[57] >> 1) | (Motion.bfsCurr[57] << 1);
-        Motion.bfsCurr[58] = Motion.bfsCurr[58] | (Motion.bfsCurr[58] >> 1) | (Motion.bfsCurr[58] << 1);
-        Motion.bfsDist[Motion.stepOffset + 1] = (Motion.bfsCurr[1] | Motion.bfsCurr[0] | Motion.bfsCurr[2]) & (Motion.bitmask ^ Motion.bfsMap[1]);
-        Motion.bfsDist[Motion.stepOffset + 2] = (Motion.bfsCurr[2] | Motion.bfsCurr[1] | Motion.bfsCurr[3]) & (Motion.bitmask ^ Motion.bfsMap[2]);
-        Motion.bfsDist[Motion.stepOffset + 3] = (Motion.bfsCurr[3] | Motion.bfsCurr[2] | Motion.bfsCurr[4]) & (Motion.bitmask ^ Motion.bfsMap[3]);
-        Motion.bfsDist[Motion.stepOffset + 4] = (Motion.bfsCurr[4] | Motion.bfsCurr[3] | Motion.bfsCurr[5]) & (Motion.bitmask ^ Motion.bfsMap[4]);
-        Motion.bfsDist[Motion.stepOffset + 5] = (Motion.bfsCurr[5] | Motion.bfsCurr[4] | Motion.bfsCurr[6]) & (Motion.bitmask ^ Motion.bfsMap[5]);
-        Motion.bfsDist[Motion.stepOffset + 6] = (Motion.bfsCurr[6] | Motion.bfsCurr[5] | Motion.bfsCurr[7]) & (Motion.bitmask ^ Motion.bfsMap[6]);
-        Motion.bfsDist[Motion.stepOffset + 7] = (Motion.bfsCurr[7] | Motion.bfsCurr[6] | Motion.bfsCurr[8]) & (Motion.bitmask ^ Motion.bfsMap[7]);
-        Motion.bfsDist[Motion.stepOffset + 8] = (Motion.bfsCurr[8] | Motion.bfsCurr[7] | Motion.bfsCurr[9]) & (Motion.bitmask ^ Motion.bfsMap[8]);
-        Motion.bfsDist[Motion.stepOffset + 9] = (Motion.bfsCurr[9] | Motion.bfsCurr[8] | Motion.bfsCurr[10]) & (Motion.bitmask ^ Motion.bfsMap[9]);
-        Motion.bfsDist[Motion.stepOffset + 10] = (Motion.bfsCurr[10] | Motion.bfsCurr[9] | Motion.bfsCurr[11]) & (Motion.bitmask ^ Motion.bfsMap[10]);
-        Motion.bfsDist[Motion.stepOffset + 11] = (Motion.bfsCurr[11] | Motion.bfsCurr[10] | Motion.bfsCurr[12]) & (Motion.bitmask ^ Motion.bfsMap[11]);
-        Motion.bfsDist[Motion.stepOffset + 12] = (Motion.bfsCurr[12] | Motion.bfsCurr[11] | Motion.bfsCurr[13]) & (Motion.bitmask ^ Motion.bfsMap[12]);
-        Motion.bfsDist[Motion.stepOffset + 13] = (Motion.bfsCurr[13] | Motion.bfsCurr[12] | Motion.bfsCurr[14]) & (Motion.bitmask ^ Motion.bfsMap[13]);
-        Motion.bfsDist[Motion.stepOffset + 14] = (Motion.bfsCurr[14] | Motion.bfsCurr[13] | Motion.bfsCurr[15]) & (Motion.bitmask ^ Motion.bfsMap[14]);
-        Motion.bfsDist[Motion.stepOffset + 15] = (Motion.bfsCurr[15] | Motion.bfsCurr[14] | Motion.bfsCurr[16]) & (Motion.bitmask ^ Motion.bfsMap[15]);
-        Motion.bfsDist[Motion.stepOffset + 16] = (Motion.bfsCurr[16] | Motion.bfsCurr[15] | Motion.bfsCurr[17]) & (Motion.bitmask ^ Motion.bfsMap[16]);
-        Motion.bfsDist[Motion.stepOffset + 17] = (Motion.bfsCurr[17] | Motion.bfsCurr[16] | Motion.bfsCurr[18]) & (Motion.bitmask ^ Motion.bfsMap[17]);
-        Motion.bfsDist[Motion.stepOffset + 18] = (Motion.bfsCurr[18] | Motion.bfsCurr[17] | Motion.bfsCurr[19]) & (Motion.bitmask ^ Motion.bfsMap[18]);
-        Motion.bfsDist[Motion.stepOffset + 19] = (Motion.bfsCurr[19] | Motion.bfsCurr[18] | Motion.bfsCurr[20]) & (Motion.bitmask ^ Motion.bfsMap[19]);
-        Motion.bfsDist[Motion.stepOffset + 20] = (Motion.bfsCurr[20] | Motion.bfsCurr[19] | Motion.bfsCurr[21]) & (Motion.bitmask ^ Motion.bfsMap[20]);
-        Motion.bfsDist[Motion.stepOffset + 21] = (Motion.bfsCurr[21] | Motion.bfsCurr[20] | Motion.bfsCurr[22]) & (Motion.bitmask ^ Motion.bfsMap[21]);
-        Motion.bfsDist[Motion.stepOffset + 22] = (Motion.bfsCurr[22] | Motion.bfsCurr[21] | Motion.bfsCurr[23]) & (Motion.bitmask ^ Motion.bfsMap[22]);
-        Motion.bfsDist[Motion.stepOffset + 23] = (Motion.bfsCurr[23] | Motion.bfsCurr[22] | Motion.bfsCurr[24]) & (Motion.bitmask ^ Motion.bfsMap[23]);
-        Motion.bfsDist[Motion.stepOffset + 24] = (Motion.bfsCurr[24] | Motion.bfsCurr[23] | Motion.bfsCurr[25]) & (Motion.bitmask ^ Motion.bfsMap[24]);
-        Motion.bfsDist[Motion.stepOffset + 25] = (Motion.bfsCurr[25] | Motion.bfsCurr[24] | Motion.bfsCurr[26]) & (Motion.bitmask ^ Motion.bfsMap[25]);
-        Motion.bfsDist[Motion.stepOffset + 26] = (Motion.bfsCurr[26] | Motion.bfsCurr[25] | Motion.bfsCurr[27]) & (Motion.bitmask ^ Motion.bfsMap[26]);
-        Motion.bfsDist[Motion.stepOffset + 27] = (Motion.bfsCurr[27] | Motion.bfsCurr[26] | Motion.bfsCurr[28]) & (Motion.bitmask ^ Motion.bfsMap[27]);
-        Motion.bfsDist[Motion.stepOffset + 28] = (Motion.bfsCurr[28] | Motion.bfsCurr[27] | Motion.bfsCurr[29]) & (Motion.bitmask ^ Motion.bfsMap[28]);
-        Motion.bfsDist[Motion.stepOffset + 29] = (Motion.bfsCurr[29] | Motion.bfsCurr[28] | Motion.bfsCurr[30]) & (Motion.bitmask ^ Motion.bfsMap[29]);
-        Motion.bfsDist[Motion.stepOffset + 30] = (Motion.bfsCurr[30] | Motion.bfsCurr[29] | Motion.bfsCurr[31]) & (Motion.bitmask ^ Motion.bfsMap[30]);
-        Motion.bfsDist[Motion.stepOffset + 31] = (Motion.bfsCurr[31] | Motion.bfsCurr[30] | Motion.bfsCurr[32]) & (Motion.bitmask ^ Motion.bfsMap[31]);
-        Motion.bfsDist[Motion.stepOffset + 32] = (Motion.bfsCurr[32] | Motion.bfsCurr[31] | Motion.bfsCurr[33]) & (Motion.bitmask ^ Motion.bfsMap[32]);
-        Motion.bfsDist[Motion.stepOffset + 33] = (Motion.bfsCurr[33] | Motion.bfsCurr[32] | Motion.bfsCurr[34]) & (Motion.bitmask ^ Motion.bfsMap[33]);
-        Motion.bfsDist[Motion.stepOffset + 34] = (Motion.bfsCurr[34] | Motion.bfsCurr[33] | Motion.bfsCurr[35]) & (Motion.bitmask ^ Motion.bfsMap[34]);
-        Motion.bfsDist[Motion.stepOffset + 35] = (Motion.bfsCurr[35] | Motion.bfsCurr[34] | Motion.bfsCurr[36]) & (Motion.bitmask ^ Motion.bfsMap[35]);
-        Motion.bfsDist[Motion.stepOffset + 36] = (Motion.bfsCurr[36] | Motion.bfsCurr[35] | Motion.bfsCurr[37]) & (Motion.bitmask ^ Motion.bfsMap[36]);
-        Motion.bfsDist[Motion.stepOffset + 37] = (Motion.bfsCurr[37] | Motion.bfsCurr[36] | Motion.bfsCurr[38]) & (Motion.bitmask ^ Motion.bfsMap[37]);
-        Motion.bfsDist[Motion.stepOffset + 38] = (Motion.bfsCurr[38] | Motion.bfsCurr[37] | Motion.bfsCurr[39]) & (Motion.bitmask ^ Motion.bfsMap[38]);
-        Motion.bfsDist[Motion.stepOffset + 39] = (Motion.bfsCurr[39] | Motion.bfsCurr[38] | Motion.bfsCurr[40]) & (Motion.bitmask ^ Motion.bfsMap[39]);
-        Motion.bfsDist[Motion.stepOffset + 40] = (Motion.bfsCurr[40] | Motion.bfsCurr[39] | Motion.bfsCurr[41]) & (Motion.bitmask ^ Motion.bfsMap[40]);
-        Motion.bfsDist[Motion.stepOffset + 41] = (Motion.bfsCurr[41] | Motion.bfsCurr[40] | Motion.bfsCurr[42]) & (Motion.bitmask ^ Motion.bfsMap[41]);
-        Motion.bfsDist[Motion.stepOffset + 42] = (Motion.bfsCurr[42] | Motion.bfsCurr[41] | Motion.bfsCurr[43]) & (Motion.bitmask ^ Motion.bfsMap[42]);
-        Motion.bfsDist[Motion.stepOffset + 43] = (Motion.bfsCurr[43] | Motion.bfsCurr[42] | Motion.bfsCurr[44]) & (Motion.bitmask ^ Motion.bfsMap[43]);
-        Motion.bfsDist[Motion.stepOffset + 44] = (Motion.bfsCurr[44] | Motion.bfsCurr[43] | Motion.bfsCurr[45]) & (Motion.bitmask ^ Motion.bfsMap[44]);
-        Motion.bfsDist[Motion.stepOffset + 45] = (Motion.bfsCurr[45] | Motion.bfsCurr[44] | Motion.bfsCurr[46]) & (Motion.bitmask ^ Motion.bfsMap[45]);
-        Motion.bfsDist[Motion.stepOffset + 46] = (Motion.bfsCurr[46] | Motion.bfsCurr[45] | Motion.bfsCurr[47]) & (Motion.bitmask ^ Motion.bfsMap[46]);
-        Motion.bfsDist[Motion.stepOffset + 47] = (Motion.bfsCurr[47] | Motion.bfsCurr[46] | Motion.bfsCurr[48]) & (Motion.bitmask ^ Motion.bfsMap[47]);
-        Motion.bfsDist[Motion.stepOffset + 48] = (Motion.bfsCurr[48] | Motion.bfsCurr[47] | Motion.bfsCurr[49]) & (Motion.bitmask ^ Motion.bfsMap[48]);
-        Motion.bfsDist[Motion.stepOffset + 49] = (Motion.bfsCurr[49] | Motion.bfsCurr[48] | Motion.bfsCurr[50]) & (Motion.bitmask ^ Motion.bfsMap[49]);
-        Motion.bfsDist[Motion.stepOffset + 50] = (Motion.bfsCurr[50] | Motion.bfsCurr[49] | Motion.bfsCurr[51]) & (Motion.bitmask ^ Motion.bfsMap[50]);
-        Motion.bfsDist[Motion.stepOffset + 51] = (Motion.bfsCurr[51] | Motion.bfsCurr[50] | Motion.bfsCurr[52]) & (Motion.bitmask ^ Motion.bfsMap[51]);
-        Motion.bfsDist[Motion.stepOffset + 52] = (Motion.bfsCurr[52] | Motion.bfsCurr[51] | Motion.bfsCurr[53]) & (Motion.bitmask ^ Motion.bfsMap[52]);
-        Motion.bfsDist[Motion.stepOffset + 53] = (Motion.bfsCurr[53] | Motion.bfsCurr[52] | Motion.bfsCurr[54]) & (Motion.bitmask ^ Motion.bfsMap[53]);
-        Motion.bfsDist[Motion.stepOffset + 54] = (Motion.bfsCurr[54] | Motion.bfsCurr[53] | Motion.bfsCurr[55]) & (Motion.bitmask ^ Motion.bfsMap[54]);
-        Motion.bfsDist[Motion.stepOffset + 55] = (Motion.bfsCurr[55] | Motion.bfsCurr[54] | Motion.bfsCurr[56]) & (Motion.bitmask ^ Motion.bfsMap[55]);
-        Motion.bfsDist[Motion.stepOffset + 56] = (Motion.bfsCurr[56] | Motion.bfsCurr[55] | Motion.bfsCurr[57]) & (Motion.bitmask ^ Motion.bfsMap[56]);
-        Motion.bfsDist[Motion.stepOffset + 57] = (Motion.bfsCurr[57] | Motion.bfsCurr[56] | Motion.bfsCurr[58]) & (Motion.bitmask ^ Motion.bfsMap[57]);
-        Motion.bfsDist[Motion.stepOffset + 58] = (Motion.bfsCurr[58] | Motion.bfsCurr[57] | Motion.bfsCurr[59]) & (Motion.bitmask ^ Motion.bfsMap[58]);
-        Motion.bfsCurr[1] = Motion.bfsDist[Motion.stepOffset + 1];
-        Motion.bfsCurr[2] = Motion.bfsDist[Motion.stepOffset + 2];
-        Motion.bfsCurr[3] = Motion.bfsDist[Motion.stepOffset + 3];
-        Motion.bfsCurr[4] = Motion.bfsDist[Motion.stepOffset + 4];
-        Motion.bfsCurr[5] = Motion.bfsDist[Motion.stepOffset + 5];
-        Motion.bfsCurr[6] = Motion.bfsDist[Motion.stepOffset + 6];
-        Motion.bfsCurr[7] = Motion.bfsDist[Motion.stepOffset + 7];
-        Motion.bfsCurr[8] = Motion.bfsDist[Motion.stepOffset + 8];
-        Motion.bfsCurr[9] = Motion.bfsDist[Motion.stepOffset + 9];
-        Motion.bfsCurr[10] = Motion.bfsDist[Motion.stepOffset + 10];
-        Motion.bfsCurr[11] = Motion.bfsDist[Motion.stepOffset + 11];
-        Motion.bfsCurr[12] = Motion.bfsDist[Motion.stepOffset + 12];
-        Motion.bfsCurr[13] = Motion.bfsDist[Motion.stepOffset + 13];
-        Motion.bfsCurr[14] = Motion.bfsDist[Motion.stepOffset + 14];
-        Motion.bfsCurr[15] = Motion.bfsDist[Motion.stepOffset + 15];
-        Motion.bfsCurr[16] = Motion.bfsDist[Motion.stepOffset + 16];
-        Motion.bfsCurr[17] = Motion.bfsDist[Motion.stepOffset + 17];
-        Motion.bfsCurr[18] = Motion.bfsDist[Motion.stepOffset + 18];
-        Motion.bfsCurr[19] = Motion.bfsDist[Motion.stepOffset + 19];
-        Motion.bfsCurr[20] = Motion.bfsDist[Motion.stepOffset + 20];
-        Motion.bfsCurr[21] = Motion.bfsDist[Motion.stepOffset + 21];
-        Motion.bfsCurr[22] = Motion.bfsDist[Motion.stepOffset + 22];
-        Motion.bfsCurr[23] = Motion.bfsDist[Motion.stepOffset + 23];
-        Motion.bfsCurr[24] = Motion.bfsDist[Motion.stepOffset + 24];
-        Motion.bfsCurr[25] = Motion.bfsDist[Motion.stepOffset + 25];
-        Motion.bfsCurr[26] = Motion.bfsDist[Motion.stepOffset + 26];
-        Motion.bfsCurr[27] = Motion.bfsDist[Motion.stepOffset + 27];
-        Motion.bfsCurr[28] = Motion.bfsDist[Motion.stepOffset + 28];
-        Motion.bfsCurr[29] = Motion.bfsDist[Motion.stepOffset + 29];
-        Motion.bfsCurr[30] = Motion.bfsDist[Motion.stepOffset + 30];
-        Motion.bfsCurr[31] = Motion.bfsDist[Motion.stepOffset + 31];
-        Motion.bfsCurr[32] = Motion.bfsDist[Motion.stepOffset + 32];
-        Motion.bfsCurr[33] = Motion.bfsDist[Motion.stepOffset + 33];
-        Motion.bfsCurr[34] = Motion.bfsDist[Motion.stepOffset + 34];
-        Motion.bfsCurr[35] = Motion.bfsDist[Motion.stepOffset + 35];
-        Motion.bfsCurr[36] = Motion.bfsDist[Motion.stepOffset + 36];
-        Motion.bfsCurr[37] = Motion.bfsDist[Motion.stepOffset + 37];
-        Motion.bfsCurr[38] = Motion.bfsDist[Motion.stepOffset + 38];
-        Motion.bfsCurr[39] = Motion.bfsDist[Motion.stepOffset + 39];
-        Motion.bfsCurr[40] = Motion.bfsDist[Motion.stepOffset + 40];
-        Motion.bfsCurr[41] = Motion.bfsDist[Motion.stepOffset + 41];
-        Motion.bfsCurr[42] = Motion.bfsDist[Motion.stepOffset + 42];
-        Motion.bfsCurr[43] = Motion.bfsDist[Motion.stepOffset + 43];
-        Motion.bfsCurr[44] = Motion.bfsDist[Motion.stepOffset + 44];
-        Motion.bfsCurr[45] = Motion.bfsDist[Motion.stepOffset + 45];
-        Motion.bfsCurr[46] = Motion.bfsDist[Motion.stepOffset + 46];
-        Motion.bfsCurr[47] = Motion.bfsDist[Motion.stepOffset + 47];
-        Motion.bfsCurr[48] = Motion.bfsDist[Motion.stepOffset + 48];
-        Motion.bfsCurr[49] = Motion.bfsDist[Motion.stepOffset + 49];
-        Motion.bfsCurr[50] = Motion.bfsDist[Motion.stepOffset + 50];
-        Motion.bfsCurr[51] = Motion.bfsDist[Motion.stepOffset + 51];
-        Motion.bfsCurr[52] = Motion.bfsDist[Motion.stepOffset + 52];
-        Motion.bfsCurr[53] = Motion.bfsDist[Motion.stepOffset + 53];
-        Motion.bfsCurr[54] = Motion.bfsDist[Motion.stepOffset + 54];
-        Motion.bfsCurr[55] = Motion.bfsDist[Motion.stepOffset + 55];
-        Motion.bfsCurr[56] = Motion.bfsDist[Motion.stepOffset + 56];
-        Motion.bfsCurr[57] = Motion.bfsDist[Motion.stepOffset + 57];
-        Motion.bfsCurr[58] = Motion.bfsDist[Motion.stepOffset + 58];
-    }
-    public static void bfs59() {
-        Motion.bfsCurr[1] = Motion.bfsCurr[1] | (Motion.bfsCurr[1] >> 1) | (Motion.bfsCurr[1] << 1);
-        Motion.bfsCurr[2] = Motion.bfsCurr[2] | (Motion.bfsCurr[2] >> 1) | (Motion.bfsCurr[2] << 1);
-        Motion.bfsCurr[3] = Motion.bfsCurr[3] | (Motion.bfsCurr[3] >> 1) | (Motion.bfsCurr[3] << 1);
-        Motion.bfsCurr[4] = Motion.bfsCurr[4] | (Motion.bfsCurr[4] >> 1) | (Motion.bfsCurr[4] << 1);
-        Motion.bfsCurr[5] = Motion.bfsCurr[5] | (Motion.bfsCurr[5] >> 1) | (Motion.bfsCurr[5] << 1);
-        Motion.bfsCurr[6] = Motion.bfsCurr[6] | (Motion.bfsCurr[6] >> 1) | (Motion.bfsCurr[6] << 1);
-        Motion.bfsCurr[7] = Motion.bfsCurr[7] | (Motion.bfsCurr[7] >> 1) | (Motion.bfsCurr[7] << 1);
-        Motion.bfsCurr[8] = Motion.bfsCurr[8] | (Motion.bfsCurr[8] >> 1) | (Motion.bfsCurr[8] << 1);
-        Motion.bfsCurr[9] = Motion.bfsCurr[9] | (Motion.bfsCurr[9] >> 1) | (Motion.bfsCurr[9] << 1);
-        Motion.bfsCurr[10] = Motion.bfsCurr[10] | (Motion.bfsCurr[10] >> 1) | (Motion.bfsCurr[10] << 1);
-        Motion.bfsCurr[11] = Motion.bfsCurr[11] | (Motion.bfsCurr[11] >> 1) | (Motion.bfsCurr[11] << 1);
-        Motion.bfsCurr[12] = Motion.bfsCurr[12] | (Motion.bfsCurr[12] >> 1) | (Motion.bfsCurr[12] << 1);
-        Motion.bfsCurr[13] = Motion.bfsCurr[13] | (Motion.bfsCurr[13] >> 1) | (Motion.bfsCurr[13] << 1);
-        Motion.bfsCurr[14] = Motion.bfsCurr[14] | (Motion.bfsCurr[14] >> 1) | (Motion.bfsCurr[14] << 1);
-        Motion.bfsCurr[15] = Motion.bfsCurr[15] | (Motion.bfsCurr[15] >> 1) | (Motion.bfsCurr[15] << 1);
-        Motion.bfsCurr[16] = Motion.bfsCurr[16] | (Motion.bfsCurr[16] >> 1) | (Motion.bfsCurr[16] << 1);
-        Motion.bfsCurr[17] = Motion.bfsCurr[17] | (Motion.bfsCurr[17] >> 1) | (Motion.bfsCurr[17] << 1);
-        Motion.bfsCurr[18] = Motion.bfsCurr[18] | (Motion.bfsCurr[18] >> 1) | (Motion.bfsCurr[18] << 1);
-        Motion.bfsCurr[19] = Motion.bfsCurr[19] | (Motion.bfsCurr[19] >> 1) | (Motion.bfsCurr[19] << 1);
-        Motion.bfsCurr[20] = Motion.bfsCurr[20] | (Motion.bfsCurr[20] >> 1) | (Motion.bfsCurr[20] << 1);
-        Motion.bfsCurr[21] = Motion.bfsCurr[21] | (Motion.bfsCurr[21] >> 1) | (Motion.bfsCurr[21] << 1);
-        Motion.bfsCurr[22] = Motion.bfsCurr[22] | (Motion.bfsCurr[22] >> 1) | (Motion.bfsCurr[22] << 1);
-        Motion.bfsCurr[23] = Motion.bfsCurr[23] | (Motion.bfsCurr[23] >> 1) | (Motion.bfsCurr[23] << 1);
-        Motion.bfsCurr[24] = Motion.bfsCurr[24] | (Motion.bfsCurr[24] >> 1) | (Motion.bfsCurr[24] << 1);
-        Motion.bfsCurr[25] = Motion.bfsCurr[25] | (Motion.bfsCurr[25] >> 1) | (Motion.bfsCurr[25] << 1);
-        Motion.bfsCurr[26] = Motion.bfsCurr[26] | (Motion.bfsCurr[26] >> 1) | (Motion.bfsCurr[26] << 1);
-        Motion.bfsCurr[27] = Motion.bfsCurr[27] | (Motion.bfsCurr[27] >> 1) | (Motion.bfsCurr[27] << 1);
-        Motion.bfsCurr[28] = Motion.bfsCurr[28] | (Motion.bfsCurr[28] >> 1) | (Motion.bfsCurr[28] << 1);
-        Motion.bfsCurr[29] = Motion.bfsCurr[29] | (Motion.bfsCurr[29] >> 1) | (Motion.bfsCurr[29] << 1);
-        Motion.bfsCurr[30] = Motion.bfsCurr[30] | (Motion.bfsCurr[30] >> 1) | (Motion.bfsCurr[30] << 1);
-        Motion.bfsCurr[31] = Motion.bfsCurr[31] | (Motion.bfsCurr[31] >> 1) | (Motion.bfsCurr[31] << 1);
-        Motion.bfsCurr[32] = Motion.bfsCurr[32] | (Motion.bfsCurr[32] >> 1) | (Motion.bfsCurr[32] << 1);
-        Motion.bfsCurr[33] = Motion.bfsCurr[33] | (Motion.bfsCurr[33] >> 1) | (Motion.bfsCurr[33] << 1);
-        Motion.bfsCurr[34] = Motion.bfsCurr[34] | (Motion.bfsCurr[34] >> 1) | (Motion.bfsCurr[34] << 1);
-        Motion.bfsCurr[35] = Motion.bfsCurr[35] | (Motion.bfsCurr[35] >> 1) | (Motion.bfsCurr[35] << 1);
-        Motion.bfsCurr[36] = Motion.bfsCurr[36] | (Motion.bfsCurr[36] >> 1) | (Motion.bfsCurr[36] << 1);
-        Motion.bfsCurr[37] = Motion.bfsCurr[37] | (Motion.bfsCurr[37] >> 1) | (Motion.bfsCurr[37] << 1);
-        Motion.bfsCurr[38] = Motion.bfsCurr[38] | (Motion.bfsCurr[38] >> 1) | (Motion.bfsCurr[38] << 1);
-        Motion.bfsCurr[39] = Motion.bfsCurr[39] | (Motion.bfsCurr[39] >> 1) | (Motion.bfsCurr[39] << 1);
-        Motion.bfsCurr[40] = Motion.bfsCurr[40] | (Motion.bfsCurr[40] >> 1) | (Motion.bfsCurr[40] << 1);
-        Motion.bfsCurr[41] = Motion.bfsCurr[41] | (Motion.bfsCurr[41] >> 1) | (Motion.bfsCurr[41] << 1);
-        Motion.bfsCurr[42] = Motion.bfsCurr[42] | (Motion.bfsCurr[42] >> 1) | (Motion.bfsCurr[42] << 1);
-        Motion.bfsCurr[43] = Motion.bfsCurr[43] | (Motion.bfsCurr[43] >> 1) | (Motion.bfsCurr[43] << 1);
-        Motion.bfsCurr[44] = Motion.bfsCurr[44] | (Motion.bfsCurr[44] >> 1) | (Motion.bfsCurr[44] << 1);
-        Motion.bfsCurr[45] = Motion.bfsCurr[45] | (Motion.bfsCurr[45] >> 1) | (Motion.bfsCurr[45] << 1);
-        Motion.bfsCurr[46] = Motion.bfsCurr[46] | (Motion.bfsCurr[46] >> 1) | (Motion.bfsCurr[46] << 1);
-        Motion.bfsCurr[47] = Motion.bfsCurr[47] | (Motion.bfsCurr[47] >> 1) | (Motion.bfsCurr[47] << 1);
-        Motion.bfsCurr[48] = Motion.bfsCurr[48] | (Motion.bfsCurr[48] >> 1) | (Motion.bfsCurr[48] << 1);
-        Motion.bfsCurr[49] = Motion.bfsCurr[49] | (Motion.bfsCurr[49] >> 1) | (Motion.bfsCurr[49] << 1);
-        Motion.bfsCurr[50] = Motion.bfsCurr[50] | (Motion.bfsCurr[50] >> 1) | (Motion.bfsCurr[50] << 1);
-        Motion.bfsCurr[51] = Motion.bfsCurr[51] | (Motion.bfsCurr[51] >> 1) | (Motion.bfsCurr[51] << 1);
-        Motion.bfsCurr[52] = Motion.bfsCurr[52] | (Motion.bfsCurr[52] >> 1) | (Motion.bfsCurr[52] << 1);
-        Motion.bfsCurr[53] = Motion.bfsCurr[53] | (Motion.bfsCurr[53] >> 1) | (Motion.bfsCurr[53] << 1);
-        Motion.bfsCurr[54] = Motion.bfsCurr[54] | (Motion.bfsCurr[54] >> 1) | (Motion.bfsCurr[54] << 1);
-        Motion.bfsCurr[55] = Motion.bfsCurr[55] | (Motion.bfsCurr[55] >> 1) | (Motion.bfsCurr[55] << 1);
-        Motion.bfsCurr[56] = Motion.bfsCurr[56] | (Motion.bfsCurr[56] >> 1) | (Motion.bfsCurr[56] << 1);
-        Motion.bfsCurr[57] = Motion.bfsCurr[57] | (Motion.bfsCurr[57] >> 1) | (Motion.bfsCurr[57] << 1);
-        Motion.bfsCurr[58] = Motion.bfsCurr[58] | (Motion.bfsCurr[58] >> 1) | (Motion.bfsCurr[58] << 1);
-        Motion.bfsCurr[59] = Motion.bfsCurr[59] | (Motion.bfsCurr[59] >> 1) | (Motion.bfsCurr[59] << 1);
-        Motion.bfsDist[Motion.stepOffset + 1] = (Motion.bfsCurr[1] | Motion.bfsCurr[0] | Motion.bfsCurr[2]) & (Motion.bitmask ^ Motion.bfsMap[1]);
-        Motion.bfsDist[Motion.stepOffset + 2] = (Motion.bfsCurr[2] | Motion.bfsCurr[1] | Motion.bfsCurr[3]) & (Motion.bitmask ^ Motion.bfsMap[2]);
-        Motion.bfsDist[Motion.stepOffset + 3] = (Motion.bfsCurr[3] | Motion.bfsCurr[2] | Motion.bfsCurr[4]) & (Motion.bitmask ^ Motion.bfsMap[3]);
-        Motion.bfsDist[Motion.stepOffset + 4] = (Motion.bfsCurr[4] | Motion.bfsCurr[3] | Motion.bfsCurr[5]) & (Motion.bitmask ^ Motion.bfsMap[4]);
-        Motion.bfsDist[Motion.stepOffset + 5] = (Motion.bfsCurr[5] | Motion.bfsCurr[4] | Motion.bfsCurr[6]) & (Motion.bitmask ^ Motion.bfsMap[5]);
-        Motion.bfsDist[Motion.stepOffset + 6] = (Motion.bfsCurr[6] | Motion.bfsCurr[5] | Motion.bfsCurr[7]) & (Motion.bitmask ^ Motion.bfsMap[6]);
-        Motion.bfsDist[Motion.stepOffset + 7] = (Motion.bfsCurr[7] | Motion.bfsCurr[6] | Motion.bfsCurr[8]) & (Motion.bitmask ^ Motion.bfsMap[7]);
-        Motion.bfsDist[Motion.stepOffset + 8] = (Motion.bfsCurr[8] | Motion.bfsCurr[7] | Motion.bfsCurr[9]) & (Motion.bitmask ^ Motion.bfsMap[8]);
-        Motion.bfsDist[Motion.stepOffset + 9] = (Motion.bfsCurr[9] | Motion.bfsCurr[8] | Motion.bfsCurr[10]) & (Motion.bitmask ^ Motion.bfsMap[9]);
-        Motion.bfsDist[Motion.stepOffset + 10] = (Motion.bfsCurr[10] | Motion.bfsCurr[9] | Motion.bfsCurr[11]) & (Motion.bitmask ^ Motion.bfsMap[10]);
-        Motion.bfsDist[Motion.stepOffset + 11] = (Motion.bfsCurr[11] | Motion.bfsCurr[10] | Motion.bfsCurr[12]) & (Motion.bitmask ^ Motion.bfsMap[11]);
-        Motion.bfsDist[Motion.stepOffset + 12] = (Motion.bfsCurr[12] | Motion.bfsCurr[11] | Motion.bfsCurr[13]) & (Motion.bitmask ^ Motion.bfsMap[12]);
-        Motion.bfsDist[Motion.stepOffset + 13] = (Motion.bfsCurr[13] | Motion.bfsCurr[12] | Motion.bfsCurr[14]) & (Motion.bitmask ^ Motion.bfsMap[13]);
-        Motion.bfsDist[Motion.stepOffset + 14] = (Motion.bfsCurr[14] | Motion.bfsCurr[13] | Motion.bfsCurr[15]) & (Motion.bitmask ^ Motion.bfsMap[14]);
-        Motion.bfsDist[Motion.stepOffset + 15] = (Motion.bfsCurr[15] | Motion.bfsCurr[14] | Motion.bfsCurr[16]) & (Motion.bitmask ^ Motion.bfsMap[15]);
-        Motion.bfsDist[Motion.stepOffset + 16] = (Motion.bfsCurr[16] | Motion.bfsCurr[15] | Motion.bfsCurr[17]) & (Motion.bitmask ^ Motion.bfsMap[16]);
-        Motion.bfsDist[Motion.stepOffset + 17] = (Motion.bfsCurr[17] | Motion.bfsCurr[16] | Motion.bfsCurr[18]) & (Motion.bitmask ^ Motion.bfsMap[17]);
-        Motion.bfsDist[Motion.stepOffset + 18] = (Motion.bfsCurr[18] | Motion.bfsCurr[17] | Motion.bfsCurr[19]) & (Motion.bitmask ^ Motion.bfsMap[18]);
-        Motion.bfsDist[Motion.stepOffset + 19] = (Motion.bfsCurr[19] | Motion.bfsCurr[18] | Motion.bfsCurr[20]) & (Motion.bitmask ^ Motion.bfsMap[19]);
-        Motion.bfsDist[Motion.stepOffset + 20] = (Motion.bfsCurr[20] | Motion.bfsCurr[19] | Motion.bfsCurr[21]) & (Motion.bitmask ^ Motion.bfsMap[20]);
-        Motion.bfsDist[Motion.stepOffset + 21] = (Motion.bfsCurr[21] | Motion.bfsCurr[20] | Motion.bfsCurr[22]) & (Motion.bitmask ^ Motion.bfsMap[21]);
-        Motion.bfsDist[Motion.stepOffset + 22] = (Motion.bfsCurr[22] | Motion.bfsCurr[21] | Motion.bfsCurr[23]) & (Motion.bitmask ^ Motion.bfsMap[22]);
-        Motion.bfsDist[Motion.stepOffset + 23] = (Motion.bfsCurr[23] | Motion.bfsCurr[22] | Motion.bfsCurr[24]) & (Motion.bitmask ^ Motion.bfsMap[23]);
-        Motion.bfsDist[Motion.stepOffset + 24] = (Motion.bfsCurr[24] | Motion.bfsCurr[23] | Motion.bfsCurr[25]) & (Motion.bitmask ^ Motion.bfsMap[24]);
-        Motion.bfsDist[Motion.stepOffset + 25] = (Motion.bfsCurr[25] | Motion.bfsCurr[24] | Motion.bfsCurr[26]) & (Motion.bitmask ^ Motion.bfsMap[25]);
-        Motion.bfsDist[Motion.stepOffset + 26] = (Motion.bfsCurr[26] | Motion.bfsCurr[25] | Motion.bfsCurr[27]) & (Motion.bitmask ^ Motion.bfsMap[26]);
-        Motion.bfsDist[Motion.stepOffset + 27] = (Motion.bfsCurr[27] | Motion.bfsCurr[26] | Motion.bfsCurr[28]) & (Motion.bitmask ^ Motion.bfsMap[27]);
-        Motion.bfsDist[Motion.stepOffset + 28] = (Motion.bfsCurr[28] | Motion.bfsCurr[27] | Motion.bfsCurr[29]) & (Motion.bitmask ^ Motion.bfsMap[28]);
-        Motion.bfsDist[Motion.stepOffset + 29] = (Motion.bfsCurr[29] | Motion.bfsCurr[28] | Motion.bfsCurr[30]) & (Motion.bitmask ^ Motion.bfsMap[29]);
-        Motion.bfsDist[Motion.stepOffset + 30] = (Motion.bfsCurr[30] | Motion.bfsCurr[29] | Motion.bfsCurr[31]) & (Motion.bitmask ^ Motion.bfsMap[30]);
-        Motion.bfsDist[Motion.stepOffset + 31] = (Motion.bfsCurr[31] | Motion.bfsCurr[30] | Motion.bfsCurr[32]) & (Motion.bitmask ^ Motion.bfsMap[31]);
-        Motion.bfsDist[Motion.stepOffset + 32] = (Motion.bfsCurr[32] | Motion.bfsCurr[31] | Motion.bfsCurr[33]) & (Motion.bitmask ^ Motion.bfsMap[32]);
-        Motion.bfsDist[Motion.stepOffset + 33] = (Motion.bfsCurr[33] | Motion.bfsCurr[32] | Motion.bfsCurr[34]) & (Motion.bitmask ^ Motion.bfsMap[33]);
-        Motion.bfsDist[Motion.stepOffset + 34] = (Motion.bfsCurr[34] | Motion.bfsCurr[33] | Motion.bfsCurr[35]) & (Motion.bitmask ^ Motion.bfsMap[34]);
-        Motion.bfsDist[Motion.stepOffset + 35] = (Motion.bfsCurr[35] | Motion.bfsCurr[34] | Motion.bfsCurr[36]) & (Motion.bitmask ^ Motion.bfsMap[35]);
-        Motion.bfsDist[Motion.stepOffset + 36] = (Motion.bfsCurr[36] | Motion.bfsCurr[35] | Motion.bfsCurr[37]) & (Motion.bitmask ^ Motion.bfsMap[36]);
-        Motion.bfsDist[Motion.stepOffset + 37] = (Motion.bfsCurr[37] | Motion.bfsCurr[36] | Motion.bfsCurr[38]) & (Motion.bitmask ^ Motion.bfsMap[37]);
-        Motion.bfsDist[Motion.stepOffset + 38] = (Motion.bfsCurr[38] | Motion.bfsCurr[37] | Motion.bfsCurr[39]) & (Motion.bitmask ^ Motion.bfsMap[38]);
-        Motion.bfsDist[Motion.stepOffset + 39] = (Motion.bfsCurr[39] | Motion.bfsCurr[38] | Motion.bfsCurr[40]) & (Motion.bitmask ^ Motion.bfsMap[39]);
-        Motion.bfsDist[Motion.stepOffset + 40] = (Motion.bfsCurr[40] | Motion.bfsCurr[39] | Motion.bfsCurr[41]) & (Motion.bitmask ^ Motion.bfsMap[40]);
-        Motion.bfsDist[Motion.stepOffset + 41] = (Motion.bfsCurr[41] | Motion.bfsCurr[40] | Motion.bfsCurr[42]) & (Motion.bitmask ^ Motion.bfsMap[41]);
-        Motion.bfsDist[Motion.stepOffset + 42] = (Motion.bfsCurr[42] | Motion.bfsCurr[41] | Motion.bfsCurr[43]) & (Motion.bitmask ^ Motion.bfsMap[42]);
-        Motion.bfsDist[Motion.stepOffset + 43] = (Motion.bfsCurr[43] | Motion.bfsCurr[42] | Motion.bfsCurr[44]) & (Motion.bitmask ^ Motion.bfsMap[43]);
-        Motion.bfsDist[Motion.stepOffset + 44] = (Motion.bfsCurr[44] | Motion.bfsCurr[43] | Motion.bfsCurr[45]) & (Motion.bitmask ^ Motion.bfsMap[44]);
-        Motion.bfsDist[Motion.stepOffset + 45] = (Motion.bfsCurr[45] | Motion.bfsCurr[44] | Motion.bfsCurr[46]) & (Motion.bitmask ^ Motion.bfsMap[45]);
-        Motion.bfsDist[Motion.stepOffset + 46] = (Motion.bfsCurr[46] | Motion.bfsCurr[45] | Motion.bfsCurr[47]) & (Motion.bitmask ^ Motion.bfsMap[46]);
-        Motion.bfsDist[Motion.stepOffset + 47] = (Motion.bfsCurr[47] | Motion.bfsCurr[46] | Motion.bfsCurr[48]) & (Motion.bitmask ^ Motion.bfsMap[47]);
-        Motion.bfsDist[Motion.stepOffset + 48] = (Motion.bfsCurr[48] | Motion.bfsCurr[47] | Motion.bfsCurr[49]) & (Motion.bitmask ^ Motion.bfsMap[48]);
-        Motion.bfsDist[Motion.stepOffset + 49] = (Motion.bfsCurr[49] | Motion.bfsCurr[48] | Motion.bfsCurr[50]) & (Motion.bitmask ^ Motion.bfsMap[49]);
-        Motion.bfsDist[Motion.stepOffset + 50] = (Motion.bfsCurr[50] | Motion.bfsCurr[49] | Motion.bfsCurr[51]) & (Motion.bitmask ^ Motion.bfsMap[50]);
-        Motion.bfsDist[Motion.stepOffset + 51] = (Motion.bfsCurr[51] | Motion.bfsCurr[50] | Motion.bfsCurr[52]) & (Motion.bitmask ^ Motion.bfsMap[51]);
-        Motion.bfsDist[Motion.stepOffset + 52] = (Motion.bfsCurr[52] | Motion.bfsCurr[51] | Motion.bfsCurr[53]) & (Motion.bitmask ^ Motion.bfsMap[52]);
-        Motion.bfsDist[Motion.stepOffset + 53] = (Motion.bfsCurr[53] | Motion.bfsCurr[52] | Motion.bfsCurr[54]) & (Motion.bitmask ^ Motion.bfsMap[53]);
-        Motion.bfsDist[Motion.stepOffset + 54] = (Motion.bfsCurr[54] | Motion.bfsCurr[53] | Motion.bfsCurr[55]) & (Motion.bitmask ^ Motion.bfsMap[54]);
-        Motion.bfsDist[Motion.stepOffset + 55] = (Motion.bfsCurr[55] | Motion.bfsCurr[54] | Motion.bfsCurr[56]) & (Motion.bitmask ^ Motion.bfsMap[55]);
-        Motion.bfsDist[Motion.stepOffset + 56] = (Motion.bfsCurr[56] | Motion.bfsCurr[55] | Motion.bfsCurr[57]) & (Motion.bitmask ^ Motion.bfsMap[56]);
-        Motion.bfsDist[Motion.stepOffset + 57] = (Motion.bfsCurr[57] | Motion.bfsCurr[56] | Motion.bfsCurr[58]) & (Motion.bitmask ^ Motion.bfsMap[57]);
-        Motion.bfsDist[Motion.stepOffset + 58] = (Motion.bfsCurr[58] | Motion.bfsCurr[57] | Motion.bfsCurr[59]) & (Motion.bitmask ^ Motion.bfsMap[58]);
-        Motion.bfsDist[Motion.stepOffset + 59] = (Motion.bfsCurr[59] | Motion.bfsCurr[58] | Motion.bfsCurr[60]) & (Motion.bitmask ^ Motion.bfsMap[59]);
-        Motion.bfsCurr[1] = Motion.bfsDist[Motion.stepOffset + 1];
-        Motion.bfsCurr[2] = Motion.bfsDist[Motion.stepOffset + 2];
-        Motion.bfsCurr[3] = Motion.bfsDist[Motion.stepOffset + 3];
-        Motion.bfsCurr[4] = Motion.bfsDist[Motion.stepOffset + 4];
-        Motion.bfsCurr[5] = Motion.bfsDist[Motion.stepOffset + 5];
-        Motion.bfsCurr[6] = Motion.bfsDist[Motion.stepOffset + 6];
-        Motion.bfsCurr[7] = Motion.bfsDist[Motion.stepOffset + 7];
-        Motion.bfsCurr[8] = Motion.bfsDist[Motion.stepOffset + 8];
-        Motion.bfsCurr[9] = Motion.bfsDist[Motion.stepOffset + 9];
-        Motion.bfsCurr[10] = Motion.bfsDist[Motion.stepOffset + 10];
-        Motion.bfsCurr[11] = Motion.bfsDist[Motion.stepOffset + 11];
-        Motion.bfsCurr[12] = Motion.bfsDist[Motion.stepOffset + 12];
-        Motion.bfsCurr[13] = Motion.bfsDist[Motion.stepOffset + 13];
-        Motion.bfsCurr[14] = Motion.bfsDist[Motion.stepOffset + 14];
-        Motion.bfsCurr[15] = Motion.bfsDist[Motion.stepOffset + 15];
-        Motion.bfsCurr[16] = Motion.bfsDist[Motion.stepOffset + 16];
-        Motion.bfsCurr[17] = Motion.bfsDist[Motion.stepOffset + 17];
-        Motion.bfsCurr[18] = Motion.bfsDist[Motion.stepOffset + 18];
-        Motion.bfsCurr[19] = Motion.bfsDist[Motion.stepOffset + 19];
-        Motion.bfsCurr[20] = Motion.bfsDist[Motion.stepOffset + 20];
-        Motion.bfsCurr[21] = Motion.bfsDist[Motion.stepOffset + 21];
-        Motion.bfsCurr[22] = Motion.bfsDist[Motion.stepOffset + 22];
-        Motion.bfsCurr[23] = Motion.bfsDist[Motion.stepOffset + 23];
-        Motion.bfsCurr[24] = Motion.bfsDist[Motion.stepOffset + 24];
-        Motion.bfsCurr[25] = Motion.bfsDist[Motion.stepOffset + 25];
-        Motion.bfsCurr[26] = Motion.bfsDist[Motion.stepOffset + 26];
-        Motion.bfsCurr[27] = Motion.bfsDist[Motion.stepOffset + 27];
-        Motion.bfsCurr[28] = Motion.bfsDist[Motion.stepOffset + 28];
-        Motion.bfsCurr[29] = Motion.bfsDist[Motion.stepOffset + 29];
-        Motion.bfsCurr[30] = Motion.bfsDist[Motion.stepOffset + 30];
-        Motion.bfsCurr[31] = Motion.bfsDist[Motion.stepOffset + 31];
-        Motion.bfsCurr[32] = Motion.bfsDist[Motion.stepOffset + 32];
-        Motion.bfsCurr[33] = Motion.bfsDist[Motion.stepOffset + 33];
-        Motion.bfsCurr[34] = Motion.bfsDist[Motion.stepOffset + 34];
-        Motion.bfsCurr[35] = Motion.bfsDist[Motion.stepOffset + 35];
-        Motion.bfsCurr[36] = Motion.bfsDist[Motion.stepOffset + 36];
-        Motion.bfsCurr[37] = Motion.bfsDist[Motion.stepOffset + 37];
-        Motion.bfsCurr[38] = Motion.bfsDist[Motion.stepOffset + 38];
-        Motion.bfsCurr[39] = Motion.bfsDist[Motion.stepOffset + 39];
-        Motion.bfsCurr[40] = Motion.bfsDist[Motion.stepOffset + 40];
-        Motion.bfsCurr[41] = Motion.bfsDist[Motion.stepOffset + 41];
-        Motion.bfsCurr[42] = Motion.bfsDist[Motion.stepOffset + 42];
-        Motion.bfsCurr[43] = Motion.bfsDist[Motion.stepOffset + 43];
-        Motion.bfsCurr[44] = Motion.bfsDist[Motion.stepOffset + 44];
-        Motion.bfsCurr[45] = Motion.bfsDist[Motion.stepOffset + 45];
-        Motion.bfsCurr[46] = Motion.bfsDist[Motion.stepOffset + 46];
-        Motion.bfsCurr[47] = Motion.bfsDist[Motion.stepOffset + 47];
-        Motion.bfsCurr[48] = Motion.bfsDist[Motion.stepOffset + 48];
-        Motion.bfsCurr[49] = Motion.bfsDist[Motion.stepOffset + 49];
-        Motion.bfsCurr[50] = Motion.bfsDist[Motion.stepOffset + 50];
-        Motion.bfsCurr[51] = Motion.bfsDist[Motion.stepOffset + 51];
-        Motion.bfsCurr[52] = Motion.bfsDist[Motion.stepOffset + 52];
-        Motion.bfsCurr[53] = Motion.bfsDist[Motion.stepOffset + 53];
-        Motion.bfsCurr[54] = Motion.bfsDist[Motion.stepOffset + 54];
-        Motion.bfsCurr[55] = Motion.bfsDist[Motion.stepOffset + 55];
-        Motion.bfsCurr[56] = Motion.bfsDist[Motion.stepOffset + 56];
-        Motion.bfsCurr[57] = Motion.bfsDist[Motion.stepOffset + 57];
-        Motion.bfsCurr[58] = Motion.bfsDist[Motion.stepOffset + 58];
-        Motion.bfsCurr[59] = Motion.bfsDist[Motion.stepOffset + 59];
-    }
-    public static void bfs60() {
-        Motion.bfsCurr[1] = Motion.bfsCurr[1] | (Motion.bfsCurr[1] >> 1) | (Motion.bfsCurr[1] << 1);
-        Motion.bfsCurr[2] = Motion.bfsCurr[2] | (Motion.bfsCurr[2] >> 1) | (Motion.bfsCurr[2] << 1);
-        Motion.bfsCurr[3] = Motion.bfsCurr[3] | (Motion.bfsCurr[3] >> 1) | (Motion.bfsCurr[3] << 1);
-        Motion.bfsCurr[4] = Motion.bfsCurr[4] | (Motion.bfsCurr[4] >> 1) | (Motion.bfsCurr[4] << 1);
-        Motion.bfsCurr[5] = Motion.bfsCurr[5] | (Motion.bfsCurr[5] >> 1) | (Motion.bfsCurr[5] << 1);
-        Motion.bfsCurr[6] = Motion.bfsCurr[6] | (Motion.bfsCurr[6] >> 1) | (Motion.bfsCurr[6] << 1);
-        Motion.bfsCurr[7] = Motion.bfsCurr[7] | (Motion.bfsCurr[7] >> 1) | (Motion.bfsCurr[7] << 1);
-        Motion.bfsCurr[8] = Motion.bfsCurr[8] | (Motion.bfsCurr[8] >> 1) | (Motion.bfsCurr[8] << 1);
-        Motion.bfsCurr[9] = Motion.bfsCurr[9] | (Motion.bfsCurr[9] >> 1) | (Motion.bfsCurr[9] << 1);
-        Motion.bfsCurr[10] = Motion.bfsCurr[10] | (Motion.bfsCurr[10] >> 1) | (Motion.bfsCurr[10] << 1);
-        Motion.bfsCurr[11] = Motion.bfsCurr[11] | (Motion.bfsCurr[11] >> 1) | (Motion.bfsCurr[11] << 1);
-        Motion.bfsCurr[12] = Motion.bfsCurr[12] | (Motion.bfsCurr[12] >> 1) | (Motion.bfsCurr[12] << 1);
-        Motion.bfsCurr[13] = Motion.bfsCurr[13] | (Motion.bfsCurr[13] >> 1) | (Motion.bfsCurr[13] << 1);
-        Motion.bfsCurr[14] = Motion.bfsCurr[14] | (Motion.bfsCurr[14] >> 1) | (Motion.bfsCurr[14] << 1);
-        Motion.bfsCurr[15] = Motion.bfsCurr[15] | (Motion.bfsCurr[15] >> 1) | (Motion.bfsCurr[15] << 1);
-        Motion.bfsCurr[16] = Motion.bfsCurr[16] | (Motion.bfsCurr[16] >> 1) | (Motion.bfsCurr[16] << 1);
-        Motion.bfsCurr[17] = Motion.bfsCurr[17] | (Motion.bfsCurr[17] >> 1) | (Motion.bfsCurr[17] << 1);
-        Motion.bfsCurr[18] = Motion.bfsCurr[18] | (Motion.bfsCurr[18] >> 1) | (Motion.bfsCurr[18] << 1);
-        Motion.bfsCurr[19] = Motion.bfsCurr[19] | (Motion.bfsCurr[19] >> 1) | (Motion.bfsCurr[19] << 1);
-        Motion.bfsCurr[20] = Motion.bfsCurr[20] | (Motion.bfsCurr[20] >> 1) | (Motion.bfsCurr[20] << 1);
-        Motion.bfsCurr[21] = Motion.bfsCurr[21] | (Motion.bfsCurr[21] >> 1) | (Motion.bfsCurr[21] << 1);
-        Motion.bfsCurr[22] = Motion.bfsCurr[22] | (Motion.bfsCurr[22] >> 1) | (Motion.bfsCurr[22] << 1);
-        Motion.bfsCurr[23] = Motion.bfsCurr[23] | (Motion.bfsCurr[23] >> 1) | (Motion.bfsCurr[23] << 1);
-        Motion.bfsCurr[24] = Motion.bfsCurr[24] | (Motion.bfsCurr[24] >> 1) | (Motion.bfsCurr[24] << 1);
-        Motion.bfsCurr[25] = Motion.bfsCurr[25] | (Motion.bfsCurr[25] >> 1) | (Motion.bfsCurr[25] << 1);
-        Motion.bfsCurr[26] = Motion.bfsCurr[26] | (Motion.bfsCurr[26] >> 1) | (Motion.bfsCurr[26] << 1);
-        Motion.bfsCurr[27] = Motion.bfsCurr[27] | (Motion.bfsCurr[27] >> 1) | (Motion.bfsCurr[27] << 1);
-        Motion.bfsCurr[28] = Motion.bfsCurr[28] | (Motion.bfsCurr[28] >> 1) | (Motion.bfsCurr[28] << 1);
-        Motion.bfsCurr[29] = Motion.bfsCurr[29] | (Motion.bfsCurr[29] >> 1) | (Motion.bfsCurr[29] << 1);
-        Motion.bfsCurr[30] = Motion.bfsCurr[30] | (Motion.bfsCurr[30] >> 1) | (Motion.bfsCurr[30] << 1);
-        Motion.bfsCurr[31] = Motion.bfsCurr[31] | (Motion.bfsCurr[31] >> 1) | (Motion.bfsCurr[31] << 1);
-        Motion.bfsCurr[32] = Motion.bfsCurr[32] | (Motion.bfsCurr[32] >> 1) | (Motion.bfsCurr[32] << 1);
-        Motion.bfsCurr[33] = Motion.bfsCurr[33] | (Motion.bfsCurr[33] >> 1) | (Motion.bfsCurr[33] << 1);
-        Motion.bfsCurr[34] = Motion.bfsCurr[34] | (Motion.bfsCurr[34] >> 1) | (Motion.bfsCurr[34] << 1);
-        Motion.bfsCurr[35] = Motion.bfsCurr[35] | (Motion.bfsCurr[35] >> 1) | (Motion.bfsCurr[35] << 1);
-        Motion.bfsCurr[36] = Motion.bfsCurr[36] | (Motion.bfsCurr[36] >> 1) | (Motion.bfsCurr[36] << 1);
-        Motion.bfsCurr[37] = Motion.bfsCurr[37] | (Motion.bfsCurr[37] >> 1) | (Motion.bfsCurr[37] << 1);
-        Motion.bfsCurr[38] = Motion.bfsCurr[38] | (Motion.bfsCurr[38] >> 1) | (Motion.bfsCurr[38] << 1);
-        Motion.bfsCurr[39] = Motion.bfsCurr[39] | (Motion.bfsCurr[39] >> 1) | (Motion.bfsCurr[39] << 1);
-        Motion.bfsCurr[40] = Motion.bfsCurr[40] | (Motion.bfsCurr[40] >> 1) | (Motion.bfsCurr[40] << 1);
-        Motion.bfsCurr[41] = Motion.bfsCurr[41] | (Motion.bfsCurr[41] >> 1) | (Motion.bfsCurr[41] << 1);
-        Motion.bfsCurr[42] = Motion.bfsCurr[42] | (Motion.bfsCurr[42] >> 1) | (Motion.bfsCurr[42] << 1);
-        Motion.bfsCurr[43] = Motion.bfsCurr[43] | (Motion.bfsCurr[43] >> 1) | (Motion.bfsCurr[43] << 1);
-        Motion.bfsCurr[44] = Motion.bfsCurr[44] | (Motion.bfsCurr[44] >> 1) | (Motion.bfsCurr[44] << 1);
-        Motion.bfsCurr[45] = Motion.bfsCurr[45] | (Motion.bfsCurr[45] >> 1) | (Motion.bfsCurr[45] << 1);
-        Motion.bfsCurr[46] = Motion.bfsCurr[46] | (Motion.bfsCurr[46] >> 1) | (Motion.bfsCurr[46] << 1);
-        Motion.bfsCurr[47] = Motion.bfsCurr[47] | (Motion.bfsCurr[47] >> 1) | (Motion.bfsCurr[47] << 1);
-        Motion.bfsCurr[48] = Motion.bfsCurr[48] | (Motion.bfsCurr[48] >> 1) | (Motion.bfsCurr[48] << 1);
-        Motion.bfsCurr[49] = Motion.bfsCurr[49] | (Motion.bfsCurr[49] >> 1) | (Motion.bfsCurr[49] << 1);
-        Motion.bfsCurr[50] = Motion.bfsCurr[50] | (Motion.bfsCurr[50] >> 1) | (Motion.bfsCurr[50] << 1);
-        Motion.bfsCurr[51] = Motion.bfsCurr[51] | (Motion.bfsCurr[51] >> 1) | (Motion.bfsCurr[51] << 1);
-        Motion.bfsCurr[52] = Motion.bfsCurr[52] | (Motion.bfsCurr[52] >> 1) | (Motion.bfsCurr[52] << 1);
-        Motion.bfsCurr[53] = Motion.bfsCurr[53] | (Motion.bfsCurr[53] >> 1) | (Motion.bfsCurr[53] << 1);
-        Motion.bfsCurr[54] = Motion.bfsCurr[54] | (Motion.bfsCurr[54] >> 1) | (Motion.bfsCurr[54] << 1);
-        Motion.bfsCurr[55] = Motion.bfsCurr[55] | (Motion.bfsCurr[55] >> 1) | (Motion.bfsCurr[55] << 1);
-        Motion.bfsCurr[56] = Motion.bfsCurr[56] | (Motion.bfsCurr[56] >> 1) | (Motion.bfsCurr[56] << 1);
-        Motion.bfsCurr[57] = Motion.bfsCurr[57] | (Motion.bfsCurr[57] >> 1) | (Motion.bfsCurr[57] << 1);
-        Motion.bfsCurr[58] = Motion.bfsCurr[58] | (Motion.bfsCurr[58] >> 1) | (Motion.bfsCurr[58] << 1);
-        Motion.bfsCurr[59] = Motion.bfsCurr[59] | (Motion.bfsCurr[59] >> 1) | (Motion.bfsCurr[59] << 1);
-        Motion.bfsCurr[60] = Motion.bfsCurr[60] | (Motion.bfsCurr[60] >> 1) | (Motion.bfsCurr[60] << 1);
-        Motion.bfsDist[Motion.stepOffset + 1] = (Motion.bfsCurr[1] | Motion.bfsCurr[0] | Motion.bfsCurr[2]) & (Motion.bitmask ^ Motion.bfsMap[1]);
-        Motion.bfsDist[Motion.stepOffset + 2] = (Motion.bfsCurr[2] | Motion.bfsCurr[1] | Motion.bfsCurr[3]) & (Motion.bitmask ^ Motion.bfsMap[2]);
-        Motion.bfsDist[Motion.stepOffset + 3] = (Motion.bfsCurr[3] | Motion.bfsCurr[2] | Motion.bfsCurr[4]) & (Motion.bitmask ^ Motion.bfsMap[3]);
-        Motion.bfsDist[Motion.stepOffset + 4] = (Motion.bfsCurr[4] | Motion.bfsCurr[3] | Motion.bfsCurr[5]) & (Motion.bitmask ^ Motion.bfsMap[4]);
-        Motion.bfsDist[Motion.stepOffset + 5] = (Motion.bfsCurr[5] | Motion.bfsCurr[4] | Motion.bfsCurr[6]) & (Motion.bitmask ^ Motion.bfsMap[5]);
-        Motion.bfsDist[Motion.stepOffset + 6] = (Motion.bfsCurr[6] | Motion.bfsCurr[5] | Motion.bfsCurr[7]) & (Motion.bitmask ^ Motion.bfsMap[6]);
-        Motion.bfsDist[Motion.stepOffset + 7] = (Motion.bfsCurr[7] | Motion.bfsCurr[6] | Motion.bfsCurr[8]) & (Motion.bitmask ^ Motion.bfsMap[7]);
-        Motion.bfsDist[Motion.stepOffset + 8] = (Motion.bfsCurr[8] | Motion.bfsCurr[7] | Motion.bfsCurr[9]) & (Motion.bitmask ^ Motion.bfsMap[8]);
-        Motion.bfsDist[Motion.stepOffset + 9] = (Motion.bfsCurr[9] | Motion.bfsCurr[8] | Motion.bfsCurr[10]) & (Motion.bitmask ^ Motion.bfsMap[9]);
-        Motion.bfsDist[Motion.stepOffset + 10] = (Motion.bfsCurr[10] | Motion.bfsCurr[9] | Motion.bfsCurr[11]) & (Motion.bitmask ^ Motion.bfsMap[10]);
-        Motion.bfsDist[Motion.stepOffset + 11] = (Motion.bfsCurr[11] | Motion.bfsCurr[10] | Motion.bfsCurr[12]) & (Motion.bitmask ^ Motion.bfsMap[11]);
-        Motion.bfsDist[Motion.stepOffset + 12] = (Motion.bfsCurr[12] | Motion.bfsCurr[11] | Motion.bfsCurr[13]) & (Motion.bitmask ^ Motion.bfsMap[12]);
-        Motion.bfsDist[Motion.stepOffset + 13] = (Motion.bfsCurr[13] | Motion.bfsCurr[12] | Motion.bfsCurr[14]) & (Motion.bitmask ^ Motion.bfsMap[13]);
-        Motion.bfsDist[Motion.stepOffset + 14] = (Motion.bfsCurr[14] | Motion.bfsCurr[13] | Motion.bfsCurr[15]) & (Motion.bitmask ^ Motion.bfsMap[14]);
-        Motion.bfsDist[Motion.stepOffset + 15] = (Motion.bfsCurr[15] | Motion.bfsCurr[14] | Motion.bfsCurr[16]) & (Motion.bitmask ^ Motion.bfsMap[15]);
-        Motion.bfsDist[Motion.stepOffset + 16] = (Motion.bfsCurr[16] | Motion.bfsCurr[15] | Motion.bfsCurr[17]) & (Motion.bitmask ^ Motion.bfsMap[16]);
-        Motion.bfsDist[Motion.stepOffset + 17] = (Motion.bfsCurr[17] | Motion.bfsCurr[16] | Motion.bfsCurr[18]) & (Motion.bitmask ^ Motion.bfsMap[17]);
-        Motion.bfsDist[Motion.stepOffset + 18] = (Motion.bfsCurr[18] | Motion.bfsCurr[17] | Motion.bfsCurr[19]) & (Motion.bitmask ^ Motion.bfsMap[18]);
-        Motion.bfsDist[Motion.stepOffset + 19] = (Motion.bfsCurr[19] | Motion.bfsCurr[18] | Motion.bfsCurr[20]) & (Motion.bitmask ^ Motion.bfsMap[19]);
-        Motion.bfsDist[Motion.stepOffset + 20] = (Motion.bfsCurr[20] | Motion.bfsCurr[19] | Motion.bfsCurr[21]) & (Motion.bitmask ^ Motion.bfsMap[20]);
-        Motion.bfsDist[Motion.stepOffset + 21] = (Motion.bfsCurr[21] | Motion.bfsCurr[20] | Motion.bfsCurr[22]) & (Motion.bitmask ^ Motion.bfsMap[21]);
-        Motion.bfsDist[Motion.stepOffset + 22] = (Motion.bfsCurr[22] | Motion.bfsCurr[21] | Motion.bfsCurr[23]) & (Motion.bitmask ^ Motion.bfsMap[22]);
-        Motion.bfsDist[Motion.stepOffset + 23] = (Motion.bfsCurr[23] | Motion.bfsCurr[22] | Motion.bfsCurr[24]) & (Motion.bitmask ^ Motion.bfsMap[23]);
-        Motion.bfsDist[Motion.stepOffset + 24] = (Motion.bfsCurr[24] | Motion.bfsCurr[23] | Motion.bfsCurr[25]) & (Motion.bitmask ^ Motion.bfsMap[24]);
-        Motion.bfsDist[Motion.stepOffset + 25] = (Motion.bfsCurr[25] | Motion.bfsCurr[24] | Motion.bfsCurr[26]) & (Motion.bitmask ^ Motion.bfsMap[25]);
-        Motion.bfsDist[Motion.stepOffset + 26] = (Motion.bfsCurr[26] | Motion.bfsCurr[25] | Motion.bfsCurr[27]) & (Motion.bitmask ^ Motion.bfsMap[26]);
-        Motion.bfsDist[Motion.stepOffset + 27] = (Motion.bfsCurr[27] | Motion.bfsCurr[26] | Motion.bfsCurr[28]) & (Motion.bitmask ^ Motion.bfsMap[27]);
-        Motion.bfsDist[Motion.stepOffset + 28] = (Motion.bfsCurr[28] | Motion.bfsCurr[27] | Motion.bfsCurr[29]) & (Motion.bitmask ^ Motion.bfsMap[28]);
-        Motion.bfsDist[Motion.stepOffset + 29] = (Motion.bfsCurr[29] | Motion.bfsCurr[28] | Motion.bfsCurr[30]) & (Motion.bitmask ^ Motion.bfsMap[29]);
-        Motion.bfsDist[Motion.stepOffset + 30] = (Motion.bfsCurr[30] | Motion.bfsCurr[29] | Motion.bfsCurr[31]) & (Motion.bitmask ^ Motion.bfsMap[30]);
-        Motion.bfsDist[Motion.stepOffset + 31] = (Motion.bfsCurr[31] | Motion.bfsCurr[30] | Motion.bfsCurr[32]) & (Motion.bitmask ^ Motion.bfsMap[31]);
-        Motion.bfsDist[Motion.stepOffset + 32] = (Motion.bfsCurr[32] | Motion.bfsCurr[31] | Motion.bfsCurr[33]) & (Motion.bitmask ^ Motion.bfsMap[32]);
-        Motion.bfsDist[Motion.stepOffset + 33] = (Motion.bfsCurr[33] | Motion.bfsCurr[32] | Motion.bfsCurr[34]) & (Motion.bitmask ^ Motion.bfsMap[33]);
-        Motion.bfsDist[Motion.stepOffset + 34] = (Motion.bfsCurr[34] | Motion.bfsCurr[33] | Motion.bfsCurr[35]) & (Motion.bitmask ^ Motion.bfsMap[34]);
-        Motion.bfsDist[Motion.stepOffset + 35] = (Motion.bfsCurr[35] | Motion.bfsCurr[34] | Motion.bfsCurr[36]) & (Motion.bitmask ^ Motion.bfsMap[35]);
-        Motion.bfsDist[Motion.stepOffset + 36] = (Motion.bfsCurr[36] | Motion.bfsCurr[35] | Motion.bfsCurr[37]) & (Motion.bitmask ^ Motion.bfsMap[36]);
-        Motion.bfsDist[Motion.stepOffset + 37] = (Motion.bfsCurr[37] | Motion.bfsCurr[36] | Motion.bfsCurr[38]) & (Motion.bitmask ^ Motion.bfsMap[37]);
-        Motion.bfsDist[Motion.stepOffset + 38] = (Motion.bfsCurr[38] | Motion.bfsCurr[37] | Motion.bfsCurr[39]) & (Motion.bitmask ^ Motion.bfsMap[38]);
-        Motion.bfsDist[Motion.stepOffset + 39] = (Motion.bfsCurr[39] | Motion.bfsCurr[38] | Motion.bfsCurr[40]) & (Motion.bitmask ^ Motion.bfsMap[39]);
-        Motion.bfsDist[Motion.stepOffset + 40] = (Motion.bfsCurr[40] | Motion.bfsCurr[39] | Motion.bfsCurr[41]) & (Motion.bitmask ^ Motion.bfsMap[40]);
-        Motion.bfsDist[Motion.stepOffset + 41] = (Motion.bfsCurr[41] | Motion.bfsCurr[40] | Motion.bfsCurr[42]) & (Motion.bitmask ^ Motion.bfsMap[41]);
-        Motion.bfsDist[Motion.stepOffset + 42] = (Motion.bfsCurr[42] | Motion.bfsCurr[41] | Motion.bfsCurr[43]) & (Motion.bitmask ^ Motion.bfsMap[42]);
-        Motion.bfsDist[Motion.stepOffset + 43] = (Motion.bfsCurr[43] | Motion.bfsCurr[42] | Motion.bfsCurr[44]) & (Motion.bitmask ^ Motion.bfsMap[43]);
-        Motion.bfsDist[Motion.stepOffset + 44] = (Motion.bfsCurr[44] | Motion.bfsCurr[43] | Motion.bfsCurr[45]) & (Motion.bitmask ^ Motion.bfsMap[44]);
-        Motion.bfsDist[Motion.stepOffset + 45] = (Motion.bfsCurr[45] | Motion.bfsCurr[44] | Motion.bfsCurr[46]) & (Motion.bitmask ^ Motion.bfsMap[45]);
-        Motion.bfsDist[Motion.stepOffset + 46] = (Motion.bfsCurr[46] | Motion.bfsCurr[45] | Motion.bfsCurr[47]) & (Motion.bitmask ^ Motion.bfsMap[46]);
-        Motion.bfsDist[Motion.stepOffset + 47] = (Motion.bfsCurr[47] | Motion.bfsCurr[46] | Motion.bfsCurr[48]) & (Motion.bitmask ^ Motion.bfsMap[47]);
-        Motion.bfsDist[Motion.stepOffset + 48] = (Motion.bfsCurr[48] | Motion.bfsCurr[47] | Motion.bfsCurr[49]) & (Motion.bitmask ^ Motion.bfsMap[48]);
-        Motion.bfsDist[Motion.stepOffset + 49] = (Motion.bfsCurr[49] | Motion.bfsCurr[48] | Motion.bfsCurr[50]) & (Motion.bitmask ^ Motion.bfsMap[49]);
-        Motion.bfsDist[Motion.stepOffset + 50] = (Motion.bfsCurr[50] | Motion.bfsCurr[49] | Motion.bfsCurr[51]) & (Motion.bitmask ^ Motion.bfsMap[50]);
-        Motion.bfsDist[Motion.stepOffset + 51] = (Motion.bfsCurr[51] | Motion.bfsCurr[50] | Motion.bfsCurr[52]) & (Motion.bitmask ^ Motion.bfsMap[51]);
-        Motion.bfsDist[Motion.stepOffset + 52] = (Motion.bfsCurr[52] | Motion.bfsCurr[51] | Motion.bfsCurr[53]) & (Motion.bitmask ^ Motion.bfsMap[52]);
-        Motion.bfsDist[Motion.stepOffset + 53] = (Motion.bfsCurr[53] | Motion.bfsCurr[52] | Motion.bfsCurr[54]) & (Motion.bitmask ^ Motion.bfsMap[53]);
-        Motion.bfsDist[Motion.stepOffset + 54] = (Motion.bfsCurr[54] | Motion.bfsCurr[53] | Motion.bfsCurr[55]) & (Motion.bitmask ^ Motion.bfsMap[54]);
-        Motion.bfsDist[Motion.stepOffset + 55] = (Motion.bfsCurr[55] | Motion.bfsCurr[54] | Motion.bfsCurr[56]) & (Motion.bitmask ^ Motion.bfsMap[55]);
-        Motion.bfsDist[Motion.stepOffset + 56] = (Motion.bfsCurr[56] | Motion.bfsCurr[55] | Motion.bfsCurr[57]) & (Motion.bitmask ^ Motion.bfsMap[56]);
-        Motion.bfsDist[Motion.stepOffset + 57] = (Motion.bfsCurr[57] | Motion.bfsCurr[56] | Motion.bfsCurr[58]) & (Motion.bitmask ^ Motion.bfsMap[57]);
-        Motion.bfsDist[Motion.stepOffset + 58] = (Motion.bfsCurr[58] | Motion.bfsCurr[57] | Motion.bfsCurr[59]) & (Motion.bitmask ^ Motion.bfsMap[58]);
-        Motion.bfsDist[Motion.stepOffset + 59] = (Motion.bfsCurr[59] | Motion.bfsCurr[58] | Motion.bfsCurr[60]) & (Motion.bitmask ^ Motion.bfsMap[59]);
-        Motion.bfsDist[Motion.stepOffset + 60] = (Motion.bfsCurr[60] | Motion.bfsCurr[59] | Motion.bfsCurr[61]) & (Motion.bitmask ^ Motion.bfsMap[60]);
-        Motion.bfsCurr[1] = Motion.bfsDist[Motion.stepOffset + 1];
-        Motion.bfsCurr[2] = Motion.bfsDist[Motion.stepOffset + 2];
-        Motion.bfsCurr[3] = Motion.bfsDist[Motion.stepOffset + 3];
-        Motion.bfsCurr[4] = Motion.bfsDist[Motion.stepOffset + 4];
-        Motion.bfsCurr[5] = Motion.bfsDist[Motion.stepOffset + 5];
-        Motion.bfsCurr[6] = Motion.bfsDist[Motion.stepOffset + 6];
-        Motion.bfsCurr[7] = Motion.bfsDist[Motion.stepOffset + 7];
-        Motion.bfsCurr[8] = Motion.bfsDist[Motion.stepOffset + 8];
-        Motion.bfsCurr[9] = Motion.bfsDist[Motion.stepOffset + 9];
-        Motion.bfsCurr[10] = Motion.bfsDist[Motion.stepOffset + 10];
-        Motion.bfsCurr[11] = Motion.bfsDist[Motion.stepOffset + 11];
-        Motion.bfsCurr[12] = Motion.bfsDist[Motion.stepOffset + 12];
-        Motion.bfsCurr[13] = Motion.bfsDist[Motion.stepOffset + 13];
-        Motion.bfsCurr[14] = Motion.bfsDist[Motion.stepOffset + 14];
-        Motion.bfsCurr[15] = Motion.bfsDist[Motion.stepOffset + 15];
-        Motion.bfsCurr[16] = Motion.bfsDist[Motion.stepOffset + 16];
-        Motion.bfsCurr[17] = Motion.bfsDist[Motion.stepOffset + 17];
-        Motion.bfsCurr[18] = Motion.bfsDist[Motion.stepOffset + 18];
-        Motion.bfsCurr[19] = Motion.bfsDist[Motion.stepOffset + 19];
-        Motion.bfsCurr[20] = Motion.bfsDist[Motion.stepOffset + 20];
-        Motion.bfsCurr[21] = Motion.bfsDist[Motion.stepOffset + 21];
-        Motion.bfsCurr[22] = Motion.bfsDist[Motion.stepOffset + 22];
-        Motion.bfsCurr[23] = Motion.bfsDist[Motion.stepOffset + 23];
-        Motion.bfsCurr[24] = Motion.bfsDist[Motion.stepOffset + 24];
-        Motion.bfsCurr[25] = Motion.bfsDist[Motion.stepOffset + 25];
-        Motion.bfsCurr[26] = Motion.bfsDist[Motion.stepOffset + 26];
-        Motion.bfsCurr[27] = Motion.bfsDist[Motion.stepOffset + 27];
-        Motion.bfsCurr[28] = Motion.bfsDist[Motion.stepOffset + 28];
-        Motion.bfsCurr[29] = Motion.bfsDist[Motion.stepOffset + 29];
-        Motion.bfsCurr[30] = Motion.bfsDist[Motion.stepOffset + 30];
-        Motion.bfsCurr[31] = Motion.bfsDist[Motion.stepOffset + 31];
-        Motion.bfsCurr[32] = Motion.bfsDist[Motion.stepOffset + 32];
-        Motion.bfsCurr[33] = Motion.bfsDist[Motion.stepOffset + 33];
-        Motion.bfsCurr[34] = Motion.bfsDist[Motion.stepOffset + 34];
-        Motion.bfsCurr[35] = Motion.bfsDist[Motion.stepOffset + 35];
-        Motion.bfsCurr[36] = Motion.bfsDist[Motion.stepOffset + 36];
-        Motion.bfsCurr[37] = Motion.bfsDist[Motion.stepOffset + 37];
-        Motion.bfsCurr[38] = Motion.bfsDist[Motion.stepOffset + 38];
-        Motion.bfsCurr[39] = Motion.bfsDist[Motion.stepOffset + 39];
-        Motion.bfsCurr[40] = Motion.bfsDist[Motion.stepOffset + 40];
-        Motion.bfsCurr[41] = Motion.bfsDist[Motion.stepOffset + 41];
-        Motion.bfsCurr[42] = Motion.bfsDist[Motion.stepOffset + 42];
-        Motion.bfsCurr[43] = Motion.bfsDist[Motion.stepOffset + 43];
-        Motion.bfsCurr[44] = Motion.bfsDist[Motion.stepOffset + 44];
-        Motion.bfsCurr[45] = Motion.bfsDist[Motion.stepOffset + 45];
-        Motion.bfsCurr[46] = Motion.bfsDist[Motion.stepOffset + 46];
-        Motion.bfsCurr[47] = Motion.bfsDist[Motion.stepOffset + 47];
-        Motion.bfsCurr[48] = Motion.bfsDist[Motion.stepOffset + 48];
-        Motion.bfsCurr[49] = Motion.bfsDist[Motion.stepOffset + 49];
-        Motion.bfsCurr[50] = Motion.bfsDist[Motion.stepOffset + 50];
-        Motion.bfsCurr[51] = Motion.bfsDist[Motion.stepOffset + 51];
-        Motion.bfsCurr[52] = Motion.bfsDist[Motion.stepOffset + 52];
-        Motion.bfsCurr[53] = Motion.bfsDist[Motion.stepOffset + 53];
-        Motion.bfsCurr[54] = Motion.bfsDist[Motion.stepOffset + 54];
-        Motion.bfsCurr[55] = Motion.bfsDist[Motion.stepOffset + 55];
-        Motion.bfsCurr[56] = Motion.bfsDist[Motion.stepOffset + 56];
-        Motion.bfsCurr[57] = Motion.bfsDist[Motion.stepOffset + 57];
-        Motion.bfsCurr[58] = Motion.bfsDist[Motion.stepOffset + 58];
-        Motion.bfsCurr[59] = Motion.bfsDist[Motion.stepOffset + 59];
-        Motion.bfsCurr[60] = Motion.bfsDist[Motion.stepOffset + 60];
-    }
-}
\ No newline at end of file
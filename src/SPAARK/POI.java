@@ -88,41 +88,52 @@ public class POI {
     public static final int BROADCAST_FREQUENCY = 100;
     public static int[] lastBroadcastRounds = new int[144];
 
-    // stores all tower and ruin data
-
-    // upto 144 robots
-    // 145 is symmetry
-    public static StringBuilder[] robotsThatKnowInformation = new StringBuilder[] {
-            new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(),
-            new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(),
-            new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(),
-            new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(),
-            new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(),
-            new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(),
-            new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(),
-            new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(),
-            new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(),
-            new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(),
-            new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(),
-            new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(),
-            new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(),
-            new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(),
-            new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(),
-            new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(),
-            new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(),
-            new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(),
-            new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(),
-            new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(),
-            new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(),
-            new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(),
-            new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(),
-            new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(),
-            new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(),
-            new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(),
-            new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(),
-            new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(),
-            new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder(),
-    };
+    // stores which robots know which tower and ruin data
+    // every robot id we send to or hear from gets a dense slot, and
+    // knownBy[slot * 3 + (i >> 6)] has bit (i & 63) set if that robot knows
+    // tower i, 144 is symmetry
+    // infoMask has a bit for every index that holds data, so what a robot doesn't
+    // know yet is infoMask[w] & ~knownBy[slot * 3 + w]
+    // when slots run out everyone is forgotten, which only means data is resent
+    public static final int MAX_SLOTS = 256;
+    public static int[] slotIds = new int[512];
+    public static int[] slotIndexes = new int[512];
+    public static int numberOfSlots = 0;
+    public static long[] knownBy = new long[MAX_SLOTS * 3];
+    public static long[] infoMask = new long[] { 0, 0, 1L << 16 };
+
+    public static int slotOf(int id) {
+        int h = id & 511;
+        while (slotIds[h] != id) {
+            if (slotIds[h] == 0) {
+                if (numberOfSlots == MAX_SLOTS) {
+                    slotIds = new int[512];
+                    knownBy = new long[MAX_SLOTS * 3];
+                    numberOfSlots = 0;
+                    h = id & 511;
+                }
+                slotIds[h] = id;
+                slotIndexes[h] = numberOfSlots;
+                return numberOfSlots++;
+            }
+            h = (h + 1) & 511;
+        }
+        return slotIndexes[h];
+    }
+
+    public static void setKnown(int source, int i) {
+        if (source != -1)
+            knownBy[slotOf(source) * 3 + (i >> 6)] |= 1L << i;
+    }
+
+    public static void resetKnown(int source, int i) {
+        // data changed, only source knows the new version
+        long mask = ~(1L << i);
+        for (int j = numberOfSlots * 3 + (i >> 6); (j -= 3) >= 0;) {
+            knownBy[j] &= mask;
+        }
+        setKnown(source, i);
+    }
     // basically critical array means this robot found this information, not
     // received through message
     // robot prioritizes critical informatoin to be sent first
@@ -172,19 +183,20 @@ public class POI {
                 }
                 towerTeams[i] = team;
                 towerTypes[i] = type;
-                robotsThatKnowInformation[i] = new StringBuilder(":" + source);
+                resetKnown(source, i);
                 // if (source == -1) {
                 // critical[i] = true;
                 // } else {
                 // critical[i] = false;
                 // }
             } else {
-                robotsThatKnowInformation[i].append(":" + source);
+                setKnown(source, i);
                 // critical[i] = false;
             }
         } else {
             towerGrid[loc.y / 5][loc.x / 5] = numberOfTowers;
             towerLocs[numberOfTowers] = loc;
+            infoMask[numberOfTowers >> 6] |= 1L << numberOfTowers;
             numberOfTowers++;
             // TODO: optimize by copy paste
             addTower(source, loc, team, type);
@@ -231,14 +243,14 @@ public class POI {
     public static void removeValidSymmetry(int source, int index) {
         if (symmetry[index]) {
             symmetry[index] = false;
-            robotsThatKnowInformation[144] = new StringBuilder(":" + source);
+            resetKnown(source, 144);
             if (source == -1) {
                 criticalSymmetry = true;
             } else {
                 criticalSymmetry = false;
             }
-        } else if (source != -1) {
-            robotsThatKnowInformation[144].append(":" + source);
+        } else {
+            setKnown(source, 144);
         }
     };
 
@@ -249,7 +261,11 @@ public class POI {
     public static void updateRound() throws Exception {
         int a = Clock.getBytecodeNum();
         totalMessages = 0;
+        if (Profiler.ENABLED)
+            Profiler.begin(Profiler.POI_READ);
         readMessages();
+        if (Profiler.ENABLED)
+            Profiler.end(Profiler.POI_READ);
         if (ENABLE_INDICATORS)
             G.indicatorString.append("READ=" + (Clock.getBytecodeNum() - a) + " ");
 
@@ -376,7 +392,11 @@ public class POI {
         if (ENABLE_INDICATORS)
             G.indicatorString.append("SYM=" + (Clock.getBytecodeNum() - a) + " ");
         a = Clock.getBytecodeNum();
+        if (Profiler.ENABLED)
+            Profiler.begin(Profiler.POI_SEND);
         sendMessages();
+        if (Profiler.ENABLED)
+            Profiler.end(Profiler.POI_SEND);
         if (ENABLE_INDICATORS)
             G.indicatorString.append("SEND=" + (Clock.getBytecodeNum() - a) + " ");
     };
@@ -445,22 +465,24 @@ public class POI {
                 if (!G.rc.canSendMessage(r.getLocation())) {
                     continue;
                 }
-                String id = ":" + r.getID();
+                int slot = slotOf(r.getID()) * 3;
                 int message = -1;
                 int messages = 0;
-                if (robotsThatKnowInformation[144].indexOf(id) == -1) {
-                    message = intifySymmetry();
-                    messages++;
-                    robotsThatKnowInformation[144].append(id);
-                }
-                // for (int i = 144; --i >= 0;) {
-                for (int i = numberOfTowers; --i >= 0;) {
-                    if (robotsThatKnowInformation[i].indexOf(id) == -1) {
-                        // message = appendToMessage(message, towers[i]);
-                        message = appendToMessage(message,
-                                intifyTower(towerTeams[i], towerTypes[i]) | intifyLocation(towerLocs[i]));
+                // symmetry first, then towers from the highest index down
+                for (int w = 3; --w >= 0;) {
+                    long unknown = infoMask[w] & ~knownBy[slot + w];
+                    while (unknown != 0) {
+                        int b = 63 - Long.numberOfLeadingZeros(unknown);
+                        unknown ^= 1L << b;
+                        knownBy[slot + w] |= 1L << b;
+                        int i = (w << 6) | b;
+                        if (i == 144) {
+                            message = appendToMessage(message, intifySymmetry());
+                        } else {
+                            message = appendToMessage(message,
+                                    intifyTower(towerTeams[i], towerTypes[i]) | intifyLocation(towerLocs[i]));
+                        }
                         messages++;
-                        robotsThatKnowInformation[i].append(id);
                         if (messages == 2) {
                             G.rc.sendMessage(r.getLocation(), message);
                             totalMessages++;
@@ -521,7 +543,7 @@ public class POI {
                     RobotInfo r = G.allyRobots[j];
                     if (G.rc.canSendMessage(r.getLocation())) {
                         if (messages < 2) {
-                            String id = ":" + r.getID();
+                            int slot = slotOf(r.getID()) * 3;
                             // for (int i = numberOfTowers; --i >= 0;) {
                             // if (critical[i] && !towerLocs[i].equals(r.getLocation())) {
                             // message = appendToMessage(message,
@@ -548,24 +570,21 @@ public class POI {
                             // }
                             // }
                             // }
-                            if (messages < 2) {
-                                if (robotsThatKnowInformation[144].indexOf(id) == -1) {
-                                    message = appendToMessage(message, intifySymmetry());
-                                    messages += 1;
-                                    robotsThatKnowInformation[144].append(id);
-                                }
-                            }
-                            if (messages < 2) {
-                                for (int i = numberOfTowers; --i >= 0;) {
-                                    if (robotsThatKnowInformation[i].indexOf(id) == -1) {
+                            // symmetry first, then towers from the highest index down
+                            for (int w = 3; --w >= 0 && messages < 2;) {
+                                long unknown = infoMask[w] & ~knownBy[slot + w];
+                                while (unknown != 0 && messages < 2) {
+                                    int b = 63 - Long.numberOfLeadingZeros(unknown);
+                                    unknown ^= 1L << b;
+                                    knownBy[slot + w] |= 1L << b;
+                                    int i = (w << 6) | b;
+                                    if (i == 144) {
+                                        message = appendToMessage(message, intifySymmetry());
+                                    } else {
                                         message = appendToMessage(message, intifyTower(towerTeams[i], towerTypes[i])
                                                 | intifyLocation(towerLocs[i]));
-                                        messages++;
-                                        robotsThatKnowInformation[i].append(id);
-                                        if (messages == 2) {
-                                            break;
-                                        }
                                     }
+                                    messages++;
                                 }
                             }
                         }
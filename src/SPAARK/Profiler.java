@@ -0,0 +1,150 @@
+package SPAARK;
+
+import battlecode.common.*;
+
+/**
+ * Per-section bytecode profiler
+ *
+ * Wrap code in begin/end with one of the section ids below, always behind the
+ * ENABLED check so javac drops the calls entirely when profiling is off:
+ * if (Profiler.ENABLED) Profiler.begin(Profiler.BFS);
+ * ...
+ * if (Profiler.ENABLED) Profiler.end(Profiler.BFS);
+ *
+ * Every FLUSH_INTERVAL rounds each unit prints one PROF line per section that
+ * ran, which gradle profile parses into histograms (see build.gradle)
+ * PROF <bot> <unit type> <section> <bucket size> <count> <total> <max>
+ * <overflows> <bucket>:<count>,<bucket>:<count>,...
+ *
+ * With OVERFLOWS on, every turn that runs out of bytecode prints the round it
+ * started in, where the unit was and the innermost section open when the round
+ * changed (or the last one begun), and every FLUSH_INTERVAL rounds each unit
+ * prints how many rounds it was alive, for gradle checkOverflows
+ * OVERFLOW <bot> <unit type> <round> <x> <y> <skipped turns> <section>
+ * TURNS <bot> <unit type> <rounds>
+ */
+public class Profiler {
+    // gradle profile and gradle checkOverflows compile copies with one of these
+    // set to true, leave them false
+    public static final boolean HISTOGRAMS = false;
+    public static final boolean OVERFLOWS = false;
+    public static final boolean ENABLED = HISTOGRAMS || OVERFLOWS;
+
+    public static final String BOT = "SPAARK";
+
+    // section ids, keep NAMES in the same order
+    public static final int TURN = 0;
+    public static final int UPDATE_ROUND = 1;
+    public static final int POI_READ = 2;
+    public static final int POI_SEND = 3;
+    public static final int MODE_CHECK = 4;
+    public static final int MODE_RUN = 5;
+    public static final int BFS = 6;
+    public static final int BUGNAV = 7;
+    public static final int SPLASHER_ATTACK_SCORES = 8;
+    public static final int MOPPER_SCORES = 9;
+    public static final String[] NAMES = {
+            "turn",
+            "RobotPlayer.updateRound",
+            "POI.readMessages",
+            "POI.sendMessages",
+            "checkMode",
+            "runMode",
+            "Motion.bfs",
+            "Motion.bugnavTowards",
+            "Splasher.exploreAttackScores1",
+            "Mopper.scores",
+    };
+    public static final int SECTIONS = 10;
+
+    // histogram buckets are BUCKET_SIZE bytecode wide, the last one is open ended
+    public static final int BUCKET_SIZE = 500;
+    public static final int BUCKETS = 64;
+    public static final int FLUSH_INTERVAL = 100;
+
+    public static int bytecodeLimit;
+    public static int lastFlush;
+    public static int lastSection;
+    public static int overflowSection = -1;
+    public static int rounds;
+    public static int[] startBytecode = new int[SECTIONS];
+    public static int[] startRound = new int[SECTIONS];
+    public static int[] count = new int[SECTIONS];
+    public static int[] total = new int[SECTIONS];
+    public static int[] max = new int[SECTIONS];
+    public static int[] overflows = new int[SECTIONS];
+    public static int[][] histogram = new int[SECTIONS][BUCKETS];
+
+    public static void init() {
+        bytecodeLimit = Clock.getBytecodeNum() + Clock.getBytecodesLeft();
+        lastFlush = G.rc.getRoundNum();
+    }
+
+    public static void begin(int section) {
+        lastSection = section;
+        startRound[section] = G.rc.getRoundNum();
+        startBytecode[section] = Clock.getBytecodeNum();
+    }
+
+    public static void end(int section) {
+        int cost = Clock.getBytecodeNum() - startBytecode[section];
+        int late = G.rc.getRoundNum() - startRound[section];
+        if (late != 0) {
+            // section ran past the end of the turn, count the skipped turns too
+            cost += late * bytecodeLimit;
+            overflows[section]++;
+            if (overflowSection < 0 && section != TURN)
+                overflowSection = section;
+        }
+        count[section]++;
+        total[section] += cost;
+        if (cost > max[section])
+            max[section] = cost;
+        histogram[section][Math.min(cost / BUCKET_SIZE, BUCKETS - 1)]++;
+    }
+
+    public static void endTurn() {
+        end(TURN);
+        if (OVERFLOWS) {
+            int skipped = G.rc.getRoundNum() - startRound[TURN];
+            if (skipped != 0)
+                reportOverflow(skipped);
+            rounds += skipped + 1;
+            overflowSection = -1;
+        }
+        if (G.rc.getRoundNum() - lastFlush >= FLUSH_INTERVAL) {
+            lastFlush = G.rc.getRoundNum();
+            if (HISTOGRAMS)
+                flush();
+            if (OVERFLOWS) {
+                System.out.println("TURNS " + BOT + " " + G.rc.getType() + " " + rounds);
+                rounds = 0;
+            }
+        }
+    }
+
+    public static void reportOverflow(int skipped) {
+        int section = overflowSection >= 0 ? overflowSection : lastSection;
+        System.out.println("OVERFLOW " + BOT + " " + G.rc.getType() + " " + startRound[TURN] + " " + G.rc.getLocation().x
+                + " " + G.rc.getLocation().y + " " + skipped + " " + NAMES[section]);
+    }
+
+    public static void flush() {
+        String type = G.rc.getType().toString();
+        for (int i = SECTIONS; --i >= 0;) {
+            if (count[i] == 0)
+                continue;
+            StringBuilder line = new StringBuilder("PROF " + BOT + " " + type + " " + NAMES[i] + " " + BUCKET_SIZE
+                    + " " + count[i] + " " + total[i] + " " + max[i] + " " + overflows[i] + " ");
+            int[] h = histogram[i];
+            for (int j = 0; j < BUCKETS; j++) {
+                if (h[j] != 0) {
+                    line.append(j + ":" + h[j] + ",");
+                    h[j] = 0;
+                }
+            }
+            System.out.println(line);
+            count[i] = total[i] = max[i] = overflows[i] = 0;
+        }
+    }
+}
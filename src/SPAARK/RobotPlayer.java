@@ -8,21 +8,45 @@ public class RobotPlayer {
         G.me = G.rc.getLocation();
         G.allyRobots = G.rc.senseNearbyRobots(-1, G.team);
         G.opponentRobots = G.rc.senseNearbyRobots(-1, G.opponentTeam);
-        G.allyRobotsString = new StringBuilder();
+        // new stamps instead of clearing robotGrid
+        G.allyStamp += 2;
+        G.opponentStamp = G.allyStamp + 1;
+        int[] counts = G.allyRobotCounts;
+        counts[G.UNIT_SOLDIER] = counts[G.UNIT_MOPPER] = counts[G.UNIT_SPLASHER] = 0;
+        RobotInfo r;
         for (int i = G.allyRobots.length; --i >= 0;) {
-            if (G.allyRobots[i].type.isRobotType()) {
-                G.allyRobotsString.append(G.allyRobots[i].location.toString());
-            }
+            r = G.allyRobots[i];
+            if (r.type == UnitType.SOLDIER)
+                G.allyRobotsByType[G.UNIT_SOLDIER][counts[G.UNIT_SOLDIER]++] = r;
+            else if (r.type == UnitType.MOPPER)
+                G.allyRobotsByType[G.UNIT_MOPPER][counts[G.UNIT_MOPPER]++] = r;
+            else if (r.type == UnitType.SPLASHER)
+                G.allyRobotsByType[G.UNIT_SPLASHER][counts[G.UNIT_SPLASHER]++] = r;
+            else
+                continue;
+            G.robotGrid[r.location.x + 3][r.location.y + 3] = G.allyStamp;
         }
-        G.opponentRobotsString = new StringBuilder();
+        G.allyRobotCount = counts[G.UNIT_SOLDIER] + counts[G.UNIT_MOPPER] + counts[G.UNIT_SPLASHER];
+        counts = G.opponentRobotCounts;
+        counts[G.UNIT_SOLDIER] = counts[G.UNIT_MOPPER] = counts[G.UNIT_SPLASHER] = 0;
         for (int i = G.opponentRobots.length; --i >= 0;) {
-            if (G.opponentRobots[i].type.isRobotType()) {
-                G.opponentRobotsString.append(G.opponentRobots[i].location.toString());
-            } else if (G.opponentRobots[i].type.getBaseType() == UnitType.LEVEL_ONE_DEFENSE_TOWER) {
-                G.lastDefenseTower = G.opponentRobots[i].location;
-                G.lastDefenseTowerRound = G.rc.getRoundNum();
+            r = G.opponentRobots[i];
+            if (r.type == UnitType.SOLDIER)
+                G.opponentRobotsByType[G.UNIT_SOLDIER][counts[G.UNIT_SOLDIER]++] = r;
+            else if (r.type == UnitType.MOPPER)
+                G.opponentRobotsByType[G.UNIT_MOPPER][counts[G.UNIT_MOPPER]++] = r;
+            else if (r.type == UnitType.SPLASHER)
+                G.opponentRobotsByType[G.UNIT_SPLASHER][counts[G.UNIT_SPLASHER]++] = r;
+            else {
+                if (r.type.getBaseType() == UnitType.LEVEL_ONE_DEFENSE_TOWER) {
+                    G.lastDefenseTower = r.location;
+                    G.lastDefenseTowerRound = G.rc.getRoundNum();
+                }
+                continue;
             }
+            G.robotGrid[r.location.x + 3][r.location.y + 3] = G.opponentStamp;
         }
+        G.opponentRobotCount = counts[G.UNIT_SOLDIER] + counts[G.UNIT_MOPPER] + counts[G.UNIT_SPLASHER];
         G.nearbyMapInfos = G.rc.senseNearbyMapInfos();
         G.nearbyRuins = G.rc.senseNearbyRuins(-1);
     }
@@ -59,10 +83,13 @@ public class RobotPlayer {
             G.mapHeight = G.rc.getMapHeight();
             G.mapCenter = new MapLocation(G.mapWidth / 2, G.mapHeight / 2);
             G.mapArea = G.mapWidth * G.mapHeight;
+            G.robotGrid = new int[G.mapWidth + 6][G.mapHeight + 6];
             G.team = G.rc.getTeam();
             G.opponentTeam = G.team.opponent();
             G.roundSpawned = G.rc.getRoundNum();
             G.indicatorString = new StringBuilder();
+            if (Profiler.ENABLED)
+                Profiler.init();
             updateInfo();
             switch (G.rc.getType()) {
                 case MOPPER, SOLDIER, SPLASHER -> Robot.init();
@@ -72,8 +99,14 @@ public class RobotPlayer {
             G.indicatorString.append("INIT " + Clock.getBytecodeNum() + " ");
             while (true) {
                 int r = G.rc.getRoundNum();
+                if (Profiler.ENABLED)
+                    Profiler.begin(Profiler.TURN);
                 try {
+                    if (Profiler.ENABLED)
+                        Profiler.begin(Profiler.UPDATE_ROUND);
                     updateRound();
+                    if (Profiler.ENABLED)
+                        Profiler.end(Profiler.UPDATE_ROUND);
                     switch (G.rc.getType()) {
                         case MOPPER, SOLDIER, SPLASHER -> Robot.run();
                         default -> Tower.run();
@@ -106,6 +139,8 @@ public class RobotPlayer {
                 // }
                 G.lastChips = G.rc.getChips();
                 G.lastNumberTowers = G.rc.getNumberTowers();
+                if (Profiler.ENABLED)
+                    Profiler.endTurn();
                 Clock.yield();
             }
         } catch (GameActionException e) {
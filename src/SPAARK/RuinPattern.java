@@ -0,0 +1,129 @@
+package SPAARK;
+
+import battlecode.common.*;
+
+/**
+ * Paint state of the ruin being built on, as 25-bit masks.
+ * Bit (dx + 2) * 5 + dy + 2 is the tile at (dx, dy) from the ruin, the ruin's
+ * own bit 12 is never set. Tiles are sensed once per round, plus the ones
+ * that came into view when we move, and a bit only flips when a tile's paint
+ * differs from last time, so checking a pattern for any tower type and
+ * picking the next tile to paint are mask operations.
+ */
+public class RuinPattern {
+
+    public static final int ALL = 0x1FFFFFF & ~(1 << 12);
+
+    // Tiles that want secondary paint, by tower type (Robot.towers order)
+    public static int[] patterns;
+
+    public static MapLocation ruin;
+    public static int sensed;
+    public static int allyPrimary;
+    public static int allySecondary;
+    public static int enemy;
+    // Tower type the ruin is marked for, -1 if none (see Soldier.predictTowerType)
+    public static int marker = -1;
+
+    private static final PaintType[] seen = new PaintType[25];
+    private static int updatedRound = -1;
+    private static MapLocation updatedAt;
+    // tiles sensed this round and marks among them
+    private static int roundSensed;
+    private static int marks;
+
+    public static void init() throws Exception {
+        patterns = new int[3];
+        for (int t = 3; --t >= 0;) {
+            boolean[][] pattern = Robot.towerPatterns[t];
+            for (int i = 25; --i >= 0;) {
+                if (pattern[i / 5][i % 5])
+                    patterns[t] |= 1 << i;
+            }
+            patterns[t] &= ALL;
+        }
+    }
+
+    public static void update(MapLocation loc) throws Exception {
+        if (!loc.equals(ruin)) {
+            ruin = loc;
+            sensed = allyPrimary = allySecondary = enemy = 0;
+            roundSensed = marks = 0;
+            for (int i = 25; --i >= 0;)
+                seen[i] = null;
+        } else if (updatedRound == G.round) {
+            if (G.me.equals(updatedAt))
+                return;
+        } else {
+            roundSensed = marks = 0;
+        }
+        updatedRound = G.round;
+        updatedAt = G.me;
+        MapLocation tile;
+        MapInfo info;
+        PaintType paint;
+        for (int i = 25; --i >= 0;) {
+            if (i == 12 || (roundSensed & (1 << i)) != 0)
+                continue;
+            tile = ruin.translate(i / 5 - 2, i % 5 - 2);
+            if (!G.rc.canSenseLocation(tile))
+                continue;
+            roundSensed |= 1 << i;
+            info = G.rc.senseMapInfo(tile);
+            paint = info.getPaint();
+            if (paint != seen[i]) {
+                seen[i] = paint;
+                set(i, paint);
+            }
+            if ((i == 11 || i == 7 || i == 17) && info.getMark() == PaintType.ALLY_PRIMARY)
+                marks |= 1 << i;
+        }
+        // markers below, left, right of the ruin, in that order
+        marker = (marks & (1 << 11)) != 0 ? 0 : (marks & (1 << 7)) != 0 ? 1 : (marks & (1 << 17)) != 0 ? 2 : -1;
+    }
+
+    private static void set(int i, PaintType paint) {
+        int bit = 1 << i;
+        sensed |= bit;
+        allyPrimary &= ~bit;
+        allySecondary &= ~bit;
+        enemy &= ~bit;
+        if (paint == PaintType.ALLY_PRIMARY)
+            allyPrimary |= bit;
+        else if (paint == PaintType.ALLY_SECONDARY)
+            allySecondary |= bit;
+        else if (paint.isEnemy())
+            enemy |= bit;
+    }
+
+    public static void painted(MapLocation tile, boolean secondary) {
+        int i = index(tile);
+        if (i < 0)
+            return;
+        seen[i] = secondary ? PaintType.ALLY_SECONDARY : PaintType.ALLY_PRIMARY;
+        set(i, seen[i]);
+    }
+
+    public static int index(MapLocation tile) {
+        int ix = tile.x - ruin.x + 2;
+        int iy = tile.y - ruin.y + 2;
+        if ((ix | iy | (4 - ix) | (4 - iy)) < 0 || (ix == 2 && iy == 2))
+            return -1;
+        return ix * 5 + iy;
+    }
+
+    // last seen paint of a pattern tile, null if never sensed
+    public static PaintType paint(MapLocation tile) {
+        int i = index(tile);
+        return i < 0 ? null : seen[i];
+    }
+
+    public static int correct(int type) {
+        return allySecondary & patterns[type] | allyPrimary & ~patterns[type] & ALL;
+    }
+
+    // sensed tiles that still need paint, enemy paint included
+    public static int incorrect(int type) {
+        return sensed & ~correct(type);
+    }
+}
@@ -88,6 +88,7 @@ public class Soldier {
     public static int lastUpdatedMapInfosRound = -1;
 
     public static void init() throws Exception {
+        RuinPattern.init();
     }
 
     /**
@@ -156,6 +157,8 @@ public class Soldier {
         }
         // map mapinfos infos
         int a = Clock.getBytecodeNum();
+        if (Profiler.ENABLED)
+            Profiler.begin(Profiler.MODE_CHECK);
         reducedRetreating = false;
         avoidRetreating = false;
         switch (mode) {
@@ -180,6 +183,10 @@ public class Soldier {
         }
         int b = Clock.getBytecodeNum();
         G.indicatorString.append((b - a) + " ");
+        if (Profiler.ENABLED) {
+            Profiler.end(Profiler.MODE_CHECK);
+            Profiler.begin(Profiler.MODE_RUN);
+        }
         switch (mode) {
             case EXPLORE -> explore();
             case BUILD_TOWER -> buildTower();
@@ -215,6 +222,8 @@ public class Soldier {
             }
         }
         G.indicatorString.append((Clock.getBytecodeNum() - b) + " ");
+        if (Profiler.ENABLED)
+            Profiler.end(Profiler.MODE_RUN);
     }
 
     public static void exploreCheckMode() throws Exception {
@@ -343,41 +352,22 @@ public class Soldier {
         }
         // check for moppers (used later)
         boolean hasHelp = false;
-        for (int i = G.allyRobots.length; --i >= 0;) {
-            if (G.allyRobots[i].type == UnitType.MOPPER
-                    && G.allyRobots[i].location.isWithinDistanceSquared(G.me, SOL_TOWER_HELP_DIST)) {
+        for (int i = G.allyRobotCounts[G.UNIT_MOPPER]; --i >= 0;) {
+            if (G.allyRobotsByType[G.UNIT_MOPPER][i].location.isWithinDistanceSquared(G.me, SOL_TOWER_HELP_DIST)) {
                 hasHelp = true;
                 break;
             }
         }
         final int maxEnemyPaint = hasHelp ? SOL_MAX_TOWER_ENEMY_PAINT : SOL_MAX_TOWER_ENEMY_PAINT_NO_HELP;
-        int enemyPaint = 0;
-        int incorrectPaint = 0;
-        boolean[][] pattern = Robot.towerPatterns[buildTowerType];
-        PaintType curr;
-        int offset = Random.rand() % 25;
-        for (int i = 25; --i >= 0;) {
-            int dx = (i + offset) % 5;
-            int dy = ((i + offset) % 25) / 5;
-            if (dx == 2 && dy == 2)
-                continue;
-            // make sure not out of vision radius
-            loc = ruinLocation.translate(dx - 2, dy - 2);
-            if (G.rc.canSenseLocation(loc)) {
-                curr = G.rc.senseMapInfo(loc).getPaint();
-                if (curr != (pattern[dx][dy] ? PaintType.ALLY_SECONDARY : PaintType.ALLY_PRIMARY))
-                    incorrectPaint++;
-                // stop building if there's lots of enemy paint
-                if (curr.isEnemy()) {
-                    enemyPaint++;
-                    if (enemyPaint >= SOL_MAX_TOWER_ENEMY_PAINT_HARD) {
-                        G.indicatorString.append("BLOCK-H ");
-                        // immediately give up if there's way too much paint
-                        mode = EXPLORE;
-                        return;
-                    }
-                }
-            }
+        // predictTowerType already sensed the pattern this round
+        int enemyPaint = Integer.bitCount(RuinPattern.enemy);
+        int incorrectPaint = Integer.bitCount(RuinPattern.incorrect(buildTowerType));
+        // stop building if there's lots of enemy paint
+        if (enemyPaint >= SOL_MAX_TOWER_ENEMY_PAINT_HARD) {
+            G.indicatorString.append("BLOCK-H ");
+            // immediately give up if there's way too much paint
+            mode = EXPLORE;
+            return;
         }
         // check blocked by enemy paint
         if (enemyPaint >= maxEnemyPaint) {
@@ -394,10 +384,9 @@ public class Soldier {
         if (incorrectPaint == 0) {
             G.indicatorString.append("COMPLETE ");
             // if pattern complete leave lowest bot ID to complete
-            for (int i = G.allyRobots.length; --i >= 0;) {
-                if (G.allyRobots[i].type == UnitType.SOLDIER
-                        && G.allyRobots[i].getLocation().isWithinDistanceSquared(ruinLocation, 8)) {
-                    if (G.allyRobots[i].ID < G.rc.getID()) {
+            for (int i = G.allyRobotCounts[G.UNIT_SOLDIER]; --i >= 0;) {
+                if (G.allyRobotsByType[G.UNIT_SOLDIER][i].getLocation().isWithinDistanceSquared(ruinLocation, 8)) {
+                    if (G.allyRobotsByType[G.UNIT_SOLDIER][i].ID < G.rc.getID()) {
                         // not lowest ID, leave
                         mode = EXPLORE;
                         return;
@@ -441,9 +430,8 @@ public class Soldier {
         buildTime++;
         // check for moppers (used later)
         boolean hasHelp = false;
-        for (int i = G.allyRobots.length; --i >= 0;) {
-            if (G.allyRobots[i].type == UnitType.MOPPER
-                    && G.allyRobots[i].location.isWithinDistanceSquared(G.me, SOL_TOWER_HELP_DIST)) {
+        for (int i = G.allyRobotCounts[G.UNIT_MOPPER]; --i >= 0;) {
+            if (G.allyRobotsByType[G.UNIT_MOPPER][i].location.isWithinDistanceSquared(G.me, SOL_TOWER_HELP_DIST)) {
                 hasHelp = true;
                 break;
             }
@@ -723,26 +711,24 @@ public class Soldier {
             Motion.bugnavTowards(next);
         }
         G.rc.setIndicatorLine(G.me, ruinLocation, 255, 200, 0);
-        // remap map infos because move buh
+        // remap map infos because move buh, only tiles that came into view
+        RuinPattern.update(ruinLocation);
         if (G.rc.isActionReady() && G.rc.getPaint() >= 5) {
             // paint second
             MapLocation paintLocation = null;
-            boolean[][] pattern = Robot.towerPatterns[buildTowerType];
+            int pattern = RuinPattern.patterns[buildTowerType];
             if (G.me.isWithinDistanceSquared(ruinLocation, 8)
-                    && G.rc.senseMapInfo(G.me).getPaint() == PaintType.EMPTY) {
+                    && RuinPattern.paint(G.me) == PaintType.EMPTY) {
                 // paint under self first (passive paint drain)
-                boolean paint = pattern[G.me.x - ruinLocation.x + 2][G.me.y - ruinLocation.y + 2];
+                boolean paint = (pattern & (1 << RuinPattern.index(G.me))) != 0;
                 if (G.rc.canAttack(G.me)) {
                     G.rc.attack(G.me, paint);
+                    RuinPattern.painted(G.me, paint);
                     paintLocation = G.me;
                 }
             } else {
-                // paint pattern otherwise
-                PaintType exists;
-                MapLocation bestLoc = null;
-                boolean bestPaint = false;
-                int offset = Random.rand() % 25;
-                // try to paint closer to opponent towers
+                // paint pattern otherwise, closest tile to us first
+                // then closer to opponent towers
                 MapLocation opponentTower; // direction to opponent towers
                 int x;
                 int y;
@@ -767,30 +753,27 @@ public class Soldier {
                 x /= cnt;
                 y /= cnt;
                 opponentTower = new MapLocation(x, y);
-                for (int i = 25; --i >= 0;) {
-                    int dx = (i + offset) % 5;
-                    int dy = ((i + offset) % 25) / 5;
-                    if (dx == 2 && dy == 2)
+                // can't paint enemy paint
+                int todo = RuinPattern.incorrect(buildTowerType) & ~RuinPattern.enemy;
+                MapLocation bestLoc = null;
+                int bestDist = Integer.MAX_VALUE;
+                while (todo != 0) {
+                    int i = Integer.numberOfTrailingZeros(todo);
+                    todo &= todo - 1;
+                    MapLocation loc = ruinLocation.translate(i / 5 - 2, i % 5 - 2);
+                    int dist = G.me.distanceSquaredTo(loc);
+                    if (dist > UnitType.SOLDIER.actionRadiusSquared)
                         continue;
-                    // location guaranteed to be on the map, unless ruinLocation isn't a ruin
-                    // guaranteed within vision radius if can attack there
-                    MapLocation loc = ruinLocation.translate(dx - 2, dy - 2);
-                    if (G.rc.canAttack(loc)) {
-                        boolean paint = pattern[dx][dy];
-                        exists = G.rc.senseMapInfo(loc).getPaint();
-                        // can't paint enemy paint
-                        if (!exists.isEnemy()
-                                && (paint ? PaintType.ALLY_SECONDARY : PaintType.ALLY_PRIMARY) != exists) {
-                            if (bestLoc == null || loc.distanceSquaredTo(opponentTower) < bestLoc
-                                    .distanceSquaredTo(opponentTower)) {
-                                bestLoc = loc;
-                                bestPaint = paint;
-                            }
-                        }
+                    if (dist < bestDist || dist == bestDist
+                            && loc.distanceSquaredTo(opponentTower) < bestLoc.distanceSquaredTo(opponentTower)) {
+                        bestDist = dist;
+                        bestLoc = loc;
                     }
                 }
-                if (bestLoc != null) {
-                    G.rc.attack(bestLoc, bestPaint);
+                if (bestLoc != null && G.rc.canAttack(bestLoc)) {
+                    boolean paint = (pattern & (1 << RuinPattern.index(bestLoc))) != 0;
+                    G.rc.attack(bestLoc, paint);
+                    RuinPattern.painted(bestLoc, paint);
                     paintLocation = bestLoc;
                 }
             }
@@ -1139,16 +1122,10 @@ public class Soldier {
      */
     public static int predictTowerType(MapLocation loc) throws Exception {
         G.indicatorString.append("(M=" + POI.moneyTowers + ", P=" + POI.paintTowers + ") ");
-        // check for marker
-        if (G.me.isWithinDistanceSquared(loc.add(Direction.SOUTH), 20)
-                && G.rc.senseMapInfo(loc.translate(0, -1)).getMark() == PaintType.ALLY_PRIMARY)
-            return 0;
-        if (G.me.isWithinDistanceSquared(loc.add(Direction.WEST), 20)
-                && G.rc.senseMapInfo(loc.translate(-1, 0)).getMark() == PaintType.ALLY_PRIMARY)
-            return 1;
-        if (G.me.isWithinDistanceSquared(loc.add(Direction.EAST), 20)
-                && G.rc.senseMapInfo(loc.translate(1, 0)).getMark() == PaintType.ALLY_PRIMARY)
-            return 2;
+        // check for marker, read with the rest of the pattern
+        RuinPattern.update(loc);
+        if (RuinPattern.marker >= 0)
+            return RuinPattern.marker;
         // no im not adding the rc.disintigrate too much bytecode
         // 24 limit is for betterdisintegrating
         int towerType = G.rc.getChips() < 10000 && G.rc.getNumberTowers() < 24
@@ -1165,7 +1142,7 @@ public class Soldier {
                     break;
                 }
             }
-            if (enemyPaint || G.opponentRobotsString.length() > 0)
+            if (enemyPaint || G.opponentRobotCount > 0)
                 towerType = 0;
         }
         MapLocation place = loc;
@@ -1185,8 +1162,8 @@ public class Soldier {
      */
     public static Micro moveWithPaintMicro = new Micro() {
         @Override
-        public int[] micro(Direction d, MapLocation dest) throws Exception {
-            int[] scores = Motion.defaultMicro.micro(d, dest);
+        public void micro(Direction d, MapLocation dest, int[] scores) throws Exception {
+            Motion.defaultMicro.micro(d, dest, scores);
             if (Random.rand() % 4 == 0) {
                 MapLocation nxt, bestLoc = G.me;
                 int best = -1000000000;
@@ -1252,15 +1229,13 @@ public class Soldier {
                     }
                 }
             }
-            return scores;
         }
     };
 
-    public static Micro attackMicro = new Micro() {
+    public static Micro attackMicro = Motion.defaultMicro.and(new Micro() {
         @Override
-        public int[] micro(Direction d, MapLocation dest) throws Exception {
+        public void micro(Direction d, MapLocation dest, int[] scores) throws Exception {
             // try to stay out of range if on cd, otherwise try to get in range
-            int[] scores = Motion.defaultMicro.micro(d, dest);
             if (G.rc.isActionReady()) {
                 for (int i = 9; --i >= 0;) {
                     if (G.me.add(G.ALL_DIRECTIONS[i]).isWithinDistanceSquared(towerLocation,
@@ -1276,21 +1251,9 @@ public class Soldier {
                     }
                 }
             }
-            return scores;
         }
-    };
+    });
 
-    public static Micro suicide = new Micro() {
-        @Override
-        public int[] micro(Direction d, MapLocation dest) throws Exception {
-            // just run toward the enemy lol
-            int[] scores = Motion.defaultMicro.micro(d, dest);
-            scores[G.dirOrd(d)] += 20;
-            if (d != Direction.CENTER) {
-                scores[G.dirOrd(d.rotateLeft())] += 15;
-                scores[G.dirOrd(d.rotateRight())] += 15;
-            }
-            return scores;
-        }
-    };
+    // just run toward the enemy lol
+    public static Micro suicide = Motion.defaultMicro.and(Motion.targetMicro);
 }
\ No newline at end of file
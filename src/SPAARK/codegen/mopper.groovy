@@ -0,0 +1,58 @@
+// MopperCodeGen: mop scores for every tile within distance 8 (the first 25
+// range20 offsets, so attacking after any move is covered), one method per
+// mode. Swing scores come from the enemy bitmask in Mopper.exploreSwingScores
+//
+// bound by gradle generateSources: rangeX, rangeY (G.range20X/Y)
+
+def TILES = 25
+def ENEMY_PAINT = '25'
+def STEAL_MULT = '7'
+
+def s = new StringBuilder()
+
+def attackScores = { String name, String comment, boolean towerWeight, boolean steal ->
+    if (comment != null)
+        s << comment
+    s << "    public static void ${name}() throws Exception {\n"
+    s << '        MapLocation loc = G.me;\n'
+    for (int i = 0; i < TILES; i++) {
+        if (i != 0)
+            s << "        loc = G.me.translate(${rangeX[i]}, ${rangeY[i]});\n"
+        s << '        if (G.rc.onTheMap(loc)) {\n'
+        s << '            PaintType paint = G.rc.senseMapInfo(loc).getPaint();\n'
+        s << '            if (paint.isEnemy()) {\n'
+        if (towerWeight) {
+            s << '                if (Mopper.target.distanceSquaredTo(loc) <= 8) {\n'
+            s << "                    Mopper.attackScores[${i}] += Mopper.MOP_TOWER_WEIGHT;\n"
+            s << '                }\n'
+        }
+        s << "                Mopper.attackScores[${i}] += ${ENEMY_PAINT};\n"
+        s << '            }\n'
+        s << '            if (G.rc.canSenseRobotAtLocation(loc)) {\n'
+        s << '                RobotInfo bot = G.rc.senseRobotAtLocation(loc);\n'
+        s << '                if (bot.team == G.opponentTeam) {\n'
+        s << "                    Mopper.attackScores[${i}] += ${steal ? 'Mopper.MOP_RETREAT_STEAL_WEIGHT + ' : ''}(Math.min(10, bot.paintAmount) + Math.min(5, UnitType.MOPPER.paintCapacity - G.rc.getPaint())) * ${STEAL_MULT};\n"
+        s << '                    if (bot.paintAmount > 0) {\n'
+        s << '                        if (bot.paintAmount <= 10) {\n'
+        s << "                            Mopper.attackScores[${i}] += (int) G.paintPerChips() * bot.type.moneyCost;\n"
+        s << '                        } else {\n'
+        s << "                            Mopper.attackScores[${i}] += (G.cooldown(bot.paintAmount - 10, 10, bot.type.paintCapacity) - G.cooldown(bot.paintAmount, 10, bot.type.paintCapacity)) * G.paintPerCooldown();\n"
+        s << '                        }\n'
+        s << '                    }\n'
+        s << '                }\n'
+        s << '            }\n'
+        s << '        }\n'
+    }
+    s << '    }\n'
+}
+
+s << 'import battlecode.common.*;\n'
+s << '\n'
+s << 'public class MopperCodeGen {\n'
+attackScores('exploreAttackScores', null, false, false)
+s << '\n'
+attackScores('buildAttackScores', '    // same as exploreAttackScores plus a bonus for mopping around the target ruin\n', true, false)
+s << '\n'
+attackScores('retreatAttackScores', '    // same as exploreAttackScores plus a bonus for stealing paint\n', false, true)
+s << '}\n'
+return s.toString()
@@ -0,0 +1,21 @@
+// MotionCodeGen: one fully unrolled bfs layer per map height, Motion.bfs picks
+// the one matching the map with a switch over the same range
+//
+// bound by gradle generateSources: minHeight, maxHeight
+
+def s = new StringBuilder()
+s << 'public class MotionCodeGen {\n'
+for (int h = minHeight; h <= maxHeight; h++) {
+    s << "    public static void bfs${h}() {\n"
+    // widen each row sideways
+    for (int j = 1; j <= h; j++)
+        s << "        Motion.bfsCurr[${j}] = Motion.bfsCurr[${j}] | (Motion.bfsCurr[${j}] >> 1) | (Motion.bfsCurr[${j}] << 1);\n"
+    // then up and down, minus walls
+    for (int j = 1; j <= h; j++)
+        s << "        Motion.bfsDist[Motion.stepOffset + ${j}] = (Motion.bfsCurr[${j}] | Motion.bfsCurr[${j - 1}] | Motion.bfsCurr[${j + 1}]) & (Motion.bitmask ^ Motion.bfsMap[${j}]);\n"
+    for (int j = 1; j <= h; j++)
+        s << "        Motion.bfsCurr[${j}] = Motion.bfsDist[Motion.stepOffset + ${j}];\n"
+    s << '    }\n'
+}
+s << '}\n'
+return s.toString()
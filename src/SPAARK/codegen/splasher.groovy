@@ -0,0 +1,76 @@
+// SplasherCodeGen.exploreAttackScores1: scores every splash center within
+// attack range (the first 37 range20 offsets) by the tiles it would paint,
+// walking each of the 69 tiles in vision once and adding its value to every
+// center that covers it
+//
+// bound by gradle generateSources: rangeX, rangeY (G.range20X/Y)
+
+// weights, as Java expressions
+def RUIN_ENEMY_TOWER = 'G.paintPerChips() * 200'
+def RUIN = '100'
+def EMPTY = '25'
+def EMPTY_ROBOT = '25'
+def ENEMY_PAINT = '50'
+def ENEMY_PAINT_ROBOT = '50'
+
+def CENTERS = 37
+def index = [:]
+for (int i = 0; i < rangeX.size(); i++)
+    index[[rangeX[i], rangeY[i]]] = i
+
+// splash centers covering a tile, relative to it: the 3x3 square for paint
+// that can be overwritten and the 4 corners of the radius 2 circle on top
+// for empty tiles
+def square = [[-1, -1], [0, -1], [1, -1], [1, 0], [1, 1], [0, 1], [-1, 1], [-1, 0], [0, 0]]
+def circle = [[2, 0], [0, 2], [-2, 0], [0, -2]] + square
+
+def s = new StringBuilder()
+def add = { int x, int y, List offsets, String weight, String indent ->
+    for (o in offsets) {
+        def c = index[[x + o[0], y + o[1]]]
+        if (c != null && c < CENTERS)
+            s << "${indent}Splasher.attackScores[${c}] += ${weight};\n"
+    }
+}
+
+s << 'import battlecode.common.*;\n'
+s << '\n'
+s << 'public class SplasherCodeGen {\n'
+s << '    public static void exploreAttackScores1() throws Exception {\n'
+s << '        MapLocation loc = G.me;\n'
+for (int i = 0; i < rangeX.size(); i++) {
+    int x = rangeX[i], y = rangeY[i]
+    s << "        loc = G.me.translate(${x}, ${y});\n"
+    s << '        if (G.rc.onTheMap(loc)) {\n'
+    s << '            MapInfo info = G.rc.senseMapInfo(loc);\n'
+    s << '            if (!info.isWall()) {\n'
+    s << '                if (info.getPaint() == PaintType.EMPTY) {\n'
+    s << '                    if (info.hasRuin()) {\n'
+    s << '                        if (G.rc.canSenseRobotAtLocation(loc) && G.rc.senseRobotAtLocation(loc).team == G.opponentTeam) {\n'
+    add(x, y, circle, RUIN_ENEMY_TOWER, '                            ')
+    s << '                        } else {\n'
+    add(x, y, circle, RUIN, '                            ')
+    s << '                        }\n'
+    s << '                    } else {\n'
+    add(x, y, circle, EMPTY, '                        ')
+    s << '                    }\n'
+    // robots only ever counted for the first offset, the weights were tuned that way
+    s << '                    if (G.robotGrid[loc.x + 3][loc.y + 3] == G.opponentStamp) {\n'
+    add(x, y, square.subList(0, 1), EMPTY_ROBOT, '                        ')
+    s << '                    } else if (G.robotGrid[loc.x + 3][loc.y + 3] == G.allyStamp) {\n'
+    add(x, y, square.subList(0, 1), EMPTY_ROBOT, '                        ')
+    s << '                    }\n'
+    s << '                } else if (info.getPaint().isEnemy()) {\n'
+    add(x, y, square, ENEMY_PAINT, '                    ')
+    s << '                    if (G.robotGrid[loc.x + 3][loc.y + 3] == G.opponentStamp) {\n'
+    add(x, y, square.subList(0, 1), ENEMY_PAINT_ROBOT, '                        ')
+    s << '                    } else if (G.robotGrid[loc.x + 3][loc.y + 3] == G.allyStamp) {\n'
+    add(x, y, square.subList(0, 1), ENEMY_PAINT_ROBOT, '                        ')
+    s << '                    }\n'
+    s << '                }\n'
+    s << '            }\n'
+    s << '        }\n'
+}
+s << '    }\n'
+s << '}\n'
+return s.toString()
@@ -1,7 +1,10 @@
 package mybot;
 
 import battlecode.common.*;
+import mybot.core.Inbox;
+import mybot.core.PackedCodec;
 import mybot.core.POI;
+import mybot.core.PaintField;
 
 /**
  * Communication system for coordinating robots.
@@ -10,6 +13,12 @@ import mybot.core.POI;
  * [4 bits: type][6 bits: x][6 bits: y][16 bits: payload]
  *
  * Towers can send 20 messages/turn, robots can send 1 message/turn.
+ *
+ * Ruin and enemy reports, phases and paint tower handoffs go out as packed
+ * messages instead (PackedCodec), two or three records to a message. Units
+ * queue their reports and send one packed message at the end of the turn;
+ * towers merge what units report, drop what they already relayed and pass
+ * the rest on.
  */
 public class Comms {
 
@@ -35,6 +44,9 @@ public class Comms {
         POI_TOWER,            // 15: POI tower info (payload: ally flag + chunk coords)
     }
 
+    // values() copies the array on every call
+    private static final MessageType[] TYPES = MessageType.values();
+
     /**
      * Encode a message into a 32-bit integer.
      *
@@ -63,9 +75,8 @@ public class Comms {
      */
     public static MessageType decodeType(int msg) {
         int typeOrd = (msg >>> 28) & 0xF;
-        MessageType[] types = MessageType.values();
-        if (typeOrd < types.length) {
-            return types[typeOrd];
+        if (typeOrd < TYPES.length) {
+            return TYPES[typeOrd];
         }
         return MessageType.NONE;
     }
@@ -141,18 +152,14 @@ public class Comms {
     }
 
     // ========== Receiving Helpers ==========
+    // Served from the Inbox buckets, the inbox is read once per turn
 
     /**
      * Check if we received a specific message type recently.
      */
     public static boolean hasMessageOfType(RobotController rc, MessageType type) throws GameActionException {
-        Message[] messages = rc.readMessages(-1);
-        for (Message m : messages) {
-            if (decodeType(m.getBytes()) == type) {
-                return true;
-            }
-        }
-        return false;
+        Inbox.refresh(rc);
+        return Inbox.has(type.ordinal());
     }
 
     /**
@@ -160,29 +167,18 @@ public class Comms {
      * Returns null if no such message.
      */
     public static MapLocation getLocationFromMessage(RobotController rc, MessageType type) throws GameActionException {
-        Message[] messages = rc.readMessages(-1);
-        for (Message m : messages) {
-            if (decodeType(m.getBytes()) == type) {
-                return decodeLocation(m.getBytes());
-            }
-        }
-        return null;
+        Inbox.refresh(rc);
+        int tag = type.ordinal();
+        return Inbox.has(tag) ? Inbox.location(tag, 0) : null;
     }
 
     // ========== Specific Message Senders ==========
 
     /**
-     * Report enemy sighting to nearby tower.
+     * Queue an enemy sighting for the next report to a tower.
      */
-    public static boolean reportEnemy(RobotController rc, MapLocation enemyLoc, int enemyCount) throws GameActionException {
-        // Find nearby tower to report to
-        RobotInfo[] allies = rc.senseNearbyRobots(-1, rc.getTeam());
-        for (RobotInfo ally : allies) {
-            if (ally.getType().isTowerType()) {
-                return sendTo(rc, ally.getLocation(), MessageType.ENEMY_SPOTTED, enemyLoc, enemyCount);
-            }
-        }
-        return false;
+    public static boolean reportEnemy(RobotController rc, MapLocation enemyLoc, int enemyCount) {
+        return PackedCodec.addEnemy(enemyLoc, enemyCount);
     }
 
     /**
@@ -200,14 +196,30 @@ public class Comms {
     }
 
     /**
-     * Report a found ruin.
+     * Queue a found ruin for the next report to a tower, once per ruin.
      */
-    public static boolean reportRuin(RobotController rc, MapLocation ruinLoc) throws GameActionException {
-        // Find nearby tower to report to
+    public static boolean reportRuin(RobotController rc, MapLocation ruinLoc) {
+        if (reportedRuins == null) reportedRuins = new long[rc.getMapHeight()];
+        if ((reportedRuins[ruinLoc.y] & (1L << ruinLoc.x)) != 0) return false;
+        if (!PackedCodec.addRuin(ruinLoc)) return false;
+        reportedRuins[ruinLoc.y] |= 1L << ruinLoc.x;
+        return true;
+    }
+
+    /**
+     * Send the first queued report message to a visible ally tower. Called at
+     * the end of a unit's turn, with whatever message it has left; reports
+     * wait in the queue until a tower is in range.
+     */
+    public static boolean sendReports(RobotController rc) throws GameActionException {
+        if (PackedCodec.messageCount() == 0) return false;
         RobotInfo[] allies = rc.senseNearbyRobots(-1, rc.getTeam());
         for (RobotInfo ally : allies) {
-            if (ally.getType().isTowerType()) {
-                return sendTo(rc, ally.getLocation(), MessageType.RUIN_FOUND, ruinLoc, 0);
+            if (ally.getType().isTowerType() && rc.canSendMessage(ally.getLocation())) {
+                rc.sendMessage(ally.getLocation(), PackedCodec.message(0));
+                Metrics.trackMessageSent();
+                PackedCodec.removeFirst();
+                return true;
             }
         }
         return false;
@@ -263,25 +275,119 @@ public class Comms {
 
     /**
      * Process incoming POI messages and update POI state.
+     * A built tower is applied after a ruin report for the same chunk.
      */
     public static void processPOIMessages(RobotController rc) throws GameActionException {
-        Message[] messages = rc.readMessages(-1);
-        for (Message m : messages) {
-            int bytes = m.getBytes();
-            MessageType type = decodeType(bytes);
-
-            if (type == MessageType.POI_TOWER) {
-                MapLocation loc = decodeLocation(bytes);
-                int payload = decodePayload(bytes);
+        Inbox.refresh(rc);
+
+        int tag = MessageType.POI_TOWER.ordinal();
+        for (int i = 0, n = Inbox.count(tag); i < n; i++) {
+            MapLocation loc = Inbox.location(tag, i);
+            int payload = Inbox.payload(tag, i);
+            if ((payload & PaintField.PAINT_FLAG) != 0 && (payload & PaintField.GONE_FLAG) != 0) {
+                POI.markAllyTower(loc, 0);  // Paint tower destroyed
+            } else {
                 POI.decodeTowerPayload(payload, loc);
-            } else if (type == MessageType.RUIN_FOUND) {
-                MapLocation loc = decodeLocation(bytes);
-                POI.markRuin(loc, 1);  // Mark as unclaimed ruin
-            } else if (type == MessageType.TOWER_BUILT) {
-                MapLocation loc = decodeLocation(bytes);
-                POI.markRuin(loc, -1);  // Ruin now has tower
-                POI.markAllyTower(loc, 1);  // Mark tower in POI
             }
         }
+
+        tag = MessageType.RUIN_FOUND.ordinal();
+        for (int i = 0, n = Inbox.count(tag); i < n; i++) {
+            POI.markRuin(Inbox.location(tag, i), 1);  // Mark as unclaimed ruin
+        }
+
+        tag = MessageType.TOWER_BUILT.ordinal();
+        for (int i = 0, n = Inbox.count(tag); i < n; i++) {
+            MapLocation loc = Inbox.location(tag, i);
+            POI.markRuin(loc, -1);  // Ruin now has tower
+            POI.markAllyTower(loc, 1);  // Mark tower in POI
+        }
+    }
+
+    // ========== Tower Relay ==========
+
+    /** Rounds before a tower relays another sighting in the same chunk */
+    public static final int ENEMY_RELAY_INTERVAL = 10;
+
+    /** Sightings older than this many rounds are not relayed, the enemy has moved on */
+    public static final int ENEMY_RELAY_MAX_AGE = 2;
+
+    // Bit x of row y: ruin already reported (units) or relayed (towers)
+    private static long[] reportedRuins = null;
+    // Round each 4x4 chunk's last sighting was relayed
+    private static final int[] enemyRelayRounds = new int[256];
+
+    /**
+     * Start this turn's relay with the reports units and towers sent us.
+     * Ruins are passed on once, enemy sightings once per chunk per
+     * ENEMY_RELAY_INTERVAL rounds and only while fresh.
+     */
+    public static void collectReports(RobotController rc) throws GameActionException {
+        Inbox.refresh(rc);
+        PackedCodec.reset();
+
+        int tag = MessageType.RUIN_FOUND.ordinal();
+        for (int i = 0, n = Inbox.count(tag); i < n; i++) {
+            reportRuin(rc, Inbox.location(tag, i));
+        }
+
+        tag = MessageType.ENEMY_SPOTTED.ordinal();
+        int since = rc.getRoundNum() - ENEMY_RELAY_MAX_AGE;
+        for (int i = 0, n = Inbox.count(tag); i < n; i++) {
+            if (Inbox.round(tag, i) >= since) {
+                queueEnemy(rc, Inbox.location(tag, i), Inbox.payload(tag, i));
+            }
+        }
+    }
+
+    /**
+     * Add an enemy sighting to the relay unless its chunk went out recently.
+     */
+    public static void queueEnemy(RobotController rc, MapLocation enemyLoc, int enemyCount) {
+        int round = rc.getRoundNum();
+        int chunk = ((enemyLoc.x >> 2) << 4) | (enemyLoc.y >> 2);
+        int last = enemyRelayRounds[chunk];
+        if (last != 0 && round - last < ENEMY_RELAY_INTERVAL) return;
+        if (PackedCodec.addEnemy(enemyLoc, enemyCount)) {
+            enemyRelayRounds[chunk] = round;
+        }
+    }
+
+    /**
+     * Add a phase change (PackedCodec.PHASE_*) to the relay.
+     */
+    public static void queuePhase(int phase) {
+        PackedCodec.addPhase(phase);
+    }
+
+    /**
+     * Send the relay to every visible ally, and the first message to the
+     * other towers, leaving reserve of this turn's direct messages unsent for
+     * later sends (a spawn's handoff). Returns number of messages sent.
+     */
+    public static int sendRelay(RobotController rc, int reserve) throws GameActionException {
+        int n = PackedCodec.messageCount();
+        if (n == 0) return 0;
+        int sent = 0;
+        int budget = GameConstants.MAX_MESSAGES_SENT_TOWER - reserve;
+
+        if (rc.canBroadcastMessage()) {
+            rc.broadcastMessage(PackedCodec.message(0));
+            Metrics.trackMessageSent();
+            sent++;
+        }
+
+        RobotInfo[] allies = rc.senseNearbyRobots(-1, rc.getTeam());
+        for (RobotInfo ally : allies) {
+            MapLocation loc = ally.getLocation();
+            for (int i = 0; i < n && budget > 0 && rc.canSendMessage(loc); i++) {
+                rc.sendMessage(loc, PackedCodec.message(i));
+                Metrics.trackMessageSent();
+                sent++;
+                budget--;
+            }
+        }
+        PackedCodec.reset();
+        return sent;
     }
 }
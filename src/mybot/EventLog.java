@@ -0,0 +1,172 @@
+package mybot;
+
+import battlecode.common.*;
+
+/**
+ * Binary event log for debugging traces.
+ *
+ * Events are a code plus up to four int arguments, written into a ring of
+ * fixed-size int records with no string building on the calling path. Log
+ * behind the ENABLED check like Profiler, so javac drops the call and its
+ * arguments when tracing is off:
+ * <pre>
+ * if (EventLog.ENABLED) EventLog.log(EventLog.TOWER_BUILDING, EventLog.loc(ruin), dist, paint);
+ * </pre>
+ * A full ring overwrites its oldest records and counts them as dropped, so a
+ * chatty unit costs the same bytecode whether or not anything is lost. Every
+ * FLUSH_INTERVAL rounds each unit prints what it has, at most FLUSH_RECORDS
+ * records a turn so a full ring spreads over several turns instead of
+ * pushing one past its bytecode limit, as lines
+ * EVT bot id unitType dropped record;record;...
+ * with each record's header (round << 8 | code) and arguments in base 36,
+ * comma separated. The events gradle task decodes these with FORMATS below
+ * into build/events/events.txt.
+ */
+public class EventLog {
+
+    // Feature toggle - the events gradle task compiles a copy with this set to true
+    public static final boolean ENABLED = false;
+
+    public static final String BOT = "mybot";
+
+    // Event codes - keep FORMATS in the same order. Arguments print with %d as
+    // ints, %l as loc() locations, %b as 0/1 flags and %k as towerKind()
+    public static final int TOWER_RUINS = 0;
+    public static final int TOWER_START = 1;
+    public static final int TOWER_SKIP_BUILDERS = 2;
+    public static final int TOWER_SKIP_ENEMY = 3;
+    public static final int TOWER_BUILDING = 4;
+    public static final int TOWER_TYPE = 5;
+    public static final int TOWER_MARKED = 6;
+    public static final int TOWER_PRECHECK = 7;
+    public static final int TOWER_LOW_PAINT = 8;
+    public static final int TOWER_SELF_PAINT = 9;
+    public static final int TOWER_PAINT = 10;
+    public static final int TOWER_PATTERN = 11;
+    public static final int TOWER_BUILT = 12;
+    public static final int SRP_START = 13;
+    public static final int SRP_BUILT = 14;
+    public static final int RETREAT = 15;
+    public static final int RETREAT_TOWER = 16;
+    public static final int RETREAT_TOOK = 17;
+    public static final int RETREAT_DONE = 18;
+    public static final int RETREAT_WAIT = 19;
+    public static final int RETREAT_SELF_PAINT = 20;
+    public static final int RETREAT_ALLY_PAINT = 21;
+    public static final int RETREAT_FIELD = 22;
+    public static final int RETREAT_SPAWN = 23;
+    public static final int RETREAT_LOST = 24;
+    public static final String[] FORMATS = {
+        "tower.ruins count=%d paint=%d",
+        "tower.start ruin=%l paint=%d",
+        "tower.skip ruin=%l builders=%d",
+        "tower.skip ruin=%l enemyTiles=%d",
+        "tower.building ruin=%l dist=%d paint=%d",
+        "tower.type kind=%k",
+        "tower.marked ruin=%l kind=%k",
+        "tower.precheck paint=%d tilesLeft=%d enemyBlocked=%d threshold=%d",
+        "tower.lowPaint paint=%d threshold=%d tilesLeft=%d",
+        "tower.selfPaint at=%l tilesLeft=%d",
+        "tower.paint tile=%l correct=%d need=%d",
+        "tower.pattern ruin=%l correct=%d need=%d enemy=%d",
+        "tower.built ruin=%l kind=%k",
+        "srp.start center=%l",
+        "srp.built center=%l",
+        "retreat hp=%d paint=%d onAlly=%b at=%l",
+        "retreat.tower at=%l dist=%d",
+        "retreat.took amount=%d paint=%d",
+        "retreat.done paint=%d towerPaint=%d",
+        "retreat.wait paint=%d onAlly=%b",
+        "retreat.selfPaint",
+        "retreat.allyPaint at=%l",
+        "retreat.field moves=%d",
+        "retreat.spawn at=%l dist=%d",
+        "retreat.lost",
+    };
+
+    // Records are RECORD ints: header then 4 arguments, CAPACITY of them
+    public static final int RECORD = 5;
+    public static final int CAPACITY = 256;  // Power of two
+    public static final int FLUSH_INTERVAL = 50;
+    public static final int FLUSH_RECORDS = 32;
+
+    private static RobotController rc;
+    private static final int[] ring = new int[RECORD * CAPACITY];
+    private static int next;     // Records written
+    private static int flushed;  // Records printed or dropped
+    private static int flushEnd; // Records to print before this flush is done
+    private static int lastFlush;
+
+    /**
+     * Call once when the robot spawns, before the first log().
+     */
+    public static void init(RobotController controller) {
+        rc = controller;
+        lastFlush = rc.getRoundNum();
+    }
+
+    public static void log(int code) {
+        log(code, 0, 0, 0, 0);
+    }
+
+    public static void log(int code, int a) {
+        log(code, a, 0, 0, 0);
+    }
+
+    public static void log(int code, int a, int b) {
+        log(code, a, b, 0, 0);
+    }
+
+    public static void log(int code, int a, int b, int c) {
+        log(code, a, b, c, 0);
+    }
+
+    public static void log(int code, int a, int b, int c, int d) {
+        int i = (next++ & (CAPACITY - 1)) * RECORD;
+        ring[i] = rc.getRoundNum() << 8 | code;
+        ring[i + 1] = a;
+        ring[i + 2] = b;
+        ring[i + 3] = c;
+        ring[i + 4] = d;
+    }
+
+    /** A location as one argument, -1 for null */
+    public static int loc(MapLocation loc) {
+        return loc == null ? -1 : loc.x << 6 | loc.y;
+    }
+
+    /** A tower type as one argument: 0 paint, 1 money, 2 defense, -1 null */
+    public static int towerKind(UnitType type) {
+        if (type == null) return -1;
+        return Utils.isPaintTower(type) ? 0 : Utils.isMoneyTower(type) ? 1 : 2;
+    }
+
+    /**
+     * Flush every FLUSH_INTERVAL rounds, FLUSH_RECORDS a turn until the
+     * records logged before the flush started are out. Call right before
+     * Clock.yield().
+     */
+    public static void endTurn() {
+        if (flushed >= flushEnd) {
+            if (rc.getRoundNum() - lastFlush < FLUSH_INTERVAL) return;
+            lastFlush = rc.getRoundNum();
+            if (next == flushed) return;
+            flushEnd = next;
+        }
+
+        // Overwritten while waiting
+        int dropped = Math.max(0, next - flushed - CAPACITY);
+        flushed += dropped;
+        if (flushEnd < flushed) flushEnd = flushed;
+        int end = Math.min(flushEnd, flushed + FLUSH_RECORDS);
+        StringBuilder line = new StringBuilder("EVT " + BOT + " " + rc.getID() + " " + rc.getType() + " " + dropped + " ");
+        for (int n = flushed; n < end; n++) {
+            int i = (n & (CAPACITY - 1)) * RECORD;
+            for (int j = 0; j < RECORD; j++) {
+                line.append(Integer.toString(ring[i + j], 36)).append(j < RECORD - 1 ? ',' : ';');
+            }
+        }
+        System.out.println(line);
+        flushed = end;
+    }
+}
@@ -1,10 +1,13 @@
 package mybot;
 
+import battlecode.common.*;
+
 /**
  * Lightweight metrics collection for bot improvement feedback.
  * All static fields - persists across turns with zero allocation cost.
  *
  * Usage: Call track*() methods at decision points, Tower reports periodically.
+ * With EXPORT on, every unit also prints its counters for the metricsDataset task (see export()).
  * Bytecode impact: ~5-10 per call (<0.1% of 15k budget)
  */
 public class Metrics {
@@ -12,6 +15,9 @@ public class Metrics {
     // Feature toggle - set false for competition
     public static final boolean ENABLED = true;  // ENABLED for debugging!
 
+    // Dataset export, switched on only in the copy the metricsDataset task builds
+    public static final boolean EXPORT = false;
+
     // ==================== PRIORITY TRACKING ====================
     // Soldier priorities P0-P8
     public static int[] soldierPriority = new int[9];
@@ -449,6 +455,90 @@ public class Metrics {
             " tiles=" + tilesExpanded);
     }
 
+    // ==================== DATASET EXPORT ====================
+    // With EXPORT on (the metricsDataset task builds such a copy of the bots),
+    // every EXPORT_WINDOW rounds each unit prints its counters so far as one
+    // line, which the metricsDataset gradle task diffs per unit and folds into
+    // per-window rows (see build.gradle):
+    // MET bot team id unitType round value,value,...
+    // Values are in COLUMNS order. Plain columns are lifetime counters and get
+    // summed per window, ":max" columns are gauges and ":first" columns are
+    // milestone rounds (-1 until reached).
+
+    public static final int EXPORT_WINDOW = 100;
+
+    public static final String[] COLUMNS = {
+        "soldierP0", "soldierP1", "soldierP2", "soldierP3", "soldierP4",
+        "soldierP5", "soldierP6", "soldierP7", "soldierP8",
+        "splasherP0", "splasherP1", "splasherP2", "splasherP3", "splasherP4", "splasherP5",
+        "mopperP0", "mopperP1", "mopperP2", "mopperP3", "mopperP4", "mopperP5",
+        "towerP0", "towerP1", "towerP2", "towerP3", "towerP4", "towerP5", "towerP6", "towerP7",
+        "soldierIdle", "soldierBuildingTower", "soldierBuildingSRP", "soldierDefending", "soldierRetreating",
+        "splasherIdle", "splasherMovingToSplash", "splasherAdvancing",
+        "mopperIdle", "mopperChasing", "mopperCleaning",
+        "tilesContested", "tilesExpanded", "towersBuilt", "towerAttempts", "ruinsDenied",
+        "attacksLanded", "splashesExecuted", "mopSwings", "retreatsTriggered",
+        "retreatFoundTower", "retreatFoundPaint", "retreatWandering", "retreatSuccessful",
+        "spawnedSoldiers", "spawnedSplashers", "spawnedMoppers", "spawnedTowers",
+        "allyPaintTiles", "enemyPaintTiles", "neutralPaintTiles",
+        "combatTurnsOnAllyPaint", "combatTurnsTotal",
+        "paintTowersBuilt", "moneyTowersBuilt", "defenseTowersBuilt",
+        "srpAttempts", "srpsBuilt", "messagesSent", "messagesActedOn",
+        "lowPaintEvents", "enemyUnitsSpotted", "enemyTowersSpotted",
+        "winProgressPct:max", "peakChips:max", "peakPaint:max",
+        "roundFirstTower:first", "roundFirstDefense:first", "roundFirstSRP:first",
+    };
+
+    /**
+     * Print this unit's counters every EXPORT_WINDOW rounds.
+     * Call once per turn behind the EXPORT check, right before Clock.yield().
+     */
+    public static void export(RobotController rc) {
+        if (!ENABLED) return;
+        int round = rc.getRoundNum();
+        if (round % EXPORT_WINDOW != 0) return;
+
+        StringBuilder line = new StringBuilder("MET mybot ");
+        line.append(rc.getTeam()).append(' ').append(rc.getID()).append(' ')
+            .append(rc.getType()).append(' ').append(round).append(' ');
+        append(line, soldierPriority);
+        append(line, splasherPriority);
+        append(line, mopperPriority);
+        append(line, towerPriority);
+        append(line, soldierStateTurns);
+        append(line, splasherStateTurns);
+        append(line, mopperStateTurns);
+        line.append(tilesContested).append(',').append(tilesExpanded).append(',')
+            .append(towersBuilt).append(',').append(towerAttempts).append(',')
+            .append(ruinsDenied).append(',').append(attacksLanded).append(',')
+            .append(splashesExecuted).append(',').append(mopSwings).append(',')
+            .append(retreatsTriggered).append(',').append(retreatFoundTower).append(',')
+            .append(retreatFoundPaint).append(',').append(retreatWandering).append(',')
+            .append(retreatSuccessful).append(',')
+            .append(unitSpawned[0]).append(',').append(unitSpawned[1]).append(',')
+            .append(unitSpawned[2]).append(',').append(unitSpawned[3]).append(',')
+            .append(allyPaintTiles).append(',').append(enemyPaintTiles).append(',')
+            .append(neutralPaintTiles).append(',')
+            .append(combatTurnsOnAllyPaint).append(',').append(combatTurnsTotal).append(',')
+            .append(paintTowersBuilt).append(',').append(moneyTowersBuilt).append(',')
+            .append(defenseTowersBuilt).append(',')
+            .append(srpAttempts).append(',').append(srpsBuilt).append(',')
+            .append(messagesSent).append(',').append(messagesActedOn).append(',')
+            .append(lowPaintEvents).append(',').append(enemyUnitsSpotted).append(',')
+            .append(enemyTowersSpotted).append(',')
+            .append(winProgressPct).append(',').append(peakChips).append(',')
+            .append(peakPaint).append(',')
+            .append(roundFirstTower).append(',').append(roundFirstDefense).append(',')
+            .append(roundFirstSRP);
+        System.out.println(line);
+    }
+
+    private static void append(StringBuilder line, int[] values) {
+        for (int i = 0; i < values.length; i++) {
+            line.append(values[i]).append(',');
+        }
+    }
+
     // ==================== GAME SUMMARY REPORTING ====================
 
     /**
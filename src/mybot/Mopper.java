@@ -1,6 +1,8 @@
 package mybot;
 
 import battlecode.common.*;
+import mybot.core.PaintField;
+import mybot.core.SwingPlanner;
 
 /**
  * Mopper behavior using Priority Chain Pattern.
@@ -56,6 +58,9 @@ public class Mopper {
         }
         lastPaintLevel = currentPaint;
 
+        // ===== PAINT FIELD: Grow distance field to paint towers =====
+        PaintField.idle(rc);
+
         // ===== METRICS: Periodic self-report =====
         if (Metrics.ENABLED && round % 500 == 0) {
             Metrics.reportMopperStats(rc.getID(), round);
@@ -189,7 +194,8 @@ public class Mopper {
     // ==================== HELPER METHODS ====================
 
     /**
-     * Try to execute a mop swing if enemies are in range.
+     * Try to execute a mop swing if enemies are in range, stepping first when
+     * a move lines up a swing that hits more of them.
      * Returns true if swing was executed.
      */
     private static boolean tryMopSwing(RobotController rc) throws GameActionException {
@@ -202,57 +208,22 @@ public class Mopper {
         MapInfo currentTile = rc.senseMapInfo(myLoc);
         Metrics.trackCombatTurn(currentTile.getPaint().isAlly());
 
-        // Find best direction to swing (hits most enemies)
-        Direction bestDir = null;
-        int bestHits = 0;
-
-        for (Direction dir : Utils.DIRECTIONS) {
-            if (!rc.canMopSwing(dir)) continue;
+        // Find best move and swing direction (hits most enemies)
+        if (!rc.isActionReady() || SwingPlanner.plan(rc, enemies) == null) return false;
 
-            // Count enemies that would be hit in this direction
-            int hits = countEnemiesInSwingDirection(rc, myLoc, dir, enemies);
-            if (hits > bestHits) {
-                bestHits = hits;
-                bestDir = dir;
-            }
-        }
+        // plan() only steps where canMove allows
+        if (SwingPlanner.bestMove != Direction.CENTER) rc.move(SwingPlanner.bestMove);
 
-        if (bestDir != null && bestHits > 0) {
-            rc.mopSwing(bestDir);
+        if (rc.canMopSwing(SwingPlanner.bestSwing)) {
+            rc.mopSwing(SwingPlanner.bestSwing);
             Metrics.trackMopSwing();
-            rc.setIndicatorString("P2: Mop swing! Hit " + bestHits + " enemies");
+            rc.setIndicatorString("P2: Mop swing! Hit " + SwingPlanner.bestHits + " enemies");
             return true;
         }
 
         return false;
     }
 
-    /**
-     * Count enemies in the swing arc for a given direction.
-     */
-    private static int countEnemiesInSwingDirection(RobotController rc, MapLocation myLoc,
-            Direction dir, RobotInfo[] enemies) {
-        int count = 0;
-
-        // Mop swing hits in a 3-tile arc in front
-        MapLocation[] swingTiles = {
-            myLoc.add(dir),
-            myLoc.add(dir.rotateLeft()),
-            myLoc.add(dir.rotateRight())
-        };
-
-        for (RobotInfo enemy : enemies) {
-            for (MapLocation tile : swingTiles) {
-                if (enemy.getLocation().equals(tile)) {
-                    count++;
-                    break;
-                }
-            }
-        }
-
-        return count;
-    }
-
     /**
      * Chase enemies to get within mop swing range.
      */
@@ -352,7 +323,18 @@ public class Mopper {
             }
         }
 
-        // Priority 2: Navigate to spawn location (ALWAYS go home, don't follow random paint)
+        // Priority 2: Follow the paint tower distance field
+        PaintField.markWalls(rc);
+        PaintField.advance(PaintField.MAX_LAYERS);
+        Direction toPaint = PaintField.gradientStep(rc);
+        if (toPaint != null) {
+            rc.setIndicatorString("P1: Following paint field (" + PaintField.distance(myLoc) + " away)");
+            Metrics.trackRetreatOutcome("tower");
+            rc.move(toPaint);
+            return;
+        }
+
+        // Priority 3: Navigate to spawn location (ALWAYS go home, don't follow random paint)
         if (spawnLocation != null) {
             int distToSpawn = myLoc.distanceSquaredTo(spawnLocation);
             rc.setIndicatorString("P1: Returning to spawn (" + distToSpawn + " away)");
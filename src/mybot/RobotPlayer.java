@@ -9,7 +9,10 @@ import battlecode.common.*;
 public class RobotPlayer {
 
     public static void run(RobotController rc) throws GameActionException {
+        if (Profiler.ENABLED) Profiler.init(rc);
+        if (EventLog.ENABLED) EventLog.init(rc);
         while (true) {
+            if (Profiler.ENABLED) Profiler.begin(Profiler.TURN);
             try {
                 switch (rc.getType()) {
                     case SOLDIER:
@@ -26,6 +29,8 @@ public class RobotPlayer {
                         Tower.run(rc);
                         break;
                 }
+                // Queued reports go out with the message the turn left over
+                if (!rc.getType().isTowerType()) Comms.sendReports(rc);
             } catch (GameActionException e) {
                 System.out.println(rc.getType() + " GameActionException: " + e.getMessage());
                 e.printStackTrace();
@@ -33,6 +38,9 @@ public class RobotPlayer {
                 System.out.println(rc.getType() + " Exception: " + e.getMessage());
                 e.printStackTrace();
             } finally {
+                if (Profiler.ENABLED) Profiler.endTurn();
+                if (EventLog.ENABLED) EventLog.endTurn();
+                if (Metrics.EXPORT) Metrics.export(rc);
                 Clock.yield();
             }
         }
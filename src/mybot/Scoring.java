@@ -1,6 +1,8 @@
 package mybot;
 
 import battlecode.common.*;
+import mybot.core.SplashPlanner;
+import mybot.core.Vision;
 
 /**
  * Centralized scoring system with pre-computed weights.
@@ -38,6 +40,9 @@ public class Scoring {
     public static final int WEIGHT_SPLASH_ENEMY = 5;    // Was 2 - much higher value
     public static final int WEIGHT_SPLASH_NEUTRAL = 1;  // Keep same
     public static final int WEIGHT_SPLASH_ALLY = -5;    // Was -3 - stronger penalty
+    // Paint lost standing on the tile we splash from, for move-and-splash plans
+    public static final int WEIGHT_SPLASH_FROM_ENEMY = -2;
+    public static final int WEIGHT_SPLASH_FROM_NEUTRAL = -1;
 
     // ==================== HEALTH/RESOURCE FACTORS ====================
     public static final int WEIGHT_LOW_HEALTH = -30;
@@ -60,12 +65,12 @@ public class Scoring {
     // ==================== SCORING METHODS ====================
 
     /**
-     * Score a tile based on paint type.
+     * Score a tile based on paint type, read from this turn's Vision sweep.
      */
     public static int scoreTile(RobotController rc, MapLocation loc) throws GameActionException {
-        if (!rc.canSenseLocation(loc)) return 0;
-
-        MapInfo info = rc.senseMapInfo(loc);
+        Vision.refresh(rc);
+        MapInfo info = Vision.info(loc);
+        if (info == null) return 0;
         if (!info.isPassable()) return THRESHOLD_BAD_TILE;
 
         int score = 0;
@@ -119,30 +124,10 @@ public class Scoring {
 
     /**
      * Score a splash target location (3x3 area).
+     * A box query on SplashPlanner's prefix sums of this turn's sweep.
      */
     public static int scoreSplashTarget(RobotController rc, MapLocation center) throws GameActionException {
-        int score = 0;
-
-        for (int dx = -1; dx <= 1; dx++) {
-            for (int dy = -1; dy <= 1; dy++) {
-                MapLocation loc = center.translate(dx, dy);
-                if (!rc.canSenseLocation(loc)) continue;
-
-                MapInfo info = rc.senseMapInfo(loc);
-                if (!info.isPassable()) continue;
-
-                PaintType paint = info.getPaint();
-                if (paint.isEnemy()) {
-                    score += WEIGHT_SPLASH_ENEMY;
-                } else if (paint == PaintType.EMPTY) {
-                    score += WEIGHT_SPLASH_NEUTRAL;
-                } else if (paint.isAlly()) {
-                    score += WEIGHT_SPLASH_ALLY;
-                }
-            }
-        }
-
-        return score;
+        return SplashPlanner.score(rc, center);
     }
 
     /**
@@ -2,7 +2,12 @@ package mybot;
 
 import battlecode.common.*;
 import mybot.core.POI;
+import mybot.core.PaintField;
+import mybot.core.RuinPattern;
+import mybot.core.SrpBoard;
+import mybot.core.SrpLattice;
 import mybot.core.Symmetry;
+import mybot.core.Vision;
 
 /**
  * Soldier behavior using Priority Chain Pattern.
@@ -12,26 +17,11 @@ import mybot.core.Symmetry;
  */
 public class Soldier {
 
-    // ==================== DEBUG LOGGING ====================
-    private static final boolean DEBUG = false;  // Set to false for competition
-
-    private static void log(RobotController rc, String prefix, String msg) {
-        if (!DEBUG) return;
-        System.out.println("[S#" + rc.getID() + " r" + rc.getRoundNum() + "] " + prefix + ": " + msg);
-    }
-
-    private static void logState(RobotController rc, SoldierState from, SoldierState to, String reason) {
-        if (!DEBUG) return;
-        System.out.println("[S#" + rc.getID() + " r" + rc.getRoundNum() + "] STATE: " + from + " -> " + to + " (" + reason + ")");
-    }
-
-    private static void logPrio(RobotController rc, int prio, String action) {
-        if (!DEBUG) return;
-        System.out.println("[S#" + rc.getID() + " r" + rc.getRoundNum() + "] P" + prio + ": " + action);
-    }
-
     private static MapLocation targetRuin = null;
     private static UnitType targetTowerType = null;  // Tower type being built
+    private static RuinPattern pattern = null;        // Paint state of the pattern being built
+    private static UnitType patternType = null;
+    private static boolean patternMarked = false;
 
     // Thresholds - SPAARK philosophy: "NEVER RETREAT!!!!!!!!"
     // SPAARK only retreats when: paint<150 AND chips<6000 AND allies<9
@@ -130,12 +120,28 @@ public class Soldier {
         // ===== POI & SYMMETRY: Lightweight updates (skip early game for bytecode) =====
         // Only run expensive sensing after round 15 to avoid bytecode issues
         if (round > 15 && round % 3 == 0) {  // Every 3rd round after r15
+            if (Profiler.ENABLED) Profiler.begin(Profiler.POI_UPDATE);
             POI.updateFromSensors(rc);
+            if (Profiler.ENABLED) Profiler.end(Profiler.POI_UPDATE);
         }
         if (round > 10) {
+            if (Profiler.ENABLED) Profiler.begin(Profiler.COMMS);
             Comms.processPOIMessages(rc);
+            if (Profiler.ENABLED) Profiler.end(Profiler.COMMS);
+        }
+
+        // ===== SYMMETRY: Cross-check vision until one symmetry is left =====
+        if (!Symmetry.isSymmetryDetermined()) {
+            Vision.refresh(rc);
+            Symmetry.update(rc, Vision.tiles());
         }
 
+        // ===== PAINT FIELD: Grow distance field to paint towers =====
+        PaintField.idle(rc);
+
+        // ===== SRP LATTICE: Tower slot, symmetry refinement (board only on change) =====
+        SrpLattice.update(rc);
+
         // ===== TRACK PAINT REFILL SUCCESS (skip first 5 rounds) =====
         int currentPaint = rc.getPaint();
         if (round > 5 && currentPaint > lastPaintLevel + 20) {
@@ -322,12 +328,12 @@ public class Soldier {
         // STRATEGIC: Only build towers AFTER round 50 when we have splashers to help
         if (round >= 50) {
             MapLocation[] ruins = rc.senseNearbyRuins(-1);
-            if (DEBUG && ruins.length > 0) {
-                log(rc, "TOWER", "found " + ruins.length + " ruins, paint=" + rc.getPaint());
+            if (EventLog.ENABLED && ruins.length > 0) {
+                EventLog.log(EventLog.TOWER_RUINS, ruins.length, rc.getPaint());
             }
             MapLocation bestRuin = findBuildableRuin(rc, ruins);
             if (bestRuin != null) {
-                logPrio(rc, 5, "starting tower at " + bestRuin + " paint=" + rc.getPaint());
+                if (EventLog.ENABLED) EventLog.log(EventLog.TOWER_START, EventLog.loc(bestRuin), rc.getPaint());
                 Metrics.trackSoldierPriority(5);
                 Metrics.trackTowerAttempt();
                 targetRuin = bestRuin;
@@ -379,7 +385,7 @@ public class Soldier {
             // Find new SRP location
             MapLocation srpLoc = findSRPLocation(rc);
             if (srpLoc != null) {
-                System.out.println("[SRP] Soldier #" + rc.getID() + " starting SRP at " + srpLoc);
+                if (EventLog.ENABLED) EventLog.log(EventLog.SRP_START, EventLog.loc(srpLoc));
                 Metrics.trackSRPAttempt();
                 targetSRP = srpLoc;
                 enterState(SoldierState.BUILDING_SRP, srpLoc, round);
@@ -702,7 +708,7 @@ public class Soldier {
             // Skip if already at builder limit (unless we're already building here)
             if (buildersAtRuin >= MAX_BUILDERS_PER_TOWER &&
                 (targetRuin == null || !targetRuin.equals(ruin))) {
-                if (DEBUG) log(rc, "TOWER", "skipping ruin at " + ruin + " - " + buildersAtRuin + " builders");
+                if (EventLog.ENABLED) EventLog.log(EventLog.TOWER_SKIP_BUILDERS, EventLog.loc(ruin), buildersAtRuin);
                 continue;
             }
 
@@ -720,7 +726,7 @@ public class Soldier {
             // Even 1-2 enemy tiles can block tower completion indefinitely.
             // Better to find a clean ruin than waste time on a blocked one.
             if (enemyPaintCount > 0) {
-                if (DEBUG) log(rc, "TOWER", "skipping ruin at " + ruin + " - " + enemyPaintCount + " enemy tiles");
+                if (EventLog.ENABLED) EventLog.log(EventLog.TOWER_SKIP_ENEMY, EventLog.loc(ruin), enemyPaintCount);
                 continue;
             }
 
@@ -762,15 +768,12 @@ public class Soldier {
         // If close to ruin (dist < 4), continue building even with enemies
 
         // DEBUG: Track tower building attempts
-        if (Metrics.ENABLED) {
-            System.out.println("[BUILDING #" + rc.getID() + " r" + rc.getRoundNum() + "] " +
-                "ruin=" + ruin + " dist=" + dist + " paint=" + myPaint);
-        }
+        if (EventLog.ENABLED) EventLog.log(EventLog.TOWER_BUILDING, EventLog.loc(ruin), dist, myPaint);
 
         // Choose tower type if not already set
         if (targetTowerType == null) {
             targetTowerType = chooseTowerType(rc);
-            log(rc, "TOWER", "chose type=" + targetTowerType);
+            if (EventLog.ENABLED) EventLog.log(EventLog.TOWER_TYPE, EventLog.towerKind(targetTowerType));
         }
 
         String towerName = targetTowerType.toString().replace("LEVEL_ONE_", "");
@@ -787,32 +790,26 @@ public class Soldier {
             return;
         }
 
-        // CRITICAL: Mark pattern FIRST before counting tiles!
-        // Otherwise tilesRemaining=0 because no tiles are marked yet.
-        if (rc.canMarkTowerPattern(targetTowerType, ruin)) {
-            rc.markTowerPattern(targetTowerType, ruin);
-            if (Metrics.ENABLED) {
-                System.out.println("[MARKED #" + rc.getID() + " r" + rc.getRoundNum() + "] " +
-                    "pattern marked for " + targetTowerType + " at " + ruin);
-            }
+        // Pattern state carries over between turns, only changed tiles are rechecked
+        if (pattern == null || !pattern.ruin.equals(ruin) || patternType != targetTowerType) {
+            pattern = new RuinPattern(ruin, rc.getTowerPattern(targetTowerType));
+            patternType = targetTowerType;
+            patternMarked = false;
         }
 
-        // NOW count how many tiles still need painting (after marking!)
-        MapInfo[] preCheckTiles = rc.senseNearbyMapInfos(ruin, 8);
-        int tilesRemaining = 0;
-        int tilesEnemyBlocked = 0;
-        for (MapInfo tile : preCheckTiles) {
-            PaintType mark = tile.getMark();
-            PaintType paint = tile.getPaint();
-            if (mark != PaintType.EMPTY && mark != paint) {
-                if (paint.isEnemy()) {
-                    tilesEnemyBlocked++;
-                } else {
-                    tilesRemaining++;
-                }
+        // Mark once so other builders see the pattern, we paint from our own mask
+        if (!patternMarked && rc.canMarkTowerPattern(targetTowerType, ruin)) {
+            rc.markTowerPattern(targetTowerType, ruin);
+            patternMarked = true;
+            if (EventLog.ENABLED) {
+                EventLog.log(EventLog.TOWER_MARKED, EventLog.loc(ruin), EventLog.towerKind(targetTowerType));
             }
         }
 
+        pattern.update(rc);
+        int tilesRemaining = pattern.remaining();
+        int tilesEnemyBlocked = pattern.blocked();
+
         // Calculate paint threshold - ULTRA AGGRESSIVE to complete patterns!
         // Problem: Soldiers need ~22 tiles, can paint ~7/trip. With threshold=20, they retreat too early.
         // Solution: Paint until nearly empty, then retreat.
@@ -827,10 +824,8 @@ public class Soldier {
         // NO distance penalty - we want soldiers to commit to building
 
         // DEBUG: Show pre-check status with threshold
-        if (Metrics.ENABLED && dist <= 2) {
-            System.out.println("[PRECHECK #" + rc.getID() + " r" + rc.getRoundNum() + "] " +
-                "dist=" + dist + " paint=" + myPaint + " tilesLeft=" + tilesRemaining +
-                " enemyBlocked=" + tilesEnemyBlocked + " threshold=" + paintThreshold);
+        if (EventLog.ENABLED && dist <= 2) {
+            EventLog.log(EventLog.TOWER_PRECHECK, myPaint, tilesRemaining, tilesEnemyBlocked, paintThreshold);
         }
 
         // CRITICAL FIX: Even with threshold=0, if we have 0 paint we MUST retreat!
@@ -839,8 +834,9 @@ public class Soldier {
                               (rc.getPaint() < paintThreshold);
 
         if (mustRetreat) {
-            log(rc, "TOWER", "LOW PAINT=" + rc.getPaint() + " threshold=" + paintThreshold +
-                " tilesLeft=" + tilesRemaining + " -> RETREATING");
+            if (EventLog.ENABLED) {
+                EventLog.log(EventLog.TOWER_LOW_PAINT, rc.getPaint(), paintThreshold, tilesRemaining);
+            }
             rc.setIndicatorString("P6: Low paint, switching to RETREAT");
             // CRITICAL: Change state so we don't loop back here!
             state = SoldierState.RETREATING;
@@ -854,65 +850,36 @@ public class Soldier {
         // IMPORTANT: Paint the tile under ourselves FIRST to reduce paint drain damage!
         // Standing on neutral/enemy paint costs health AND paint per turn
         // BUT: Don't self-paint if we're almost done (<=3 tiles left) - prioritize pattern!
-        MapInfo currentTile = rc.senseMapInfo(myLoc);
-        if (!currentTile.getPaint().isAlly() && rc.canAttack(myLoc) && tilesRemaining > 3) {
-            if (Metrics.ENABLED) {
-                System.out.println("[SELF-PAINT #" + rc.getID() + " r" + rc.getRoundNum() + "] " +
-                    "painting self at " + myLoc + " tilesLeft=" + tilesRemaining);
-            }
-            rc.attack(myLoc);  // Paint ourselves to reduce damage
+        // On a pattern tile the right color counts toward the pattern too
+        PaintType under = Vision.paint(0, 0);
+        if (under != null && !under.isAlly() && rc.canAttack(myLoc) && tilesRemaining > 3) {
+            if (EventLog.ENABLED) EventLog.log(EventLog.TOWER_SELF_PAINT, EventLog.loc(myLoc), tilesRemaining);
+            boolean secondary = pattern.wantsSecondary(myLoc);
+            rc.attack(myLoc, secondary);  // Paint ourselves to reduce damage
+            pattern.painted(myLoc, secondary);
             return;  // Continue building next turn
         }
 
-        MapInfo[] patternTiles = rc.senseNearbyMapInfos(ruin, 8);
-        int tilesNeedingPaint = 0;
-        int tilesEnemyPaint = 0;
-        int tilesCorrect = 0;
-        MapLocation tileToMoveTo = null;  // Track a tile we need to get closer to
-
-        for (MapInfo tile : patternTiles) {
-            PaintType mark = tile.getMark();
-            PaintType paint = tile.getPaint();
-
-            if (mark != PaintType.EMPTY) {
-                if (mark == paint) {
-                    tilesCorrect++;  // Already painted correctly
-                } else {
-                    tilesNeedingPaint++;
-                    MapLocation tileLoc = tile.getMapLocation();
-
-                    // Soldiers CAN'T paint over enemy paint - need splasher help
-                    if (paint.isEnemy()) {
-                        tilesEnemyPaint++;
-                        continue;  // Skip enemy tiles
-                    }
-
-                    boolean secondary = (mark == PaintType.ALLY_SECONDARY);
-                    if (rc.canAttack(tileLoc)) {
-                        if (Metrics.ENABLED) {
-                            System.out.println("[PAINT #" + rc.getID() + " r" + rc.getRoundNum() + "] " +
-                                "painting " + tileLoc + " correct=" + tilesCorrect + " need=" + tilesNeedingPaint);
-                        }
-                        rc.attack(tileLoc, secondary);
-                        return;
-                    } else {
-                        // Can't attack - remember this tile to move towards it
-                        if (tileToMoveTo == null) {
-                            tileToMoveTo = tileLoc;
-                        }
-                    }
-                }
-            }
+        // Paint the tile closest to where we will stand, stepping first if none is in range.
+        // Soldiers CAN'T paint over enemy paint - those tiles are left for splashers
+        MapLocation tile = pattern.nextTile(myLoc);
+        if (tile != null && !rc.canAttack(tile) && rc.isMovementReady()) {
+            Navigation.moveTo(rc, tile);
+            tile = pattern.nextTile(rc.getLocation());
         }
-
-        // If we couldn't paint anything but there are tiles needing paint, move toward them
-        if (tileToMoveTo != null && rc.isMovementReady()) {
-            Navigation.moveTo(rc, tileToMoveTo);
-            return;
+        if (tile != null && rc.canAttack(tile)) {
+            boolean secondary = pattern.wantsSecondary(tile);
+            if (EventLog.ENABLED) {
+                EventLog.log(EventLog.TOWER_PAINT, EventLog.loc(tile), pattern.correctCount(),
+                    RuinPattern.TILES - pattern.correctCount());
+            }
+            rc.attack(tile, secondary);
+            pattern.painted(tile, secondary);
         }
+        if (pattern.remaining() > 0) return;
 
         // If all remaining tiles have enemy paint, we need splasher help
-        if (tilesEnemyPaint > 0 && tilesNeedingPaint == tilesEnemyPaint) {
+        if (tilesEnemyBlocked > 0) {
             rc.setIndicatorString("P6: Need splasher help - enemy paint!");
             // Already broadcasted TOWER_BUILDING, just wait or move away
         }
@@ -920,10 +887,9 @@ public class Soldier {
         boolean canComplete = rc.canCompleteTowerPattern(targetTowerType, ruin);
 
         // DEBUG: Show pattern status when we reach this point (all tiles either correct or unreachable)
-        if (Metrics.ENABLED) {
-            System.out.println("[PATTERN #" + rc.getID() + " r" + rc.getRoundNum() + "] " +
-                "ruin=" + ruin + " correct=" + tilesCorrect + " need=" + tilesNeedingPaint +
-                " enemy=" + tilesEnemyPaint + " canComplete=" + canComplete);
+        if (EventLog.ENABLED) {
+            EventLog.log(EventLog.TOWER_PATTERN, EventLog.loc(ruin), pattern.correctCount(),
+                RuinPattern.TILES - pattern.correctCount(), pattern.blocked());
         }
 
         if (canComplete) {
@@ -935,7 +901,7 @@ public class Soldier {
                 Metrics.trackMilestone("defense", rc.getRoundNum());
             }
             rc.setTimelineMarker(towerName + " built!", 0, 255, 0);
-            System.out.println("[TOWER BUILT] " + targetTowerType + " at " + ruin);
+            if (EventLog.ENABLED) EventLog.log(EventLog.TOWER_BUILT, EventLog.loc(ruin), EventLog.towerKind(targetTowerType));
             targetRuin = null;
             targetTowerType = null;  // Reset for next tower
         }
@@ -1037,9 +1003,8 @@ public class Soldier {
         // Log current tile paint type and health
         MapInfo currentTile = rc.senseMapInfo(myLoc);
         PaintType standingOn = currentTile.getPaint();
-        if (DEBUG) {
-            log(rc, "RETREAT", "hp=" + rc.getHealth() + " paint=" + rc.getPaint() +
-                " standing on " + standingOn + " at " + myLoc);
+        if (EventLog.ENABLED) {
+            EventLog.log(EventLog.RETREAT, rc.getHealth(), rc.getPaint(), standingOn.isAlly() ? 1 : 0, EventLog.loc(myLoc));
         }
 
         // Priority 1: Find visible PAINT or DEFENSE tower (they have paint to give)
@@ -1060,7 +1025,7 @@ public class Soldier {
 
         if (towerLoc != null) {
             int dist = myLoc.distanceSquaredTo(towerLoc);
-            log(rc, "RETREAT", "found tower at " + towerLoc + " dist=" + dist);
+            if (EventLog.ENABLED) EventLog.log(EventLog.RETREAT_TOWER, EventLog.loc(towerLoc), dist);
 
             // If adjacent to tower (dist <= 2), TAKE paint from tower!
             if (dist <= 2) {
@@ -1081,11 +1046,11 @@ public class Soldier {
                         if (rc.canTransferPaint(towerLoc, takeAmount)) {
                             rc.transferPaint(towerLoc, takeAmount);
                             int afterPaint = rc.getPaint();
-                            log(rc, "RETREAT", "TOOK " + canTake + " paint! Now have " + afterPaint);
+                            if (EventLog.ENABLED) EventLog.log(EventLog.RETREAT_TOOK, canTake, afterPaint);
                             rc.setIndicatorString("Refilled: " + afterPaint + " paint");
                             // SPAARK exits retreat at 150+ paint - stay healthy!
                             if (afterPaint >= 150) {
-                                log(rc, "RETREAT", "Paint good (" + afterPaint + ") - resuming normal ops");
+                                if (EventLog.ENABLED) EventLog.log(EventLog.RETREAT_DONE, afterPaint, towerPaint);
                                 state = SoldierState.IDLE;
                             }
                             return;
@@ -1095,7 +1060,7 @@ public class Soldier {
                     // If tower has no paint, don't wait forever!
                     // Exit retreat with whatever paint we have if tower is depleted
                     if (towerPaint < 15 && currentPaint >= PAINT_MINIMUM) {
-                        log(rc, "RETREAT", "Tower low paint=" + towerPaint + ", exiting with " + currentPaint);
+                        if (EventLog.ENABLED) EventLog.log(EventLog.RETREAT_DONE, currentPaint, towerPaint);
                         state = SoldierState.IDLE;
                         return;
                     }
@@ -1103,14 +1068,14 @@ public class Soldier {
 
                 // If paint is enough to fight (SPAARK uses 150), we can leave
                 if (currentPaint >= 150) {
-                    log(rc, "RETREAT", "Paint refilled to " + currentPaint + ", exiting retreat");
+                    if (EventLog.ENABLED) EventLog.log(EventLog.RETREAT_DONE, currentPaint, -1);
                     state = SoldierState.IDLE;
                     return;
                 }
 
                 // If on ally paint, stay put and try again next turn
                 if (standingOn.isAlly()) {
-                    log(rc, "RETREAT", "Waiting on ally paint near tower - paint=" + rc.getPaint());
+                    if (EventLog.ENABLED) EventLog.log(EventLog.RETREAT_WAIT, rc.getPaint(), 1);
                     rc.setIndicatorString("Waiting for paint transfer...");
                     return;
                 }
@@ -1118,7 +1083,7 @@ public class Soldier {
                 // On EMPTY/enemy paint - need to get to ally paint
                 // First: If we have paint, paint our current tile to stop drain!
                 if (rc.getPaint() >= 5 && rc.canAttack(myLoc)) {
-                    log(rc, "RETREAT", "painting current tile to stop drain");
+                    if (EventLog.ENABLED) EventLog.log(EventLog.RETREAT_SELF_PAINT);
                     rc.attack(myLoc);
                     return;
                 }
@@ -1140,13 +1105,13 @@ public class Soldier {
                     }
                 }
                 if (bestAllyTile != null) {
-                    log(rc, "RETREAT", "moving to ally paint at " + bestAllyTile);
+                    if (EventLog.ENABLED) EventLog.log(EventLog.RETREAT_ALLY_PAINT, EventLog.loc(bestAllyTile));
                     Navigation.moveTo(rc, bestAllyTile);
                     return;
                 }
 
                 // No ally paint near tower - just wait here and hope tower paints
-                log(rc, "RETREAT", "no ally paint near tower, waiting");
+                if (EventLog.ENABLED) EventLog.log(EventLog.RETREAT_WAIT, rc.getPaint(), 0);
                 return;
             }
 
@@ -1157,12 +1122,24 @@ public class Soldier {
             return;
         }
 
+        // Priority 1.5: Follow the paint tower distance field
+        PaintField.markWalls(rc);
+        PaintField.advance(PaintField.MAX_LAYERS);
+        Direction toPaint = PaintField.gradientStep(rc);
+        if (toPaint != null) {
+            if (EventLog.ENABLED) EventLog.log(EventLog.RETREAT_FIELD, PaintField.distance(myLoc));
+            rc.setIndicatorString("P3: Following paint field");
+            Metrics.trackRetreatOutcome("tower");
+            rc.move(toPaint);
+            return;
+        }
+
         // Priority 2: Follow ally paint trail toward spawn
         // Skip to spawn if we're not making progress toward a tower
         if (spawnLocation != null) {
             int distToSpawn = myLoc.distanceSquaredTo(spawnLocation);
             if (distToSpawn > 4) {  // If not near spawn, go directly there
-                log(rc, "RETREAT", "heading to spawn at " + spawnLocation + " dist=" + distToSpawn);
+                if (EventLog.ENABLED) EventLog.log(EventLog.RETREAT_SPAWN, EventLog.loc(spawnLocation), distToSpawn);
                 rc.setIndicatorString("P3: Returning to spawn (" + distToSpawn + " away)");
                 Metrics.trackRetreatOutcome("spawn");
                 Navigation.moveTo(rc, spawnLocation);
@@ -1173,7 +1150,7 @@ public class Soldier {
         // Priority 3: Navigate to spawn location
         if (spawnLocation != null) {
             int distToSpawn = myLoc.distanceSquaredTo(spawnLocation);
-            log(rc, "RETREAT", "heading to spawn at " + spawnLocation + " dist=" + distToSpawn);
+            if (EventLog.ENABLED) EventLog.log(EventLog.RETREAT_SPAWN, EventLog.loc(spawnLocation), distToSpawn);
             rc.setIndicatorString("P3: Returning to spawn (" + distToSpawn + " away)");
             rc.setIndicatorLine(myLoc, spawnLocation, 255, 255, 0);
             Metrics.trackRetreatOutcome("wandering");
@@ -1182,7 +1159,7 @@ public class Soldier {
         }
 
         // Fallback: Random movement
-        log(rc, "RETREAT", "LOST - no spawn, no paint, no tower!");
+        if (EventLog.ENABLED) EventLog.log(EventLog.RETREAT_LOST);
         rc.setIndicatorString("P3: LOST - no spawn location!");
         Metrics.trackRetreatOutcome("wandering");
         Utils.tryMoveRandom(rc);
@@ -1358,59 +1335,38 @@ public class Soldier {
 
     /**
      * Find a suitable location to build an SRP.
-     * Strategy: Check all visible passable tiles - canMarkResourcePattern is the key filter.
+     * Strategy: SrpBoard keeps which centers are still possible map-wide, so this is
+     * a lookup - the slot our tower handed us, then centers that tile with a built
+     * SRP, then lattice slots, then the closest.
      */
     private static MapLocation findSRPLocation(RobotController rc) throws GameActionException {
-        MapLocation myLoc = rc.getLocation();
-        MapLocation best = null;
-        int bestScore = Integer.MIN_VALUE;
-
-        // Get all visible tiles and find valid SRP centers
-        MapInfo[] tiles = rc.senseNearbyMapInfos();
-        for (MapInfo tile : tiles) {
-            if (!tile.isPassable()) continue;  // Must be passable
-
-            MapLocation candidate = tile.getMapLocation();
-
-            // Check if we can mark SRP here (API handles all requirements)
-            if (!rc.canMarkResourcePattern(candidate)) continue;
-
-            // Score the location (prefer ally paint, penalize enemy)
-            int score = scoreSRPLocation(rc, candidate);
-            if (score > bestScore) {
-                bestScore = score;
-                best = candidate;
-            }
-        }
-
-        return best;
+        SrpLattice.refresh(rc);
+        MapLocation slot = SrpLattice.slot();
+        if (slot != null && SrpBoard.isValid(slot)) return slot;
+        return SrpBoard.next(rc.getLocation());
     }
 
+    // srpBlocker() results
+    private static final int SRP_BLOCKED = 1;
+    private static final int SRP_ENEMY_PAINT = 2;
+
     /**
-     * Score a potential SRP location based on:
-     * - Ally paint coverage (higher = better)
-     * - Enemy paint (penalty)
-     * - Distance from us (closer = better)
+     * Why an SRP can't go at center: SRP_BLOCKED for a wall, ruin or map edge in
+     * its 5x5, SRP_ENEMY_PAINT for enemy paint on it, 0 if nothing in sight.
      */
-    private static int scoreSRPLocation(RobotController rc, MapLocation center) throws GameActionException {
-        int score = 0;
-        int allyPaint = 0;
-
-        // Check 5x5 area
+    private static int srpBlocker(RobotController rc, MapLocation center) throws GameActionException {
+        int result = 0;
         for (int dx = -2; dx <= 2; dx++) {
             for (int dy = -2; dy <= 2; dy++) {
                 MapLocation tile = center.translate(dx, dy);
-                if (!rc.canSenseLocation(tile)) return -1000;
+                if (!rc.onTheMap(tile)) return SRP_BLOCKED;
+                if (!rc.canSenseLocation(tile)) continue;
                 MapInfo info = rc.senseMapInfo(tile);
-                if (!info.isPassable()) return -1000;  // Wall/ruin blocks SRP
-                if (info.getPaint().isAlly()) allyPaint++;
-                if (info.getPaint().isEnemy()) score -= 5;  // Penalty for enemy paint
+                if (!info.isPassable()) return SRP_BLOCKED;
+                if (info.getPaint().isEnemy()) result = SRP_ENEMY_PAINT;
             }
         }
-
-        score += allyPaint * 2;  // Reward ally paint coverage
-        score -= rc.getLocation().distanceSquaredTo(center) / 4;  // Closer is better
-        return score;
+        return result;
     }
 
     /**
@@ -1425,14 +1381,26 @@ public class Soldier {
         // Step 1: Mark the pattern if not marked
         if (rc.canMarkResourcePattern(center)) {
             rc.markResourcePattern(center);
+        } else if (myLoc.equals(center) && rc.senseMapInfo(center).getMark() == PaintType.EMPTY) {
+            // Standing on it and still can't mark. Walls and ruins in the 5x5 rule it
+            // out for good, enemy paint until it's cleaned (the board tracks that);
+            // anything else passes, so stay and retry until SRP_TIMEOUT
+            int blocker = srpBlocker(rc, center);
+            if (blocker != 0) {
+                if (blocker == SRP_BLOCKED) SrpBoard.disqualify(center);
+                targetSRP = null;
+                state = SoldierState.IDLE;
+            }
+            return;
         }
 
         // Step 2: Check if we can complete
         if (rc.canCompleteResourcePattern(center)) {
             rc.completeResourcePattern(center);
+            SrpBoard.addCenter(center);
             Metrics.trackSRPBuilt();
             Metrics.trackMilestone("srp", rc.getRoundNum());
-            System.out.println("[SRP BUILT] #" + rc.getID() + " completed at " + center);
+            if (EventLog.ENABLED) EventLog.log(EventLog.SRP_BUILT, EventLog.loc(center));
             rc.setTimelineMarker("SRP built!", 255, 255, 0);
             targetSRP = null;
             state = SoldierState.IDLE;
@@ -1442,7 +1410,6 @@ public class Soldier {
         // Step 3: Paint pattern tiles
         boolean[][] pattern = rc.getResourcePattern();
         int tilesNeedingPaint = 0;
-        int tilesWithMarks = 0;
         MapLocation tileToMoveTo = null;
 
         for (int dx = -2; dx <= 2; dx++) {
@@ -1454,8 +1421,6 @@ public class Soldier {
                 PaintType mark = info.getMark();
                 PaintType paint = info.getPaint();
 
-                if (mark != PaintType.EMPTY) tilesWithMarks++;
-
                 // Need to paint if mark doesn't match current paint
                 if (mark != PaintType.EMPTY && mark != paint) {
                     tilesNeedingPaint++;
@@ -1477,8 +1442,8 @@ public class Soldier {
         // Move closer to tiles that need painting
         if (tileToMoveTo != null) {
             Navigation.moveTo(rc, tileToMoveTo);
-        } else if (tilesNeedingPaint == 0 && tilesWithMarks > 0) {
-            // All tiles painted but can't complete - move to center
+        } else if (tilesNeedingPaint == 0) {
+            // All tiles painted but can't complete, or not marked yet - move to center
             Navigation.moveTo(rc, center);
         }
     }
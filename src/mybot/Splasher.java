@@ -1,6 +1,10 @@
 package mybot;
 
 import battlecode.common.*;
+import mybot.core.PaintField;
+import mybot.core.SplashPlanner;
+import mybot.core.Symmetry;
+import mybot.core.Vision;
 
 /**
  * Splasher behavior using Priority Chain Pattern.
@@ -54,6 +58,15 @@ public class Splasher {
         }
         lastPaintLevel = currentPaint;
 
+        // ===== SYMMETRY: Cross-check vision until one symmetry is left =====
+        if (!Symmetry.isSymmetryDetermined()) {
+            Vision.refresh(rc);
+            Symmetry.update(rc, Vision.tiles());
+        }
+
+        // ===== PAINT FIELD: Grow distance field to paint towers =====
+        PaintField.idle(rc);
+
         // ===== METRICS: Periodic self-report =====
         if (Metrics.ENABLED && round % 500 == 0) {
             Metrics.reportSplasherStats(rc.getID(), round);
@@ -277,31 +290,33 @@ public class Splasher {
      * Find the best location to splash (maximize value).
      */
     private static MapLocation findBestSplashTarget(RobotController rc) throws GameActionException {
-        MapInfo[] tiles = rc.senseNearbyMapInfos();
-        MapLocation myLoc = rc.getLocation();
-
-        MapLocation best = null;
-        int bestScore = 0;
-
-        for (MapInfo tile : tiles) {
-            if (!tile.isPassable()) continue;
-
-            MapLocation loc = tile.getMapLocation();
-            int dist = myLoc.distanceSquaredTo(loc);
-
-            // Must be in or near attack range
-            if (dist > rc.getType().actionRadiusSquared + 4) continue;
-
-            int score = Scoring.scoreSplashTarget(rc, loc);
-            if (score > bestScore) {
-                bestScore = score;
-                best = loc;
-            }
-        }
-
+        if (Profiler.ENABLED) Profiler.begin(Profiler.SPLASH);
+        // Passable centers in or near attack range (radius² 4 + 4)
+        MapLocation best = SplashPlanner.best(rc);
+        if (Profiler.ENABLED) Profiler.end(Profiler.SPLASH);
         return best;
     }
 
+    /**
+     * Take the best move and splash pair from SplashPlanner if it is worth a
+     * splash, stepping first when the pair needs it.
+     */
+    private static boolean trySplashPlan(RobotController rc) throws GameActionException {
+        // Only step if the splash can follow, or the move is wasted
+        if (!rc.isActionReady() || rc.getPaint() < rc.getType().attackCost) return false;
+        MapLocation target = SplashPlanner.plan(rc);
+        if (target == null) return false;
+
+        // plan() only steps where canMove() allows
+        Direction move = SplashPlanner.planMove;
+        if (move != Direction.CENTER) rc.move(move);
+        if (!rc.canAttack(target)) return false;
+        rc.attack(target);
+        Metrics.trackSplash();
+        rc.setIndicatorDot(target, 0, 255, 255);
+        return true;
+    }
+
     // Splash scoring now in Scoring.java
 
     /**
@@ -336,6 +351,11 @@ public class Splasher {
         int mapHeight = rc.getMapHeight();
         MapLocation mapCenter = new MapLocation(mapWidth / 2, mapHeight / 2);
 
+        // Once the symmetry is known, head for the enemy tower mirroring our spawn
+        if (spawnLocation != null && Symmetry.isSymmetryDetermined()) {
+            return Symmetry.predictEnemyTower(spawnLocation);
+        }
+
         // If we have spawn location, push AWAY from it (toward enemy)
         if (spawnLocation != null) {
             // Vector from spawn to us, extended further
@@ -413,7 +433,18 @@ public class Splasher {
             }
         }
 
-        // Priority 2: Navigate to spawn location (ALWAYS go home, don't follow random paint)
+        // Priority 2: Follow the paint tower distance field
+        PaintField.markWalls(rc);
+        PaintField.advance(PaintField.MAX_LAYERS);
+        Direction toPaint = PaintField.gradientStep(rc);
+        if (toPaint != null) {
+            rc.setIndicatorString("P1: Following paint field (" + PaintField.distance(myLoc) + " away)");
+            Metrics.trackRetreatOutcome("tower");
+            rc.move(toPaint);
+            return;
+        }
+
+        // Priority 3: Navigate to spawn location (ALWAYS go home, don't follow random paint)
         if (spawnLocation != null) {
             int distToSpawn = myLoc.distanceSquaredTo(spawnLocation);
             rc.setIndicatorString("P1: Returning to spawn (" + distToSpawn + " away)");
@@ -512,13 +543,9 @@ public class Splasher {
             return;
         }
 
-        // Check if we can now attack
-        if (rc.canAttack(stateTarget)) {
-            int score = Scoring.scoreSplashTarget(rc, stateTarget);
-            rc.attack(stateTarget);
-            Metrics.trackSplash();
-            rc.setIndicatorString("FSM: SPLASH! Score=" + score);
-            rc.setIndicatorDot(stateTarget, 0, 255, 255);
+        // Splash now if some move and splash pair is worth it, not only at the target
+        if (trySplashPlan(rc)) {
+            rc.setIndicatorString("FSM: SPLASH! Score=" + SplashPlanner.bestScore);
             state = SplasherState.IDLE;
             return;
         }
@@ -535,15 +562,9 @@ public class Splasher {
         rc.setIndicatorString("FSM: ADVANCING_TERRITORY t=" + stateTurns);
 
         // Check for splash opportunities along the way
-        MapLocation splashTarget = findBestSplashTarget(rc);
-        if (splashTarget != null) {
-            int score = Scoring.scoreSplashTarget(rc, splashTarget);
-            if (score >= Scoring.THRESHOLD_SPLASH_WORTH && rc.canAttack(splashTarget)) {
-                rc.attack(splashTarget);
-                Metrics.trackSplash();
-                rc.setIndicatorString("FSM: OPPORTUNISTIC SPLASH!");
-                return;
-            }
+        if (trySplashPlan(rc)) {
+            rc.setIndicatorString("FSM: OPPORTUNISTIC SPLASH!");
+            return;
         }
 
         // Continue toward territory target
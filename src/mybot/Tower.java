@@ -1,6 +1,9 @@
 package mybot;
 
 import battlecode.common.*;
+import mybot.core.PackedCodec;
+import mybot.core.PaintField;
+import mybot.core.SrpLattice;
 import mybot.strategy.FocusFireCoordinator;
 import mybot.strategy.SpawnManager;
 
@@ -127,30 +130,33 @@ public class Tower {
             FocusFireCoordinator.coordinateAttack(rc);
         }
 
-        // ===== PRIORITY 4: BROADCAST THREATS =====
+        // ===== PRIORITY 4: RELAY REPORTS =====
+        // Unit reports and our own sighting, packed and without repeats
+        Comms.collectReports(rc);
         if (enemies.length > 0) {
             RobotInfo closest = Utils.closestRobot(myLoc, enemies);
             if (closest != null) {
-                Comms.broadcastToAllies(rc, Comms.MessageType.ENEMY_SPOTTED,
-                    closest.getLocation(), enemies.length);
+                Comms.queueEnemy(rc, closest.getLocation(), enemies.length);
             }
         }
 
         // ===== PRIORITY 4.5: PHASE COORDINATION =====
         if (round - lastPhaseBroadcast >= PHASE_BROADCAST_INTERVAL) {
             if (panicMode || inRushMode) {
-                Comms.broadcastToAllies(rc, Comms.MessageType.PHASE_DEFEND, myLoc, 0);
+                Comms.queuePhase(PackedCodec.PHASE_DEFEND);
                 lastPhaseBroadcast = round;
             } else if (round > LATE_GAME_ROUND || Utils.isEconomyStrong()) {
                 // Late game OR strong economy: all-out attack
-                Comms.broadcastToAllies(rc, Comms.MessageType.PHASE_ALL_OUT_ATTACK, myLoc, 0);
+                Comms.queuePhase(PackedCodec.PHASE_ALL_OUT_ATTACK);
                 lastPhaseBroadcast = round;
             } else if (Utils.isEconomyWeak() && round > 300) {
                 // Weak economy after early game: defensive posture
-                Comms.broadcastToAllies(rc, Comms.MessageType.PHASE_DEFEND, myLoc, 0);
+                Comms.queuePhase(PackedCodec.PHASE_DEFEND);
                 lastPhaseBroadcast = round;
             }
         }
+        // Leave room for the paint towers and SRP slot a spawn hands over
+        Comms.sendRelay(rc, PaintField.handoffMessages() + 1);
 
         // ===== PRIORITY 5: SPAWN UNITS (BEFORE attacking!) =====
         // CRITICAL: Spawning and attacking both use the action cooldown.
@@ -339,7 +345,7 @@ public class Tower {
                 MapLocation spawnLoc = findSpawnLocation(rc, UnitType.MOPPER, enemies);
                 if (spawnLoc != null && rc.canBuildRobot(UnitType.MOPPER, spawnLoc)) {
                     rc.buildRobot(UnitType.MOPPER, spawnLoc);
-                    trackSpawn(UnitType.MOPPER, round);
+                    trackSpawn(rc, UnitType.MOPPER, spawnLoc, round);
                     return UnitType.MOPPER;
                 }
             }
@@ -352,7 +358,7 @@ public class Tower {
             MapLocation spawnLoc = findSpawnLocation(rc, unitType, enemies);
             if (spawnLoc != null && rc.canBuildRobot(unitType, spawnLoc)) {
                 rc.buildRobot(unitType, spawnLoc);
-                trackSpawn(unitType, round);
+                trackSpawn(rc, unitType, spawnLoc, round);
                 return unitType;
             }
             // If can't spawn requested type, try soldier as fallback
@@ -360,7 +366,7 @@ public class Tower {
                 spawnLoc = findSpawnLocation(rc, UnitType.SOLDIER, enemies);
                 if (spawnLoc != null && rc.canBuildRobot(UnitType.SOLDIER, spawnLoc)) {
                     rc.buildRobot(UnitType.SOLDIER, spawnLoc);
-                    trackSpawn(UnitType.SOLDIER, round);
+                    trackSpawn(rc, UnitType.SOLDIER, spawnLoc, round);
                     return UnitType.SOLDIER;
                 }
             }
@@ -371,7 +377,7 @@ public class Tower {
         MapLocation spawnLoc = findSpawnLocation(rc, unitType, enemies);
         if (spawnLoc != null && rc.canBuildRobot(unitType, spawnLoc)) {
             rc.buildRobot(unitType, spawnLoc);
-            trackSpawn(unitType, round);
+            trackSpawn(rc, unitType, spawnLoc, round);
             return unitType;
         }
 
@@ -387,7 +393,7 @@ public class Tower {
             spawnLoc = findSpawnLocation(rc, UnitType.SPLASHER, enemies);
             if (spawnLoc != null && rc.canBuildRobot(UnitType.SPLASHER, spawnLoc)) {
                 rc.buildRobot(UnitType.SPLASHER, spawnLoc);
-                trackSpawn(UnitType.SPLASHER, round);
+                trackSpawn(rc, UnitType.SPLASHER, spawnLoc, round);
                 return UnitType.SPLASHER;
             }
         }
@@ -516,9 +522,13 @@ public class Tower {
     }
 
     /**
-     * Track spawned units for composition balance and pacing.
+     * Track spawned units for composition balance and pacing, and hand the
+     * new unit the known paint towers.
      */
-    private static void trackSpawn(UnitType type, int round) {
+    private static void trackSpawn(RobotController rc, UnitType type, MapLocation spawnLoc, int round)
+            throws GameActionException {
+        PaintField.sendSources(rc, spawnLoc);  // New units start with the paint tower field
+        if (type == UnitType.SOLDIER) SrpLattice.sendSlot(rc, spawnLoc);
         lastSpawnRound = round;  // Track for spawn pacing
         totalSpawned++;          // Track total for SPAARK-style limits
         switch (type) {
@@ -554,8 +564,17 @@ public class Tower {
      * Process incoming messages.
      */
     private static void processMessages(RobotController rc) throws GameActionException {
-        Message[] messages = rc.readMessages(-1);
-        // Future: use messages for coordination
+        // Paint tower deltas for the retreat field
+        PaintField.readMessages(rc);
+        PaintField.checkSources(rc);
+
+        if (Utils.isPaintTower(rc.getType())) {
+            MapLocation myLoc = rc.getLocation();
+            boolean isNew = PaintField.addSource(myLoc);
+            if (isNew || rc.getRoundNum() % PaintField.ANNOUNCE_INTERVAL == myLoc.x % PaintField.ANNOUNCE_INTERVAL) {
+                PaintField.broadcastSource(rc, myLoc, false);
+            }
+        }
     }
 
     /**
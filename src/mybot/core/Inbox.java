@@ -0,0 +1,151 @@
+package mybot.core;
+
+import battlecode.common.*;
+import mybot.Comms;
+
+/**
+ * This turn's messages, read and decoded once.
+ *
+ * The first refresh of a round reads rc.readMessages(-1) and buckets every
+ * message by its 4-bit type tag into preallocated arrays (packed location,
+ * payload, round sent), keeping the inbox order within a bucket. The inbox is
+ * walked newest first and each bucket filled from its back, so a full bucket
+ * holds the latest CAPACITY messages, still oldest first. After that every
+ * lookup is an array read, however many message types a unit checks.
+ *
+ * Buckets are keyed by Comms.MessageType ordinal. MessageProtocol shares the
+ * [4 bits: type][6 bits: x][6 bits: y][16 bits: payload] layout and sends
+ * each of its types under the Comms tag with the same meaning
+ * (MessageProtocol.MessageType.tag), so both are served from these buckets.
+ * Packed messages (PackedCodec) are unpacked into the Comms buckets their
+ * records stand for, so readers never see the difference. SRP lattice slots
+ * have no single-record type and are kept apart, the latest one only.
+ */
+public class Inbox {
+
+    public static final int TAGS = 16;
+
+    /** Messages kept per tag, older ones are dropped */
+    public static final int CAPACITY = 32;
+
+    // ==================== STATE ====================
+
+    private static final int[] counts = new int[TAGS];
+    // Bucket for tag t is [firsts[t], firsts[t] + counts[t]), filled back to front
+    // and ending at (t + 1) * CAPACITY
+    private static final int[] firsts = new int[TAGS];
+    private static final int[] locations = new int[TAGS * CAPACITY];  // x << 6 | y
+    private static final int[] payloads = new int[TAGS * CAPACITY];
+    private static final int[] rounds = new int[TAGS * CAPACITY];
+
+    private static int readRound = -1;
+
+    // Latest SRP lattice slot this round, x << 6 | y, -1 for none
+    private static int srpSlot = -1;
+
+    // Buckets for packed records
+    private static final int RUIN_FOUND = Comms.MessageType.RUIN_FOUND.ordinal();
+    private static final int POI_TOWER = Comms.MessageType.POI_TOWER.ordinal();
+    private static final int ENEMY_SPOTTED = Comms.MessageType.ENEMY_SPOTTED.ordinal();
+    private static final int PHASE_DEFEND = Comms.MessageType.PHASE_DEFEND.ordinal();
+    private static final int PHASE_ALL_OUT_ATTACK = Comms.MessageType.PHASE_ALL_OUT_ATTACK.ordinal();
+
+    /**
+     * Read and bucket the inbox, once per round.
+     */
+    public static void refresh(RobotController rc) {
+        int round = rc.getRoundNum();
+        if (round == readRound) return;
+        readRound = round;
+
+        for (int t = TAGS; --t >= 0;) {
+            counts[t] = 0;
+        }
+        srpSlot = -1;
+        Message[] messages = rc.readMessages(-1);
+        for (int i = messages.length; --i >= 0;) {
+            Message m = messages[i];
+            int bytes = m.getBytes();
+            if (PackedCodec.isPacked(bytes)) {
+                unpack(bytes, m.getRound());
+            } else {
+                add(bytes >>> 28, (bytes >>> 16) & 0xFFF, bytes & 0xFFFF, m.getRound());
+            }
+        }
+    }
+
+    private static void add(int tag, int location, int payload, int round) {
+        int n = counts[tag];
+        if (n == CAPACITY) return;
+        int slot = (tag + 1) * CAPACITY - 1 - n;
+        firsts[tag] = slot;
+        locations[slot] = location;
+        payloads[slot] = payload;
+        rounds[slot] = round;
+        counts[tag] = n + 1;
+    }
+
+    private static void unpack(int bytes, int round) {
+        PackedCodec.read(bytes);
+        for (int kind; (kind = PackedCodec.nextRecord()) != PackedCodec.END;) {
+            int location = (PackedCodec.recordX << 6) | PackedCodec.recordY;
+            switch (kind) {
+                case PackedCodec.RUIN:
+                    add(RUIN_FOUND, location, 0, round);
+                    break;
+                case PackedCodec.PAINT_TOWER:
+                    // Same payload as PaintField's single-record source message
+                    add(POI_TOWER, location, 0x8000 | PaintField.PAINT_FLAG, round);
+                    break;
+                case PackedCodec.ENEMY:
+                    add(ENEMY_SPOTTED, location, PackedCodec.recordValue, round);
+                    break;
+                case PackedCodec.SRP_SLOT:
+                    if (srpSlot < 0) srpSlot = location;
+                    break;
+                default:
+                    add(PackedCodec.recordValue == PackedCodec.PHASE_ALL_OUT_ATTACK
+                        ? PHASE_ALL_OUT_ATTACK : PHASE_DEFEND, 0, 0, round);
+                    break;
+            }
+        }
+    }
+
+    // ==================== ACCESSORS ====================
+    // Valid after refresh(rc) this round, i < count(tag)
+
+    public static int count(int tag) {
+        return counts[tag];
+    }
+
+    public static boolean has(int tag) {
+        return counts[tag] != 0;
+    }
+
+    public static int x(int tag, int i) {
+        return locations[firsts[tag] + i] >>> 6;
+    }
+
+    public static int y(int tag, int i) {
+        return locations[firsts[tag] + i] & 0x3F;
+    }
+
+    public static MapLocation location(int tag, int i) {
+        int packed = locations[firsts[tag] + i];
+        return new MapLocation(packed >>> 6, packed & 0x3F);
+    }
+
+    public static int payload(int tag, int i) {
+        return payloads[firsts[tag] + i];
+    }
+
+    /** Round the message was sent in */
+    public static int round(int tag, int i) {
+        return rounds[firsts[tag] + i];
+    }
+
+    /** SRP lattice slot a tower handed us, null if none */
+    public static MapLocation srpSlot() {
+        return srpSlot < 0 ? null : new MapLocation(srpSlot >>> 6, srpSlot & 0x3F);
+    }
+}
@@ -1,6 +1,7 @@
 package mybot.core;
 
 import battlecode.common.*;
+import mybot.Comms;
 import mybot.Metrics;
 
 /**
@@ -16,24 +17,47 @@ public class MessageProtocol {
     /**
      * Message types for inter-robot communication.
      * Organized by priority/frequency of use.
+     *
+     * Both protocols share one 4-bit tag space on the wire, so each type is
+     * sent under the Comms.MessageType tag that means the same thing and a
+     * message reads the same whichever protocol decodes it. Types Comms has
+     * no tag for have none left to use and are never sent.
      */
     public enum MessageType {
-        NONE,                 // 0: No message / invalid
-        ENEMY_SPOTTED,        // 1: Enemy seen at location (payload = enemy count)
-        RUSH_ALERT,           // 2: Rush detected! All units defend
-        PAINT_TOWER_DANGER,   // 3: Paint tower under attack at location
-        PAINT_TOWER_CRITICAL, // 4: Paint tower health critical, ALL units defend
-        TOWER_TARGET,         // 5: Coordinated attack target (high priority)
-        ATTACK_TARGET,        // 6: Suggested attack target location
-        TOWER_BUILDING,       // 7: Soldier building tower, needs splasher support
-        ZONE_CLAIM,           // 8: Unit claiming a zone (payload = zoneId)
-        ZONE_NEED_HELP,       // 9: Zone needs reinforcement (payload = zoneId)
-        SRP_CLUSTER_SITE,     // 10: Recommended SRP location (payload = score)
-        ECONOMY_REPORT,       // 11: Tower paint level broadcast (payload = paint level)
-        SPLASHER_THREATENED,  // 12: Splasher under attack, moppers intercept
-        PHASE_DEFEND,         // 13: All units shift to defensive behavior
-        PHASE_ALL_OUT_ATTACK, // 14: Late game push, all units aggressive
-        RUIN_FOUND;           // 15: Unclaimed ruin found (max 16 types with 4 bits)
+        NONE(Comms.MessageType.NONE),                                 // No message / invalid
+        ENEMY_SPOTTED(Comms.MessageType.ENEMY_SPOTTED),               // Enemy seen at location (payload = enemy count)
+        RUSH_ALERT(Comms.MessageType.RUSH_ALERT),                     // Rush detected! All units defend
+        PAINT_TOWER_DANGER(Comms.MessageType.PAINT_TOWER_DANGER),     // Paint tower under attack at location
+        PAINT_TOWER_CRITICAL(Comms.MessageType.PAINT_TOWER_CRITICAL), // Paint tower health critical, ALL units defend
+        TOWER_TARGET(Comms.MessageType.ATTACK_TARGET),                // Coordinated attack target (payload = priority)
+        ATTACK_TARGET(Comms.MessageType.ATTACK_TARGET),               // Suggested attack target location
+        TOWER_BUILDING(Comms.MessageType.TOWER_BUILDING),             // Soldier building tower, needs splasher support
+        ZONE_CLAIM(Comms.MessageType.NONE),                           // Unit claiming a zone (payload = zoneId), unsent
+        ZONE_NEED_HELP(Comms.MessageType.HELP_NEEDED),                // Zone needs reinforcement (payload = zoneId)
+        SRP_CLUSTER_SITE(Comms.MessageType.NONE),                     // Recommended SRP location (payload = score), unsent
+        ECONOMY_REPORT(Comms.MessageType.NONE),                       // Tower paint level (payload = paint level), unsent
+        SPLASHER_THREATENED(Comms.MessageType.SPLASHER_THREATENED),   // Splasher under attack, moppers intercept
+        PHASE_DEFEND(Comms.MessageType.PHASE_DEFEND),                 // All units shift to defensive behavior
+        PHASE_ALL_OUT_ATTACK(Comms.MessageType.PHASE_ALL_OUT_ATTACK), // Late game push, all units aggressive
+        RUIN_FOUND(Comms.MessageType.RUIN_FOUND);                     // Unclaimed ruin found
+
+        /** Wire tag, the matching Comms.MessageType ordinal, 0 for none */
+        public final int tag;
+
+        MessageType(Comms.MessageType wire) {
+            tag = wire.ordinal();
+        }
+    }
+
+    // Type read back from each wire tag, the first one sent under it
+    private static final MessageType[] BY_TAG = new MessageType[Inbox.TAGS];
+    static {
+        for (MessageType type : MessageType.values()) {
+            if (BY_TAG[type.tag] == null) BY_TAG[type.tag] = type;
+        }
+        for (int t = Inbox.TAGS; --t >= 0;) {
+            if (BY_TAG[t] == null) BY_TAG[t] = MessageType.NONE;
+        }
     }
 
     // ==================== ENCODING ====================
@@ -46,7 +70,7 @@ public class MessageProtocol {
         int y = loc != null ? (loc.y & 0x3F) : 0;  // 6 bits for y (0-63)
         int p = payload & 0xFFFF;                   // 16 bits for payload
 
-        return (type.ordinal() << 28) | (x << 22) | (y << 16) | p;
+        return (type.tag << 28) | (x << 22) | (y << 16) | p;
     }
 
     /**
@@ -62,12 +86,7 @@ public class MessageProtocol {
      * Decode the message type from a message.
      */
     public static MessageType decodeType(int msg) {
-        int typeOrd = (msg >>> 28) & 0xF;
-        MessageType[] types = MessageType.values();
-        if (typeOrd < types.length) {
-            return types[typeOrd];
-        }
-        return MessageType.NONE;
+        return BY_TAG[(msg >>> 28) & 0xF];
     }
 
     /**
@@ -105,7 +124,7 @@ public class MessageProtocol {
      */
     public static boolean sendTo(RobotController rc, MapLocation target, MessageType type,
                                   MapLocation aboutLoc, int payload) throws GameActionException {
-        if (!rc.canSendMessage(target)) return false;
+        if (type.tag == 0 || !rc.canSendMessage(target)) return false;
 
         int msg = encode(type, aboutLoc, payload);
         rc.sendMessage(target, msg);
@@ -157,58 +176,58 @@ public class MessageProtocol {
     }
 
     // ==================== RECEIVING ====================
+    // Served from the Inbox buckets, the inbox is read once per turn
 
     /**
      * Check if we received a specific message type.
      */
     public static boolean hasMessageOfType(RobotController rc, MessageType type) throws GameActionException {
-        Message[] messages = rc.readMessages(-1);
-        for (Message m : messages) {
-            if (decodeType(m.getBytes()) == type) {
-                return true;
-            }
-        }
-        return false;
+        Inbox.refresh(rc);
+        return Inbox.has(type.tag);
+    }
+
+    /**
+     * Count the messages of a specific type.
+     */
+    public static int countMessagesOfType(RobotController rc, MessageType type) throws GameActionException {
+        Inbox.refresh(rc);
+        return Inbox.count(type.tag);
     }
 
     /**
      * Get the location from the first message of a specific type.
      */
     public static MapLocation getLocationFromMessage(RobotController rc, MessageType type) throws GameActionException {
-        Message[] messages = rc.readMessages(-1);
-        for (Message m : messages) {
-            if (decodeType(m.getBytes()) == type) {
-                return decodeLocation(m.getBytes());
-            }
-        }
-        return null;
+        Inbox.refresh(rc);
+        int tag = type.tag;
+        return Inbox.has(tag) ? Inbox.location(tag, 0) : null;
+    }
+
+    /**
+     * Get the location from the i-th message of a specific type.
+     */
+    public static MapLocation getLocationFromMessage(RobotController rc, MessageType type, int i) throws GameActionException {
+        Inbox.refresh(rc);
+        int tag = type.tag;
+        return i < Inbox.count(tag) ? Inbox.location(tag, i) : null;
     }
 
     /**
      * Get the payload from the first message of a specific type.
      */
     public static int getPayloadFromMessage(RobotController rc, MessageType type) throws GameActionException {
-        Message[] messages = rc.readMessages(-1);
-        for (Message m : messages) {
-            if (decodeType(m.getBytes()) == type) {
-                return decodePayload(m.getBytes());
-            }
-        }
-        return -1;
+        Inbox.refresh(rc);
+        int tag = type.tag;
+        return Inbox.has(tag) ? Inbox.payload(tag, 0) : -1;
     }
 
     /**
-     * Get all messages of a specific type.
+     * Get the payload from the i-th message of a specific type.
      */
-    public static java.util.ArrayList<Message> getMessagesOfType(RobotController rc, MessageType type) throws GameActionException {
-        java.util.ArrayList<Message> result = new java.util.ArrayList<>();
-        Message[] messages = rc.readMessages(-1);
-        for (Message m : messages) {
-            if (decodeType(m.getBytes()) == type) {
-                result.add(m);
-            }
-        }
-        return result;
+    public static int getPayloadFromMessage(RobotController rc, MessageType type, int i) throws GameActionException {
+        Inbox.refresh(rc);
+        int tag = type.tag;
+        return i < Inbox.count(tag) ? Inbox.payload(tag, i) : -1;
     }
 
     // ==================== SPECIFIC MESSAGE HELPERS ====================
@@ -8,6 +8,8 @@ import battlecode.common.*;
  * Implements SPAARK-style grid-based tracking with O(1) lookups:
  * - Grid chunks (5x5 tiles) for tower tracking
  * - Bitwise arrays for ruin and exploration tracking
+ * - Per-chunk unexplored counters and per-chunk-row zone masks, so the
+ *   nearest unexplored zone is a ring search instead of a full map scan
  * - Message-based synchronization between units
  *
  * Max map size is 60x60, so we use 12x12 grid (60/5=12) and 60-bit longs.
@@ -29,6 +31,19 @@ public class POI {
     // Bitwise exploration tracking (1 bit per tile, 60 tiles per row)
     private static long[] explored = new long[60];
 
+    // Frontier index over the exploration bits, kept up to date by markExplored:
+    // unexplored tiles per chunk [cy * GRID_SIZE + cx], and per chunk row a mask
+    // of the chunks still counting as unexplored zones (bit cx)
+    private static int[] unexploredCount = null;
+    private static int[] zoneRows = null;
+    private static int zoneGridWidth, zoneGridHeight;  // Whole chunks only
+
+    /** A chunk is an unexplored zone while more than this many tiles are */
+    private static final int ZONE_THRESHOLD = (CHUNK_SIZE * CHUNK_SIZE) / 2;
+
+    // Vision disc (radius^2 20) as row masks for dy = -4..4, bit 4 = our column
+    private static final long[] VISION_ROWS = {0x7CL, 0xFEL, 0x1FFL, 0x1FFL, 0x1FFL, 0x1FFL, 0x1FFL, 0xFEL, 0x7CL};
+
     // Bitwise passability tracking for symmetry detection
     private static long[] passable = new long[60];  // 1 = passable
     private static long[] impassable = new long[60]; // 1 = wall/lake
@@ -47,6 +62,7 @@ public class POI {
     public static void init(RobotController rc) {
         mapWidth = rc.getMapWidth();
         mapHeight = rc.getMapHeight();
+        initFrontier();
     }
 
     // ========== Tower Tracking ==========
@@ -169,12 +185,73 @@ public class POI {
 
     // ========== Exploration Tracking ==========
 
+    /**
+     * Build the frontier index from the exploration bits.
+     */
+    private static void initFrontier() {
+        zoneGridWidth = mapWidth / CHUNK_SIZE;
+        zoneGridHeight = mapHeight / CHUNK_SIZE;
+        unexploredCount = new int[GRID_SIZE * GRID_SIZE];
+        zoneRows = new int[GRID_SIZE];
+        long rowMask = (1L << mapWidth) - 1;
+        for (int cy = 0; cy < GRID_SIZE; cy++) {
+            for (int cx = 0; cx < GRID_SIZE; cx++) {
+                long chunkBits = (((1L << CHUNK_SIZE) - 1) << (cx * CHUNK_SIZE)) & rowMask;
+                int n = 0;
+                for (int y = cy * CHUNK_SIZE; y < (cy + 1) * CHUNK_SIZE && y < mapHeight; y++) {
+                    n += Long.bitCount(chunkBits & ~explored[y]);
+                }
+                unexploredCount[cy * GRID_SIZE + cx] = n;
+                if (n > ZONE_THRESHOLD && cx < zoneGridWidth && cy < zoneGridHeight) {
+                    zoneRows[cy] |= 1 << cx;
+                }
+            }
+        }
+    }
+
     /**
      * Mark a tile as explored.
      */
     public static void markExplored(MapLocation loc) {
         if (loc.y < 60 && loc.x < 60) {
-            explored[loc.y] |= (1L << loc.x);
+            markExploredRow(loc.y, 1L << loc.x);
+        }
+    }
+
+    /**
+     * Mark every tile within vision of loc as explored, a row mask at a time.
+     */
+    public static void markExploredAround(MapLocation loc) {
+        long rowMask = (1L << mapWidth) - 1;
+        int shift = loc.x - 4;
+        for (int dy = -4; dy <= 4; dy++) {
+            int y = loc.y + dy;
+            if (y < 0 || y >= mapHeight) continue;
+            long row = VISION_ROWS[dy + 4];
+            row = shift >= 0 ? row << shift : row >>> -shift;
+            markExploredRow(y, row & rowMask);
+        }
+    }
+
+    /**
+     * Set exploration bits in row y and take the new ones off their chunks'
+     * counters, a chunk at a time with popcounts.
+     */
+    private static void markExploredRow(int y, long bits) {
+        long fresh = bits & ~explored[y];
+        if (fresh == 0) return;
+        explored[y] |= fresh;
+        if (unexploredCount == null) return;  // Counted from the bits in init
+
+        int cy = y / CHUNK_SIZE;
+        while (fresh != 0) {
+            int cx = Long.numberOfTrailingZeros(fresh) / CHUNK_SIZE;
+            long chunkBits = fresh & (((1L << CHUNK_SIZE) - 1) << (cx * CHUNK_SIZE));
+            fresh ^= chunkBits;
+            int i = cy * GRID_SIZE + cx;
+            int n = unexploredCount[i] - Long.bitCount(chunkBits);
+            unexploredCount[i] = n;
+            if (n <= ZONE_THRESHOLD) zoneRows[cy] &= ~(1 << cx);
         }
     }
 
@@ -213,46 +290,50 @@ public class POI {
     }
 
     /**
-     * Find nearest unexplored zone center.
+     * Find nearest unexplored zone center: the center of the nearest whole
+     * chunk with more than half of its tiles unexplored.
+     *
+     * Searches rings of chunks outward from from's chunk, using the zone
+     * masks of the chunk rows so empty stretches cost one AND. A chunk in
+     * ring r has its center at least 5r - 2 tiles away on one axis, so once
+     * that exceeds the best distance found no further ring can win.
      */
     public static MapLocation findUnexploredZone(MapLocation from) {
-        int bestDist = Integer.MAX_VALUE;
-        MapLocation best = null;
-
-        // Check each chunk
-        for (int cy = 0; cy < mapHeight / CHUNK_SIZE; cy++) {
-            for (int cx = 0; cx < mapWidth / CHUNK_SIZE; cx++) {
-                // Check if chunk is mostly unexplored
-                int unexploredCount = 0;
-                int centerX = cx * CHUNK_SIZE + CHUNK_SIZE / 2;
-                int centerY = cy * CHUNK_SIZE + CHUNK_SIZE / 2;
-
-                for (int dy = 0; dy < CHUNK_SIZE && (cy * CHUNK_SIZE + dy) < mapHeight; dy++) {
-                    int y = cy * CHUNK_SIZE + dy;
-                    long row = explored[y];
-                    for (int dx = 0; dx < CHUNK_SIZE && (cx * CHUNK_SIZE + dx) < mapWidth; dx++) {
-                        int x = cx * CHUNK_SIZE + dx;
-                        if ((row & (1L << x)) == 0) {
-                            unexploredCount++;
-                        }
-                    }
-                }
+        if (zoneRows == null) return null;
+        int fcx = Math.min(from.x / CHUNK_SIZE, zoneGridWidth - 1);
+        int fcy = Math.min(from.y / CHUNK_SIZE, zoneGridHeight - 1);
+        int maxRing = Math.max(Math.max(fcx, zoneGridWidth - 1 - fcx), Math.max(fcy, zoneGridHeight - 1 - fcy));
 
-                // If mostly unexplored (>50% of tiles), consider it
-                if (unexploredCount > (CHUNK_SIZE * CHUNK_SIZE) / 2) {
-                    MapLocation center = new MapLocation(
-                        Math.min(centerX, mapWidth - 1),
-                        Math.min(centerY, mapHeight - 1)
-                    );
-                    int dist = from.distanceSquaredTo(center);
-                    if (dist < bestDist) {
+        int bestDist = Integer.MAX_VALUE;
+        int bestIndex = -1;
+        for (int r = 0; r <= maxRing; r++) {
+            int reach = CHUNK_SIZE * r - CHUNK_SIZE / 2;
+            if (reach > 0 && reach * reach > bestDist) break;
+
+            int lo = Math.max(fcx - r, 0);
+            int hi = Math.min(fcx + r, zoneGridWidth - 1);
+            int span = ((1 << (hi + 1)) - 1) & ~((1 << lo) - 1);
+            // Only the ring's two side columns on the rows in between
+            int sides = (fcx - r >= 0 ? 1 << (fcx - r) : 0) | (fcx + r < zoneGridWidth ? 1 << (fcx + r) : 0);
+            for (int cy = Math.max(fcy - r, 0), cyEnd = Math.min(fcy + r, zoneGridHeight - 1); cy <= cyEnd; cy++) {
+                int zones = zoneRows[cy] & (cy == fcy - r || cy == fcy + r ? span : sides);
+                while (zones != 0) {
+                    int cx = Integer.numberOfTrailingZeros(zones);
+                    zones &= zones - 1;
+                    int dx = cx * CHUNK_SIZE + CHUNK_SIZE / 2 - from.x;
+                    int dy = cy * CHUNK_SIZE + CHUNK_SIZE / 2 - from.y;
+                    int dist = dx * dx + dy * dy;
+                    int index = cy * GRID_SIZE + cx;
+                    if (dist < bestDist || (dist == bestDist && index < bestIndex)) {
                         bestDist = dist;
-                        best = center;
+                        bestIndex = index;
                     }
                 }
             }
         }
-        return best;
+        if (bestIndex < 0) return null;
+        return new MapLocation((bestIndex % GRID_SIZE) * CHUNK_SIZE + CHUNK_SIZE / 2,
+            (bestIndex / GRID_SIZE) * CHUNK_SIZE + CHUNK_SIZE / 2);
     }
 
     // ========== Sensing Integration ==========
@@ -276,8 +357,8 @@ public class POI {
             }
         }
 
-        // Mark our current location as explored (cheap)
-        markExplored(rc.getLocation());
+        // Mark what we can see as explored (nine row masks)
+        markExploredAround(rc.getLocation());
     }
 
     /**
@@ -0,0 +1,175 @@
+package mybot.core;
+
+import battlecode.common.*;
+
+/**
+ * Several small records packed into one 32-bit message.
+ *
+ * A packed message has type tag 0 in its top 4 bits (NONE, which no
+ * single-record message uses) and up to 28 bits of records after it, most
+ * significant first. Each record starts with a prefix naming its kind:
+ *
+ *   01   RUIN         [6: x][6: y]                           14 bits
+ *   10   PAINT_TOWER  [6: x][6: y]                           14 bits
+ *   11   ENEMY        [4: x / 4][4: y / 4][2: count, max 3]  12 bits
+ *   001  PHASE        [1: 0 = defend, 1 = all-out attack]     4 bits
+ *   0001 SRP_SLOT     [6: x][6: y]                           16 bits
+ *   0000 end of message
+ *
+ * So one message carries two locations, or two enemy sightings and a phase,
+ * where the [type][x][y][payload] format carries one. Enemy sightings are
+ * rounded down to 4x4 chunks.
+ *
+ * Writing appends records to a small buffer of messages, starting a new
+ * message when the next record does not fit. Reading walks one message with
+ * nextRecord(), which leaves the record's fields in recordX/Y/Value.
+ */
+public class PackedCodec {
+
+    /** Type tag of a packed message */
+    public static final int TAG = 0;
+
+    // Record kinds returned by nextRecord()
+    public static final int END = 0;
+    public static final int RUIN = 1;
+    public static final int PAINT_TOWER = 2;
+    public static final int ENEMY = 3;
+    public static final int PHASE = 4;
+    public static final int SRP_SLOT = 5;
+
+    public static final int PHASE_DEFEND = 0;
+    public static final int PHASE_ALL_OUT_ATTACK = 1;
+
+    /** Messages the buffer holds, enough for PaintField.MAX_SOURCES towers */
+    public static final int MAX_MESSAGES = 12;
+
+    private static final int BODY_BITS = 28;
+    private static final int LOCATION_BITS = 14;
+    private static final int ENEMY_BITS = 12;
+    private static final int PHASE_BITS = 4;
+    private static final int SLOT_BITS = 16;
+
+    // ==================== WRITING ====================
+
+    private static final int[] messages = new int[MAX_MESSAGES];
+    private static int count = 0;
+    private static int free = 0;  // Bits left in messages[count - 1]
+
+    public static void reset() {
+        count = 0;
+        free = 0;
+    }
+
+    /**
+     * Append a record, returns false if the buffer is full.
+     */
+    private static boolean append(int record, int width) {
+        if (width > free) {
+            if (count == MAX_MESSAGES) return false;
+            messages[count++] = TAG << BODY_BITS;
+            free = BODY_BITS;
+        }
+        free -= width;
+        messages[count - 1] |= record << free;
+        return true;
+    }
+
+    public static boolean addRuin(MapLocation loc) {
+        return append((RUIN << 12) | (loc.x << 6) | loc.y, LOCATION_BITS);
+    }
+
+    public static boolean addPaintTower(MapLocation loc) {
+        return append((PAINT_TOWER << 12) | (loc.x << 6) | loc.y, LOCATION_BITS);
+    }
+
+    public static boolean addEnemy(MapLocation loc, int enemyCount) {
+        int c = enemyCount < 3 ? enemyCount : 3;
+        return append((ENEMY << 10) | ((loc.x >> 2) << 6) | ((loc.y >> 2) << 2) | c, ENEMY_BITS);
+    }
+
+    public static boolean addPhase(int phase) {
+        return append(2 | phase, PHASE_BITS);
+    }
+
+    /** A lattice slot for an SRP (SrpLattice), which also gives the lattice */
+    public static boolean addSrpSlot(MapLocation loc) {
+        return append((1 << 12) | (loc.x << 6) | loc.y, SLOT_BITS);
+    }
+
+    /** Messages written since reset(), the last one may have room left */
+    public static int messageCount() {
+        return count;
+    }
+
+    public static int message(int i) {
+        return messages[i];
+    }
+
+    /**
+     * Drop the first message, once it has been sent.
+     */
+    public static void removeFirst() {
+        for (int i = 1; i < count; i++) {
+            messages[i - 1] = messages[i];
+        }
+        if (--count == 0) free = 0;
+    }
+
+    // ==================== READING ====================
+
+    // Fields of the record nextRecord() returned
+    public static int recordX;
+    public static int recordY;
+    public static int recordValue;
+
+    private static int readBits;
+    private static int readLeft;
+
+    public static boolean isPacked(int bytes) {
+        return (bytes >>> BODY_BITS) == TAG;
+    }
+
+    /**
+     * Start reading a packed message.
+     */
+    public static void read(int bytes) {
+        readBits = bytes;
+        readLeft = BODY_BITS;
+    }
+
+    /**
+     * Kind of the next record in the message, or END.
+     */
+    public static int nextRecord() {
+        if (readLeft < PHASE_BITS) return END;
+        int bits = readBits;
+        int prefix = (bits >>> (readLeft - 2)) & 3;
+        switch (prefix) {
+            case RUIN:
+            case PAINT_TOWER:
+                if (readLeft < LOCATION_BITS) return END;
+                readLeft -= LOCATION_BITS;
+                recordX = (bits >>> (readLeft + 6)) & 0x3F;
+                recordY = (bits >>> readLeft) & 0x3F;
+                return prefix;
+            case ENEMY:
+                if (readLeft < ENEMY_BITS) return END;
+                readLeft -= ENEMY_BITS;
+                recordX = ((bits >>> (readLeft + 6)) & 0xF) << 2;
+                recordY = ((bits >>> (readLeft + 2)) & 0xF) << 2;
+                recordValue = (bits >>> readLeft) & 3;
+                return ENEMY;
+            default:
+                if (((bits >>> (readLeft - 3)) & 1) != 0) {
+                    readLeft -= PHASE_BITS;
+                    recordValue = (bits >>> readLeft) & 1;
+                    return PHASE;
+                }
+                if (readLeft < SLOT_BITS || ((bits >>> (readLeft - 4)) & 1) == 0) return END;
+                readLeft -= SLOT_BITS;
+                recordX = (bits >>> (readLeft + 6)) & 0x3F;
+                recordY = (bits >>> readLeft) & 0x3F;
+                return SRP_SLOT;
+        }
+    }
+}
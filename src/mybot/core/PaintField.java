@@ -0,0 +1,389 @@
+package mybot.core;
+
+import battlecode.common.*;
+import mybot.Comms;
+import mybot.Metrics;
+import mybot.Utils;
+
+/**
+ * Distance field to the nearest known ally paint tower, for paint retreats.
+ *
+ * One multi-source BFS shared by every retreat instead of pathfinding to a
+ * single tower: bit x of row y in layer k is set when (x, y) is within k moves
+ * of some paint tower. Units grow the field a couple of layers per turn while
+ * they are busy, so when paint runs low retreating is a step to any neighbour
+ * that is one layer closer.
+ *
+ * Sources (towers built or destroyed) and walls found later change the field.
+ * A change at row y that first matters in layer r can only affect layer r + d
+ * within d rows of y, so only those rows are marked dirty and recomputed,
+ * layer by layer, instead of rebuilding the whole field.
+ *
+ * Towers share sources as POI_TOWER messages with PAINT_FLAG set in the
+ * payload (GONE_FLAG for a destroyed tower). Paint towers announce themselves
+ * every ANNOUNCE_INTERVAL rounds, and every tower hands its list to the units
+ * it spawns as packed PAINT_TOWER records (PackedCodec), which Inbox files
+ * under POI_TOWER like the rest.
+ */
+public class PaintField {
+
+    public static final int MAX_LAYERS = 100;
+    public static final int MAX_SOURCES = 24;
+
+    /** Layers grown per turn while not retreating */
+    public static final int IDLE_LAYERS = 2;
+
+    /** Units only check vision and grow the field at or below this share of their paint, in percent */
+    public static final int IDLE_PAINT_PERCENT = 50;
+
+    /** Paint towers re-announce themselves so towers built later learn them */
+    public static final int ANNOUNCE_INTERVAL = 50;
+
+    /** POI_TOWER payload flags, on top of POI's ally flag and chunk coords */
+    public static final int PAINT_FLAG = 0x4000;
+    public static final int GONE_FLAG = 0x2000;
+
+    /** Bytecodes left untouched when growing or repairing the field */
+    private static final int BYTECODE_RESERVE = 2500;
+
+    // ==================== STATE ====================
+
+    private static final MapLocation[] sources = new MapLocation[MAX_SOURCES];
+    private static int sourceCount = 0;
+
+    // Rows are padded with an empty row above and below, index = y + 1
+    private static int width, height, stride;
+    private static long rowMask;
+    private static long[] walls = null;
+    private static long[] layers = null;
+    private static int[] dirtyFrom = null;
+
+    /** Layers [0, computed) exist */
+    private static int computed = 0;
+    /** Layers [repairFrom, computed) have dirty rows */
+    private static int repairFrom = MAX_LAYERS;
+    /** Last layer grown added nothing, no point growing further */
+    private static boolean converged = false;
+
+    // ==================== SOURCES ====================
+
+    /**
+     * Add a paint tower. Returns false if it was already known.
+     */
+    public static boolean addSource(MapLocation loc) {
+        for (int i = sourceCount; --i >= 0;) {
+            if (sources[i].equals(loc)) return false;
+        }
+        if (sourceCount == MAX_SOURCES) return false;
+        sources[sourceCount++] = loc;
+
+        if (layers != null) {
+            layers[loc.y + 1] |= 1L << loc.x;
+            invalidate(loc.y + 1, 0);
+        }
+        return true;
+    }
+
+    /**
+     * Remove a destroyed paint tower. Returns false if it was not known.
+     */
+    public static boolean removeSource(MapLocation loc) {
+        for (int i = sourceCount; --i >= 0;) {
+            if (sources[i].equals(loc)) {
+                sources[i] = sources[--sourceCount];
+                sources[sourceCount] = null;
+
+                if (layers != null) {
+                    layers[loc.y + 1] &= ~(1L << loc.x);
+                    invalidate(loc.y + 1, 0);
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static int getSourceCount() {
+        return sourceCount;
+    }
+
+    /**
+     * Apply a POI_TOWER message. Returns false for tower messages that are not
+     * about paint towers.
+     */
+    public static boolean applyMessage(MapLocation loc, int payload) {
+        if ((payload & PAINT_FLAG) == 0) return false;
+        if ((payload & GONE_FLAG) != 0) {
+            removeSource(loc);
+        } else {
+            addSource(loc);
+        }
+        return true;
+    }
+
+    private static int encodeSource(MapLocation loc, boolean gone) {
+        int payload = POI.encodeTowerPayload(loc, true) | PAINT_FLAG | (gone ? GONE_FLAG : 0);
+        return Comms.encode(Comms.MessageType.POI_TOWER, loc, payload);
+    }
+
+    // ==================== TOWER SIDE ====================
+
+    /**
+     * Tell every ally tower about a paint tower being built or destroyed.
+     */
+    public static void broadcastSource(RobotController rc, MapLocation loc, boolean gone) throws GameActionException {
+        if (rc.canBroadcastMessage()) {
+            rc.broadcastMessage(encodeSource(loc, gone));
+            Metrics.trackMessageSent();
+        }
+    }
+
+    /**
+     * Hand all known paint towers to a freshly spawned unit, two to a message.
+     */
+    public static void sendSources(RobotController rc, MapLocation unitLoc) throws GameActionException {
+        PackedCodec.reset();
+        for (int i = sourceCount; --i >= 0;) {
+            PackedCodec.addPaintTower(sources[i]);
+        }
+        for (int i = 0, n = PackedCodec.messageCount(); i < n; i++) {
+            if (!rc.canSendMessage(unitLoc)) break;
+            rc.sendMessage(unitLoc, PackedCodec.message(i));
+            Metrics.trackMessageSent();
+        }
+        PackedCodec.reset();
+    }
+
+    /** Messages sendSources() takes, two sources to a message */
+    public static int handoffMessages() {
+        return (sourceCount + 1) / 2;
+    }
+
+    /**
+     * Read paint tower deltas. Messages arrive in the round they are sent, so
+     * read the last two rounds to miss none whichever order robots run in.
+     */
+    public static void readMessages(RobotController rc) throws GameActionException {
+        Inbox.refresh(rc);
+        int since = rc.getRoundNum() - 1;
+        int tag = Comms.MessageType.POI_TOWER.ordinal();
+        for (int i = 0, n = Inbox.count(tag); i < n; i++) {
+            if (Inbox.round(tag, i) >= since) {
+                applyMessage(Inbox.location(tag, i), Inbox.payload(tag, i));
+            }
+        }
+    }
+
+    // ==================== UNIT SIDE ====================
+
+    /**
+     * Per-turn update for units: read deltas, check the towers in vision and
+     * grow the field by up to maxLayers layers.
+     */
+    public static void update(RobotController rc, int maxLayers) throws GameActionException {
+        if (layers == null) init(rc);
+
+        readMessages(rc);
+
+        for (RobotInfo ally : rc.senseNearbyRobots(-1, rc.getTeam())) {
+            if (Utils.isPaintTower(ally.getType())) {
+                addSource(ally.getLocation());
+            }
+        }
+        checkSources(rc);
+
+        advance(maxLayers);
+    }
+
+    /**
+     * Per-turn update while not retreating. Tower deltas are always read, but
+     * the robot scan and IDLE_LAYERS of growth wait until paint is down to
+     * IDLE_PAINT_PERCENT, still well before a retreat needs the field.
+     */
+    public static void idle(RobotController rc) throws GameActionException {
+        if (rc.getPaint() * 100 > rc.getType().paintCapacity * IDLE_PAINT_PERCENT) {
+            readMessages(rc);
+            return;
+        }
+        update(rc, IDLE_LAYERS);
+    }
+
+    /**
+     * Drop known paint towers in vision that are gone. Towers also tell the
+     * other towers, units can't reach them.
+     */
+    public static void checkSources(RobotController rc) throws GameActionException {
+        for (int i = sourceCount; --i >= 0;) {
+            MapLocation loc = sources[i];
+            if (rc.canSenseLocation(loc)) {
+                RobotInfo robot = rc.senseRobotAtLocation(loc);
+                if (robot == null || robot.getTeam() != rc.getTeam() || !Utils.isPaintTower(robot.getType())) {
+                    removeSource(loc);
+                    if (rc.getType().isTowerType()) {
+                        broadcastSource(rc, loc, true);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Record the walls in vision, so the field routes around them.
+     */
+    public static void markWalls(RobotController rc) throws GameActionException {
+        if (layers == null) return;
+        for (MapInfo tile : rc.senseNearbyMapInfos()) {
+            if (tile.isWall()) {
+                markWall(tile.getMapLocation());
+            }
+        }
+    }
+
+    /**
+     * Distance in moves from loc to the nearest paint tower, or -1 if the
+     * field does not reach it yet.
+     */
+    public static int distance(MapLocation loc) {
+        if (layers == null || computed == 0) return -1;
+        int limit = Math.min(computed, repairFrom);
+        int row = loc.y + 1;
+        long bit = 1L << loc.x;
+        if ((layers[(limit - 1) * stride + row] & bit) == 0) return -1;
+        int lo = 0, hi = limit - 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >> 1;
+            if ((layers[mid * stride + row] & bit) != 0) hi = mid;
+            else lo = mid + 1;
+        }
+        return lo;
+    }
+
+    /**
+     * Direction one layer closer to a paint tower, preferring ally paint, or
+     * null if the field does not reach us or every such step is blocked.
+     */
+    public static Direction gradientStep(RobotController rc) throws GameActionException {
+        MapLocation myLoc = rc.getLocation();
+        int dist = distance(myLoc);
+        if (dist <= 0) return null;
+
+        int off = (dist - 1) * stride;
+        Direction best = null;
+        boolean bestAlly = false;
+        for (Direction dir : Utils.DIRECTIONS) {
+            MapLocation next = myLoc.add(dir);
+            if (next.x < 0 || next.x >= width || next.y < 0 || next.y >= height) continue;
+            if ((layers[off + next.y + 1] & (1L << next.x)) == 0) continue;
+            if (!rc.canMove(dir)) {
+                // The field only knows walls it has been told about
+                if (rc.canSenseLocation(next) && rc.senseMapInfo(next).isWall()) {
+                    markWall(next);
+                }
+                continue;
+            }
+            boolean ally = rc.senseMapInfo(next).getPaint().isAlly();
+            if (best == null || (ally && !bestAlly)) {
+                best = dir;
+                bestAlly = ally;
+            }
+        }
+        return best;
+    }
+
+    // ==================== FIELD ====================
+
+    private static void init(RobotController rc) {
+        width = rc.getMapWidth();
+        height = rc.getMapHeight();
+        stride = height + 2;
+        rowMask = width == 64 ? -1L : (1L << width) - 1;
+        walls = new long[stride];
+        layers = new long[MAX_LAYERS * stride];
+        dirtyFrom = new int[stride];
+        java.util.Arrays.fill(dirtyFrom, MAX_LAYERS);
+        for (int i = sourceCount; --i >= 0;) {
+            layers[sources[i].y + 1] |= 1L << sources[i].x;
+        }
+        computed = 1;
+    }
+
+    private static void markWall(MapLocation loc) {
+        int row = loc.y + 1;
+        long bit = 1L << loc.x;
+        if ((walls[row] & bit) != 0) return;
+        walls[row] |= bit;
+
+        // Only layers from the first one that reached the wall are wrong. Layers
+        // waiting for repair can't be trusted, assume those all reached it
+        int limit = Math.min(computed, repairFrom);
+        if ((layers[(limit - 1) * stride + row] & bit) == 0) {
+            if (limit < computed) invalidate(row, limit);
+            return;
+        }
+        int lo = 0, hi = limit - 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >> 1;
+            if ((layers[mid * stride + row] & bit) != 0) hi = mid;
+            else lo = mid + 1;
+        }
+        invalidate(row, lo);
+    }
+
+    /**
+     * Mark rows dirty after a change at row that first matters in layer.
+     */
+    private static void invalidate(int row, int layer) {
+        converged = false;
+        if (layer >= computed) return;
+        repairFrom = Math.min(repairFrom, Math.max(layer, 1));
+        for (int d = 0; layer + d < computed; d++) {
+            int from = layer + d;
+            if (row - d >= 1 && dirtyFrom[row - d] > from) dirtyFrom[row - d] = from;
+            if (row + d <= height && dirtyFrom[row + d] > from) dirtyFrom[row + d] = from;
+            if (row - d < 1 && row + d > height) break;
+        }
+    }
+
+    /**
+     * Repair dirty rows, then grow up to maxLayers new layers, spending at
+     * most half the bytecode left this turn. A retreat asking for MAX_LAYERS
+     * still has room to move, and the rest carries over to later turns.
+     */
+    public static void advance(int maxLayers) {
+        if (layers == null) return;
+        long mask = rowMask;
+        int h = height;
+        int floor = Math.max(BYTECODE_RESERVE, Clock.getBytecodesLeft() / 2);
+
+        while (repairFrom < computed) {
+            if (Clock.getBytecodesLeft() < floor) return;
+            int k = repairFrom;
+            int prev = (k - 1) * stride, cur = k * stride;
+            for (int y = 1; y <= h; y++) {
+                if (dirtyFrom[y] <= k) {
+                    long row = layers[prev + y - 1] | layers[prev + y] | layers[prev + y + 1];
+                    layers[cur + y] = (row | (row << 1) | (row >>> 1)) & mask & ~walls[y];
+                }
+            }
+            repairFrom = k + 1;
+        }
+        if (repairFrom != MAX_LAYERS) {
+            repairFrom = MAX_LAYERS;
+            java.util.Arrays.fill(dirtyFrom, MAX_LAYERS);
+        }
+
+        while (maxLayers-- > 0 && !converged && computed < MAX_LAYERS) {
+            if (Clock.getBytecodesLeft() < floor) return;
+            int prev = (computed - 1) * stride, cur = computed * stride;
+            boolean changed = false;
+            for (int y = 1; y <= h; y++) {
+                long row = layers[prev + y - 1] | layers[prev + y] | layers[prev + y + 1];
+                row = (row | (row << 1) | (row >>> 1)) & mask & ~walls[y];
+                layers[cur + y] = row;
+                if (row != layers[prev + y]) changed = true;
+            }
+            computed++;
+            converged = !changed;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package mybot.core;
+
+import battlecode.common.*;
+
+/**
+ * Pattern state of one ruin a soldier is building on.
+ *
+ * The 5x5 pattern around a ruin fits in an int, one bit per tile at
+ * (dx + 2) * 5 + dy + 2, with the ruin itself at bit 12 left out. Which tiles
+ * want secondary paint is fixed once from the tower pattern, and which are
+ * already correct or under enemy paint are kept as masks from turn to turn.
+ * Each new Vision sweep only touches the bits of tiles whose paint differs
+ * from what the last sweep saw, and our own attacks are written straight in
+ * with painted(), so counting what is left is a popcount instead of two
+ * senseNearbyMapInfos() scans of the marks.
+ *
+ * Tiles out of sight keep what they were last seen as.
+ */
+public class RuinPattern {
+
+    public static final int RUIN_BIT = 12;
+
+    /** The 24 pattern tiles */
+    public static final int ALL = 0x1FFFFFF & ~(1 << RUIN_BIT);
+    public static final int TILES = 24;
+
+    public final MapLocation ruin;
+
+    /** Tiles that want secondary paint, the rest want primary */
+    public final int secondary;
+
+    /** Tiles painted the way the pattern wants */
+    public int correct;
+
+    /** Tiles under enemy paint, which soldiers can't paint over */
+    public int enemy;
+
+    /** Tiles whose paint changed in the last update() */
+    public int changed;
+
+    private final PaintType[] seen = new PaintType[25];
+    private int seenSweep = -1;
+
+    /**
+     * State for a ruin and a tower pattern as getTowerPattern() returns it,
+     * pattern[dx + 2][dy + 2] true where the tile wants secondary paint.
+     */
+    public RuinPattern(MapLocation ruin, boolean[][] pattern) {
+        this.ruin = ruin;
+        int bits = 0;
+        for (int ix = 5; --ix >= 0;) {
+            for (int iy = 5; --iy >= 0;) {
+                if (pattern[ix][iy]) bits |= 1 << (ix * 5 + iy);
+            }
+        }
+        secondary = bits & ALL;
+    }
+
+    /**
+     * Catch up with this turn's Vision sweep, once per sweep.
+     */
+    public void update(RobotController rc) throws GameActionException {
+        Vision.refresh(rc);
+        changed = 0;
+        if (seenSweep == Vision.sweep()) return;
+        seenSweep = Vision.sweep();
+
+        int ox = ruin.x - Vision.x - 2;
+        int oy = ruin.y - Vision.y - 2;
+        for (int i = 25; --i >= 0;) {
+            if (i == RUIN_BIT) continue;
+            MapInfo info = Vision.info(ox + i / 5, oy + i % 5);
+            if (info == null) continue;
+            PaintType paint = info.getPaint();
+            if (paint != seen[i]) set(i, paint);
+        }
+    }
+
+    /**
+     * Record paint we just put on a pattern tile ourselves.
+     */
+    public void painted(MapLocation tile, boolean useSecondary) {
+        int i = index(tile);
+        if (i >= 0) set(i, useSecondary ? PaintType.ALLY_SECONDARY : PaintType.ALLY_PRIMARY);
+    }
+
+    private void set(int i, PaintType paint) {
+        int bit = 1 << i;
+        seen[i] = paint;
+        changed |= bit;
+        boolean want = (secondary & bit) != 0;
+        if (paint == (want ? PaintType.ALLY_SECONDARY : PaintType.ALLY_PRIMARY)) correct |= bit;
+        else correct &= ~bit;
+        if (paint.isEnemy()) enemy |= bit;
+        else enemy &= ~bit;
+    }
+
+    /** Bit index of a tile, -1 off the pattern or on the ruin */
+    public int index(MapLocation tile) {
+        int ix = tile.x - ruin.x + 2;
+        int iy = tile.y - ruin.y + 2;
+        if ((ix | iy | (4 - ix) | (4 - iy)) < 0) return -1;
+        int i = ix * 5 + iy;
+        return i == RUIN_BIT ? -1 : i;
+    }
+
+    public boolean wantsSecondary(MapLocation tile) {
+        int i = index(tile);
+        return i >= 0 && (secondary & (1 << i)) != 0;
+    }
+
+    public int correctCount() {
+        return Integer.bitCount(correct);
+    }
+
+    /** Tiles we could still paint */
+    public int remaining() {
+        return Integer.bitCount(ALL & ~correct & ~enemy);
+    }
+
+    /** Wrong tiles only enemy paint keeps us from */
+    public int blocked() {
+        return Integer.bitCount(enemy);
+    }
+
+    /**
+     * Paintable tile closest to from, where the soldier will stand when it
+     * attacks, null when nothing is left to paint. Ties go to the lowest bit.
+     */
+    public MapLocation nextTile(MapLocation from) {
+        int todo = ALL & ~correct & ~enemy;
+        int ox = ruin.x - 2 - from.x;
+        int oy = ruin.y - 2 - from.y;
+        int best = -1;
+        int bestDist = Integer.MAX_VALUE;
+        while (todo != 0) {
+            int i = Integer.numberOfTrailingZeros(todo);
+            todo &= todo - 1;
+            int dx = ox + i / 5;
+            int dy = oy + i % 5;
+            int d = dx * dx + dy * dy;
+            if (d < bestDist) {
+                bestDist = d;
+                best = i;
+            }
+        }
+        return best < 0 ? null : new MapLocation(ruin.x - 2 + best / 5, ruin.y - 2 + best % 5);
+    }
+}
@@ -0,0 +1,186 @@
+package mybot.core;
+
+import battlecode.common.*;
+import mybot.Scoring;
+
+/**
+ * Splash target search over summed-area tables of the vision window.
+ *
+ * Scoring a splash center used to sense its 3x3 area tile by tile, for
+ * every candidate. Instead each turn's Vision sweep is turned into one
+ * prefix-sum table over the 9x9 window, whose cells pack three counts of
+ * passable tiles, 8 bits each: enemy paint, empty, ally paint (at most 81
+ * tiles, so a field never carries into the next). Any box is then four
+ * reads and the three counts come out of the packed difference, so every
+ * candidate center costs the same few operations.
+ *
+ * Tiles outside the window or not sensed count as nothing, like the
+ * canSenseLocation() skip they replace.
+ *
+ * plan() picks a move and a splash together: the 37 centers in splash range
+ * of any of the 9 tiles we could stand on are scored once into a 7x7 grid,
+ * and each origin reads its 13 from there, so neighbouring origins share the
+ * centers they both reach instead of scoring them again.
+ */
+public class SplashPlanner {
+
+    private static final int SIDE = Vision.SIZE + 1;  // Zero row and column in front
+
+    private static final int ENEMY_SHIFT = 16;
+    private static final int EMPTY_SHIFT = 8;
+    private static final int FIELD = 0xFF;
+
+    // Centers within a move plus splash range, offsets -3..3
+    private static final int REACH = 3;
+    private static final int REACH_SIDE = 2 * REACH + 1;
+    private static final int UNREACHABLE = Integer.MIN_VALUE;
+
+    // The 9 tiles to splash from, CENTER last
+    private static final Direction[] ORIGINS = Direction.values();
+
+    private static final int[] sums = new int[SIDE * SIDE];
+    private static final int[] centerScores = new int[REACH_SIDE * REACH_SIDE];
+    private static int builtSweep = -1;
+
+    /** Center and splash score best() or plan() found, null if nothing was worth it */
+    public static MapLocation bestTarget;
+    public static int bestScore;
+
+    /** Where plan() steps before splashing, CENTER to stay */
+    public static Direction planMove;
+
+    /**
+     * Build the prefix sums from this turn's sweep, once per sweep.
+     */
+    public static void build(RobotController rc) throws GameActionException {
+        Vision.refresh(rc);
+        if (builtSweep == Vision.sweep()) return;
+        builtSweep = Vision.sweep();
+
+        // Cell values first, one row of the table per column of the window
+        for (int i = sums.length; --i >= 0;) sums[i] = 0;
+        MapInfo[] tiles = Vision.tiles();
+        int cx = Vision.x - Vision.RADIUS - 1;
+        int cy = Vision.y - Vision.RADIUS - 1;
+        for (int i = tiles.length; --i >= 0;) {
+            MapInfo info = tiles[i];
+            if (!info.isPassable()) continue;
+            MapLocation loc = info.getMapLocation();
+            PaintType paint = info.getPaint();
+            sums[(loc.x - cx) * SIDE + loc.y - cy] = paint.isEnemy() ? 1 << ENEMY_SHIFT
+                : paint == PaintType.EMPTY ? 1 << EMPTY_SHIFT : 1;
+        }
+
+        // Then accumulate in place
+        for (int ix = 1; ix < SIDE; ix++) {
+            int row = ix * SIDE;
+            for (int iy = 1; iy < SIDE; iy++) {
+                sums[row + iy] += sums[row + iy - 1] + sums[row - SIDE + iy] - sums[row - SIDE + iy - 1];
+            }
+        }
+    }
+
+    /**
+     * Packed counts of the 3x3 around an offset from the sweep center.
+     */
+    public static int counts(int dx, int dy) {
+        // Inclusive window cells x0..x1, clamped, as table rows x0..x1 + 1
+        int x0 = dx + Vision.RADIUS - 1;
+        int x1 = x0 + 3;
+        int y0 = dy + Vision.RADIUS - 1;
+        int y1 = y0 + 3;
+        if (x0 < 0) x0 = 0;
+        if (y0 < 0) y0 = 0;
+        if (x1 > Vision.SIZE) x1 = Vision.SIZE;
+        if (y1 > Vision.SIZE) y1 = Vision.SIZE;
+        if (x0 >= x1 || y0 >= y1) return 0;
+        return sums[x1 * SIDE + y1] - sums[x0 * SIDE + y1] - sums[x1 * SIDE + y0] + sums[x0 * SIDE + y0];
+    }
+
+    /**
+     * Splash score of a center at an offset, with the Scoring weights.
+     */
+    public static int score(int dx, int dy) {
+        int c = counts(dx, dy);
+        return ((c >>> ENEMY_SHIFT) & FIELD) * Scoring.WEIGHT_SPLASH_ENEMY
+            + ((c >>> EMPTY_SHIFT) & FIELD) * Scoring.WEIGHT_SPLASH_NEUTRAL
+            + (c & FIELD) * Scoring.WEIGHT_SPLASH_ALLY;
+    }
+
+    public static int score(RobotController rc, MapLocation center) throws GameActionException {
+        build(rc);
+        return score(center.x - Vision.x, center.y - Vision.y);
+    }
+
+    /**
+     * Best passable center within radius² 8 (attack range plus a step), into
+     * bestTarget and bestScore. Ties go to the first offset in DISC8 order.
+     */
+    public static MapLocation best(RobotController rc) throws GameActionException {
+        build(rc);
+        bestTarget = null;
+        bestScore = 0;
+        int best = -1;
+        for (int i = Vision.DISC8_X.length; --i >= 0;) {
+            int dx = Vision.DISC8_X[i];
+            int dy = Vision.DISC8_Y[i];
+            int s = score(dx, dy);
+            if (s >= bestScore && s > 0 && Vision.isPassable(dx, dy)) {
+                bestScore = s;
+                best = i;
+            }
+        }
+        if (best >= 0) bestTarget = new MapLocation(Vision.x + Vision.DISC8_X[best], Vision.y + Vision.DISC8_Y[best]);
+        return bestTarget;
+    }
+
+    /**
+     * Best (move, splash) pair, into planMove, bestTarget and bestScore.
+     *
+     * Every origin we can stand on next (here or a legal move) pairs with every
+     * passable center within radius² 4 of it whose splash score reaches
+     * Scoring.THRESHOLD_SPLASH_WORTH. Pairs rank by splash score plus the
+     * paint lost standing on the origin, and staying wins ties.
+     */
+    public static MapLocation plan(RobotController rc) throws GameActionException {
+        build(rc);
+        for (int dx = -REACH; dx <= REACH; dx++) {
+            int row = (dx + REACH) * REACH_SIDE + REACH;
+            for (int dy = -REACH; dy <= REACH; dy++) {
+                centerScores[row + dy] = Vision.isPassable(dx, dy) ? score(dx, dy) : UNREACHABLE;
+            }
+        }
+
+        bestTarget = null;
+        bestScore = 0;
+        planMove = Direction.CENTER;
+        int bestValue = UNREACHABLE;
+        int bestCenter = -1;
+        // CENTER first, so it keeps ties
+        for (int d = 9; --d >= 0;) {
+            Direction dir = ORIGINS[d];
+            if (dir != Direction.CENTER && !rc.canMove(dir)) continue;
+            PaintType under = Vision.paint(dir.dx, dir.dy);
+            int standCost = under.isEnemy() ? Scoring.WEIGHT_SPLASH_FROM_ENEMY
+                : under.isAlly() ? 0 : Scoring.WEIGHT_SPLASH_FROM_NEUTRAL;
+
+            int origin = (dir.dx + REACH) * REACH_SIDE + dir.dy + REACH;
+            for (int i = Vision.DISC4_X.length; --i >= 0;) {
+                int center = origin + Vision.DISC4_X[i] * REACH_SIDE + Vision.DISC4_Y[i];
+                int s = centerScores[center];
+                if (s <= 0 || s < Scoring.THRESHOLD_SPLASH_WORTH) continue;
+                if (s + standCost > bestValue) {
+                    bestValue = s + standCost;
+                    bestScore = s;
+                    bestCenter = center;
+                    planMove = dir;
+                }
+            }
+        }
+        if (bestCenter >= 0) {
+            bestTarget = new MapLocation(Vision.x + bestCenter / REACH_SIDE - REACH,
+                Vision.y + bestCenter % REACH_SIDE - REACH);
+        }
+        return bestTarget;
+    }
+}
@@ -0,0 +1,357 @@
+package mybot.core;
+
+import battlecode.common.*;
+
+/**
+ * Map-wide bitboard of tiles that could still be SRP centers.
+ *
+ * Bit x of row y is the center (x, y), one long per row. A center is out
+ * when its 5x5 runs off the map or holds a wall, a ruin or enemy paint, when
+ * a ruin with no tower on it is within 4 tiles (its tower pattern needs the
+ * space), or when it would overlap a built SRP other than edge to edge.
+ *
+ * Each turn's Vision sweep is diffed against tile boards of walls, open
+ * ruins, enemy paint and SRP centers, and only what changed is folded in:
+ * walls and SRP centers rule their neighbourhood out for good, while enemy
+ * paint and open ruins are kept dilated per row so rows near a change are
+ * recomputed from a handful of ORs. Picking a center is then a few shifts
+ * per row around us instead of scoring every visible tile's 5x5.
+ *
+ * Tiles never seen count as clear. Callers confirm a center on arrival and
+ * disqualify() it if the engine disagrees.
+ *
+ * A lattice (SrpLattice) narrows the choice further to centers at one offset
+ * mod STEP on both axes, so SRPs pack edge to edge across the map instead of
+ * leaving strips too thin for another pattern. The first built SRP seen pins
+ * the lattice to itself.
+ */
+public class SrpBoard {
+
+    /** Rows and columns either side of us that next() looks at */
+    public static final int SEARCH_RADIUS = 6;
+
+    /** SRPs share edges at this spacing */
+    public static final int STEP = 4;
+
+    // Centers that clash with a built SRP at (0, 0), by |dy|, bit dx + 4
+    private static final long[] CLASH = {0x0FEL, 0x1FFL, 0x1FFL, 0x0FEL, 0x06CL};
+
+    private static int width, height;
+    private static long inner;
+
+    /** Centers ruled out for good */
+    private static long[] blocked = null;
+
+    // Tile boards, as last seen
+    private static long[] walls;
+    private static long[] openRuins;
+    private static long[] enemy;
+    private static long[] centers;
+
+    // Per row dilations: enemy paint by 2 columns, open ruins by 4 columns then 4 rows
+    private static long[] enemyNear;
+    private static long[] ruinNear;
+    private static long[] ruinClear;
+
+    /** Lattice neighbours of built SRPs, where a new one would tile */
+    private static long[] tiling;
+
+    /** Centers still worth trying */
+    private static long[] valid;
+
+    // Lattice columns as a row mask and row offset, latticeRow -1 for none
+    private static long latticeCols;
+    private static int latticeRow = -1;
+    private static boolean latticePinned = false;
+
+    private static int updatedSweep = -1;
+
+    public static void init(int mapWidth, int mapHeight) {
+        width = mapWidth;
+        height = mapHeight;
+        inner = ((1L << (width - 2)) - 1) & ~3L;
+        blocked = new long[height];
+        walls = new long[height];
+        openRuins = new long[height];
+        enemy = new long[height];
+        centers = new long[height];
+        enemyNear = new long[height];
+        ruinNear = new long[height];
+        ruinClear = new long[height];
+        tiling = new long[height];
+        valid = new long[height];
+        for (int y = height; --y >= 0;) {
+            if (y < 2 || y > height - 3) blocked[y] = -1L;
+            else valid[y] = inner;
+        }
+        updatedSweep = -1;
+        latticeRow = -1;
+        latticePinned = false;
+    }
+
+    // ==================== UPDATES ====================
+
+    /**
+     * Fold this turn's Vision sweep in, once per sweep.
+     */
+    public static void update(RobotController rc) throws GameActionException {
+        if (blocked == null) init(rc.getMapWidth(), rc.getMapHeight());
+        Vision.refresh(rc);
+        if (updatedSweep == Vision.sweep()) return;
+        updatedSweep = Vision.sweep();
+
+        // Tile rows whose enemy paint or open ruins changed
+        int lo = height;
+        int hi = -1;
+        boolean ruinsChanged = false;
+        MapInfo[] tiles = Vision.tiles();
+        for (int i = tiles.length; --i >= 0;) {
+            MapInfo info = tiles[i];
+            MapLocation loc = info.getMapLocation();
+            int y = loc.y;
+            long bit = 1L << loc.x;
+            if (info.isPassable()) {
+                if (((enemy[y] & bit) != 0) != info.getPaint().isEnemy()) {
+                    enemy[y] ^= bit;
+                    if (y < lo) lo = y;
+                    if (y > hi) hi = y;
+                }
+                if (info.isResourcePatternCenter() && (centers[y] & bit) == 0) addCenter(loc);
+                continue;
+            }
+            if ((walls[y] & bit) == 0) {
+                walls[y] |= bit;
+                block(loc, 2);
+            }
+            if (info.hasRuin() && ((openRuins[y] & bit) != 0) == rc.canSenseRobotAtLocation(loc)) {
+                openRuins[y] ^= bit;
+                ruinNear[y] = spread(openRuins[y], 4);
+                ruinsChanged = true;
+                if (y < lo) lo = y;
+                if (y > hi) hi = y;
+            }
+        }
+        if (hi < 0) return;
+
+        for (int y = lo; y <= hi; y++) enemyNear[y] = spread(enemy[y], 2);
+        if (ruinsChanged) {
+            for (int y = Math.max(lo - 4, 0), end = Math.min(hi + 4, height - 1); y <= end; y++) {
+                long near = 0;
+                for (int r = Math.max(y - 4, 0), rEnd = Math.min(y + 4, height - 1); r <= rEnd; r++) near |= ruinNear[r];
+                ruinClear[y] = near;
+            }
+            refresh(lo - 4, hi + 4);
+        } else {
+            refresh(lo - 2, hi + 2);
+        }
+    }
+
+    /**
+     * Record a built SRP: its neighbourhood clashes, its lattice neighbours tile.
+     */
+    public static void addCenter(MapLocation center) {
+        if (blocked == null) return;
+        centers[center.y] |= 1L << center.x;
+        if (!latticePinned) {
+            setLattice(center.x % STEP, center.y % STEP);
+            latticePinned = true;
+        }
+        for (int dy = -4; dy <= 4; dy++) {
+            int y = center.y + dy;
+            if (y < 0 || y >= height) continue;
+            blocked[y] |= shift(CLASH[Math.abs(dy)], center.x - 4);
+        }
+        for (int dy = -STEP; dy <= STEP; dy += STEP) {
+            int y = center.y + dy;
+            if (y < 0 || y >= height) continue;
+            tiling[y] |= shift(0x111L, center.x - STEP) & ~(dy == 0 ? 1L << center.x : 0);
+        }
+        refresh(center.y - 4, center.y + 4);
+    }
+
+    /**
+     * Rule a center out for good, when the engine won't mark it.
+     */
+    public static void disqualify(MapLocation center) {
+        if (blocked == null) return;
+        blocked[center.y] |= 1L << center.x;
+        valid[center.y] &= ~(1L << center.x);
+    }
+
+    /**
+     * Add the mirror image of every known wall and ruin under a symmetry
+     * (Symmetry flags), once it is confirmed. Mirrored ruins count as open
+     * until one is seen with a tower on it.
+     */
+    public static void mirror(int symmetry) {
+        if (blocked == null) return;
+        long[] added = mirrorRows(walls, symmetry);
+        long[] ruins = mirrorRows(openRuins, symmetry);
+        int lo = height;
+        int hi = -1;
+        for (int y = height; --y >= 0;) {
+            if (added[y] != 0) {
+                walls[y] |= added[y];
+                long cols = spread(added[y], 2);
+                for (int r = Math.max(y - 2, 0), end = Math.min(y + 2, height - 1); r <= end; r++) {
+                    blocked[r] |= cols;
+                    valid[r] &= ~cols;
+                }
+            }
+            if (ruins[y] != 0) {
+                openRuins[y] |= ruins[y];
+                ruinNear[y] = spread(openRuins[y], 4);
+                if (y < lo) lo = y;
+                if (y > hi) hi = y;
+            }
+        }
+        if (hi < 0) return;
+        for (int y = Math.max(lo - 4, 0), end = Math.min(hi + 4, height - 1); y <= end; y++) {
+            long near = 0;
+            for (int r = Math.max(y - 4, 0), rEnd = Math.min(y + 4, height - 1); r <= rEnd; r++) near |= ruinNear[r];
+            ruinClear[y] = near;
+        }
+        refresh(lo - 4, hi + 4);
+    }
+
+    // Mirror images of a tile board's bits that it doesn't have yet
+    private static long[] mirrorRows(long[] board, int symmetry) {
+        long[] added = new long[height];
+        for (int y = height; --y >= 0;) {
+            long row = board[y];
+            if (row == 0) continue;
+            int my = symmetry == Symmetry.VERTICAL ? y : height - 1 - y;
+            long mirrored = symmetry == Symmetry.HORIZONTAL ? row : Long.reverse(row) >>> (64 - width);
+            added[my] |= mirrored & ~board[my];
+        }
+        return added;
+    }
+
+    /**
+     * Centers at (ox + STEP * i, oy + STEP * j), ignored once a built SRP
+     * pinned the lattice.
+     */
+    public static void setLattice(int ox, int oy) {
+        if (latticePinned) return;
+        latticeCols = 0x1111111111111111L << ox;
+        latticeRow = oy;
+    }
+
+    public static boolean hasLattice() {
+        return latticeRow >= 0;
+    }
+
+    public static boolean isLatticePinned() {
+        return latticePinned;
+    }
+
+    /** Rule out centers within r rows and columns of a tile */
+    private static void block(MapLocation tile, int r) {
+        long cols = spread(1L << tile.x, r);
+        for (int y = Math.max(tile.y - r, 0), end = Math.min(tile.y + r, height - 1); y <= end; y++) {
+            blocked[y] |= cols;
+            valid[y] &= ~cols;
+        }
+    }
+
+    private static void refresh(int from, int to) {
+        if (from < 2) from = 2;
+        if (to > height - 3) to = height - 3;
+        for (int y = from; y <= to; y++) {
+            valid[y] = inner & ~blocked[y] & ~ruinClear[y]
+                & ~(enemyNear[y - 2] | enemyNear[y - 1] | enemyNear[y] | enemyNear[y + 1] | enemyNear[y + 2]);
+        }
+    }
+
+    private static long spread(long row, int r) {
+        long out = row;
+        for (int i = r; i > 0; i--) out |= row << i | row >>> i;
+        return out;
+    }
+
+    private static long shift(long row, int by) {
+        return by >= 0 ? row << by : row >>> -by;
+    }
+
+    // ==================== QUERIES ====================
+
+    public static boolean isValid(MapLocation center) {
+        return valid != null && center.y >= 0 && center.y < height && center.x >= 0 && center.x < width
+            && (valid[center.y] & (1L << center.x)) != 0;
+    }
+
+    /**
+     * Center to build next within SEARCH_RADIUS of from, or null. Centers that
+     * tile with a built SRP come first, then lattice slots, then the closest
+     * by distance².
+     */
+    public static MapLocation next(MapLocation from) {
+        if (valid == null) return null;
+        MapLocation best = nearest(from, SEARCH_RADIUS, TILED);
+        if (best == null && latticeRow >= 0) best = nearest(from, SEARCH_RADIUS, LATTICE);
+        return best != null ? best : nearest(from, SEARCH_RADIUS, ANY);
+    }
+
+    /**
+     * Closest lattice slot within radius rows and columns of from, or null.
+     */
+    public static MapLocation nextSlot(MapLocation from, int radius) {
+        if (valid == null || latticeRow < 0) return null;
+        return nearest(from, radius, LATTICE);
+    }
+
+    /** Valid centers in row y, for scoring lattices */
+    static long validRow(int y) {
+        return valid[y];
+    }
+
+    static int width() {
+        return width;
+    }
+
+    static int height() {
+        return height;
+    }
+
+    // nearest() filters
+    private static final int TILED = 0;
+    private static final int LATTICE = 1;
+    private static final int ANY = 2;
+
+    private static MapLocation nearest(MapLocation from, int radius, int filter) {
+        int x = from.x;
+        long window = spread(1L << x, radius);
+        int bestDist = Integer.MAX_VALUE;
+        int bestX = 0;
+        int bestY = -1;
+        for (int y = Math.max(from.y - radius, 2), end = Math.min(from.y + radius, height - 3); y <= end; y++) {
+            long row = valid[y] & window;
+            if (filter == TILED) row &= tiling[y];
+            else if (filter == LATTICE) row &= (y % STEP == latticeRow) ? latticeCols : 0;
+            if (row == 0) continue;
+            int dy = y - from.y;
+            // Closest set bit at or right of x, then left of it
+            long right = row >>> x;
+            if (right != 0) {
+                int dx = Long.numberOfTrailingZeros(right);
+                int d = dx * dx + dy * dy;
+                if (d < bestDist) {
+                    bestDist = d;
+                    bestX = x + dx;
+                    bestY = y;
+                }
+            }
+            long left = row & ((1L << x) - 1);
+            if (left != 0) {
+                int dx = x - (63 - Long.numberOfLeadingZeros(left));
+                int d = dx * dx + dy * dy;
+                if (d < bestDist) {
+                    bestDist = d;
+                    bestX = x - dx;
+                    bestY = y;
+                }
+            }
+        }
+        return bestY < 0 ? null : new MapLocation(bestX, bestY);
+    }
+}
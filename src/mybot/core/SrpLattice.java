@@ -0,0 +1,125 @@
+package mybot.core;
+
+import battlecode.common.*;
+import mybot.Metrics;
+
+/**
+ * One SRP lattice for the map, so resource patterns tile edge to edge.
+ *
+ * SRPs built wherever a soldier happens to be leave strips one to three tiles
+ * wide between them that no further 5x5 fits in. Centers STEP apart on both
+ * axes share edges instead, so picking the offset (ox, oy) mod STEP once and
+ * building only on (ox + STEP * i, oy + STEP * j) fits the most patterns in.
+ *
+ * The offset is the one with the most lattice slots still valid on SrpBoard,
+ * which at the start is decided by how the lattice meets the map edges and
+ * the walls and ruins seen so far. When Symmetry locks in, the mirror images
+ * of known walls and ruins go onto the board and the offset is chosen again.
+ * Once a built SRP is seen the lattice is pinned to it (SrpBoard.addCenter).
+ *
+ * Towers hand each new soldier a free slot near them on spawn, which gives
+ * the soldier the tower's lattice and its first center to build.
+ */
+public class SrpLattice {
+
+    /** Rows and columns either side of a tower it hands slots out from */
+    public static final int HANDOUT_RADIUS = 12;
+
+    // Slot a tower handed us, kept until built or ruled out
+    private static MapLocation slot = null;
+
+    // Last slot taken, so one still in the inbox isn't taken again
+    private static MapLocation taken = null;
+
+    private static boolean mirrored = false;
+
+    /**
+     * Offset with the most valid slots, packed ox << 2 | oy. Ties go to the
+     * lowest offset, so robots that know the same walls agree.
+     */
+    public static int choose() {
+        int step = SrpBoard.STEP;
+        int[] rowCounts = new int[step * step];
+        for (int y = SrpBoard.height(); --y >= 0;) {
+            long row = SrpBoard.validRow(y);
+            if (row == 0) continue;
+            int oy = y % step;
+            for (int ox = step; --ox >= 0;) {
+                rowCounts[ox * step + oy] += Long.bitCount(row & (0x1111111111111111L << ox));
+            }
+        }
+        int best = 0;
+        for (int i = 1; i < rowCounts.length; i++) {
+            if (rowCounts[i] > rowCounts[best]) best = i;
+        }
+        return best;
+    }
+
+    private static void adopt(int offset) {
+        SrpBoard.setLattice(offset >> 2, offset & 3);
+    }
+
+    // ==================== SOLDIER SIDE ====================
+
+    /**
+     * Per turn: take a slot a tower sent us and refine on symmetry. The board
+     * is only brought up to date when one of those happens; picking a center
+     * goes through refresh() instead.
+     */
+    public static void update(RobotController rc) throws GameActionException {
+        Inbox.refresh(rc);
+        MapLocation sent = Inbox.srpSlot();
+        boolean take = sent != null && slot == null && !sent.equals(taken) && !SrpBoard.isLatticePinned();
+        boolean mirror = !mirrored && Symmetry.isSymmetryDetermined();
+        if (!take && !mirror) return;
+        SrpBoard.update(rc);
+        if (take) {
+            slot = taken = sent;
+            SrpBoard.setLattice(sent.x % SrpBoard.STEP, sent.y % SrpBoard.STEP);
+        }
+        if (mirror) {
+            mirrored = true;
+            SrpBoard.mirror(Symmetry.getPossibleSymmetry());
+            if (slot == null) adopt(choose());
+        }
+        settle();
+    }
+
+    /**
+     * Bring the board up to date before picking a center to build.
+     */
+    public static void refresh(RobotController rc) throws GameActionException {
+        SrpBoard.update(rc);
+        settle();
+    }
+
+    // Pick a lattice if we have none yet, let go of a slot that's been ruled out
+    private static void settle() {
+        if (!SrpBoard.hasLattice()) adopt(choose());
+        if (slot != null && !SrpBoard.isValid(slot)) slot = null;
+    }
+
+    /** Slot a tower handed us that is still worth building, or null */
+    public static MapLocation slot() {
+        return slot;
+    }
+
+    // ==================== TOWER SIDE ====================
+
+    /**
+     * Send a newly spawned soldier the free slot closest to us. Each slot is
+     * handed out once, so soldiers from the same tower spread over the lattice.
+     */
+    public static void sendSlot(RobotController rc, MapLocation unitLoc) throws GameActionException {
+        SrpBoard.update(rc);
+        if (!SrpBoard.hasLattice()) adopt(choose());
+        MapLocation free = SrpBoard.nextSlot(rc.getLocation(), HANDOUT_RADIUS);
+        if (free == null || !rc.canSendMessage(unitLoc)) return;
+        PackedCodec.reset();
+        PackedCodec.addSrpSlot(free);
+        rc.sendMessage(unitLoc, PackedCodec.message(0));
+        Metrics.trackMessageSent();
+        PackedCodec.reset();
+        SrpBoard.disqualify(free);
+    }
+}
@@ -0,0 +1,112 @@
+package mybot.core;
+
+import battlecode.common.*;
+
+/**
+ * Mop swing search over an enemy occupancy bitmask.
+ *
+ * A swing hits the 3x2 block in front of the mopper, and moving first shifts
+ * that block by one tile, so every (move, swing) pair reaches into the 7x7
+ * square of offsets -3..3 around us. Those 49 tiles fit in a long, one bit
+ * each at (dx + 3) * 7 + dy + 3. Each turn the nearby enemy robots are
+ * dropped into one such mask, and the robots a pair hits are that mask ANDed
+ * with the pair's precomputed stencil and popcounted: 36 pairs for a few
+ * operations each, instead of matching every enemy against every swing tile.
+ *
+ * Towers are left out of the mask, swings only drain robots.
+ */
+public class SwingPlanner {
+
+    private static final int REACH = 3;
+    private static final int REACH_SIDE = 2 * REACH + 1;
+
+    // The 4 directions a swing can go, in stencil order
+    private static final Direction[] SWINGS = {
+        Direction.NORTH, Direction.EAST, Direction.SOUTH, Direction.WEST,
+    };
+
+    // The 9 tiles to swing from, CENTER last
+    private static final Direction[] ORIGINS = Direction.values();
+
+    /**
+     * Tiles hit by each pair, STENCILS[move.ordinal() * 4 + swing] with swings
+     * in SWINGS order.
+     */
+    private static final long[] STENCILS = {
+        0x000060C180000L, 0x001C380000000L, 0x00000C1830000L, 0x00000000E1C00L,
+        0x003060C000000L, 0x0E1C000000000L, 0x00060C1800000L, 0x00000070E0000L,
+        0x0018306000000L, 0x070E000000000L, 0x0003060C00000L, 0x0000003870000L,
+        0x000C183000000L, 0x0387000000000L, 0x0001830600000L, 0x0000001C38000L,
+        0x0000183060000L, 0x00070E0000000L, 0x000003060C000L, 0x0000000038700L,
+        0x0000003060C00L, 0x00000E1C00000L, 0x000000060C180L, 0x000000000070EL,
+        0x00000060C1800L, 0x00001C3800000L, 0x0000000C18300L, 0x0000000000E1CL,
+        0x000000C183000L, 0x0000387000000L, 0x0000001830600L, 0x0000000001C38L,
+        0x00003060C0000L, 0x000E1C0000000L, 0x0000060C18000L, 0x0000000070E00L,
+    };
+
+    /** Enemy robots within reach, by bit */
+    public static long mask;
+
+    /** Best pair plan() found, bestSwing null if no swing hits anything */
+    public static Direction bestMove;
+    public static Direction bestSwing;
+    public static int bestHits;
+
+    /**
+     * Drop the enemy robots within reach of a move and a swing into the mask.
+     */
+    public static void build(MapLocation me, RobotInfo[] enemies) {
+        long m = 0;
+        for (int i = enemies.length; --i >= 0;) {
+            RobotInfo enemy = enemies[i];
+            if (enemy.getType().isTowerType()) continue;
+            int ix = enemy.getLocation().x - me.x + REACH;
+            int iy = enemy.getLocation().y - me.y + REACH;
+            if ((ix | iy | (2 * REACH - ix) | (2 * REACH - iy)) < 0) continue;
+            m |= 1L << (ix * REACH_SIDE + iy);
+        }
+        mask = m;
+    }
+
+    /**
+     * Enemy robots hit by stepping in move then swinging in swing, which has
+     * to be a cardinal direction (ordinals 0, 2, 4, 6 map to 0..3).
+     */
+    public static int hits(Direction move, Direction swing) {
+        return Long.bitCount(mask & STENCILS[move.ordinal() * 4 + (swing.ordinal() >> 1)]);
+    }
+
+    /**
+     * Best (move, swing) pair, into bestMove, bestSwing and bestHits.
+     *
+     * Moves are only tried while movement is ready and where canMove allows,
+     * and staying wins ties. Swings are not checked against canMopSwing, the
+     * caller does that once it has moved.
+     */
+    public static Direction plan(RobotController rc, RobotInfo[] enemies) {
+        build(rc.getLocation(), enemies);
+        bestMove = Direction.CENTER;
+        bestSwing = null;
+        bestHits = 0;
+        if (mask == 0) return null;
+
+        boolean canStep = rc.isMovementReady();
+        // CENTER first, so it keeps ties
+        for (int d = 9; --d >= 0;) {
+            Direction move = ORIGINS[d];
+            if (move != Direction.CENTER && (!canStep || !rc.canMove(move))) continue;
+            int base = d * 4;
+            for (int s = 4; --s >= 0;) {
+                long hit = mask & STENCILS[base + s];
+                if (hit == 0) continue;
+                int n = Long.bitCount(hit);
+                if (n > bestHits) {
+                    bestHits = n;
+                    bestMove = move;
+                    bestSwing = SWINGS[s];
+                }
+            }
+        }
+        return bestSwing;
+    }
+}
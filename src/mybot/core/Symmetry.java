@@ -15,8 +15,15 @@ import battlecode.common.*;
  * - Find enemy towers before seeing them
  * - Navigate efficiently toward enemy territory
  *
- * Detection method: XOR comparison of explored tiles.
- * If tile at (x,y) differs from its symmetric counterpart, eliminate that symmetry type.
+ * Detection method: every vision sweep is folded into bitboard rows of seen
+ * tiles, walls and ruins. The rows a sweep touched are XORed against their
+ * mirror rows under each symmetry still possible (the same row reversed for
+ * vertical, the opposite row for horizontal, the opposite row reversed for
+ * rotational), and any difference on tiles seen on both sides eliminates that
+ * symmetry. Once one is left it is locked in and sweeps stop.
+ *
+ * Paint is not used: what a unit sees painted was laid by players, and the
+ * two teams don't paint mirror images of each other.
  */
 public class Symmetry {
 
@@ -32,7 +39,11 @@ public class Symmetry {
     private static int mapWidth = 60;
     private static int mapHeight = 60;
 
-    // Track which symmetries we've confirmed are impossible
+    // Bit x of row y is tile (x, y)
+    private static long[] seen = new long[60];
+    private static long[] walls = new long[60];
+    private static long[] ruins = new long[60];
+
     private static boolean initialized = false;
 
     /**
@@ -43,80 +54,78 @@ public class Symmetry {
         mapWidth = rc.getMapWidth();
         mapHeight = rc.getMapHeight();
         possibleSymmetry = HORIZONTAL | VERTICAL | ROTATIONAL;
+        seen = new long[mapHeight];
+        walls = new long[mapHeight];
+        ruins = new long[mapHeight];
         initialized = true;
     }
 
     /**
-     * Update symmetry detection when we learn about a tile.
-     * Call this when you sense a tile's passability.
-     *
-     * @param loc The location we sensed
-     * @param passable Whether the tile is passable
+     * Fold a vision sweep (rc.senseNearbyMapInfos()) into the rows and cross-
+     * check the rows it touched. Free once the symmetry is determined.
      */
-    public static void updateFromTile(RobotController rc, MapLocation loc, boolean passable) {
+    public static void update(RobotController rc, MapInfo[] tiles) {
         if (!initialized) init(rc);
+        if (isSymmetryDetermined()) return;
+
+        int minY = mapHeight, maxY = -1;
+        for (int i = tiles.length; --i >= 0;) {
+            MapInfo tile = tiles[i];
+            MapLocation loc = tile.getMapLocation();
+            int y = loc.y;
+            long bit = 1L << loc.x;
+            seen[y] |= bit;
+            if (tile.isWall()) {
+                walls[y] |= bit;
+            } else if (tile.hasRuin()) {
+                ruins[y] |= bit;
+            }
+            if (y < minY) minY = y;
+            if (y > maxY) maxY = y;
+        }
 
-        int x = loc.x;
-        int y = loc.y;
+        for (int y = minY; y <= maxY; y++) {
+            checkRow(y);
+        }
+        // Contradictory sightings ruled everything out: settle on the most
+        // common symmetry rather than sweeping for the rest of the game
+        if (possibleSymmetry == 0) possibleSymmetry = ROTATIONAL;
+    }
+
+    /**
+     * Eliminate every symmetry row y disagrees with its mirror row under.
+     */
+    private static void checkRow(int y) {
+        int mirrorY = mapHeight - 1 - y;
+        long s = seen[y], w = walls[y], r = ruins[y];
 
-        // Check horizontal symmetry (reflect across Y)
         if ((possibleSymmetry & HORIZONTAL) != 0) {
-            int symY = mapHeight - 1 - y;
-            MapLocation symLoc = new MapLocation(x, symY);
-            if (canCheckSymmetricLocation(rc, symLoc)) {
-                try {
-                    MapInfo symInfo = rc.senseMapInfo(symLoc);
-                    if (symInfo.isPassable() != passable) {
-                        // Passability differs - eliminate horizontal symmetry
-                        possibleSymmetry &= ~HORIZONTAL;
-                    }
-                } catch (GameActionException e) {
-                    // Can't sense - don't update
-                }
+            long both = s & seen[mirrorY];
+            if ((((w ^ walls[mirrorY]) | (r ^ ruins[mirrorY])) & both) != 0) {
+                possibleSymmetry &= ~HORIZONTAL;
             }
         }
 
-        // Check vertical symmetry (reflect across X)
         if ((possibleSymmetry & VERTICAL) != 0) {
-            int symX = mapWidth - 1 - x;
-            MapLocation symLoc = new MapLocation(symX, y);
-            if (canCheckSymmetricLocation(rc, symLoc)) {
-                try {
-                    MapInfo symInfo = rc.senseMapInfo(symLoc);
-                    if (symInfo.isPassable() != passable) {
-                        // Passability differs - eliminate vertical symmetry
-                        possibleSymmetry &= ~VERTICAL;
-                    }
-                } catch (GameActionException e) {
-                    // Can't sense - don't update
-                }
+            long both = s & reverse(s);
+            if ((((w ^ reverse(w)) | (r ^ reverse(r))) & both) != 0) {
+                possibleSymmetry &= ~VERTICAL;
             }
         }
 
-        // Check rotational symmetry (180-degree rotation)
         if ((possibleSymmetry & ROTATIONAL) != 0) {
-            int symX = mapWidth - 1 - x;
-            int symY = mapHeight - 1 - y;
-            MapLocation symLoc = new MapLocation(symX, symY);
-            if (canCheckSymmetricLocation(rc, symLoc)) {
-                try {
-                    MapInfo symInfo = rc.senseMapInfo(symLoc);
-                    if (symInfo.isPassable() != passable) {
-                        // Passability differs - eliminate rotational symmetry
-                        possibleSymmetry &= ~ROTATIONAL;
-                    }
-                } catch (GameActionException e) {
-                    // Can't sense - don't update
-                }
+            long both = s & reverse(seen[mirrorY]);
+            if ((((w ^ reverse(walls[mirrorY])) | (r ^ reverse(ruins[mirrorY]))) & both) != 0) {
+                possibleSymmetry &= ~ROTATIONAL;
             }
         }
     }
 
     /**
-     * Check if we can sense the symmetric location.
+     * Mirror a row left to right, bit x moves to bit mapWidth - 1 - x.
      */
-    private static boolean canCheckSymmetricLocation(RobotController rc, MapLocation loc) {
-        return rc.canSenseLocation(loc);
+    private static long reverse(long row) {
+        return Long.reverse(row) >>> (64 - mapWidth);
     }
 
     /**
@@ -0,0 +1,140 @@
+package mybot.core;
+
+import battlecode.common.*;
+
+/**
+ * Per-turn cache of the vision disc.
+ *
+ * One senseNearbyMapInfos() sweep is filed into a 9x9 grid around the robot
+ * (vision radius² 20 never reaches past 4 tiles on either axis), after which
+ * the paint, mark, wall or ruin at a relative offset is an array read instead
+ * of a canSenseLocation() and senseMapInfo() per tile. Scorers that look at
+ * the 8 neighbours or a small disc around us share the one sweep.
+ *
+ * Offsets are taken from each tile's own location rather than from the order
+ * the engine returns them in, since tiles off the map edge are left out of
+ * that order. Cells carry the number of the sweep that wrote them, so nothing
+ * is cleared between sweeps and cells the last sweep did not see read as
+ * unsensed.
+ *
+ * Our own attacks repaint tiles mid-turn, so the sweep is also keyed on the
+ * action cooldown: once it goes up, the next refresh sweeps again instead of
+ * serving the paint from before the attack.
+ */
+public class Vision {
+
+    public static final int RADIUS = 4;
+    public static final int SIZE = 2 * RADIUS + 1;
+
+    /** Offsets within radius² 8 of a tile, the 5x5 square less its corners */
+    public static final int[] DISC8_X = {
+        -1, 0, 1, -2, -1, 0, 1, 2, -2, -1, 0, 1, 2, -2, -1, 0, 1, 2, -1, 0, 1,
+    };
+    public static final int[] DISC8_Y = {
+        -2, -2, -2, -1, -1, -1, -1, -1, 0, 0, 0, 0, 0, 1, 1, 1, 1, 1, 2, 2, 2,
+    };
+
+    /** Offsets within radius² 4 of a tile */
+    public static final int[] DISC4_X = {0, -1, 0, 1, -2, -1, 0, 1, 2, -1, 0, 1, 0};
+    public static final int[] DISC4_Y = {-2, -1, -1, -1, 0, 0, 0, 0, 0, 1, 1, 1, 2};
+
+    /** Center of the last sweep, offsets are relative to it */
+    public static int x;
+    public static int y;
+
+    private static final MapInfo[] grid = new MapInfo[SIZE * SIZE];
+    private static final int[] stamps = new int[SIZE * SIZE];
+    private static int stamp = 0;
+
+    private static MapInfo[] tiles;
+    private static int loadedRound = -1;
+    private static MapLocation loadedAt;
+    private static int loadedCooldown;
+
+    /**
+     * Sweep the vision disc, at most once per round, location and action.
+     */
+    public static void refresh(RobotController rc) throws GameActionException {
+        MapLocation me = rc.getLocation();
+        int round = rc.getRoundNum();
+        int cooldown = rc.getActionCooldownTurns();
+        if (round == loadedRound && me.equals(loadedAt) && cooldown == loadedCooldown) return;
+        load(me, round, rc.senseNearbyMapInfos());
+        loadedCooldown = cooldown;
+    }
+
+    /**
+     * File a sweep taken at center this round, for callers that sensed anyway.
+     */
+    public static void load(MapLocation center, int round, MapInfo[] sweep) {
+        tiles = sweep;
+        loadedRound = round;
+        loadedAt = center;
+        int cx = center.x - RADIUS;
+        int cy = center.y - RADIUS;
+        x = center.x;
+        y = center.y;
+        int s = ++stamp;
+        for (int i = sweep.length; --i >= 0;) {
+            MapInfo info = sweep[i];
+            MapLocation loc = info.getMapLocation();
+            int index = (loc.x - cx) * SIZE + loc.y - cy;
+            grid[index] = info;
+            stamps[index] = s;
+        }
+    }
+
+    /** Number of the last sweep, changes whenever the grid is reloaded */
+    public static int sweep() {
+        return stamp;
+    }
+
+    /** The last sweep as the engine returned it */
+    public static MapInfo[] tiles() {
+        return tiles;
+    }
+
+    // ==================== ACCESSORS ====================
+    // By offset from (x, y), null or false when the tile was not sensed
+
+    public static MapInfo info(int dx, int dy) {
+        int ix = dx + RADIUS;
+        int iy = dy + RADIUS;
+        if ((ix | iy | (2 * RADIUS - ix) | (2 * RADIUS - iy)) < 0) return null;
+        int index = ix * SIZE + iy;
+        return stamps[index] == stamp ? grid[index] : null;
+    }
+
+    public static MapInfo info(MapLocation loc) {
+        return info(loc.x - x, loc.y - y);
+    }
+
+    public static boolean sensed(int dx, int dy) {
+        return info(dx, dy) != null;
+    }
+
+    public static PaintType paint(int dx, int dy) {
+        MapInfo info = info(dx, dy);
+        return info != null ? info.getPaint() : null;
+    }
+
+    public static PaintType mark(int dx, int dy) {
+        MapInfo info = info(dx, dy);
+        return info != null ? info.getMark() : null;
+    }
+
+    public static boolean isWall(int dx, int dy) {
+        MapInfo info = info(dx, dy);
+        return info != null && info.isWall();
+    }
+
+    public static boolean isRuin(int dx, int dy) {
+        MapInfo info = info(dx, dy);
+        return info != null && info.hasRuin();
+    }
+
+    public static boolean isPassable(int dx, int dy) {
+        MapInfo info = info(dx, dy);
+        return info != null && info.isPassable();
+    }
+}
@@ -24,11 +24,10 @@ public class Micro {
      * Optimized for low bytecode usage.
      */
     public static int[] score(RobotController rc, Direction targetDir) throws GameActionException {
+        if (Profiler.ENABLED) Profiler.begin(Profiler.MICRO);
         // Reset scores
         for (int i = 9; --i >= 0;) scores[i] = 0;
 
-        MapLocation myLoc = rc.getLocation();
-
         // 1. Target direction bonus (simplified)
         if (targetDir != null && targetDir != Direction.CENTER) {
             int targetIdx = targetDir.ordinal();
@@ -38,6 +37,7 @@ public class Micro {
         }
 
         // 2. Evaluate each direction (simplified - only check passability and paint)
+        MapLocation myLoc = rc.getLocation();
         Direction[] allDirs = Globals.ALL_DIRECTIONS;
         for (int i = 8; --i >= 0;) {  // Skip CENTER (index 8)
             Direction d = allDirs[i];
@@ -47,9 +47,7 @@ public class Micro {
                 continue;
             }
 
-            MapLocation dest = myLoc.add(d);
-            MapInfo info = rc.senseMapInfo(dest);
-            PaintType paint = info.getPaint();
+            PaintType paint = rc.senseMapInfo(myLoc.add(d)).getPaint();
             if (paint.isEnemy()) {
                 scores[i] -= ENEMY_PAINT_PENALTY;
             } else if (paint.isAlly()) {
@@ -57,21 +55,15 @@ public class Micro {
             }
         }
 
-        // 3. Simple enemy avoidance (only check nearest 2 enemies)
-        RobotInfo[] enemies = rc.senseNearbyRobots(-1, rc.getTeam().opponent());
-        int checkLimit = Math.min(enemies.length, 2);
-        for (int e = checkLimit; --e >= 0;) {
-            MapLocation enemyLoc = enemies[e].getLocation();
-            int attackRadius = 9;  // Use fixed radius to save bytecode
-
-            for (int i = 8; --i >= 0;) {
-                if (scores[i] == Integer.MIN_VALUE) continue;
-                if (myLoc.add(allDirs[i]).isWithinDistanceSquared(enemyLoc, attackRadius)) {
-                    scores[i] -= ENEMY_THREAT_PENALTY;
-                }
-            }
+        // 3. Enemy avoidance, every enemy that can hit the tile next turn
+        Threat.build(rc);
+        int[] hits = Threat.hits;
+        for (int i = 8; --i >= 0;) {
+            if (scores[i] == Integer.MIN_VALUE) continue;
+            scores[i] -= hits[i] * ENEMY_THREAT_PENALTY;
         }
 
+        if (Profiler.ENABLED) Profiler.end(Profiler.MICRO);
         return scores;
     }
 
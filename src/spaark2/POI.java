@@ -5,6 +5,11 @@ import battlecode.common.*;
 /**
  * Points of Interest - Global tower tracking system.
  * Enables units to find towers beyond sensor range.
+ *
+ * Towers are indexed by 5x5 chunk like SPAARK's towerGrid (ruin patterns
+ * can't overlap, so a chunk holds at most one tower). Each team and base
+ * type also keeps a bitmask per chunk row, so the nearest tower of a kind is
+ * a ring search over a few masks instead of a walk over every tower.
  */
 public class POI {
 
@@ -14,6 +19,20 @@ public class POI {
     public static Team[] towerTeams = new Team[144];
     public static UnitType[] towerTypes = new UnitType[144];
 
+    // Chunk index: towerGrid[cy * GRID_SIZE + cx] = tower index + 1, 0 = none
+    private static final int CHUNK_SIZE = 5;
+    private static final int GRID_SIZE = 12;
+    private static final int[] towerGrid = new int[GRID_SIZE * GRID_SIZE];
+
+    // Base tower types for findNearestTower
+    public static final int PAINT = 0;
+    public static final int MONEY = 1;
+    public static final int DEFENSE = 2;
+
+    // kindRows[kind * GRID_SIZE + cy] bit cx = chunk has a tower of that kind,
+    // kind = team (A = 0, B = 1) * 3 + base type
+    private static final int[] kindRows = new int[6 * GRID_SIZE];
+
     // Tower type counters for spawn decisions
     public static int allyPaintTowers = 0;
     public static int allyMoneyTowers = 0;
@@ -31,34 +50,41 @@ public class POI {
 
     /**
      * Update tower at location. Handles add/update/remove.
+     * Returns true if the tower is new or changed teams.
      */
-    public static void updateTower(MapLocation loc, Team team, UnitType type) {
-        // Check if we already know about this location
-        for (int i = numberOfTowers; --i >= 0;) {
-            if (towerLocs[i].equals(loc)) {
-                // Update existing entry
-                if (team == Team.NEUTRAL) {
-                    // Tower destroyed - remove by swapping with last
-                    if (towerTeams[i] != Team.NEUTRAL) {
-                        decrementCounter(towerTypes[i], towerTeams[i]);
-                    }
-                    numberOfTowers--;
-                    if (i < numberOfTowers) {
-                        towerLocs[i] = towerLocs[numberOfTowers];
-                        towerTeams[i] = towerTeams[numberOfTowers];
-                        towerTypes[i] = towerTypes[numberOfTowers];
-                    }
-                } else if (towerTeams[i] != team) {
-                    // Tower changed teams
-                    if (towerTeams[i] != Team.NEUTRAL) {
-                        decrementCounter(towerTypes[i], towerTeams[i]);
-                    }
-                    towerTeams[i] = team;
-                    towerTypes[i] = type;
-                    incrementCounter(type, team);
+    public static boolean updateTower(MapLocation loc, Team team, UnitType type) {
+        int chunk = (loc.y / CHUNK_SIZE) * GRID_SIZE + loc.x / CHUNK_SIZE;
+        int i = towerGrid[chunk] - 1;
+        if (i >= 0) {
+            // Update existing entry
+            if (team == Team.NEUTRAL) {
+                // Tower destroyed - remove by swapping with last
+                if (towerTeams[i] != Team.NEUTRAL) {
+                    decrementCounter(towerTypes[i], towerTeams[i]);
                 }
-                return;
+                unindex(i);
+                towerGrid[chunk] = 0;
+                numberOfTowers--;
+                if (i < numberOfTowers) {
+                    MapLocation moved = towerLocs[numberOfTowers];
+                    towerLocs[i] = moved;
+                    towerTeams[i] = towerTeams[numberOfTowers];
+                    towerTypes[i] = towerTypes[numberOfTowers];
+                    towerGrid[(moved.y / CHUNK_SIZE) * GRID_SIZE + moved.x / CHUNK_SIZE] = i + 1;
+                }
+            } else if (towerTeams[i] != team) {
+                // Tower changed teams
+                if (towerTeams[i] != Team.NEUTRAL) {
+                    decrementCounter(towerTypes[i], towerTeams[i]);
+                }
+                unindex(i);
+                towerTeams[i] = team;
+                towerTypes[i] = type;
+                incrementCounter(type, team);
+                index(i);
+                return true;
             }
+            return false;
         }
 
         // New tower - add to list
@@ -66,9 +92,27 @@ public class POI {
             towerLocs[numberOfTowers] = loc;
             towerTeams[numberOfTowers] = team;
             towerTypes[numberOfTowers] = type;
+            towerGrid[chunk] = numberOfTowers + 1;
+            index(numberOfTowers);
             numberOfTowers++;
             incrementCounter(type, team);
+            return true;
         }
+        return false;
+    }
+
+    private static int kindRow(Team team, UnitType type, int cy) {
+        return ((team == Team.A ? 0 : 3) + baseIndex(type)) * GRID_SIZE + cy;
+    }
+
+    private static void index(int i) {
+        MapLocation loc = towerLocs[i];
+        kindRows[kindRow(towerTeams[i], towerTypes[i], loc.y / CHUNK_SIZE)] |= 1 << (loc.x / CHUNK_SIZE);
+    }
+
+    private static void unindex(int i) {
+        MapLocation loc = towerLocs[i];
+        kindRows[kindRow(towerTeams[i], towerTypes[i], loc.y / CHUNK_SIZE)] &= ~(1 << (loc.x / CHUNK_SIZE));
     }
 
     // Scan throttling to reduce bytecode
@@ -82,6 +126,10 @@ public class POI {
         int round = rc.getRoundNum();
         if (round - lastScanRound < 5) return;  // Throttle scanning
         lastScanRound = round;
+        if (Profiler.ENABLED) Profiler.begin(Profiler.POI_SCAN);
+
+        // Messages last as long as the throttle, none are missed
+        if (!rc.getType().isTowerType()) readMessages(rc, false);
 
         // Check nearby ruins (limit to 3 to save bytecode)
         MapLocation[] ruins = rc.senseNearbyRuins(-1);
@@ -95,27 +143,113 @@ public class POI {
                 }
             }
         }
+        if (Profiler.ENABLED) Profiler.end(Profiler.POI_SCAN);
+    }
+
+    /**
+     * Read packed paint tower records: towers hand their list to the units
+     * they spawn and pass new paint towers on to each other. With relay set,
+     * towers that were new to us are queued in PackedCodec to pass on.
+     */
+    public static void readMessages(RobotController rc, boolean relay) throws GameActionException {
+        Team myTeam = rc.getTeam();
+        Message[] messages = rc.readMessages(-1);
+        for (int i = messages.length; --i >= 0;) {
+            int bytes = messages[i].getBytes();
+            if (!PackedCodec.isPacked(bytes)) continue;
+            PackedCodec.read(bytes);
+            for (int kind; (kind = PackedCodec.nextRecord()) != PackedCodec.END;) {
+                if (kind != PackedCodec.PAINT_TOWER) continue;
+                MapLocation loc = new MapLocation(PackedCodec.recordX, PackedCodec.recordY);
+                if (updateTower(loc, myTeam, UnitType.LEVEL_ONE_PAINT_TOWER) && relay) {
+                    PackedCodec.addPaintTower(loc);
+                }
+            }
+        }
+    }
+
+    /**
+     * Send every known ally paint tower to a unit, two to a message.
+     */
+    public static void sendPaintTowers(RobotController rc, MapLocation unitLoc) throws GameActionException {
+        Team myTeam = rc.getTeam();
+        PackedCodec.reset();
+        for (int i = numberOfTowers; --i >= 0;) {
+            if (towerTeams[i] == myTeam && isPaintTower(towerTypes[i])) {
+                PackedCodec.addPaintTower(towerLocs[i]);
+            }
+        }
+        for (int i = 0, n = PackedCodec.messageCount(); i < n && rc.canSendMessage(unitLoc); i++) {
+            rc.sendMessage(unitLoc, PackedCodec.message(i));
+        }
+        PackedCodec.reset();
     }
 
     /**
      * Find nearest ally paint tower for retreating.
      */
     public static MapLocation findNearestAllyPaintTower(MapLocation from, Team myTeam) {
+        return findNearestTower(from, myTeam, PAINT);
+    }
+
+    /**
+     * Find the nearest known tower of a team and base type (PAINT, MONEY,
+     * DEFENSE). Searches rings of chunks outward from from's chunk; a tower
+     * r rings out is at least 5r - 4 tiles away on one axis, so the search
+     * stops once that can't beat the best found.
+     */
+    public static MapLocation findNearestTower(MapLocation from, Team team, int baseType) {
+        int rows = ((team == Team.A ? 0 : 3) + baseType) * GRID_SIZE;
+        int fcx = from.x / CHUNK_SIZE;
+        int fcy = from.y / CHUNK_SIZE;
+        int maxRing = Math.max(Math.max(fcx, GRID_SIZE - 1 - fcx), Math.max(fcy, GRID_SIZE - 1 - fcy));
+
         MapLocation best = null;
         int bestDist = Integer.MAX_VALUE;
+        for (int r = 0; r <= maxRing; r++) {
+            int reach = CHUNK_SIZE * r - CHUNK_SIZE + 1;
+            if (reach > 0 && reach * reach > bestDist) break;
 
-        for (int i = numberOfTowers; --i >= 0;) {
-            if (towerTeams[i] == myTeam && isPaintTower(towerTypes[i])) {
-                int dist = from.distanceSquaredTo(towerLocs[i]);
-                if (dist < bestDist) {
-                    bestDist = dist;
-                    best = towerLocs[i];
+            int lo = Math.max(fcx - r, 0);
+            int hi = Math.min(fcx + r, GRID_SIZE - 1);
+            int span = ((1 << (hi + 1)) - 1) & ~((1 << lo) - 1);
+            // Only the ring's two side columns on the rows in between
+            int sides = (fcx - r >= 0 ? 1 << (fcx - r) : 0) | (fcx + r < GRID_SIZE ? 1 << (fcx + r) : 0);
+            for (int cy = Math.max(fcy - r, 0), cyEnd = Math.min(fcy + r, GRID_SIZE - 1); cy <= cyEnd; cy++) {
+                int chunks = kindRows[rows + cy] & (cy == fcy - r || cy == fcy + r ? span : sides);
+                while (chunks != 0) {
+                    int cx = Integer.numberOfTrailingZeros(chunks);
+                    chunks &= chunks - 1;
+                    MapLocation loc = towerLocs[towerGrid[cy * GRID_SIZE + cx] - 1];
+                    int dist = from.distanceSquaredTo(loc);
+                    if (dist < bestDist) {
+                        bestDist = dist;
+                        best = loc;
+                    }
                 }
             }
         }
         return best;
     }
 
+    /**
+     * Base type index (PAINT, MONEY, DEFENSE) of any tower level.
+     */
+    private static int baseIndex(UnitType type) {
+        switch (type) {
+            case LEVEL_ONE_PAINT_TOWER:
+            case LEVEL_TWO_PAINT_TOWER:
+            case LEVEL_THREE_PAINT_TOWER:
+                return PAINT;
+            case LEVEL_ONE_MONEY_TOWER:
+            case LEVEL_TWO_MONEY_TOWER:
+            case LEVEL_THREE_MONEY_TOWER:
+                return MONEY;
+            default:
+                return DEFENSE;
+        }
+    }
+
     /**
      * Get base tower type (level 1 version).
      */
@@ -138,7 +272,7 @@ public class POI {
         }
     }
 
-    private static boolean isPaintTower(UnitType type) {
+    static boolean isPaintTower(UnitType type) {
         return type == UnitType.LEVEL_ONE_PAINT_TOWER ||
                type == UnitType.LEVEL_TWO_PAINT_TOWER ||
                type == UnitType.LEVEL_THREE_PAINT_TOWER;
@@ -0,0 +1,145 @@
+package spaark2;
+
+import battlecode.common.*;
+
+/**
+ * Per-section bytecode profiler.
+ *
+ * Wrap code in begin/end with one of the section ids below, always behind the
+ * ENABLED check so javac drops the calls entirely when profiling is off:
+ * <pre>
+ * if (Profiler.ENABLED) Profiler.begin(Profiler.MICRO);
+ * ...
+ * if (Profiler.ENABLED) Profiler.end(Profiler.MICRO);
+ * </pre>
+ * Every FLUSH_INTERVAL rounds each unit prints one PROF line per section that
+ * ran, which the profile gradle task parses into histograms (see build.gradle):
+ * PROF bot unitType section bucketSize count total max overflows bucket:count,...
+ *
+ * With OVERFLOWS on, every turn that runs out of bytecode prints one line with
+ * the round it started in, where the unit was and the innermost section that
+ * was open when the round changed (or the last one begun if none was), and
+ * every FLUSH_INTERVAL rounds each unit prints how many rounds it was alive:
+ * OVERFLOW bot unitType round x y skippedTurns section
+ * TURNS bot unitType rounds
+ * The checkOverflows gradle task turns these into an overflow rate per bot.
+ */
+public class Profiler {
+
+    // Feature toggles - the profile and checkOverflows gradle tasks compile copies
+    // with one of these set to true
+    public static final boolean HISTOGRAMS = false;
+    public static final boolean OVERFLOWS = false;
+    public static final boolean ENABLED = HISTOGRAMS || OVERFLOWS;
+
+    public static final String BOT = "spaark2";
+
+    // Section ids - keep NAMES in the same order
+    public static final int TURN = 0;
+    public static final int POI_SCAN = 1;
+    public static final int MICRO = 2;
+    public static final int SPLASH = 3;
+    public static final String[] NAMES = {
+        "turn",
+        "POI.scanNearby",
+        "Micro.score",
+        "Splasher.attackBestTarget",
+    };
+    public static final int SECTIONS = 4;
+
+    // Histogram buckets are BUCKET_SIZE bytecode wide, the last one is open ended
+    public static final int BUCKET_SIZE = 500;
+    public static final int BUCKETS = 64;
+    public static final int FLUSH_INTERVAL = 100;
+
+    private static RobotController rc;
+    private static int bytecodeLimit;
+    private static int lastFlush;
+    private static int lastSection;
+    private static int overflowSection = -1;
+    private static int rounds;
+    private static int[] startBytecode = new int[SECTIONS];
+    private static int[] startRound = new int[SECTIONS];
+    private static int[] count = new int[SECTIONS];
+    private static int[] total = new int[SECTIONS];
+    private static int[] max = new int[SECTIONS];
+    private static int[] overflows = new int[SECTIONS];
+    private static int[][] histogram = new int[SECTIONS][BUCKETS];
+
+    /**
+     * Call once when the robot spawns, before the first begin().
+     */
+    public static void init(RobotController controller) {
+        rc = controller;
+        bytecodeLimit = Clock.getBytecodeNum() + Clock.getBytecodesLeft();
+        lastFlush = rc.getRoundNum();
+    }
+
+    public static void begin(int section) {
+        lastSection = section;
+        startRound[section] = rc.getRoundNum();
+        startBytecode[section] = Clock.getBytecodeNum();
+    }
+
+    public static void end(int section) {
+        int cost = Clock.getBytecodeNum() - startBytecode[section];
+        int rounds = rc.getRoundNum() - startRound[section];
+        if (rounds != 0) {
+            // Section ran past the end of the turn - count the skipped turns too
+            cost += rounds * bytecodeLimit;
+            overflows[section]++;
+            if (overflowSection < 0 && section != TURN) overflowSection = section;
+        }
+        count[section]++;
+        total[section] += cost;
+        if (cost > max[section]) max[section] = cost;
+        histogram[section][Math.min(cost / BUCKET_SIZE, BUCKETS - 1)]++;
+    }
+
+    /**
+     * Close the TURN section and flush every FLUSH_INTERVAL rounds.
+     * Call right before Clock.yield().
+     */
+    public static void endTurn() {
+        end(TURN);
+        if (OVERFLOWS) {
+            int skipped = rc.getRoundNum() - startRound[TURN];
+            if (skipped != 0) reportOverflow(skipped);
+            rounds += skipped + 1;
+            overflowSection = -1;
+        }
+        if (rc.getRoundNum() - lastFlush >= FLUSH_INTERVAL) {
+            lastFlush = rc.getRoundNum();
+            if (HISTOGRAMS) flush();
+            if (OVERFLOWS) {
+                System.out.println("TURNS " + BOT + " " + rc.getType() + " " + rounds);
+                rounds = 0;
+            }
+        }
+    }
+
+    private static void reportOverflow(int skipped) {
+        int section = overflowSection >= 0 ? overflowSection : lastSection;
+        MapLocation loc = rc.getLocation();
+        System.out.println("OVERFLOW " + BOT + " " + rc.getType() + " " + startRound[TURN] + " " + loc.x + " " + loc.y
+                + " " + skipped + " " + NAMES[section]);
+    }
+
+    private static void flush() {
+        String type = rc.getType().toString();
+        for (int i = SECTIONS; --i >= 0;) {
+            if (count[i] == 0) continue;
+            StringBuilder line = new StringBuilder("PROF " + BOT + " " + type + " " + NAMES[i] + " " + BUCKET_SIZE
+                    + " " + count[i] + " " + total[i] + " " + max[i] + " " + overflows[i] + " ");
+            int[] h = histogram[i];
+            for (int j = 0; j < BUCKETS; j++) {
+                if (h[j] != 0) {
+                    line.append(j).append(':').append(h[j]).append(',');
+                    h[j] = 0;
+                }
+            }
+            System.out.println(line);
+            count[i] = total[i] = max[i] = overflows[i] = 0;
+        }
+    }
+}
@@ -9,7 +9,9 @@ import battlecode.common.*;
 public class RobotPlayer {
 
     public static void run(RobotController rc) throws GameActionException {
+        if (Profiler.ENABLED) Profiler.init(rc);
         while (true) {
+            if (Profiler.ENABLED) Profiler.begin(Profiler.TURN);
             try {
                 switch (rc.getType()) {
                     case SOLDIER:  Soldier.run(rc);  break;
@@ -20,6 +22,7 @@ public class RobotPlayer {
             } catch (Exception e) {
                 e.printStackTrace();
             }
+            if (Profiler.ENABLED) Profiler.endTurn();
             Clock.yield();
         }
     }
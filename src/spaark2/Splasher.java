@@ -66,6 +66,7 @@ public class Splasher {
         MapLocation best = null;
         int bestScore = 0;
 
+        if (Profiler.ENABLED) Profiler.begin(Profiler.SPLASH);
         // Splasher attack range is 2 (splash affects area)
         MapInfo[] nearby = rc.senseNearbyMapInfos(9);  // Range squared = 9
 
@@ -80,6 +81,8 @@ public class Splasher {
             }
         }
 
+        if (Profiler.ENABLED) Profiler.end(Profiler.SPLASH);
+
         if (best != null && bestScore > 0) {
             rc.attack(best);
         }
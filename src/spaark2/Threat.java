@@ -0,0 +1,106 @@
+package spaark2;
+
+import battlecode.common.*;
+
+/**
+ * Per-turn enemy threat field for micro.
+ *
+ * Each visible enemy stamps its attack footprint onto the 9 tiles we could
+ * stand on next turn (Globals.ALL_DIRECTIONS order), so Micro scores a
+ * direction with one array read and every enemy counts, where it used to
+ * check the first two enemies against a fixed radius.
+ *
+ * Footprints are 9-bit stencils per unit type and enemy offset, worked out
+ * the first time an offset is seen: soldiers and towers their attack radius,
+ * moppers a step plus a mop, splashers a splash anywhere in their range.
+ */
+public class Threat {
+
+    // Mopper moves then mops or swings next to it
+    private static final int MOPPER_REACH = 8;
+    // Splasher splashes radius² 2 around any center in its action radius
+    private static final int SPLASH_RADIUS = 2;
+
+    // Enemies further than this on an axis can't reach a candidate tile
+    private static final int REACH = 6;
+    private static final int SIDE = 2 * REACH + 1;
+    private static final int COMPUTED = 1 << 9;
+
+    /** Enemies able to hit each candidate tile, rebuilt by build() */
+    public static final int[] hits = new int[9];
+
+    // Stencils by type ordinal and enemy offset, filled in lazily
+    private static final int[][] stencils = new int[UnitType.values().length][];
+
+    private static int builtRound = -1;
+    private static MapLocation builtAt;
+
+    /**
+     * Stamp every visible enemy, at most once per round and location.
+     */
+    public static void build(RobotController rc) throws GameActionException {
+        MapLocation me = rc.getLocation();
+        int round = rc.getRoundNum();
+        if (round == builtRound && me.equals(builtAt)) return;
+        builtRound = round;
+        builtAt = me;
+
+        for (int d = 9; --d >= 0;) hits[d] = 0;
+
+        RobotInfo[] enemies = rc.senseNearbyRobots(-1, rc.getTeam().opponent());
+        for (int e = enemies.length; --e >= 0;) {
+            RobotInfo enemy = enemies[e];
+            int ex = enemy.location.x - me.x + REACH;
+            int ey = enemy.location.y - me.y + REACH;
+            if ((ex | ey | (2 * REACH - ex) | (2 * REACH - ey)) < 0) continue;
+
+            int mask = stencil(enemy.type, ex * SIDE + ey) & (COMPUTED - 1);
+            while (mask != 0) {
+                int d = Integer.numberOfTrailingZeros(mask);
+                hits[d]++;
+                mask &= mask - 1;
+            }
+        }
+    }
+
+    private static int stencil(UnitType type, int offset) {
+        int[] table = stencils[type.ordinal()];
+        if (table == null) {
+            table = new int[SIDE * SIDE];
+            stencils[type.ordinal()] = table;
+        }
+        int mask = table[offset];
+        if (mask != 0) return mask;
+
+        // Enemy at (ex, ey) from us, candidate tile at the direction's delta
+        int ex = offset / SIDE - REACH;
+        int ey = offset % SIDE - REACH;
+        mask = COMPUTED;
+        for (int d = 9; --d >= 0;) {
+            Direction dir = Globals.ALL_DIRECTIONS[d];
+            if (reaches(type, dir.dx - ex, dir.dy - ey)) mask |= 1 << d;
+        }
+        table[offset] = mask;
+        return mask;
+    }
+
+    /**
+     * Can an enemy of this type hit the tile (tx, ty) away from it next turn.
+     */
+    private static boolean reaches(UnitType type, int tx, int ty) {
+        int distSq = tx * tx + ty * ty;
+        if (type == UnitType.MOPPER) return distSq <= MOPPER_REACH;
+        if (type != UnitType.SPLASHER) return distSq <= type.actionRadiusSquared;
+
+        int r = type.actionRadiusSquared;
+        for (int cx = -2; cx <= 2; cx++) {
+            for (int cy = -2; cy <= 2; cy++) {
+                if (cx * cx + cy * cy > r) continue;
+                int sx = tx - cx;
+                int sy = ty - cy;
+                if (sx * sx + sy * sy <= SPLASH_RADIUS) return true;
+            }
+        }
+        return false;
+    }
+}
@@ -13,9 +13,19 @@ public class Tower {
         POI.init(rc);
 
         // Register self and scan nearby
-        POI.updateTower(rc.getLocation(), rc.getTeam(), rc.getType());
+        PackedCodec.reset();
+        MapLocation myLoc = rc.getLocation();
+        if (POI.updateTower(myLoc, rc.getTeam(), rc.getType()) && POI.isPaintTower(rc.getType())) {
+            PackedCodec.addPaintTower(myLoc);
+        }
         POI.scanNearby(rc);
 
+        // Paint towers we had not heard of go on to the other towers
+        POI.readMessages(rc, true);
+        for (int i = 0, n = PackedCodec.messageCount(); i < n && rc.canBroadcastMessage(); i++) {
+            rc.broadcastMessage(PackedCodec.message(i));
+        }
+
         // Attack enemies first
         attack(rc);
 
@@ -193,6 +203,7 @@ public class Tower {
         MapLocation spawnLoc = rc.getLocation().add(spawnDir);
         if (rc.canBuildRobot(type, spawnLoc)) {
             rc.buildRobot(type, spawnLoc);
+            POI.sendPaintTowers(rc, spawnLoc);
             return true;
         }
         return false;
@@ -37,14 +37,17 @@ public class Comm {
      * Read paint signal at specified location.
      */
     public static int readPaintSignal(MapLocation loc) throws GameActionException {
-        MapInfo[] nearby = G.rc.senseNearbyMapInfos(loc, 8);
+        Vision.refresh();
+        int dx = loc.x - Vision.x;
+        int dy = loc.y - Vision.y;
 
         int allyCount = 0;
         int enemyCount = 0;
         int neutralCount = 0;
 
-        for (int i = nearby.length; --i >= 0;) {
-            PaintType paint = nearby[i].getPaint();
+        for (int i = Vision.DISC8_X.length; --i >= 0;) {
+            PaintType paint = Vision.paint(dx + Vision.DISC8_X[i], dy + Vision.DISC8_Y[i]);
+            if (paint == null) continue;
             if (paint.isAlly()) allyCount++;
             else if (paint.isEnemy()) enemyCount++;
             else neutralCount++;
@@ -116,28 +119,16 @@ public class Comm {
      * Count ally paint tiles around a location.
      */
     private static int countAllyPaintInDirection(MapLocation loc) throws GameActionException {
-        int count = 0;
-        MapInfo[] tiles = G.rc.senseNearbyMapInfos(loc, 4);
-
-        for (int i = tiles.length; --i >= 0;) {
-            if (tiles[i].getPaint().isAlly()) count++;
-        }
-
-        return count;
+        Vision.refresh();
+        return Vision.countPaint(loc.x - Vision.x, loc.y - Vision.y, Vision.DISC4_X, Vision.DISC4_Y, 1);
     }
 
     /**
      * Count enemy paint tiles around a location.
      */
     private static int countEnemyPaintInDirection(MapLocation loc) throws GameActionException {
-        int count = 0;
-        MapInfo[] tiles = G.rc.senseNearbyMapInfos(loc, 4);
-
-        for (int i = tiles.length; --i >= 0;) {
-            if (tiles[i].getPaint().isEnemy()) count++;
-        }
-
-        return count;
+        Vision.refresh();
+        return Vision.countPaint(loc.x - Vision.x, loc.y - Vision.y, Vision.DISC4_X, Vision.DISC4_Y, -1);
     }
 
     /**
@@ -35,6 +35,7 @@ public class G {
     private static boolean enemiesLoaded = false;
     private static boolean tilesLoaded = false;
     private static boolean ruinsLoaded = false;
+    private static int tilesCooldown;
 
     // Paint state
     public static int paint;
@@ -163,14 +164,30 @@ public class G {
         return getAllies().length > 0;
     }
 
+    /**
+     * Move and keep me on our location, so everything scoring from me after
+     * the move agrees. What was sensed from the old tile loads again.
+     */
+    public static void move(Direction dir) throws GameActionException {
+        rc.move(dir);
+        me = rc.getLocation();
+        alliesLoaded = false;
+        enemiesLoaded = false;
+        tilesLoaded = false;
+        ruinsLoaded = false;
+    }
+
     /**
      * Get nearby tiles (lazy-loaded to save bytecode).
      * Only call when actually needed.
      */
     public static MapInfo[] getNearbyTiles() throws GameActionException {
-        if (!tilesLoaded) {
+        // Sense again after our own attack repainted tiles
+        int cooldown = rc.getActionCooldownTurns();
+        if (!tilesLoaded || cooldown != tilesCooldown) {
             nearbyTiles = rc.senseNearbyMapInfos();
             tilesLoaded = true;
+            tilesCooldown = cooldown;
         }
         return nearbyTiles;
     }
@@ -11,23 +11,22 @@ public class Micro {
     // Scoring constants
     private static final int ENEMY_PAINT_PENALTY = -25;
     private static final int ALLY_PAINT_BONUS = 10;
-    private static final int THREAT_PENALTY = -50;
     private static final int TARGET_BONUS = 20;
     private static final int NEUTRAL_PAINT_BONUS = 5;
-    private static final int ENEMY_MOPPER_PENALTY = -20;  // SPAARK: Avoid enemy moppers
-    private static final int TOWER_THREAT_PENALTY = -100;  // SPAARK: Avoid tower range
 
     // Threat range (squared distance)
     private static final int THREAT_RANGE = 9;
-    private static final int MOPPER_RANGE = 8;  // Mopper attack range
 
     /**
      * Score all 9 directions (including CENTER) for movement.
      * Higher score = better direction.
      */
     public static int[] scoreAllDirections(MapLocation target) throws GameActionException {
+        if (Profiler.ENABLED) Profiler.begin(Profiler.MICRO);
         int[] scores = new int[9];
 
+        Vision.refresh();
+        Threat.build();
         MapLocation myLoc = G.me;
         Direction targetDir = target != null ? myLoc.directionTo(target) : Direction.CENTER;
 
@@ -50,10 +49,8 @@ public class Micro {
             int score = 0;
 
             // Paint scoring
-            if (G.rc.canSenseLocation(newLoc)) {
-                MapInfo info = G.rc.senseMapInfo(newLoc);
-                PaintType paint = info.getPaint();
-
+            PaintType paint = Vision.paint(newLoc.x - Vision.x, newLoc.y - Vision.y);
+            if (paint != null) {
                 if (paint.isEnemy()) {
                     score += ENEMY_PAINT_PENALTY;
                 } else if (paint.isAlly()) {
@@ -63,26 +60,8 @@ public class Micro {
                 }
             }
 
-            // Threat scoring - penalize positions near enemies
-            RobotInfo[] enemies = G.getEnemies();
-            for (int e = enemies.length; --e >= 0;) {
-                RobotInfo enemy = enemies[e];
-                int distSq = newLoc.distanceSquaredTo(enemy.location);
-                if (distSq <= THREAT_RANGE) {
-                    score += THREAT_PENALTY;
-                }
-                // SPAARK: Extra penalty for being near enemy moppers
-                if (enemy.type == UnitType.MOPPER && distSq <= MOPPER_RANGE) {
-                    score += ENEMY_MOPPER_PENALTY;
-                }
-                // SPAARK: Huge penalty for being in enemy tower range
-                if (enemy.type.isTowerType()) {
-                    int towerRange = enemy.type.actionRadiusSquared;
-                    if (distSq <= towerRange) {
-                        score += TOWER_THREAT_PENALTY;
-                    }
-                }
-            }
+            // Threat scoring - every enemy whose footprint covers the tile
+            score -= Threat.danger[d];
 
             // Target direction bonus
             if (dir == targetDir) {
@@ -99,6 +78,7 @@ public class Micro {
             scores[d] = score;
         }
 
+        if (Profiler.ENABLED) Profiler.end(Profiler.MICRO);
         return scores;
     }
 
@@ -41,7 +41,7 @@ public class Nav {
         if (Random.nextInt(10) == 0) {
             Direction randDir = randomValidDirection();
             if (randDir != null) {
-                G.rc.move(randDir);
+                G.move(randDir);
                 return true;
             }
         }
@@ -51,7 +51,7 @@ public class Nav {
 
         // Try direct, then adjacent (with randomized order)
         if (G.rc.canMove(dir)) {
-            G.rc.move(dir);
+            G.move(dir);
             return true;
         }
 
@@ -61,12 +61,12 @@ public class Nav {
         Direction second = tryLeftFirst ? dir.rotateRight() : dir.rotateLeft();
 
         if (G.rc.canMove(first)) {
-            G.rc.move(first);
+            G.move(first);
             return true;
         }
 
         if (G.rc.canMove(second)) {
-            G.rc.move(second);
+            G.move(second);
             return true;
         }
 
@@ -84,7 +84,7 @@ public class Nav {
         if (scores[bestDir] > Integer.MIN_VALUE) {
             Direction dir = G.ALL_DIRECTIONS[bestDir];
             if (dir != Direction.CENTER && G.rc.canMove(dir)) {
-                G.rc.move(dir);
+                G.move(dir);
                 return true;
             }
         }
@@ -111,7 +111,7 @@ public class Nav {
                 // Prefer ally paint
                 MapInfo info = G.rc.senseMapInfo(newLoc);
                 if (info.getPaint().isAlly()) {
-                    G.rc.move(dir);
+                    G.move(dir);
                     return true;
                 }
             }
@@ -120,7 +120,7 @@ public class Nav {
         // If no ally paint, just move away
         for (int i = 0; i < tryDirs.length; i++) {
             if (G.rc.canMove(tryDirs[i])) {
-                G.rc.move(tryDirs[i]);
+                G.move(tryDirs[i]);
                 return true;
             }
         }
@@ -134,7 +134,7 @@ public class Nav {
     public static boolean moveRandom() throws GameActionException {
         Direction dir = randomValidDirection();
         if (dir != null && G.rc.canMove(dir)) {
-            G.rc.move(dir);
+            G.move(dir);
             return true;
         }
         return false;
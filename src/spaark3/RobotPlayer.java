@@ -22,15 +22,19 @@ public class RobotPlayer {
         // Initialize RNG with multiple entropy sources for game-to-game variance
         MapLocation spawn = rc.getLocation();
         Random.init(rc.getID(), rc.getMapWidth(), rc.getMapHeight(), spawn.x, spawn.y);
+        if (Profiler.ENABLED) Profiler.init(rc);
 
         // Main loop - runs forever
         while (true) {
+            if (Profiler.ENABLED) Profiler.begin(Profiler.TURN);
             try {
                 // Initialize global state for this turn
                 G.init(rc);
 
                 // POI update every turn for tower tracking and enemy prediction
+                if (Profiler.ENABLED) Profiler.begin(Profiler.POI_UPDATE);
                 POI.update();
+                if (Profiler.ENABLED) Profiler.end(Profiler.POI_UPDATE);
 
                 // Dispatch to appropriate unit handler
                 switch (G.type) {
@@ -67,6 +71,7 @@ public class RobotPlayer {
                 e.printStackTrace();
             } finally {
                 // End turn - yield to next robot
+                if (Profiler.ENABLED) Profiler.endTurn();
                 Clock.yield();
             }
         }
@@ -0,0 +1,127 @@
+package spaark3;
+
+import battlecode.common.*;
+
+/**
+ * Splash target search over summed-area tables of the vision window.
+ * One prefix-sum table per turn over Vision's 9x9 grid, each cell packing
+ * three 8-bit counts of passable tiles (enemy, empty, ally paint), so any
+ * 3x3 splash area is four reads instead of nine senseMapInfo() calls.
+ * Unsensed tiles count as nothing.
+ */
+public class SplashPlanner {
+
+    private static final int SIDE = Vision.SIZE + 1;  // Zero row and column in front
+
+    private static final int ENEMY_SHIFT = 16;
+    private static final int EMPTY_SHIFT = 8;
+    private static final int FIELD = 0xFF;
+
+    // Look-ahead stops with this many bytecodes left
+    private static final int LOOKAHEAD_RESERVE = 2000;
+
+    private static final int[] sums = new int[SIDE * SIDE];
+    private static int builtSweep = -1;
+
+    // Result of best() / bestAfterMove()
+    public static MapLocation bestTarget;
+    public static int bestScore;
+    public static Direction bestMove;
+
+    /**
+     * Build the prefix sums from this turn's sweep, once per sweep.
+     */
+    public static void build() throws GameActionException {
+        Vision.refresh();
+        if (builtSweep == Vision.sweep()) return;
+        builtSweep = Vision.sweep();
+
+        for (int i = sums.length; --i >= 0;) sums[i] = 0;
+        int cx = Vision.x - Vision.RADIUS - 1;
+        int cy = Vision.y - Vision.RADIUS - 1;
+        MapInfo[] tiles = Vision.tiles();
+        for (int i = tiles.length; --i >= 0;) {
+            MapInfo info = tiles[i];
+            if (!info.isPassable()) continue;
+            MapLocation loc = info.getMapLocation();
+            PaintType paint = info.getPaint();
+            sums[(loc.x - cx) * SIDE + loc.y - cy] = paint.isEnemy() ? 1 << ENEMY_SHIFT
+                    : paint == PaintType.EMPTY ? 1 << EMPTY_SHIFT : 1;
+        }
+        for (int ix = 1; ix < SIDE; ix++) {
+            int row = ix * SIDE;
+            for (int iy = 1; iy < SIDE; iy++) {
+                sums[row + iy] += sums[row + iy - 1] + sums[row - SIDE + iy] - sums[row - SIDE + iy - 1];
+            }
+        }
+    }
+
+    /**
+     * Splash score of the 3x3 around an offset from the sweep center.
+     */
+    public static int score(int dx, int dy) {
+        // Window cells x0..x1 - 1, clamped
+        int x0 = dx + Vision.RADIUS - 1;
+        int x1 = x0 + 3;
+        int y0 = dy + Vision.RADIUS - 1;
+        int y1 = y0 + 3;
+        if (x0 < 0) x0 = 0;
+        if (y0 < 0) y0 = 0;
+        if (x1 > Vision.SIZE) x1 = Vision.SIZE;
+        if (y1 > Vision.SIZE) y1 = Vision.SIZE;
+        if (x0 >= x1 || y0 >= y1) return 0;
+        int c = sums[x1 * SIDE + y1] - sums[x0 * SIDE + y1] - sums[x1 * SIDE + y0] + sums[x0 * SIDE + y0];
+        return ((c >>> ENEMY_SHIFT) & FIELD) * Splasher.ENEMY_PAINT_SCORE
+                + ((c >>> EMPTY_SHIFT) & FIELD) * Splasher.NEUTRAL_PAINT_SCORE
+                + (c & FIELD) * Splasher.ALLY_PAINT_PENALTY;
+    }
+
+    /**
+     * Best sensed center in attack range of (fromX, fromY), offsets from the
+     * sweep center. Updates bestScore/bestTarget if it beats them.
+     */
+    private static boolean bestFrom(int fromX, int fromY) {
+        int[] discX = Vision.DISC4_X;
+        int[] discY = Vision.DISC4_Y;
+        boolean improved = false;
+        for (int i = discX.length; --i >= 0;) {
+            int dx = fromX + discX[i];
+            int dy = fromY + discY[i];
+            int s = score(dx, dy);
+            if (s > bestScore && Vision.sensed(dx, dy)) {
+                bestScore = s;
+                bestTarget = new MapLocation(Vision.x + dx, Vision.y + dy);
+                improved = true;
+            }
+        }
+        return improved;
+    }
+
+    /**
+     * Best center to splash without moving, null if none scores above 0.
+     */
+    public static MapLocation best() throws GameActionException {
+        build();
+        bestTarget = null;
+        bestScore = 0;
+        bestMove = Direction.CENTER;
+        bestFrom(0, 0);
+        return bestTarget;
+    }
+
+    /**
+     * Best center to splash after at most one move, bestMove says where to
+     * step first. Directions are tried until the bytecode reserve is reached.
+     */
+    public static MapLocation bestAfterMove() throws GameActionException {
+        best();
+        if (!G.rc.isMovementReady()) return bestTarget;
+        for (int d = 8; --d >= 0;) {
+            if (Clock.getBytecodesLeft() < LOOKAHEAD_RESERVE) break;
+            Direction dir = G.DIRECTIONS[d];
+            if (!G.rc.canMove(dir)) continue;
+            if (bestFrom(dir.dx, dir.dy)) bestMove = dir;
+        }
+        return bestTarget;
+    }
+}
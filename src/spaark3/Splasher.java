@@ -25,10 +25,11 @@ public class Splasher {
     private static Mode mode = Mode.SEEK_ENEMY_PAINT;
     private static MapLocation retreatTarget = null;
 
-    // Splash scoring constants
-    private static final int ENEMY_PAINT_SCORE = 3;
-    private static final int NEUTRAL_PAINT_SCORE = 1;
-    private static final int ALLY_PAINT_PENALTY = -2;
+    // Splash scoring constants, used by SplashPlanner
+    static final int ENEMY_PAINT_SCORE = 3;
+    static final int NEUTRAL_PAINT_SCORE = 1;
+    static final int ALLY_PAINT_PENALTY = -2;
+    private static final int SPLASH_THRESHOLD = 3;
 
     /**
      * Main splasher logic - called every turn.
@@ -113,11 +114,24 @@ public class Splasher {
             // Move after splashing if possible
             Direction dir = Comm.followEnemyPaintGradient();
             if (dir != Direction.CENTER && G.rc.canMove(dir)) {
-                G.rc.move(dir);
+                G.move(dir);
             }
             return;
         }
 
+        // Step into range of a splash one move away
+        if (G.rc.isActionReady()) {
+            MapLocation ahead = SplashPlanner.bestAfterMove();
+            if (ahead != null && SplashPlanner.bestScore >= SPLASH_THRESHOLD
+                    && SplashPlanner.bestMove != Direction.CENTER) {
+                G.move(SplashPlanner.bestMove);
+                if (G.rc.canAttack(ahead)) {
+                    G.rc.attack(ahead);
+                }
+                return;
+            }
+        }
+
         // Move toward enemy paint
         MapLocation target = findBestSplashTarget();
         if (target != null) {
@@ -221,27 +235,14 @@ public class Splasher {
      * Try to splash at best target location.
      */
     private static boolean trySplash() throws GameActionException {
-        MapLocation best = null;
-        int bestScore = 0;
-
-        // Score all attackable locations
-        MapInfo[] tiles = G.getNearbyTiles();
-        for (int i = tiles.length; --i >= 0;) {
-            MapInfo info = tiles[i];
-            MapLocation loc = info.getMapLocation();
-
-            // Check if we can attack here
-            if (!G.rc.canAttack(loc)) continue;
-
-            int score = scoreSplashTarget(loc);
-            if (score > bestScore) {
-                bestScore = score;
-                best = loc;
-            }
-        }
+        if (Profiler.ENABLED) Profiler.begin(Profiler.SPLASH);
+        // Score every center in attack range
+        MapLocation best = SplashPlanner.best();
+        int bestScore = SplashPlanner.bestScore;
+        if (Profiler.ENABLED) Profiler.end(Profiler.SPLASH);
 
         // Execute splash if worthwhile
-        if (best != null && bestScore >= 3) {
+        if (best != null && bestScore >= SPLASH_THRESHOLD && G.rc.canAttack(best)) {
             G.rc.attack(best);
             return true;
         }
@@ -249,39 +250,6 @@ public class Splasher {
         return false;
     }
 
-    /**
-     * Score a potential splash target location.
-     * Higher score = better target.
-     */
-    private static int scoreSplashTarget(MapLocation center) throws GameActionException {
-        int score = 0;
-
-        // Score tiles in splash area (roughly 5x5)
-        // Check the 9 tiles around center (3x3 approximation for bytecode)
-        for (int dx = -1; dx <= 1; dx++) {
-            for (int dy = -1; dy <= 1; dy++) {
-                MapLocation tile = center.translate(dx, dy);
-                if (G.rc.canSenseLocation(tile)) {
-                    MapInfo info = G.rc.senseMapInfo(tile);
-                    if (!info.isPassable()) continue;
-
-                    PaintType paint = info.getPaint();
-                    if (paint.isEnemy()) {
-                        score += ENEMY_PAINT_SCORE;
-                    } else if (!paint.isAlly() && paint != PaintType.EMPTY) {
-                        score += NEUTRAL_PAINT_SCORE;
-                    } else if (paint == PaintType.EMPTY) {
-                        score += NEUTRAL_PAINT_SCORE;
-                    } else {
-                        score += ALLY_PAINT_PENALTY;
-                    }
-                }
-            }
-        }
-
-        return score;
-    }
-
     /**
      * Find the best splash target location.
      */
@@ -289,17 +257,21 @@ public class Splasher {
         MapLocation best = null;
         int bestScore = 0;
 
-        MapInfo[] tiles = G.getNearbyTiles();
+        SplashPlanner.build();
+        MapInfo[] tiles = Vision.tiles();
         for (int i = tiles.length; --i >= 0;) {
             MapInfo info = tiles[i];
             if (!info.isPassable()) continue;
 
             PaintType paint = info.getPaint();
             if (paint.isEnemy()) {
-                int score = 10 - (G.me.distanceSquaredTo(info.getMapLocation()) >> 2);
+                // Splash value of the area around it, less a bit for distance
+                MapLocation loc = info.getMapLocation();
+                int score = SplashPlanner.score(loc.x - Vision.x, loc.y - Vision.y)
+                        - (G.me.distanceSquaredTo(loc) >> 2);
                 if (score > bestScore) {
                     bestScore = score;
-                    best = info.getMapLocation();
+                    best = loc;
                 }
             }
         }
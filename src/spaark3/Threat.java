@@ -0,0 +1,109 @@
+package spaark3;
+
+import battlecode.common.*;
+
+/**
+ * Per-turn enemy threat field for micro.
+ * Each visible enemy stamps its attack footprint onto the 9 tiles we could
+ * stand on next turn (G.ALL_DIRECTIONS order), so a direction scores with
+ * one array read and every enemy counts. Footprints are 9-bit stencils per
+ * unit type and enemy offset, worked out the first time an offset is seen.
+ */
+public class Threat {
+
+    // Penalty per enemy whose footprint covers the tile
+    private static final int ATTACK_PENALTY = 50;
+    private static final int MOPPER_PENALTY = 70;   // SPAARK: Avoid enemy moppers
+    private static final int TOWER_PENALTY = 150;   // SPAARK: Avoid tower range
+
+    // Mopper moves then mops or swings next to it
+    private static final int MOPPER_REACH = 8;
+    // Splasher splashes radius² 2 around any center in its action radius
+    private static final int SPLASH_RADIUS = 2;
+
+    // Enemies further than this on an axis can't reach a candidate tile
+    private static final int REACH = 6;
+    private static final int SIDE = 2 * REACH + 1;
+    private static final int COMPUTED = 1 << 9;
+
+    public static final int[] danger = new int[9];
+
+    // Stencils by type ordinal and enemy offset, filled in lazily
+    private static final int[][] stencils = new int[UnitType.values().length][];
+
+    private static int builtRound = -1;
+    private static MapLocation builtAt;
+
+    /**
+     * Stamp every visible enemy around G.me, the origin Micro scores from,
+     * at most once per round and location.
+     */
+    public static void build() throws GameActionException {
+        MapLocation me = G.me;
+        if (G.round == builtRound && me.equals(builtAt)) return;
+        builtRound = G.round;
+        builtAt = me;
+
+        for (int d = 9; --d >= 0;)
+            danger[d] = 0;
+
+        RobotInfo[] enemies = G.getEnemies();
+        for (int e = enemies.length; --e >= 0;) {
+            RobotInfo enemy = enemies[e];
+            int ex = enemy.location.x - me.x + REACH;
+            int ey = enemy.location.y - me.y + REACH;
+            if ((ex | ey | (2 * REACH - ex) | (2 * REACH - ey)) < 0) continue;
+
+            int mask = stencil(enemy.type, ex * SIDE + ey) & (COMPUTED - 1);
+            if (mask == 0) continue;
+            int penalty = enemy.type == UnitType.MOPPER ? MOPPER_PENALTY
+                    : enemy.type.isTowerType() ? TOWER_PENALTY : ATTACK_PENALTY;
+            while (mask != 0) {
+                int d = Integer.numberOfTrailingZeros(mask);
+                danger[d] += penalty;
+                mask &= mask - 1;
+            }
+        }
+    }
+
+    private static int stencil(UnitType type, int offset) {
+        int[] table = stencils[type.ordinal()];
+        if (table == null) {
+            table = new int[SIDE * SIDE];
+            stencils[type.ordinal()] = table;
+        }
+        int mask = table[offset];
+        if (mask != 0) return mask;
+
+        // Enemy at (ex, ey) from us, candidate tile at the direction's delta
+        int ex = offset / SIDE - REACH;
+        int ey = offset % SIDE - REACH;
+        mask = COMPUTED;
+        for (int d = 9; --d >= 0;) {
+            Direction dir = G.ALL_DIRECTIONS[d];
+            if (reaches(type, dir.dx - ex, dir.dy - ey)) mask |= 1 << d;
+        }
+        table[offset] = mask;
+        return mask;
+    }
+
+    /**
+     * Can an enemy of this type hit the tile (tx, ty) away from it next turn.
+     */
+    private static boolean reaches(UnitType type, int tx, int ty) {
+        int distSq = tx * tx + ty * ty;
+        if (type == UnitType.MOPPER) return distSq <= MOPPER_REACH;
+        if (type != UnitType.SPLASHER) return distSq <= type.actionRadiusSquared;
+
+        int r = type.actionRadiusSquared;
+        for (int cx = -2; cx <= 2; cx++) {
+            for (int cy = -2; cy <= 2; cy++) {
+                if (cx * cx + cy * cy > r) continue;
+                int sx = tx - cx;
+                int sy = ty - cy;
+                if (sx * sx + sy * sy <= SPLASH_RADIUS) return true;
+            }
+        }
+        return false;
+    }
+}
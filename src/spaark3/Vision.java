@@ -0,0 +1,131 @@
+package spaark3;
+
+import battlecode.common.*;
+
+/**
+ * Per-turn cache of the vision disc.
+ * The turn's senseNearbyMapInfos() sweep is filed into a 9x9 grid around the
+ * robot, so paint/marks/walls/ruins at an offset cost an array read instead
+ * of a senseMapInfo() call. Offsets come from each tile's location since
+ * off-map tiles are missing from the sweep. The grid is reloaded after our own
+ * attacks (the action cooldown went up), which repaint tiles mid-turn.
+ */
+public class Vision {
+
+    public static final int RADIUS = 4;
+    public static final int SIZE = 2 * RADIUS + 1;
+
+    // Offsets within radius² 8 (5x5 less corners) and radius² 4
+    public static final int[] DISC8_X = {
+        -1, 0, 1, -2, -1, 0, 1, 2, -2, -1, 0, 1, 2, -2, -1, 0, 1, 2, -1, 0, 1,
+    };
+    public static final int[] DISC8_Y = {
+        -2, -2, -2, -1, -1, -1, -1, -1, 0, 0, 0, 0, 0, 1, 1, 1, 1, 1, 2, 2, 2,
+    };
+    public static final int[] DISC4_X = {0, -1, 0, 1, -2, -1, 0, 1, 2, -1, 0, 1, 0};
+    public static final int[] DISC4_Y = {-2, -1, -1, -1, 0, 0, 0, 0, 0, 1, 1, 1, 2};
+
+    // Sweep center, offsets are relative to it
+    public static int x;
+    public static int y;
+
+    // Cells carry the sweep that wrote them, nothing is cleared
+    private static final MapInfo[] grid = new MapInfo[SIZE * SIZE];
+    private static final int[] stamps = new int[SIZE * SIZE];
+    private static int stamp = 0;
+
+    private static MapInfo[] tiles;
+    private static int loadedRound = -1;
+    private static MapLocation loadedAt;
+    private static int loadedCooldown;
+
+    /**
+     * Load the vision disc around G.me from G's tiles, at most once per
+     * round, location and action.
+     */
+    public static void refresh() throws GameActionException {
+        MapLocation me = G.me;
+        int cooldown = G.rc.getActionCooldownTurns();
+        if (G.round == loadedRound && me.equals(loadedAt) && cooldown == loadedCooldown) return;
+        tiles = G.getNearbyTiles();
+
+        loadedRound = G.round;
+        loadedAt = me;
+        loadedCooldown = cooldown;
+        x = me.x;
+        y = me.y;
+        int cx = x - RADIUS;
+        int cy = y - RADIUS;
+        int s = ++stamp;
+        for (int i = tiles.length; --i >= 0;) {
+            MapInfo info = tiles[i];
+            MapLocation loc = info.getMapLocation();
+            int index = (loc.x - cx) * SIZE + loc.y - cy;
+            grid[index] = info;
+            stamps[index] = s;
+        }
+    }
+
+    // Changes whenever the grid is reloaded
+    public static int sweep() {
+        return stamp;
+    }
+
+    public static MapInfo[] tiles() {
+        return tiles;
+    }
+
+    // Accessors by offset from (x, y), null/false if not sensed
+
+    public static MapInfo info(int dx, int dy) {
+        int ix = dx + RADIUS;
+        int iy = dy + RADIUS;
+        if ((ix | iy | (2 * RADIUS - ix) | (2 * RADIUS - iy)) < 0) return null;
+        int index = ix * SIZE + iy;
+        return stamps[index] == stamp ? grid[index] : null;
+    }
+
+    public static boolean sensed(int dx, int dy) {
+        return info(dx, dy) != null;
+    }
+
+    public static PaintType paint(int dx, int dy) {
+        MapInfo info = info(dx, dy);
+        return info != null ? info.getPaint() : null;
+    }
+
+    public static PaintType mark(int dx, int dy) {
+        MapInfo info = info(dx, dy);
+        return info != null ? info.getMark() : null;
+    }
+
+    public static boolean isWall(int dx, int dy) {
+        MapInfo info = info(dx, dy);
+        return info != null && info.isWall();
+    }
+
+    public static boolean isRuin(int dx, int dy) {
+        MapInfo info = info(dx, dy);
+        return info != null && info.hasRuin();
+    }
+
+    public static boolean isPassable(int dx, int dy) {
+        MapInfo info = info(dx, dy);
+        return info != null && info.isPassable();
+    }
+
+    /**
+     * Count tiles with paint matching the filter within a disc at an offset.
+     * want: 1 = ally, -1 = enemy, 0 = neither
+     */
+    public static int countPaint(int dx, int dy, int[] discX, int[] discY, int want) {
+        int count = 0;
+        for (int i = discX.length; --i >= 0;) {
+            PaintType paint = paint(dx + discX[i], dy + discY[i]);
+            if (paint == null) continue;
+            int kind = paint.isAlly() ? 1 : paint.isEnemy() ? -1 : 0;
+            if (kind == want) count++;
+        }
+        return count;
+    }
+}
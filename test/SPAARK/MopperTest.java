@@ -0,0 +1,69 @@
+package SPAARK;
+
+import static org.junit.Assert.*;
+
+import battlecode.common.*;
+import harness.MockRobotController;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MopperTest {
+
+    private static final MapLocation ME = new MapLocation(10, 10);
+
+    // swingScores order: moves as G.ALL_DIRECTIONS, swings south, west, east, north
+    private static final Direction[] SWINGS = {
+        Direction.SOUTH, Direction.WEST, Direction.EAST, Direction.NORTH,
+    };
+
+    private MockRobotController mock;
+
+    @Before
+    public void setUp() {
+        mock = new MockRobotController(20, 20).as(UnitType.MOPPER, ME);
+        G.rc = mock.rc();
+        G.me = ME;
+        G.team = Team.A;
+        G.opponentTeam = Team.B;
+        Mopper.swingScores = new int[36];
+    }
+
+    @Test
+    public void stencilsCoverTheSwingArea() {
+        for (int k = 0; k < 36; k++) {
+            MapLocation origin = ME.add(G.ALL_DIRECTIONS[k / 4]);
+            Direction swing = SWINGS[k % 4];
+            long expected = 0;
+            for (int dx = -3; dx <= 3; dx++) {
+                for (int dy = -3; dy <= 3; dy++) {
+                    MapLocation tile = ME.translate(dx, dy);
+                    // 2 deep in the swing direction, 1 to each side
+                    int along = (tile.x - origin.x) * swing.dx + (tile.y - origin.y) * swing.dy;
+                    int across = (tile.x - origin.x) * swing.dy - (tile.y - origin.y) * swing.dx;
+                    if (along >= 1 && along <= 2 && Math.abs(across) <= 1)
+                        expected |= 1L << ((dx + 3) * 7 + dy + 3);
+                }
+            }
+            assertEquals("pair " + k, expected, Mopper.SWING_STENCILS[k]);
+        }
+    }
+
+    @Test
+    public void swingScoresSumEveryHit() throws Exception {
+        // two soldiers alike, so each hit is worth the same
+        mock.robot(new RobotInfo(100, Team.B, UnitType.SOLDIER, 100, ME.translate(1, 1), 3));
+        mock.robot(new RobotInfo(101, Team.B, UnitType.SOLDIER, 100, ME.translate(2, 0), 3));
+        mock.robot(new RobotInfo(102, Team.B, UnitType.LEVEL_ONE_PAINT_TOWER, 100, ME.translate(2, -1), 3));
+        G.opponentRobots = G.rc.senseNearbyRobots(-1, Team.B);
+
+        Mopper.exploreSwingScores();
+
+        // swinging east from here hits both soldiers but not the tower, north
+        // only the first
+        int one = Mopper.swingScores[8 * 4 + 3];
+        assertTrue(one > 0);
+        assertEquals(2 * one, Mopper.swingScores[8 * 4 + 2]);
+        // a step south then a swing south reaches nobody
+        assertEquals(0, Mopper.swingScores[1 * 4 + 0]);
+    }
+}
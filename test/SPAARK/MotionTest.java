@@ -0,0 +1,133 @@
+package SPAARK;
+
+import static org.junit.Assert.*;
+
+import battlecode.common.*;
+import harness.Grids;
+import harness.MockRobotController;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MotionTest {
+
+    private static final MapLocation ME = new MapLocation(12, 10);
+    private static final MapLocation DEST = new MapLocation(4, 10);
+
+    private MockRobotController mock;
+
+    /** A wall between us and DEST, all of it in vision */
+    @Before
+    public void setUp() {
+        mock = new MockRobotController(20, 20).as(UnitType.SOLDIER, ME);
+        for (int y = 7; y <= 13; y++) {
+            mock.wall(10, y);
+        }
+        G.rc = mock.rc();
+        G.mapWidth = 20;
+        G.mapHeight = 20;
+        G.round = 1;
+        G.me = ME;
+        G.indicatorString = new StringBuilder();
+        G.nearbyMapInfos = G.rc.senseNearbyMapInfos();
+        Motion.bfsSlotDests = new MapLocation[Motion.BFS_SLOTS];
+        Motion.bfsSlotLastUsed = new int[Motion.BFS_SLOTS];
+        Motion.bfsInit();
+    }
+
+    /** First layer that reaches (x, y), or -1 */
+    private static int layerOf(int x, int y) {
+        for (int k = 0; k < Motion.step; k++) {
+            if (((Motion.bfsDist[k * (Motion.height + 2) + y + 1] >> x) & 1) == 1)
+                return k;
+        }
+        return -1;
+    }
+
+    private void assertMatches() {
+        int[][] expected = Grids.moveDistances(mock.walls(), DEST);
+        for (int x = 0; x < 20; x++) {
+            for (int y = 0; y < 20; y++) {
+                if (!mock.walls()[x][y])
+                    assertEquals("layer at " + x + ", " + y, expected[x][y], layerOf(x, y));
+            }
+        }
+    }
+
+    @Test
+    public void layersMatchBfs() throws Exception {
+        Motion.updateBfsTarget(DEST);
+        Motion.updateBfsMap();
+        Motion.bfs();
+
+        assertEquals(Motion.MAX_PATH_LENGTH, Motion.step);
+        assertMatches();
+    }
+
+    @Test
+    public void repairsLayersAfterLateWalls() throws Exception {
+        MapInfo[] seen = G.nearbyMapInfos;
+        G.nearbyMapInfos = new MapInfo[0];
+        Motion.updateBfsTarget(DEST);
+        Motion.updateBfsMap();
+        Motion.bfs();
+        assertEquals(8, layerOf(ME.x, ME.y));
+
+        G.nearbyMapInfos = seen;
+        Motion.updateBfsMap();
+        Motion.bfs();
+
+        assertEquals(Motion.MAX_PATH_LENGTH, Motion.repairStep);
+        assertMatches();
+    }
+
+    @Test
+    public void directionGoesDownhill() throws Exception {
+        Motion.updateBfsTarget(DEST);
+        Motion.updateBfsMap();
+        Motion.bfs();
+
+        int[][] expected = Grids.moveDistances(mock.walls(), DEST);
+        MapLocation next = ME.add(Motion.getBfsDirection(DEST));
+        assertEquals(expected[ME.x][ME.y] - 1, expected[next.x][next.y]);
+    }
+
+    @Test
+    public void keepsTwoDestinations() throws Exception {
+        MapLocation other = new MapLocation(15, 2);
+        Motion.updateBfsTarget(DEST);
+        Motion.updateBfsMap();
+        Motion.bfs();
+        Motion.updateBfsTarget(other);
+        Motion.bfs();
+
+        // Switching back reuses the layers instead of starting over
+        Motion.updateBfsTarget(DEST);
+        assertEquals(Motion.MAX_PATH_LENGTH, Motion.step);
+        assertMatches();
+    }
+
+    @Test
+    public void stopsAtBytecodeReserve() throws Exception {
+        Motion.updateBfsTarget(DEST);
+        Motion.updateBfsMap();
+        mock.charge(mock.bytecodeLimit() - 5000);
+        Motion.bfs();
+
+        assertEquals(1, Motion.step);
+    }
+
+    @Test
+    public void microsChainIntoOneBuffer() throws Exception {
+        Micro twice = Motion.targetMicro.and(Motion.targetMicro);
+        int[] scores = Motion.micro(twice, Direction.NORTH, DEST);
+        assertSame(Motion.microScores, scores);
+        assertEquals(40, scores[G.dirOrd(Direction.NORTH)]);
+        assertEquals(30, scores[G.dirOrd(Direction.NORTHEAST)]);
+        assertEquals(0, scores[G.dirOrd(Direction.SOUTH)]);
+
+        // The buffer is cleared between moves, not added onto
+        Motion.micro(twice, Direction.SOUTH, DEST);
+        assertEquals(0, scores[G.dirOrd(Direction.NORTH)]);
+        assertEquals(40, scores[G.dirOrd(Direction.SOUTH)]);
+    }
+}
@@ -0,0 +1,47 @@
+package SPAARK;
+
+import static org.junit.Assert.*;
+
+import battlecode.common.*;
+import harness.MockRobotController;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RuinPatternTest {
+
+    private static final MapLocation RUIN = new MapLocation(10, 10);
+
+    private MockRobotController mock;
+
+    @Before
+    public void setUp() {
+        mock = new MockRobotController(20, 20).as(UnitType.SOLDIER, new MapLocation(10, 4)).ruin(10, 10);
+        G.rc = mock.rc();
+        G.me = new MapLocation(10, 4);
+        G.round = 1;
+        RuinPattern.ruin = null;
+    }
+
+    private void moveTo(MapLocation loc) {
+        mock.as(UnitType.SOLDIER, loc);
+        G.me = loc;
+    }
+
+    @Test
+    public void sensesTilesThatCameIntoViewAfterMoving() throws Exception {
+        // From 6 tiles off only the near row is in vision
+        RuinPattern.update(RUIN);
+        assertEquals(5, Integer.bitCount(RuinPattern.sensed));
+        int calls = mock.callCount("senseMapInfo");
+        RuinPattern.update(RUIN);
+        assertEquals(calls, mock.callCount("senseMapInfo"));
+
+        // Moving in sees the rest, and only the new tiles are sensed
+        mock.paint(12, 12, PaintType.ENEMY_PRIMARY);
+        moveTo(new MapLocation(10, 8));
+        RuinPattern.update(RUIN);
+        assertEquals(RuinPattern.ALL, RuinPattern.sensed);
+        assertEquals(calls + 24 - 5, mock.callCount("senseMapInfo"));
+        assertEquals(1 << ((12 - 8) * 5 + 12 - 8), RuinPattern.enemy);
+    }
+}
@@ -0,0 +1,75 @@
+package SPAARK;
+
+import static org.junit.Assert.*;
+
+import battlecode.common.*;
+import harness.MockRobotController;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SplasherCodeGenTest {
+
+    private static final MapLocation ME = new MapLocation(10, 10);
+
+    private MockRobotController mock;
+
+    @Before
+    public void setUp() {
+        mock = new MockRobotController(20, 20).as(UnitType.SPLASHER, ME);
+        G.rc = mock.rc();
+        G.mapWidth = 20;
+        G.mapHeight = 20;
+        G.me = ME;
+        G.team = Team.A;
+        G.opponentTeam = Team.B;
+        G.robotGrid = new int[G.mapWidth + 6][G.mapHeight + 6];
+        G.allyStamp = 2;
+        G.opponentStamp = 3;
+        Splasher.attackScores = new int[37];
+    }
+
+    private static int best() {
+        int best = 0;
+        for (int i = 1; i < 37; i++) {
+            if (Splasher.attackScores[i] > Splasher.attackScores[best])
+                best = i;
+        }
+        return best;
+    }
+
+    @Test
+    public void centersOnEnemyPaint() throws Exception {
+        for (int x = 11; x <= 13; x++) {
+            for (int y = 9; y <= 11; y++) {
+                mock.paint(x, y, PaintType.ENEMY_PRIMARY);
+            }
+        }
+        SplasherCodeGen.exploreAttackScores1();
+
+        int i = best();
+        assertEquals(2, G.range20X[i]);
+        assertEquals(0, G.range20Y[i]);
+        // 9 enemy tiles plus the 4 empty tips of the splash circle
+        assertEquals(9 * 50 + 4 * 25, Splasher.attackScores[i]);
+    }
+
+    @Test
+    public void coversRuins() throws Exception {
+        mock.ruin(13, 10);
+        SplasherCodeGen.exploreAttackScores1();
+
+        int i = best();
+        MapLocation center = ME.translate(G.range20X[i], G.range20Y[i]);
+        assertTrue("splash at " + center, center.distanceSquaredTo(new MapLocation(13, 10)) <= 4);
+    }
+
+    @Test
+    public void scanCost() throws Exception {
+        mock.resetBytecodes();
+        SplasherCodeGen.exploreAttackScores1();
+
+        // onTheMap and senseMapInfo once per tile in vision, nothing else without ruins
+        assertEquals(69, mock.callCount("senseMapInfo"));
+        assertTrue("scan cost " + mock.bytecodesUsed(), mock.bytecodesUsed() <= 69 * 10);
+    }
+}
@@ -0,0 +1,45 @@
+package harness;
+
+import battlecode.common.MapLocation;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+/**
+ * Reference answers the bots' optimized code is checked against.
+ */
+public class Grids {
+
+    public static final int UNREACHABLE = -1;
+
+    private Grids() {
+    }
+
+    /**
+     * Moves (8-connected) from the nearest source to every tile, walls[x][y]
+     * blocking, UNREACHABLE where no source can reach.
+     */
+    public static int[][] moveDistances(boolean[][] walls, MapLocation... sources) {
+        int width = walls.length, height = walls[0].length;
+        int[][] dist = new int[width][height];
+        for (int[] column : dist) Arrays.fill(column, UNREACHABLE);
+        ArrayDeque<MapLocation> queue = new ArrayDeque<>();
+        for (MapLocation s : sources) {
+            dist[s.x][s.y] = 0;
+            queue.add(s);
+        }
+        while (!queue.isEmpty()) {
+            MapLocation cur = queue.poll();
+            for (int dx = -1; dx <= 1; dx++) {
+                for (int dy = -1; dy <= 1; dy++) {
+                    int x = cur.x + dx, y = cur.y + dy;
+                    if (x < 0 || x >= width || y < 0 || y >= height) continue;
+                    if (walls[x][y] || dist[x][y] != UNREACHABLE) continue;
+                    dist[x][y] = dist[cur.x][cur.y] + 1;
+                    queue.add(new MapLocation(x, y));
+                }
+            }
+        }
+        return dist;
+    }
+}
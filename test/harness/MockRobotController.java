@@ -0,0 +1,736 @@
+package harness;
+
+import battlecode.common.*;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory RobotController for unit tests.
+ *
+ * Holds a scripted world (walls, ruins, paint, marks, other robots, messages)
+ * and the robot under test. rc() hands out a RobotController proxy: calls are
+ * dispatched to the public method of this class with the same signature, so
+ * only the API the bots actually use needs an implementation here, and
+ * anything else throws UnsupportedOperationException instead of silently
+ * returning a default.
+ *
+ * Every proxied call is charged to a bytecode meter, using roughly the engine's
+ * per-method costs (setCost overrides them). The meter only sees API calls, the
+ * bytecodes of the bot's own Java code are not counted, so cost ceilings in
+ * tests bound how much a piece of code senses and acts, not its total cost.
+ * The test Clock reads the meter of the mock that was last handed out, so
+ * bots that stop on Clock.getBytecodesLeft() see the charged calls too.
+ *
+ * Coordinates are engine coordinates, (0, 0) is the bottom left corner.
+ */
+public class MockRobotController implements InvocationHandler {
+
+    /** Charged for proxied calls without an entry in the cost table */
+    public static final int DEFAULT_COST = 1;
+
+    private static final Map<String, Integer> ENGINE_COSTS = new HashMap<>();
+    static {
+        ENGINE_COSTS.put("senseNearbyRobots", 100);
+        ENGINE_COSTS.put("senseNearbyMapInfos", 100);
+        ENGINE_COSTS.put("senseNearbyRuins", 100);
+        ENGINE_COSTS.put("getAllLocationsWithinRadiusSquared", 100);
+        ENGINE_COSTS.put("senseMapInfo", 5);
+        ENGINE_COSTS.put("sensePassability", 5);
+        ENGINE_COSTS.put("senseRobotAtLocation", 25);
+        ENGINE_COSTS.put("senseRobot", 25);
+        ENGINE_COSTS.put("canSenseRobotAtLocation", 5);
+        ENGINE_COSTS.put("canSenseLocation", 5);
+        ENGINE_COSTS.put("onTheMap", 5);
+        ENGINE_COSTS.put("canMove", 10);
+        ENGINE_COSTS.put("canAttack", 10);
+        ENGINE_COSTS.put("canMark", 5);
+        ENGINE_COSTS.put("canTransferPaint", 10);
+        ENGINE_COSTS.put("canSendMessage", 50);
+        ENGINE_COSTS.put("sendMessage", 50);
+        ENGINE_COSTS.put("canBroadcastMessage", 5);
+        ENGINE_COSTS.put("broadcastMessage", 50);
+        ENGINE_COSTS.put("readMessages", 100);
+        ENGINE_COSTS.put("setIndicatorString", 0);
+        ENGINE_COSTS.put("setIndicatorDot", 0);
+        ENGINE_COSTS.put("setIndicatorLine", 0);
+        ENGINE_COSTS.put("setTimelineMarker", 0);
+    }
+
+    /** The mock whose meter the test Clock reports */
+    private static MockRobotController current = null;
+
+    // ==================== WORLD ====================
+
+    private final int width, height;
+    private final boolean[][] walls;
+    private final boolean[][] ruins;
+    private final PaintType[][] paint;
+    // Each team sees only its own marks: [team ordinal][x][y], ALLY_* as that team placed it
+    private final PaintType[][][] marks;
+    private final List<RobotInfo> robots = new ArrayList<>();
+    private final List<Message> inbox = new ArrayList<>();
+
+    // ==================== ROBOT UNDER TEST ====================
+
+    private int id = 1;
+    private Team team = Team.A;
+    private UnitType type = UnitType.SOLDIER;
+    private MapLocation location;
+    private int health = UnitType.SOLDIER.health;
+    private int paintAmount = UnitType.SOLDIER.paintCapacity;
+    private int chips = 0;
+    private int round = 1;
+    private boolean movementReady = true;
+    private boolean actionReady = true;
+    private int messagesSent = 0;
+    private boolean broadcastSent = false;
+
+    // ==================== RECORDING ====================
+
+    private final List<String> actions = new ArrayList<>();
+    private final List<Message> sent = new ArrayList<>();
+    private final Map<String, Integer> costs = new HashMap<>(ENGINE_COSTS);
+    private final Map<String, Integer> calls = new HashMap<>();
+    private int bytecodesUsed = 0;
+
+    private final RobotController proxy;
+
+    public MockRobotController(int width, int height) {
+        this.width = width;
+        this.height = height;
+        walls = new boolean[width][height];
+        ruins = new boolean[width][height];
+        paint = new PaintType[width][height];
+        marks = new PaintType[2][width][height];
+        for (int x = 0; x < width; x++) {
+            java.util.Arrays.fill(paint[x], PaintType.EMPTY);
+            java.util.Arrays.fill(marks[0][x], PaintType.EMPTY);
+            java.util.Arrays.fill(marks[1][x], PaintType.EMPTY);
+        }
+        location = new MapLocation(0, 0);
+        proxy = (RobotController) Proxy.newProxyInstance(
+            RobotController.class.getClassLoader(), new Class<?>[] { RobotController.class }, this);
+    }
+
+    /**
+     * Build a world from a picture, top row first:
+     * '.' empty, '#' wall, 'R' ruin, 'a' ally paint, 'e' enemy paint,
+     * '@' the robot under test (on an empty tile).
+     */
+    public static MockRobotController fromMap(String... rows) {
+        MockRobotController mock = new MockRobotController(rows[0].length(), rows.length);
+        for (int r = 0; r < rows.length; r++) {
+            int y = rows.length - 1 - r;
+            for (int x = 0; x < rows[r].length(); x++) {
+                switch (rows[r].charAt(x)) {
+                    case '#': mock.wall(x, y); break;
+                    case 'R': mock.ruin(x, y); break;
+                    case 'a': mock.paint(x, y, PaintType.ALLY_PRIMARY); break;
+                    case 'e': mock.paint(x, y, PaintType.ENEMY_PRIMARY); break;
+                    case '@': mock.location = new MapLocation(x, y); break;
+                    case '.': break;
+                    default: throw new IllegalArgumentException("Unknown tile '" + rows[r].charAt(x) + "'");
+                }
+            }
+        }
+        return mock;
+    }
+
+    /**
+     * The RobotController the bot code under test talks to. Also makes this
+     * mock the one the test Clock reports.
+     */
+    public RobotController rc() {
+        current = this;
+        return proxy;
+    }
+
+    public static MockRobotController current() {
+        return current;
+    }
+
+    // ==================== SCENARIO ====================
+
+    public MockRobotController as(UnitType type, MapLocation loc) {
+        this.type = type;
+        this.location = loc;
+        this.health = type.health;
+        this.paintAmount = type.isTowerType() ? 0 : type.paintCapacity;
+        return this;
+    }
+
+    public MockRobotController withId(int id) {
+        this.id = id;
+        return this;
+    }
+
+    public MockRobotController withTeam(Team team) {
+        this.team = team;
+        return this;
+    }
+
+    public MockRobotController withPaint(int paintAmount) {
+        this.paintAmount = paintAmount;
+        return this;
+    }
+
+    public MockRobotController withHealth(int health) {
+        this.health = health;
+        return this;
+    }
+
+    public MockRobotController withChips(int chips) {
+        this.chips = chips;
+        return this;
+    }
+
+    public MockRobotController atRound(int round) {
+        this.round = round;
+        return this;
+    }
+
+    public MockRobotController wall(int x, int y) {
+        walls[x][y] = true;
+        return this;
+    }
+
+    public MockRobotController ruin(int x, int y) {
+        ruins[x][y] = true;
+        return this;
+    }
+
+    public MockRobotController paint(int x, int y, PaintType p) {
+        paint[x][y] = p;
+        return this;
+    }
+
+    /** A mark as team A sees it, ENEMY_* for one team B placed */
+    public MockRobotController mark(int x, int y, PaintType p) {
+        if (isEnemyPaint(p)) {
+            return mark(x, y, p == PaintType.ENEMY_PRIMARY ? PaintType.ALLY_PRIMARY : PaintType.ALLY_SECONDARY, Team.B);
+        }
+        return mark(x, y, p, Team.A);
+    }
+
+    /** A mark placed by owner, p as owner sees it (ALLY_* or EMPTY) */
+    public MockRobotController mark(int x, int y, PaintType p, Team owner) {
+        marks[owner.ordinal()][x][y] = p;
+        return this;
+    }
+
+    public MockRobotController robot(int id, Team team, UnitType type, MapLocation loc) {
+        return robot(new RobotInfo(id, team, type, type.health, loc, type.isTowerType() ? 0 : type.paintCapacity));
+    }
+
+    public MockRobotController robot(RobotInfo robot) {
+        removeRobot(robot.getLocation());
+        robots.add(robot);
+        return this;
+    }
+
+    public MockRobotController removeRobot(MapLocation loc) {
+        robots.removeIf(r -> r.getLocation().equals(loc));
+        return this;
+    }
+
+    /** Queue a message for the robot under test, sent this round. */
+    public MockRobotController deliver(int bytes, int senderId) {
+        inbox.add(new Message(bytes, senderId, round));
+        return this;
+    }
+
+    /**
+     * Start the next round: cooldowns are ready again, the meter and the
+     * per-round message limits reset, and messages past their lifetime drop.
+     */
+    public void nextRound() {
+        round++;
+        movementReady = true;
+        actionReady = true;
+        messagesSent = 0;
+        broadcastSent = false;
+        bytecodesUsed = 0;
+        inbox.removeIf(m -> m.getRound() <= round - GameConstants.MESSAGE_ROUND_DURATION);
+    }
+
+    // ==================== INSPECTION ====================
+
+    /** Actions taken so far, like "move NORTH" or "attack [3, 4]" */
+    public List<String> actions() {
+        return actions;
+    }
+
+    /** Messages sent or broadcast so far, with our ID and the round */
+    public List<Message> sent() {
+        return sent;
+    }
+
+    public PaintType paintAt(int x, int y) {
+        return paint[x][y];
+    }
+
+    /** walls[x][y], for reference answers */
+    public boolean[][] walls() {
+        return walls;
+    }
+
+    public void setCost(String method, int cost) {
+        costs.put(method, cost);
+    }
+
+    /** Charge bytecodes by hand, e.g. for work the meter can't see */
+    public void charge(int bytecodes) {
+        bytecodesUsed += bytecodes;
+    }
+
+    public int bytecodesUsed() {
+        return bytecodesUsed;
+    }
+
+    public void resetBytecodes() {
+        bytecodesUsed = 0;
+    }
+
+    public int bytecodeLimit() {
+        return type.isTowerType() ? GameConstants.TOWER_BYTECODE_LIMIT : GameConstants.ROBOT_BYTECODE_LIMIT;
+    }
+
+    public int callCount(String method) {
+        return calls.getOrDefault(method, 0);
+    }
+
+    // ==================== PROXY ====================
+
+    private final Map<Method, Method> targets = new HashMap<>();
+
+    @Override
+    public Object invoke(Object self, Method method, Object[] args) throws Throwable {
+        String name = method.getName();
+        Method target = targets.get(method);
+        if (target == null) {
+            try {
+                target = MockRobotController.class.getMethod(name, method.getParameterTypes());
+            } catch (NoSuchMethodException e) {
+                throw new UnsupportedOperationException("MockRobotController does not script " + name);
+            }
+            targets.put(method, target);
+        }
+        bytecodesUsed += costs.getOrDefault(name, DEFAULT_COST);
+        calls.merge(name, 1, Integer::sum);
+        try {
+            return target.invoke(this, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    // ==================== ROBOTCONTROLLER: STATE ====================
+
+    public int getID() {
+        return id;
+    }
+
+    public Team getTeam() {
+        return team;
+    }
+
+    public UnitType getType() {
+        return type;
+    }
+
+    public MapLocation getLocation() {
+        return location;
+    }
+
+    public int getHealth() {
+        return health;
+    }
+
+    public int getPaint() {
+        return paintAmount;
+    }
+
+    public int getChips() {
+        return chips;
+    }
+
+    public int getMoney() {
+        return chips;
+    }
+
+    public int getRoundNum() {
+        return round;
+    }
+
+    public int getMapWidth() {
+        return width;
+    }
+
+    public int getMapHeight() {
+        return height;
+    }
+
+    public int getNumberTowers() {
+        int count = type.isTowerType() ? 1 : 0;
+        for (RobotInfo r : robots) {
+            if (r.getTeam() == team && r.getType().isTowerType()) count++;
+        }
+        return count;
+    }
+
+    public boolean isMovementReady() {
+        return movementReady;
+    }
+
+    public boolean isActionReady() {
+        return actionReady;
+    }
+
+    public int getMovementCooldownTurns() {
+        return movementReady ? 0 : GameConstants.COOLDOWNS_PER_TURN;
+    }
+
+    public int getActionCooldownTurns() {
+        return actionReady ? 0 : GameConstants.COOLDOWNS_PER_TURN;
+    }
+
+    // ==================== ROBOTCONTROLLER: SENSING ====================
+
+    public boolean onTheMap(MapLocation loc) {
+        return loc.x >= 0 && loc.x < width && loc.y >= 0 && loc.y < height;
+    }
+
+    public boolean canSenseLocation(MapLocation loc) {
+        return onTheMap(loc) && location.isWithinDistanceSquared(loc, GameConstants.VISION_RADIUS_SQUARED);
+    }
+
+    public boolean isLocationOccupied(MapLocation loc) throws GameActionException {
+        assertCanSense(loc);
+        return robotAt(loc) != null;
+    }
+
+    public boolean canSenseRobotAtLocation(MapLocation loc) {
+        return canSenseLocation(loc) && robotAt(loc) != null;
+    }
+
+    public RobotInfo senseRobotAtLocation(MapLocation loc) throws GameActionException {
+        assertCanSense(loc);
+        return robotAt(loc);
+    }
+
+    public boolean canSenseRobot(int robotId) {
+        for (RobotInfo r : robots) {
+            if (r.getID() == robotId) return canSenseLocation(r.getLocation());
+        }
+        return false;
+    }
+
+    public RobotInfo senseRobot(int robotId) throws GameActionException {
+        for (RobotInfo r : robots) {
+            if (r.getID() == robotId && canSenseLocation(r.getLocation())) return r;
+        }
+        throw new GameActionException(GameActionExceptionType.CANT_SENSE_LOCATION, "Can't sense robot " + robotId);
+    }
+
+    public RobotInfo[] senseNearbyRobots() {
+        return nearbyRobots(location, GameConstants.VISION_RADIUS_SQUARED, null);
+    }
+
+    public RobotInfo[] senseNearbyRobots(int radiusSquared) {
+        return nearbyRobots(location, visionRadius(radiusSquared), null);
+    }
+
+    public RobotInfo[] senseNearbyRobots(int radiusSquared, Team t) {
+        return nearbyRobots(location, visionRadius(radiusSquared), t);
+    }
+
+    public RobotInfo[] senseNearbyRobots(MapLocation center, int radiusSquared, Team t) {
+        return nearbyRobots(center, visionRadius(radiusSquared), t);
+    }
+
+    public MapInfo senseMapInfo(MapLocation loc) throws GameActionException {
+        assertCanSense(loc);
+        return mapInfo(loc.x, loc.y);
+    }
+
+    public boolean sensePassability(MapLocation loc) throws GameActionException {
+        assertCanSense(loc);
+        return !walls[loc.x][loc.y] && !ruins[loc.x][loc.y];
+    }
+
+    public MapInfo[] senseNearbyMapInfos() {
+        return nearbyMapInfos(location, GameConstants.VISION_RADIUS_SQUARED);
+    }
+
+    public MapInfo[] senseNearbyMapInfos(int radiusSquared) {
+        return nearbyMapInfos(location, visionRadius(radiusSquared));
+    }
+
+    public MapInfo[] senseNearbyMapInfos(MapLocation center) {
+        return nearbyMapInfos(center, GameConstants.VISION_RADIUS_SQUARED);
+    }
+
+    public MapInfo[] senseNearbyMapInfos(MapLocation center, int radiusSquared) {
+        return nearbyMapInfos(center, visionRadius(radiusSquared));
+    }
+
+    public MapLocation[] senseNearbyRuins(int radiusSquared) {
+        List<MapLocation> found = new ArrayList<>();
+        for (MapLocation loc : locationsWithin(location, visionRadius(radiusSquared))) {
+            if (ruins[loc.x][loc.y]) found.add(loc);
+        }
+        return found.toArray(new MapLocation[0]);
+    }
+
+    public MapLocation[] getAllLocationsWithinRadiusSquared(MapLocation center, int radiusSquared) {
+        return locationsWithin(center, radiusSquared).toArray(new MapLocation[0]);
+    }
+
+    public MapLocation adjacentLocation(Direction dir) {
+        return location.add(dir);
+    }
+
+    // ==================== ROBOTCONTROLLER: ACTIONS ====================
+
+    public boolean canMove(Direction dir) {
+        MapLocation next = location.add(dir);
+        return movementReady && dir != Direction.CENTER && onTheMap(next)
+            && !walls[next.x][next.y] && !ruins[next.x][next.y] && robotAt(next) == null;
+    }
+
+    public void move(Direction dir) throws GameActionException {
+        if (!canMove(dir)) {
+            throw new GameActionException(GameActionExceptionType.CANT_MOVE_THERE, "Can't move " + dir);
+        }
+        location = location.add(dir);
+        movementReady = false;
+        actions.add("move " + dir);
+    }
+
+    public boolean canAttack(MapLocation loc) {
+        return actionReady && loc != null && onTheMap(loc) && !walls[loc.x][loc.y]
+            && location.isWithinDistanceSquared(loc, type.actionRadiusSquared)
+            && paintAmount >= type.attackCost;
+    }
+
+    public void attack(MapLocation loc) throws GameActionException {
+        attack(loc, false);
+    }
+
+    public void attack(MapLocation loc, boolean useSecondaryColor) throws GameActionException {
+        if (!canAttack(loc)) {
+            throw new GameActionException(GameActionExceptionType.CANT_DO_THAT, "Can't attack " + loc);
+        }
+        PaintType ours = team == Team.A
+            ? (useSecondaryColor ? PaintType.ALLY_SECONDARY : PaintType.ALLY_PRIMARY)
+            : (useSecondaryColor ? PaintType.ENEMY_SECONDARY : PaintType.ENEMY_PRIMARY);
+        if (type == UnitType.SOLDIER) {
+            if (!ruins[loc.x][loc.y]) paint[loc.x][loc.y] = ours;
+        } else if (type == UnitType.SPLASHER) {
+            // Paints radius 2 but only overwrites enemy paint within radius sqrt(2)
+            for (MapLocation t : locationsWithin(loc, 4)) {
+                if (walls[t.x][t.y] || ruins[t.x][t.y]) continue;
+                if (isEnemyPaint(paint[t.x][t.y]) && loc.distanceSquaredTo(t) > 2) continue;
+                paint[t.x][t.y] = ours;
+            }
+        } else if (type == UnitType.MOPPER) {
+            if (isEnemyPaint(paint[loc.x][loc.y])) paint[loc.x][loc.y] = PaintType.EMPTY;
+        }
+        paintAmount -= type.attackCost;
+        actionReady = false;
+        actions.add("attack " + loc);
+    }
+
+    public boolean canMopSwing(Direction dir) {
+        return actionReady && type == UnitType.MOPPER && dir != Direction.CENTER;
+    }
+
+    public void mopSwing(Direction dir) throws GameActionException {
+        if (!canMopSwing(dir)) {
+            throw new GameActionException(GameActionExceptionType.CANT_DO_THAT, "Can't swing " + dir);
+        }
+        actionReady = false;
+        actions.add("mopSwing " + dir);
+    }
+
+    public boolean canMark(MapLocation loc) {
+        return onTheMap(loc) && location.isWithinDistanceSquared(loc, GameConstants.VISION_RADIUS_SQUARED)
+            && !walls[loc.x][loc.y] && !ruins[loc.x][loc.y];
+    }
+
+    public void mark(MapLocation loc, boolean secondary) throws GameActionException {
+        if (!canMark(loc)) {
+            throw new GameActionException(GameActionExceptionType.CANT_DO_THAT, "Can't mark " + loc);
+        }
+        marks[team.ordinal()][loc.x][loc.y] = secondary ? PaintType.ALLY_SECONDARY : PaintType.ALLY_PRIMARY;
+        actions.add("mark " + loc);
+    }
+
+    public boolean canRemoveMark(MapLocation loc) {
+        return canMark(loc) && marks[team.ordinal()][loc.x][loc.y] != PaintType.EMPTY;
+    }
+
+    public void removeMark(MapLocation loc) throws GameActionException {
+        if (!canRemoveMark(loc)) {
+            throw new GameActionException(GameActionExceptionType.CANT_DO_THAT, "No mark at " + loc);
+        }
+        marks[team.ordinal()][loc.x][loc.y] = PaintType.EMPTY;
+        actions.add("removeMark " + loc);
+    }
+
+    public boolean canTransferPaint(MapLocation loc, int amount) {
+        if (!actionReady || !location.isWithinDistanceSquared(loc, 2)) return false;
+        RobotInfo other = robotAt(loc);
+        if (other == null || other.getTeam() != team) return false;
+        return amount > 0 ? paintAmount >= amount : other.getPaintAmount() >= -amount;
+    }
+
+    public void transferPaint(MapLocation loc, int amount) throws GameActionException {
+        if (!canTransferPaint(loc, amount)) {
+            throw new GameActionException(GameActionExceptionType.CANT_DO_THAT, "Can't transfer " + amount + " to " + loc);
+        }
+        RobotInfo other = robotAt(loc);
+        paintAmount -= amount;
+        robot(new RobotInfo(other.getID(), other.getTeam(), other.getType(), other.getHealth(), loc, other.getPaintAmount() + amount));
+        actionReady = false;
+        actions.add("transferPaint " + loc + " " + amount);
+    }
+
+    // ==================== ROBOTCONTROLLER: MESSAGES ====================
+
+    public boolean canSendMessage(MapLocation loc) {
+        int limit = type.isTowerType() ? GameConstants.MAX_MESSAGES_SENT_TOWER : GameConstants.MAX_MESSAGES_SENT_ROBOT;
+        if (messagesSent >= limit || !location.isWithinDistanceSquared(loc, GameConstants.MESSAGE_RADIUS_SQUARED)) return false;
+        RobotInfo other = robotAt(loc);
+        // Robots only talk to towers and towers only to robots
+        return other != null && other.getTeam() == team && other.getType().isTowerType() != type.isTowerType();
+    }
+
+    public boolean canSendMessage(MapLocation loc, int message) {
+        return canSendMessage(loc);
+    }
+
+    public void sendMessage(MapLocation loc, int message) throws GameActionException {
+        if (!canSendMessage(loc)) {
+            throw new GameActionException(GameActionExceptionType.CANT_DO_THAT, "Can't send to " + loc);
+        }
+        messagesSent++;
+        sent.add(new Message(message, id, round));
+        actions.add("sendMessage " + loc + " " + message);
+    }
+
+    public boolean canBroadcastMessage() {
+        return type.isTowerType() && !broadcastSent;
+    }
+
+    public void broadcastMessage(int message) throws GameActionException {
+        if (!canBroadcastMessage()) {
+            throw new GameActionException(GameActionExceptionType.CANT_DO_THAT, "Can't broadcast");
+        }
+        broadcastSent = true;
+        sent.add(new Message(message, id, round));
+        actions.add("broadcastMessage " + message);
+    }
+
+    public Message[] readMessages(int roundNum) {
+        List<Message> found = new ArrayList<>();
+        for (Message m : inbox) {
+            if (roundNum == -1 || m.getRound() == roundNum) found.add(m);
+        }
+        return found.toArray(new Message[0]);
+    }
+
+    // ==================== ROBOTCONTROLLER: DEBUG ====================
+
+    public void setIndicatorString(String string) {
+    }
+
+    public void setIndicatorDot(MapLocation loc, int red, int green, int blue) {
+    }
+
+    public void setIndicatorLine(MapLocation start, MapLocation end, int red, int green, int blue) {
+    }
+
+    public void setTimelineMarker(String label, int red, int green, int blue) {
+    }
+
+    // ==================== HELPERS ====================
+
+    private RobotInfo robotAt(MapLocation loc) {
+        if (loc.equals(location)) {
+            return new RobotInfo(id, team, type, health, location, paintAmount);
+        }
+        for (RobotInfo r : robots) {
+            if (r.getLocation().equals(loc)) return r;
+        }
+        return null;
+    }
+
+    private static boolean isEnemyPaint(PaintType p) {
+        return p == PaintType.ENEMY_PRIMARY || p == PaintType.ENEMY_SECONDARY;
+    }
+
+    /** Paint relative to the robot under test, the way the engine reports it */
+    private PaintType relative(PaintType p) {
+        if (team == Team.A || p == PaintType.EMPTY) return p;
+        switch (p) {
+            case ALLY_PRIMARY: return PaintType.ENEMY_PRIMARY;
+            case ALLY_SECONDARY: return PaintType.ENEMY_SECONDARY;
+            case ENEMY_PRIMARY: return PaintType.ALLY_PRIMARY;
+            default: return PaintType.ALLY_SECONDARY;
+        }
+    }
+
+    private MapInfo mapInfo(int x, int y) {
+        boolean wall = walls[x][y], ruin = ruins[x][y];
+        return new MapInfo(new MapLocation(x, y), !wall && !ruin, wall, relative(paint[x][y]),
+            marks[team.ordinal()][x][y], ruin, false);
+    }
+
+    private void assertCanSense(MapLocation loc) throws GameActionException {
+        if (!canSenseLocation(loc)) {
+            throw new GameActionException(GameActionExceptionType.CANT_SENSE_LOCATION, "Can't sense " + loc);
+        }
+    }
+
+    private static int visionRadius(int radiusSquared) {
+        return radiusSquared < 0 ? GameConstants.VISION_RADIUS_SQUARED : Math.min(radiusSquared, GameConstants.VISION_RADIUS_SQUARED);
+    }
+
+    private List<MapLocation> locationsWithin(MapLocation center, int radiusSquared) {
+        List<MapLocation> found = new ArrayList<>();
+        int r = (int) Math.sqrt(radiusSquared);
+        for (int x = Math.max(0, center.x - r); x <= Math.min(width - 1, center.x + r); x++) {
+            for (int y = Math.max(0, center.y - r); y <= Math.min(height - 1, center.y + r); y++) {
+                MapLocation loc = new MapLocation(x, y);
+                if (center.isWithinDistanceSquared(loc, radiusSquared)) found.add(loc);
+            }
+        }
+        return found;
+    }
+
+    private RobotInfo[] nearbyRobots(MapLocation center, int radiusSquared, Team t) {
+        List<RobotInfo> found = new ArrayList<>();
+        for (RobotInfo r : robots) {
+            if (center.isWithinDistanceSquared(r.getLocation(), radiusSquared) && (t == null || r.getTeam() == t)) {
+                found.add(r);
+            }
+        }
+        return found.toArray(new RobotInfo[0]);
+    }
+
+    private MapInfo[] nearbyMapInfos(MapLocation center, int radiusSquared) {
+        List<MapInfo> found = new ArrayList<>();
+        for (MapLocation loc : locationsWithin(center, radiusSquared)) {
+            found.add(mapInfo(loc.x, loc.y));
+        }
+        return found.toArray(new MapInfo[0]);
+    }
+}
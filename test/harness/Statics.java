@@ -0,0 +1,34 @@
+package harness;
+
+import java.lang.reflect.Field;
+
+/**
+ * Resets the static state bot classes keep between turns, so tests in the
+ * same JVM start from a clean slate. Only works on non-final fields.
+ */
+public class Statics {
+
+    private Statics() {
+    }
+
+    public static void set(Class<?> cls, String field, Object value) {
+        try {
+            Field f = cls.getDeclaredField(field);
+            f.setAccessible(true);
+            f.set(null, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Can't reset " + cls.getSimpleName() + "." + field, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> T get(Class<?> cls, String field) {
+        try {
+            Field f = cls.getDeclaredField(field);
+            f.setAccessible(true);
+            return (T) f.get(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Can't read " + cls.getSimpleName() + "." + field, e);
+        }
+    }
+}
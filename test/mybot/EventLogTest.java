@@ -0,0 +1,97 @@
+package mybot;
+
+import static org.junit.Assert.*;
+
+import battlecode.common.*;
+import harness.MockRobotController;
+import harness.Statics;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+
+public class EventLogTest {
+
+    private MockRobotController mock;
+
+    @Before
+    public void setUp() {
+        Statics.set(EventLog.class, "next", 0);
+        Statics.set(EventLog.class, "flushed", 0);
+        Statics.set(EventLog.class, "flushEnd", 0);
+        mock = new MockRobotController(20, 20).as(UnitType.SOLDIER, new MapLocation(3, 4)).withId(7).atRound(1);
+        EventLog.init(mock.rc());
+    }
+
+    private String flush() {
+        PrintStream out = System.out;
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(buffer));
+        try {
+            EventLog.endTurn();
+        } finally {
+            System.setOut(out);
+        }
+        return buffer.toString().trim();
+    }
+
+    @Test
+    public void flushesRecordsInBase36() {
+        mock.atRound(2);
+        EventLog.log(EventLog.TOWER_BUILDING, EventLog.loc(new MapLocation(5, 9)), 2, -1);
+        assertEquals("", flush());
+
+        mock.atRound(1 + EventLog.FLUSH_INTERVAL);
+        String header = Integer.toString(2 << 8 | EventLog.TOWER_BUILDING, 36);
+        String ruin = Integer.toString(5 << 6 | 9, 36);
+        assertEquals("EVT mybot 7 SOLDIER 0 " + header + "," + ruin + ",2,-1,0;", flush());
+    }
+
+    @Test
+    public void fullRingKeepsTheNewest() {
+        for (int i = 0; i < EventLog.CAPACITY + 3; i++) {
+            EventLog.log(EventLog.RETREAT_FIELD, i);
+        }
+        mock.atRound(1 + EventLog.FLUSH_INTERVAL);
+        List<String> records = new ArrayList<>();
+        String[] line = flush().split(" ");
+        assertEquals("3", line[4]);
+        records.addAll(Arrays.asList(line[5].split(";")));
+
+        // The rest comes out a chunk a turn
+        while (records.size() < EventLog.CAPACITY) {
+            mock.nextRound();
+            line = flush().split(" ");
+            assertEquals("0", line[4]);
+            String[] chunk = line[5].split(";");
+            assertTrue(chunk.length <= EventLog.FLUSH_RECORDS);
+            records.addAll(Arrays.asList(chunk));
+        }
+        assertEquals(Integer.toString(3, 36), records.get(0).split(",")[1]);
+        assertEquals(Integer.toString(EventLog.CAPACITY + 2, 36), records.get(records.size() - 1).split(",")[1]);
+        mock.nextRound();
+        assertEquals("", flush());
+    }
+
+    @Test
+    public void flushCostsAChunkATurn() {
+        for (int i = 0; i < EventLog.CAPACITY; i++) {
+            EventLog.log(EventLog.RETREAT_FIELD, i, i, i, i);
+        }
+        mock.atRound(1 + EventLog.FLUSH_INTERVAL);
+        String[] records = flush().split(" ")[5].split(";");
+        assertEquals(EventLog.FLUSH_RECORDS, records.length);
+
+        // Logged mid-flush waits for the next interval
+        EventLog.log(EventLog.RETREAT_LOST);
+        for (int turn = 1; turn < EventLog.CAPACITY / EventLog.FLUSH_RECORDS; turn++) {
+            mock.nextRound();
+            assertFalse(flush().isEmpty());
+        }
+        mock.nextRound();
+        assertEquals("", flush());
+    }
+}
@@ -0,0 +1,44 @@
+package mybot;
+
+import static org.junit.Assert.*;
+
+import battlecode.common.*;
+import harness.MockRobotController;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.Arrays;
+import org.junit.Test;
+
+public class MetricsTest {
+
+    private static String export(MockRobotController mock) {
+        PrintStream out = System.out;
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(buffer));
+        try {
+            Metrics.export(mock.rc());
+        } finally {
+            System.setOut(out);
+        }
+        return buffer.toString().trim();
+    }
+
+    @Test
+    public void exportsOneValuePerColumn() {
+        MockRobotController mock = new MockRobotController(20, 20)
+            .as(UnitType.SPLASHER, new MapLocation(3, 4)).withId(7).atRound(Metrics.EXPORT_WINDOW);
+        String[] line = export(mock).split(" ");
+
+        assertEquals(7, line.length);
+        assertEquals("MET mybot A 7 SPLASHER " + Metrics.EXPORT_WINDOW,
+            String.join(" ", Arrays.copyOf(line, 6)));
+        assertEquals(Metrics.COLUMNS.length, line[6].split(",").length);
+    }
+
+    @Test
+    public void exportsOncePerWindow() {
+        MockRobotController mock = new MockRobotController(20, 20)
+            .as(UnitType.SOLDIER, new MapLocation(3, 4)).atRound(Metrics.EXPORT_WINDOW + 1);
+        assertEquals("", export(mock));
+    }
+}
@@ -0,0 +1,157 @@
+package mybot;
+
+import static org.junit.Assert.*;
+
+import battlecode.common.*;
+import harness.MockRobotController;
+import harness.Statics;
+import mybot.core.SplashPlanner;
+import mybot.core.Vision;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ScoringTest {
+
+    @Before
+    public void reset() {
+        Statics.set(Vision.class, "loadedRound", -1);
+    }
+
+    @Test
+    public void splashScoresByPaint() throws GameActionException {
+        MockRobotController mock = MockRobotController.fromMap(
+            ".......",
+            ".......",
+            "..eee..",
+            "..#@a..",
+            "..aa...",
+            ".......",
+            ".......");
+        RobotController rc = mock.rc();
+
+        // 3 enemy, 2 empty (one under us), 3 ally, the wall doesn't count
+        int expected = 3 * Scoring.WEIGHT_SPLASH_ENEMY + 2 * Scoring.WEIGHT_SPLASH_NEUTRAL + 3 * Scoring.WEIGHT_SPLASH_ALLY;
+        assertEquals(expected, Scoring.scoreSplashTarget(rc, new MapLocation(3, 3)));
+    }
+
+    @Test
+    public void splashPrefersEnemyPaint() throws GameActionException {
+        MockRobotController mock = MockRobotController.fromMap(
+            ".......",
+            "eee....",
+            "eee....",
+            "eee@...",
+            "....aaa",
+            "....aaa",
+            "....aaa");
+        RobotController rc = mock.rc();
+
+        int enemy = Scoring.scoreSplashTarget(rc, new MapLocation(1, 4));
+        int empty = Scoring.scoreSplashTarget(rc, new MapLocation(3, 5));
+        int ally = Scoring.scoreSplashTarget(rc, new MapLocation(5, 1));
+        assertTrue(enemy > empty);
+        assertTrue(empty > ally);
+        assertTrue(ally < Scoring.THRESHOLD_SPLASH_WORTH);
+    }
+
+    @Test
+    public void splashMatchesTheTileScan() throws GameActionException {
+        MockRobotController mock = MockRobotController.fromMap(
+            "eee.a#...",
+            "e#ea.aa..",
+            "..e@eee..",
+            "aa.#a.e.e",
+            "..eea..aa",
+            "e.a..#ee.");
+        RobotController rc = mock.rc();
+        MapLocation me = rc.getLocation();
+
+        // Every center in and past the window, scored tile by tile
+        for (int dx = -6; dx <= 6; dx++) {
+            for (int dy = -6; dy <= 6; dy++) {
+                MapLocation center = me.translate(dx, dy);
+                int expected = 0;
+                for (Direction d : Direction.values()) {
+                    MapLocation loc = center.add(d);
+                    if (!rc.canSenseLocation(loc)) continue;
+                    MapInfo info = rc.senseMapInfo(loc);
+                    if (!info.isPassable()) continue;
+                    PaintType paint = info.getPaint();
+                    expected += paint.isEnemy() ? Scoring.WEIGHT_SPLASH_ENEMY
+                        : paint == PaintType.EMPTY ? Scoring.WEIGHT_SPLASH_NEUTRAL : Scoring.WEIGHT_SPLASH_ALLY;
+                }
+                assertEquals(center.toString(), expected, Scoring.scoreSplashTarget(rc, center));
+            }
+        }
+    }
+
+    @Test
+    public void splashCost() throws GameActionException {
+        MockRobotController mock = new MockRobotController(20, 20).as(UnitType.SPLASHER, new MapLocation(10, 10));
+        RobotController rc = mock.rc();
+        SplashPlanner.best(rc);
+        for (int dx = -2; dx <= 2; dx++) {
+            for (int dy = -2; dy <= 2; dy++) {
+                Scoring.scoreSplashTarget(rc, new MapLocation(10 + dx, 10 + dy));
+            }
+        }
+
+        // One sweep for every candidate, no per-tile sensing
+        assertEquals(1, mock.callCount("senseNearbyMapInfos"));
+        assertEquals(0, mock.callCount("senseMapInfo"));
+        assertEquals(0, mock.callCount("canSenseLocation"));
+    }
+
+    @Test
+    public void bestSplashInReach() throws GameActionException {
+        MockRobotController mock = MockRobotController.fromMap(
+            ".........",
+            ".........",
+            "......eee",
+            "....@.eee",
+            "......eee",
+            ".........");
+        RobotController rc = mock.rc();
+
+        // The middle of the block is out of reach, the best center is its near edge
+        assertEquals(new MapLocation(6, 2), SplashPlanner.best(rc));
+        assertEquals(6 * Scoring.WEIGHT_SPLASH_ENEMY + 3 * Scoring.WEIGHT_SPLASH_NEUTRAL, SplashPlanner.bestScore);
+    }
+
+    @Test
+    public void planStepsIntoRange() throws GameActionException {
+        MockRobotController mock = MockRobotController.fromMap(
+            "..........",
+            "......eee.",
+            "....@.eee.",
+            "......eee.",
+            "..........");
+        RobotController rc = mock.rc();
+
+        // The block's middle is a step away from splash range
+        MapLocation target = SplashPlanner.plan(rc);
+        assertEquals(new MapLocation(7, 2), target);
+        assertEquals(9 * Scoring.WEIGHT_SPLASH_ENEMY, SplashPlanner.bestScore);
+        assertNotEquals(Direction.CENTER, SplashPlanner.planMove);
+        assertTrue(rc.getLocation().add(SplashPlanner.planMove).isWithinDistanceSquared(target, 4));
+    }
+
+    @Test
+    public void planStepsOffEnemyPaint() throws GameActionException {
+        MockRobotController mock = MockRobotController.fromMap(
+            ".......",
+            ".......",
+            "..eee..",
+            ".@aee..",
+            "..eee..",
+            ".......",
+            ".......");
+        mock.paint(1, 3, PaintType.ENEMY_PRIMARY);
+        RobotController rc = mock.rc();
+
+        // Staying or stepping into the block splash the same area, only the
+        // ally tile costs no paint to stand on
+        assertEquals(new MapLocation(3, 3), SplashPlanner.plan(rc));
+        assertEquals(Direction.EAST, SplashPlanner.planMove);
+    }
+}
@@ -0,0 +1,97 @@
+package mybot.core;
+
+import static org.junit.Assert.*;
+
+import battlecode.common.*;
+import harness.MockRobotController;
+import harness.Statics;
+import mybot.Comms;
+import org.junit.Before;
+import org.junit.Test;
+
+public class InboxTest {
+
+    @Before
+    public void reset() {
+        Statics.set(Inbox.class, "readRound", -1);
+    }
+
+    @Test
+    public void bucketsByType() throws GameActionException {
+        MockRobotController mock = new MockRobotController(20, 20)
+            .as(UnitType.SOLDIER, new MapLocation(5, 5))
+            .atRound(30)
+            .deliver(Comms.encode(Comms.MessageType.ATTACK_TARGET, new MapLocation(3, 17), 0), 10)
+            .deliver(Comms.encode(Comms.MessageType.PAINT_TOWER_DANGER, new MapLocation(8, 9), 0), 11)
+            .deliver(Comms.encode(Comms.MessageType.ATTACK_TARGET, new MapLocation(12, 2), 0), 12);
+        RobotController rc = mock.rc();
+
+        assertTrue(Comms.hasMessageOfType(rc, Comms.MessageType.PAINT_TOWER_DANGER));
+        assertFalse(Comms.hasMessageOfType(rc, Comms.MessageType.RUSH_ALERT));
+        // First in inbox order
+        assertEquals(new MapLocation(3, 17), Comms.getLocationFromMessage(rc, Comms.MessageType.ATTACK_TARGET));
+
+        int tag = Comms.MessageType.ATTACK_TARGET.ordinal();
+        assertEquals(2, Inbox.count(tag));
+        assertEquals(12, Inbox.x(tag, 1));
+        assertEquals(2, Inbox.y(tag, 1));
+        assertEquals(30, Inbox.round(tag, 1));
+    }
+
+    @Test
+    public void servesBothProtocols() throws GameActionException {
+        MockRobotController mock = new MockRobotController(20, 20)
+            .as(UnitType.SOLDIER, new MapLocation(5, 5))
+            .deliver(MessageProtocol.encode(MessageProtocol.MessageType.TOWER_TARGET, new MapLocation(40, 50), 3), 10);
+        RobotController rc = mock.rc();
+
+        assertEquals(new MapLocation(40, 50),
+            MessageProtocol.getLocationFromMessage(rc, MessageProtocol.MessageType.TOWER_TARGET));
+        assertEquals(3, MessageProtocol.getPayloadFromMessage(rc, MessageProtocol.MessageType.TOWER_TARGET));
+        assertEquals(-1, MessageProtocol.getPayloadFromMessage(rc, MessageProtocol.MessageType.TOWER_TARGET, 1));
+        assertEquals(-1, MessageProtocol.getPayloadFromMessage(rc, MessageProtocol.MessageType.ZONE_CLAIM));
+
+        // Filed under the Comms type with the same meaning, not the one at its ordinal
+        assertEquals(new MapLocation(40, 50), Comms.getLocationFromMessage(rc, Comms.MessageType.ATTACK_TARGET));
+        assertFalse(Comms.hasMessageOfType(rc, Comms.MessageType.TOWER_BUILT));
+        assertEquals(MessageProtocol.MessageType.TOWER_TARGET,
+            MessageProtocol.decodeType(Comms.encode(Comms.MessageType.ATTACK_TARGET, null, 0)));
+    }
+
+    @Test
+    public void readsInboxOncePerRound() throws GameActionException {
+        MockRobotController mock = new MockRobotController(20, 20)
+            .as(UnitType.SOLDIER, new MapLocation(5, 5))
+            .deliver(Comms.encode(Comms.MessageType.PHASE_DEFEND, null, 0), 10);
+        RobotController rc = mock.rc();
+
+        for (Comms.MessageType type : Comms.MessageType.values()) {
+            Comms.hasMessageOfType(rc, type);
+            Comms.getLocationFromMessage(rc, type);
+        }
+        assertEquals(1, mock.callCount("readMessages"));
+
+        // A new round reads again and drops what was bucketed before
+        mock.nextRound();
+        mock.deliver(Comms.encode(Comms.MessageType.RETREAT, null, 0), 10);
+        assertTrue(Comms.hasMessageOfType(rc, Comms.MessageType.RETREAT));
+        assertEquals(2, mock.callCount("readMessages"));
+    }
+
+    @Test
+    public void dropsOldestOverflow() throws GameActionException {
+        MockRobotController mock = new MockRobotController(20, 20).as(UnitType.SOLDIER, new MapLocation(5, 5));
+        for (int i = 0; i < Inbox.CAPACITY + 5; i++) {
+            mock.atRound(100 + i / 8);
+            mock.deliver(Comms.encode(Comms.MessageType.RUIN_FOUND, new MapLocation(i % 60, 1), 0), 10);
+        }
+        Inbox.refresh(mock.rc());
+
+        int tag = Comms.MessageType.RUIN_FOUND.ordinal();
+        assertEquals(Inbox.CAPACITY, Inbox.count(tag));
+        // The newest are kept, still in inbox order
+        assertEquals(5, Inbox.x(tag, 0));
+        assertEquals(Inbox.CAPACITY + 4, Inbox.x(tag, Inbox.CAPACITY - 1));
+        assertEquals(104, Inbox.round(tag, Inbox.CAPACITY - 1));
+    }
+}
@@ -0,0 +1,184 @@
+package mybot.core;
+
+import static org.junit.Assert.*;
+
+import battlecode.common.*;
+import harness.MockRobotController;
+import harness.Statics;
+import java.util.Random;
+import org.junit.Before;
+import org.junit.Test;
+
+public class POITest {
+
+    @Before
+    public void reset() {
+        Statics.set(POI.class, "allyTowerGrid", new int[12][12]);
+        Statics.set(POI.class, "enemyTowerGrid", new int[12][12]);
+        Statics.set(POI.class, "ruinGrid", new int[12][12]);
+        Statics.set(POI.class, "explored", new long[60]);
+    }
+
+    private static void exploreAllBut(int width, int height, int chunkX, int chunkY) {
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (x / 5 != chunkX || y / 5 != chunkY) POI.markExplored(new MapLocation(x, y));
+            }
+        }
+    }
+
+    @Test
+    public void findsTheOnlyUnexploredChunk() {
+        MockRobotController mock = new MockRobotController(20, 20).as(UnitType.SOLDIER, new MapLocation(2, 2));
+        POI.init(mock.rc());
+        exploreAllBut(20, 20, 3, 2);
+
+        assertEquals(new MapLocation(17, 12), POI.findUnexploredZone(new MapLocation(2, 2)));
+    }
+
+    @Test
+    public void prefersTheNearestUnexploredChunk() {
+        MockRobotController mock = new MockRobotController(20, 20).as(UnitType.SOLDIER, new MapLocation(2, 2));
+        POI.init(mock.rc());
+
+        assertEquals(new MapLocation(2, 2), POI.findUnexploredZone(new MapLocation(1, 1)));
+        assertEquals(new MapLocation(17, 17), POI.findUnexploredZone(new MapLocation(19, 19)));
+    }
+
+    @Test
+    public void fullyExploredMapHasNoZone() {
+        MockRobotController mock = new MockRobotController(20, 20).as(UnitType.SOLDIER, new MapLocation(2, 2));
+        POI.init(mock.rc());
+        exploreAllBut(20, 20, -1, -1);
+
+        assertNull(POI.findUnexploredZone(new MapLocation(10, 10)));
+    }
+
+    /** The chunk-by-chunk, tile-by-tile scan the frontier index replaced */
+    private static MapLocation referenceZone(boolean[][] seen, int width, int height, MapLocation from) {
+        int bestDist = Integer.MAX_VALUE;
+        MapLocation best = null;
+        for (int cy = 0; cy < height / 5; cy++) {
+            for (int cx = 0; cx < width / 5; cx++) {
+                int unexplored = 0;
+                for (int y = cy * 5; y < cy * 5 + 5; y++) {
+                    for (int x = cx * 5; x < cx * 5 + 5; x++) {
+                        if (!seen[x][y]) unexplored++;
+                    }
+                }
+                MapLocation center = new MapLocation(cx * 5 + 2, cy * 5 + 2);
+                if (unexplored > 12 && from.distanceSquaredTo(center) < bestDist) {
+                    bestDist = from.distanceSquaredTo(center);
+                    best = center;
+                }
+            }
+        }
+        return best;
+    }
+
+    @Test
+    public void matchesTheFullScan() {
+        Random random = new Random(13);
+        int width = 47, height = 33;
+        MockRobotController mock = new MockRobotController(width, height).as(UnitType.SOLDIER, new MapLocation(2, 2));
+        POI.init(mock.rc());
+        boolean[][] seen = new boolean[width][height];
+
+        for (int step = 0; step < 400; step++) {
+            int x = random.nextInt(width), y = random.nextInt(height);
+            if (random.nextInt(4) == 0) {
+                POI.markExploredAround(new MapLocation(x, y));
+                for (int dx = -4; dx <= 4; dx++) {
+                    for (int dy = -4; dy <= 4; dy++) {
+                        int tx = x + dx, ty = y + dy;
+                        if (dx * dx + dy * dy <= 20 && tx >= 0 && ty >= 0 && tx < width && ty < height) seen[tx][ty] = true;
+                    }
+                }
+            } else {
+                POI.markExplored(new MapLocation(x, y));
+                seen[x][y] = true;
+            }
+
+            MapLocation from = new MapLocation(random.nextInt(width), random.nextInt(height));
+            MapLocation expected = referenceZone(seen, width, height, from);
+            MapLocation actual = POI.findUnexploredZone(from);
+            if (expected == null || actual == null) {
+                assertEquals("step " + step, expected, actual);
+            } else {
+                // Ties may go either way
+                assertEquals("step " + step, from.distanceSquaredTo(expected), from.distanceSquaredTo(actual));
+            }
+        }
+    }
+
+    @Test
+    public void visionMarksTheDisc() {
+        MockRobotController mock = new MockRobotController(20, 20).as(UnitType.SOLDIER, new MapLocation(2, 2));
+        POI.init(mock.rc());
+        POI.markExploredAround(new MapLocation(1, 10));
+
+        assertTrue(POI.isExplored(new MapLocation(5, 10)));
+        assertTrue(POI.isExplored(new MapLocation(0, 14)));
+        assertTrue(POI.isExplored(new MapLocation(3, 14)));
+        assertFalse(POI.isExplored(new MapLocation(4, 14)));
+        assertFalse(POI.isExplored(new MapLocation(6, 10)));
+        assertFalse(POI.isExplored(new MapLocation(1, 15)));
+    }
+
+    @Test
+    public void zoneClosesPastHalfExplored() {
+        MockRobotController mock = new MockRobotController(20, 20).as(UnitType.SOLDIER, new MapLocation(2, 2));
+        POI.init(mock.rc());
+        exploreAllBut(20, 20, 0, 0);
+
+        // 13 of 25 tiles unexplored is still a zone, 12 is not
+        for (int i = 0; i < 12; i++) POI.markExplored(new MapLocation(i % 5, i / 5));
+        assertEquals(new MapLocation(2, 2), POI.findUnexploredZone(new MapLocation(19, 19)));
+        POI.markExplored(new MapLocation(12 % 5, 12 / 5));
+        assertNull(POI.findUnexploredZone(new MapLocation(19, 19)));
+    }
+
+    @Test
+    public void tracksTowersInVision() throws GameActionException {
+        MockRobotController mock = new MockRobotController(20, 20)
+            .as(UnitType.SOLDIER, new MapLocation(10, 10))
+            .robot(7, Team.A, UnitType.LEVEL_ONE_PAINT_TOWER, new MapLocation(12, 11))
+            .robot(8, Team.B, UnitType.LEVEL_ONE_MONEY_TOWER, new MapLocation(7, 8))
+            .robot(9, Team.B, UnitType.SOLDIER, new MapLocation(3, 17))
+            .robot(10, Team.B, UnitType.LEVEL_ONE_DEFENSE_TOWER, new MapLocation(17, 17));
+        RobotController rc = mock.rc();
+        POI.init(rc);
+        POI.updateFromSensors(rc);
+
+        assertTrue(POI.hasAllyTowerInChunk(new MapLocation(14, 14)));
+        assertTrue(POI.hasEnemyTowerInChunk(new MapLocation(5, 5)));
+        // Out of vision
+        assertFalse(POI.hasEnemyTowerInChunk(new MapLocation(17, 17)));
+        assertTrue(POI.isExplored(new MapLocation(10, 10)));
+
+        POI.clearTower(new MapLocation(12, 11), true);
+        assertFalse(POI.hasAllyTowerInChunk(new MapLocation(12, 11)));
+    }
+
+    @Test
+    public void towerPayloadRoundTrip() {
+        MapLocation tower = new MapLocation(33, 41);
+        POI.decodeTowerPayload(POI.encodeTowerPayload(tower, false), tower);
+
+        assertTrue(POI.hasEnemyTowerInChunk(tower));
+        assertFalse(POI.hasAllyTowerInChunk(tower));
+    }
+
+    @Test
+    public void updateCost() throws GameActionException {
+        MockRobotController mock = new MockRobotController(20, 20).as(UnitType.SOLDIER, new MapLocation(10, 10));
+        RobotController rc = mock.rc();
+        POI.init(rc);
+        mock.resetBytecodes();
+        POI.updateFromSensors(rc);
+
+        // The periodic update should be a single robot scan
+        assertEquals(1, mock.callCount("senseNearbyRobots"));
+        assertTrue("update cost " + mock.bytecodesUsed(), mock.bytecodesUsed() <= 110);
+    }
+}
@@ -0,0 +1,190 @@
+package mybot.core;
+
+import static org.junit.Assert.*;
+
+import battlecode.common.*;
+import harness.MockRobotController;
+import harness.Statics;
+import java.util.Arrays;
+import mybot.Comms;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PackedCodecTest {
+
+    @Before
+    public void reset() {
+        PackedCodec.reset();
+        Statics.set(Inbox.class, "readRound", -1);
+        Statics.set(Comms.class, "reportedRuins", null);
+        Arrays.fill(Statics.<int[]>get(Comms.class, "enemyRelayRounds"), 0);
+    }
+
+    @Test
+    public void roundTripsEveryKind() {
+        PackedCodec.addRuin(new MapLocation(59, 0));
+        PackedCodec.addPaintTower(new MapLocation(3, 41));
+        PackedCodec.addEnemy(new MapLocation(22, 13), 5);
+        PackedCodec.addPhase(PackedCodec.PHASE_ALL_OUT_ATTACK);
+        assertEquals(2, PackedCodec.messageCount());
+
+        PackedCodec.read(PackedCodec.message(0));
+        assertEquals(PackedCodec.RUIN, PackedCodec.nextRecord());
+        assertEquals(59, PackedCodec.recordX);
+        assertEquals(0, PackedCodec.recordY);
+        assertEquals(PackedCodec.PAINT_TOWER, PackedCodec.nextRecord());
+        assertEquals(3, PackedCodec.recordX);
+        assertEquals(41, PackedCodec.recordY);
+        assertEquals(PackedCodec.END, PackedCodec.nextRecord());
+
+        PackedCodec.read(PackedCodec.message(1));
+        assertEquals(PackedCodec.ENEMY, PackedCodec.nextRecord());
+        // Rounded down to the chunk, count capped
+        assertEquals(20, PackedCodec.recordX);
+        assertEquals(12, PackedCodec.recordY);
+        assertEquals(3, PackedCodec.recordValue);
+        assertEquals(PackedCodec.PHASE, PackedCodec.nextRecord());
+        assertEquals(PackedCodec.PHASE_ALL_OUT_ATTACK, PackedCodec.recordValue);
+        assertEquals(PackedCodec.END, PackedCodec.nextRecord());
+    }
+
+    @Test
+    public void threeSmallRecordsShareAMessage() {
+        PackedCodec.addEnemy(new MapLocation(0, 0), 1);
+        PackedCodec.addEnemy(new MapLocation(59, 59), 2);
+        PackedCodec.addPhase(PackedCodec.PHASE_DEFEND);
+        assertEquals(1, PackedCodec.messageCount());
+        assertTrue(PackedCodec.isPacked(PackedCodec.message(0)));
+        // Never mistaken for a single-record message
+        assertFalse(PackedCodec.isPacked(Comms.encode(Comms.MessageType.ENEMY_SPOTTED, new MapLocation(0, 0), 0)));
+    }
+
+    @Test
+    public void fillsUpAndDrains() {
+        for (int i = 0; i < 2 * PackedCodec.MAX_MESSAGES; i++) {
+            assertTrue(PackedCodec.addRuin(new MapLocation(i, 1)));
+        }
+        assertFalse(PackedCodec.addRuin(new MapLocation(40, 1)));
+
+        PackedCodec.removeFirst();
+        assertEquals(PackedCodec.MAX_MESSAGES - 1, PackedCodec.messageCount());
+        PackedCodec.read(PackedCodec.message(0));
+        PackedCodec.nextRecord();
+        assertEquals(2, PackedCodec.recordX);
+    }
+
+    @Test
+    public void inboxFilesRecordsUnderTheirTypes() throws GameActionException {
+        PackedCodec.addRuin(new MapLocation(7, 8));
+        PackedCodec.addPaintTower(new MapLocation(9, 10));
+        PackedCodec.addEnemy(new MapLocation(13, 6), 2);
+        PackedCodec.addPhase(PackedCodec.PHASE_DEFEND);
+        MockRobotController mock = new MockRobotController(20, 20).as(UnitType.SOLDIER, new MapLocation(5, 5));
+        for (int i = 0; i < PackedCodec.messageCount(); i++) {
+            mock.deliver(PackedCodec.message(i), 10);
+        }
+        RobotController rc = mock.rc();
+
+        assertEquals(new MapLocation(7, 8), Comms.getLocationFromMessage(rc, Comms.MessageType.RUIN_FOUND));
+        assertEquals(new MapLocation(12, 4), Comms.getLocationFromMessage(rc, Comms.MessageType.ENEMY_SPOTTED));
+        assertTrue(Comms.hasMessageOfType(rc, Comms.MessageType.PHASE_DEFEND));
+        assertFalse(Comms.hasMessageOfType(rc, Comms.MessageType.PHASE_ALL_OUT_ATTACK));
+
+        int tag = Comms.MessageType.POI_TOWER.ordinal();
+        assertEquals(1, Inbox.count(tag));
+        assertTrue(PaintField.applyMessage(Inbox.location(tag, 0), Inbox.payload(tag, 0)));
+    }
+
+    @Test
+    public void towerRelaysEachRuinOnce() throws GameActionException {
+        MockRobotController mock = new MockRobotController(20, 20)
+            .as(UnitType.LEVEL_ONE_PAINT_TOWER, new MapLocation(10, 10))
+            .robot(new RobotInfo(20, Team.A, UnitType.SOLDIER, 250, new MapLocation(12, 10), 200));
+        RobotController rc = mock.rc();
+
+        // Two units report the same ruin
+        PackedCodec.addRuin(new MapLocation(3, 3));
+        PackedCodec.addRuin(new MapLocation(15, 2));
+        mock.deliver(PackedCodec.message(0), 20);
+        PackedCodec.reset();
+        PackedCodec.addRuin(new MapLocation(3, 3));
+        mock.deliver(PackedCodec.message(0), 21);
+
+        Comms.collectReports(rc);
+        assertEquals(1, PackedCodec.messageCount());
+        // One broadcast to the towers, one message to the soldier
+        assertEquals(2, Comms.sendRelay(rc, 0));
+
+        // Still in the inbox next round, nothing new to relay
+        mock.nextRound();
+        Comms.collectReports(rc);
+        assertEquals(0, PackedCodec.messageCount());
+        assertEquals(0, Comms.sendRelay(rc, 0));
+    }
+
+    @Test
+    public void towerThrottlesSightingsPerChunk() throws GameActionException {
+        MockRobotController mock = new MockRobotController(20, 20)
+            .as(UnitType.LEVEL_ONE_PAINT_TOWER, new MapLocation(10, 10))
+            .atRound(100);
+        RobotController rc = mock.rc();
+
+        Comms.collectReports(rc);
+        Comms.queueEnemy(rc, new MapLocation(13, 13), 1);
+        Comms.queueEnemy(rc, new MapLocation(14, 15), 2);  // Same chunk
+        Comms.queueEnemy(rc, new MapLocation(17, 13), 1);
+        PackedCodec.read(PackedCodec.message(0));
+        assertEquals(PackedCodec.ENEMY, PackedCodec.nextRecord());
+        assertEquals(PackedCodec.ENEMY, PackedCodec.nextRecord());
+        assertEquals(PackedCodec.END, PackedCodec.nextRecord());
+
+        for (int i = 1; i < Comms.ENEMY_RELAY_INTERVAL; i++) mock.nextRound();
+        Comms.collectReports(rc);
+        Comms.queueEnemy(rc, new MapLocation(13, 13), 1);
+        assertEquals(0, PackedCodec.messageCount());
+        mock.nextRound();
+        Comms.queueEnemy(rc, new MapLocation(13, 13), 1);
+        assertEquals(1, PackedCodec.messageCount());
+    }
+
+    @Test
+    public void unitHoldsReportsUntilATowerIsInRange() throws GameActionException {
+        MockRobotController mock = new MockRobotController(20, 20).as(UnitType.SOLDIER, new MapLocation(5, 5));
+        RobotController rc = mock.rc();
+
+        assertTrue(Comms.reportRuin(rc, new MapLocation(2, 2)));
+        assertFalse(Comms.reportRuin(rc, new MapLocation(2, 2)));
+        assertTrue(Comms.reportRuin(rc, new MapLocation(8, 3)));
+        assertFalse(Comms.sendReports(rc));
+
+        mock.robot(new RobotInfo(30, Team.A, UnitType.LEVEL_ONE_MONEY_TOWER, 1000, new MapLocation(7, 7), 0));
+        assertTrue(Comms.sendReports(rc));
+        assertEquals(1, mock.sent().size());
+        assertEquals(0, PackedCodec.messageCount());
+    }
+
+    @Test
+    public void relayKeepsRoomAndDropsStaleSightings() throws GameActionException {
+        MockRobotController mock = new MockRobotController(20, 20)
+            .as(UnitType.LEVEL_ONE_PAINT_TOWER, new MapLocation(10, 10))
+            .atRound(50);
+        for (int i = 0; i < 6; i++) {
+            mock.robot(new RobotInfo(20 + i, Team.A, UnitType.SOLDIER, 250, new MapLocation(8 + i, 12), 200));
+        }
+        RobotController rc = mock.rc();
+
+        // Too old to pass on by the time the tower reads it
+        PackedCodec.addEnemy(new MapLocation(2, 2), 1);
+        mock.deliver(PackedCodec.message(0), 20);
+        PackedCodec.reset();
+        for (int i = 0; i < Comms.ENEMY_RELAY_MAX_AGE + 1; i++) mock.nextRound();
+        Comms.collectReports(rc);
+        assertEquals(0, PackedCodec.messageCount());
+
+        // Four messages to each of six soldiers would take 24, five are kept back
+        for (int i = 0; i < 8; i++) PackedCodec.addRuin(new MapLocation(i, 0));
+        assertEquals(4, PackedCodec.messageCount());
+        assertEquals(1 + GameConstants.MAX_MESSAGES_SENT_TOWER - 5, Comms.sendRelay(rc, 5));
+        assertTrue(rc.canSendMessage(new MapLocation(8, 12)));
+    }
+}
@@ -0,0 +1,136 @@
+package mybot.core;
+
+import static org.junit.Assert.*;
+
+import battlecode.common.*;
+import harness.Grids;
+import harness.MockRobotController;
+import harness.Statics;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PaintFieldTest {
+
+    private static final MapLocation TOWER = new MapLocation(1, 6);
+    private static final MapLocation ME = new MapLocation(5, 5);
+
+    @Before
+    public void reset() {
+        Statics.set(PaintField.class, "sourceCount", 0);
+        Statics.set(PaintField.class, "layers", null);
+        Statics.set(PaintField.class, "computed", 0);
+        Statics.set(PaintField.class, "repairFrom", PaintField.MAX_LAYERS);
+        Statics.set(PaintField.class, "converged", false);
+        Statics.set(Inbox.class, "readRound", -1);
+    }
+
+    /** A paint tower behind a wall, with gaps above and below it */
+    private static MockRobotController scenario() {
+        return MockRobotController.fromMap(
+            "............",
+            "............",
+            "............",
+            "....#.......",
+            "....#.......",
+            "....#.......",
+            "....#.......",
+            "....#.......",
+            "....#.......",
+            "....#.......",
+            "............",
+            "............")
+            .as(UnitType.SOLDIER, ME)
+            .robot(2, Team.A, UnitType.LEVEL_ONE_PAINT_TOWER, TOWER);
+    }
+
+    private static void assertMatches(MockRobotController mock) {
+        int[][] expected = Grids.moveDistances(mock.walls(), TOWER);
+        for (int x = 0; x < 12; x++) {
+            for (int y = 0; y < 12; y++) {
+                if (mock.walls()[x][y]) continue;
+                assertEquals("distance at " + x + ", " + y, expected[x][y], PaintField.distance(new MapLocation(x, y)));
+            }
+        }
+    }
+
+    @Test
+    public void matchesBfsAroundWalls() throws GameActionException {
+        MockRobotController mock = scenario();
+        RobotController rc = mock.rc();
+        PaintField.update(rc, 0);
+        PaintField.markWalls(rc);
+        PaintField.advance(PaintField.MAX_LAYERS);
+
+        assertEquals(1, PaintField.getSourceCount());
+        assertMatches(mock);
+    }
+
+    @Test
+    public void repairsLayersAfterLateWalls() throws GameActionException {
+        MockRobotController mock = scenario();
+        RobotController rc = mock.rc();
+        // Grow the whole field before any wall is known, then learn them
+        PaintField.update(rc, PaintField.MAX_LAYERS);
+        assertEquals(4, PaintField.distance(ME));
+        PaintField.markWalls(rc);
+        PaintField.advance(PaintField.MAX_LAYERS);
+
+        assertMatches(mock);
+    }
+
+    @Test
+    public void gradientStepsDownhill() throws GameActionException {
+        MockRobotController mock = scenario();
+        RobotController rc = mock.rc();
+        PaintField.update(rc, 0);
+        PaintField.markWalls(rc);
+        PaintField.advance(PaintField.MAX_LAYERS);
+
+        int[][] expected = Grids.moveDistances(mock.walls(), TOWER);
+        Direction dir = PaintField.gradientStep(rc);
+        assertNotNull(dir);
+        MapLocation next = ME.add(dir);
+        assertEquals(expected[ME.x][ME.y] - 1, expected[next.x][next.y]);
+    }
+
+    @Test
+    public void destroyedTowerDropsOut() throws GameActionException {
+        MockRobotController mock = scenario();
+        RobotController rc = mock.rc();
+        PaintField.update(rc, PaintField.MAX_LAYERS);
+        assertEquals(1, PaintField.getSourceCount());
+
+        mock.removeRobot(TOWER);
+        mock.nextRound();
+        PaintField.update(rc, PaintField.MAX_LAYERS);
+
+        assertEquals(0, PaintField.getSourceCount());
+        assertEquals(-1, PaintField.distance(ME));
+    }
+
+    @Test
+    public void idleUpdateCost() throws GameActionException {
+        MockRobotController mock = scenario();
+        RobotController rc = mock.rc();
+        PaintField.update(rc, PaintField.IDLE_LAYERS);
+        mock.nextRound();
+        PaintField.update(rc, PaintField.IDLE_LAYERS);
+
+        // Messages, one robot scan and a sense per known tower
+        assertTrue("update cost " + mock.bytecodesUsed(), mock.bytecodesUsed() <= 100 + 100 + 50);
+    }
+
+    @Test
+    public void idleWaitsForLowPaint() throws GameActionException {
+        MockRobotController mock = scenario();
+        RobotController rc = mock.rc();
+        PaintField.idle(rc);
+        assertEquals(0, PaintField.getSourceCount());
+        // The inbox and a paint check, no robot scan
+        assertTrue("idle cost " + mock.bytecodesUsed(), mock.bytecodesUsed() <= 100 + 10);
+
+        mock.withPaint(UnitType.SOLDIER.paintCapacity * PaintField.IDLE_PAINT_PERCENT / 100).nextRound();
+        PaintField.idle(rc);
+        assertEquals(1, PaintField.getSourceCount());
+    }
+}
@@ -0,0 +1,110 @@
+package mybot.core;
+
+import static org.junit.Assert.*;
+
+import battlecode.common.*;
+import harness.MockRobotController;
+import harness.Statics;
+import java.util.Random;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RuinPatternTest {
+
+    private static final MapLocation RUIN = new MapLocation(5, 5);
+
+    @Before
+    public void reset() {
+        Statics.set(Vision.class, "loadedRound", -1);
+    }
+
+    /** A checkerboard, corners secondary */
+    private static boolean[][] checkers() {
+        boolean[][] pattern = new boolean[5][5];
+        for (int ix = 0; ix < 5; ix++) {
+            for (int iy = 0; iy < 5; iy++) pattern[ix][iy] = (ix + iy) % 2 == 0;
+        }
+        return pattern;
+    }
+
+    private static PaintType want(boolean[][] pattern, MapLocation tile) {
+        return pattern[tile.x - RUIN.x + 2][tile.y - RUIN.y + 2] ? PaintType.ALLY_SECONDARY : PaintType.ALLY_PRIMARY;
+    }
+
+    @Test
+    public void masksMatchTileByTileCount() throws GameActionException {
+        PaintType[] paints = PaintType.values();
+        Random random = new Random(23);
+        boolean[][] pattern = checkers();
+        RuinPattern state = new RuinPattern(RUIN, pattern);
+        for (int round = 1; round <= 20; round++) {
+            MockRobotController mock = new MockRobotController(11, 11).as(UnitType.SOLDIER, new MapLocation(6, 6))
+                .ruin(5, 5).atRound(round);
+            int correct = 0;
+            int enemy = 0;
+            for (int dx = -2; dx <= 2; dx++) {
+                for (int dy = -2; dy <= 2; dy++) {
+                    if (dx == 0 && dy == 0) continue;
+                    MapLocation tile = RUIN.translate(dx, dy);
+                    PaintType p = paints[random.nextInt(paints.length)];
+                    mock.paint(tile.x, tile.y, p);
+                    if (p == want(pattern, tile)) correct++;
+                    if (p.isEnemy()) enemy++;
+                }
+            }
+            state.update(mock.rc());
+            assertEquals("round " + round, correct, state.correctCount());
+            assertEquals("round " + round, enemy, state.blocked());
+            assertEquals("round " + round, RuinPattern.TILES - correct - enemy, state.remaining());
+        }
+    }
+
+    @Test
+    public void onlyChangedTilesAreTouched() throws GameActionException {
+        MockRobotController mock = new MockRobotController(11, 11).as(UnitType.SOLDIER, new MapLocation(6, 6))
+            .ruin(5, 5);
+        RuinPattern state = new RuinPattern(RUIN, checkers());
+        state.update(mock.rc());
+        assertEquals(RuinPattern.ALL, state.changed);
+
+        // Same sweep, nothing to do
+        state.update(mock.rc());
+        assertEquals(0, state.changed);
+
+        // Our own paint is written in, so the next sweep sees no change there
+        MapLocation mine = new MapLocation(4, 5);
+        mock.rc().attack(mine, false);
+        state.painted(mine, false);
+        assertEquals(1, state.correctCount());
+        mock.paint(7, 7, PaintType.ENEMY_PRIMARY).atRound(2);
+        state.update(mock.rc());
+        assertEquals(1 << state.index(new MapLocation(7, 7)), state.changed);
+        assertEquals(1, state.blocked());
+        assertEquals(RuinPattern.TILES - 2, state.remaining());
+    }
+
+    @Test
+    public void nextTileIsClosestPaintable() throws GameActionException {
+        MockRobotController mock = new MockRobotController(11, 11).as(UnitType.SOLDIER, new MapLocation(4, 4))
+            .ruin(5, 5)
+            .paint(3, 3, PaintType.ENEMY_PRIMARY)
+            .paint(4, 3, PaintType.ALLY_PRIMARY)
+            .paint(3, 4, PaintType.ALLY_PRIMARY);
+        RuinPattern state = new RuinPattern(RUIN, checkers());
+        state.update(mock.rc());
+
+        // (3, 3) is enemy paint, (4, 3) and (3, 4) are right, (4, 4) is the nearest left
+        assertEquals(new MapLocation(4, 4), state.nextTile(new MapLocation(4, 4)));
+        state.painted(new MapLocation(4, 4), true);
+        assertEquals(new MapLocation(3, 5), state.nextTile(new MapLocation(3, 4)));
+        assertEquals(new MapLocation(7, 7), state.nextTile(new MapLocation(8, 8)));
+
+        for (int i = 0; i < 25; i++) {
+            if (i == RuinPattern.RUIN_BIT) continue;
+            MapLocation tile = new MapLocation(3 + i / 5, 3 + i % 5);
+            state.painted(tile, state.wantsSecondary(tile));
+        }
+        assertEquals(0, state.remaining());
+        assertNull(state.nextTile(RUIN));
+    }
+}
@@ -0,0 +1,109 @@
+package mybot.core;
+
+import static org.junit.Assert.*;
+
+import battlecode.common.*;
+import harness.MockRobotController;
+import harness.Statics;
+import java.util.Random;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SrpBoardTest {
+
+    @Before
+    public void reset() {
+        Statics.set(Vision.class, "loadedRound", -1);
+        Statics.set(SrpBoard.class, "blocked", null);
+    }
+
+    /** The rules spelled out tile by tile, over what rc can see */
+    private static boolean expected(RobotController rc, MapLocation c) throws GameActionException {
+        if (c.x < 2 || c.y < 2 || c.x > rc.getMapWidth() - 3 || c.y > rc.getMapHeight() - 3) return false;
+        for (int dx = -4; dx <= 4; dx++) {
+            for (int dy = -4; dy <= 4; dy++) {
+                MapLocation tile = c.translate(dx, dy);
+                if (!rc.canSenseLocation(tile)) continue;
+                MapInfo info = rc.senseMapInfo(tile);
+                boolean inPattern = Math.abs(dx) <= 2 && Math.abs(dy) <= 2;
+                if (inPattern && (!info.isPassable() || info.getPaint().isEnemy())) return false;
+                if (info.hasRuin() && !rc.canSenseRobotAtLocation(tile)) return false;
+            }
+        }
+        return true;
+    }
+
+    private static void assertMatches(RobotController rc, String at) throws GameActionException {
+        for (int x = 0; x < rc.getMapWidth(); x++) {
+            for (int y = 0; y < rc.getMapHeight(); y++) {
+                MapLocation c = new MapLocation(x, y);
+                assertEquals(at + " " + c, expected(rc, c), SrpBoard.isValid(c));
+            }
+        }
+    }
+
+    @Test
+    public void matchesRulesTileByTile() throws GameActionException {
+        Random random = new Random(24);
+        for (int trial = 0; trial < 30; trial++) {
+            reset();
+            MapLocation me = new MapLocation(6 + random.nextInt(8), 6 + random.nextInt(8));
+            MockRobotController mock = new MockRobotController(20, 20).as(UnitType.SOLDIER, me);
+            for (int n = 0; n < 6; n++) {
+                int x = random.nextInt(20);
+                int y = random.nextInt(20);
+                if (me.x == x && me.y == y) continue;
+                switch (random.nextInt(4)) {
+                    case 0 -> mock.wall(x, y);
+                    case 1 -> mock.ruin(x, y);
+                    case 2 -> mock.ruin(x, y).robot(100 + n, Team.A, UnitType.LEVEL_ONE_MONEY_TOWER, new MapLocation(x, y));
+                    default -> mock.paint(x, y, PaintType.ENEMY_PRIMARY);
+                }
+            }
+            SrpBoard.update(mock.rc());
+            assertMatches(mock.rc(), "trial " + trial);
+        }
+    }
+
+    @Test
+    public void followsChangesBetweenSweeps() throws GameActionException {
+        MockRobotController mock = new MockRobotController(20, 20).as(UnitType.SOLDIER, new MapLocation(10, 10))
+            .wall(8, 12)
+            .paint(12, 9, PaintType.ENEMY_SECONDARY)
+            .ruin(13, 13);
+        SrpBoard.update(mock.rc());
+        assertMatches(mock.rc(), "start");
+        assertFalse(SrpBoard.isValid(new MapLocation(16, 9)));
+
+        // Paint cleaned and the ruin built on, seen next round
+        mock.paint(12, 9, PaintType.ALLY_PRIMARY)
+            .robot(100, Team.A, UnitType.LEVEL_ONE_PAINT_TOWER, new MapLocation(13, 13))
+            .atRound(2);
+        SrpBoard.update(mock.rc());
+        assertMatches(mock.rc(), "after");
+        assertTrue(SrpBoard.isValid(new MapLocation(12, 9)));
+        assertTrue(SrpBoard.isValid(new MapLocation(16, 9)));
+
+        // Walls stay ruled out once we walk away
+        mock.as(UnitType.SOLDIER, new MapLocation(15, 3)).atRound(3);
+        SrpBoard.update(mock.rc());
+        assertFalse(SrpBoard.isValid(new MapLocation(8, 10)));
+    }
+
+    @Test
+    public void nextTilesOffBuiltCenters() throws GameActionException {
+        MockRobotController mock = new MockRobotController(30, 30).as(UnitType.SOLDIER, new MapLocation(16, 16));
+        SrpBoard.update(mock.rc());
+        assertEquals(new MapLocation(16, 16), SrpBoard.next(new MapLocation(16, 16)));
+
+        SrpBoard.addCenter(new MapLocation(10, 10));
+        assertFalse(SrpBoard.isValid(new MapLocation(13, 13)));
+        assertFalse(SrpBoard.isValid(new MapLocation(14, 11)));
+        assertTrue(SrpBoard.isValid(new MapLocation(14, 10)));
+        // A lattice neighbour beats a closer center that would leave a gap
+        assertEquals(new MapLocation(14, 14), SrpBoard.next(new MapLocation(16, 16)));
+
+        SrpBoard.disqualify(new MapLocation(14, 14));
+        assertEquals(new MapLocation(14, 10), SrpBoard.next(new MapLocation(16, 16)));
+    }
+}
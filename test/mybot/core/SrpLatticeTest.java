@@ -0,0 +1,135 @@
+package mybot.core;
+
+import static org.junit.Assert.*;
+
+import battlecode.common.*;
+import harness.MockRobotController;
+import harness.Statics;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SrpLatticeTest {
+
+    @Before
+    public void reset() {
+        Statics.set(Vision.class, "loadedRound", -1);
+        Statics.set(Inbox.class, "readRound", -1);
+        Statics.set(SrpBoard.class, "blocked", null);
+        Statics.set(SrpLattice.class, "slot", null);
+        Statics.set(SrpLattice.class, "taken", null);
+        Statics.set(SrpLattice.class, "mirrored", false);
+    }
+
+    private static int slotCount(int width, int height, int offset) {
+        int n = 0;
+        for (int x = offset >> 2; x < width; x += SrpBoard.STEP) {
+            for (int y = offset & 3; y < height; y += SrpBoard.STEP) {
+                if (SrpBoard.isValid(new MapLocation(x, y))) n++;
+            }
+        }
+        return n;
+    }
+
+    @Test
+    public void chooseFitsMostSlots() throws GameActionException {
+        // Centers run 2..16 on a 19 wide map, so offset 1 fits three a row and 0 wins the tie
+        MockRobotController mock = new MockRobotController(19, 19).as(UnitType.SOLDIER, new MapLocation(9, 9));
+        SrpBoard.update(mock.rc());
+        assertEquals(0, SrpLattice.choose());
+
+        Random random = new Random(25);
+        for (int trial = 0; trial < 20; trial++) {
+            reset();
+            mock = new MockRobotController(23, 21).as(UnitType.SOLDIER, new MapLocation(11, 10));
+            for (int n = 0; n < 5; n++) mock.wall(7 + random.nextInt(9), 6 + random.nextInt(9));
+            SrpBoard.update(mock.rc());
+            int chosen = SrpLattice.choose();
+            for (int offset = 0; offset < 16; offset++) {
+                int diff = slotCount(23, 21, offset) - slotCount(23, 21, chosen);
+                assertTrue("trial " + trial, diff < 0 || diff == 0 && offset >= chosen);
+            }
+        }
+    }
+
+    @Test
+    public void nextPrefersLatticeUntilPinned() throws GameActionException {
+        MockRobotController mock = new MockRobotController(30, 30).as(UnitType.SOLDIER, new MapLocation(13, 13));
+        SrpBoard.update(mock.rc());
+        SrpBoard.setLattice(0, 0);
+        assertEquals(new MapLocation(12, 12), SrpBoard.next(new MapLocation(13, 13)));
+
+        // A built SRP off the lattice moves it there for good
+        SrpBoard.addCenter(new MapLocation(9, 7));
+        assertTrue(SrpBoard.isLatticePinned());
+        SrpBoard.setLattice(0, 0);
+        MapLocation next = SrpBoard.next(new MapLocation(13, 13));
+        assertEquals(1, next.x % SrpBoard.STEP);
+        assertEquals(3, next.y % SrpBoard.STEP);
+    }
+
+    @Test
+    public void mirrorAddsWallsAcrossTheMap() throws GameActionException {
+        MockRobotController mock = new MockRobotController(20, 20).as(UnitType.SOLDIER, new MapLocation(5, 10))
+            .wall(3, 10);
+        SrpBoard.update(mock.rc());
+        assertTrue(SrpBoard.isValid(new MapLocation(16, 10)));
+        SrpBoard.mirror(Symmetry.VERTICAL);
+        assertFalse(SrpBoard.isValid(new MapLocation(16, 10)));
+        assertFalse(SrpBoard.isValid(new MapLocation(14, 12)));
+        assertTrue(SrpBoard.isValid(new MapLocation(13, 10)));
+        assertTrue(SrpBoard.isValid(new MapLocation(16, 13)));
+
+        // An open ruin keeps its tower pattern's space clear on the other side too
+        reset();
+        mock = new MockRobotController(30, 20).as(UnitType.SOLDIER, new MapLocation(5, 10))
+            .ruin(4, 10);
+        SrpBoard.update(mock.rc());
+        assertTrue(SrpBoard.isValid(new MapLocation(21, 10)));
+        SrpBoard.mirror(Symmetry.VERTICAL);
+        assertFalse(SrpBoard.isValid(new MapLocation(21, 10)));
+        assertFalse(SrpBoard.isValid(new MapLocation(25, 14)));
+        assertTrue(SrpBoard.isValid(new MapLocation(20, 10)));
+    }
+
+    @Test
+    public void updateLeavesTheBoardAloneWithNothingNew() throws GameActionException {
+        MockRobotController mock = new MockRobotController(30, 30).as(UnitType.SOLDIER, new MapLocation(13, 13));
+        SrpLattice.update(mock.rc());
+        assertNull(Statics.get(SrpBoard.class, "blocked"));
+
+        SrpLattice.refresh(mock.rc());
+        assertTrue(SrpBoard.hasLattice());
+    }
+
+    @Test
+    public void towerHandsEachSoldierItsOwnSlot() throws GameActionException {
+        MapLocation spawn = new MapLocation(11, 10);
+        MockRobotController tower = new MockRobotController(30, 30)
+            .as(UnitType.LEVEL_ONE_PAINT_TOWER, new MapLocation(10, 10))
+            .robot(new RobotInfo(20, Team.A, UnitType.SOLDIER, 200, spawn, 200));
+        Set<MapLocation> slots = new HashSet<>();
+        for (int i = 0; i < 3; i++) {
+            SrpLattice.sendSlot(tower.rc(), spawn);
+            assertEquals(i + 1, tower.sent().size());
+            int bytes = tower.sent().get(i).getBytes();
+            PackedCodec.read(bytes);
+            assertEquals(PackedCodec.SRP_SLOT, PackedCodec.nextRecord());
+            MapLocation slot = new MapLocation(PackedCodec.recordX, PackedCodec.recordY);
+            assertTrue(slots.add(slot));
+        }
+
+        // The soldier takes the first slot and the lattice that comes with it
+        reset();
+        MockRobotController soldier = new MockRobotController(30, 30).as(UnitType.SOLDIER, spawn)
+            .deliver(tower.sent().get(0).getBytes(), 1);
+        SrpLattice.update(soldier.rc());
+        MapLocation slot = SrpLattice.slot();
+        assertTrue(slots.contains(slot));
+        MapLocation next = SrpBoard.next(new MapLocation(20, 20));
+        assertEquals(slot.x % SrpBoard.STEP, next.x % SrpBoard.STEP);
+        assertEquals(slot.y % SrpBoard.STEP, next.y % SrpBoard.STEP);
+    }
+}
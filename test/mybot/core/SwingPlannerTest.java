@@ -0,0 +1,85 @@
+package mybot.core;
+
+import static org.junit.Assert.*;
+
+import battlecode.common.*;
+import harness.MockRobotController;
+import java.util.Random;
+import org.junit.Test;
+
+public class SwingPlannerTest {
+
+    private static final Direction[] CARDINALS = {
+        Direction.NORTH, Direction.EAST, Direction.SOUTH, Direction.WEST,
+    };
+
+    /** Whether a swing from origin hits tile: the 3 wide, 2 deep block in front */
+    private static boolean swingHits(MapLocation origin, Direction swing, MapLocation tile) {
+        MapLocation front = origin.add(swing);
+        for (MapLocation row : new MapLocation[] {front, front.add(swing)}) {
+            if (row.equals(tile) || row.add(swing.rotateLeft().rotateLeft()).equals(tile)
+                    || row.add(swing.rotateRight().rotateRight()).equals(tile)) return true;
+        }
+        return false;
+    }
+
+    @Test
+    public void hitsMatchSwingArea() {
+        Random random = new Random(20);
+        MapLocation me = new MapLocation(10, 10);
+        for (int trial = 0; trial < 100; trial++) {
+            MockRobotController mock = new MockRobotController(21, 21).as(UnitType.MOPPER, me);
+            for (int id = 100; id < 108; id++) {
+                MapLocation loc = new MapLocation(6 + random.nextInt(9), 6 + random.nextInt(9));
+                if (loc.equals(me)) continue;
+                mock.removeRobot(loc);
+                mock.robot(id, Team.B, UnitType.SOLDIER, loc);
+            }
+            RobotInfo[] enemies = mock.rc().senseNearbyRobots(-1, Team.B);
+            SwingPlanner.build(me, enemies);
+
+            for (Direction move : Direction.values()) {
+                for (Direction swing : CARDINALS) {
+                    int expected = 0;
+                    for (RobotInfo enemy : enemies) {
+                        if (swingHits(me.add(move), swing, enemy.location)) expected++;
+                    }
+                    assertEquals("trial " + trial + " " + move + " " + swing,
+                        expected, SwingPlanner.hits(move, swing));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void planStepsToLineUpASwing() {
+        MapLocation me = new MapLocation(5, 5);
+        MockRobotController mock = new MockRobotController(11, 11).as(UnitType.MOPPER, me)
+            .robot(100, Team.B, UnitType.SOLDIER, new MapLocation(5, 6))
+            .robot(101, Team.B, UnitType.SOLDIER, new MapLocation(7, 4))
+            .robot(102, Team.B, UnitType.SOLDIER, new MapLocation(8, 6))
+            .robot(103, Team.B, UnitType.LEVEL_ONE_PAINT_TOWER, new MapLocation(7, 5));
+        RobotController rc = mock.rc();
+
+        // Standing still reaches one of them, a step east lines up the two
+        // soldiers to the east; the tower does not count
+        assertEquals(Direction.EAST, SwingPlanner.plan(rc, rc.senseNearbyRobots(-1, Team.B)));
+        assertEquals(Direction.EAST, SwingPlanner.bestMove);
+        assertEquals(2, SwingPlanner.bestHits);
+    }
+
+    @Test
+    public void planStaysOnTies() {
+        MapLocation me = new MapLocation(5, 5);
+        MockRobotController mock = new MockRobotController(11, 11).as(UnitType.MOPPER, me)
+            .robot(100, Team.B, UnitType.SOLDIER, new MapLocation(5, 6))
+            .robot(101, Team.B, UnitType.SOLDIER, new MapLocation(8, 5));
+        RobotController rc = mock.rc();
+        RobotInfo[] enemies = rc.senseNearbyRobots(-1, Team.B);
+
+        // Tie between swinging north here and stepping east first
+        assertEquals(Direction.NORTH, SwingPlanner.plan(rc, enemies));
+        assertEquals(Direction.CENTER, SwingPlanner.bestMove);
+        assertEquals(1, SwingPlanner.bestHits);
+    }
+}
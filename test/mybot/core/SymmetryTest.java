@@ -0,0 +1,147 @@
+package mybot.core;
+
+import static org.junit.Assert.*;
+
+import battlecode.common.*;
+import harness.MockRobotController;
+import harness.Statics;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SymmetryTest {
+
+    @Before
+    public void reset() {
+        Statics.set(Symmetry.class, "initialized", false);
+    }
+
+    /** One vision sweep, like a unit's turn */
+    private static void sweep(RobotController rc) {
+        Symmetry.update(rc, rc.senseNearbyMapInfos());
+    }
+
+    @Test
+    public void rotationalWallsLeaveRotational() {
+        MockRobotController mock = MockRobotController.fromMap(
+            ".......",
+            ".#.....",
+            ".......",
+            "...@...",
+            ".......",
+            ".....#.",
+            ".......");
+        sweep(mock.rc());
+
+        assertEquals(Symmetry.ROTATIONAL, Symmetry.getPossibleSymmetry());
+        assertTrue(Symmetry.isSymmetryDetermined());
+        assertEquals(new MapLocation(5, 6), Symmetry.predictEnemySpawn(new MapLocation(1, 0)));
+    }
+
+    @Test
+    public void mirroredWallsLeaveHorizontal() {
+        MockRobotController mock = MockRobotController.fromMap(
+            ".......",
+            ".#.....",
+            ".......",
+            "...@...",
+            ".......",
+            ".#.....",
+            ".......");
+        sweep(mock.rc());
+
+        assertEquals("HORIZONTAL", Symmetry.getSymmetryName());
+        assertEquals(new MapLocation(1, 6), Symmetry.predictEnemySpawn(new MapLocation(1, 0)));
+    }
+
+    @Test
+    public void symmetricMapKeepsEverything() {
+        MockRobotController mock = MockRobotController.fromMap(
+            ".......",
+            ".#...#.",
+            ".......",
+            "...@...",
+            ".......",
+            ".#...#.",
+            ".......");
+        sweep(mock.rc());
+
+        assertFalse(Symmetry.isSymmetryDetermined());
+        assertEquals(Symmetry.HORIZONTAL | Symmetry.VERTICAL | Symmetry.ROTATIONAL, Symmetry.getPossibleSymmetry());
+    }
+
+    @Test
+    public void ruinsAreNotWalls() {
+        // Impassable in every mirror image, but only rotation maps ruins onto ruins
+        MockRobotController mock = MockRobotController.fromMap(
+            ".......",
+            ".R...#.",
+            ".......",
+            "...@...",
+            ".......",
+            ".#...R.",
+            ".......");
+        sweep(mock.rc());
+
+        assertEquals("ROTATIONAL", Symmetry.getSymmetryName());
+    }
+
+    @Test
+    public void crossChecksEarlierSweeps() {
+        MockRobotController mock = new MockRobotController(20, 20)
+            .wall(2, 12)
+            .wall(17, 12);
+        RobotController rc = mock.rc();
+
+        // The walls agree with every symmetry as far as these sweeps see
+        mock.as(UnitType.SOLDIER, new MapLocation(3, 13));
+        sweep(rc);
+        mock.as(UnitType.SOLDIER, new MapLocation(16, 13));
+        sweep(rc);
+        assertEquals(Symmetry.HORIZONTAL | Symmetry.VERTICAL | Symmetry.ROTATIONAL, Symmetry.getPossibleSymmetry());
+
+        // Row 7 mirrors row 12 horizontally and rotationally
+        mock.as(UnitType.SOLDIER, new MapLocation(3, 6));
+        sweep(rc);
+        assertEquals("VERTICAL", Symmetry.getSymmetryName());
+    }
+
+    @Test
+    public void sweepCost() {
+        MockRobotController mock = MockRobotController.fromMap(
+            ".......",
+            ".#.....",
+            ".......",
+            "...@...",
+            ".......",
+            ".....#.",
+            ".......");
+        RobotController rc = mock.rc();
+        sweep(rc);
+
+        // The sweep itself is the only API call, nothing is sensed tile by tile
+        assertEquals(0, mock.callCount("senseMapInfo"));
+        assertEquals(1, mock.callCount("senseNearbyMapInfos"));
+
+        // Locked in, further sweeps return straight away
+        int before = mock.bytecodesUsed();
+        Symmetry.update(rc, new MapInfo[0]);
+        assertEquals(before, mock.bytecodesUsed());
+        assertEquals(Symmetry.ROTATIONAL, Symmetry.getPossibleSymmetry());
+    }
+
+    @Test
+    public void contradictionsSettleOnRotational() {
+        MockRobotController mock = MockRobotController.fromMap(
+            ".......",
+            ".#.....",
+            ".......",
+            "...@...",
+            ".......",
+            ".......",
+            ".......");
+        sweep(mock.rc());
+
+        assertTrue(Symmetry.isSymmetryDetermined());
+        assertEquals(Symmetry.ROTATIONAL, Symmetry.getPossibleSymmetry());
+    }
+}
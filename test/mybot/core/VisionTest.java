@@ -0,0 +1,101 @@
+package mybot.core;
+
+import static org.junit.Assert.*;
+
+import battlecode.common.*;
+import harness.MockRobotController;
+import harness.Statics;
+import mybot.Scoring;
+import org.junit.Before;
+import org.junit.Test;
+
+public class VisionTest {
+
+    @Before
+    public void reset() {
+        Statics.set(Vision.class, "loadedRound", -1);
+    }
+
+    @Test
+    public void matchesSenseMapInfo() throws GameActionException {
+        MockRobotController mock = MockRobotController.fromMap(
+            "a#....",
+            ".eR...",
+            "@.a...",
+            "..#e..",
+            "......");
+        mock.mark(1, 2, PaintType.ALLY_SECONDARY);
+        RobotController rc = mock.rc();
+        MapLocation me = rc.getLocation();
+
+        // Off the map edge on two sides
+        Vision.refresh(rc);
+        for (int dx = -Vision.RADIUS - 1; dx <= Vision.RADIUS + 1; dx++) {
+            for (int dy = -Vision.RADIUS - 1; dy <= Vision.RADIUS + 1; dy++) {
+                MapLocation loc = me.translate(dx, dy);
+                String at = "(" + dx + ", " + dy + ")";
+                if (!rc.canSenseLocation(loc)) {
+                    assertFalse(at, Vision.sensed(dx, dy));
+                    assertNull(at, Vision.paint(dx, dy));
+                    continue;
+                }
+                MapInfo info = rc.senseMapInfo(loc);
+                assertEquals(at, info.getPaint(), Vision.paint(dx, dy));
+                assertEquals(at, info.getMark(), Vision.mark(dx, dy));
+                assertEquals(at, info.isWall(), Vision.isWall(dx, dy));
+                assertEquals(at, info.hasRuin(), Vision.isRuin(dx, dy));
+                assertEquals(at, info.isPassable(), Vision.isPassable(dx, dy));
+            }
+        }
+    }
+
+    @Test
+    public void seesOnlyOurOwnMarks() throws GameActionException {
+        MockRobotController mock = new MockRobotController(6, 6).as(UnitType.SOLDIER, new MapLocation(2, 2))
+            .mark(1, 1, PaintType.ALLY_PRIMARY)
+            .mark(3, 3, PaintType.ENEMY_SECONDARY)
+            .mark(1, 1, PaintType.ALLY_SECONDARY, Team.B);
+        RobotController rc = mock.rc();
+        rc.mark(new MapLocation(2, 3), true);
+        Vision.refresh(rc);
+        assertEquals(PaintType.ALLY_PRIMARY, Vision.mark(-1, -1));
+        assertEquals(PaintType.EMPTY, Vision.mark(1, 1));
+        assertEquals(PaintType.ALLY_SECONDARY, Vision.mark(0, 1));
+        assertFalse(rc.canRemoveMark(new MapLocation(3, 3)));
+    }
+
+    @Test
+    public void sweepsOncePerRoundAndLocation() throws GameActionException {
+        MockRobotController mock = new MockRobotController(20, 20).as(UnitType.SOLDIER, new MapLocation(10, 10));
+        RobotController rc = mock.rc();
+
+        for (Direction d : Direction.values()) {
+            Scoring.scoreTileWithMicro(rc, rc.getLocation().add(d), 0);
+        }
+        assertEquals(1, mock.callCount("senseNearbyMapInfos"));
+        assertEquals(0, mock.callCount("senseMapInfo"));
+
+        // Moving or a new round sweeps again, and tiles the new sweep missed read as unsensed
+        mock.as(UnitType.SOLDIER, new MapLocation(14, 10));
+        Vision.refresh(rc);
+        assertEquals(2, mock.callCount("senseNearbyMapInfos"));
+        assertFalse(Vision.sensed(-8, 0));
+        assertTrue(Vision.sensed(-4, 0));
+        mock.nextRound();
+        Vision.refresh(rc);
+        assertEquals(3, mock.callCount("senseNearbyMapInfos"));
+    }
+
+    @Test
+    public void seesOurOwnPaintAfterAttacking() throws GameActionException {
+        MockRobotController mock = new MockRobotController(20, 20).as(UnitType.SOLDIER, new MapLocation(10, 10))
+            .withPaint(200);
+        RobotController rc = mock.rc();
+        MapLocation tile = new MapLocation(11, 10);
+        assertEquals(Scoring.WEIGHT_NEUTRAL, Scoring.scoreTile(rc, tile));
+
+        rc.attack(tile);
+        assertEquals(Scoring.WEIGHT_ALLY_PAINT, Scoring.scoreTile(rc, tile));
+        assertEquals(2, mock.callCount("senseNearbyMapInfos"));
+    }
+}
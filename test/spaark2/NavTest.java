@@ -0,0 +1,95 @@
+package spaark2;
+
+import static org.junit.Assert.*;
+
+import battlecode.common.*;
+import harness.MockRobotController;
+import org.junit.Before;
+import org.junit.Test;
+
+public class NavTest {
+
+    @Before
+    public void reset() {
+        Nav.reset();
+    }
+
+    /** Call moveTo once a round until we arrive, returns the rounds taken or -1 */
+    private static int walk(MockRobotController mock, MapLocation target, int maxRounds) throws GameActionException {
+        RobotController rc = mock.rc();
+        for (int i = 0; i < maxRounds; i++) {
+            if (rc.getLocation().equals(target)) return i;
+            Nav.moveTo(rc, target);
+            mock.nextRound();
+        }
+        return rc.getLocation().equals(target) ? maxRounds : -1;
+    }
+
+    @Test
+    public void walksStraightInTheOpen() throws GameActionException {
+        MockRobotController mock = new MockRobotController(20, 20)
+            .as(UnitType.SOLDIER, new MapLocation(2, 3))
+            .atRound(50);
+
+        assertEquals(12, walk(mock, new MapLocation(14, 9), 30));
+    }
+
+    @Test
+    public void sidestepsAWall() throws GameActionException {
+        MockRobotController mock = MockRobotController.fromMap(
+            "............",
+            "............",
+            "............",
+            "............",
+            "............",
+            ".@...#......",
+            "............",
+            "............",
+            "............",
+            "............",
+            "............",
+            "............")
+            .atRound(50);
+
+        assertEquals(9, walk(mock, new MapLocation(10, 6), 20));
+    }
+
+    @Test
+    public void waitsForCooldown() throws GameActionException {
+        MockRobotController mock = new MockRobotController(20, 20)
+            .as(UnitType.SOLDIER, new MapLocation(2, 3))
+            .atRound(50);
+        RobotController rc = mock.rc();
+        assertTrue(Nav.moveTo(rc, new MapLocation(14, 9)));
+        assertFalse(Nav.moveTo(rc, new MapLocation(14, 9)));
+        assertEquals(1, mock.actions().size());
+    }
+
+    @Test
+    public void moveCost() throws GameActionException {
+        MockRobotController mock = MockRobotController.fromMap(
+            "............",
+            "............",
+            ".....#......",
+            ".....#......",
+            ".....#......",
+            "....@#......",
+            ".....#......",
+            ".....#......",
+            ".....#......",
+            "............",
+            "............",
+            "............")
+            .atRound(50);
+        RobotController rc = mock.rc();
+        MapLocation target = new MapLocation(10, 6);
+
+        for (int i = 0; i < 20; i++) {
+            mock.resetBytecodes();
+            Nav.moveTo(rc, target);
+            // At worst every direction is tried once on top of the direct ones
+            assertTrue("move cost " + mock.bytecodesUsed(), mock.bytecodesUsed() <= 160);
+            mock.nextRound();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package spaark2;
+
+import static org.junit.Assert.*;
+
+import battlecode.common.*;
+import harness.Statics;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.Before;
+import org.junit.Test;
+
+public class POITest {
+
+    private static final UnitType[] TOWERS = {
+        UnitType.LEVEL_ONE_PAINT_TOWER, UnitType.LEVEL_TWO_PAINT_TOWER,
+        UnitType.LEVEL_ONE_MONEY_TOWER, UnitType.LEVEL_ONE_DEFENSE_TOWER,
+    };
+
+    @Before
+    public void reset() {
+        POI.numberOfTowers = 0;
+        POI.allyPaintTowers = 0;
+        POI.allyMoneyTowers = 0;
+        POI.allyDefenseTowers = 0;
+        Arrays.fill(Statics.<int[]>get(POI.class, "towerGrid"), 0);
+        Arrays.fill(Statics.<int[]>get(POI.class, "kindRows"), 0);
+    }
+
+    /** The linear scan the chunk index replaced */
+    private static int nearestDistance(MapLocation from, Team team, int baseType) {
+        int best = Integer.MAX_VALUE;
+        for (int i = 0; i < POI.numberOfTowers; i++) {
+            UnitType type = POI.towerTypes[i];
+            int base = type == UnitType.LEVEL_ONE_MONEY_TOWER ? POI.MONEY
+                : type == UnitType.LEVEL_ONE_DEFENSE_TOWER ? POI.DEFENSE : POI.PAINT;
+            if (POI.towerTeams[i] == team && base == baseType) {
+                best = Math.min(best, from.distanceSquaredTo(POI.towerLocs[i]));
+            }
+        }
+        return best;
+    }
+
+    @Test
+    public void findsTheNearestOfAKind() {
+        POI.updateTower(new MapLocation(3, 3), Team.A, UnitType.LEVEL_ONE_PAINT_TOWER);
+        POI.updateTower(new MapLocation(40, 41), Team.A, UnitType.LEVEL_TWO_PAINT_TOWER);
+        POI.updateTower(new MapLocation(20, 20), Team.A, UnitType.LEVEL_ONE_MONEY_TOWER);
+        POI.updateTower(new MapLocation(27, 23), Team.B, UnitType.LEVEL_ONE_PAINT_TOWER);
+
+        assertEquals(new MapLocation(40, 41), POI.findNearestAllyPaintTower(new MapLocation(23, 24), Team.A));
+        assertEquals(new MapLocation(27, 23), POI.findNearestTower(new MapLocation(3, 3), Team.B, POI.PAINT));
+        assertEquals(new MapLocation(20, 20), POI.findNearestTower(new MapLocation(59, 0), Team.A, POI.MONEY));
+        assertNull(POI.findNearestTower(new MapLocation(3, 3), Team.B, POI.DEFENSE));
+    }
+
+    @Test
+    public void destroyedAndCapturedTowersMoveOut() {
+        MapLocation a = new MapLocation(7, 7);
+        MapLocation b = new MapLocation(32, 12);
+        POI.updateTower(a, Team.A, UnitType.LEVEL_ONE_PAINT_TOWER);
+        POI.updateTower(b, Team.A, UnitType.LEVEL_ONE_PAINT_TOWER);
+        assertFalse(POI.updateTower(a, Team.A, UnitType.LEVEL_ONE_PAINT_TOWER));
+
+        // Removing a swaps b into its slot, b must still be found
+        POI.updateTower(a, Team.NEUTRAL, UnitType.LEVEL_ONE_PAINT_TOWER);
+        assertEquals(1, POI.numberOfTowers);
+        assertEquals(b, POI.findNearestAllyPaintTower(a, Team.A));
+
+        assertTrue(POI.updateTower(b, Team.B, UnitType.LEVEL_ONE_DEFENSE_TOWER));
+        assertNull(POI.findNearestAllyPaintTower(a, Team.A));
+        assertEquals(b, POI.findNearestTower(a, Team.B, POI.DEFENSE));
+    }
+
+    @Test
+    public void matchesTheLinearScan() {
+        Random random = new Random(14);
+        for (int step = 0; step < 2000; step++) {
+            // One tower per chunk, like ruins
+            MapLocation loc = new MapLocation(random.nextInt(12) * 5 + random.nextInt(5),
+                random.nextInt(12) * 5 + random.nextInt(5));
+            for (int i = 0; i < POI.numberOfTowers; i++) {
+                MapLocation known = POI.towerLocs[i];
+                if (known.x / 5 == loc.x / 5 && known.y / 5 == loc.y / 5) loc = known;
+            }
+            int roll = random.nextInt(10);
+            Team team = roll < 2 ? Team.NEUTRAL : roll < 6 ? Team.A : Team.B;
+            POI.updateTower(loc, team, TOWERS[random.nextInt(TOWERS.length)]);
+
+            MapLocation from = new MapLocation(random.nextInt(60), random.nextInt(60));
+            for (Team t : new Team[] {Team.A, Team.B}) {
+                for (int base = POI.PAINT; base <= POI.DEFENSE; base++) {
+                    MapLocation found = POI.findNearestTower(from, t, base);
+                    int expected = nearestDistance(from, t, base);
+                    assertEquals("step " + step, expected, found == null ? Integer.MAX_VALUE : from.distanceSquaredTo(found));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package spaark2;
+
+import static org.junit.Assert.*;
+
+import battlecode.common.*;
+import harness.MockRobotController;
+import harness.Statics;
+import java.util.Random;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ThreatTest {
+
+    private static final UnitType[] TYPES = {
+        UnitType.SOLDIER, UnitType.MOPPER, UnitType.SPLASHER,
+        UnitType.LEVEL_ONE_PAINT_TOWER, UnitType.LEVEL_TWO_DEFENSE_TOWER,
+    };
+
+    @Before
+    public void reset() {
+        Statics.set(Threat.class, "builtRound", -1);
+    }
+
+    /** Whether an enemy of the type could hit the tile, checked the long way */
+    private static boolean canHit(UnitType type, MapLocation enemy, MapLocation tile) {
+        switch (type) {
+            case MOPPER:
+                for (Direction step : Direction.values()) {
+                    if (enemy.add(step).isWithinDistanceSquared(tile, 2)) return true;
+                }
+                return false;
+            case SPLASHER:
+                for (int dx = -2; dx <= 2; dx++) {
+                    for (int dy = -2; dy <= 2; dy++) {
+                        MapLocation center = enemy.translate(dx, dy);
+                        if (enemy.isWithinDistanceSquared(center, type.actionRadiusSquared)
+                                && center.isWithinDistanceSquared(tile, 2)) return true;
+                    }
+                }
+                return false;
+            default:
+                return enemy.isWithinDistanceSquared(tile, type.actionRadiusSquared);
+        }
+    }
+
+    @Test
+    public void countsEveryEnemyThatCanHit() throws GameActionException {
+        Random random = new Random(16);
+        MapLocation me = new MapLocation(10, 10);
+        for (int trial = 0; trial < 200; trial++) {
+            MockRobotController mock = new MockRobotController(21, 21).as(UnitType.SOLDIER, me).atRound(trial);
+            int[] expected = new int[9];
+            for (int id = 100; id < 106; id++) {
+                MapLocation loc = new MapLocation(6 + random.nextInt(9), 6 + random.nextInt(9));
+                if (loc.equals(me) || !me.isWithinDistanceSquared(loc, GameConstants.VISION_RADIUS_SQUARED)) continue;
+                UnitType type = TYPES[random.nextInt(TYPES.length)];
+                mock.removeRobot(loc);
+                mock.robot(id, Team.B, type, loc);
+            }
+            for (RobotInfo enemy : mock.rc().senseNearbyRobots(-1, Team.B)) {
+                for (int d = 0; d < 9; d++) {
+                    if (canHit(enemy.type, enemy.location, me.add(Globals.ALL_DIRECTIONS[d]))) expected[d]++;
+                }
+            }
+
+            Threat.build(mock.rc());
+            assertArrayEquals("trial " + trial, expected, Threat.hits);
+        }
+    }
+
+    @Test
+    public void buildsOncePerRound() throws GameActionException {
+        MockRobotController mock = new MockRobotController(20, 20)
+            .as(UnitType.SOLDIER, new MapLocation(10, 10))
+            .robot(100, Team.B, UnitType.MOPPER, new MapLocation(12, 10));
+        RobotController rc = mock.rc();
+
+        Micro.score(rc, Direction.EAST);
+        Threat.build(rc);
+        assertEquals(1, mock.callCount("senseNearbyRobots"));
+        // Stepping east walks into the mop, west out of it
+        assertTrue(Micro.scores[Direction.EAST.ordinal()] < Micro.scores[Direction.WEST.ordinal()]);
+    }
+}